@@ -0,0 +1,139 @@
+package com.playfab;
+
+import com.playfab.PlayFabErrors.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+    /**
+     * An ErrorCallback that hands errors to slower handlers on a background thread. Install it as
+     * PlayFabSettings.GlobalErrorHandler: the request thread only offers the error to a bounded queue and returns, and
+     * errors arriving while the queue is full are dropped and counted rather than blocking the caller. The dispatch thread
+     * drains the queue in batches, so a handler that writes to a log or alerting sink can amortize its cost.
+     */
+public class PlayFabAsyncErrorHandler implements ErrorCallback {
+    /** Receives errors in the order they were reported, up to maxBatchSize at a time. */
+    public static interface BatchErrorCallback {
+        public void callback(List<PlayFabError> errors);
+    }
+
+    private final BatchErrorCallback handler;
+    private final ErrorCallback singleHandler; // Set instead of handler when errors are delivered one at a time
+    private final BlockingQueue<PlayFabError> queue;
+    private final int maxBatchSize;
+    private final Thread dispatchThread;
+    private volatile boolean running = true;
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong handlerFailureCount = new AtomicLong();
+
+    /** Deliver errors one at a time to an existing handler, off the request thread. */
+    public PlayFabAsyncErrorHandler(ErrorCallback handler, int capacity) {
+        this(null, handler, capacity, 256);
+    }
+
+    /**
+     * @param capacity Maximum number of errors waiting for dispatch; beyond it new errors are dropped
+     * @param maxBatchSize Maximum number of errors passed to one handler call
+     */
+    public PlayFabAsyncErrorHandler(BatchErrorCallback handler, int capacity, int maxBatchSize) {
+        this(handler, null, capacity, maxBatchSize);
+    }
+
+    private PlayFabAsyncErrorHandler(BatchErrorCallback handler, ErrorCallback singleHandler, int capacity, int maxBatchSize) {
+        if (handler == null && singleHandler == null)
+            throw new IllegalArgumentException("handler");
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be at least 1");
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        this.handler = handler;
+        this.singleHandler = singleHandler;
+        this.queue = new ArrayBlockingQueue<PlayFabError>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.dispatchThread = new Thread(new Runnable() {
+            public void run() {
+                dispatchLoop();
+            }
+        }, "PlayFabAsyncErrorHandler");
+        this.dispatchThread.setDaemon(true);
+        this.dispatchThread.start();
+    }
+
+    /** Never blocks: the error is queued, or dropped and counted if the queue is full or the handler was shut down. */
+    public void callback(PlayFabError error) {
+        if (running && queue.offer(error))
+            queuedCount.incrementAndGet();
+        else
+            droppedCount.incrementAndGet();
+    }
+
+    /** Stop accepting errors, deliver the ones already queued, and wait up to timeoutMillis for that to finish. */
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        running = false;
+        dispatchThread.join(timeoutMillis);
+    }
+
+    /** @return Errors accepted onto the queue */
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    /** @return Errors discarded because the queue was full or the handler was shut down */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /** @return Errors passed to the handler */
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    /** @return Handler calls that threw; the errors passed to those calls still count as dispatched */
+    public long getHandlerFailureCount() {
+        return handlerFailureCount.get();
+    }
+
+    /** @return Errors currently waiting for dispatch */
+    public int getBacklog() {
+        return queue.size();
+    }
+
+    private void dispatchLoop() {
+        List<PlayFabError> batch = new ArrayList<PlayFabError>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PlayFabError first = queue.poll(100, TimeUnit.MILLISECONDS); // Bounded wait so shutdown is noticed
+                if (first != null)
+                    batch.add(first);
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            if (batch.isEmpty())
+                continue;
+
+            if (singleHandler != null) {
+                for (PlayFabError error : batch)
+                    dispatch(Collections.singletonList(error));
+            } else {
+                dispatch(Collections.unmodifiableList(batch));
+            }
+            batch = new ArrayList<PlayFabError>(maxBatchSize);
+        }
+    }
+
+    private void dispatch(List<PlayFabError> errors) {
+        try {
+            if (singleHandler != null)
+                singleHandler.callback(errors.get(0));
+            else
+                handler.callback(errors);
+        } catch (RuntimeException e) {
+            handlerFailureCount.incrementAndGet(); // A failing handler must not stop later dispatches
+        }
+        dispatchedCount.addAndGet(errors.size());
+    }
+}
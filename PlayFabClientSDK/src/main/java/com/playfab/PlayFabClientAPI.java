@@ -6,16 +6,12 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * APIs which provide the full range of PlayFab features available to the client - authentication, account and data
      * management, inventory, friends, matchmaking, reporting, and platform-specific functionality
      */
 public class PlayFabClientAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
      * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
@@ -78,7 +74,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AcceptTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AcceptTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<AcceptTradeResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AcceptTradeResponse.class);
         AcceptTradeResponse result = resultData.data;
 
         PlayFabResult<AcceptTradeResponse> pfResult = new PlayFabResult<AcceptTradeResponse>();
@@ -145,7 +141,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddFriendResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddFriendResult>>(){}.getType());
+        PlayFabJsonSuccess<AddFriendResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddFriendResult.class);
         AddFriendResult result = resultData.data;
 
         PlayFabResult<AddFriendResult> pfResult = new PlayFabResult<AddFriendResult>();
@@ -215,7 +211,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddGenericIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddGenericIDResult>>(){}.getType());
+        PlayFabJsonSuccess<AddGenericIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddGenericIDResult.class);
         AddGenericIDResult result = resultData.data;
 
         PlayFabResult<AddGenericIDResult> pfResult = new PlayFabResult<AddGenericIDResult>();
@@ -277,7 +273,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddOrUpdateContactEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddOrUpdateContactEmailResult.class);
         AddOrUpdateContactEmailResult result = resultData.data;
 
         PlayFabResult<AddOrUpdateContactEmailResult> pfResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
@@ -347,7 +343,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddSharedGroupMembersResult.class);
         AddSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
@@ -414,7 +410,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddUsernamePasswordResult>>(){}.getType());
+        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddUsernamePasswordResult.class);
         AddUsernamePasswordResult result = resultData.data;
 
         PlayFabResult<AddUsernamePasswordResult> pfResult = new PlayFabResult<AddUsernamePasswordResult>();
@@ -481,7 +477,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyUserVirtualCurrencyResult.class);
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -543,7 +539,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>>(){}.getType());
+        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AndroidDevicePushNotificationRegistrationResult.class);
         AndroidDevicePushNotificationRegistrationResult result = resultData.data;
 
         PlayFabResult<AndroidDevicePushNotificationRegistrationResult> pfResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
@@ -605,7 +601,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AttributeInstallResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AttributeInstallResult>>(){}.getType());
+        PlayFabJsonSuccess<AttributeInstallResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AttributeInstallResult.class);
         AttributeInstallResult result = resultData.data;
 
         PlayFabResult<AttributeInstallResult> pfResult = new PlayFabResult<AttributeInstallResult>();
@@ -675,7 +671,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CancelTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<CancelTradeResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CancelTradeResponse.class);
         CancelTradeResponse result = resultData.data;
 
         PlayFabResult<CancelTradeResponse> pfResult = new PlayFabResult<CancelTradeResponse>();
@@ -745,7 +741,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConfirmPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConfirmPurchaseResult.class);
         ConfirmPurchaseResult result = resultData.data;
 
         PlayFabResult<ConfirmPurchaseResult> pfResult = new PlayFabResult<ConfirmPurchaseResult>();
@@ -815,7 +811,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConsumeItemResult.class);
         ConsumeItemResult result = resultData.data;
 
         PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
@@ -877,7 +873,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConsumeMicrosoftStoreEntitlementsResponse.class);
         ConsumeMicrosoftStoreEntitlementsResponse result = resultData.data;
 
         PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> pfResult = new PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>();
@@ -944,7 +940,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumePS5EntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumePS5EntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumePS5EntitlementsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConsumePS5EntitlementsResult.class);
         ConsumePS5EntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumePS5EntitlementsResult> pfResult = new PlayFabResult<ConsumePS5EntitlementsResult>();
@@ -1006,7 +1002,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumePSNEntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumePSNEntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumePSNEntitlementsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConsumePSNEntitlementsResult.class);
         ConsumePSNEntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumePSNEntitlementsResult> pfResult = new PlayFabResult<ConsumePSNEntitlementsResult>();
@@ -1073,7 +1069,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConsumeXboxEntitlementsResult.class);
         ConsumeXboxEntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumeXboxEntitlementsResult> pfResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
@@ -1146,7 +1142,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateSharedGroupResult.class);
         CreateSharedGroupResult result = resultData.data;
 
         PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
@@ -1213,7 +1209,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExecuteCloudScriptResult.class);
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -1275,7 +1271,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAccountInfoResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetAccountInfoResult.class);
         GetAccountInfoResult result = resultData.data;
 
         PlayFabResult<GetAccountInfoResult> pfResult = new PlayFabResult<GetAccountInfoResult>();
@@ -1337,7 +1333,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAdPlacementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAdPlacementsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAdPlacementsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetAdPlacementsResult.class);
         GetAdPlacementsResult result = resultData.data;
 
         PlayFabResult<GetAdPlacementsResult> pfResult = new PlayFabResult<GetAdPlacementsResult>();
@@ -1404,7 +1400,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListUsersCharactersResult.class);
         ListUsersCharactersResult result = resultData.data;
 
         PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
@@ -1471,7 +1467,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCatalogItemsResult.class);
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1533,7 +1529,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterDataResult.class);
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1600,7 +1596,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterInventoryResult.class);
         GetCharacterInventoryResult result = resultData.data;
 
         PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
@@ -1662,7 +1658,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterLeaderboardResult.class);
         GetCharacterLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
@@ -1724,7 +1720,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterDataResult.class);
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1786,7 +1782,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterStatisticsResult.class);
         GetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
@@ -1865,7 +1861,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetContentDownloadUrlResult.class);
         GetContentDownloadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
@@ -1932,7 +1928,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardResult.class);
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1999,7 +1995,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetFriendLeaderboardAroundPlayerResult.class);
         GetFriendLeaderboardAroundPlayerResult result = resultData.data;
 
         PlayFabResult<GetFriendLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
@@ -2066,7 +2062,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFriendsListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetFriendsListResult.class);
         GetFriendsListResult result = resultData.data;
 
         PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
@@ -2128,7 +2124,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardResult.class);
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -2190,7 +2186,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardAroundCharacterResult.class);
         GetLeaderboardAroundCharacterResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
@@ -2257,7 +2253,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardAroundPlayerResult.class);
         GetLeaderboardAroundPlayerResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
@@ -2319,7 +2315,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardForUsersCharactersResult.class);
         GetLeaderboardForUsersCharactersResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
@@ -2392,7 +2388,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPaymentTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPaymentTokenResult.class);
         GetPaymentTokenResult result = resultData.data;
 
         PlayFabResult<GetPaymentTokenResult> pfResult = new PlayFabResult<GetPaymentTokenResult>();
@@ -2459,7 +2455,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPhotonAuthenticationTokenResult.class);
         GetPhotonAuthenticationTokenResult result = resultData.data;
 
         PlayFabResult<GetPhotonAuthenticationTokenResult> pfResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
@@ -2521,7 +2517,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerCombinedInfoResult.class);
         GetPlayerCombinedInfoResult result = resultData.data;
 
         PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
@@ -2583,7 +2579,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerProfileResult.class);
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2645,7 +2641,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerSegmentsResult.class);
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2712,7 +2708,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerStatisticsResult.class);
         GetPlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
@@ -2774,7 +2770,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerStatisticVersionsResult.class);
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2836,7 +2832,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerTagsResult.class);
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2898,7 +2894,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTradesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerTradesResponse.class);
         GetPlayerTradesResponse result = resultData.data;
 
         PlayFabResult<GetPlayerTradesResponse> pfResult = new PlayFabResult<GetPlayerTradesResponse>();
@@ -2960,7 +2956,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromFacebookIDsResult.class);
         GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
@@ -3022,7 +3018,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromFacebookInstantGamesIdsResult.class);
         GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
@@ -3089,7 +3085,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromGameCenterIDsResult.class);
         GetPlayFabIDsFromGameCenterIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
@@ -3159,7 +3155,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromGenericIDsResult.class);
         GetPlayFabIDsFromGenericIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGenericIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
@@ -3226,7 +3222,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromGoogleIDsResult.class);
         GetPlayFabIDsFromGoogleIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
@@ -3296,7 +3292,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult.class);
         GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult>();
@@ -3366,7 +3362,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromKongregateIDsResult.class);
         GetPlayFabIDsFromKongregateIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
@@ -3428,7 +3424,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoServiceAccountIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoServiceAccountIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoServiceAccountIdsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromNintendoServiceAccountIdsResult.class);
         GetPlayFabIDsFromNintendoServiceAccountIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoServiceAccountIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoServiceAccountIdsResult>();
@@ -3490,7 +3486,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult.class);
         GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
@@ -3552,7 +3548,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromPSNAccountIDsResult.class);
         GetPlayFabIDsFromPSNAccountIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>();
@@ -3619,7 +3615,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromSteamIDsResult.class);
         GetPlayFabIDsFromSteamIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
@@ -3689,7 +3685,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromTwitchIDsResult.class);
         GetPlayFabIDsFromTwitchIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
@@ -3751,7 +3747,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromXboxLiveIDsResult.class);
         GetPlayFabIDsFromXboxLiveIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>();
@@ -3813,7 +3809,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPublisherDataResult.class);
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3883,7 +3879,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPurchaseResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPurchaseResult.class);
         GetPurchaseResult result = resultData.data;
 
         PlayFabResult<GetPurchaseResult> pfResult = new PlayFabResult<GetPurchaseResult>();
@@ -3956,7 +3952,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetSharedGroupDataResult.class);
         GetSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
@@ -4023,7 +4019,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetStoreItemsResult.class);
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -4085,7 +4081,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTimeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTimeResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTimeResult.class);
         GetTimeResult result = resultData.data;
 
         PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
@@ -4147,7 +4143,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleDataResult.class);
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -4209,7 +4205,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleNewsResult.class);
         GetTitleNewsResult result = resultData.data;
 
         PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
@@ -4270,7 +4266,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitlePublicKeyResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitlePublicKeyResult.class);
         GetTitlePublicKeyResult result = resultData.data;
 
         PlayFabResult<GetTitlePublicKeyResult> pfResult = new PlayFabResult<GetTitlePublicKeyResult>();
@@ -4332,7 +4328,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTradeStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTradeStatusResponse.class);
         GetTradeStatusResponse result = resultData.data;
 
         PlayFabResult<GetTradeStatusResponse> pfResult = new PlayFabResult<GetTradeStatusResponse>();
@@ -4394,7 +4390,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4461,7 +4457,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserInventoryResult.class);
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -4523,7 +4519,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4585,7 +4581,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4647,7 +4643,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4714,7 +4710,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GrantCharacterToUserResult.class);
         GrantCharacterToUserResult result = resultData.data;
 
         PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
@@ -4776,7 +4772,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkAndroidDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkAndroidDeviceIDResult.class);
         LinkAndroidDeviceIDResult result = resultData.data;
 
         PlayFabResult<LinkAndroidDeviceIDResult> pfResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
@@ -4838,7 +4834,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -4900,7 +4896,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkCustomIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkCustomIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkCustomIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkCustomIDResult.class);
         LinkCustomIDResult result = resultData.data;
 
         PlayFabResult<LinkCustomIDResult> pfResult = new PlayFabResult<LinkCustomIDResult>();
@@ -4962,7 +4958,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkFacebookAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkFacebookAccountResult.class);
         LinkFacebookAccountResult result = resultData.data;
 
         PlayFabResult<LinkFacebookAccountResult> pfResult = new PlayFabResult<LinkFacebookAccountResult>();
@@ -5024,7 +5020,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkFacebookInstantGamesIdResult.class);
         LinkFacebookInstantGamesIdResult result = resultData.data;
 
         PlayFabResult<LinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
@@ -5097,7 +5093,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGameCenterAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkGameCenterAccountResult.class);
         LinkGameCenterAccountResult result = resultData.data;
 
         PlayFabResult<LinkGameCenterAccountResult> pfResult = new PlayFabResult<LinkGameCenterAccountResult>();
@@ -5159,7 +5155,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGoogleAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkGoogleAccountResult.class);
         LinkGoogleAccountResult result = resultData.data;
 
         PlayFabResult<LinkGoogleAccountResult> pfResult = new PlayFabResult<LinkGoogleAccountResult>();
@@ -5226,7 +5222,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkGooglePlayGamesServicesAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGooglePlayGamesServicesAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGooglePlayGamesServicesAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkGooglePlayGamesServicesAccountResult.class);
         LinkGooglePlayGamesServicesAccountResult result = resultData.data;
 
         PlayFabResult<LinkGooglePlayGamesServicesAccountResult> pfResult = new PlayFabResult<LinkGooglePlayGamesServicesAccountResult>();
@@ -5288,7 +5284,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkIOSDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkIOSDeviceIDResult.class);
         LinkIOSDeviceIDResult result = resultData.data;
 
         PlayFabResult<LinkIOSDeviceIDResult> pfResult = new PlayFabResult<LinkIOSDeviceIDResult>();
@@ -5350,7 +5346,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkKongregateAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkKongregateAccountResult.class);
         LinkKongregateAccountResult result = resultData.data;
 
         PlayFabResult<LinkKongregateAccountResult> pfResult = new PlayFabResult<LinkKongregateAccountResult>();
@@ -5412,7 +5408,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -5474,7 +5470,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkNintendoSwitchDeviceIdResult.class);
         LinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<LinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
@@ -5541,7 +5537,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -5603,7 +5599,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkPSNAccountResult.class);
         LinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<LinkPSNAccountResult> pfResult = new PlayFabResult<LinkPSNAccountResult>();
@@ -5665,7 +5661,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkSteamAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkSteamAccountResult.class);
         LinkSteamAccountResult result = resultData.data;
 
         PlayFabResult<LinkSteamAccountResult> pfResult = new PlayFabResult<LinkSteamAccountResult>();
@@ -5727,7 +5723,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkTwitchAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkTwitchAccountResult.class);
         LinkTwitchAccountResult result = resultData.data;
 
         PlayFabResult<LinkTwitchAccountResult> pfResult = new PlayFabResult<LinkTwitchAccountResult>();
@@ -5789,7 +5785,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkXboxAccountResult.class);
         LinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<LinkXboxAccountResult> pfResult = new PlayFabResult<LinkXboxAccountResult>();
@@ -5857,7 +5853,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5922,7 +5918,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -5992,7 +5988,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6068,7 +6064,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6138,7 +6134,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6208,7 +6204,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6287,7 +6283,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6352,7 +6348,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6417,7 +6413,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6487,7 +6483,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6552,7 +6548,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6617,7 +6613,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6687,7 +6683,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6757,7 +6753,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6833,7 +6829,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6903,7 +6899,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -6973,7 +6969,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -7038,7 +7034,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -7108,7 +7104,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LoginResult.class);
         LoginResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -7172,7 +7168,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<OpenTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<OpenTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<OpenTradeResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, OpenTradeResponse.class);
         OpenTradeResponse result = resultData.data;
 
         PlayFabResult<OpenTradeResponse> pfResult = new PlayFabResult<OpenTradeResponse>();
@@ -7239,7 +7235,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PayForPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PayForPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<PayForPurchaseResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, PayForPurchaseResult.class);
         PayForPurchaseResult result = resultData.data;
 
         PlayFabResult<PayForPurchaseResult> pfResult = new PlayFabResult<PayForPurchaseResult>();
@@ -7309,7 +7305,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PurchaseItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PurchaseItemResult>>(){}.getType());
+        PlayFabJsonSuccess<PurchaseItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, PurchaseItemResult.class);
         PurchaseItemResult result = resultData.data;
 
         PlayFabResult<PurchaseItemResult> pfResult = new PlayFabResult<PurchaseItemResult>();
@@ -7379,7 +7375,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemCouponResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemCouponResult.class);
         RedeemCouponResult result = resultData.data;
 
         PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
@@ -7441,7 +7437,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7503,7 +7499,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RegisterForIOSPushNotificationResult.class);
         RegisterForIOSPushNotificationResult result = resultData.data;
 
         PlayFabResult<RegisterForIOSPushNotificationResult> pfResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
@@ -7571,7 +7567,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterPlayFabUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RegisterPlayFabUserResult.class);
         RegisterPlayFabUserResult result = resultData.data;
         PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
         if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
@@ -7635,7 +7631,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveContactEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemoveContactEmailResult.class);
         RemoveContactEmailResult result = resultData.data;
 
         PlayFabResult<RemoveContactEmailResult> pfResult = new PlayFabResult<RemoveContactEmailResult>();
@@ -7697,7 +7693,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveFriendResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveFriendResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveFriendResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemoveFriendResult.class);
         RemoveFriendResult result = resultData.data;
 
         PlayFabResult<RemoveFriendResult> pfResult = new PlayFabResult<RemoveFriendResult>();
@@ -7759,7 +7755,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveGenericIDResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemoveGenericIDResult.class);
         RemoveGenericIDResult result = resultData.data;
 
         PlayFabResult<RemoveGenericIDResult> pfResult = new PlayFabResult<RemoveGenericIDResult>();
@@ -7832,7 +7828,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemoveSharedGroupMembersResult.class);
         RemoveSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
@@ -7894,7 +7890,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportAdActivityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportAdActivityResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportAdActivityResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ReportAdActivityResult.class);
         ReportAdActivityResult result = resultData.data;
 
         PlayFabResult<ReportAdActivityResult> pfResult = new PlayFabResult<ReportAdActivityResult>();
@@ -7961,7 +7957,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -8028,7 +8024,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportPlayerClientResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ReportPlayerClientResult.class);
         ReportPlayerClientResult result = resultData.data;
 
         PlayFabResult<ReportPlayerClientResult> pfResult = new PlayFabResult<ReportPlayerClientResult>();
@@ -8095,7 +8091,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RestoreIOSPurchasesResult>>(){}.getType());
+        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RestoreIOSPurchasesResult.class);
         RestoreIOSPurchasesResult result = resultData.data;
 
         PlayFabResult<RestoreIOSPurchasesResult> pfResult = new PlayFabResult<RestoreIOSPurchasesResult>();
@@ -8157,7 +8153,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RewardAdActivityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RewardAdActivityResult>>(){}.getType());
+        PlayFabJsonSuccess<RewardAdActivityResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RewardAdActivityResult.class);
         RewardAdActivityResult result = resultData.data;
 
         PlayFabResult<RewardAdActivityResult> pfResult = new PlayFabResult<RewardAdActivityResult>();
@@ -8226,7 +8222,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SendAccountRecoveryEmailResult.class);
         SendAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
@@ -8288,7 +8284,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetFriendTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetFriendTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<SetFriendTagsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetFriendTagsResult.class);
         SetFriendTagsResult result = resultData.data;
 
         PlayFabResult<SetFriendTagsResult> pfResult = new PlayFabResult<SetFriendTagsResult>();
@@ -8355,7 +8351,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetPlayerSecretResult.class);
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -8422,7 +8418,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<StartPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<StartPurchaseResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, StartPurchaseResult.class);
         StartPurchaseResult result = resultData.data;
 
         PlayFabResult<StartPurchaseResult> pfResult = new PlayFabResult<StartPurchaseResult>();
@@ -8492,7 +8488,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyUserVirtualCurrencyResult.class);
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -8554,7 +8550,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkAndroidDeviceIDResult.class);
         UnlinkAndroidDeviceIDResult result = resultData.data;
 
         PlayFabResult<UnlinkAndroidDeviceIDResult> pfResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
@@ -8616,7 +8612,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -8678,7 +8674,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkCustomIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkCustomIDResult.class);
         UnlinkCustomIDResult result = resultData.data;
 
         PlayFabResult<UnlinkCustomIDResult> pfResult = new PlayFabResult<UnlinkCustomIDResult>();
@@ -8740,7 +8736,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkFacebookAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkFacebookAccountResult.class);
         UnlinkFacebookAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkFacebookAccountResult> pfResult = new PlayFabResult<UnlinkFacebookAccountResult>();
@@ -8802,7 +8798,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkFacebookInstantGamesIdResult.class);
         UnlinkFacebookInstantGamesIdResult result = resultData.data;
 
         PlayFabResult<UnlinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
@@ -8864,7 +8860,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGameCenterAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkGameCenterAccountResult.class);
         UnlinkGameCenterAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGameCenterAccountResult> pfResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
@@ -8931,7 +8927,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGoogleAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkGoogleAccountResult.class);
         UnlinkGoogleAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGoogleAccountResult> pfResult = new PlayFabResult<UnlinkGoogleAccountResult>();
@@ -8993,7 +8989,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkGooglePlayGamesServicesAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGooglePlayGamesServicesAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGooglePlayGamesServicesAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkGooglePlayGamesServicesAccountResult.class);
         UnlinkGooglePlayGamesServicesAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGooglePlayGamesServicesAccountResult> pfResult = new PlayFabResult<UnlinkGooglePlayGamesServicesAccountResult>();
@@ -9055,7 +9051,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkIOSDeviceIDResult.class);
         UnlinkIOSDeviceIDResult result = resultData.data;
 
         PlayFabResult<UnlinkIOSDeviceIDResult> pfResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
@@ -9117,7 +9113,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkKongregateAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkKongregateAccountResult.class);
         UnlinkKongregateAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkKongregateAccountResult> pfResult = new PlayFabResult<UnlinkKongregateAccountResult>();
@@ -9179,7 +9175,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -9241,7 +9237,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkNintendoSwitchDeviceIdResult.class);
         UnlinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
@@ -9308,7 +9304,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -9370,7 +9366,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkPSNAccountResult.class);
         UnlinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkPSNAccountResult> pfResult = new PlayFabResult<UnlinkPSNAccountResult>();
@@ -9432,7 +9428,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkSteamAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkSteamAccountResult.class);
         UnlinkSteamAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkSteamAccountResult> pfResult = new PlayFabResult<UnlinkSteamAccountResult>();
@@ -9494,7 +9490,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkTwitchAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkTwitchAccountResult.class);
         UnlinkTwitchAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkTwitchAccountResult> pfResult = new PlayFabResult<UnlinkTwitchAccountResult>();
@@ -9556,7 +9552,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkXboxAccountResult.class);
         UnlinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkXboxAccountResult> pfResult = new PlayFabResult<UnlinkXboxAccountResult>();
@@ -9629,7 +9625,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlockContainerItemResult.class);
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -9702,7 +9698,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlockContainerItemResult.class);
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -9764,7 +9760,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -9826,7 +9822,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCharacterDataResult.class);
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -9893,7 +9889,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCharacterStatisticsResult.class);
         UpdateCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
@@ -9960,7 +9956,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdatePlayerStatisticsResult.class);
         UpdatePlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
@@ -10036,7 +10032,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateSharedGroupDataResult.class);
         UpdateSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
@@ -10098,7 +10094,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -10160,7 +10156,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -10222,7 +10218,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserTitleDisplayNameResult.class);
         UpdateUserTitleDisplayNameResult result = resultData.data;
 
         PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
@@ -10292,7 +10288,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateAmazonReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ValidateAmazonReceiptResult.class);
         ValidateAmazonReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateAmazonReceiptResult> pfResult = new PlayFabResult<ValidateAmazonReceiptResult>();
@@ -10359,7 +10355,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ValidateGooglePlayPurchaseResult.class);
         ValidateGooglePlayPurchaseResult result = resultData.data;
 
         PlayFabResult<ValidateGooglePlayPurchaseResult> pfResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
@@ -10429,7 +10425,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateIOSReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ValidateIOSReceiptResult.class);
         ValidateIOSReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateIOSReceiptResult> pfResult = new PlayFabResult<ValidateIOSReceiptResult>();
@@ -10499,7 +10495,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateWindowsReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ValidateWindowsReceiptResult.class);
         ValidateWindowsReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateWindowsReceiptResult> pfResult = new PlayFabResult<ValidateWindowsReceiptResult>();
@@ -10561,7 +10557,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventResponse.class);
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -10623,7 +10619,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventResponse.class);
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -10685,7 +10681,7 @@ public class PlayFabClientAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventResponse.class);
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
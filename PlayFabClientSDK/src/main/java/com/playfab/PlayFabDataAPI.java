@@ -6,8 +6,6 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * Store arbitrary data associated with an entity. Objects are small (~1KB) JSON-compatible objects which are stored
@@ -16,8 +14,6 @@ import com.google.gson.reflect.*;
      * flexible permissions system to control read and write access by other entities.
      */
 public class PlayFabDataAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Abort pending file uploads to an entity's profile.
      * @param request AbortFileUploadsRequest
@@ -72,7 +68,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AbortFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AbortFileUploadsResponse.class);
         AbortFileUploadsResponse result = resultData.data;
 
         PlayFabResult<AbortFileUploadsResponse> pfResult = new PlayFabResult<AbortFileUploadsResponse>();
@@ -134,7 +130,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteFilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteFilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteFilesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteFilesResponse.class);
         DeleteFilesResponse result = resultData.data;
 
         PlayFabResult<DeleteFilesResponse> pfResult = new PlayFabResult<DeleteFilesResponse>();
@@ -196,7 +192,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<FinalizeFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, FinalizeFileUploadsResponse.class);
         FinalizeFileUploadsResponse result = resultData.data;
 
         PlayFabResult<FinalizeFileUploadsResponse> pfResult = new PlayFabResult<FinalizeFileUploadsResponse>();
@@ -258,7 +254,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetFilesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetFilesResponse.class);
         GetFilesResponse result = resultData.data;
 
         PlayFabResult<GetFilesResponse> pfResult = new PlayFabResult<GetFilesResponse>();
@@ -320,7 +316,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetObjectsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetObjectsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetObjectsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetObjectsResponse.class);
         GetObjectsResponse result = resultData.data;
 
         PlayFabResult<GetObjectsResponse> pfResult = new PlayFabResult<GetObjectsResponse>();
@@ -382,7 +378,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InitiateFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InitiateFileUploadsResponse.class);
         InitiateFileUploadsResponse result = resultData.data;
 
         PlayFabResult<InitiateFileUploadsResponse> pfResult = new PlayFabResult<InitiateFileUploadsResponse>();
@@ -444,7 +440,7 @@ public class PlayFabDataAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetObjectsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetObjectsResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetObjectsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetObjectsResponse.class);
         SetObjectsResponse result = resultData.data;
 
         PlayFabResult<SetObjectsResponse> pfResult = new PlayFabResult<SetObjectsResponse>();
@@ -6,13 +6,9 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** API methods for managing the catalog. Inventory manages in-game assets for any given entity. */
 public class PlayFabEconomyAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Add inventory items. Up to 3500 stacks of items can be added to a single inventory collection. Stack size is uncapped.
      * @param request AddInventoryItemsRequest
@@ -67,7 +63,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<AddInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddInventoryItemsResponse.class);
         AddInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<AddInventoryItemsResponse> pfResult = new PlayFabResult<AddInventoryItemsResponse>();
@@ -129,7 +125,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateDraftItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateDraftItemResponse.class);
         CreateDraftItemResponse result = resultData.data;
 
         PlayFabResult<CreateDraftItemResponse> pfResult = new PlayFabResult<CreateDraftItemResponse>();
@@ -202,7 +198,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateUploadUrlsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateUploadUrlsResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateUploadUrlsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateUploadUrlsResponse.class);
         CreateUploadUrlsResponse result = resultData.data;
 
         PlayFabResult<CreateUploadUrlsResponse> pfResult = new PlayFabResult<CreateUploadUrlsResponse>();
@@ -264,7 +260,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteEntityItemReviewsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteEntityItemReviewsResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteEntityItemReviewsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteEntityItemReviewsResponse.class);
         DeleteEntityItemReviewsResponse result = resultData.data;
 
         PlayFabResult<DeleteEntityItemReviewsResponse> pfResult = new PlayFabResult<DeleteEntityItemReviewsResponse>();
@@ -331,7 +327,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteInventoryCollectionResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteInventoryCollectionResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteInventoryCollectionResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteInventoryCollectionResponse.class);
         DeleteInventoryCollectionResponse result = resultData.data;
 
         PlayFabResult<DeleteInventoryCollectionResponse> pfResult = new PlayFabResult<DeleteInventoryCollectionResponse>();
@@ -393,7 +389,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteInventoryItemsResponse.class);
         DeleteInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<DeleteInventoryItemsResponse> pfResult = new PlayFabResult<DeleteInventoryItemsResponse>();
@@ -455,7 +451,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteItemResponse.class);
         DeleteItemResponse result = resultData.data;
 
         PlayFabResult<DeleteItemResponse> pfResult = new PlayFabResult<DeleteItemResponse>();
@@ -531,7 +527,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteInventoryOperationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteInventoryOperationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteInventoryOperationsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExecuteInventoryOperationsResponse.class);
         ExecuteInventoryOperationsResponse result = resultData.data;
 
         PlayFabResult<ExecuteInventoryOperationsResponse> pfResult = new PlayFabResult<ExecuteInventoryOperationsResponse>();
@@ -601,7 +597,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogConfigResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogConfigResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogConfigResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCatalogConfigResponse.class);
         GetCatalogConfigResponse result = resultData.data;
 
         PlayFabResult<GetCatalogConfigResponse> pfResult = new PlayFabResult<GetCatalogConfigResponse>();
@@ -671,7 +667,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetDraftItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetDraftItemResponse.class);
         GetDraftItemResponse result = resultData.data;
 
         PlayFabResult<GetDraftItemResponse> pfResult = new PlayFabResult<GetDraftItemResponse>();
@@ -738,7 +734,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetDraftItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDraftItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetDraftItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetDraftItemsResponse.class);
         GetDraftItemsResponse result = resultData.data;
 
         PlayFabResult<GetDraftItemsResponse> pfResult = new PlayFabResult<GetDraftItemsResponse>();
@@ -808,7 +804,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityDraftItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityDraftItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityDraftItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetEntityDraftItemsResponse.class);
         GetEntityDraftItemsResponse result = resultData.data;
 
         PlayFabResult<GetEntityDraftItemsResponse> pfResult = new PlayFabResult<GetEntityDraftItemsResponse>();
@@ -875,7 +871,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityItemReviewResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityItemReviewResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityItemReviewResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetEntityItemReviewResponse.class);
         GetEntityItemReviewResponse result = resultData.data;
 
         PlayFabResult<GetEntityItemReviewResponse> pfResult = new PlayFabResult<GetEntityItemReviewResponse>();
@@ -942,7 +938,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetInventoryCollectionIdsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetInventoryCollectionIdsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetInventoryCollectionIdsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetInventoryCollectionIdsResponse.class);
         GetInventoryCollectionIdsResponse result = resultData.data;
 
         PlayFabResult<GetInventoryCollectionIdsResponse> pfResult = new PlayFabResult<GetInventoryCollectionIdsResponse>();
@@ -1004,7 +1000,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetInventoryItemsResponse.class);
         GetInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<GetInventoryItemsResponse> pfResult = new PlayFabResult<GetInventoryItemsResponse>();
@@ -1074,7 +1070,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemResponse.class);
         GetItemResponse result = resultData.data;
 
         PlayFabResult<GetItemResponse> pfResult = new PlayFabResult<GetItemResponse>();
@@ -1147,7 +1143,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemContainersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemContainersResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemContainersResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemContainersResponse.class);
         GetItemContainersResponse result = resultData.data;
 
         PlayFabResult<GetItemContainersResponse> pfResult = new PlayFabResult<GetItemContainersResponse>();
@@ -1214,7 +1210,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemModerationStateResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemModerationStateResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemModerationStateResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemModerationStateResponse.class);
         GetItemModerationStateResponse result = resultData.data;
 
         PlayFabResult<GetItemModerationStateResponse> pfResult = new PlayFabResult<GetItemModerationStateResponse>();
@@ -1276,7 +1272,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemPublishStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemPublishStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemPublishStatusResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemPublishStatusResponse.class);
         GetItemPublishStatusResponse result = resultData.data;
 
         PlayFabResult<GetItemPublishStatusResponse> pfResult = new PlayFabResult<GetItemPublishStatusResponse>();
@@ -1343,7 +1339,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemReviewsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemReviewsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemReviewsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemReviewsResponse.class);
         GetItemReviewsResponse result = resultData.data;
 
         PlayFabResult<GetItemReviewsResponse> pfResult = new PlayFabResult<GetItemReviewsResponse>();
@@ -1410,7 +1406,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemReviewSummaryResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemReviewSummaryResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemReviewSummaryResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemReviewSummaryResponse.class);
         GetItemReviewSummaryResponse result = resultData.data;
 
         PlayFabResult<GetItemReviewSummaryResponse> pfResult = new PlayFabResult<GetItemReviewSummaryResponse>();
@@ -1480,7 +1476,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetItemsResponse.class);
         GetItemsResponse result = resultData.data;
 
         PlayFabResult<GetItemsResponse> pfResult = new PlayFabResult<GetItemsResponse>();
@@ -1542,7 +1538,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMicrosoftStoreAccessTokensResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMicrosoftStoreAccessTokensResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMicrosoftStoreAccessTokensResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetMicrosoftStoreAccessTokensResponse.class);
         GetMicrosoftStoreAccessTokensResponse result = resultData.data;
 
         PlayFabResult<GetMicrosoftStoreAccessTokensResponse> pfResult = new PlayFabResult<GetMicrosoftStoreAccessTokensResponse>();
@@ -1615,7 +1611,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTransactionHistoryResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTransactionHistoryResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTransactionHistoryResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTransactionHistoryResponse.class);
         GetTransactionHistoryResponse result = resultData.data;
 
         PlayFabResult<GetTransactionHistoryResponse> pfResult = new PlayFabResult<GetTransactionHistoryResponse>();
@@ -1682,7 +1678,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PublishDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PublishDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<PublishDraftItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, PublishDraftItemResponse.class);
         PublishDraftItemResponse result = resultData.data;
 
         PlayFabResult<PublishDraftItemResponse> pfResult = new PlayFabResult<PublishDraftItemResponse>();
@@ -1749,7 +1745,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<PurchaseInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PurchaseInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<PurchaseInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, PurchaseInventoryItemsResponse.class);
         PurchaseInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<PurchaseInventoryItemsResponse> pfResult = new PlayFabResult<PurchaseInventoryItemsResponse>();
@@ -1811,7 +1807,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemAppleAppStoreInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemAppleAppStoreInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RedeemAppleAppStoreInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemAppleAppStoreInventoryItemsResponse.class);
         RedeemAppleAppStoreInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<RedeemAppleAppStoreInventoryItemsResponse> pfResult = new PlayFabResult<RedeemAppleAppStoreInventoryItemsResponse>();
@@ -1873,7 +1869,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemGooglePlayInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemGooglePlayInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RedeemGooglePlayInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemGooglePlayInventoryItemsResponse.class);
         RedeemGooglePlayInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<RedeemGooglePlayInventoryItemsResponse> pfResult = new PlayFabResult<RedeemGooglePlayInventoryItemsResponse>();
@@ -1935,7 +1931,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemMicrosoftStoreInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemMicrosoftStoreInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RedeemMicrosoftStoreInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemMicrosoftStoreInventoryItemsResponse.class);
         RedeemMicrosoftStoreInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<RedeemMicrosoftStoreInventoryItemsResponse> pfResult = new PlayFabResult<RedeemMicrosoftStoreInventoryItemsResponse>();
@@ -1997,7 +1993,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemNintendoEShopInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemNintendoEShopInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RedeemNintendoEShopInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemNintendoEShopInventoryItemsResponse.class);
         RedeemNintendoEShopInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<RedeemNintendoEShopInventoryItemsResponse> pfResult = new PlayFabResult<RedeemNintendoEShopInventoryItemsResponse>();
@@ -2059,7 +2055,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemPlayStationStoreInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemPlayStationStoreInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RedeemPlayStationStoreInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemPlayStationStoreInventoryItemsResponse.class);
         RedeemPlayStationStoreInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<RedeemPlayStationStoreInventoryItemsResponse> pfResult = new PlayFabResult<RedeemPlayStationStoreInventoryItemsResponse>();
@@ -2121,7 +2117,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemSteamInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemSteamInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RedeemSteamInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemSteamInventoryItemsResponse.class);
         RedeemSteamInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<RedeemSteamInventoryItemsResponse> pfResult = new PlayFabResult<RedeemSteamInventoryItemsResponse>();
@@ -2183,7 +2179,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<ReportItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ReportItemResponse.class);
         ReportItemResponse result = resultData.data;
 
         PlayFabResult<ReportItemResponse> pfResult = new PlayFabResult<ReportItemResponse>();
@@ -2245,7 +2241,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportItemReviewResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportItemReviewResponse>>(){}.getType());
+        PlayFabJsonSuccess<ReportItemReviewResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ReportItemReviewResponse.class);
         ReportItemReviewResponse result = resultData.data;
 
         PlayFabResult<ReportItemReviewResponse> pfResult = new PlayFabResult<ReportItemReviewResponse>();
@@ -2315,7 +2311,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReviewItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReviewItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<ReviewItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ReviewItemResponse.class);
         ReviewItemResponse result = resultData.data;
 
         PlayFabResult<ReviewItemResponse> pfResult = new PlayFabResult<ReviewItemResponse>();
@@ -2388,7 +2384,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SearchItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SearchItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<SearchItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SearchItemsResponse.class);
         SearchItemsResponse result = resultData.data;
 
         PlayFabResult<SearchItemsResponse> pfResult = new PlayFabResult<SearchItemsResponse>();
@@ -2455,7 +2451,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetItemModerationStateResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetItemModerationStateResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetItemModerationStateResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetItemModerationStateResponse.class);
         SetItemModerationStateResponse result = resultData.data;
 
         PlayFabResult<SetItemModerationStateResponse> pfResult = new PlayFabResult<SetItemModerationStateResponse>();
@@ -2517,7 +2513,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SubmitItemReviewVoteResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SubmitItemReviewVoteResponse>>(){}.getType());
+        PlayFabJsonSuccess<SubmitItemReviewVoteResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SubmitItemReviewVoteResponse.class);
         SubmitItemReviewVoteResponse result = resultData.data;
 
         PlayFabResult<SubmitItemReviewVoteResponse> pfResult = new PlayFabResult<SubmitItemReviewVoteResponse>();
@@ -2579,7 +2575,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SubtractInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SubtractInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<SubtractInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SubtractInventoryItemsResponse.class);
         SubtractInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<SubtractInventoryItemsResponse> pfResult = new PlayFabResult<SubtractInventoryItemsResponse>();
@@ -2641,7 +2637,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<TakedownItemReviewsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<TakedownItemReviewsResponse>>(){}.getType());
+        PlayFabJsonSuccess<TakedownItemReviewsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, TakedownItemReviewsResponse.class);
         TakedownItemReviewsResponse result = resultData.data;
 
         PlayFabResult<TakedownItemReviewsResponse> pfResult = new PlayFabResult<TakedownItemReviewsResponse>();
@@ -2720,7 +2716,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<TransferInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<TransferInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<TransferInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, TransferInventoryItemsResponse.class);
         TransferInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<TransferInventoryItemsResponse> pfResult = new PlayFabResult<TransferInventoryItemsResponse>();
@@ -2790,7 +2786,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCatalogConfigResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogConfigResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogConfigResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCatalogConfigResponse.class);
         UpdateCatalogConfigResponse result = resultData.data;
 
         PlayFabResult<UpdateCatalogConfigResponse> pfResult = new PlayFabResult<UpdateCatalogConfigResponse>();
@@ -2852,7 +2848,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateDraftItemResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateDraftItemResponse.class);
         UpdateDraftItemResponse result = resultData.data;
 
         PlayFabResult<UpdateDraftItemResponse> pfResult = new PlayFabResult<UpdateDraftItemResponse>();
@@ -2914,7 +2910,7 @@ public class PlayFabEconomyAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateInventoryItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateInventoryItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateInventoryItemsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateInventoryItemsResponse.class);
         UpdateInventoryItemsResponse result = resultData.data;
 
         PlayFabResult<UpdateInventoryItemsResponse> pfResult = new PlayFabResult<UpdateInventoryItemsResponse>();
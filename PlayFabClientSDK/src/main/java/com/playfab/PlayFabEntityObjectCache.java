@@ -0,0 +1,163 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabDataModels.*;
+import java.util.*;
+
+    /**
+     * Entity objects from PlayFabDataAPI.GetObjects, cached per entity together with the ProfileVersion they were read
+     * at. Writes go through update, which sends SetObjects with ExpectedProfileVersion set to the cached version, so a
+     * write based on a stale read is refused rather than applied. When PlayFab refuses it with ConcurrentEditError, the
+     * entity's objects are fetched again, the mutation is run again on the fresh objects and the write is retried, up to
+     * maxRetries times. A successful write is applied to the cached objects along with the new ProfileVersion, so the
+     * next read or write needs no GetObjects call.
+     */
+public class PlayFabEntityObjectCache {
+    /** Computes the objects to write from an entity's current objects. It may run more than once for one update. */
+    public static interface Mutation {
+        /** @return The objects to set or delete; null or empty to write nothing */
+        public List<SetObject> apply(EntityObjects current);
+    }
+
+    /** An entity's objects as of one ProfileVersion. */
+    public static final class EntityObjects {
+        private final Map<String, ObjectResult> objects;
+        private final Integer profileVersion;
+
+        EntityObjects(Map<String, ObjectResult> objects, Integer profileVersion) {
+            this.objects = Collections.unmodifiableMap(objects);
+            this.profileVersion = profileVersion;
+        }
+
+        /** @return The objects keyed by name */
+        public Map<String, ObjectResult> getObjects() {
+            return objects;
+        }
+
+        /** @return The named object, or null if the entity has none by that name */
+        public ObjectResult getObject(String objectName) {
+            return objects.get(objectName);
+        }
+
+        public Integer getProfileVersion() {
+            return profileVersion;
+        }
+
+        EntityObjects with(List<SetObject> written, Integer newProfileVersion) {
+            Map<String, ObjectResult> changed = new LinkedHashMap<String, ObjectResult>(objects);
+            for (SetObject object : written) {
+                if (object.DeleteObject != null && object.DeleteObject) {
+                    changed.remove(object.ObjectName);
+                } else {
+                    ObjectResult result = new ObjectResult();
+                    result.ObjectName = object.ObjectName;
+                    result.DataObject = object.DataObject;
+                    result.EscapedDataObject = object.EscapedDataObject;
+                    changed.put(object.ObjectName, result);
+                }
+            }
+            return new EntityObjects(changed, newProfileVersion);
+        }
+    }
+
+    private final int maxRetries;
+    private final PlayFabCache<String, EntityObjects> cache;
+
+    /**
+     * @param ttlMillis How long an entity's objects are served before they are fetched again
+     * @param maxEntities Upper bound on the number of entities cached
+     * @param maxRetries How many times an update is retried after ConcurrentEditError
+     */
+    public PlayFabEntityObjectCache(long ttlMillis, int maxEntities, int maxRetries) {
+        this.maxRetries = maxRetries;
+        this.cache = new PlayFabCache<String, EntityObjects>(new PlayFabCache.Loader<String, EntityObjects>() {
+            public PlayFabResult<EntityObjects> load(String key, EntityObjects previous) {
+                GetObjectsRequest request = new GetObjectsRequest();
+                request.Entity = entity(key);
+                PlayFabResult<GetObjectsResponse> response = PlayFabDataAPI.GetObjects(request);
+                PlayFabResult<EntityObjects> result = new PlayFabResult<EntityObjects>();
+                result.Error = response.Error;
+                if (response.Error == null) {
+                    Map<String, ObjectResult> objects = response.Result.Objects != null ? response.Result.Objects : Collections.<String, ObjectResult>emptyMap();
+                    result.Result = new EntityObjects(objects, response.Result.ProfileVersion);
+                }
+                return result;
+            }
+        }, ttlMillis, 0, maxEntities);
+    }
+
+    /** @return The entity's objects, from the cache when it can be served */
+    public PlayFabResult<EntityObjects> get(EntityKey entity) {
+        return cache.get(key(entity));
+    }
+
+    /**
+     * Write objects computed from the entity's current objects, retrying with fresh objects on ConcurrentEditError.
+     * @return The SetObjects response of the write that succeeded, or of the last one refused
+     */
+    public PlayFabResult<SetObjectsResponse> update(EntityKey entity, Mutation mutation) {
+        String key = key(entity);
+        PlayFabResult<EntityObjects> current = cache.get(key);
+        for (int attempt = 0; ; attempt++) {
+            PlayFabResult<SetObjectsResponse> result = new PlayFabResult<SetObjectsResponse>();
+            if (current.Error != null) {
+                result.Error = current.Error;
+                return result;
+            }
+            List<SetObject> objects = mutation.apply(current.Result);
+            if (objects == null || objects.isEmpty()) {
+                result.Result = new SetObjectsResponse();
+                result.Result.ProfileVersion = current.Result.getProfileVersion();
+                result.Result.SetResults = new ArrayList<SetObjectInfo>();
+                return result;
+            }
+
+            SetObjectsRequest request = new SetObjectsRequest();
+            request.Entity = entity;
+            request.ExpectedProfileVersion = current.Result.getProfileVersion();
+            request.Objects = new ArrayList<SetObject>(objects);
+            result = PlayFabDataAPI.SetObjects(request);
+            if (result.Error == null) {
+                cache.put(key, current.Result.with(objects, result.Result.ProfileVersion));
+                return result;
+            }
+            if (result.Error.pfErrorCode != PlayFabErrorCode.ConcurrentEditError || attempt == maxRetries) {
+                if (result.Error.pfErrorCode == PlayFabErrorCode.ConcurrentEditError)
+                    cache.invalidate(key);
+                return result;
+            }
+            current = cache.refresh(key); // Someone else wrote first: start again from what they wrote
+        }
+    }
+
+    /** Set objects as given, still guarded by ExpectedProfileVersion and retried on ConcurrentEditError. */
+    public PlayFabResult<SetObjectsResponse> set(EntityKey entity, final List<SetObject> objects) {
+        return update(entity, new Mutation() {
+            public List<SetObject> apply(EntityObjects current) {
+                return objects;
+            }
+        });
+    }
+
+    /** Drop the entity's entry, e.g. after its objects were changed by a call that did not go through this cache. */
+    public void invalidate(EntityKey entity) {
+        cache.invalidate(key(entity));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String key(EntityKey entity) {
+        return entity.Type + "\n" + entity.Id;
+    }
+
+    private static EntityKey entity(String key) {
+        int split = key.indexOf('\n');
+        EntityKey entity = new EntityKey();
+        entity.Type = key.substring(0, split);
+        entity.Id = key.substring(split + 1);
+        return entity;
+    }
+}
@@ -6,8 +6,6 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * The Groups API is designed for any permanent or semi-permanent collections of Entities (players, or non-players). If you
@@ -15,8 +13,6 @@ import com.google.gson.reflect.*;
      * parties, or any other persistent collection of entities.
      */
 public class PlayFabGroupsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Accepts an outstanding invitation to to join a group
      * @param request AcceptGroupApplicationRequest
@@ -71,7 +67,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -133,7 +129,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -195,7 +191,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -257,7 +253,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ApplyToGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ApplyToGroupResponse.class);
         ApplyToGroupResponse result = resultData.data;
 
         PlayFabResult<ApplyToGroupResponse> pfResult = new PlayFabResult<ApplyToGroupResponse>();
@@ -319,7 +315,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -381,7 +377,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -443,7 +439,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateGroupResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateGroupResponse.class);
         CreateGroupResponse result = resultData.data;
 
         PlayFabResult<CreateGroupResponse> pfResult = new PlayFabResult<CreateGroupResponse>();
@@ -505,7 +501,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateGroupRoleResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateGroupRoleResponse.class);
         CreateGroupRoleResponse result = resultData.data;
 
         PlayFabResult<CreateGroupRoleResponse> pfResult = new PlayFabResult<CreateGroupRoleResponse>();
@@ -567,7 +563,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -629,7 +625,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -691,7 +687,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetGroupResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetGroupResponse.class);
         GetGroupResponse result = resultData.data;
 
         PlayFabResult<GetGroupResponse> pfResult = new PlayFabResult<GetGroupResponse>();
@@ -753,7 +749,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InviteToGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InviteToGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<InviteToGroupResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InviteToGroupResponse.class);
         InviteToGroupResponse result = resultData.data;
 
         PlayFabResult<InviteToGroupResponse> pfResult = new PlayFabResult<InviteToGroupResponse>();
@@ -815,7 +811,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<IsMemberResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IsMemberResponse>>(){}.getType());
+        PlayFabJsonSuccess<IsMemberResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, IsMemberResponse.class);
         IsMemberResponse result = resultData.data;
 
         PlayFabResult<IsMemberResponse> pfResult = new PlayFabResult<IsMemberResponse>();
@@ -877,7 +873,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupApplicationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListGroupApplicationsResponse.class);
         ListGroupApplicationsResponse result = resultData.data;
 
         PlayFabResult<ListGroupApplicationsResponse> pfResult = new PlayFabResult<ListGroupApplicationsResponse>();
@@ -939,7 +935,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupBlocksResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListGroupBlocksResponse.class);
         ListGroupBlocksResponse result = resultData.data;
 
         PlayFabResult<ListGroupBlocksResponse> pfResult = new PlayFabResult<ListGroupBlocksResponse>();
@@ -1001,7 +997,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupInvitationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListGroupInvitationsResponse.class);
         ListGroupInvitationsResponse result = resultData.data;
 
         PlayFabResult<ListGroupInvitationsResponse> pfResult = new PlayFabResult<ListGroupInvitationsResponse>();
@@ -1063,7 +1059,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupMembersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListGroupMembersResponse.class);
         ListGroupMembersResponse result = resultData.data;
 
         PlayFabResult<ListGroupMembersResponse> pfResult = new PlayFabResult<ListGroupMembersResponse>();
@@ -1125,7 +1121,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMembershipResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMembershipResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMembershipResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListMembershipResponse.class);
         ListMembershipResponse result = resultData.data;
 
         PlayFabResult<ListMembershipResponse> pfResult = new PlayFabResult<ListMembershipResponse>();
@@ -1187,7 +1183,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListMembershipOpportunitiesResponse.class);
         ListMembershipOpportunitiesResponse result = resultData.data;
 
         PlayFabResult<ListMembershipOpportunitiesResponse> pfResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
@@ -1249,7 +1245,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1311,7 +1307,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1373,7 +1369,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1435,7 +1431,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1497,7 +1493,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateGroupResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateGroupResponse.class);
         UpdateGroupResponse result = resultData.data;
 
         PlayFabResult<UpdateGroupResponse> pfResult = new PlayFabResult<UpdateGroupResponse>();
@@ -1559,7 +1555,7 @@ public class PlayFabGroupsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateGroupRoleResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateGroupRoleResponse.class);
         UpdateGroupRoleResponse result = resultData.data;
 
         PlayFabResult<UpdateGroupRoleResponse> pfResult = new PlayFabResult<UpdateGroupRoleResponse>();
@@ -6,13 +6,9 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** Manage the Insights performance level and data storage retention settings. */
 public class PlayFabInsightsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Gets the current values for the Insights performance and data storage retention, list of pending operations, and the
      * performance and data storage retention limits.
@@ -72,7 +68,7 @@ public class PlayFabInsightsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InsightsGetDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetDetailsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InsightsGetDetailsResponse.class);
         InsightsGetDetailsResponse result = resultData.data;
 
         PlayFabResult<InsightsGetDetailsResponse> pfResult = new PlayFabResult<InsightsGetDetailsResponse>();
@@ -139,7 +135,7 @@ public class PlayFabInsightsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InsightsGetLimitsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetLimitsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetLimitsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InsightsGetLimitsResponse.class);
         InsightsGetLimitsResponse result = resultData.data;
 
         PlayFabResult<InsightsGetLimitsResponse> pfResult = new PlayFabResult<InsightsGetLimitsResponse>();
@@ -201,7 +197,7 @@ public class PlayFabInsightsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InsightsGetOperationStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetOperationStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetOperationStatusResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InsightsGetOperationStatusResponse.class);
         InsightsGetOperationStatusResponse result = resultData.data;
 
         PlayFabResult<InsightsGetOperationStatusResponse> pfResult = new PlayFabResult<InsightsGetOperationStatusResponse>();
@@ -263,7 +259,7 @@ public class PlayFabInsightsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InsightsGetPendingOperationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetPendingOperationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetPendingOperationsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InsightsGetPendingOperationsResponse.class);
         InsightsGetPendingOperationsResponse result = resultData.data;
 
         PlayFabResult<InsightsGetPendingOperationsResponse> pfResult = new PlayFabResult<InsightsGetPendingOperationsResponse>();
@@ -325,7 +321,7 @@ public class PlayFabInsightsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InsightsOperationResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsOperationResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsOperationResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InsightsOperationResponse.class);
         InsightsOperationResponse result = resultData.data;
 
         PlayFabResult<InsightsOperationResponse> pfResult = new PlayFabResult<InsightsOperationResponse>();
@@ -387,7 +383,7 @@ public class PlayFabInsightsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<InsightsOperationResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsOperationResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsOperationResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, InsightsOperationResponse.class);
         InsightsOperationResponse result = resultData.data;
 
         PlayFabResult<InsightsOperationResponse> pfResult = new PlayFabResult<InsightsOperationResponse>();
@@ -6,13 +6,9 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** The Localization APIs give you the tools needed to manage language setup in your title. */
 public class PlayFabLocalizationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Retrieves the list of allowed languages, only accessible by title entities
      * @param request GetLanguageListRequest
@@ -67,7 +63,7 @@ public class PlayFabLocalizationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLanguageListResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLanguageListResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetLanguageListResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLanguageListResponse.class);
         GetLanguageListResponse result = resultData.data;
 
         PlayFabResult<GetLanguageListResponse> pfResult = new PlayFabResult<GetLanguageListResponse>();
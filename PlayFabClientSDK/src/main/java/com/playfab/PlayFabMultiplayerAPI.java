@@ -6,16 +6,12 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * API methods for managing multiplayer servers. API methods for managing parties. The lobby service helps players group
      * together to play multiplayer games. It is often used as a rendezvous point for players to share connection information.
      */
 public class PlayFabMultiplayerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Cancel all active tickets the player is a member of in a given queue.
      * @param request CancelAllMatchmakingTicketsForPlayerRequest
@@ -70,7 +66,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CancelAllMatchmakingTicketsForPlayerResult.class);
         CancelAllMatchmakingTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> pfResult = new PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>();
@@ -132,7 +128,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CancelAllServerBackfillTicketsForPlayerResult.class);
         CancelAllServerBackfillTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> pfResult = new PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>();
@@ -194,7 +190,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CancelMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelMatchmakingTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CancelMatchmakingTicketResult.class);
         CancelMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<CancelMatchmakingTicketResult> pfResult = new PlayFabResult<CancelMatchmakingTicketResult>();
@@ -256,7 +252,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CancelServerBackfillTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelServerBackfillTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelServerBackfillTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CancelServerBackfillTicketResult.class);
         CancelServerBackfillTicketResult result = resultData.data;
 
         PlayFabResult<CancelServerBackfillTicketResult> pfResult = new PlayFabResult<CancelServerBackfillTicketResult>();
@@ -318,7 +314,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BuildAliasDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BuildAliasDetailsResponse.class);
         BuildAliasDetailsResponse result = resultData.data;
 
         PlayFabResult<BuildAliasDetailsResponse> pfResult = new PlayFabResult<BuildAliasDetailsResponse>();
@@ -380,7 +376,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateBuildWithCustomContainerResponse.class);
         CreateBuildWithCustomContainerResponse result = resultData.data;
 
         PlayFabResult<CreateBuildWithCustomContainerResponse> pfResult = new PlayFabResult<CreateBuildWithCustomContainerResponse>();
@@ -442,7 +438,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateBuildWithManagedContainerResponse.class);
         CreateBuildWithManagedContainerResponse result = resultData.data;
 
         PlayFabResult<CreateBuildWithManagedContainerResponse> pfResult = new PlayFabResult<CreateBuildWithManagedContainerResponse>();
@@ -504,7 +500,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateBuildWithProcessBasedServerResponse.class);
         CreateBuildWithProcessBasedServerResponse result = resultData.data;
 
         PlayFabResult<CreateBuildWithProcessBasedServerResponse> pfResult = new PlayFabResult<CreateBuildWithProcessBasedServerResponse>();
@@ -566,7 +562,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateLobbyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateLobbyResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateLobbyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateLobbyResult.class);
         CreateLobbyResult result = resultData.data;
 
         PlayFabResult<CreateLobbyResult> pfResult = new PlayFabResult<CreateLobbyResult>();
@@ -628,7 +624,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateMatchmakingTicketResult.class);
         CreateMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<CreateMatchmakingTicketResult> pfResult = new PlayFabResult<CreateMatchmakingTicketResult>();
@@ -690,7 +686,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateRemoteUserResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateRemoteUserResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateRemoteUserResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateRemoteUserResponse.class);
         CreateRemoteUserResponse result = resultData.data;
 
         PlayFabResult<CreateRemoteUserResponse> pfResult = new PlayFabResult<CreateRemoteUserResponse>();
@@ -760,7 +756,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateServerBackfillTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateServerBackfillTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateServerBackfillTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateServerBackfillTicketResult.class);
         CreateServerBackfillTicketResult result = resultData.data;
 
         PlayFabResult<CreateServerBackfillTicketResult> pfResult = new PlayFabResult<CreateServerBackfillTicketResult>();
@@ -827,7 +823,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateMatchmakingTicketResult.class);
         CreateMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<CreateMatchmakingTicketResult> pfResult = new PlayFabResult<CreateMatchmakingTicketResult>();
@@ -889,7 +885,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateTitleMultiplayerServersQuotaChangeResponse.class);
         CreateTitleMultiplayerServersQuotaChangeResponse result = resultData.data;
 
         PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> pfResult = new PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>();
@@ -951,7 +947,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1013,7 +1009,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1075,7 +1071,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1137,7 +1133,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1199,7 +1195,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1261,7 +1257,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1323,7 +1319,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LobbyEmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LobbyEmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<LobbyEmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LobbyEmptyResult.class);
         LobbyEmptyResult result = resultData.data;
 
         PlayFabResult<LobbyEmptyResult> pfResult = new PlayFabResult<LobbyEmptyResult>();
@@ -1385,7 +1381,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1447,7 +1443,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse>>(){}.getType());
+        PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EnableMultiplayerServersForTitleResponse.class);
         EnableMultiplayerServersForTitleResponse result = resultData.data;
 
         PlayFabResult<EnableMultiplayerServersForTitleResponse> pfResult = new PlayFabResult<EnableMultiplayerServersForTitleResponse>();
@@ -1509,7 +1505,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<FindFriendLobbiesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<FindFriendLobbiesResult>>(){}.getType());
+        PlayFabJsonSuccess<FindFriendLobbiesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, FindFriendLobbiesResult.class);
         FindFriendLobbiesResult result = resultData.data;
 
         PlayFabResult<FindFriendLobbiesResult> pfResult = new PlayFabResult<FindFriendLobbiesResult>();
@@ -1571,7 +1567,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<FindLobbiesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<FindLobbiesResult>>(){}.getType());
+        PlayFabJsonSuccess<FindLobbiesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, FindLobbiesResult.class);
         FindLobbiesResult result = resultData.data;
 
         PlayFabResult<FindLobbiesResult> pfResult = new PlayFabResult<FindLobbiesResult>();
@@ -1638,7 +1634,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAssetDownloadUrlResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAssetDownloadUrlResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetAssetDownloadUrlResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetAssetDownloadUrlResponse.class);
         GetAssetDownloadUrlResponse result = resultData.data;
 
         PlayFabResult<GetAssetDownloadUrlResponse> pfResult = new PlayFabResult<GetAssetDownloadUrlResponse>();
@@ -1705,7 +1701,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAssetUploadUrlResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAssetUploadUrlResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetAssetUploadUrlResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetAssetUploadUrlResponse.class);
         GetAssetUploadUrlResponse result = resultData.data;
 
         PlayFabResult<GetAssetUploadUrlResponse> pfResult = new PlayFabResult<GetAssetUploadUrlResponse>();
@@ -1767,7 +1763,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetBuildResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetBuildResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetBuildResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetBuildResponse.class);
         GetBuildResponse result = resultData.data;
 
         PlayFabResult<GetBuildResponse> pfResult = new PlayFabResult<GetBuildResponse>();
@@ -1829,7 +1825,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BuildAliasDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BuildAliasDetailsResponse.class);
         BuildAliasDetailsResponse result = resultData.data;
 
         PlayFabResult<BuildAliasDetailsResponse> pfResult = new PlayFabResult<BuildAliasDetailsResponse>();
@@ -1891,7 +1887,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetContainerRegistryCredentialsResponse.class);
         GetContainerRegistryCredentialsResponse result = resultData.data;
 
         PlayFabResult<GetContainerRegistryCredentialsResponse> pfResult = new PlayFabResult<GetContainerRegistryCredentialsResponse>();
@@ -1953,7 +1949,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLobbyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLobbyResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLobbyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLobbyResult.class);
         GetLobbyResult result = resultData.data;
 
         PlayFabResult<GetLobbyResult> pfResult = new PlayFabResult<GetLobbyResult>();
@@ -2015,7 +2011,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMatchResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetMatchResult.class);
         GetMatchResult result = resultData.data;
 
         PlayFabResult<GetMatchResult> pfResult = new PlayFabResult<GetMatchResult>();
@@ -2077,7 +2073,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchmakingTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetMatchmakingTicketResult.class);
         GetMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<GetMatchmakingTicketResult> pfResult = new PlayFabResult<GetMatchmakingTicketResult>();
@@ -2139,7 +2135,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetMultiplayerServerDetailsResponse.class);
         GetMultiplayerServerDetailsResponse result = resultData.data;
 
         PlayFabResult<GetMultiplayerServerDetailsResponse> pfResult = new PlayFabResult<GetMultiplayerServerDetailsResponse>();
@@ -2201,7 +2197,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMultiplayerServerLogsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetMultiplayerServerLogsResponse.class);
         GetMultiplayerServerLogsResponse result = resultData.data;
 
         PlayFabResult<GetMultiplayerServerLogsResponse> pfResult = new PlayFabResult<GetMultiplayerServerLogsResponse>();
@@ -2263,7 +2259,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMultiplayerServerLogsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetMultiplayerServerLogsResponse.class);
         GetMultiplayerServerLogsResponse result = resultData.data;
 
         PlayFabResult<GetMultiplayerServerLogsResponse> pfResult = new PlayFabResult<GetMultiplayerServerLogsResponse>();
@@ -2325,7 +2321,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetQueueStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetQueueStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetQueueStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetQueueStatisticsResult.class);
         GetQueueStatisticsResult result = resultData.data;
 
         PlayFabResult<GetQueueStatisticsResult> pfResult = new PlayFabResult<GetQueueStatisticsResult>();
@@ -2387,7 +2383,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetRemoteLoginEndpointResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRemoteLoginEndpointResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetRemoteLoginEndpointResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetRemoteLoginEndpointResponse.class);
         GetRemoteLoginEndpointResponse result = resultData.data;
 
         PlayFabResult<GetRemoteLoginEndpointResponse> pfResult = new PlayFabResult<GetRemoteLoginEndpointResponse>();
@@ -2449,7 +2445,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetServerBackfillTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerBackfillTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerBackfillTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetServerBackfillTicketResult.class);
         GetServerBackfillTicketResult result = resultData.data;
 
         PlayFabResult<GetServerBackfillTicketResult> pfResult = new PlayFabResult<GetServerBackfillTicketResult>();
@@ -2511,7 +2507,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleEnabledForMultiplayerServersStatusResponse.class);
         GetTitleEnabledForMultiplayerServersStatusResponse result = resultData.data;
 
         PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> pfResult = new PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>();
@@ -2573,7 +2569,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleMultiplayerServersQuotaChangeResponse.class);
         GetTitleMultiplayerServersQuotaChangeResponse result = resultData.data;
 
         PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> pfResult = new PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>();
@@ -2635,7 +2631,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleMultiplayerServersQuotasResponse.class);
         GetTitleMultiplayerServersQuotasResponse result = resultData.data;
 
         PlayFabResult<GetTitleMultiplayerServersQuotasResponse> pfResult = new PlayFabResult<GetTitleMultiplayerServersQuotasResponse>();
@@ -2697,7 +2693,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LobbyEmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LobbyEmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<LobbyEmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LobbyEmptyResult.class);
         LobbyEmptyResult result = resultData.data;
 
         PlayFabResult<LobbyEmptyResult> pfResult = new PlayFabResult<LobbyEmptyResult>();
@@ -2759,7 +2755,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<JoinLobbyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<JoinLobbyResult>>(){}.getType());
+        PlayFabJsonSuccess<JoinLobbyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, JoinLobbyResult.class);
         JoinLobbyResult result = resultData.data;
 
         PlayFabResult<JoinLobbyResult> pfResult = new PlayFabResult<JoinLobbyResult>();
@@ -2821,7 +2817,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<JoinLobbyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<JoinLobbyResult>>(){}.getType());
+        PlayFabJsonSuccess<JoinLobbyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, JoinLobbyResult.class);
         JoinLobbyResult result = resultData.data;
 
         PlayFabResult<JoinLobbyResult> pfResult = new PlayFabResult<JoinLobbyResult>();
@@ -2883,7 +2879,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<JoinMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<JoinMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<JoinMatchmakingTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, JoinMatchmakingTicketResult.class);
         JoinMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<JoinMatchmakingTicketResult> pfResult = new PlayFabResult<JoinMatchmakingTicketResult>();
@@ -2945,7 +2941,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LobbyEmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LobbyEmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<LobbyEmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LobbyEmptyResult.class);
         LobbyEmptyResult result = resultData.data;
 
         PlayFabResult<LobbyEmptyResult> pfResult = new PlayFabResult<LobbyEmptyResult>();
@@ -3007,7 +3003,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMultiplayerServersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListMultiplayerServersResponse.class);
         ListMultiplayerServersResponse result = resultData.data;
 
         PlayFabResult<ListMultiplayerServersResponse> pfResult = new PlayFabResult<ListMultiplayerServersResponse>();
@@ -3069,7 +3065,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListAssetSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListAssetSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListAssetSummariesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListAssetSummariesResponse.class);
         ListAssetSummariesResponse result = resultData.data;
 
         PlayFabResult<ListAssetSummariesResponse> pfResult = new PlayFabResult<ListAssetSummariesResponse>();
@@ -3136,7 +3132,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListBuildAliasesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListBuildAliasesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListBuildAliasesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListBuildAliasesResponse.class);
         ListBuildAliasesResponse result = resultData.data;
 
         PlayFabResult<ListBuildAliasesResponse> pfResult = new PlayFabResult<ListBuildAliasesResponse>();
@@ -3203,7 +3199,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListBuildSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListBuildSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListBuildSummariesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListBuildSummariesResponse.class);
         ListBuildSummariesResponse result = resultData.data;
 
         PlayFabResult<ListBuildSummariesResponse> pfResult = new PlayFabResult<ListBuildSummariesResponse>();
@@ -3265,7 +3261,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListCertificateSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListCertificateSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListCertificateSummariesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListCertificateSummariesResponse.class);
         ListCertificateSummariesResponse result = resultData.data;
 
         PlayFabResult<ListCertificateSummariesResponse> pfResult = new PlayFabResult<ListCertificateSummariesResponse>();
@@ -3327,7 +3323,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListContainerImagesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListContainerImagesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListContainerImagesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListContainerImagesResponse.class);
         ListContainerImagesResponse result = resultData.data;
 
         PlayFabResult<ListContainerImagesResponse> pfResult = new PlayFabResult<ListContainerImagesResponse>();
@@ -3389,7 +3385,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListContainerImageTagsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListContainerImageTagsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListContainerImageTagsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListContainerImageTagsResponse.class);
         ListContainerImageTagsResponse result = resultData.data;
 
         PlayFabResult<ListContainerImageTagsResponse> pfResult = new PlayFabResult<ListContainerImageTagsResponse>();
@@ -3451,7 +3447,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListMatchmakingTicketsForPlayerResult.class);
         ListMatchmakingTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<ListMatchmakingTicketsForPlayerResult> pfResult = new PlayFabResult<ListMatchmakingTicketsForPlayerResult>();
@@ -3513,7 +3509,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMultiplayerServersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListMultiplayerServersResponse.class);
         ListMultiplayerServersResponse result = resultData.data;
 
         PlayFabResult<ListMultiplayerServersResponse> pfResult = new PlayFabResult<ListMultiplayerServersResponse>();
@@ -3574,7 +3570,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListPartyQosServersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListPartyQosServersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListPartyQosServersResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListPartyQosServersResponse.class);
         ListPartyQosServersResponse result = resultData.data;
 
         PlayFabResult<ListPartyQosServersResponse> pfResult = new PlayFabResult<ListPartyQosServersResponse>();
@@ -3641,7 +3637,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListQosServersForTitleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListQosServersForTitleResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListQosServersForTitleResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListQosServersForTitleResponse.class);
         ListQosServersForTitleResponse result = resultData.data;
 
         PlayFabResult<ListQosServersForTitleResponse> pfResult = new PlayFabResult<ListQosServersForTitleResponse>();
@@ -3703,7 +3699,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListServerBackfillTicketsForPlayerResult.class);
         ListServerBackfillTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<ListServerBackfillTicketsForPlayerResult> pfResult = new PlayFabResult<ListServerBackfillTicketsForPlayerResult>();
@@ -3765,7 +3761,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListTitleMultiplayerServersQuotaChangesResponse.class);
         ListTitleMultiplayerServersQuotaChangesResponse result = resultData.data;
 
         PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> pfResult = new PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>();
@@ -3827,7 +3823,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListVirtualMachineSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListVirtualMachineSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListVirtualMachineSummariesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListVirtualMachineSummariesResponse.class);
         ListVirtualMachineSummariesResponse result = resultData.data;
 
         PlayFabResult<ListVirtualMachineSummariesResponse> pfResult = new PlayFabResult<ListVirtualMachineSummariesResponse>();
@@ -3889,7 +3885,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LobbyEmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LobbyEmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<LobbyEmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LobbyEmptyResult.class);
         LobbyEmptyResult result = resultData.data;
 
         PlayFabResult<LobbyEmptyResult> pfResult = new PlayFabResult<LobbyEmptyResult>();
@@ -3956,7 +3952,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RequestMultiplayerServerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RequestMultiplayerServerResponse>>(){}.getType());
+        PlayFabJsonSuccess<RequestMultiplayerServerResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RequestMultiplayerServerResponse.class);
         RequestMultiplayerServerResponse result = resultData.data;
 
         PlayFabResult<RequestMultiplayerServerResponse> pfResult = new PlayFabResult<RequestMultiplayerServerResponse>();
@@ -4018,7 +4014,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RequestPartyServiceResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RequestPartyServiceResponse>>(){}.getType());
+        PlayFabJsonSuccess<RequestPartyServiceResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RequestPartyServiceResponse.class);
         RequestPartyServiceResponse result = resultData.data;
 
         PlayFabResult<RequestPartyServiceResponse> pfResult = new PlayFabResult<RequestPartyServiceResponse>();
@@ -4080,7 +4076,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RolloverContainerRegistryCredentialsResponse.class);
         RolloverContainerRegistryCredentialsResponse result = resultData.data;
 
         PlayFabResult<RolloverContainerRegistryCredentialsResponse> pfResult = new PlayFabResult<RolloverContainerRegistryCredentialsResponse>();
@@ -4142,7 +4138,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -4204,7 +4200,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SubscribeToLobbyResourceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SubscribeToLobbyResourceResult>>(){}.getType());
+        PlayFabJsonSuccess<SubscribeToLobbyResourceResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SubscribeToLobbyResourceResult.class);
         SubscribeToLobbyResourceResult result = resultData.data;
 
         PlayFabResult<SubscribeToLobbyResourceResult> pfResult = new PlayFabResult<SubscribeToLobbyResourceResult>();
@@ -4266,7 +4262,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LobbyEmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LobbyEmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<LobbyEmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LobbyEmptyResult.class);
         LobbyEmptyResult result = resultData.data;
 
         PlayFabResult<LobbyEmptyResult> pfResult = new PlayFabResult<LobbyEmptyResult>();
@@ -4328,7 +4324,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -4390,7 +4386,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BuildAliasDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BuildAliasDetailsResponse.class);
         BuildAliasDetailsResponse result = resultData.data;
 
         PlayFabResult<BuildAliasDetailsResponse> pfResult = new PlayFabResult<BuildAliasDetailsResponse>();
@@ -4452,7 +4448,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -4514,7 +4510,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -4576,7 +4572,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -4638,7 +4634,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LobbyEmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LobbyEmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<LobbyEmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LobbyEmptyResult.class);
         LobbyEmptyResult result = resultData.data;
 
         PlayFabResult<LobbyEmptyResult> pfResult = new PlayFabResult<LobbyEmptyResult>();
@@ -4700,7 +4696,7 @@ public class PlayFabMultiplayerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -0,0 +1,346 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * Translates platform account IDs (Steam, Xbox Live, PSN, Nintendo, Twitch, generic service IDs and so on) to
+     * PlayFabIds through the GetPlayFabIDsFrom* family. A mapping almost never changes once made, so found IDs are kept
+     * for a long TTL and IDs with no PlayFab account are remembered for a shorter one, so an unknown ID does not cost a
+     * call on every lookup. Misses from any number of threads are gathered per platform for a short window and sent as
+     * one list call, split at the per-call limit of the endpoint. Mappings can be persisted with persistTo so a restarted
+     * server starts warm. Xbox Live IDs are resolved in the default sandbox and PSN IDs with the default issuer.
+     */
+public abstract class PlayFabPlayFabIdResolver {
+    public static final String FACEBOOK = "Facebook";
+    public static final String FACEBOOK_INSTANT_GAMES = "FacebookInstantGames";
+    public static final String GENERIC = "Generic";
+    public static final String NINTENDO_SERVICE_ACCOUNT = "NintendoServiceAccount";
+    public static final String NINTENDO_SWITCH_DEVICE = "NintendoSwitchDevice";
+    public static final String PSN = "PSN";
+    public static final String STEAM = "Steam";
+    public static final String TWITCH = "Twitch";
+    public static final String XBOX_LIVE = "XboxLive";
+
+    private static final String UNKNOWN = ""; // Cached for IDs with no PlayFab account, as the cache holds no nulls
+
+    private final PlayFabCache<String, String> cache;
+    private final long batchWindowMillis;
+    private final ConcurrentMap<String, PlayFabBatcher<String, String>> batchers = new ConcurrentHashMap<String, PlayFabBatcher<String, String>>();
+
+    private PlayFabPlayFabIdResolver(long ttlMillis, final long unknownTtlMillis, int maxEntries, long batchWindowMillis) {
+        this.batchWindowMillis = batchWindowMillis;
+        this.cache = new PlayFabCache<String, String>(new PlayFabCache.Loader<String, String>() {
+            public PlayFabResult<String> load(String key, String previous) {
+                int split = key.indexOf('\n');
+                PlayFabResult<String> result = batcher(key.substring(0, split)).get(key.substring(split + 1));
+                if (result.Error == null && result.Result == null)
+                    result.Result = UNKNOWN;
+                return result;
+            }
+        }, ttlMillis, 0, maxEntries) {
+            @Override
+            protected long ttlFor(String key, String playFabId) {
+                return UNKNOWN.equals(playFabId) ? unknownTtlMillis : super.ttlFor(key, playFabId);
+            }
+        };
+    }
+
+    /** @return The PlayFabIds found for ids, keyed by platform ID */
+    abstract PlayFabResult<Map<String, String>> fetch(String platform, List<String> ids);
+
+    /** @return The most IDs the platform's GetPlayFabIDsFrom* call accepts at once */
+    int maxBatchSize(String platform) {
+        if (GENERIC.equals(platform))
+            return 10;
+        if (FACEBOOK_INSTANT_GAMES.equals(platform))
+            return 25;
+        return 2000;
+    }
+
+    /** Keep mappings in store as well, so they survive a restart. */
+    public PlayFabPlayFabIdResolver persistTo(PlayFabCacheStore store) {
+        cache.persistTo(store, "GetPlayFabIDs/" + PlayFabSettings.TitleId, String.class);
+        return this;
+    }
+
+    /**
+     * @param platform One of the platform constants, such as STEAM
+     * @param platformId The account ID on that platform; for GENERIC, as made by genericId
+     * @return The PlayFabId, or a null Result if no player has linked the account
+     */
+    public PlayFabResult<String> get(String platform, String platformId) {
+        PlayFabResult<String> cached = cache.get(platform + "\n" + platformId);
+        if (!UNKNOWN.equals(cached.Result))
+            return cached;
+        PlayFabResult<String> result = new PlayFabResult<String>(); // cached may be shared with concurrent callers
+        return result;
+    }
+
+    /** @return The PlayFabId of the account linked through a generic service, or a null Result if there is none */
+    public PlayFabResult<String> getGeneric(String serviceName, String userId) {
+        return get(GENERIC, genericId(serviceName, userId));
+    }
+
+    /**
+     * Resolve many IDs of one platform at once: every miss is submitted before any is awaited, so they share as few
+     * calls as possible.
+     * @return The PlayFabIds keyed by platform ID; IDs with no PlayFab account are left out
+     */
+    public PlayFabResult<Map<String, String>> getAll(String platform, Collection<String> platformIds) {
+        PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+        Map<String, String> found = new LinkedHashMap<String, String>();
+        Map<String, Future<PlayFabResult<String>>> misses = new LinkedHashMap<String, Future<PlayFabResult<String>>>();
+        for (String platformId : platformIds) {
+            String playFabId = cache.peek(platform + "\n" + platformId);
+            if (playFabId == null)
+                misses.put(platformId, batcher(platform).submit(platformId));
+            else if (!UNKNOWN.equals(playFabId))
+                found.put(platformId, playFabId);
+        }
+        for (Map.Entry<String, Future<PlayFabResult<String>>> miss : misses.entrySet()) {
+            PlayFabResult<String> single;
+            try {
+                single = miss.getValue().get();
+            } catch (Exception e) {
+                single = new PlayFabResult<String>();
+                single.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            }
+            if (single.Error != null) {
+                result.Error = single.Error;
+                return result;
+            }
+            cache.put(platform + "\n" + miss.getKey(), single.Result == null ? UNKNOWN : single.Result);
+            if (single.Result != null)
+                found.put(miss.getKey(), single.Result);
+        }
+        result.Result = found;
+        return result;
+    }
+
+    /** Forget one mapping, e.g. after the account was linked or unlinked. */
+    public void invalidate(String platform, String platformId) {
+        cache.invalidate(platform + "\n" + platformId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** @return The platform ID under which get and getAll take a generic service ID */
+    public static String genericId(String serviceName, String userId) {
+        return serviceName + "\n" + userId;
+    }
+
+    private PlayFabBatcher<String, String> batcher(final String platform) {
+        PlayFabBatcher<String, String> batcher = batchers.get(platform);
+        if (batcher == null) {
+            batcher = new PlayFabBatcher<String, String>(new PlayFabBatcher.Loader<String, String>() {
+                public PlayFabResult<Map<String, String>> load(List<String> ids) {
+                    return fetch(platform, ids);
+                }
+            }, maxBatchSize(platform), batchWindowMillis);
+            PlayFabBatcher<String, String> raced = batchers.putIfAbsent(platform, batcher);
+            if (raced != null)
+                batcher = raced;
+        }
+        return batcher;
+    }
+
+    private static PlayFabResult<Map<String, String>> unknownPlatform(String platform) {
+        PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+        result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, "Unknown platform: " + platform, null, null);
+        return result;
+    }
+
+    private static PlayFabResult<Map<String, String>> failed(PlayFabError error) {
+        PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+        result.Error = error;
+        return result;
+    }
+
+    private static PlayFabResult<Map<String, String>> found(Map<String, String> playFabIds) {
+        PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+        result.Result = playFabIds;
+        return result;
+    }
+
+    /** Over the Client API, which also resolves Game Center, Google, Google Play Games and Kongregate IDs. */
+    public static class Client extends PlayFabPlayFabIdResolver {
+        public static final String GAME_CENTER = "GameCenter";
+        public static final String GOOGLE = "Google";
+        public static final String GOOGLE_PLAY_GAMES = "GooglePlayGames";
+        public static final String KONGREGATE = "Kongregate";
+
+        /**
+         * @param ttlMillis How long a found PlayFabId is kept
+         * @param unknownTtlMillis How long an ID with no PlayFab account is remembered as such
+         * @param maxEntries Upper bound on the number of cached mappings
+         * @param batchWindowMillis How long a miss waits for others of its platform to share its call
+         */
+        public Client(long ttlMillis, long unknownTtlMillis, int maxEntries, long batchWindowMillis) {
+            super(ttlMillis, unknownTtlMillis, maxEntries, batchWindowMillis);
+        }
+
+        PlayFabResult<Map<String, String>> fetch(String platform, List<String> ids) {
+            Map<String, String> playFabIds = new HashMap<String, String>();
+            switch (platform) {
+                case FACEBOOK: {
+                    PlayFabClientModels.GetPlayFabIDsFromFacebookIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromFacebookIDsRequest();
+                    request.FacebookIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromFacebookIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromFacebookIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.FacebookPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.FacebookId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case FACEBOOK_INSTANT_GAMES: {
+                    PlayFabClientModels.GetPlayFabIDsFromFacebookInstantGamesIdsRequest request = new PlayFabClientModels.GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+                    request.FacebookInstantGamesIds = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromFacebookInstantGamesIdsResult> response = PlayFabClientAPI.GetPlayFabIDsFromFacebookInstantGamesIds(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.FacebookInstantGamesPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.FacebookInstantGamesId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case GAME_CENTER: {
+                    PlayFabClientModels.GetPlayFabIDsFromGameCenterIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromGameCenterIDsRequest();
+                    request.GameCenterIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromGameCenterIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromGameCenterIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.GameCenterPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.GameCenterId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case GENERIC: {
+                    PlayFabClientModels.GetPlayFabIDsFromGenericIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromGenericIDsRequest();
+                    request.GenericIDs = new ArrayList<PlayFabClientModels.GenericServiceId>(ids.size());
+                    for (String id : ids) {
+                        int split = id.indexOf('\n');
+                        PlayFabClientModels.GenericServiceId genericId = new PlayFabClientModels.GenericServiceId();
+                        genericId.ServiceName = id.substring(0, split);
+                        genericId.UserId = id.substring(split + 1);
+                        request.GenericIDs.add(genericId);
+                    }
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromGenericIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromGenericIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.GenericPlayFabIdPair pair : response.Result.Data)
+                            if (pair.GenericId != null)
+                                playFabIds.put(genericId(pair.GenericId.ServiceName, pair.GenericId.UserId), pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case GOOGLE: {
+                    PlayFabClientModels.GetPlayFabIDsFromGoogleIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromGoogleIDsRequest();
+                    request.GoogleIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromGoogleIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromGoogleIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.GooglePlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.GoogleId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case GOOGLE_PLAY_GAMES: {
+                    PlayFabClientModels.GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest();
+                    request.GooglePlayGamesPlayerIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromGooglePlayGamesPlayerIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.GooglePlayGamesPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.GooglePlayGamesPlayerId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case KONGREGATE: {
+                    PlayFabClientModels.GetPlayFabIDsFromKongregateIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromKongregateIDsRequest();
+                    request.KongregateIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromKongregateIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromKongregateIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.KongregatePlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.KongregateId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case NINTENDO_SERVICE_ACCOUNT: {
+                    PlayFabClientModels.GetPlayFabIDsFromNintendoServiceAccountIdsRequest request = new PlayFabClientModels.GetPlayFabIDsFromNintendoServiceAccountIdsRequest();
+                    request.NintendoAccountIds = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromNintendoServiceAccountIdsResult> response = PlayFabClientAPI.GetPlayFabIDsFromNintendoServiceAccountIds(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.NintendoServiceAccountPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.NintendoServiceAccountId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case NINTENDO_SWITCH_DEVICE: {
+                    PlayFabClientModels.GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request = new PlayFabClientModels.GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+                    request.NintendoSwitchDeviceIds = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> response = PlayFabClientAPI.GetPlayFabIDsFromNintendoSwitchDeviceIds(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.NintendoSwitchPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.NintendoSwitchDeviceId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case PSN: {
+                    PlayFabClientModels.GetPlayFabIDsFromPSNAccountIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromPSNAccountIDsRequest();
+                    request.PSNAccountIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromPSNAccountIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromPSNAccountIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.PSNAccountPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.PSNAccountId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case STEAM: {
+                    PlayFabClientModels.GetPlayFabIDsFromSteamIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromSteamIDsRequest();
+                    request.SteamStringIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromSteamIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromSteamIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.SteamPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.SteamStringId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case TWITCH: {
+                    PlayFabClientModels.GetPlayFabIDsFromTwitchIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromTwitchIDsRequest();
+                    request.TwitchIds = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromTwitchIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromTwitchIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.TwitchPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.TwitchId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                case XBOX_LIVE: {
+                    PlayFabClientModels.GetPlayFabIDsFromXboxLiveIDsRequest request = new PlayFabClientModels.GetPlayFabIDsFromXboxLiveIDsRequest();
+                    request.XboxLiveAccountIDs = new ArrayList<String>(ids);
+                    PlayFabResult<PlayFabClientModels.GetPlayFabIDsFromXboxLiveIDsResult> response = PlayFabClientAPI.GetPlayFabIDsFromXboxLiveIDs(request);
+                    if (response.Error != null)
+                        return failed(response.Error);
+                    if (response.Result.Data != null)
+                        for (PlayFabClientModels.XboxLiveAccountPlayFabIdPair pair : response.Result.Data)
+                            playFabIds.put(pair.XboxLiveAccountId, pair.PlayFabId);
+                    return found(playFabIds);
+                }
+                default:
+                    return unknownPlatform(platform);
+            }
+        }
+    }
+}
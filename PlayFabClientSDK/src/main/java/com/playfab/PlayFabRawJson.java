@@ -0,0 +1,35 @@
+package com.playfab;
+
+import java.nio.charset.Charset;
+
+    /**
+     * An already serialized JSON value. When placed in an Object-typed model field, such as an event Payload for
+     * WriteEvents/WriteTelemetryEvents or a Body value for WritePlayerEvent, its text is written into the request as-is:
+     * it is neither parsed nor escaped again, unlike PayloadJSON, which is sent as a JSON string. The caller is
+     * responsible for the text being valid JSON.
+     */
+public class PlayFabRawJson {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final String json;
+
+    public PlayFabRawJson(String json) {
+        if (json == null)
+            throw new IllegalArgumentException("json");
+        this.json = json;
+    }
+
+    /** @param utf8Json JSON text encoded as UTF-8 */
+    public PlayFabRawJson(byte[] utf8Json) {
+        this(new String(utf8Json, UTF8));
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
@@ -0,0 +1,172 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * PlayFab server time without a GetTime call per use, for comparing against PlayFab-stamped times such as item and
+     * ban expirations. A sync calls GetTime several times in a row and keeps the sample with the shortest round trip, as
+     * NTP does, taking the server's stamp to have been made halfway through it; the offset is then known to within half
+     * that round trip. now() extrapolates from the chosen sample with System.nanoTime, so it costs no call and does not
+     * move when the local wall clock is adjusted. Started clocks sync again in the background every refresh interval.
+     */
+public abstract class PlayFabServerClock {
+    /** One sync's result: the server time at a point on the local monotonic clock. */
+    private static final class Estimate {
+        final long serverMillis;
+        final long localNanos;
+        final long offsetMillis;
+        final long roundTripMillis;
+
+        Estimate(long serverMillis, long localNanos, long offsetMillis, long roundTripMillis) {
+            this.serverMillis = serverMillis;
+            this.localNanos = localNanos;
+            this.offsetMillis = offsetMillis;
+            this.roundTripMillis = roundTripMillis;
+        }
+    }
+
+    private final int samples;
+    private final long refreshIntervalMillis;
+    private final Object syncLock = new Object();
+    private volatile Estimate estimate;
+    private ScheduledFuture<?> schedule; // Guarded by syncLock
+    private volatile PlayFabError lastError;
+
+    private PlayFabServerClock(int samples, long refreshIntervalMillis) {
+        if (samples < 1)
+            throw new IllegalArgumentException("samples");
+        this.samples = samples;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /** @return The server's current time, as reported by one GetTime call */
+    abstract PlayFabResult<Date> fetch();
+
+    /** Sync now, then again in the background every refresh interval until stop() is called. */
+    public PlayFabResult<Long> start() {
+        PlayFabResult<Long> result = sync();
+        synchronized (syncLock) {
+            if (schedule == null) {
+                schedule = PlayFabScheduler.get().scheduleWithFixedDelay(new Runnable() {
+                    public void run() {
+                        try {
+                            PlayFabScheduler.io().execute(new Runnable() {
+                                public void run() {
+                                    sync();
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            // The io pool is saturated; the next run tries again
+                        }
+                    }
+                }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return result;
+    }
+
+    public void stop() {
+        synchronized (syncLock) {
+            if (schedule != null)
+                schedule.cancel(false);
+            schedule = null;
+        }
+    }
+
+    /**
+     * Sample GetTime and replace the estimate with the best sample. A sample that fails ends the sync, but the best one
+     * taken before it is still used.
+     * @return The new offset of server time from local wall-clock time, in milliseconds
+     */
+    public PlayFabResult<Long> sync() {
+        PlayFabResult<Long> result = new PlayFabResult<Long>();
+        synchronized (syncLock) {
+            Estimate best = null;
+            PlayFabError error = null;
+            for (int i = 0; i < samples; i++) {
+                long sentNanos = System.nanoTime();
+                long sentMillis = System.currentTimeMillis();
+                PlayFabResult<Date> time = fetch();
+                long receivedNanos = System.nanoTime();
+                if (time.Error != null || time.Result == null) {
+                    error = time.Error != null ? time.Error : PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, "GetTime returned no time", null, null);
+                    break;
+                }
+                long roundTripNanos = receivedNanos - sentNanos;
+                long roundTripMillis = TimeUnit.NANOSECONDS.toMillis(roundTripNanos);
+                if (best != null && roundTripMillis >= best.roundTripMillis)
+                    continue;
+                long serverMillis = time.Result.getTime();
+                long midpointNanos = sentNanos + roundTripNanos / 2;
+                long offsetMillis = serverMillis - (sentMillis + TimeUnit.NANOSECONDS.toMillis(roundTripNanos / 2));
+                best = new Estimate(serverMillis, midpointNanos, offsetMillis, roundTripMillis);
+            }
+            if (best == null) {
+                lastError = error;
+                result.Error = error;
+                return result;
+            }
+            estimate = best;
+            lastError = error;
+            result.Result = best.offsetMillis;
+        }
+        return result;
+    }
+
+    /** @return Whether a sync has succeeded, so that now() reflects server time */
+    public boolean isSynced() {
+        return estimate != null;
+    }
+
+    /** @return PlayFab server time as epoch milliseconds; the local wall clock until the first sync succeeds */
+    public long now() {
+        Estimate current = estimate;
+        if (current == null)
+            return System.currentTimeMillis();
+        return current.serverMillis + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.localNanos);
+    }
+
+    public Date nowDate() {
+        return new Date(now());
+    }
+
+    /** @return How far server time is ahead of local wall-clock time, in milliseconds; 0 before the first sync */
+    public long getOffsetMillis() {
+        Estimate current = estimate;
+        return current == null ? 0 : current.offsetMillis;
+    }
+
+    /** @return The round trip of the sample in use; the offset is accurate to within half of it */
+    public long getRoundTripMillis() {
+        Estimate current = estimate;
+        return current == null ? 0 : current.roundTripMillis;
+    }
+
+    /** @return The error from the latest sync, or null if every sample succeeded */
+    public PlayFabError getLastError() {
+        return lastError;
+    }
+
+    /** Over PlayFabClientAPI.GetTime. */
+    public static class Client extends PlayFabServerClock {
+        /**
+         * @param samples GetTime calls per sync, of which the one with the shortest round trip is kept
+         * @param refreshIntervalMillis How often a started clock syncs again
+         */
+        public Client(int samples, long refreshIntervalMillis) {
+            super(samples, refreshIntervalMillis);
+        }
+
+        PlayFabResult<Date> fetch() {
+            PlayFabResult<PlayFabClientModels.GetTimeResult> response = PlayFabClientAPI.GetTime(new PlayFabClientModels.GetTimeRequest());
+            PlayFabResult<Date> result = new PlayFabResult<Date>();
+            result.Error = response.Error;
+            if (response.Result != null)
+                result.Result = response.Result.Time;
+            return result;
+        }
+    }
+}
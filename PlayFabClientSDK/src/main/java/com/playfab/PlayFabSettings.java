@@ -22,7 +22,7 @@ public class PlayFabSettings {
     public static String ProductionEnvironmentUrl = ".playfabapi.com"; // This is only for customers running a private cluster.  Generally you shouldn't touch this
     public static String VerticalName = null; // The name of a customer vertical. This is only for customers running a private cluster. Generally you shouldn't touch this
     public static String TitleId = null; // You must set this value for PlayFabSdk to work properly (Found in the Game Manager for your title, at the PlayFab Website)
-    public static ErrorCallback GlobalErrorHandler;
+    public static ErrorCallback GlobalErrorHandler; // Called on the request thread; wrap slow handlers in PlayFabAsyncErrorHandler
     public static String EntityToken = null; // Set by GetEntityToken
     public static String DeveloperSecretKey = null; // You must set this value for PlayFabSdk to work properly (Found in the Game Manager for your title, at the PlayFab Website)
     public static String ClientSessionTicket = null; // Set by any Client Login Call
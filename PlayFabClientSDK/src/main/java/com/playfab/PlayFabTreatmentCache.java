@@ -0,0 +1,228 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabExperimentationModels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * Experiment treatment assignments per entity, for variant checks on a hot path. An entity's assignment is fetched
+     * once with GetTreatmentAssignment, or taken from the TreatmentAssignment a login already returned, and kept until
+     * the experiments change: checkExperiments calls GetExperiments and drops every assignment when the set of running
+     * experiments, their variants or their traffic differs from the last check, and stopExperiment does the same after a
+     * StopExperiment succeeds. A started cache checks on its own every interval. The variant an entity has in a given
+     * experiment is resolved against the experiments seen by the last check, so getVariant needs one to have run.
+     */
+public class PlayFabTreatmentCache {
+    private final PlayFabCache<String, TreatmentAssignment> assignments;
+    private final Object checkLock = new Object();
+    private volatile Map<String, String> experimentByVariant = Collections.emptyMap();
+    private volatile String experimentsFingerprint;
+    private volatile ScheduledFuture<?> schedule;
+
+    /**
+     * @param ttlMillis Upper bound on how long an assignment is kept when no experiment change is seen; assignments
+     *     are stable while the experiments are, so this can be long
+     * @param maxEntities Upper bound on the number of entities cached
+     */
+    public PlayFabTreatmentCache(long ttlMillis, int maxEntities) {
+        this.assignments = new PlayFabCache<String, TreatmentAssignment>(new PlayFabCache.Loader<String, TreatmentAssignment>() {
+            public PlayFabResult<TreatmentAssignment> load(String key, TreatmentAssignment previous) {
+                GetTreatmentAssignmentRequest request = new GetTreatmentAssignmentRequest();
+                if (!key.startsWith("\n")) {
+                    int split = key.indexOf('\n');
+                    request.Entity = new EntityKey();
+                    request.Entity.Type = key.substring(0, split);
+                    request.Entity.Id = key.substring(split + 1);
+                }
+                PlayFabResult<GetTreatmentAssignmentResult> response = PlayFabExperimentationAPI.GetTreatmentAssignment(request);
+                PlayFabResult<TreatmentAssignment> result = new PlayFabResult<TreatmentAssignment>();
+                result.Error = response.Error;
+                if (response.Result != null)
+                    result.Result = response.Result.TreatmentAssignment != null ? response.Result.TreatmentAssignment : new TreatmentAssignment();
+                return result;
+            }
+        }, ttlMillis, 0, maxEntities);
+    }
+
+    /**
+     * @param entity The entity; null for the entity the current entity token belongs to
+     * @return The entity's assignment, fetched on first use and cached after that
+     */
+    public PlayFabResult<TreatmentAssignment> getAssignment(EntityKey entity) {
+        return assignments.get(cacheKey(entity));
+    }
+
+    /** @return The cached assignment, or null if the entity has none cached; it never calls PlayFab */
+    public TreatmentAssignment peekAssignment(EntityKey entity) {
+        return assignments.peek(cacheKey(entity));
+    }
+
+    /** @return The value the entity's treatment gives the variable, or defaultValue if it sets none or the lookup fails */
+    public String getVariable(EntityKey entity, String name, String defaultValue) {
+        PlayFabResult<TreatmentAssignment> assignment = getAssignment(entity);
+        if (assignment.Result == null || assignment.Result.Variables == null)
+            return defaultValue;
+        for (Variable variable : assignment.Result.Variables)
+            if (name.equals(variable.Name))
+                return variable.Value;
+        return defaultValue;
+    }
+
+    /** @return Whether the entity is assigned the variant, by variant ID */
+    public PlayFabResult<Boolean> isInVariant(EntityKey entity, String variantId) {
+        PlayFabResult<TreatmentAssignment> assignment = getAssignment(entity);
+        PlayFabResult<Boolean> result = new PlayFabResult<Boolean>();
+        result.Error = assignment.Error;
+        if (assignment.Result != null)
+            result.Result = assignment.Result.Variants != null && assignment.Result.Variants.contains(variantId);
+        return result;
+    }
+
+    /** @return The ID of the entity's variant in the experiment, or a null Result if it is not in the experiment */
+    public PlayFabResult<String> getVariant(EntityKey entity, String experimentId) {
+        PlayFabResult<TreatmentAssignment> assignment = getAssignment(entity);
+        PlayFabResult<String> result = new PlayFabResult<String>();
+        result.Error = assignment.Error;
+        if (assignment.Result == null || assignment.Result.Variants == null)
+            return result;
+        Map<String, String> experiments = experimentByVariant;
+        for (String variantId : assignment.Result.Variants) {
+            if (experimentId.equals(experiments.get(variantId))) {
+                result.Result = variantId;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /** Cache an assignment obtained elsewhere, such as from GetPlayerCombinedInfo. */
+    public void warm(EntityKey entity, TreatmentAssignment assignment) {
+        if (assignment != null)
+            assignments.put(cacheKey(entity), assignment);
+    }
+
+    /**
+     * Cache the assignment PlayFabClientAPI returned with a login, so the first variant check costs no call. It is also
+     * cached for the entity token the login returned, which a null entity resolves to once that token is in use.
+     */
+    public void warm(PlayFabClientModels.LoginResult login) {
+        if (login == null || login.TreatmentAssignment == null || login.EntityToken == null || login.EntityToken.Entity == null)
+            return;
+        EntityKey entity = new EntityKey();
+        entity.Id = login.EntityToken.Entity.Id;
+        entity.Type = login.EntityToken.Entity.Type;
+        TreatmentAssignment assignment = new TreatmentAssignment();
+        assignment.Variants = login.TreatmentAssignment.Variants;
+        if (login.TreatmentAssignment.Variables != null) {
+            assignment.Variables = new ArrayList<Variable>(login.TreatmentAssignment.Variables.size());
+            for (PlayFabClientModels.Variable loginVariable : login.TreatmentAssignment.Variables) {
+                Variable variable = new Variable();
+                variable.Name = loginVariable.Name;
+                variable.Value = loginVariable.Value;
+                assignment.Variables.add(variable);
+            }
+        }
+        warm(entity, assignment);
+        if (login.EntityToken.EntityToken != null)
+            assignments.put(tokenKey(login.EntityToken.EntityToken), assignment);
+    }
+
+    /**
+     * Call GetExperiments and drop every cached assignment if the experiments changed since the last check. The first
+     * check only records the experiments. GetExperiments needs a title entity token.
+     * @return Whether the assignments were dropped
+     */
+    public PlayFabResult<Boolean> checkExperiments() {
+        PlayFabResult<Boolean> result = new PlayFabResult<Boolean>();
+        PlayFabResult<GetExperimentsResult> response = PlayFabExperimentationAPI.GetExperiments(new GetExperimentsRequest());
+        if (response.Error != null) {
+            result.Error = response.Error;
+            return result;
+        }
+        List<Experiment> experiments = response.Result.Experiments != null ? response.Result.Experiments : Collections.<Experiment>emptyList();
+        Map<String, String> byVariant = new HashMap<String, String>();
+        SortedSet<String> fingerprint = new TreeSet<String>();
+        for (Experiment experiment : experiments) {
+            StringBuilder line = new StringBuilder();
+            line.append(experiment.Id).append('\n').append(experiment.State).append('\n').append(experiment.SegmentId)
+                .append('\n').append(experiment.ExclusionGroupId).append('\n').append(experiment.ExclusionGroupTrafficAllocation)
+                .append('\n').append(experiment.StartDate == null ? null : experiment.StartDate.getTime())
+                .append('\n').append(experiment.EndDate == null ? null : experiment.EndDate.getTime());
+            if (experiment.Variants != null) {
+                for (Variant variant : experiment.Variants) {
+                    byVariant.put(variant.Id, experiment.Id);
+                    line.append('\n').append(variant.Id).append('=').append(variant.TrafficPercentage);
+                }
+            }
+            fingerprint.add(line.toString());
+        }
+
+        synchronized (checkLock) {
+            String current = fingerprint.toString();
+            boolean changed = experimentsFingerprint != null && !experimentsFingerprint.equals(current);
+            experimentsFingerprint = current;
+            experimentByVariant = byVariant;
+            if (changed)
+                assignments.invalidateAll();
+            result.Result = changed;
+        }
+        return result;
+    }
+
+    /** Check the experiments now, then every interval in the background until stop() is called. */
+    public PlayFabResult<Boolean> start(long checkIntervalMillis) {
+        PlayFabResult<Boolean> result = checkExperiments();
+        if (schedule == null) {
+            schedule = PlayFabScheduler.get().scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        PlayFabScheduler.io().execute(new Runnable() {
+                            public void run() {
+                                checkExperiments();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        // The io pool is saturated; the next run tries again
+                    }
+                }
+            }, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    public void stop() {
+        ScheduledFuture<?> current = schedule;
+        schedule = null;
+        if (current != null)
+            current.cancel(false);
+    }
+
+    /** PlayFabExperimentationAPI.StopExperiment, dropping every cached assignment when it succeeds. */
+    public PlayFabResult<EmptyResponse> stopExperiment(StopExperimentRequest request) {
+        PlayFabResult<EmptyResponse> result = PlayFabExperimentationAPI.StopExperiment(request);
+        if (result.Error == null)
+            assignments.invalidateAll();
+        return result;
+    }
+
+    public void invalidate(EntityKey entity) {
+        assignments.invalidate(cacheKey(entity));
+    }
+
+    public void invalidateAll() {
+        assignments.invalidateAll();
+    }
+
+    private static String cacheKey(EntityKey entity) {
+        if (entity != null)
+            return entity.Type + "\n" + entity.Id;
+        return tokenKey(PlayFabSettings.EntityToken);
+    }
+
+    /** The key of the entity a token belongs to, known only by the token; a new token gets a new entry. */
+    private static String tokenKey(String token) {
+        return "\n" + (token == null ? "" : token);
+    }
+}
@@ -0,0 +1,10252 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabClientModels.*;
+
+/**
+ * Streaming adapters for the PlayFabClientModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabClientModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabClientModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AcceptTradeRequest": return new AcceptTradeRequestAdapter(gson);
+            case "AcceptTradeResponse": return new AcceptTradeResponseAdapter(gson);
+            case "AdCampaignAttributionModel": return new AdCampaignAttributionModelAdapter(gson);
+            case "AddFriendRequest": return new AddFriendRequestAdapter(gson);
+            case "AddFriendResult": return new AddFriendResultAdapter(gson);
+            case "AddGenericIDRequest": return new AddGenericIDRequestAdapter(gson);
+            case "AddGenericIDResult": return new AddGenericIDResultAdapter(gson);
+            case "AddOrUpdateContactEmailRequest": return new AddOrUpdateContactEmailRequestAdapter(gson);
+            case "AddOrUpdateContactEmailResult": return new AddOrUpdateContactEmailResultAdapter(gson);
+            case "AddSharedGroupMembersRequest": return new AddSharedGroupMembersRequestAdapter(gson);
+            case "AddSharedGroupMembersResult": return new AddSharedGroupMembersResultAdapter(gson);
+            case "AddUsernamePasswordRequest": return new AddUsernamePasswordRequestAdapter(gson);
+            case "AddUsernamePasswordResult": return new AddUsernamePasswordResultAdapter(gson);
+            case "AddUserVirtualCurrencyRequest": return new AddUserVirtualCurrencyRequestAdapter(gson);
+            case "AdPlacementDetails": return new AdPlacementDetailsAdapter(gson);
+            case "AdRewardItemGranted": return new AdRewardItemGrantedAdapter(gson);
+            case "AdRewardResults": return new AdRewardResultsAdapter(gson);
+            case "AndroidDevicePushNotificationRegistrationRequest": return new AndroidDevicePushNotificationRegistrationRequestAdapter(gson);
+            case "AndroidDevicePushNotificationRegistrationResult": return new AndroidDevicePushNotificationRegistrationResultAdapter(gson);
+            case "AttributeInstallRequest": return new AttributeInstallRequestAdapter(gson);
+            case "AttributeInstallResult": return new AttributeInstallResultAdapter(gson);
+            case "CancelTradeRequest": return new CancelTradeRequestAdapter(gson);
+            case "CancelTradeResponse": return new CancelTradeResponseAdapter(gson);
+            case "CartItem": return new CartItemAdapter(gson);
+            case "CatalogItem": return new CatalogItemAdapter(gson);
+            case "CatalogItemBundleInfo": return new CatalogItemBundleInfoAdapter(gson);
+            case "CatalogItemConsumableInfo": return new CatalogItemConsumableInfoAdapter(gson);
+            case "CatalogItemContainerInfo": return new CatalogItemContainerInfoAdapter(gson);
+            case "CharacterInventory": return new CharacterInventoryAdapter(gson);
+            case "CharacterLeaderboardEntry": return new CharacterLeaderboardEntryAdapter(gson);
+            case "CharacterResult": return new CharacterResultAdapter(gson);
+            case "ConfirmPurchaseRequest": return new ConfirmPurchaseRequestAdapter(gson);
+            case "ConfirmPurchaseResult": return new ConfirmPurchaseResultAdapter(gson);
+            case "ConsumeItemRequest": return new ConsumeItemRequestAdapter(gson);
+            case "ConsumeItemResult": return new ConsumeItemResultAdapter(gson);
+            case "ConsumeMicrosoftStoreEntitlementsRequest": return new ConsumeMicrosoftStoreEntitlementsRequestAdapter(gson);
+            case "ConsumeMicrosoftStoreEntitlementsResponse": return new ConsumeMicrosoftStoreEntitlementsResponseAdapter(gson);
+            case "ConsumePS5EntitlementsRequest": return new ConsumePS5EntitlementsRequestAdapter(gson);
+            case "ConsumePS5EntitlementsResult": return new ConsumePS5EntitlementsResultAdapter(gson);
+            case "ConsumePSNEntitlementsRequest": return new ConsumePSNEntitlementsRequestAdapter(gson);
+            case "ConsumePSNEntitlementsResult": return new ConsumePSNEntitlementsResultAdapter(gson);
+            case "ConsumeXboxEntitlementsRequest": return new ConsumeXboxEntitlementsRequestAdapter(gson);
+            case "ConsumeXboxEntitlementsResult": return new ConsumeXboxEntitlementsResultAdapter(gson);
+            case "ContactEmailInfoModel": return new ContactEmailInfoModelAdapter(gson);
+            case "CreateSharedGroupRequest": return new CreateSharedGroupRequestAdapter(gson);
+            case "CreateSharedGroupResult": return new CreateSharedGroupResultAdapter(gson);
+            case "DeviceInfoRequest": return new DeviceInfoRequestAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EmptyResult": return new EmptyResultAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "EntityTokenResponse": return new EntityTokenResponseAdapter(gson);
+            case "ExecuteCloudScriptRequest": return new ExecuteCloudScriptRequestAdapter(gson);
+            case "ExecuteCloudScriptResult": return new ExecuteCloudScriptResultAdapter(gson);
+            case "FacebookInstantGamesPlayFabIdPair": return new FacebookInstantGamesPlayFabIdPairAdapter(gson);
+            case "FacebookPlayFabIdPair": return new FacebookPlayFabIdPairAdapter(gson);
+            case "FriendInfo": return new FriendInfoAdapter(gson);
+            case "GameCenterPlayFabIdPair": return new GameCenterPlayFabIdPairAdapter(gson);
+            case "GenericPlayFabIdPair": return new GenericPlayFabIdPairAdapter(gson);
+            case "GenericServiceId": return new GenericServiceIdAdapter(gson);
+            case "GetAccountInfoRequest": return new GetAccountInfoRequestAdapter(gson);
+            case "GetAccountInfoResult": return new GetAccountInfoResultAdapter(gson);
+            case "GetAdPlacementsRequest": return new GetAdPlacementsRequestAdapter(gson);
+            case "GetAdPlacementsResult": return new GetAdPlacementsResultAdapter(gson);
+            case "GetCatalogItemsRequest": return new GetCatalogItemsRequestAdapter(gson);
+            case "GetCatalogItemsResult": return new GetCatalogItemsResultAdapter(gson);
+            case "GetCharacterDataRequest": return new GetCharacterDataRequestAdapter(gson);
+            case "GetCharacterDataResult": return new GetCharacterDataResultAdapter(gson);
+            case "GetCharacterInventoryRequest": return new GetCharacterInventoryRequestAdapter(gson);
+            case "GetCharacterInventoryResult": return new GetCharacterInventoryResultAdapter(gson);
+            case "GetCharacterLeaderboardRequest": return new GetCharacterLeaderboardRequestAdapter(gson);
+            case "GetCharacterLeaderboardResult": return new GetCharacterLeaderboardResultAdapter(gson);
+            case "GetCharacterStatisticsRequest": return new GetCharacterStatisticsRequestAdapter(gson);
+            case "GetCharacterStatisticsResult": return new GetCharacterStatisticsResultAdapter(gson);
+            case "GetContentDownloadUrlRequest": return new GetContentDownloadUrlRequestAdapter(gson);
+            case "GetContentDownloadUrlResult": return new GetContentDownloadUrlResultAdapter(gson);
+            case "GetFriendLeaderboardAroundPlayerRequest": return new GetFriendLeaderboardAroundPlayerRequestAdapter(gson);
+            case "GetFriendLeaderboardAroundPlayerResult": return new GetFriendLeaderboardAroundPlayerResultAdapter(gson);
+            case "GetFriendLeaderboardRequest": return new GetFriendLeaderboardRequestAdapter(gson);
+            case "GetFriendsListRequest": return new GetFriendsListRequestAdapter(gson);
+            case "GetFriendsListResult": return new GetFriendsListResultAdapter(gson);
+            case "GetLeaderboardAroundCharacterRequest": return new GetLeaderboardAroundCharacterRequestAdapter(gson);
+            case "GetLeaderboardAroundCharacterResult": return new GetLeaderboardAroundCharacterResultAdapter(gson);
+            case "GetLeaderboardAroundPlayerRequest": return new GetLeaderboardAroundPlayerRequestAdapter(gson);
+            case "GetLeaderboardAroundPlayerResult": return new GetLeaderboardAroundPlayerResultAdapter(gson);
+            case "GetLeaderboardForUsersCharactersRequest": return new GetLeaderboardForUsersCharactersRequestAdapter(gson);
+            case "GetLeaderboardForUsersCharactersResult": return new GetLeaderboardForUsersCharactersResultAdapter(gson);
+            case "GetLeaderboardRequest": return new GetLeaderboardRequestAdapter(gson);
+            case "GetLeaderboardResult": return new GetLeaderboardResultAdapter(gson);
+            case "GetPaymentTokenRequest": return new GetPaymentTokenRequestAdapter(gson);
+            case "GetPaymentTokenResult": return new GetPaymentTokenResultAdapter(gson);
+            case "GetPhotonAuthenticationTokenRequest": return new GetPhotonAuthenticationTokenRequestAdapter(gson);
+            case "GetPhotonAuthenticationTokenResult": return new GetPhotonAuthenticationTokenResultAdapter(gson);
+            case "GetPlayerCombinedInfoRequest": return new GetPlayerCombinedInfoRequestAdapter(gson);
+            case "GetPlayerCombinedInfoRequestParams": return new GetPlayerCombinedInfoRequestParamsAdapter(gson);
+            case "GetPlayerCombinedInfoResult": return new GetPlayerCombinedInfoResultAdapter(gson);
+            case "GetPlayerCombinedInfoResultPayload": return new GetPlayerCombinedInfoResultPayloadAdapter(gson);
+            case "GetPlayerProfileRequest": return new GetPlayerProfileRequestAdapter(gson);
+            case "GetPlayerProfileResult": return new GetPlayerProfileResultAdapter(gson);
+            case "GetPlayerSegmentsRequest": return new GetPlayerSegmentsRequestAdapter(gson);
+            case "GetPlayerSegmentsResult": return new GetPlayerSegmentsResultAdapter(gson);
+            case "GetPlayerStatisticsRequest": return new GetPlayerStatisticsRequestAdapter(gson);
+            case "GetPlayerStatisticsResult": return new GetPlayerStatisticsResultAdapter(gson);
+            case "GetPlayerStatisticVersionsRequest": return new GetPlayerStatisticVersionsRequestAdapter(gson);
+            case "GetPlayerStatisticVersionsResult": return new GetPlayerStatisticVersionsResultAdapter(gson);
+            case "GetPlayerTagsRequest": return new GetPlayerTagsRequestAdapter(gson);
+            case "GetPlayerTagsResult": return new GetPlayerTagsResultAdapter(gson);
+            case "GetPlayerTradesRequest": return new GetPlayerTradesRequestAdapter(gson);
+            case "GetPlayerTradesResponse": return new GetPlayerTradesResponseAdapter(gson);
+            case "GetPlayFabIDsFromFacebookIDsRequest": return new GetPlayFabIDsFromFacebookIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromFacebookIDsResult": return new GetPlayFabIDsFromFacebookIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromFacebookInstantGamesIdsRequest": return new GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(gson);
+            case "GetPlayFabIDsFromFacebookInstantGamesIdsResult": return new GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(gson);
+            case "GetPlayFabIDsFromGameCenterIDsRequest": return new GetPlayFabIDsFromGameCenterIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromGameCenterIDsResult": return new GetPlayFabIDsFromGameCenterIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromGenericIDsRequest": return new GetPlayFabIDsFromGenericIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromGenericIDsResult": return new GetPlayFabIDsFromGenericIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromGoogleIDsRequest": return new GetPlayFabIDsFromGoogleIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromGoogleIDsResult": return new GetPlayFabIDsFromGoogleIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest": return new GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult": return new GetPlayFabIDsFromGooglePlayGamesPlayerIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromKongregateIDsRequest": return new GetPlayFabIDsFromKongregateIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromKongregateIDsResult": return new GetPlayFabIDsFromKongregateIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromNintendoServiceAccountIdsRequest": return new GetPlayFabIDsFromNintendoServiceAccountIdsRequestAdapter(gson);
+            case "GetPlayFabIDsFromNintendoServiceAccountIdsResult": return new GetPlayFabIDsFromNintendoServiceAccountIdsResultAdapter(gson);
+            case "GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest": return new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(gson);
+            case "GetPlayFabIDsFromNintendoSwitchDeviceIdsResult": return new GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(gson);
+            case "GetPlayFabIDsFromPSNAccountIDsRequest": return new GetPlayFabIDsFromPSNAccountIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromPSNAccountIDsResult": return new GetPlayFabIDsFromPSNAccountIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromSteamIDsRequest": return new GetPlayFabIDsFromSteamIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromSteamIDsResult": return new GetPlayFabIDsFromSteamIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromTwitchIDsRequest": return new GetPlayFabIDsFromTwitchIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromTwitchIDsResult": return new GetPlayFabIDsFromTwitchIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromXboxLiveIDsRequest": return new GetPlayFabIDsFromXboxLiveIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromXboxLiveIDsResult": return new GetPlayFabIDsFromXboxLiveIDsResultAdapter(gson);
+            case "GetPublisherDataRequest": return new GetPublisherDataRequestAdapter(gson);
+            case "GetPublisherDataResult": return new GetPublisherDataResultAdapter(gson);
+            case "GetPurchaseRequest": return new GetPurchaseRequestAdapter(gson);
+            case "GetPurchaseResult": return new GetPurchaseResultAdapter(gson);
+            case "GetSegmentResult": return new GetSegmentResultAdapter(gson);
+            case "GetSharedGroupDataRequest": return new GetSharedGroupDataRequestAdapter(gson);
+            case "GetSharedGroupDataResult": return new GetSharedGroupDataResultAdapter(gson);
+            case "GetStoreItemsRequest": return new GetStoreItemsRequestAdapter(gson);
+            case "GetStoreItemsResult": return new GetStoreItemsResultAdapter(gson);
+            case "GetTimeRequest": return new GetTimeRequestAdapter(gson);
+            case "GetTimeResult": return new GetTimeResultAdapter(gson);
+            case "GetTitleDataRequest": return new GetTitleDataRequestAdapter(gson);
+            case "GetTitleDataResult": return new GetTitleDataResultAdapter(gson);
+            case "GetTitleNewsRequest": return new GetTitleNewsRequestAdapter(gson);
+            case "GetTitleNewsResult": return new GetTitleNewsResultAdapter(gson);
+            case "GetTitlePublicKeyRequest": return new GetTitlePublicKeyRequestAdapter(gson);
+            case "GetTitlePublicKeyResult": return new GetTitlePublicKeyResultAdapter(gson);
+            case "GetTradeStatusRequest": return new GetTradeStatusRequestAdapter(gson);
+            case "GetTradeStatusResponse": return new GetTradeStatusResponseAdapter(gson);
+            case "GetUserDataRequest": return new GetUserDataRequestAdapter(gson);
+            case "GetUserDataResult": return new GetUserDataResultAdapter(gson);
+            case "GetUserInventoryRequest": return new GetUserInventoryRequestAdapter(gson);
+            case "GetUserInventoryResult": return new GetUserInventoryResultAdapter(gson);
+            case "GooglePlayFabIdPair": return new GooglePlayFabIdPairAdapter(gson);
+            case "GooglePlayGamesPlayFabIdPair": return new GooglePlayGamesPlayFabIdPairAdapter(gson);
+            case "GrantCharacterToUserRequest": return new GrantCharacterToUserRequestAdapter(gson);
+            case "GrantCharacterToUserResult": return new GrantCharacterToUserResultAdapter(gson);
+            case "ItemInstance": return new ItemInstanceAdapter(gson);
+            case "ItemPurchaseRequest": return new ItemPurchaseRequestAdapter(gson);
+            case "KongregatePlayFabIdPair": return new KongregatePlayFabIdPairAdapter(gson);
+            case "LinkAndroidDeviceIDRequest": return new LinkAndroidDeviceIDRequestAdapter(gson);
+            case "LinkAndroidDeviceIDResult": return new LinkAndroidDeviceIDResultAdapter(gson);
+            case "LinkAppleRequest": return new LinkAppleRequestAdapter(gson);
+            case "LinkCustomIDRequest": return new LinkCustomIDRequestAdapter(gson);
+            case "LinkCustomIDResult": return new LinkCustomIDResultAdapter(gson);
+            case "LinkedPlatformAccountModel": return new LinkedPlatformAccountModelAdapter(gson);
+            case "LinkFacebookAccountRequest": return new LinkFacebookAccountRequestAdapter(gson);
+            case "LinkFacebookAccountResult": return new LinkFacebookAccountResultAdapter(gson);
+            case "LinkFacebookInstantGamesIdRequest": return new LinkFacebookInstantGamesIdRequestAdapter(gson);
+            case "LinkFacebookInstantGamesIdResult": return new LinkFacebookInstantGamesIdResultAdapter(gson);
+            case "LinkGameCenterAccountRequest": return new LinkGameCenterAccountRequestAdapter(gson);
+            case "LinkGameCenterAccountResult": return new LinkGameCenterAccountResultAdapter(gson);
+            case "LinkGoogleAccountRequest": return new LinkGoogleAccountRequestAdapter(gson);
+            case "LinkGoogleAccountResult": return new LinkGoogleAccountResultAdapter(gson);
+            case "LinkGooglePlayGamesServicesAccountRequest": return new LinkGooglePlayGamesServicesAccountRequestAdapter(gson);
+            case "LinkGooglePlayGamesServicesAccountResult": return new LinkGooglePlayGamesServicesAccountResultAdapter(gson);
+            case "LinkIOSDeviceIDRequest": return new LinkIOSDeviceIDRequestAdapter(gson);
+            case "LinkIOSDeviceIDResult": return new LinkIOSDeviceIDResultAdapter(gson);
+            case "LinkKongregateAccountRequest": return new LinkKongregateAccountRequestAdapter(gson);
+            case "LinkKongregateAccountResult": return new LinkKongregateAccountResultAdapter(gson);
+            case "LinkNintendoServiceAccountRequest": return new LinkNintendoServiceAccountRequestAdapter(gson);
+            case "LinkNintendoSwitchDeviceIdRequest": return new LinkNintendoSwitchDeviceIdRequestAdapter(gson);
+            case "LinkNintendoSwitchDeviceIdResult": return new LinkNintendoSwitchDeviceIdResultAdapter(gson);
+            case "LinkOpenIdConnectRequest": return new LinkOpenIdConnectRequestAdapter(gson);
+            case "LinkPSNAccountRequest": return new LinkPSNAccountRequestAdapter(gson);
+            case "LinkPSNAccountResult": return new LinkPSNAccountResultAdapter(gson);
+            case "LinkSteamAccountRequest": return new LinkSteamAccountRequestAdapter(gson);
+            case "LinkSteamAccountResult": return new LinkSteamAccountResultAdapter(gson);
+            case "LinkTwitchAccountRequest": return new LinkTwitchAccountRequestAdapter(gson);
+            case "LinkTwitchAccountResult": return new LinkTwitchAccountResultAdapter(gson);
+            case "LinkXboxAccountRequest": return new LinkXboxAccountRequestAdapter(gson);
+            case "LinkXboxAccountResult": return new LinkXboxAccountResultAdapter(gson);
+            case "ListUsersCharactersRequest": return new ListUsersCharactersRequestAdapter(gson);
+            case "ListUsersCharactersResult": return new ListUsersCharactersResultAdapter(gson);
+            case "LocationModel": return new LocationModelAdapter(gson);
+            case "LoginResult": return new LoginResultAdapter(gson);
+            case "LoginWithAndroidDeviceIDRequest": return new LoginWithAndroidDeviceIDRequestAdapter(gson);
+            case "LoginWithAppleRequest": return new LoginWithAppleRequestAdapter(gson);
+            case "LoginWithCustomIDRequest": return new LoginWithCustomIDRequestAdapter(gson);
+            case "LoginWithEmailAddressRequest": return new LoginWithEmailAddressRequestAdapter(gson);
+            case "LoginWithFacebookInstantGamesIdRequest": return new LoginWithFacebookInstantGamesIdRequestAdapter(gson);
+            case "LoginWithFacebookRequest": return new LoginWithFacebookRequestAdapter(gson);
+            case "LoginWithGameCenterRequest": return new LoginWithGameCenterRequestAdapter(gson);
+            case "LoginWithGoogleAccountRequest": return new LoginWithGoogleAccountRequestAdapter(gson);
+            case "LoginWithGooglePlayGamesServicesRequest": return new LoginWithGooglePlayGamesServicesRequestAdapter(gson);
+            case "LoginWithIOSDeviceIDRequest": return new LoginWithIOSDeviceIDRequestAdapter(gson);
+            case "LoginWithKongregateRequest": return new LoginWithKongregateRequestAdapter(gson);
+            case "LoginWithNintendoServiceAccountRequest": return new LoginWithNintendoServiceAccountRequestAdapter(gson);
+            case "LoginWithNintendoSwitchDeviceIdRequest": return new LoginWithNintendoSwitchDeviceIdRequestAdapter(gson);
+            case "LoginWithOpenIdConnectRequest": return new LoginWithOpenIdConnectRequestAdapter(gson);
+            case "LoginWithPlayFabRequest": return new LoginWithPlayFabRequestAdapter(gson);
+            case "LoginWithPSNRequest": return new LoginWithPSNRequestAdapter(gson);
+            case "LoginWithSteamRequest": return new LoginWithSteamRequestAdapter(gson);
+            case "LoginWithTwitchRequest": return new LoginWithTwitchRequestAdapter(gson);
+            case "LoginWithXboxRequest": return new LoginWithXboxRequestAdapter(gson);
+            case "LogStatement": return new LogStatementAdapter(gson);
+            case "MembershipModel": return new MembershipModelAdapter(gson);
+            case "MicrosoftStorePayload": return new MicrosoftStorePayloadAdapter(gson);
+            case "ModifyUserVirtualCurrencyResult": return new ModifyUserVirtualCurrencyResultAdapter(gson);
+            case "NameIdentifier": return new NameIdentifierAdapter(gson);
+            case "NintendoServiceAccountPlayFabIdPair": return new NintendoServiceAccountPlayFabIdPairAdapter(gson);
+            case "NintendoSwitchPlayFabIdPair": return new NintendoSwitchPlayFabIdPairAdapter(gson);
+            case "OpenTradeRequest": return new OpenTradeRequestAdapter(gson);
+            case "OpenTradeResponse": return new OpenTradeResponseAdapter(gson);
+            case "PayForPurchaseRequest": return new PayForPurchaseRequestAdapter(gson);
+            case "PayForPurchaseResult": return new PayForPurchaseResultAdapter(gson);
+            case "PaymentOption": return new PaymentOptionAdapter(gson);
+            case "PlayerLeaderboardEntry": return new PlayerLeaderboardEntryAdapter(gson);
+            case "PlayerProfileModel": return new PlayerProfileModelAdapter(gson);
+            case "PlayerProfileViewConstraints": return new PlayerProfileViewConstraintsAdapter(gson);
+            case "PlayerStatisticVersion": return new PlayerStatisticVersionAdapter(gson);
+            case "PlayStation5Payload": return new PlayStation5PayloadAdapter(gson);
+            case "PSNAccountPlayFabIdPair": return new PSNAccountPlayFabIdPairAdapter(gson);
+            case "PurchaseItemRequest": return new PurchaseItemRequestAdapter(gson);
+            case "PurchaseItemResult": return new PurchaseItemResultAdapter(gson);
+            case "PurchaseReceiptFulfillment": return new PurchaseReceiptFulfillmentAdapter(gson);
+            case "PushNotificationRegistrationModel": return new PushNotificationRegistrationModelAdapter(gson);
+            case "RedeemCouponRequest": return new RedeemCouponRequestAdapter(gson);
+            case "RedeemCouponResult": return new RedeemCouponResultAdapter(gson);
+            case "RefreshPSNAuthTokenRequest": return new RefreshPSNAuthTokenRequestAdapter(gson);
+            case "RegisterForIOSPushNotificationRequest": return new RegisterForIOSPushNotificationRequestAdapter(gson);
+            case "RegisterForIOSPushNotificationResult": return new RegisterForIOSPushNotificationResultAdapter(gson);
+            case "RegisterPlayFabUserRequest": return new RegisterPlayFabUserRequestAdapter(gson);
+            case "RegisterPlayFabUserResult": return new RegisterPlayFabUserResultAdapter(gson);
+            case "RemoveContactEmailRequest": return new RemoveContactEmailRequestAdapter(gson);
+            case "RemoveContactEmailResult": return new RemoveContactEmailResultAdapter(gson);
+            case "RemoveFriendRequest": return new RemoveFriendRequestAdapter(gson);
+            case "RemoveFriendResult": return new RemoveFriendResultAdapter(gson);
+            case "RemoveGenericIDRequest": return new RemoveGenericIDRequestAdapter(gson);
+            case "RemoveGenericIDResult": return new RemoveGenericIDResultAdapter(gson);
+            case "RemoveSharedGroupMembersRequest": return new RemoveSharedGroupMembersRequestAdapter(gson);
+            case "RemoveSharedGroupMembersResult": return new RemoveSharedGroupMembersResultAdapter(gson);
+            case "ReportAdActivityRequest": return new ReportAdActivityRequestAdapter(gson);
+            case "ReportAdActivityResult": return new ReportAdActivityResultAdapter(gson);
+            case "ReportPlayerClientRequest": return new ReportPlayerClientRequestAdapter(gson);
+            case "ReportPlayerClientResult": return new ReportPlayerClientResultAdapter(gson);
+            case "RestoreIOSPurchasesRequest": return new RestoreIOSPurchasesRequestAdapter(gson);
+            case "RestoreIOSPurchasesResult": return new RestoreIOSPurchasesResultAdapter(gson);
+            case "RewardAdActivityRequest": return new RewardAdActivityRequestAdapter(gson);
+            case "RewardAdActivityResult": return new RewardAdActivityResultAdapter(gson);
+            case "ScriptExecutionError": return new ScriptExecutionErrorAdapter(gson);
+            case "SendAccountRecoveryEmailRequest": return new SendAccountRecoveryEmailRequestAdapter(gson);
+            case "SendAccountRecoveryEmailResult": return new SendAccountRecoveryEmailResultAdapter(gson);
+            case "SetFriendTagsRequest": return new SetFriendTagsRequestAdapter(gson);
+            case "SetFriendTagsResult": return new SetFriendTagsResultAdapter(gson);
+            case "SetPlayerSecretRequest": return new SetPlayerSecretRequestAdapter(gson);
+            case "SetPlayerSecretResult": return new SetPlayerSecretResultAdapter(gson);
+            case "SharedGroupDataRecord": return new SharedGroupDataRecordAdapter(gson);
+            case "StartPurchaseRequest": return new StartPurchaseRequestAdapter(gson);
+            case "StartPurchaseResult": return new StartPurchaseResultAdapter(gson);
+            case "StatisticModel": return new StatisticModelAdapter(gson);
+            case "StatisticNameVersion": return new StatisticNameVersionAdapter(gson);
+            case "StatisticUpdate": return new StatisticUpdateAdapter(gson);
+            case "StatisticValue": return new StatisticValueAdapter(gson);
+            case "SteamPlayFabIdPair": return new SteamPlayFabIdPairAdapter(gson);
+            case "StoreItem": return new StoreItemAdapter(gson);
+            case "StoreMarketingModel": return new StoreMarketingModelAdapter(gson);
+            case "SubscriptionModel": return new SubscriptionModelAdapter(gson);
+            case "SubtractUserVirtualCurrencyRequest": return new SubtractUserVirtualCurrencyRequestAdapter(gson);
+            case "TagModel": return new TagModelAdapter(gson);
+            case "TitleNewsItem": return new TitleNewsItemAdapter(gson);
+            case "TradeInfo": return new TradeInfoAdapter(gson);
+            case "TreatmentAssignment": return new TreatmentAssignmentAdapter(gson);
+            case "TwitchPlayFabIdPair": return new TwitchPlayFabIdPairAdapter(gson);
+            case "UnlinkAndroidDeviceIDRequest": return new UnlinkAndroidDeviceIDRequestAdapter(gson);
+            case "UnlinkAndroidDeviceIDResult": return new UnlinkAndroidDeviceIDResultAdapter(gson);
+            case "UnlinkAppleRequest": return new UnlinkAppleRequestAdapter(gson);
+            case "UnlinkCustomIDRequest": return new UnlinkCustomIDRequestAdapter(gson);
+            case "UnlinkCustomIDResult": return new UnlinkCustomIDResultAdapter(gson);
+            case "UnlinkFacebookAccountRequest": return new UnlinkFacebookAccountRequestAdapter(gson);
+            case "UnlinkFacebookAccountResult": return new UnlinkFacebookAccountResultAdapter(gson);
+            case "UnlinkFacebookInstantGamesIdRequest": return new UnlinkFacebookInstantGamesIdRequestAdapter(gson);
+            case "UnlinkFacebookInstantGamesIdResult": return new UnlinkFacebookInstantGamesIdResultAdapter(gson);
+            case "UnlinkGameCenterAccountRequest": return new UnlinkGameCenterAccountRequestAdapter(gson);
+            case "UnlinkGameCenterAccountResult": return new UnlinkGameCenterAccountResultAdapter(gson);
+            case "UnlinkGoogleAccountRequest": return new UnlinkGoogleAccountRequestAdapter(gson);
+            case "UnlinkGoogleAccountResult": return new UnlinkGoogleAccountResultAdapter(gson);
+            case "UnlinkGooglePlayGamesServicesAccountRequest": return new UnlinkGooglePlayGamesServicesAccountRequestAdapter(gson);
+            case "UnlinkGooglePlayGamesServicesAccountResult": return new UnlinkGooglePlayGamesServicesAccountResultAdapter(gson);
+            case "UnlinkIOSDeviceIDRequest": return new UnlinkIOSDeviceIDRequestAdapter(gson);
+            case "UnlinkIOSDeviceIDResult": return new UnlinkIOSDeviceIDResultAdapter(gson);
+            case "UnlinkKongregateAccountRequest": return new UnlinkKongregateAccountRequestAdapter(gson);
+            case "UnlinkKongregateAccountResult": return new UnlinkKongregateAccountResultAdapter(gson);
+            case "UnlinkNintendoServiceAccountRequest": return new UnlinkNintendoServiceAccountRequestAdapter(gson);
+            case "UnlinkNintendoSwitchDeviceIdRequest": return new UnlinkNintendoSwitchDeviceIdRequestAdapter(gson);
+            case "UnlinkNintendoSwitchDeviceIdResult": return new UnlinkNintendoSwitchDeviceIdResultAdapter(gson);
+            case "UnlinkOpenIdConnectRequest": return new UnlinkOpenIdConnectRequestAdapter(gson);
+            case "UnlinkPSNAccountRequest": return new UnlinkPSNAccountRequestAdapter(gson);
+            case "UnlinkPSNAccountResult": return new UnlinkPSNAccountResultAdapter(gson);
+            case "UnlinkSteamAccountRequest": return new UnlinkSteamAccountRequestAdapter(gson);
+            case "UnlinkSteamAccountResult": return new UnlinkSteamAccountResultAdapter(gson);
+            case "UnlinkTwitchAccountRequest": return new UnlinkTwitchAccountRequestAdapter(gson);
+            case "UnlinkTwitchAccountResult": return new UnlinkTwitchAccountResultAdapter(gson);
+            case "UnlinkXboxAccountRequest": return new UnlinkXboxAccountRequestAdapter(gson);
+            case "UnlinkXboxAccountResult": return new UnlinkXboxAccountResultAdapter(gson);
+            case "UnlockContainerInstanceRequest": return new UnlockContainerInstanceRequestAdapter(gson);
+            case "UnlockContainerItemRequest": return new UnlockContainerItemRequestAdapter(gson);
+            case "UnlockContainerItemResult": return new UnlockContainerItemResultAdapter(gson);
+            case "UpdateAvatarUrlRequest": return new UpdateAvatarUrlRequestAdapter(gson);
+            case "UpdateCharacterDataRequest": return new UpdateCharacterDataRequestAdapter(gson);
+            case "UpdateCharacterDataResult": return new UpdateCharacterDataResultAdapter(gson);
+            case "UpdateCharacterStatisticsRequest": return new UpdateCharacterStatisticsRequestAdapter(gson);
+            case "UpdateCharacterStatisticsResult": return new UpdateCharacterStatisticsResultAdapter(gson);
+            case "UpdatePlayerStatisticsRequest": return new UpdatePlayerStatisticsRequestAdapter(gson);
+            case "UpdatePlayerStatisticsResult": return new UpdatePlayerStatisticsResultAdapter(gson);
+            case "UpdateSharedGroupDataRequest": return new UpdateSharedGroupDataRequestAdapter(gson);
+            case "UpdateSharedGroupDataResult": return new UpdateSharedGroupDataResultAdapter(gson);
+            case "UpdateUserDataRequest": return new UpdateUserDataRequestAdapter(gson);
+            case "UpdateUserDataResult": return new UpdateUserDataResultAdapter(gson);
+            case "UpdateUserTitleDisplayNameRequest": return new UpdateUserTitleDisplayNameRequestAdapter(gson);
+            case "UpdateUserTitleDisplayNameResult": return new UpdateUserTitleDisplayNameResultAdapter(gson);
+            case "UserAccountInfo": return new UserAccountInfoAdapter(gson);
+            case "UserAndroidDeviceInfo": return new UserAndroidDeviceInfoAdapter(gson);
+            case "UserAppleIdInfo": return new UserAppleIdInfoAdapter(gson);
+            case "UserCustomIdInfo": return new UserCustomIdInfoAdapter(gson);
+            case "UserDataRecord": return new UserDataRecordAdapter(gson);
+            case "UserFacebookInfo": return new UserFacebookInfoAdapter(gson);
+            case "UserFacebookInstantGamesIdInfo": return new UserFacebookInstantGamesIdInfoAdapter(gson);
+            case "UserGameCenterInfo": return new UserGameCenterInfoAdapter(gson);
+            case "UserGoogleInfo": return new UserGoogleInfoAdapter(gson);
+            case "UserGooglePlayGamesInfo": return new UserGooglePlayGamesInfoAdapter(gson);
+            case "UserIosDeviceInfo": return new UserIosDeviceInfoAdapter(gson);
+            case "UserKongregateInfo": return new UserKongregateInfoAdapter(gson);
+            case "UserNintendoSwitchAccountIdInfo": return new UserNintendoSwitchAccountIdInfoAdapter(gson);
+            case "UserNintendoSwitchDeviceIdInfo": return new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+            case "UserOpenIdInfo": return new UserOpenIdInfoAdapter(gson);
+            case "UserPrivateAccountInfo": return new UserPrivateAccountInfoAdapter(gson);
+            case "UserPsnInfo": return new UserPsnInfoAdapter(gson);
+            case "UserServerCustomIdInfo": return new UserServerCustomIdInfoAdapter(gson);
+            case "UserSettings": return new UserSettingsAdapter(gson);
+            case "UserSteamInfo": return new UserSteamInfoAdapter(gson);
+            case "UserTitleInfo": return new UserTitleInfoAdapter(gson);
+            case "UserTwitchInfo": return new UserTwitchInfoAdapter(gson);
+            case "UserXboxInfo": return new UserXboxInfoAdapter(gson);
+            case "ValidateAmazonReceiptRequest": return new ValidateAmazonReceiptRequestAdapter(gson);
+            case "ValidateAmazonReceiptResult": return new ValidateAmazonReceiptResultAdapter(gson);
+            case "ValidateGooglePlayPurchaseRequest": return new ValidateGooglePlayPurchaseRequestAdapter(gson);
+            case "ValidateGooglePlayPurchaseResult": return new ValidateGooglePlayPurchaseResultAdapter(gson);
+            case "ValidateIOSReceiptRequest": return new ValidateIOSReceiptRequestAdapter(gson);
+            case "ValidateIOSReceiptResult": return new ValidateIOSReceiptResultAdapter(gson);
+            case "ValidateWindowsReceiptRequest": return new ValidateWindowsReceiptRequestAdapter(gson);
+            case "ValidateWindowsReceiptResult": return new ValidateWindowsReceiptResultAdapter(gson);
+            case "ValueToDateModel": return new ValueToDateModelAdapter(gson);
+            case "Variable": return new VariableAdapter(gson);
+            case "VirtualCurrencyRechargeTime": return new VirtualCurrencyRechargeTimeAdapter(gson);
+            case "WriteClientCharacterEventRequest": return new WriteClientCharacterEventRequestAdapter(gson);
+            case "WriteClientPlayerEventRequest": return new WriteClientPlayerEventRequestAdapter(gson);
+            case "WriteEventResponse": return new WriteEventResponseAdapter(gson);
+            case "WriteTitleEventRequest": return new WriteTitleEventRequestAdapter(gson);
+            case "XboxLiveAccountPlayFabIdPair": return new XboxLiveAccountPlayFabIdPairAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AcceptTradeRequestAdapter extends PlayFabModelAdapter<AcceptTradeRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        AcceptTradeRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected AcceptTradeRequest newInstance() {
+            return new AcceptTradeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AcceptTradeRequest value) throws IOException {
+            writeField(out, "AcceptedInventoryInstanceIds", value.AcceptedInventoryInstanceIds, stringListAdapter);
+            writeField(out, "OfferingPlayerId", value.OfferingPlayerId);
+            writeField(out, "TradeId", value.TradeId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AcceptTradeRequest value) throws IOException {
+            switch (name) {
+                case "AcceptedInventoryInstanceIds": value.AcceptedInventoryInstanceIds = stringListAdapter.read(in); return true;
+                case "OfferingPlayerId": value.OfferingPlayerId = readString(in); return true;
+                case "TradeId": value.TradeId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AcceptTradeResponseAdapter extends PlayFabModelAdapter<AcceptTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        AcceptTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        protected AcceptTradeResponse newInstance() {
+            return new AcceptTradeResponse();
+        }
+
+        protected void writeFields(JsonWriter out, AcceptTradeResponse value) throws IOException {
+            writeField(out, "Trade", value.Trade, tradeInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AcceptTradeResponse value) throws IOException {
+            switch (name) {
+                case "Trade": value.Trade = tradeInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends PlayFabModelAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AdCampaignAttributionModel newInstance() {
+            return new AdCampaignAttributionModel();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            writeField(out, "AttributedAt", value.AttributedAt, dateAdapter);
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignAttributionModel value) throws IOException {
+            switch (name) {
+                case "AttributedAt": value.AttributedAt = dateAdapter.read(in); return true;
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddFriendRequestAdapter extends PlayFabModelAdapter<AddFriendRequest> {
+        AddFriendRequestAdapter(Gson gson) {
+        }
+
+        protected AddFriendRequest newInstance() {
+            return new AddFriendRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddFriendRequest value) throws IOException {
+            writeField(out, "FriendEmail", value.FriendEmail);
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "FriendTitleDisplayName", value.FriendTitleDisplayName);
+            writeField(out, "FriendUsername", value.FriendUsername);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddFriendRequest value) throws IOException {
+            switch (name) {
+                case "FriendEmail": value.FriendEmail = readString(in); return true;
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "FriendTitleDisplayName": value.FriendTitleDisplayName = readString(in); return true;
+                case "FriendUsername": value.FriendUsername = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddFriendResultAdapter extends PlayFabModelAdapter<AddFriendResult> {
+        AddFriendResultAdapter(Gson gson) {
+        }
+
+        protected AddFriendResult newInstance() {
+            return new AddFriendResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddFriendResult value) throws IOException {
+            writeField(out, "Created", value.Created);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddFriendResult value) throws IOException {
+            switch (name) {
+                case "Created": value.Created = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddGenericIDRequestAdapter extends PlayFabModelAdapter<AddGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        AddGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        protected AddGenericIDRequest newInstance() {
+            return new AddGenericIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddGenericIDRequest value) throws IOException {
+            writeField(out, "GenericId", value.GenericId, genericServiceIdAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddGenericIDRequest value) throws IOException {
+            switch (name) {
+                case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddGenericIDResultAdapter extends PlayFabModelAdapter<AddGenericIDResult> {
+        AddGenericIDResultAdapter(Gson gson) {
+        }
+
+        protected AddGenericIDResult newInstance() {
+            return new AddGenericIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddGenericIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddGenericIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddOrUpdateContactEmailRequestAdapter extends PlayFabModelAdapter<AddOrUpdateContactEmailRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddOrUpdateContactEmailRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddOrUpdateContactEmailRequest newInstance() {
+            return new AddOrUpdateContactEmailRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddOrUpdateContactEmailRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EmailAddress", value.EmailAddress);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddOrUpdateContactEmailRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddOrUpdateContactEmailResultAdapter extends PlayFabModelAdapter<AddOrUpdateContactEmailResult> {
+        AddOrUpdateContactEmailResultAdapter(Gson gson) {
+        }
+
+        protected AddOrUpdateContactEmailResult newInstance() {
+            return new AddOrUpdateContactEmailResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddOrUpdateContactEmailResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddOrUpdateContactEmailResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddSharedGroupMembersRequestAdapter extends PlayFabModelAdapter<AddSharedGroupMembersRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        AddSharedGroupMembersRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected AddSharedGroupMembersRequest newInstance() {
+            return new AddSharedGroupMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddSharedGroupMembersRequest value) throws IOException {
+            writeField(out, "PlayFabIds", value.PlayFabIds, stringListAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddSharedGroupMembersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabIds": value.PlayFabIds = stringListAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddSharedGroupMembersResultAdapter extends PlayFabModelAdapter<AddSharedGroupMembersResult> {
+        AddSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        protected AddSharedGroupMembersResult newInstance() {
+            return new AddSharedGroupMembersResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddSharedGroupMembersResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddSharedGroupMembersResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddUsernamePasswordRequestAdapter extends PlayFabModelAdapter<AddUsernamePasswordRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddUsernamePasswordRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddUsernamePasswordRequest newInstance() {
+            return new AddUsernamePasswordRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddUsernamePasswordRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Email", value.Email);
+            writeField(out, "Password", value.Password);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddUsernamePasswordRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Email": value.Email = readString(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddUsernamePasswordResultAdapter extends PlayFabModelAdapter<AddUsernamePasswordResult> {
+        AddUsernamePasswordResultAdapter(Gson gson) {
+        }
+
+        protected AddUsernamePasswordResult newInstance() {
+            return new AddUsernamePasswordResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddUsernamePasswordResult value) throws IOException {
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddUsernamePasswordResult value) throws IOException {
+            switch (name) {
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddUserVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<AddUserVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddUserVirtualCurrencyRequest newInstance() {
+            return new AddUserVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddUserVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdPlacementDetailsAdapter extends PlayFabModelAdapter<AdPlacementDetails> {
+        AdPlacementDetailsAdapter(Gson gson) {
+        }
+
+        protected AdPlacementDetails newInstance() {
+            return new AdPlacementDetails();
+        }
+
+        protected void writeFields(JsonWriter out, AdPlacementDetails value) throws IOException {
+            writeField(out, "PlacementId", value.PlacementId);
+            writeField(out, "PlacementName", value.PlacementName);
+            writeField(out, "PlacementViewsRemaining", value.PlacementViewsRemaining);
+            writeField(out, "PlacementViewsResetMinutes", value.PlacementViewsResetMinutes);
+            writeField(out, "RewardAssetUrl", value.RewardAssetUrl);
+            writeField(out, "RewardDescription", value.RewardDescription);
+            writeField(out, "RewardId", value.RewardId);
+            writeField(out, "RewardName", value.RewardName);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdPlacementDetails value) throws IOException {
+            switch (name) {
+                case "PlacementId": value.PlacementId = readString(in); return true;
+                case "PlacementName": value.PlacementName = readString(in); return true;
+                case "PlacementViewsRemaining": value.PlacementViewsRemaining = readInteger(in); return true;
+                case "PlacementViewsResetMinutes": value.PlacementViewsResetMinutes = readDouble(in); return true;
+                case "RewardAssetUrl": value.RewardAssetUrl = readString(in); return true;
+                case "RewardDescription": value.RewardDescription = readString(in); return true;
+                case "RewardId": value.RewardId = readString(in); return true;
+                case "RewardName": value.RewardName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdRewardItemGrantedAdapter extends PlayFabModelAdapter<AdRewardItemGranted> {
+        AdRewardItemGrantedAdapter(Gson gson) {
+        }
+
+        protected AdRewardItemGranted newInstance() {
+            return new AdRewardItemGranted();
+        }
+
+        protected void writeFields(JsonWriter out, AdRewardItemGranted value) throws IOException {
+            writeField(out, "CatalogId", value.CatalogId);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "InstanceId", value.InstanceId);
+            writeField(out, "ItemId", value.ItemId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdRewardItemGranted value) throws IOException {
+            switch (name) {
+                case "CatalogId": value.CatalogId = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "InstanceId": value.InstanceId = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdRewardResultsAdapter extends PlayFabModelAdapter<AdRewardResults> {
+        private final TypeAdapter<ArrayList<AdRewardItemGranted>> adRewardItemGrantedListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+
+        AdRewardResultsAdapter(Gson gson) {
+            adRewardItemGrantedListAdapter = listAdapter(gson, AdRewardItemGranted.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+        }
+
+        protected AdRewardResults newInstance() {
+            return new AdRewardResults();
+        }
+
+        protected void writeFields(JsonWriter out, AdRewardResults value) throws IOException {
+            writeField(out, "GrantedItems", value.GrantedItems, adRewardItemGrantedListAdapter);
+            writeField(out, "GrantedVirtualCurrencies", value.GrantedVirtualCurrencies, integerMapAdapter);
+            writeField(out, "IncrementedStatistics", value.IncrementedStatistics, integerMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdRewardResults value) throws IOException {
+            switch (name) {
+                case "GrantedItems": value.GrantedItems = adRewardItemGrantedListAdapter.read(in); return true;
+                case "GrantedVirtualCurrencies": value.GrantedVirtualCurrencies = integerMapAdapter.read(in); return true;
+                case "IncrementedStatistics": value.IncrementedStatistics = integerMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AndroidDevicePushNotificationRegistrationRequestAdapter extends PlayFabModelAdapter<AndroidDevicePushNotificationRegistrationRequest> {
+        AndroidDevicePushNotificationRegistrationRequestAdapter(Gson gson) {
+        }
+
+        protected AndroidDevicePushNotificationRegistrationRequest newInstance() {
+            return new AndroidDevicePushNotificationRegistrationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AndroidDevicePushNotificationRegistrationRequest value) throws IOException {
+            writeField(out, "ConfirmationMessage", value.ConfirmationMessage);
+            writeField(out, "DeviceToken", value.DeviceToken);
+            writeField(out, "SendPushNotificationConfirmation", value.SendPushNotificationConfirmation);
+        }
+
+        protected boolean readField(JsonReader in, String name, AndroidDevicePushNotificationRegistrationRequest value) throws IOException {
+            switch (name) {
+                case "ConfirmationMessage": value.ConfirmationMessage = readString(in); return true;
+                case "DeviceToken": value.DeviceToken = readString(in); return true;
+                case "SendPushNotificationConfirmation": value.SendPushNotificationConfirmation = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AndroidDevicePushNotificationRegistrationResultAdapter extends PlayFabModelAdapter<AndroidDevicePushNotificationRegistrationResult> {
+        AndroidDevicePushNotificationRegistrationResultAdapter(Gson gson) {
+        }
+
+        protected AndroidDevicePushNotificationRegistrationResult newInstance() {
+            return new AndroidDevicePushNotificationRegistrationResult();
+        }
+
+        protected void writeFields(JsonWriter out, AndroidDevicePushNotificationRegistrationResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AndroidDevicePushNotificationRegistrationResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AttributeInstallRequestAdapter extends PlayFabModelAdapter<AttributeInstallRequest> {
+        AttributeInstallRequestAdapter(Gson gson) {
+        }
+
+        protected AttributeInstallRequest newInstance() {
+            return new AttributeInstallRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AttributeInstallRequest value) throws IOException {
+            writeField(out, "Adid", value.Adid);
+            writeField(out, "Idfa", value.Idfa);
+        }
+
+        protected boolean readField(JsonReader in, String name, AttributeInstallRequest value) throws IOException {
+            switch (name) {
+                case "Adid": value.Adid = readString(in); return true;
+                case "Idfa": value.Idfa = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AttributeInstallResultAdapter extends PlayFabModelAdapter<AttributeInstallResult> {
+        AttributeInstallResultAdapter(Gson gson) {
+        }
+
+        protected AttributeInstallResult newInstance() {
+            return new AttributeInstallResult();
+        }
+
+        protected void writeFields(JsonWriter out, AttributeInstallResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AttributeInstallResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelTradeRequestAdapter extends PlayFabModelAdapter<CancelTradeRequest> {
+        CancelTradeRequestAdapter(Gson gson) {
+        }
+
+        protected CancelTradeRequest newInstance() {
+            return new CancelTradeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CancelTradeRequest value) throws IOException {
+            writeField(out, "TradeId", value.TradeId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelTradeRequest value) throws IOException {
+            switch (name) {
+                case "TradeId": value.TradeId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelTradeResponseAdapter extends PlayFabModelAdapter<CancelTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        CancelTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        protected CancelTradeResponse newInstance() {
+            return new CancelTradeResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CancelTradeResponse value) throws IOException {
+            writeField(out, "Trade", value.Trade, tradeInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelTradeResponse value) throws IOException {
+            switch (name) {
+                case "Trade": value.Trade = tradeInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CartItemAdapter extends PlayFabModelAdapter<CartItem> {
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CartItemAdapter(Gson gson) {
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CartItem newInstance() {
+            return new CartItem();
+        }
+
+        protected void writeFields(JsonWriter out, CartItem value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "VCAmount", value.VCAmount, longMapAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CartItem value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "VCAmount": value.VCAmount = longMapAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemAdapter extends PlayFabModelAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected CatalogItem newInstance() {
+            return new CatalogItem();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItem value) throws IOException {
+            writeField(out, "Bundle", value.Bundle, catalogItemBundleInfoAdapter);
+            writeField(out, "CanBecomeCharacter", value.CanBecomeCharacter);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "Consumable", value.Consumable, catalogItemConsumableInfoAdapter);
+            writeField(out, "Container", value.Container, catalogItemContainerInfoAdapter);
+            writeField(out, "CustomData", value.CustomData);
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "InitialLimitedEditionCount", value.InitialLimitedEditionCount);
+            writeField(out, "IsLimitedEdition", value.IsLimitedEdition);
+            writeField(out, "IsStackable", value.IsStackable);
+            writeField(out, "IsTradable", value.IsTradable);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemImageUrl", value.ItemImageUrl);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItem value) throws IOException {
+            switch (name) {
+                case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); return true;
+                case "CanBecomeCharacter": value.CanBecomeCharacter = readBoolean(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); return true;
+                case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); return true;
+                case "CustomData": value.CustomData = readString(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = readInteger(in); return true;
+                case "IsLimitedEdition": value.IsLimitedEdition = readBoolean(in); return true;
+                case "IsStackable": value.IsStackable = readBoolean(in); return true;
+                case "IsTradable": value.IsTradable = readBoolean(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemImageUrl": value.ItemImageUrl = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemBundleInfoAdapter extends PlayFabModelAdapter<CatalogItemBundleInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CatalogItemBundleInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CatalogItemBundleInfo newInstance() {
+            return new CatalogItemBundleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            writeField(out, "BundledItems", value.BundledItems, stringListAdapter);
+            writeField(out, "BundledResultTables", value.BundledResultTables, stringListAdapter);
+            writeField(out, "BundledVirtualCurrencies", value.BundledVirtualCurrencies, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemBundleInfo value) throws IOException {
+            switch (name) {
+                case "BundledItems": value.BundledItems = stringListAdapter.read(in); return true;
+                case "BundledResultTables": value.BundledResultTables = stringListAdapter.read(in); return true;
+                case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemConsumableInfoAdapter extends PlayFabModelAdapter<CatalogItemConsumableInfo> {
+        CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        protected CatalogItemConsumableInfo newInstance() {
+            return new CatalogItemConsumableInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            writeField(out, "UsageCount", value.UsageCount);
+            writeField(out, "UsagePeriod", value.UsagePeriod);
+            writeField(out, "UsagePeriodGroup", value.UsagePeriodGroup);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemConsumableInfo value) throws IOException {
+            switch (name) {
+                case "UsageCount": value.UsageCount = readLong(in); return true;
+                case "UsagePeriod": value.UsagePeriod = readLong(in); return true;
+                case "UsagePeriodGroup": value.UsagePeriodGroup = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemContainerInfoAdapter extends PlayFabModelAdapter<CatalogItemContainerInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CatalogItemContainerInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CatalogItemContainerInfo newInstance() {
+            return new CatalogItemContainerInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            writeField(out, "ItemContents", value.ItemContents, stringListAdapter);
+            writeField(out, "KeyItemId", value.KeyItemId);
+            writeField(out, "ResultTableContents", value.ResultTableContents, stringListAdapter);
+            writeField(out, "VirtualCurrencyContents", value.VirtualCurrencyContents, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemContainerInfo value) throws IOException {
+            switch (name) {
+                case "ItemContents": value.ItemContents = stringListAdapter.read(in); return true;
+                case "KeyItemId": value.KeyItemId = readString(in); return true;
+                case "ResultTableContents": value.ResultTableContents = stringListAdapter.read(in); return true;
+                case "VirtualCurrencyContents": value.VirtualCurrencyContents = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CharacterInventoryAdapter extends PlayFabModelAdapter<CharacterInventory> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        CharacterInventoryAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected CharacterInventory newInstance() {
+            return new CharacterInventory();
+        }
+
+        protected void writeFields(JsonWriter out, CharacterInventory value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CharacterInventory value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CharacterLeaderboardEntryAdapter extends PlayFabModelAdapter<CharacterLeaderboardEntry> {
+        CharacterLeaderboardEntryAdapter(Gson gson) {
+        }
+
+        protected CharacterLeaderboardEntry newInstance() {
+            return new CharacterLeaderboardEntry();
+        }
+
+        protected void writeFields(JsonWriter out, CharacterLeaderboardEntry value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterName", value.CharacterName);
+            writeField(out, "CharacterType", value.CharacterType);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Position", value.Position);
+            writeField(out, "StatValue", value.StatValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, CharacterLeaderboardEntry value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterName": value.CharacterName = readString(in); return true;
+                case "CharacterType": value.CharacterType = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Position": value.Position = readInteger(in); return true;
+                case "StatValue": value.StatValue = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CharacterResultAdapter extends PlayFabModelAdapter<CharacterResult> {
+        CharacterResultAdapter(Gson gson) {
+        }
+
+        protected CharacterResult newInstance() {
+            return new CharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, CharacterResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterName", value.CharacterName);
+            writeField(out, "CharacterType", value.CharacterType);
+        }
+
+        protected boolean readField(JsonReader in, String name, CharacterResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterName": value.CharacterName = readString(in); return true;
+                case "CharacterType": value.CharacterType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConfirmPurchaseRequestAdapter extends PlayFabModelAdapter<ConfirmPurchaseRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ConfirmPurchaseRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ConfirmPurchaseRequest newInstance() {
+            return new ConfirmPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConfirmPurchaseRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "OrderId", value.OrderId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConfirmPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "OrderId": value.OrderId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConfirmPurchaseResultAdapter extends PlayFabModelAdapter<ConfirmPurchaseResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ConfirmPurchaseResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected ConfirmPurchaseResult newInstance() {
+            return new ConfirmPurchaseResult();
+        }
+
+        protected void writeFields(JsonWriter out, ConfirmPurchaseResult value) throws IOException {
+            writeField(out, "Items", value.Items, itemInstanceListAdapter);
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConfirmPurchaseResult value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = itemInstanceListAdapter.read(in); return true;
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeItemRequestAdapter extends PlayFabModelAdapter<ConsumeItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ConsumeItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ConsumeItemRequest newInstance() {
+            return new ConsumeItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeItemRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ConsumeCount", value.ConsumeCount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeItemRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ConsumeCount": value.ConsumeCount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeItemResultAdapter extends PlayFabModelAdapter<ConsumeItemResult> {
+        ConsumeItemResultAdapter(Gson gson) {
+        }
+
+        protected ConsumeItemResult newInstance() {
+            return new ConsumeItemResult();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeItemResult value) throws IOException {
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "RemainingUses", value.RemainingUses);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeItemResult value) throws IOException {
+            switch (name) {
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeMicrosoftStoreEntitlementsRequestAdapter extends PlayFabModelAdapter<ConsumeMicrosoftStoreEntitlementsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<MicrosoftStorePayload> microsoftStorePayloadAdapter;
+
+        ConsumeMicrosoftStoreEntitlementsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            microsoftStorePayloadAdapter = gson.getAdapter(MicrosoftStorePayload.class);
+        }
+
+        protected ConsumeMicrosoftStoreEntitlementsRequest newInstance() {
+            return new ConsumeMicrosoftStoreEntitlementsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeMicrosoftStoreEntitlementsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MarketplaceSpecificData", value.MarketplaceSpecificData, microsoftStorePayloadAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeMicrosoftStoreEntitlementsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MarketplaceSpecificData": value.MarketplaceSpecificData = microsoftStorePayloadAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeMicrosoftStoreEntitlementsResponseAdapter extends PlayFabModelAdapter<ConsumeMicrosoftStoreEntitlementsResponse> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        ConsumeMicrosoftStoreEntitlementsResponseAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected ConsumeMicrosoftStoreEntitlementsResponse newInstance() {
+            return new ConsumeMicrosoftStoreEntitlementsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeMicrosoftStoreEntitlementsResponse value) throws IOException {
+            writeField(out, "Items", value.Items, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeMicrosoftStoreEntitlementsResponse value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumePS5EntitlementsRequestAdapter extends PlayFabModelAdapter<ConsumePS5EntitlementsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayStation5Payload> playStation5PayloadAdapter;
+
+        ConsumePS5EntitlementsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playStation5PayloadAdapter = gson.getAdapter(PlayStation5Payload.class);
+        }
+
+        protected ConsumePS5EntitlementsRequest newInstance() {
+            return new ConsumePS5EntitlementsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumePS5EntitlementsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MarketplaceSpecificData", value.MarketplaceSpecificData, playStation5PayloadAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumePS5EntitlementsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MarketplaceSpecificData": value.MarketplaceSpecificData = playStation5PayloadAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumePS5EntitlementsResultAdapter extends PlayFabModelAdapter<ConsumePS5EntitlementsResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        ConsumePS5EntitlementsResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected ConsumePS5EntitlementsResult newInstance() {
+            return new ConsumePS5EntitlementsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumePS5EntitlementsResult value) throws IOException {
+            writeField(out, "Items", value.Items, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumePS5EntitlementsResult value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumePSNEntitlementsRequestAdapter extends PlayFabModelAdapter<ConsumePSNEntitlementsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ConsumePSNEntitlementsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ConsumePSNEntitlementsRequest newInstance() {
+            return new ConsumePSNEntitlementsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumePSNEntitlementsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ServiceLabel", value.ServiceLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumePSNEntitlementsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ServiceLabel": value.ServiceLabel = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumePSNEntitlementsResultAdapter extends PlayFabModelAdapter<ConsumePSNEntitlementsResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        ConsumePSNEntitlementsResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected ConsumePSNEntitlementsResult newInstance() {
+            return new ConsumePSNEntitlementsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumePSNEntitlementsResult value) throws IOException {
+            writeField(out, "ItemsGranted", value.ItemsGranted, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumePSNEntitlementsResult value) throws IOException {
+            switch (name) {
+                case "ItemsGranted": value.ItemsGranted = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeXboxEntitlementsRequestAdapter extends PlayFabModelAdapter<ConsumeXboxEntitlementsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ConsumeXboxEntitlementsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ConsumeXboxEntitlementsRequest newInstance() {
+            return new ConsumeXboxEntitlementsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeXboxEntitlementsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeXboxEntitlementsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeXboxEntitlementsResultAdapter extends PlayFabModelAdapter<ConsumeXboxEntitlementsResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        ConsumeXboxEntitlementsResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected ConsumeXboxEntitlementsResult newInstance() {
+            return new ConsumeXboxEntitlementsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeXboxEntitlementsResult value) throws IOException {
+            writeField(out, "Items", value.Items, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeXboxEntitlementsResult value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends PlayFabModelAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        protected ContactEmailInfoModel newInstance() {
+            return new ContactEmailInfoModel();
+        }
+
+        protected void writeFields(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            writeField(out, "EmailAddress", value.EmailAddress);
+            writeField(out, "Name", value.Name);
+            writeField(out, "VerificationStatus", value.VerificationStatus, emailVerificationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContactEmailInfoModel value) throws IOException {
+            switch (name) {
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateSharedGroupRequestAdapter extends PlayFabModelAdapter<CreateSharedGroupRequest> {
+        CreateSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        protected CreateSharedGroupRequest newInstance() {
+            return new CreateSharedGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateSharedGroupRequest value) throws IOException {
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateSharedGroupRequest value) throws IOException {
+            switch (name) {
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateSharedGroupResultAdapter extends PlayFabModelAdapter<CreateSharedGroupResult> {
+        CreateSharedGroupResultAdapter(Gson gson) {
+        }
+
+        protected CreateSharedGroupResult newInstance() {
+            return new CreateSharedGroupResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateSharedGroupResult value) throws IOException {
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateSharedGroupResult value) throws IOException {
+            switch (name) {
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeviceInfoRequestAdapter extends PlayFabModelAdapter<DeviceInfoRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+
+        DeviceInfoRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+        }
+
+        protected DeviceInfoRequest newInstance() {
+            return new DeviceInfoRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeviceInfoRequest value) throws IOException {
+            writeField(out, "Info", value.Info, objectMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeviceInfoRequest value) throws IOException {
+            switch (name) {
+                case "Info": value.Info = objectMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResultAdapter extends PlayFabModelAdapter<EmptyResult> {
+        EmptyResultAdapter(Gson gson) {
+        }
+
+        protected EmptyResult newInstance() {
+            return new EmptyResult();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityTokenResponseAdapter extends PlayFabModelAdapter<EntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        EntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected EntityTokenResponse newInstance() {
+            return new EntityTokenResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EntityTokenResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EntityToken", value.EntityToken);
+            writeField(out, "TokenExpiration", value.TokenExpiration, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityTokenResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EntityToken": value.EntityToken = readString(in); return true;
+                case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptRequestAdapter extends PlayFabModelAdapter<ExecuteCloudScriptRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        ExecuteCloudScriptRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        protected ExecuteCloudScriptRequest newInstance() {
+            return new ExecuteCloudScriptRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionParameter", value.FunctionParameter, objectAdapter);
+            writeField(out, "GeneratePlayStreamEvent", value.GeneratePlayStreamEvent);
+            writeField(out, "RevisionSelection", value.RevisionSelection, cloudScriptRevisionOptionAdapter);
+            writeField(out, "SpecificRevision", value.SpecificRevision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); return true;
+                case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = readBoolean(in); return true;
+                case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); return true;
+                case "SpecificRevision": value.SpecificRevision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends PlayFabModelAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ArrayList<LogStatement>> logStatementListAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementListAdapter = listAdapter(gson, LogStatement.class);
+        }
+
+        protected ExecuteCloudScriptResult newInstance() {
+            return new ExecuteCloudScriptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            writeField(out, "APIRequestsIssued", value.APIRequestsIssued);
+            writeField(out, "Error", value.Error, scriptExecutionErrorAdapter);
+            writeField(out, "ExecutionTimeSeconds", value.ExecutionTimeSeconds);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionResult", value.FunctionResult, objectAdapter);
+            writeField(out, "FunctionResultTooLarge", value.FunctionResultTooLarge);
+            writeField(out, "HttpRequestsIssued", value.HttpRequestsIssued);
+            writeField(out, "Logs", value.Logs, logStatementListAdapter);
+            writeField(out, "LogsTooLarge", value.LogsTooLarge);
+            writeField(out, "MemoryConsumedBytes", value.MemoryConsumedBytes);
+            writeField(out, "ProcessorTimeSeconds", value.ProcessorTimeSeconds);
+            writeField(out, "Revision", value.Revision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptResult value) throws IOException {
+            switch (name) {
+                case "APIRequestsIssued": value.APIRequestsIssued = readInteger(in); return true;
+                case "Error": value.Error = scriptExecutionErrorAdapter.read(in); return true;
+                case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = readDouble(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionResult": value.FunctionResult = objectAdapter.read(in); return true;
+                case "FunctionResultTooLarge": value.FunctionResultTooLarge = readBoolean(in); return true;
+                case "HttpRequestsIssued": value.HttpRequestsIssued = readInteger(in); return true;
+                case "Logs": value.Logs = logStatementListAdapter.read(in); return true;
+                case "LogsTooLarge": value.LogsTooLarge = readBoolean(in); return true;
+                case "MemoryConsumedBytes": value.MemoryConsumedBytes = readLong(in); return true;
+                case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = readDouble(in); return true;
+                case "Revision": value.Revision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FacebookInstantGamesPlayFabIdPairAdapter extends PlayFabModelAdapter<FacebookInstantGamesPlayFabIdPair> {
+        FacebookInstantGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected FacebookInstantGamesPlayFabIdPair newInstance() {
+            return new FacebookInstantGamesPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            writeField(out, "FacebookInstantGamesId", value.FacebookInstantGamesId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesId": value.FacebookInstantGamesId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FacebookPlayFabIdPairAdapter extends PlayFabModelAdapter<FacebookPlayFabIdPair> {
+        FacebookPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected FacebookPlayFabIdPair newInstance() {
+            return new FacebookPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, FacebookPlayFabIdPair value) throws IOException {
+            writeField(out, "FacebookId", value.FacebookId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, FacebookPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "FacebookId": value.FacebookId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FriendInfoAdapter extends PlayFabModelAdapter<FriendInfo> {
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        FriendInfoAdapter(Gson gson) {
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        protected FriendInfo newInstance() {
+            return new FriendInfo();
+        }
+
+        protected void writeFields(JsonWriter out, FriendInfo value) throws IOException {
+            writeField(out, "FacebookInfo", value.FacebookInfo, userFacebookInfoAdapter);
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "GameCenterInfo", value.GameCenterInfo, userGameCenterInfoAdapter);
+            writeField(out, "Profile", value.Profile, playerProfileModelAdapter);
+            writeField(out, "PSNInfo", value.PSNInfo, userPsnInfoAdapter);
+            writeField(out, "SteamInfo", value.SteamInfo, userSteamInfoAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "TitleDisplayName", value.TitleDisplayName);
+            writeField(out, "Username", value.Username);
+            writeField(out, "XboxInfo", value.XboxInfo, userXboxInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FriendInfo value) throws IOException {
+            switch (name) {
+                case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); return true;
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); return true;
+                case "Profile": value.Profile = playerProfileModelAdapter.read(in); return true;
+                case "PSNInfo": value.PSNInfo = userPsnInfoAdapter.read(in); return true;
+                case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "TitleDisplayName": value.TitleDisplayName = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GameCenterPlayFabIdPairAdapter extends PlayFabModelAdapter<GameCenterPlayFabIdPair> {
+        GameCenterPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected GameCenterPlayFabIdPair newInstance() {
+            return new GameCenterPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, GameCenterPlayFabIdPair value) throws IOException {
+            writeField(out, "GameCenterId", value.GameCenterId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GameCenterPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "GameCenterId": value.GameCenterId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GenericPlayFabIdPairAdapter extends PlayFabModelAdapter<GenericPlayFabIdPair> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        GenericPlayFabIdPairAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        protected GenericPlayFabIdPair newInstance() {
+            return new GenericPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, GenericPlayFabIdPair value) throws IOException {
+            writeField(out, "GenericId", value.GenericId, genericServiceIdAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GenericPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GenericServiceIdAdapter extends PlayFabModelAdapter<GenericServiceId> {
+        GenericServiceIdAdapter(Gson gson) {
+        }
+
+        protected GenericServiceId newInstance() {
+            return new GenericServiceId();
+        }
+
+        protected void writeFields(JsonWriter out, GenericServiceId value) throws IOException {
+            writeField(out, "ServiceName", value.ServiceName);
+            writeField(out, "UserId", value.UserId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GenericServiceId value) throws IOException {
+            switch (name) {
+                case "ServiceName": value.ServiceName = readString(in); return true;
+                case "UserId": value.UserId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAccountInfoRequestAdapter extends PlayFabModelAdapter<GetAccountInfoRequest> {
+        GetAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        protected GetAccountInfoRequest newInstance() {
+            return new GetAccountInfoRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetAccountInfoRequest value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TitleDisplayName", value.TitleDisplayName);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAccountInfoRequest value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TitleDisplayName": value.TitleDisplayName = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAccountInfoResultAdapter extends PlayFabModelAdapter<GetAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        GetAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        protected GetAccountInfoResult newInstance() {
+            return new GetAccountInfoResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetAccountInfoResult value) throws IOException {
+            writeField(out, "AccountInfo", value.AccountInfo, userAccountInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAccountInfoResult value) throws IOException {
+            switch (name) {
+                case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAdPlacementsRequestAdapter extends PlayFabModelAdapter<GetAdPlacementsRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        GetAdPlacementsRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected GetAdPlacementsRequest newInstance() {
+            return new GetAdPlacementsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetAdPlacementsRequest value) throws IOException {
+            writeField(out, "AppId", value.AppId);
+            writeField(out, "Identifier", value.Identifier, nameIdentifierAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAdPlacementsRequest value) throws IOException {
+            switch (name) {
+                case "AppId": value.AppId = readString(in); return true;
+                case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAdPlacementsResultAdapter extends PlayFabModelAdapter<GetAdPlacementsResult> {
+        private final TypeAdapter<ArrayList<AdPlacementDetails>> adPlacementDetailsListAdapter;
+
+        GetAdPlacementsResultAdapter(Gson gson) {
+            adPlacementDetailsListAdapter = listAdapter(gson, AdPlacementDetails.class);
+        }
+
+        protected GetAdPlacementsResult newInstance() {
+            return new GetAdPlacementsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetAdPlacementsResult value) throws IOException {
+            writeField(out, "AdPlacements", value.AdPlacements, adPlacementDetailsListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAdPlacementsResult value) throws IOException {
+            switch (name) {
+                case "AdPlacements": value.AdPlacements = adPlacementDetailsListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogItemsRequestAdapter extends PlayFabModelAdapter<GetCatalogItemsRequest> {
+        GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        protected GetCatalogItemsRequest newInstance() {
+            return new GetCatalogItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogItemsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogItemsResultAdapter extends PlayFabModelAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetCatalogItemsResult newInstance() {
+            return new GetCatalogItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            writeField(out, "Catalog", value.Catalog, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogItemsResult value) throws IOException {
+            switch (name) {
+                case "Catalog": value.Catalog = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterDataRequestAdapter extends PlayFabModelAdapter<GetCharacterDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetCharacterDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetCharacterDataRequest newInstance() {
+            return new GetCharacterDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterDataRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "IfChangedFromDataVersion", value.IfChangedFromDataVersion);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterDataRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = readLong(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterDataResultAdapter extends PlayFabModelAdapter<GetCharacterDataResult> {
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+
+        GetCharacterDataResultAdapter(Gson gson) {
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+        }
+
+        protected GetCharacterDataResult newInstance() {
+            return new GetCharacterDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterDataResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Data", value.Data, userDataRecordMapAdapter);
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterDataResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Data": value.Data = userDataRecordMapAdapter.read(in); return true;
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterInventoryRequestAdapter extends PlayFabModelAdapter<GetCharacterInventoryRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetCharacterInventoryRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetCharacterInventoryRequest newInstance() {
+            return new GetCharacterInventoryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterInventoryRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterInventoryRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterInventoryResultAdapter extends PlayFabModelAdapter<GetCharacterInventoryResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetCharacterInventoryResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetCharacterInventoryResult newInstance() {
+            return new GetCharacterInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterInventoryResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, integerMapAdapter);
+            writeField(out, "VirtualCurrencyRechargeTimes", value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterInventoryResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = integerMapAdapter.read(in); return true;
+                case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterLeaderboardRequestAdapter extends PlayFabModelAdapter<GetCharacterLeaderboardRequest> {
+        GetCharacterLeaderboardRequestAdapter(Gson gson) {
+        }
+
+        protected GetCharacterLeaderboardRequest newInstance() {
+            return new GetCharacterLeaderboardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterLeaderboardRequest value) throws IOException {
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "StartPosition", value.StartPosition);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterLeaderboardRequest value) throws IOException {
+            switch (name) {
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "StartPosition": value.StartPosition = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterLeaderboardResultAdapter extends PlayFabModelAdapter<GetCharacterLeaderboardResult> {
+        private final TypeAdapter<ArrayList<CharacterLeaderboardEntry>> characterLeaderboardEntryListAdapter;
+
+        GetCharacterLeaderboardResultAdapter(Gson gson) {
+            characterLeaderboardEntryListAdapter = listAdapter(gson, CharacterLeaderboardEntry.class);
+        }
+
+        protected GetCharacterLeaderboardResult newInstance() {
+            return new GetCharacterLeaderboardResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterLeaderboardResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, characterLeaderboardEntryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterLeaderboardResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = characterLeaderboardEntryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterStatisticsRequestAdapter extends PlayFabModelAdapter<GetCharacterStatisticsRequest> {
+        GetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        protected GetCharacterStatisticsRequest newInstance() {
+            return new GetCharacterStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterStatisticsRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterStatisticsResultAdapter extends PlayFabModelAdapter<GetCharacterStatisticsResult> {
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+
+        GetCharacterStatisticsResultAdapter(Gson gson) {
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+        }
+
+        protected GetCharacterStatisticsResult newInstance() {
+            return new GetCharacterStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterStatisticsResult value) throws IOException {
+            writeField(out, "CharacterStatistics", value.CharacterStatistics, integerMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterStatisticsResult value) throws IOException {
+            switch (name) {
+                case "CharacterStatistics": value.CharacterStatistics = integerMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentDownloadUrlRequestAdapter extends PlayFabModelAdapter<GetContentDownloadUrlRequest> {
+        GetContentDownloadUrlRequestAdapter(Gson gson) {
+        }
+
+        protected GetContentDownloadUrlRequest newInstance() {
+            return new GetContentDownloadUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentDownloadUrlRequest value) throws IOException {
+            writeField(out, "HttpMethod", value.HttpMethod);
+            writeField(out, "Key", value.Key);
+            writeField(out, "ThruCDN", value.ThruCDN);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentDownloadUrlRequest value) throws IOException {
+            switch (name) {
+                case "HttpMethod": value.HttpMethod = readString(in); return true;
+                case "Key": value.Key = readString(in); return true;
+                case "ThruCDN": value.ThruCDN = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentDownloadUrlResultAdapter extends PlayFabModelAdapter<GetContentDownloadUrlResult> {
+        GetContentDownloadUrlResultAdapter(Gson gson) {
+        }
+
+        protected GetContentDownloadUrlResult newInstance() {
+            return new GetContentDownloadUrlResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentDownloadUrlResult value) throws IOException {
+            writeField(out, "URL", value.URL);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentDownloadUrlResult value) throws IOException {
+            switch (name) {
+                case "URL": value.URL = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendLeaderboardAroundPlayerRequestAdapter extends PlayFabModelAdapter<GetFriendLeaderboardAroundPlayerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExternalFriendSources> externalFriendSourcesAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendLeaderboardAroundPlayerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            externalFriendSourcesAdapter = gson.getAdapter(ExternalFriendSources.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetFriendLeaderboardAroundPlayerRequest newInstance() {
+            return new GetFriendLeaderboardAroundPlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendLeaderboardAroundPlayerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExternalPlatformFriends", value.ExternalPlatformFriends, externalFriendSourcesAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendLeaderboardAroundPlayerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExternalPlatformFriends": value.ExternalPlatformFriends = externalFriendSourcesAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendLeaderboardAroundPlayerResultAdapter extends PlayFabModelAdapter<GetFriendLeaderboardAroundPlayerResult> {
+        private final TypeAdapter<ArrayList<PlayerLeaderboardEntry>> playerLeaderboardEntryListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetFriendLeaderboardAroundPlayerResultAdapter(Gson gson) {
+            playerLeaderboardEntryListAdapter = listAdapter(gson, PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetFriendLeaderboardAroundPlayerResult newInstance() {
+            return new GetFriendLeaderboardAroundPlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendLeaderboardAroundPlayerResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, playerLeaderboardEntryListAdapter);
+            writeField(out, "NextReset", value.NextReset, dateAdapter);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendLeaderboardAroundPlayerResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = playerLeaderboardEntryListAdapter.read(in); return true;
+                case "NextReset": value.NextReset = dateAdapter.read(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendLeaderboardRequestAdapter extends PlayFabModelAdapter<GetFriendLeaderboardRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExternalFriendSources> externalFriendSourcesAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendLeaderboardRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            externalFriendSourcesAdapter = gson.getAdapter(ExternalFriendSources.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetFriendLeaderboardRequest newInstance() {
+            return new GetFriendLeaderboardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendLeaderboardRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExternalPlatformFriends", value.ExternalPlatformFriends, externalFriendSourcesAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StartPosition", value.StartPosition);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendLeaderboardRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExternalPlatformFriends": value.ExternalPlatformFriends = externalFriendSourcesAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StartPosition": value.StartPosition = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendsListRequestAdapter extends PlayFabModelAdapter<GetFriendsListRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExternalFriendSources> externalFriendSourcesAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendsListRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            externalFriendSourcesAdapter = gson.getAdapter(ExternalFriendSources.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetFriendsListRequest newInstance() {
+            return new GetFriendsListRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendsListRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExternalPlatformFriends", value.ExternalPlatformFriends, externalFriendSourcesAdapter);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendsListRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExternalPlatformFriends": value.ExternalPlatformFriends = externalFriendSourcesAdapter.read(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendsListResultAdapter extends PlayFabModelAdapter<GetFriendsListResult> {
+        private final TypeAdapter<ArrayList<FriendInfo>> friendInfoListAdapter;
+
+        GetFriendsListResultAdapter(Gson gson) {
+            friendInfoListAdapter = listAdapter(gson, FriendInfo.class);
+        }
+
+        protected GetFriendsListResult newInstance() {
+            return new GetFriendsListResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendsListResult value) throws IOException {
+            writeField(out, "Friends", value.Friends, friendInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendsListResult value) throws IOException {
+            switch (name) {
+                case "Friends": value.Friends = friendInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterRequestAdapter extends PlayFabModelAdapter<GetLeaderboardAroundCharacterRequest> {
+        GetLeaderboardAroundCharacterRequestAdapter(Gson gson) {
+        }
+
+        protected GetLeaderboardAroundCharacterRequest newInstance() {
+            return new GetLeaderboardAroundCharacterRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterResultAdapter extends PlayFabModelAdapter<GetLeaderboardAroundCharacterResult> {
+        private final TypeAdapter<ArrayList<CharacterLeaderboardEntry>> characterLeaderboardEntryListAdapter;
+
+        GetLeaderboardAroundCharacterResultAdapter(Gson gson) {
+            characterLeaderboardEntryListAdapter = listAdapter(gson, CharacterLeaderboardEntry.class);
+        }
+
+        protected GetLeaderboardAroundCharacterResult newInstance() {
+            return new GetLeaderboardAroundCharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundCharacterResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, characterLeaderboardEntryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundCharacterResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = characterLeaderboardEntryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundPlayerRequestAdapter extends PlayFabModelAdapter<GetLeaderboardAroundPlayerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardAroundPlayerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetLeaderboardAroundPlayerRequest newInstance() {
+            return new GetLeaderboardAroundPlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundPlayerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundPlayerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundPlayerResultAdapter extends PlayFabModelAdapter<GetLeaderboardAroundPlayerResult> {
+        private final TypeAdapter<ArrayList<PlayerLeaderboardEntry>> playerLeaderboardEntryListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardAroundPlayerResultAdapter(Gson gson) {
+            playerLeaderboardEntryListAdapter = listAdapter(gson, PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetLeaderboardAroundPlayerResult newInstance() {
+            return new GetLeaderboardAroundPlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundPlayerResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, playerLeaderboardEntryListAdapter);
+            writeField(out, "NextReset", value.NextReset, dateAdapter);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundPlayerResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = playerLeaderboardEntryListAdapter.read(in); return true;
+                case "NextReset": value.NextReset = dateAdapter.read(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersRequestAdapter extends PlayFabModelAdapter<GetLeaderboardForUsersCharactersRequest> {
+        GetLeaderboardForUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        protected GetLeaderboardForUsersCharactersRequest newInstance() {
+            return new GetLeaderboardForUsersCharactersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersResultAdapter extends PlayFabModelAdapter<GetLeaderboardForUsersCharactersResult> {
+        private final TypeAdapter<ArrayList<CharacterLeaderboardEntry>> characterLeaderboardEntryListAdapter;
+
+        GetLeaderboardForUsersCharactersResultAdapter(Gson gson) {
+            characterLeaderboardEntryListAdapter = listAdapter(gson, CharacterLeaderboardEntry.class);
+        }
+
+        protected GetLeaderboardForUsersCharactersResult newInstance() {
+            return new GetLeaderboardForUsersCharactersResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, characterLeaderboardEntryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = characterLeaderboardEntryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardRequestAdapter extends PlayFabModelAdapter<GetLeaderboardRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetLeaderboardRequest newInstance() {
+            return new GetLeaderboardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StartPosition", value.StartPosition);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StartPosition": value.StartPosition = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardResultAdapter extends PlayFabModelAdapter<GetLeaderboardResult> {
+        private final TypeAdapter<ArrayList<PlayerLeaderboardEntry>> playerLeaderboardEntryListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardResultAdapter(Gson gson) {
+            playerLeaderboardEntryListAdapter = listAdapter(gson, PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetLeaderboardResult newInstance() {
+            return new GetLeaderboardResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, playerLeaderboardEntryListAdapter);
+            writeField(out, "NextReset", value.NextReset, dateAdapter);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = playerLeaderboardEntryListAdapter.read(in); return true;
+                case "NextReset": value.NextReset = dateAdapter.read(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPaymentTokenRequestAdapter extends PlayFabModelAdapter<GetPaymentTokenRequest> {
+        GetPaymentTokenRequestAdapter(Gson gson) {
+        }
+
+        protected GetPaymentTokenRequest newInstance() {
+            return new GetPaymentTokenRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPaymentTokenRequest value) throws IOException {
+            writeField(out, "TokenProvider", value.TokenProvider);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPaymentTokenRequest value) throws IOException {
+            switch (name) {
+                case "TokenProvider": value.TokenProvider = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPaymentTokenResultAdapter extends PlayFabModelAdapter<GetPaymentTokenResult> {
+        GetPaymentTokenResultAdapter(Gson gson) {
+        }
+
+        protected GetPaymentTokenResult newInstance() {
+            return new GetPaymentTokenResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPaymentTokenResult value) throws IOException {
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "ProviderToken", value.ProviderToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPaymentTokenResult value) throws IOException {
+            switch (name) {
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "ProviderToken": value.ProviderToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPhotonAuthenticationTokenRequestAdapter extends PlayFabModelAdapter<GetPhotonAuthenticationTokenRequest> {
+        GetPhotonAuthenticationTokenRequestAdapter(Gson gson) {
+        }
+
+        protected GetPhotonAuthenticationTokenRequest newInstance() {
+            return new GetPhotonAuthenticationTokenRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPhotonAuthenticationTokenRequest value) throws IOException {
+            writeField(out, "PhotonApplicationId", value.PhotonApplicationId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPhotonAuthenticationTokenRequest value) throws IOException {
+            switch (name) {
+                case "PhotonApplicationId": value.PhotonApplicationId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPhotonAuthenticationTokenResultAdapter extends PlayFabModelAdapter<GetPhotonAuthenticationTokenResult> {
+        GetPhotonAuthenticationTokenResultAdapter(Gson gson) {
+        }
+
+        protected GetPhotonAuthenticationTokenResult newInstance() {
+            return new GetPhotonAuthenticationTokenResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPhotonAuthenticationTokenResult value) throws IOException {
+            writeField(out, "PhotonCustomAuthenticationToken", value.PhotonCustomAuthenticationToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPhotonAuthenticationTokenResult value) throws IOException {
+            switch (name) {
+                case "PhotonCustomAuthenticationToken": value.PhotonCustomAuthenticationToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        GetPlayerCombinedInfoRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected GetPlayerCombinedInfoRequest newInstance() {
+            return new GetPlayerCombinedInfoRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestParamsAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoRequestParams> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerCombinedInfoRequestParamsAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetPlayerCombinedInfoRequestParams newInstance() {
+            return new GetPlayerCombinedInfoRequestParams();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            writeField(out, "GetCharacterInventories", value.GetCharacterInventories);
+            writeField(out, "GetCharacterList", value.GetCharacterList);
+            writeField(out, "GetPlayerProfile", value.GetPlayerProfile);
+            writeField(out, "GetPlayerStatistics", value.GetPlayerStatistics);
+            writeField(out, "GetTitleData", value.GetTitleData);
+            writeField(out, "GetUserAccountInfo", value.GetUserAccountInfo);
+            writeField(out, "GetUserData", value.GetUserData);
+            writeField(out, "GetUserInventory", value.GetUserInventory);
+            writeField(out, "GetUserReadOnlyData", value.GetUserReadOnlyData);
+            writeField(out, "GetUserVirtualCurrency", value.GetUserVirtualCurrency);
+            writeField(out, "PlayerStatisticNames", value.PlayerStatisticNames, stringListAdapter);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "TitleDataKeys", value.TitleDataKeys, stringListAdapter);
+            writeField(out, "UserDataKeys", value.UserDataKeys, stringListAdapter);
+            writeField(out, "UserReadOnlyDataKeys", value.UserReadOnlyDataKeys, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            switch (name) {
+                case "GetCharacterInventories": value.GetCharacterInventories = readBoolean(in); return true;
+                case "GetCharacterList": value.GetCharacterList = readBoolean(in); return true;
+                case "GetPlayerProfile": value.GetPlayerProfile = readBoolean(in); return true;
+                case "GetPlayerStatistics": value.GetPlayerStatistics = readBoolean(in); return true;
+                case "GetTitleData": value.GetTitleData = readBoolean(in); return true;
+                case "GetUserAccountInfo": value.GetUserAccountInfo = readBoolean(in); return true;
+                case "GetUserData": value.GetUserData = readBoolean(in); return true;
+                case "GetUserInventory": value.GetUserInventory = readBoolean(in); return true;
+                case "GetUserReadOnlyData": value.GetUserReadOnlyData = readBoolean(in); return true;
+                case "GetUserVirtualCurrency": value.GetUserVirtualCurrency = readBoolean(in); return true;
+                case "PlayerStatisticNames": value.PlayerStatisticNames = stringListAdapter.read(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "TitleDataKeys": value.TitleDataKeys = stringListAdapter.read(in); return true;
+                case "UserDataKeys": value.UserDataKeys = stringListAdapter.read(in); return true;
+                case "UserReadOnlyDataKeys": value.UserReadOnlyDataKeys = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoResult> {
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+
+        GetPlayerCombinedInfoResultAdapter(Gson gson) {
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+        }
+
+        protected GetPlayerCombinedInfoResult newInstance() {
+            return new GetPlayerCombinedInfoResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoResult value) throws IOException {
+            writeField(out, "InfoResultPayload", value.InfoResultPayload, getPlayerCombinedInfoResultPayloadAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoResult value) throws IOException {
+            switch (name) {
+                case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultPayloadAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoResultPayload> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+        private final TypeAdapter<ArrayList<CharacterInventory>> characterInventoryListAdapter;
+        private final TypeAdapter<ArrayList<CharacterResult>> characterResultListAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<ArrayList<StatisticValue>> statisticValueListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetPlayerCombinedInfoResultPayloadAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+            characterInventoryListAdapter = listAdapter(gson, CharacterInventory.class);
+            characterResultListAdapter = listAdapter(gson, CharacterResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            statisticValueListAdapter = listAdapter(gson, StatisticValue.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetPlayerCombinedInfoResultPayload newInstance() {
+            return new GetPlayerCombinedInfoResultPayload();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            writeField(out, "AccountInfo", value.AccountInfo, userAccountInfoAdapter);
+            writeField(out, "CharacterInventories", value.CharacterInventories, characterInventoryListAdapter);
+            writeField(out, "CharacterList", value.CharacterList, characterResultListAdapter);
+            writeField(out, "PlayerProfile", value.PlayerProfile, playerProfileModelAdapter);
+            writeField(out, "PlayerStatistics", value.PlayerStatistics, statisticValueListAdapter);
+            writeField(out, "TitleData", value.TitleData, stringMapAdapter);
+            writeField(out, "UserData", value.UserData, userDataRecordMapAdapter);
+            writeField(out, "UserDataVersion", value.UserDataVersion);
+            writeField(out, "UserInventory", value.UserInventory, itemInstanceListAdapter);
+            writeField(out, "UserReadOnlyData", value.UserReadOnlyData, userDataRecordMapAdapter);
+            writeField(out, "UserReadOnlyDataVersion", value.UserReadOnlyDataVersion);
+            writeField(out, "UserVirtualCurrency", value.UserVirtualCurrency, integerMapAdapter);
+            writeField(out, "UserVirtualCurrencyRechargeTimes", value.UserVirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            switch (name) {
+                case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); return true;
+                case "CharacterInventories": value.CharacterInventories = characterInventoryListAdapter.read(in); return true;
+                case "CharacterList": value.CharacterList = characterResultListAdapter.read(in); return true;
+                case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); return true;
+                case "PlayerStatistics": value.PlayerStatistics = statisticValueListAdapter.read(in); return true;
+                case "TitleData": value.TitleData = stringMapAdapter.read(in); return true;
+                case "UserData": value.UserData = userDataRecordMapAdapter.read(in); return true;
+                case "UserDataVersion": value.UserDataVersion = readLong(in); return true;
+                case "UserInventory": value.UserInventory = itemInstanceListAdapter.read(in); return true;
+                case "UserReadOnlyData": value.UserReadOnlyData = userDataRecordMapAdapter.read(in); return true;
+                case "UserReadOnlyDataVersion": value.UserReadOnlyDataVersion = readLong(in); return true;
+                case "UserVirtualCurrency": value.UserVirtualCurrency = integerMapAdapter.read(in); return true;
+                case "UserVirtualCurrencyRechargeTimes": value.UserVirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerProfileRequestAdapter extends PlayFabModelAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerProfileRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetPlayerProfileRequest newInstance() {
+            return new GetPlayerProfileRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerProfileRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerProfileResultAdapter extends PlayFabModelAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        protected GetPlayerProfileResult newInstance() {
+            return new GetPlayerProfileResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            writeField(out, "PlayerProfile", value.PlayerProfile, playerProfileModelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerProfileResult value) throws IOException {
+            switch (name) {
+                case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerSegmentsRequestAdapter extends PlayFabModelAdapter<GetPlayerSegmentsRequest> {
+        GetPlayerSegmentsRequestAdapter(Gson gson) {
+        }
+
+        protected GetPlayerSegmentsRequest newInstance() {
+            return new GetPlayerSegmentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerSegmentsRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerSegmentsRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerSegmentsResultAdapter extends PlayFabModelAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<ArrayList<GetSegmentResult>> getSegmentResultListAdapter;
+
+        GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultListAdapter = listAdapter(gson, GetSegmentResult.class);
+        }
+
+        protected GetPlayerSegmentsResult newInstance() {
+            return new GetPlayerSegmentsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            writeField(out, "Segments", value.Segments, getSegmentResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerSegmentsResult value) throws IOException {
+            switch (name) {
+                case "Segments": value.Segments = getSegmentResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticsRequestAdapter extends PlayFabModelAdapter<GetPlayerStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<StatisticNameVersion>> statisticNameVersionListAdapter;
+
+        GetPlayerStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            statisticNameVersionListAdapter = listAdapter(gson, StatisticNameVersion.class);
+        }
+
+        protected GetPlayerStatisticsRequest newInstance() {
+            return new GetPlayerStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StatisticNames", value.StatisticNames, stringListAdapter);
+            writeField(out, "StatisticNameVersions", value.StatisticNameVersions, statisticNameVersionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StatisticNames": value.StatisticNames = stringListAdapter.read(in); return true;
+                case "StatisticNameVersions": value.StatisticNameVersions = statisticNameVersionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticsResultAdapter extends PlayFabModelAdapter<GetPlayerStatisticsResult> {
+        private final TypeAdapter<ArrayList<StatisticValue>> statisticValueListAdapter;
+
+        GetPlayerStatisticsResultAdapter(Gson gson) {
+            statisticValueListAdapter = listAdapter(gson, StatisticValue.class);
+        }
+
+        protected GetPlayerStatisticsResult newInstance() {
+            return new GetPlayerStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticsResult value) throws IOException {
+            writeField(out, "Statistics", value.Statistics, statisticValueListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticsResult value) throws IOException {
+            switch (name) {
+                case "Statistics": value.Statistics = statisticValueListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsRequestAdapter extends PlayFabModelAdapter<GetPlayerStatisticVersionsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayerStatisticVersionsRequest newInstance() {
+            return new GetPlayerStatisticVersionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticVersionsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsResultAdapter extends PlayFabModelAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<ArrayList<PlayerStatisticVersion>> playerStatisticVersionListAdapter;
+
+        GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionListAdapter = listAdapter(gson, PlayerStatisticVersion.class);
+        }
+
+        protected GetPlayerStatisticVersionsResult newInstance() {
+            return new GetPlayerStatisticVersionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            writeField(out, "StatisticVersions", value.StatisticVersions, playerStatisticVersionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticVersionsResult value) throws IOException {
+            switch (name) {
+                case "StatisticVersions": value.StatisticVersions = playerStatisticVersionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTagsRequestAdapter extends PlayFabModelAdapter<GetPlayerTagsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayerTagsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayerTagsRequest newInstance() {
+            return new GetPlayerTagsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Namespace", value.Namespace);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTagsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Namespace": value.Namespace = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTagsResultAdapter extends PlayFabModelAdapter<GetPlayerTagsResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayerTagsResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayerTagsResult newInstance() {
+            return new GetPlayerTagsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTagsResult value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTradesRequestAdapter extends PlayFabModelAdapter<GetPlayerTradesRequest> {
+        private final TypeAdapter<TradeStatus> tradeStatusAdapter;
+
+        GetPlayerTradesRequestAdapter(Gson gson) {
+            tradeStatusAdapter = gson.getAdapter(TradeStatus.class);
+        }
+
+        protected GetPlayerTradesRequest newInstance() {
+            return new GetPlayerTradesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTradesRequest value) throws IOException {
+            writeField(out, "StatusFilter", value.StatusFilter, tradeStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTradesRequest value) throws IOException {
+            switch (name) {
+                case "StatusFilter": value.StatusFilter = tradeStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTradesResponseAdapter extends PlayFabModelAdapter<GetPlayerTradesResponse> {
+        private final TypeAdapter<ArrayList<TradeInfo>> tradeInfoListAdapter;
+
+        GetPlayerTradesResponseAdapter(Gson gson) {
+            tradeInfoListAdapter = listAdapter(gson, TradeInfo.class);
+        }
+
+        protected GetPlayerTradesResponse newInstance() {
+            return new GetPlayerTradesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTradesResponse value) throws IOException {
+            writeField(out, "AcceptedTrades", value.AcceptedTrades, tradeInfoListAdapter);
+            writeField(out, "OpenedTrades", value.OpenedTrades, tradeInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTradesResponse value) throws IOException {
+            switch (name) {
+                case "AcceptedTrades": value.AcceptedTrades = tradeInfoListAdapter.read(in); return true;
+                case "OpenedTrades": value.OpenedTrades = tradeInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromFacebookIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookIDsRequest newInstance() {
+            return new GetPlayFabIDsFromFacebookIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            writeField(out, "FacebookIDs", value.FacebookIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            switch (name) {
+                case "FacebookIDs": value.FacebookIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookIDsResult> {
+        private final TypeAdapter<ArrayList<FacebookPlayFabIdPair>> facebookPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromFacebookIDsResultAdapter(Gson gson) {
+            facebookPlayFabIdPairListAdapter = listAdapter(gson, FacebookPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookIDsResult newInstance() {
+            return new GetPlayFabIDsFromFacebookIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, facebookPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = facebookPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookInstantGamesIdsRequest newInstance() {
+            return new GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            writeField(out, "FacebookInstantGamesIds", value.FacebookInstantGamesIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesIds": value.FacebookInstantGamesIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsResult> {
+        private final TypeAdapter<ArrayList<FacebookInstantGamesPlayFabIdPair>> facebookInstantGamesPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(Gson gson) {
+            facebookInstantGamesPlayFabIdPairListAdapter = listAdapter(gson, FacebookInstantGamesPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookInstantGamesIdsResult newInstance() {
+            return new GetPlayFabIDsFromFacebookInstantGamesIdsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            writeField(out, "Data", value.Data, facebookInstantGamesPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = facebookInstantGamesPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGameCenterIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGameCenterIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromGameCenterIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromGameCenterIDsRequest newInstance() {
+            return new GetPlayFabIDsFromGameCenterIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGameCenterIDsRequest value) throws IOException {
+            writeField(out, "GameCenterIDs", value.GameCenterIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGameCenterIDsRequest value) throws IOException {
+            switch (name) {
+                case "GameCenterIDs": value.GameCenterIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGameCenterIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGameCenterIDsResult> {
+        private final TypeAdapter<ArrayList<GameCenterPlayFabIdPair>> gameCenterPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromGameCenterIDsResultAdapter(Gson gson) {
+            gameCenterPlayFabIdPairListAdapter = listAdapter(gson, GameCenterPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromGameCenterIDsResult newInstance() {
+            return new GetPlayFabIDsFromGameCenterIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGameCenterIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, gameCenterPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGameCenterIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = gameCenterPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGenericIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGenericIDsRequest> {
+        private final TypeAdapter<ArrayList<GenericServiceId>> genericServiceIdListAdapter;
+
+        GetPlayFabIDsFromGenericIDsRequestAdapter(Gson gson) {
+            genericServiceIdListAdapter = listAdapter(gson, GenericServiceId.class);
+        }
+
+        protected GetPlayFabIDsFromGenericIDsRequest newInstance() {
+            return new GetPlayFabIDsFromGenericIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            writeField(out, "GenericIDs", value.GenericIDs, genericServiceIdListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            switch (name) {
+                case "GenericIDs": value.GenericIDs = genericServiceIdListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGenericIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGenericIDsResult> {
+        private final TypeAdapter<ArrayList<GenericPlayFabIdPair>> genericPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromGenericIDsResultAdapter(Gson gson) {
+            genericPlayFabIdPairListAdapter = listAdapter(gson, GenericPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromGenericIDsResult newInstance() {
+            return new GetPlayFabIDsFromGenericIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, genericPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = genericPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGoogleIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGoogleIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromGoogleIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromGoogleIDsRequest newInstance() {
+            return new GetPlayFabIDsFromGoogleIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGoogleIDsRequest value) throws IOException {
+            writeField(out, "GoogleIDs", value.GoogleIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGoogleIDsRequest value) throws IOException {
+            switch (name) {
+                case "GoogleIDs": value.GoogleIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGoogleIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGoogleIDsResult> {
+        private final TypeAdapter<ArrayList<GooglePlayFabIdPair>> googlePlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromGoogleIDsResultAdapter(Gson gson) {
+            googlePlayFabIdPairListAdapter = listAdapter(gson, GooglePlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromGoogleIDsResult newInstance() {
+            return new GetPlayFabIDsFromGoogleIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGoogleIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, googlePlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGoogleIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = googlePlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest newInstance() {
+            return new GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest value) throws IOException {
+            writeField(out, "GooglePlayGamesPlayerIDs", value.GooglePlayGamesPlayerIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGooglePlayGamesPlayerIDsRequest value) throws IOException {
+            switch (name) {
+                case "GooglePlayGamesPlayerIDs": value.GooglePlayGamesPlayerIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGooglePlayGamesPlayerIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult> {
+        private final TypeAdapter<ArrayList<GooglePlayGamesPlayFabIdPair>> googlePlayGamesPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromGooglePlayGamesPlayerIDsResultAdapter(Gson gson) {
+            googlePlayGamesPlayFabIdPairListAdapter = listAdapter(gson, GooglePlayGamesPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult newInstance() {
+            return new GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, googlePlayGamesPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGooglePlayGamesPlayerIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = googlePlayGamesPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromKongregateIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromKongregateIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromKongregateIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromKongregateIDsRequest newInstance() {
+            return new GetPlayFabIDsFromKongregateIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromKongregateIDsRequest value) throws IOException {
+            writeField(out, "KongregateIDs", value.KongregateIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromKongregateIDsRequest value) throws IOException {
+            switch (name) {
+                case "KongregateIDs": value.KongregateIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromKongregateIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromKongregateIDsResult> {
+        private final TypeAdapter<ArrayList<KongregatePlayFabIdPair>> kongregatePlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromKongregateIDsResultAdapter(Gson gson) {
+            kongregatePlayFabIdPairListAdapter = listAdapter(gson, KongregatePlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromKongregateIDsResult newInstance() {
+            return new GetPlayFabIDsFromKongregateIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromKongregateIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, kongregatePlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromKongregateIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = kongregatePlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoServiceAccountIdsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoServiceAccountIdsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromNintendoServiceAccountIdsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoServiceAccountIdsRequest newInstance() {
+            return new GetPlayFabIDsFromNintendoServiceAccountIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoServiceAccountIdsRequest value) throws IOException {
+            writeField(out, "NintendoAccountIds", value.NintendoAccountIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoServiceAccountIdsRequest value) throws IOException {
+            switch (name) {
+                case "NintendoAccountIds": value.NintendoAccountIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoServiceAccountIdsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoServiceAccountIdsResult> {
+        private final TypeAdapter<ArrayList<NintendoServiceAccountPlayFabIdPair>> nintendoServiceAccountPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromNintendoServiceAccountIdsResultAdapter(Gson gson) {
+            nintendoServiceAccountPlayFabIdPairListAdapter = listAdapter(gson, NintendoServiceAccountPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoServiceAccountIdsResult newInstance() {
+            return new GetPlayFabIDsFromNintendoServiceAccountIdsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoServiceAccountIdsResult value) throws IOException {
+            writeField(out, "Data", value.Data, nintendoServiceAccountPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoServiceAccountIdsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = nintendoServiceAccountPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest newInstance() {
+            return new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceIds", value.NintendoSwitchDeviceIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceIds": value.NintendoSwitchDeviceIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> {
+        private final TypeAdapter<ArrayList<NintendoSwitchPlayFabIdPair>> nintendoSwitchPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(Gson gson) {
+            nintendoSwitchPlayFabIdPairListAdapter = listAdapter(gson, NintendoSwitchPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoSwitchDeviceIdsResult newInstance() {
+            return new GetPlayFabIDsFromNintendoSwitchDeviceIdsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            writeField(out, "Data", value.Data, nintendoSwitchPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = nintendoSwitchPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromPSNAccountIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromPSNAccountIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromPSNAccountIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromPSNAccountIDsRequest newInstance() {
+            return new GetPlayFabIDsFromPSNAccountIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsRequest value) throws IOException {
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "PSNAccountIDs", value.PSNAccountIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromPSNAccountIDsRequest value) throws IOException {
+            switch (name) {
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "PSNAccountIDs": value.PSNAccountIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromPSNAccountIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromPSNAccountIDsResult> {
+        private final TypeAdapter<ArrayList<PSNAccountPlayFabIdPair>> pSNAccountPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromPSNAccountIDsResultAdapter(Gson gson) {
+            pSNAccountPlayFabIdPairListAdapter = listAdapter(gson, PSNAccountPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromPSNAccountIDsResult newInstance() {
+            return new GetPlayFabIDsFromPSNAccountIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, pSNAccountPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromPSNAccountIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = pSNAccountPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromSteamIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromSteamIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromSteamIDsRequest newInstance() {
+            return new GetPlayFabIDsFromSteamIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            writeField(out, "SteamStringIDs", value.SteamStringIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            switch (name) {
+                case "SteamStringIDs": value.SteamStringIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromSteamIDsResult> {
+        private final TypeAdapter<ArrayList<SteamPlayFabIdPair>> steamPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromSteamIDsResultAdapter(Gson gson) {
+            steamPlayFabIdPairListAdapter = listAdapter(gson, SteamPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromSteamIDsResult newInstance() {
+            return new GetPlayFabIDsFromSteamIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, steamPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = steamPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromTwitchIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromTwitchIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromTwitchIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromTwitchIDsRequest newInstance() {
+            return new GetPlayFabIDsFromTwitchIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromTwitchIDsRequest value) throws IOException {
+            writeField(out, "TwitchIds", value.TwitchIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromTwitchIDsRequest value) throws IOException {
+            switch (name) {
+                case "TwitchIds": value.TwitchIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromTwitchIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromTwitchIDsResult> {
+        private final TypeAdapter<ArrayList<TwitchPlayFabIdPair>> twitchPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromTwitchIDsResultAdapter(Gson gson) {
+            twitchPlayFabIdPairListAdapter = listAdapter(gson, TwitchPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromTwitchIDsResult newInstance() {
+            return new GetPlayFabIDsFromTwitchIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromTwitchIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, twitchPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromTwitchIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = twitchPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromXboxLiveIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromXboxLiveIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromXboxLiveIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromXboxLiveIDsRequest newInstance() {
+            return new GetPlayFabIDsFromXboxLiveIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsRequest value) throws IOException {
+            writeField(out, "Sandbox", value.Sandbox);
+            writeField(out, "XboxLiveAccountIDs", value.XboxLiveAccountIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromXboxLiveIDsRequest value) throws IOException {
+            switch (name) {
+                case "Sandbox": value.Sandbox = readString(in); return true;
+                case "XboxLiveAccountIDs": value.XboxLiveAccountIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromXboxLiveIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromXboxLiveIDsResult> {
+        private final TypeAdapter<ArrayList<XboxLiveAccountPlayFabIdPair>> xboxLiveAccountPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromXboxLiveIDsResultAdapter(Gson gson) {
+            xboxLiveAccountPlayFabIdPairListAdapter = listAdapter(gson, XboxLiveAccountPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromXboxLiveIDsResult newInstance() {
+            return new GetPlayFabIDsFromXboxLiveIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, xboxLiveAccountPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromXboxLiveIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = xboxLiveAccountPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPublisherDataRequestAdapter extends PlayFabModelAdapter<GetPublisherDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPublisherDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPublisherDataRequest newInstance() {
+            return new GetPublisherDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPublisherDataRequest value) throws IOException {
+            switch (name) {
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPublisherDataResultAdapter extends PlayFabModelAdapter<GetPublisherDataResult> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPublisherDataResultAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPublisherDataResult newInstance() {
+            return new GetPublisherDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPublisherDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPurchaseRequestAdapter extends PlayFabModelAdapter<GetPurchaseRequest> {
+        GetPurchaseRequestAdapter(Gson gson) {
+        }
+
+        protected GetPurchaseRequest newInstance() {
+            return new GetPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPurchaseRequest value) throws IOException {
+            writeField(out, "OrderId", value.OrderId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "OrderId": value.OrderId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPurchaseResultAdapter extends PlayFabModelAdapter<GetPurchaseResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetPurchaseResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetPurchaseResult newInstance() {
+            return new GetPurchaseResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPurchaseResult value) throws IOException {
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "PaymentProvider", value.PaymentProvider);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+            writeField(out, "TransactionId", value.TransactionId);
+            writeField(out, "TransactionStatus", value.TransactionStatus);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPurchaseResult value) throws IOException {
+            switch (name) {
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "PaymentProvider": value.PaymentProvider = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                case "TransactionId": value.TransactionId = readString(in); return true;
+                case "TransactionStatus": value.TransactionStatus = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSegmentResultAdapter extends PlayFabModelAdapter<GetSegmentResult> {
+        GetSegmentResultAdapter(Gson gson) {
+        }
+
+        protected GetSegmentResult newInstance() {
+            return new GetSegmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetSegmentResult value) throws IOException {
+            writeField(out, "ABTestParent", value.ABTestParent);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSegmentResult value) throws IOException {
+            switch (name) {
+                case "ABTestParent": value.ABTestParent = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSharedGroupDataRequestAdapter extends PlayFabModelAdapter<GetSharedGroupDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetSharedGroupDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetSharedGroupDataRequest newInstance() {
+            return new GetSharedGroupDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetSharedGroupDataRequest value) throws IOException {
+            writeField(out, "GetMembers", value.GetMembers);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSharedGroupDataRequest value) throws IOException {
+            switch (name) {
+                case "GetMembers": value.GetMembers = readBoolean(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSharedGroupDataResultAdapter extends PlayFabModelAdapter<GetSharedGroupDataResult> {
+        private final TypeAdapter<Map<String, SharedGroupDataRecord>> sharedGroupDataRecordMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetSharedGroupDataResultAdapter(Gson gson) {
+            sharedGroupDataRecordMapAdapter = mapAdapter(gson, SharedGroupDataRecord.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetSharedGroupDataResult newInstance() {
+            return new GetSharedGroupDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetSharedGroupDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, sharedGroupDataRecordMapAdapter);
+            writeField(out, "Members", value.Members, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSharedGroupDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = sharedGroupDataRecordMapAdapter.read(in); return true;
+                case "Members": value.Members = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetStoreItemsRequestAdapter extends PlayFabModelAdapter<GetStoreItemsRequest> {
+        GetStoreItemsRequestAdapter(Gson gson) {
+        }
+
+        protected GetStoreItemsRequest newInstance() {
+            return new GetStoreItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetStoreItemsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetStoreItemsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetStoreItemsResultAdapter extends PlayFabModelAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<ArrayList<StoreItem>> storeItemListAdapter;
+
+        GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemListAdapter = listAdapter(gson, StoreItem.class);
+        }
+
+        protected GetStoreItemsResult newInstance() {
+            return new GetStoreItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "MarketingData", value.MarketingData, storeMarketingModelAdapter);
+            writeField(out, "Source", value.Source, sourceTypeAdapter);
+            writeField(out, "Store", value.Store, storeItemListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetStoreItemsResult value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); return true;
+                case "Source": value.Source = sourceTypeAdapter.read(in); return true;
+                case "Store": value.Store = storeItemListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTimeRequestAdapter extends PlayFabModelAdapter<GetTimeRequest> {
+        GetTimeRequestAdapter(Gson gson) {
+        }
+
+        protected GetTimeRequest newInstance() {
+            return new GetTimeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTimeRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTimeRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTimeResultAdapter extends PlayFabModelAdapter<GetTimeResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetTimeResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetTimeResult newInstance() {
+            return new GetTimeResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTimeResult value) throws IOException {
+            writeField(out, "Time", value.Time, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTimeResult value) throws IOException {
+            switch (name) {
+                case "Time": value.Time = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleDataRequestAdapter extends PlayFabModelAdapter<GetTitleDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetTitleDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetTitleDataRequest newInstance() {
+            return new GetTitleDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "OverrideLabel", value.OverrideLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleDataRequest value) throws IOException {
+            switch (name) {
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "OverrideLabel": value.OverrideLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleDataResultAdapter extends PlayFabModelAdapter<GetTitleDataResult> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetTitleDataResultAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetTitleDataResult newInstance() {
+            return new GetTitleDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleNewsRequestAdapter extends PlayFabModelAdapter<GetTitleNewsRequest> {
+        GetTitleNewsRequestAdapter(Gson gson) {
+        }
+
+        protected GetTitleNewsRequest newInstance() {
+            return new GetTitleNewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleNewsRequest value) throws IOException {
+            writeField(out, "Count", value.Count);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleNewsRequest value) throws IOException {
+            switch (name) {
+                case "Count": value.Count = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleNewsResultAdapter extends PlayFabModelAdapter<GetTitleNewsResult> {
+        private final TypeAdapter<ArrayList<TitleNewsItem>> titleNewsItemListAdapter;
+
+        GetTitleNewsResultAdapter(Gson gson) {
+            titleNewsItemListAdapter = listAdapter(gson, TitleNewsItem.class);
+        }
+
+        protected GetTitleNewsResult newInstance() {
+            return new GetTitleNewsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleNewsResult value) throws IOException {
+            writeField(out, "News", value.News, titleNewsItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleNewsResult value) throws IOException {
+            switch (name) {
+                case "News": value.News = titleNewsItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitlePublicKeyRequestAdapter extends PlayFabModelAdapter<GetTitlePublicKeyRequest> {
+        GetTitlePublicKeyRequestAdapter(Gson gson) {
+        }
+
+        protected GetTitlePublicKeyRequest newInstance() {
+            return new GetTitlePublicKeyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitlePublicKeyRequest value) throws IOException {
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TitleSharedSecret", value.TitleSharedSecret);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitlePublicKeyRequest value) throws IOException {
+            switch (name) {
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TitleSharedSecret": value.TitleSharedSecret = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitlePublicKeyResultAdapter extends PlayFabModelAdapter<GetTitlePublicKeyResult> {
+        GetTitlePublicKeyResultAdapter(Gson gson) {
+        }
+
+        protected GetTitlePublicKeyResult newInstance() {
+            return new GetTitlePublicKeyResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitlePublicKeyResult value) throws IOException {
+            writeField(out, "RSAPublicKey", value.RSAPublicKey);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitlePublicKeyResult value) throws IOException {
+            switch (name) {
+                case "RSAPublicKey": value.RSAPublicKey = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTradeStatusRequestAdapter extends PlayFabModelAdapter<GetTradeStatusRequest> {
+        GetTradeStatusRequestAdapter(Gson gson) {
+        }
+
+        protected GetTradeStatusRequest newInstance() {
+            return new GetTradeStatusRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTradeStatusRequest value) throws IOException {
+            writeField(out, "OfferingPlayerId", value.OfferingPlayerId);
+            writeField(out, "TradeId", value.TradeId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTradeStatusRequest value) throws IOException {
+            switch (name) {
+                case "OfferingPlayerId": value.OfferingPlayerId = readString(in); return true;
+                case "TradeId": value.TradeId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTradeStatusResponseAdapter extends PlayFabModelAdapter<GetTradeStatusResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        GetTradeStatusResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        protected GetTradeStatusResponse newInstance() {
+            return new GetTradeStatusResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTradeStatusResponse value) throws IOException {
+            writeField(out, "Trade", value.Trade, tradeInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTradeStatusResponse value) throws IOException {
+            switch (name) {
+                case "Trade": value.Trade = tradeInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserDataRequestAdapter extends PlayFabModelAdapter<GetUserDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetUserDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetUserDataRequest newInstance() {
+            return new GetUserDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserDataRequest value) throws IOException {
+            writeField(out, "IfChangedFromDataVersion", value.IfChangedFromDataVersion);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserDataRequest value) throws IOException {
+            switch (name) {
+                case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = readLong(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserDataResultAdapter extends PlayFabModelAdapter<GetUserDataResult> {
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+
+        GetUserDataResultAdapter(Gson gson) {
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+        }
+
+        protected GetUserDataResult newInstance() {
+            return new GetUserDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, userDataRecordMapAdapter);
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = userDataRecordMapAdapter.read(in); return true;
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserInventoryRequestAdapter extends PlayFabModelAdapter<GetUserInventoryRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetUserInventoryRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetUserInventoryRequest newInstance() {
+            return new GetUserInventoryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserInventoryRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserInventoryResultAdapter extends PlayFabModelAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetUserInventoryResult newInstance() {
+            return new GetUserInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, integerMapAdapter);
+            writeField(out, "VirtualCurrencyRechargeTimes", value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserInventoryResult value) throws IOException {
+            switch (name) {
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = integerMapAdapter.read(in); return true;
+                case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GooglePlayFabIdPairAdapter extends PlayFabModelAdapter<GooglePlayFabIdPair> {
+        GooglePlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected GooglePlayFabIdPair newInstance() {
+            return new GooglePlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, GooglePlayFabIdPair value) throws IOException {
+            writeField(out, "GoogleId", value.GoogleId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GooglePlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "GoogleId": value.GoogleId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GooglePlayGamesPlayFabIdPairAdapter extends PlayFabModelAdapter<GooglePlayGamesPlayFabIdPair> {
+        GooglePlayGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected GooglePlayGamesPlayFabIdPair newInstance() {
+            return new GooglePlayGamesPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, GooglePlayGamesPlayFabIdPair value) throws IOException {
+            writeField(out, "GooglePlayGamesPlayerId", value.GooglePlayGamesPlayerId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GooglePlayGamesPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "GooglePlayGamesPlayerId": value.GooglePlayGamesPlayerId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantCharacterToUserRequestAdapter extends PlayFabModelAdapter<GrantCharacterToUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GrantCharacterToUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GrantCharacterToUserRequest newInstance() {
+            return new GrantCharacterToUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GrantCharacterToUserRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterName", value.CharacterName);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemId", value.ItemId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantCharacterToUserRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterName": value.CharacterName = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantCharacterToUserResultAdapter extends PlayFabModelAdapter<GrantCharacterToUserResult> {
+        GrantCharacterToUserResultAdapter(Gson gson) {
+        }
+
+        protected GrantCharacterToUserResult newInstance() {
+            return new GrantCharacterToUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, GrantCharacterToUserResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterType", value.CharacterType);
+            writeField(out, "Result", value.Result);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantCharacterToUserResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterType": value.CharacterType = readString(in); return true;
+                case "Result": value.Result = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ItemInstanceAdapter extends PlayFabModelAdapter<ItemInstance> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected ItemInstance newInstance() {
+            return new ItemInstance();
+        }
+
+        protected void writeFields(JsonWriter out, ItemInstance value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "BundleContents", value.BundleContents, stringListAdapter);
+            writeField(out, "BundleParent", value.BundleParent);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomData", value.CustomData, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+            writeField(out, "RemainingUses", value.RemainingUses);
+            writeField(out, "UnitCurrency", value.UnitCurrency);
+            writeField(out, "UnitPrice", value.UnitPrice);
+            writeField(out, "UsesIncrementedBy", value.UsesIncrementedBy);
+        }
+
+        protected boolean readField(JsonReader in, String name, ItemInstance value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "BundleContents": value.BundleContents = stringListAdapter.read(in); return true;
+                case "BundleParent": value.BundleParent = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomData": value.CustomData = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                case "UnitCurrency": value.UnitCurrency = readString(in); return true;
+                case "UnitPrice": value.UnitPrice = readLong(in); return true;
+                case "UsesIncrementedBy": value.UsesIncrementedBy = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ItemPurchaseRequestAdapter extends PlayFabModelAdapter<ItemPurchaseRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ItemPurchaseRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ItemPurchaseRequest newInstance() {
+            return new ItemPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ItemPurchaseRequest value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "Quantity", value.Quantity);
+            writeField(out, "UpgradeFromItems", value.UpgradeFromItems, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ItemPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "Quantity": value.Quantity = readLong(in); return true;
+                case "UpgradeFromItems": value.UpgradeFromItems = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class KongregatePlayFabIdPairAdapter extends PlayFabModelAdapter<KongregatePlayFabIdPair> {
+        KongregatePlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected KongregatePlayFabIdPair newInstance() {
+            return new KongregatePlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, KongregatePlayFabIdPair value) throws IOException {
+            writeField(out, "KongregateId", value.KongregateId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, KongregatePlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "KongregateId": value.KongregateId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkAndroidDeviceIDRequestAdapter extends PlayFabModelAdapter<LinkAndroidDeviceIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkAndroidDeviceIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkAndroidDeviceIDRequest newInstance() {
+            return new LinkAndroidDeviceIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkAndroidDeviceIDRequest value) throws IOException {
+            writeField(out, "AndroidDevice", value.AndroidDevice);
+            writeField(out, "AndroidDeviceId", value.AndroidDeviceId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "OS", value.OS);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkAndroidDeviceIDRequest value) throws IOException {
+            switch (name) {
+                case "AndroidDevice": value.AndroidDevice = readString(in); return true;
+                case "AndroidDeviceId": value.AndroidDeviceId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "OS": value.OS = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkAndroidDeviceIDResultAdapter extends PlayFabModelAdapter<LinkAndroidDeviceIDResult> {
+        LinkAndroidDeviceIDResultAdapter(Gson gson) {
+        }
+
+        protected LinkAndroidDeviceIDResult newInstance() {
+            return new LinkAndroidDeviceIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkAndroidDeviceIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkAndroidDeviceIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkAppleRequestAdapter extends PlayFabModelAdapter<LinkAppleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkAppleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkAppleRequest newInstance() {
+            return new LinkAppleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkAppleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IdentityToken", value.IdentityToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkAppleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IdentityToken": value.IdentityToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkCustomIDRequestAdapter extends PlayFabModelAdapter<LinkCustomIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkCustomIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkCustomIDRequest newInstance() {
+            return new LinkCustomIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkCustomIDRequest value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkCustomIDRequest value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkCustomIDResultAdapter extends PlayFabModelAdapter<LinkCustomIDResult> {
+        LinkCustomIDResultAdapter(Gson gson) {
+        }
+
+        protected LinkCustomIDResult newInstance() {
+            return new LinkCustomIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkCustomIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkCustomIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends PlayFabModelAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        protected LinkedPlatformAccountModel newInstance() {
+            return new LinkedPlatformAccountModel();
+        }
+
+        protected void writeFields(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "Platform", value.Platform, loginIdentityProviderAdapter);
+            writeField(out, "PlatformUserId", value.PlatformUserId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkedPlatformAccountModel value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); return true;
+                case "PlatformUserId": value.PlatformUserId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkFacebookAccountRequestAdapter extends PlayFabModelAdapter<LinkFacebookAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkFacebookAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkFacebookAccountRequest newInstance() {
+            return new LinkFacebookAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkFacebookAccountRequest value) throws IOException {
+            writeField(out, "AccessToken", value.AccessToken);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkFacebookAccountRequest value) throws IOException {
+            switch (name) {
+                case "AccessToken": value.AccessToken = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkFacebookAccountResultAdapter extends PlayFabModelAdapter<LinkFacebookAccountResult> {
+        LinkFacebookAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkFacebookAccountResult newInstance() {
+            return new LinkFacebookAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkFacebookAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkFacebookAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkFacebookInstantGamesIdRequestAdapter extends PlayFabModelAdapter<LinkFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkFacebookInstantGamesIdRequest newInstance() {
+            return new LinkFacebookInstantGamesIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkFacebookInstantGamesIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FacebookInstantGamesSignature", value.FacebookInstantGamesSignature);
+            writeField(out, "ForceLink", value.ForceLink);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkFacebookInstantGamesIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FacebookInstantGamesSignature": value.FacebookInstantGamesSignature = readString(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkFacebookInstantGamesIdResultAdapter extends PlayFabModelAdapter<LinkFacebookInstantGamesIdResult> {
+        LinkFacebookInstantGamesIdResultAdapter(Gson gson) {
+        }
+
+        protected LinkFacebookInstantGamesIdResult newInstance() {
+            return new LinkFacebookInstantGamesIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkFacebookInstantGamesIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkFacebookInstantGamesIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkGameCenterAccountRequestAdapter extends PlayFabModelAdapter<LinkGameCenterAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkGameCenterAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkGameCenterAccountRequest newInstance() {
+            return new LinkGameCenterAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkGameCenterAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "GameCenterId", value.GameCenterId);
+            writeField(out, "PublicKeyUrl", value.PublicKeyUrl);
+            writeField(out, "Salt", value.Salt);
+            writeField(out, "Signature", value.Signature);
+            writeField(out, "Timestamp", value.Timestamp);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkGameCenterAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "GameCenterId": value.GameCenterId = readString(in); return true;
+                case "PublicKeyUrl": value.PublicKeyUrl = readString(in); return true;
+                case "Salt": value.Salt = readString(in); return true;
+                case "Signature": value.Signature = readString(in); return true;
+                case "Timestamp": value.Timestamp = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkGameCenterAccountResultAdapter extends PlayFabModelAdapter<LinkGameCenterAccountResult> {
+        LinkGameCenterAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkGameCenterAccountResult newInstance() {
+            return new LinkGameCenterAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkGameCenterAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkGameCenterAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkGoogleAccountRequestAdapter extends PlayFabModelAdapter<LinkGoogleAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkGoogleAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkGoogleAccountRequest newInstance() {
+            return new LinkGoogleAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkGoogleAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "ServerAuthCode", value.ServerAuthCode);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkGoogleAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "ServerAuthCode": value.ServerAuthCode = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkGoogleAccountResultAdapter extends PlayFabModelAdapter<LinkGoogleAccountResult> {
+        LinkGoogleAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkGoogleAccountResult newInstance() {
+            return new LinkGoogleAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkGoogleAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkGoogleAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkGooglePlayGamesServicesAccountRequestAdapter extends PlayFabModelAdapter<LinkGooglePlayGamesServicesAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkGooglePlayGamesServicesAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkGooglePlayGamesServicesAccountRequest newInstance() {
+            return new LinkGooglePlayGamesServicesAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkGooglePlayGamesServicesAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "ServerAuthCode", value.ServerAuthCode);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkGooglePlayGamesServicesAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "ServerAuthCode": value.ServerAuthCode = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkGooglePlayGamesServicesAccountResultAdapter extends PlayFabModelAdapter<LinkGooglePlayGamesServicesAccountResult> {
+        LinkGooglePlayGamesServicesAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkGooglePlayGamesServicesAccountResult newInstance() {
+            return new LinkGooglePlayGamesServicesAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkGooglePlayGamesServicesAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkGooglePlayGamesServicesAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkIOSDeviceIDRequestAdapter extends PlayFabModelAdapter<LinkIOSDeviceIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkIOSDeviceIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkIOSDeviceIDRequest newInstance() {
+            return new LinkIOSDeviceIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkIOSDeviceIDRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeviceId", value.DeviceId);
+            writeField(out, "DeviceModel", value.DeviceModel);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "OS", value.OS);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkIOSDeviceIDRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeviceId": value.DeviceId = readString(in); return true;
+                case "DeviceModel": value.DeviceModel = readString(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "OS": value.OS = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkIOSDeviceIDResultAdapter extends PlayFabModelAdapter<LinkIOSDeviceIDResult> {
+        LinkIOSDeviceIDResultAdapter(Gson gson) {
+        }
+
+        protected LinkIOSDeviceIDResult newInstance() {
+            return new LinkIOSDeviceIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkIOSDeviceIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkIOSDeviceIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkKongregateAccountRequestAdapter extends PlayFabModelAdapter<LinkKongregateAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkKongregateAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkKongregateAccountRequest newInstance() {
+            return new LinkKongregateAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkKongregateAccountRequest value) throws IOException {
+            writeField(out, "AuthTicket", value.AuthTicket);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "KongregateId", value.KongregateId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkKongregateAccountRequest value) throws IOException {
+            switch (name) {
+                case "AuthTicket": value.AuthTicket = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "KongregateId": value.KongregateId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkKongregateAccountResultAdapter extends PlayFabModelAdapter<LinkKongregateAccountResult> {
+        LinkKongregateAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkKongregateAccountResult newInstance() {
+            return new LinkKongregateAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkKongregateAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkKongregateAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoServiceAccountRequestAdapter extends PlayFabModelAdapter<LinkNintendoServiceAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkNintendoServiceAccountRequest newInstance() {
+            return new LinkNintendoServiceAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoServiceAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IdentityToken", value.IdentityToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoServiceAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IdentityToken": value.IdentityToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoSwitchDeviceIdRequestAdapter extends PlayFabModelAdapter<LinkNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkNintendoSwitchDeviceIdRequest newInstance() {
+            return new LinkNintendoSwitchDeviceIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoSwitchDeviceIdResultAdapter extends PlayFabModelAdapter<LinkNintendoSwitchDeviceIdResult> {
+        LinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        protected LinkNintendoSwitchDeviceIdResult newInstance() {
+            return new LinkNintendoSwitchDeviceIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoSwitchDeviceIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoSwitchDeviceIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkOpenIdConnectRequestAdapter extends PlayFabModelAdapter<LinkOpenIdConnectRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkOpenIdConnectRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkOpenIdConnectRequest newInstance() {
+            return new LinkOpenIdConnectRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkOpenIdConnectRequest value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IdToken", value.IdToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkOpenIdConnectRequest value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IdToken": value.IdToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkPSNAccountRequestAdapter extends PlayFabModelAdapter<LinkPSNAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkPSNAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkPSNAccountRequest newInstance() {
+            return new LinkPSNAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkPSNAccountRequest value) throws IOException {
+            writeField(out, "AuthCode", value.AuthCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "RedirectUri", value.RedirectUri);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkPSNAccountRequest value) throws IOException {
+            switch (name) {
+                case "AuthCode": value.AuthCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "RedirectUri": value.RedirectUri = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkPSNAccountResultAdapter extends PlayFabModelAdapter<LinkPSNAccountResult> {
+        LinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkPSNAccountResult newInstance() {
+            return new LinkPSNAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkPSNAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkPSNAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkSteamAccountRequestAdapter extends PlayFabModelAdapter<LinkSteamAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkSteamAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkSteamAccountRequest newInstance() {
+            return new LinkSteamAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkSteamAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "SteamTicket", value.SteamTicket);
+            writeField(out, "TicketIsServiceSpecific", value.TicketIsServiceSpecific);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkSteamAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "SteamTicket": value.SteamTicket = readString(in); return true;
+                case "TicketIsServiceSpecific": value.TicketIsServiceSpecific = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkSteamAccountResultAdapter extends PlayFabModelAdapter<LinkSteamAccountResult> {
+        LinkSteamAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkSteamAccountResult newInstance() {
+            return new LinkSteamAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkSteamAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkSteamAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkTwitchAccountRequestAdapter extends PlayFabModelAdapter<LinkTwitchAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkTwitchAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkTwitchAccountRequest newInstance() {
+            return new LinkTwitchAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkTwitchAccountRequest value) throws IOException {
+            writeField(out, "AccessToken", value.AccessToken);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkTwitchAccountRequest value) throws IOException {
+            switch (name) {
+                case "AccessToken": value.AccessToken = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkTwitchAccountResultAdapter extends PlayFabModelAdapter<LinkTwitchAccountResult> {
+        LinkTwitchAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkTwitchAccountResult newInstance() {
+            return new LinkTwitchAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkTwitchAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkTwitchAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkXboxAccountRequestAdapter extends PlayFabModelAdapter<LinkXboxAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkXboxAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkXboxAccountRequest newInstance() {
+            return new LinkXboxAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkXboxAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkXboxAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkXboxAccountResultAdapter extends PlayFabModelAdapter<LinkXboxAccountResult> {
+        LinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkXboxAccountResult newInstance() {
+            return new LinkXboxAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkXboxAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkXboxAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListUsersCharactersRequestAdapter extends PlayFabModelAdapter<ListUsersCharactersRequest> {
+        ListUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        protected ListUsersCharactersRequest newInstance() {
+            return new ListUsersCharactersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListUsersCharactersRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListUsersCharactersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListUsersCharactersResultAdapter extends PlayFabModelAdapter<ListUsersCharactersResult> {
+        private final TypeAdapter<ArrayList<CharacterResult>> characterResultListAdapter;
+
+        ListUsersCharactersResultAdapter(Gson gson) {
+            characterResultListAdapter = listAdapter(gson, CharacterResult.class);
+        }
+
+        protected ListUsersCharactersResult newInstance() {
+            return new ListUsersCharactersResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListUsersCharactersResult value) throws IOException {
+            writeField(out, "Characters", value.Characters, characterResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListUsersCharactersResult value) throws IOException {
+            switch (name) {
+                case "Characters": value.Characters = characterResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LocationModelAdapter extends PlayFabModelAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        protected LocationModel newInstance() {
+            return new LocationModel();
+        }
+
+        protected void writeFields(JsonWriter out, LocationModel value) throws IOException {
+            writeField(out, "City", value.City);
+            writeField(out, "ContinentCode", value.ContinentCode, continentCodeAdapter);
+            writeField(out, "CountryCode", value.CountryCode, countryCodeAdapter);
+            writeField(out, "Latitude", value.Latitude);
+            writeField(out, "Longitude", value.Longitude);
+        }
+
+        protected boolean readField(JsonReader in, String name, LocationModel value) throws IOException {
+            switch (name) {
+                case "City": value.City = readString(in); return true;
+                case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); return true;
+                case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); return true;
+                case "Latitude": value.Latitude = readDouble(in); return true;
+                case "Longitude": value.Longitude = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginResultAdapter extends PlayFabModelAdapter<LoginResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+        private final TypeAdapter<TreatmentAssignment> treatmentAssignmentAdapter;
+
+        LoginResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+            treatmentAssignmentAdapter = gson.getAdapter(TreatmentAssignment.class);
+        }
+
+        protected LoginResult newInstance() {
+            return new LoginResult();
+        }
+
+        protected void writeFields(JsonWriter out, LoginResult value) throws IOException {
+            writeField(out, "EntityToken", value.EntityToken, entityTokenResponseAdapter);
+            writeField(out, "InfoResultPayload", value.InfoResultPayload, getPlayerCombinedInfoResultPayloadAdapter);
+            writeField(out, "LastLoginTime", value.LastLoginTime, dateAdapter);
+            writeField(out, "NewlyCreated", value.NewlyCreated);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SessionTicket", value.SessionTicket);
+            writeField(out, "SettingsForUser", value.SettingsForUser, userSettingsAdapter);
+            writeField(out, "TreatmentAssignment", value.TreatmentAssignment, treatmentAssignmentAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginResult value) throws IOException {
+            switch (name) {
+                case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); return true;
+                case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); return true;
+                case "LastLoginTime": value.LastLoginTime = dateAdapter.read(in); return true;
+                case "NewlyCreated": value.NewlyCreated = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SessionTicket": value.SessionTicket = readString(in); return true;
+                case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); return true;
+                case "TreatmentAssignment": value.TreatmentAssignment = treatmentAssignmentAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithAndroidDeviceIDRequestAdapter extends PlayFabModelAdapter<LoginWithAndroidDeviceIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithAndroidDeviceIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithAndroidDeviceIDRequest newInstance() {
+            return new LoginWithAndroidDeviceIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithAndroidDeviceIDRequest value) throws IOException {
+            writeField(out, "AndroidDevice", value.AndroidDevice);
+            writeField(out, "AndroidDeviceId", value.AndroidDeviceId);
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "OS", value.OS);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithAndroidDeviceIDRequest value) throws IOException {
+            switch (name) {
+                case "AndroidDevice": value.AndroidDevice = readString(in); return true;
+                case "AndroidDeviceId": value.AndroidDeviceId = readString(in); return true;
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "OS": value.OS = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithAppleRequestAdapter extends PlayFabModelAdapter<LoginWithAppleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithAppleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithAppleRequest newInstance() {
+            return new LoginWithAppleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithAppleRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "IdentityToken", value.IdentityToken);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithAppleRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "IdentityToken": value.IdentityToken = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithCustomIDRequestAdapter extends PlayFabModelAdapter<LoginWithCustomIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithCustomIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithCustomIDRequest newInstance() {
+            return new LoginWithCustomIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithCustomIDRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomId", value.CustomId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithCustomIDRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomId": value.CustomId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithEmailAddressRequestAdapter extends PlayFabModelAdapter<LoginWithEmailAddressRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithEmailAddressRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithEmailAddressRequest newInstance() {
+            return new LoginWithEmailAddressRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithEmailAddressRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Email", value.Email);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "Password", value.Password);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithEmailAddressRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Email": value.Email = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithFacebookInstantGamesIdRequestAdapter extends PlayFabModelAdapter<LoginWithFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithFacebookInstantGamesIdRequest newInstance() {
+            return new LoginWithFacebookInstantGamesIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithFacebookInstantGamesIdRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "FacebookInstantGamesSignature", value.FacebookInstantGamesSignature);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithFacebookInstantGamesIdRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "FacebookInstantGamesSignature": value.FacebookInstantGamesSignature = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithFacebookRequestAdapter extends PlayFabModelAdapter<LoginWithFacebookRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithFacebookRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithFacebookRequest newInstance() {
+            return new LoginWithFacebookRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithFacebookRequest value) throws IOException {
+            writeField(out, "AccessToken", value.AccessToken);
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithFacebookRequest value) throws IOException {
+            switch (name) {
+                case "AccessToken": value.AccessToken = readString(in); return true;
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithGameCenterRequestAdapter extends PlayFabModelAdapter<LoginWithGameCenterRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithGameCenterRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithGameCenterRequest newInstance() {
+            return new LoginWithGameCenterRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithGameCenterRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "PublicKeyUrl", value.PublicKeyUrl);
+            writeField(out, "Salt", value.Salt);
+            writeField(out, "Signature", value.Signature);
+            writeField(out, "Timestamp", value.Timestamp);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithGameCenterRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "PublicKeyUrl": value.PublicKeyUrl = readString(in); return true;
+                case "Salt": value.Salt = readString(in); return true;
+                case "Signature": value.Signature = readString(in); return true;
+                case "Timestamp": value.Timestamp = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithGoogleAccountRequestAdapter extends PlayFabModelAdapter<LoginWithGoogleAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithGoogleAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithGoogleAccountRequest newInstance() {
+            return new LoginWithGoogleAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithGoogleAccountRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "ServerAuthCode", value.ServerAuthCode);
+            writeField(out, "SetEmail", value.SetEmail);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithGoogleAccountRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "ServerAuthCode": value.ServerAuthCode = readString(in); return true;
+                case "SetEmail": value.SetEmail = readBoolean(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithGooglePlayGamesServicesRequestAdapter extends PlayFabModelAdapter<LoginWithGooglePlayGamesServicesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithGooglePlayGamesServicesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithGooglePlayGamesServicesRequest newInstance() {
+            return new LoginWithGooglePlayGamesServicesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithGooglePlayGamesServicesRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "ServerAuthCode", value.ServerAuthCode);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithGooglePlayGamesServicesRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "ServerAuthCode": value.ServerAuthCode = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithIOSDeviceIDRequestAdapter extends PlayFabModelAdapter<LoginWithIOSDeviceIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithIOSDeviceIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithIOSDeviceIDRequest newInstance() {
+            return new LoginWithIOSDeviceIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithIOSDeviceIDRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeviceId", value.DeviceId);
+            writeField(out, "DeviceModel", value.DeviceModel);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "OS", value.OS);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithIOSDeviceIDRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeviceId": value.DeviceId = readString(in); return true;
+                case "DeviceModel": value.DeviceModel = readString(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "OS": value.OS = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithKongregateRequestAdapter extends PlayFabModelAdapter<LoginWithKongregateRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithKongregateRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithKongregateRequest newInstance() {
+            return new LoginWithKongregateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithKongregateRequest value) throws IOException {
+            writeField(out, "AuthTicket", value.AuthTicket);
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "KongregateId", value.KongregateId);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithKongregateRequest value) throws IOException {
+            switch (name) {
+                case "AuthTicket": value.AuthTicket = readString(in); return true;
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "KongregateId": value.KongregateId = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithNintendoServiceAccountRequestAdapter extends PlayFabModelAdapter<LoginWithNintendoServiceAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithNintendoServiceAccountRequest newInstance() {
+            return new LoginWithNintendoServiceAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithNintendoServiceAccountRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "IdentityToken", value.IdentityToken);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithNintendoServiceAccountRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "IdentityToken": value.IdentityToken = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithNintendoSwitchDeviceIdRequestAdapter extends PlayFabModelAdapter<LoginWithNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithNintendoSwitchDeviceIdRequest newInstance() {
+            return new LoginWithNintendoSwitchDeviceIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithNintendoSwitchDeviceIdRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithNintendoSwitchDeviceIdRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithOpenIdConnectRequestAdapter extends PlayFabModelAdapter<LoginWithOpenIdConnectRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithOpenIdConnectRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithOpenIdConnectRequest newInstance() {
+            return new LoginWithOpenIdConnectRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithOpenIdConnectRequest value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "IdToken", value.IdToken);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithOpenIdConnectRequest value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "IdToken": value.IdToken = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithPlayFabRequestAdapter extends PlayFabModelAdapter<LoginWithPlayFabRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithPlayFabRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithPlayFabRequest newInstance() {
+            return new LoginWithPlayFabRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithPlayFabRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "Password", value.Password);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithPlayFabRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithPSNRequestAdapter extends PlayFabModelAdapter<LoginWithPSNRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithPSNRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithPSNRequest newInstance() {
+            return new LoginWithPSNRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithPSNRequest value) throws IOException {
+            writeField(out, "AuthCode", value.AuthCode);
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "RedirectUri", value.RedirectUri);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithPSNRequest value) throws IOException {
+            switch (name) {
+                case "AuthCode": value.AuthCode = readString(in); return true;
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "RedirectUri": value.RedirectUri = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithSteamRequestAdapter extends PlayFabModelAdapter<LoginWithSteamRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithSteamRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithSteamRequest newInstance() {
+            return new LoginWithSteamRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithSteamRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "SteamTicket", value.SteamTicket);
+            writeField(out, "TicketIsServiceSpecific", value.TicketIsServiceSpecific);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithSteamRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "SteamTicket": value.SteamTicket = readString(in); return true;
+                case "TicketIsServiceSpecific": value.TicketIsServiceSpecific = readBoolean(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithTwitchRequestAdapter extends PlayFabModelAdapter<LoginWithTwitchRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithTwitchRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithTwitchRequest newInstance() {
+            return new LoginWithTwitchRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithTwitchRequest value) throws IOException {
+            writeField(out, "AccessToken", value.AccessToken);
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithTwitchRequest value) throws IOException {
+            switch (name) {
+                case "AccessToken": value.AccessToken = readString(in); return true;
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithXboxRequestAdapter extends PlayFabModelAdapter<LoginWithXboxRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithXboxRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithXboxRequest newInstance() {
+            return new LoginWithXboxRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithXboxRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithXboxRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LogStatementAdapter extends PlayFabModelAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected LogStatement newInstance() {
+            return new LogStatement();
+        }
+
+        protected void writeFields(JsonWriter out, LogStatement value) throws IOException {
+            writeField(out, "Data", value.Data, objectAdapter);
+            writeField(out, "Level", value.Level);
+            writeField(out, "Message", value.Message);
+        }
+
+        protected boolean readField(JsonReader in, String name, LogStatement value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = objectAdapter.read(in); return true;
+                case "Level": value.Level = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MembershipModelAdapter extends PlayFabModelAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<SubscriptionModel>> subscriptionModelListAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelListAdapter = listAdapter(gson, SubscriptionModel.class);
+        }
+
+        protected MembershipModel newInstance() {
+            return new MembershipModel();
+        }
+
+        protected void writeFields(JsonWriter out, MembershipModel value) throws IOException {
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "MembershipExpiration", value.MembershipExpiration, dateAdapter);
+            writeField(out, "MembershipId", value.MembershipId);
+            writeField(out, "OverrideExpiration", value.OverrideExpiration, dateAdapter);
+            writeField(out, "Subscriptions", value.Subscriptions, subscriptionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, MembershipModel value) throws IOException {
+            switch (name) {
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); return true;
+                case "MembershipId": value.MembershipId = readString(in); return true;
+                case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); return true;
+                case "Subscriptions": value.Subscriptions = subscriptionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MicrosoftStorePayloadAdapter extends PlayFabModelAdapter<MicrosoftStorePayload> {
+        MicrosoftStorePayloadAdapter(Gson gson) {
+        }
+
+        protected MicrosoftStorePayload newInstance() {
+            return new MicrosoftStorePayload();
+        }
+
+        protected void writeFields(JsonWriter out, MicrosoftStorePayload value) throws IOException {
+            writeField(out, "CollectionsMsIdKey", value.CollectionsMsIdKey);
+            writeField(out, "UserId", value.UserId);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, MicrosoftStorePayload value) throws IOException {
+            switch (name) {
+                case "CollectionsMsIdKey": value.CollectionsMsIdKey = readString(in); return true;
+                case "UserId": value.UserId = readString(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModifyUserVirtualCurrencyResultAdapter extends PlayFabModelAdapter<ModifyUserVirtualCurrencyResult> {
+        ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        protected ModifyUserVirtualCurrencyResult newInstance() {
+            return new ModifyUserVirtualCurrencyResult();
+        }
+
+        protected void writeFields(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            writeField(out, "Balance", value.Balance);
+            writeField(out, "BalanceChange", value.BalanceChange);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModifyUserVirtualCurrencyResult value) throws IOException {
+            switch (name) {
+                case "Balance": value.Balance = readInteger(in); return true;
+                case "BalanceChange": value.BalanceChange = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class NameIdentifierAdapter extends PlayFabModelAdapter<NameIdentifier> {
+        NameIdentifierAdapter(Gson gson) {
+        }
+
+        protected NameIdentifier newInstance() {
+            return new NameIdentifier();
+        }
+
+        protected void writeFields(JsonWriter out, NameIdentifier value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, NameIdentifier value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class NintendoServiceAccountPlayFabIdPairAdapter extends PlayFabModelAdapter<NintendoServiceAccountPlayFabIdPair> {
+        NintendoServiceAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected NintendoServiceAccountPlayFabIdPair newInstance() {
+            return new NintendoServiceAccountPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, NintendoServiceAccountPlayFabIdPair value) throws IOException {
+            writeField(out, "NintendoServiceAccountId", value.NintendoServiceAccountId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, NintendoServiceAccountPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "NintendoServiceAccountId": value.NintendoServiceAccountId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class NintendoSwitchPlayFabIdPairAdapter extends PlayFabModelAdapter<NintendoSwitchPlayFabIdPair> {
+        NintendoSwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected NintendoSwitchPlayFabIdPair newInstance() {
+            return new NintendoSwitchPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, NintendoSwitchPlayFabIdPair value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, NintendoSwitchPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class OpenTradeRequestAdapter extends PlayFabModelAdapter<OpenTradeRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        OpenTradeRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected OpenTradeRequest newInstance() {
+            return new OpenTradeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, OpenTradeRequest value) throws IOException {
+            writeField(out, "AllowedPlayerIds", value.AllowedPlayerIds, stringListAdapter);
+            writeField(out, "OfferedInventoryInstanceIds", value.OfferedInventoryInstanceIds, stringListAdapter);
+            writeField(out, "RequestedCatalogItemIds", value.RequestedCatalogItemIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, OpenTradeRequest value) throws IOException {
+            switch (name) {
+                case "AllowedPlayerIds": value.AllowedPlayerIds = stringListAdapter.read(in); return true;
+                case "OfferedInventoryInstanceIds": value.OfferedInventoryInstanceIds = stringListAdapter.read(in); return true;
+                case "RequestedCatalogItemIds": value.RequestedCatalogItemIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class OpenTradeResponseAdapter extends PlayFabModelAdapter<OpenTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        OpenTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        protected OpenTradeResponse newInstance() {
+            return new OpenTradeResponse();
+        }
+
+        protected void writeFields(JsonWriter out, OpenTradeResponse value) throws IOException {
+            writeField(out, "Trade", value.Trade, tradeInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, OpenTradeResponse value) throws IOException {
+            switch (name) {
+                case "Trade": value.Trade = tradeInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PayForPurchaseRequestAdapter extends PlayFabModelAdapter<PayForPurchaseRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        PayForPurchaseRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected PayForPurchaseRequest newInstance() {
+            return new PayForPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PayForPurchaseRequest value) throws IOException {
+            writeField(out, "Currency", value.Currency);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "ProviderName", value.ProviderName);
+            writeField(out, "ProviderTransactionId", value.ProviderTransactionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PayForPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "Currency": value.Currency = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "ProviderName": value.ProviderName = readString(in); return true;
+                case "ProviderTransactionId": value.ProviderTransactionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PayForPurchaseResultAdapter extends PlayFabModelAdapter<PayForPurchaseResult> {
+        private final TypeAdapter<TransactionStatus> transactionStatusAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+
+        PayForPurchaseResultAdapter(Gson gson) {
+            transactionStatusAdapter = gson.getAdapter(TransactionStatus.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+        }
+
+        protected PayForPurchaseResult newInstance() {
+            return new PayForPurchaseResult();
+        }
+
+        protected void writeFields(JsonWriter out, PayForPurchaseResult value) throws IOException {
+            writeField(out, "CreditApplied", value.CreditApplied);
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "ProviderData", value.ProviderData);
+            writeField(out, "ProviderToken", value.ProviderToken);
+            writeField(out, "PurchaseConfirmationPageURL", value.PurchaseConfirmationPageURL);
+            writeField(out, "PurchaseCurrency", value.PurchaseCurrency);
+            writeField(out, "PurchasePrice", value.PurchasePrice);
+            writeField(out, "Status", value.Status, transactionStatusAdapter);
+            writeField(out, "VCAmount", value.VCAmount, integerMapAdapter);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, integerMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PayForPurchaseResult value) throws IOException {
+            switch (name) {
+                case "CreditApplied": value.CreditApplied = readLong(in); return true;
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "ProviderData": value.ProviderData = readString(in); return true;
+                case "ProviderToken": value.ProviderToken = readString(in); return true;
+                case "PurchaseConfirmationPageURL": value.PurchaseConfirmationPageURL = readString(in); return true;
+                case "PurchaseCurrency": value.PurchaseCurrency = readString(in); return true;
+                case "PurchasePrice": value.PurchasePrice = readLong(in); return true;
+                case "Status": value.Status = transactionStatusAdapter.read(in); return true;
+                case "VCAmount": value.VCAmount = integerMapAdapter.read(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = integerMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PaymentOptionAdapter extends PlayFabModelAdapter<PaymentOption> {
+        PaymentOptionAdapter(Gson gson) {
+        }
+
+        protected PaymentOption newInstance() {
+            return new PaymentOption();
+        }
+
+        protected void writeFields(JsonWriter out, PaymentOption value) throws IOException {
+            writeField(out, "Currency", value.Currency);
+            writeField(out, "Price", value.Price);
+            writeField(out, "ProviderName", value.ProviderName);
+            writeField(out, "StoreCredit", value.StoreCredit);
+        }
+
+        protected boolean readField(JsonReader in, String name, PaymentOption value) throws IOException {
+            switch (name) {
+                case "Currency": value.Currency = readString(in); return true;
+                case "Price": value.Price = readLong(in); return true;
+                case "ProviderName": value.ProviderName = readString(in); return true;
+                case "StoreCredit": value.StoreCredit = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerLeaderboardEntryAdapter extends PlayFabModelAdapter<PlayerLeaderboardEntry> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        PlayerLeaderboardEntryAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        protected PlayerLeaderboardEntry newInstance() {
+            return new PlayerLeaderboardEntry();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerLeaderboardEntry value) throws IOException {
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Position", value.Position);
+            writeField(out, "Profile", value.Profile, playerProfileModelAdapter);
+            writeField(out, "StatValue", value.StatValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerLeaderboardEntry value) throws IOException {
+            switch (name) {
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Position": value.Position = readInteger(in); return true;
+                case "Profile": value.Profile = playerProfileModelAdapter.read(in); return true;
+                case "StatValue": value.StatValue = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends PlayFabModelAdapter<PlayerProfileModel> {
+        private final TypeAdapter<ArrayList<AdCampaignAttributionModel>> adCampaignAttributionModelListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<ContactEmailInfoModel>> contactEmailInfoModelListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<LinkedPlatformAccountModel>> linkedPlatformAccountModelListAdapter;
+        private final TypeAdapter<ArrayList<LocationModel>> locationModelListAdapter;
+        private final TypeAdapter<ArrayList<MembershipModel>> membershipModelListAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationRegistrationModel>> pushNotificationRegistrationModelListAdapter;
+        private final TypeAdapter<ArrayList<StatisticModel>> statisticModelListAdapter;
+        private final TypeAdapter<ArrayList<TagModel>> tagModelListAdapter;
+        private final TypeAdapter<ArrayList<ValueToDateModel>> valueToDateModelListAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelListAdapter = listAdapter(gson, AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelListAdapter = listAdapter(gson, ContactEmailInfoModel.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            linkedPlatformAccountModelListAdapter = listAdapter(gson, LinkedPlatformAccountModel.class);
+            locationModelListAdapter = listAdapter(gson, LocationModel.class);
+            membershipModelListAdapter = listAdapter(gson, MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelListAdapter = listAdapter(gson, PushNotificationRegistrationModel.class);
+            statisticModelListAdapter = listAdapter(gson, StatisticModel.class);
+            tagModelListAdapter = listAdapter(gson, TagModel.class);
+            valueToDateModelListAdapter = listAdapter(gson, ValueToDateModel.class);
+        }
+
+        protected PlayerProfileModel newInstance() {
+            return new PlayerProfileModel();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileModel value) throws IOException {
+            writeField(out, "AdCampaignAttributions", value.AdCampaignAttributions, adCampaignAttributionModelListAdapter);
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "BannedUntil", value.BannedUntil, dateAdapter);
+            writeField(out, "ContactEmailAddresses", value.ContactEmailAddresses, contactEmailInfoModelListAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "ExperimentVariants", value.ExperimentVariants, stringListAdapter);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "LinkedAccounts", value.LinkedAccounts, linkedPlatformAccountModelListAdapter);
+            writeField(out, "Locations", value.Locations, locationModelListAdapter);
+            writeField(out, "Memberships", value.Memberships, membershipModelListAdapter);
+            writeField(out, "Origination", value.Origination, loginIdentityProviderAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PublisherId", value.PublisherId);
+            writeField(out, "PushNotificationRegistrations", value.PushNotificationRegistrations, pushNotificationRegistrationModelListAdapter);
+            writeField(out, "Statistics", value.Statistics, statisticModelListAdapter);
+            writeField(out, "Tags", value.Tags, tagModelListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TotalValueToDateInUSD", value.TotalValueToDateInUSD);
+            writeField(out, "ValuesToDate", value.ValuesToDate, valueToDateModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileModel value) throws IOException {
+            switch (name) {
+                case "AdCampaignAttributions": value.AdCampaignAttributions = adCampaignAttributionModelListAdapter.read(in); return true;
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "BannedUntil": value.BannedUntil = dateAdapter.read(in); return true;
+                case "ContactEmailAddresses": value.ContactEmailAddresses = contactEmailInfoModelListAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "ExperimentVariants": value.ExperimentVariants = stringListAdapter.read(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "LinkedAccounts": value.LinkedAccounts = linkedPlatformAccountModelListAdapter.read(in); return true;
+                case "Locations": value.Locations = locationModelListAdapter.read(in); return true;
+                case "Memberships": value.Memberships = membershipModelListAdapter.read(in); return true;
+                case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PublisherId": value.PublisherId = readString(in); return true;
+                case "PushNotificationRegistrations": value.PushNotificationRegistrations = pushNotificationRegistrationModelListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = statisticModelListAdapter.read(in); return true;
+                case "Tags": value.Tags = tagModelListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = readLong(in); return true;
+                case "ValuesToDate": value.ValuesToDate = valueToDateModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileViewConstraintsAdapter extends PlayFabModelAdapter<PlayerProfileViewConstraints> {
+        PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        protected PlayerProfileViewConstraints newInstance() {
+            return new PlayerProfileViewConstraints();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            writeField(out, "ShowAvatarUrl", value.ShowAvatarUrl);
+            writeField(out, "ShowBannedUntil", value.ShowBannedUntil);
+            writeField(out, "ShowCampaignAttributions", value.ShowCampaignAttributions);
+            writeField(out, "ShowContactEmailAddresses", value.ShowContactEmailAddresses);
+            writeField(out, "ShowCreated", value.ShowCreated);
+            writeField(out, "ShowDisplayName", value.ShowDisplayName);
+            writeField(out, "ShowExperimentVariants", value.ShowExperimentVariants);
+            writeField(out, "ShowLastLogin", value.ShowLastLogin);
+            writeField(out, "ShowLinkedAccounts", value.ShowLinkedAccounts);
+            writeField(out, "ShowLocations", value.ShowLocations);
+            writeField(out, "ShowMemberships", value.ShowMemberships);
+            writeField(out, "ShowOrigination", value.ShowOrigination);
+            writeField(out, "ShowPushNotificationRegistrations", value.ShowPushNotificationRegistrations);
+            writeField(out, "ShowStatistics", value.ShowStatistics);
+            writeField(out, "ShowTags", value.ShowTags);
+            writeField(out, "ShowTotalValueToDateInUsd", value.ShowTotalValueToDateInUsd);
+            writeField(out, "ShowValuesToDate", value.ShowValuesToDate);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileViewConstraints value) throws IOException {
+            switch (name) {
+                case "ShowAvatarUrl": value.ShowAvatarUrl = readBoolean(in); return true;
+                case "ShowBannedUntil": value.ShowBannedUntil = readBoolean(in); return true;
+                case "ShowCampaignAttributions": value.ShowCampaignAttributions = readBoolean(in); return true;
+                case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = readBoolean(in); return true;
+                case "ShowCreated": value.ShowCreated = readBoolean(in); return true;
+                case "ShowDisplayName": value.ShowDisplayName = readBoolean(in); return true;
+                case "ShowExperimentVariants": value.ShowExperimentVariants = readBoolean(in); return true;
+                case "ShowLastLogin": value.ShowLastLogin = readBoolean(in); return true;
+                case "ShowLinkedAccounts": value.ShowLinkedAccounts = readBoolean(in); return true;
+                case "ShowLocations": value.ShowLocations = readBoolean(in); return true;
+                case "ShowMemberships": value.ShowMemberships = readBoolean(in); return true;
+                case "ShowOrigination": value.ShowOrigination = readBoolean(in); return true;
+                case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = readBoolean(in); return true;
+                case "ShowStatistics": value.ShowStatistics = readBoolean(in); return true;
+                case "ShowTags": value.ShowTags = readBoolean(in); return true;
+                case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = readBoolean(in); return true;
+                case "ShowValuesToDate": value.ShowValuesToDate = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerStatisticVersionAdapter extends PlayFabModelAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected PlayerStatisticVersion newInstance() {
+            return new PlayerStatisticVersion();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            writeField(out, "ActivationTime", value.ActivationTime, dateAdapter);
+            writeField(out, "DeactivationTime", value.DeactivationTime, dateAdapter);
+            writeField(out, "ScheduledActivationTime", value.ScheduledActivationTime, dateAdapter);
+            writeField(out, "ScheduledDeactivationTime", value.ScheduledDeactivationTime, dateAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerStatisticVersion value) throws IOException {
+            switch (name) {
+                case "ActivationTime": value.ActivationTime = dateAdapter.read(in); return true;
+                case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); return true;
+                case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); return true;
+                case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayStation5PayloadAdapter extends PlayFabModelAdapter<PlayStation5Payload> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        PlayStation5PayloadAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected PlayStation5Payload newInstance() {
+            return new PlayStation5Payload();
+        }
+
+        protected void writeFields(JsonWriter out, PlayStation5Payload value) throws IOException {
+            writeField(out, "Ids", value.Ids, stringListAdapter);
+            writeField(out, "ServiceLabel", value.ServiceLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayStation5Payload value) throws IOException {
+            switch (name) {
+                case "Ids": value.Ids = stringListAdapter.read(in); return true;
+                case "ServiceLabel": value.ServiceLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PSNAccountPlayFabIdPairAdapter extends PlayFabModelAdapter<PSNAccountPlayFabIdPair> {
+        PSNAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected PSNAccountPlayFabIdPair newInstance() {
+            return new PSNAccountPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, PSNAccountPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PSNAccountId", value.PSNAccountId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PSNAccountPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PSNAccountId": value.PSNAccountId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseItemRequestAdapter extends PlayFabModelAdapter<PurchaseItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        PurchaseItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected PurchaseItemRequest newInstance() {
+            return new PurchaseItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseItemRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "Price", value.Price);
+            writeField(out, "StoreId", value.StoreId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseItemRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "Price": value.Price = readInteger(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseItemResultAdapter extends PlayFabModelAdapter<PurchaseItemResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        PurchaseItemResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected PurchaseItemResult newInstance() {
+            return new PurchaseItemResult();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseItemResult value) throws IOException {
+            writeField(out, "Items", value.Items, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseItemResult value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseReceiptFulfillmentAdapter extends PlayFabModelAdapter<PurchaseReceiptFulfillment> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        PurchaseReceiptFulfillmentAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected PurchaseReceiptFulfillment newInstance() {
+            return new PurchaseReceiptFulfillment();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseReceiptFulfillment value) throws IOException {
+            writeField(out, "FulfilledItems", value.FulfilledItems, itemInstanceListAdapter);
+            writeField(out, "RecordedPriceSource", value.RecordedPriceSource);
+            writeField(out, "RecordedTransactionCurrency", value.RecordedTransactionCurrency);
+            writeField(out, "RecordedTransactionTotal", value.RecordedTransactionTotal);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseReceiptFulfillment value) throws IOException {
+            switch (name) {
+                case "FulfilledItems": value.FulfilledItems = itemInstanceListAdapter.read(in); return true;
+                case "RecordedPriceSource": value.RecordedPriceSource = readString(in); return true;
+                case "RecordedTransactionCurrency": value.RecordedTransactionCurrency = readString(in); return true;
+                case "RecordedTransactionTotal": value.RecordedTransactionTotal = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends PlayFabModelAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected PushNotificationRegistrationModel newInstance() {
+            return new PushNotificationRegistrationModel();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            writeField(out, "NotificationEndpointARN", value.NotificationEndpointARN);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationRegistrationModel value) throws IOException {
+            switch (name) {
+                case "NotificationEndpointARN": value.NotificationEndpointARN = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemCouponRequestAdapter extends PlayFabModelAdapter<RedeemCouponRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RedeemCouponRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RedeemCouponRequest newInstance() {
+            return new RedeemCouponRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemCouponRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CouponCode", value.CouponCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemCouponRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CouponCode": value.CouponCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemCouponResultAdapter extends PlayFabModelAdapter<RedeemCouponResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        RedeemCouponResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected RedeemCouponResult newInstance() {
+            return new RedeemCouponResult();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemCouponResult value) throws IOException {
+            writeField(out, "GrantedItems", value.GrantedItems, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemCouponResult value) throws IOException {
+            switch (name) {
+                case "GrantedItems": value.GrantedItems = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RefreshPSNAuthTokenRequestAdapter extends PlayFabModelAdapter<RefreshPSNAuthTokenRequest> {
+        RefreshPSNAuthTokenRequestAdapter(Gson gson) {
+        }
+
+        protected RefreshPSNAuthTokenRequest newInstance() {
+            return new RefreshPSNAuthTokenRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RefreshPSNAuthTokenRequest value) throws IOException {
+            writeField(out, "AuthCode", value.AuthCode);
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "RedirectUri", value.RedirectUri);
+        }
+
+        protected boolean readField(JsonReader in, String name, RefreshPSNAuthTokenRequest value) throws IOException {
+            switch (name) {
+                case "AuthCode": value.AuthCode = readString(in); return true;
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "RedirectUri": value.RedirectUri = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RegisterForIOSPushNotificationRequestAdapter extends PlayFabModelAdapter<RegisterForIOSPushNotificationRequest> {
+        RegisterForIOSPushNotificationRequestAdapter(Gson gson) {
+        }
+
+        protected RegisterForIOSPushNotificationRequest newInstance() {
+            return new RegisterForIOSPushNotificationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RegisterForIOSPushNotificationRequest value) throws IOException {
+            writeField(out, "ConfirmationMessage", value.ConfirmationMessage);
+            writeField(out, "DeviceToken", value.DeviceToken);
+            writeField(out, "SendPushNotificationConfirmation", value.SendPushNotificationConfirmation);
+        }
+
+        protected boolean readField(JsonReader in, String name, RegisterForIOSPushNotificationRequest value) throws IOException {
+            switch (name) {
+                case "ConfirmationMessage": value.ConfirmationMessage = readString(in); return true;
+                case "DeviceToken": value.DeviceToken = readString(in); return true;
+                case "SendPushNotificationConfirmation": value.SendPushNotificationConfirmation = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RegisterForIOSPushNotificationResultAdapter extends PlayFabModelAdapter<RegisterForIOSPushNotificationResult> {
+        RegisterForIOSPushNotificationResultAdapter(Gson gson) {
+        }
+
+        protected RegisterForIOSPushNotificationResult newInstance() {
+            return new RegisterForIOSPushNotificationResult();
+        }
+
+        protected void writeFields(JsonWriter out, RegisterForIOSPushNotificationResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RegisterForIOSPushNotificationResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RegisterPlayFabUserRequestAdapter extends PlayFabModelAdapter<RegisterPlayFabUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        RegisterPlayFabUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected RegisterPlayFabUserRequest newInstance() {
+            return new RegisterPlayFabUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RegisterPlayFabUserRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Email", value.Email);
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "Password", value.Password);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "RequireBothUsernameAndEmail", value.RequireBothUsernameAndEmail);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, RegisterPlayFabUserRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Email": value.Email = readString(in); return true;
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "RequireBothUsernameAndEmail": value.RequireBothUsernameAndEmail = readBoolean(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RegisterPlayFabUserResultAdapter extends PlayFabModelAdapter<RegisterPlayFabUserResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+
+        RegisterPlayFabUserResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+        }
+
+        protected RegisterPlayFabUserResult newInstance() {
+            return new RegisterPlayFabUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, RegisterPlayFabUserResult value) throws IOException {
+            writeField(out, "EntityToken", value.EntityToken, entityTokenResponseAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SessionTicket", value.SessionTicket);
+            writeField(out, "SettingsForUser", value.SettingsForUser, userSettingsAdapter);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, RegisterPlayFabUserResult value) throws IOException {
+            switch (name) {
+                case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SessionTicket": value.SessionTicket = readString(in); return true;
+                case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveContactEmailRequestAdapter extends PlayFabModelAdapter<RemoveContactEmailRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RemoveContactEmailRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RemoveContactEmailRequest newInstance() {
+            return new RemoveContactEmailRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveContactEmailRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveContactEmailRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveContactEmailResultAdapter extends PlayFabModelAdapter<RemoveContactEmailResult> {
+        RemoveContactEmailResultAdapter(Gson gson) {
+        }
+
+        protected RemoveContactEmailResult newInstance() {
+            return new RemoveContactEmailResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveContactEmailResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveContactEmailResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveFriendRequestAdapter extends PlayFabModelAdapter<RemoveFriendRequest> {
+        RemoveFriendRequestAdapter(Gson gson) {
+        }
+
+        protected RemoveFriendRequest newInstance() {
+            return new RemoveFriendRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveFriendRequest value) throws IOException {
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveFriendRequest value) throws IOException {
+            switch (name) {
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveFriendResultAdapter extends PlayFabModelAdapter<RemoveFriendResult> {
+        RemoveFriendResultAdapter(Gson gson) {
+        }
+
+        protected RemoveFriendResult newInstance() {
+            return new RemoveFriendResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveFriendResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveFriendResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveGenericIDRequestAdapter extends PlayFabModelAdapter<RemoveGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        RemoveGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        protected RemoveGenericIDRequest newInstance() {
+            return new RemoveGenericIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveGenericIDRequest value) throws IOException {
+            writeField(out, "GenericId", value.GenericId, genericServiceIdAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveGenericIDRequest value) throws IOException {
+            switch (name) {
+                case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveGenericIDResultAdapter extends PlayFabModelAdapter<RemoveGenericIDResult> {
+        RemoveGenericIDResultAdapter(Gson gson) {
+        }
+
+        protected RemoveGenericIDResult newInstance() {
+            return new RemoveGenericIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveGenericIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveGenericIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveSharedGroupMembersRequestAdapter extends PlayFabModelAdapter<RemoveSharedGroupMembersRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RemoveSharedGroupMembersRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RemoveSharedGroupMembersRequest newInstance() {
+            return new RemoveSharedGroupMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveSharedGroupMembersRequest value) throws IOException {
+            writeField(out, "PlayFabIds", value.PlayFabIds, stringListAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveSharedGroupMembersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabIds": value.PlayFabIds = stringListAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveSharedGroupMembersResultAdapter extends PlayFabModelAdapter<RemoveSharedGroupMembersResult> {
+        RemoveSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        protected RemoveSharedGroupMembersResult newInstance() {
+            return new RemoveSharedGroupMembersResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveSharedGroupMembersResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveSharedGroupMembersResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportAdActivityRequestAdapter extends PlayFabModelAdapter<ReportAdActivityRequest> {
+        private final TypeAdapter<AdActivity> adActivityAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ReportAdActivityRequestAdapter(Gson gson) {
+            adActivityAdapter = gson.getAdapter(AdActivity.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ReportAdActivityRequest newInstance() {
+            return new ReportAdActivityRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ReportAdActivityRequest value) throws IOException {
+            writeField(out, "Activity", value.Activity, adActivityAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlacementId", value.PlacementId);
+            writeField(out, "RewardId", value.RewardId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportAdActivityRequest value) throws IOException {
+            switch (name) {
+                case "Activity": value.Activity = adActivityAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlacementId": value.PlacementId = readString(in); return true;
+                case "RewardId": value.RewardId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportAdActivityResultAdapter extends PlayFabModelAdapter<ReportAdActivityResult> {
+        ReportAdActivityResultAdapter(Gson gson) {
+        }
+
+        protected ReportAdActivityResult newInstance() {
+            return new ReportAdActivityResult();
+        }
+
+        protected void writeFields(JsonWriter out, ReportAdActivityResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportAdActivityResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportPlayerClientRequestAdapter extends PlayFabModelAdapter<ReportPlayerClientRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ReportPlayerClientRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ReportPlayerClientRequest newInstance() {
+            return new ReportPlayerClientRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ReportPlayerClientRequest value) throws IOException {
+            writeField(out, "Comment", value.Comment);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ReporteeId", value.ReporteeId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportPlayerClientRequest value) throws IOException {
+            switch (name) {
+                case "Comment": value.Comment = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ReporteeId": value.ReporteeId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportPlayerClientResultAdapter extends PlayFabModelAdapter<ReportPlayerClientResult> {
+        ReportPlayerClientResultAdapter(Gson gson) {
+        }
+
+        protected ReportPlayerClientResult newInstance() {
+            return new ReportPlayerClientResult();
+        }
+
+        protected void writeFields(JsonWriter out, ReportPlayerClientResult value) throws IOException {
+            writeField(out, "SubmissionsRemaining", value.SubmissionsRemaining);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportPlayerClientResult value) throws IOException {
+            switch (name) {
+                case "SubmissionsRemaining": value.SubmissionsRemaining = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RestoreIOSPurchasesRequestAdapter extends PlayFabModelAdapter<RestoreIOSPurchasesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RestoreIOSPurchasesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RestoreIOSPurchasesRequest newInstance() {
+            return new RestoreIOSPurchasesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RestoreIOSPurchasesRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ReceiptData", value.ReceiptData);
+        }
+
+        protected boolean readField(JsonReader in, String name, RestoreIOSPurchasesRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ReceiptData": value.ReceiptData = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RestoreIOSPurchasesResultAdapter extends PlayFabModelAdapter<RestoreIOSPurchasesResult> {
+        private final TypeAdapter<ArrayList<PurchaseReceiptFulfillment>> purchaseReceiptFulfillmentListAdapter;
+
+        RestoreIOSPurchasesResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentListAdapter = listAdapter(gson, PurchaseReceiptFulfillment.class);
+        }
+
+        protected RestoreIOSPurchasesResult newInstance() {
+            return new RestoreIOSPurchasesResult();
+        }
+
+        protected void writeFields(JsonWriter out, RestoreIOSPurchasesResult value) throws IOException {
+            writeField(out, "Fulfillments", value.Fulfillments, purchaseReceiptFulfillmentListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RestoreIOSPurchasesResult value) throws IOException {
+            switch (name) {
+                case "Fulfillments": value.Fulfillments = purchaseReceiptFulfillmentListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RewardAdActivityRequestAdapter extends PlayFabModelAdapter<RewardAdActivityRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RewardAdActivityRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RewardAdActivityRequest newInstance() {
+            return new RewardAdActivityRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RewardAdActivityRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlacementId", value.PlacementId);
+            writeField(out, "RewardId", value.RewardId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RewardAdActivityRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlacementId": value.PlacementId = readString(in); return true;
+                case "RewardId": value.RewardId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RewardAdActivityResultAdapter extends PlayFabModelAdapter<RewardAdActivityResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<AdRewardResults> adRewardResultsAdapter;
+
+        RewardAdActivityResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            adRewardResultsAdapter = gson.getAdapter(AdRewardResults.class);
+        }
+
+        protected RewardAdActivityResult newInstance() {
+            return new RewardAdActivityResult();
+        }
+
+        protected void writeFields(JsonWriter out, RewardAdActivityResult value) throws IOException {
+            writeField(out, "AdActivityEventId", value.AdActivityEventId);
+            writeField(out, "DebugResults", value.DebugResults, stringListAdapter);
+            writeField(out, "PlacementId", value.PlacementId);
+            writeField(out, "PlacementName", value.PlacementName);
+            writeField(out, "PlacementViewsRemaining", value.PlacementViewsRemaining);
+            writeField(out, "PlacementViewsResetMinutes", value.PlacementViewsResetMinutes);
+            writeField(out, "RewardResults", value.RewardResults, adRewardResultsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RewardAdActivityResult value) throws IOException {
+            switch (name) {
+                case "AdActivityEventId": value.AdActivityEventId = readString(in); return true;
+                case "DebugResults": value.DebugResults = stringListAdapter.read(in); return true;
+                case "PlacementId": value.PlacementId = readString(in); return true;
+                case "PlacementName": value.PlacementName = readString(in); return true;
+                case "PlacementViewsRemaining": value.PlacementViewsRemaining = readInteger(in); return true;
+                case "PlacementViewsResetMinutes": value.PlacementViewsResetMinutes = readDouble(in); return true;
+                case "RewardResults": value.RewardResults = adRewardResultsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends PlayFabModelAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        protected ScriptExecutionError newInstance() {
+            return new ScriptExecutionError();
+        }
+
+        protected void writeFields(JsonWriter out, ScriptExecutionError value) throws IOException {
+            writeField(out, "Error", value.Error);
+            writeField(out, "Message", value.Message);
+            writeField(out, "StackTrace", value.StackTrace);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScriptExecutionError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "StackTrace": value.StackTrace = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendAccountRecoveryEmailRequestAdapter extends PlayFabModelAdapter<SendAccountRecoveryEmailRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SendAccountRecoveryEmailRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SendAccountRecoveryEmailRequest newInstance() {
+            return new SendAccountRecoveryEmailRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SendAccountRecoveryEmailRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Email", value.Email);
+            writeField(out, "EmailTemplateId", value.EmailTemplateId);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendAccountRecoveryEmailRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Email": value.Email = readString(in); return true;
+                case "EmailTemplateId": value.EmailTemplateId = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendAccountRecoveryEmailResultAdapter extends PlayFabModelAdapter<SendAccountRecoveryEmailResult> {
+        SendAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        protected SendAccountRecoveryEmailResult newInstance() {
+            return new SendAccountRecoveryEmailResult();
+        }
+
+        protected void writeFields(JsonWriter out, SendAccountRecoveryEmailResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SendAccountRecoveryEmailResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetFriendTagsRequestAdapter extends PlayFabModelAdapter<SetFriendTagsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        SetFriendTagsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected SetFriendTagsRequest newInstance() {
+            return new SetFriendTagsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetFriendTagsRequest value) throws IOException {
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetFriendTagsRequest value) throws IOException {
+            switch (name) {
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetFriendTagsResultAdapter extends PlayFabModelAdapter<SetFriendTagsResult> {
+        SetFriendTagsResultAdapter(Gson gson) {
+        }
+
+        protected SetFriendTagsResult newInstance() {
+            return new SetFriendTagsResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetFriendTagsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetFriendTagsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPlayerSecretRequestAdapter extends PlayFabModelAdapter<SetPlayerSecretRequest> {
+        SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        protected SetPlayerSecretRequest newInstance() {
+            return new SetPlayerSecretRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            writeField(out, "EncryptedRequest", value.EncryptedRequest);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPlayerSecretRequest value) throws IOException {
+            switch (name) {
+                case "EncryptedRequest": value.EncryptedRequest = readString(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPlayerSecretResultAdapter extends PlayFabModelAdapter<SetPlayerSecretResult> {
+        SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        protected SetPlayerSecretResult newInstance() {
+            return new SetPlayerSecretResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPlayerSecretResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SharedGroupDataRecordAdapter extends PlayFabModelAdapter<SharedGroupDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        SharedGroupDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected SharedGroupDataRecord newInstance() {
+            return new SharedGroupDataRecord();
+        }
+
+        protected void writeFields(JsonWriter out, SharedGroupDataRecord value) throws IOException {
+            writeField(out, "LastUpdated", value.LastUpdated, dateAdapter);
+            writeField(out, "LastUpdatedBy", value.LastUpdatedBy);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, SharedGroupDataRecord value) throws IOException {
+            switch (name) {
+                case "LastUpdated": value.LastUpdated = dateAdapter.read(in); return true;
+                case "LastUpdatedBy": value.LastUpdatedBy = readString(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StartPurchaseRequestAdapter extends PlayFabModelAdapter<StartPurchaseRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<ItemPurchaseRequest>> itemPurchaseRequestListAdapter;
+
+        StartPurchaseRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            itemPurchaseRequestListAdapter = listAdapter(gson, ItemPurchaseRequest.class);
+        }
+
+        protected StartPurchaseRequest newInstance() {
+            return new StartPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, StartPurchaseRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Items", value.Items, itemPurchaseRequestListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, StartPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Items": value.Items = itemPurchaseRequestListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StartPurchaseResultAdapter extends PlayFabModelAdapter<StartPurchaseResult> {
+        private final TypeAdapter<ArrayList<CartItem>> cartItemListAdapter;
+        private final TypeAdapter<ArrayList<PaymentOption>> paymentOptionListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+
+        StartPurchaseResultAdapter(Gson gson) {
+            cartItemListAdapter = listAdapter(gson, CartItem.class);
+            paymentOptionListAdapter = listAdapter(gson, PaymentOption.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+        }
+
+        protected StartPurchaseResult newInstance() {
+            return new StartPurchaseResult();
+        }
+
+        protected void writeFields(JsonWriter out, StartPurchaseResult value) throws IOException {
+            writeField(out, "Contents", value.Contents, cartItemListAdapter);
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "PaymentOptions", value.PaymentOptions, paymentOptionListAdapter);
+            writeField(out, "VirtualCurrencyBalances", value.VirtualCurrencyBalances, integerMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StartPurchaseResult value) throws IOException {
+            switch (name) {
+                case "Contents": value.Contents = cartItemListAdapter.read(in); return true;
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "PaymentOptions": value.PaymentOptions = paymentOptionListAdapter.read(in); return true;
+                case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = integerMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticModelAdapter extends PlayFabModelAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        protected StatisticModel newInstance() {
+            return new StatisticModel();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticModel value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticModel value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticNameVersionAdapter extends PlayFabModelAdapter<StatisticNameVersion> {
+        StatisticNameVersionAdapter(Gson gson) {
+        }
+
+        protected StatisticNameVersion newInstance() {
+            return new StatisticNameVersion();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticNameVersion value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticNameVersion value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticUpdateAdapter extends PlayFabModelAdapter<StatisticUpdate> {
+        StatisticUpdateAdapter(Gson gson) {
+        }
+
+        protected StatisticUpdate newInstance() {
+            return new StatisticUpdate();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticUpdate value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticUpdate value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticValueAdapter extends PlayFabModelAdapter<StatisticValue> {
+        StatisticValueAdapter(Gson gson) {
+        }
+
+        protected StatisticValue newInstance() {
+            return new StatisticValue();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticValue value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticValue value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SteamPlayFabIdPairAdapter extends PlayFabModelAdapter<SteamPlayFabIdPair> {
+        SteamPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected SteamPlayFabIdPair newInstance() {
+            return new SteamPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, SteamPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SteamStringId", value.SteamStringId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SteamPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SteamStringId": value.SteamStringId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreItemAdapter extends PlayFabModelAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected StoreItem newInstance() {
+            return new StoreItem();
+        }
+
+        protected void writeFields(JsonWriter out, StoreItem value) throws IOException {
+            writeField(out, "CustomData", value.CustomData, objectAdapter);
+            writeField(out, "DisplayPosition", value.DisplayPosition);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreItem value) throws IOException {
+            switch (name) {
+                case "CustomData": value.CustomData = objectAdapter.read(in); return true;
+                case "DisplayPosition": value.DisplayPosition = readLong(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreMarketingModelAdapter extends PlayFabModelAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected StoreMarketingModel newInstance() {
+            return new StoreMarketingModel();
+        }
+
+        protected void writeFields(JsonWriter out, StoreMarketingModel value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Metadata", value.Metadata, objectAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreMarketingModel value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Metadata": value.Metadata = objectAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends PlayFabModelAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        protected SubscriptionModel newInstance() {
+            return new SubscriptionModel();
+        }
+
+        protected void writeFields(JsonWriter out, SubscriptionModel value) throws IOException {
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "InitialSubscriptionTime", value.InitialSubscriptionTime, dateAdapter);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Status", value.Status, subscriptionProviderStatusAdapter);
+            writeField(out, "SubscriptionId", value.SubscriptionId);
+            writeField(out, "SubscriptionItemId", value.SubscriptionItemId);
+            writeField(out, "SubscriptionProvider", value.SubscriptionProvider);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscriptionModel value) throws IOException {
+            switch (name) {
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); return true;
+                case "SubscriptionId": value.SubscriptionId = readString(in); return true;
+                case "SubscriptionItemId": value.SubscriptionItemId = readString(in); return true;
+                case "SubscriptionProvider": value.SubscriptionProvider = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractUserVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<SubtractUserVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SubtractUserVirtualCurrencyRequest newInstance() {
+            return new SubtractUserVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TagModelAdapter extends PlayFabModelAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        protected TagModel newInstance() {
+            return new TagModel();
+        }
+
+        protected void writeFields(JsonWriter out, TagModel value) throws IOException {
+            writeField(out, "TagValue", value.TagValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, TagModel value) throws IOException {
+            switch (name) {
+                case "TagValue": value.TagValue = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TitleNewsItemAdapter extends PlayFabModelAdapter<TitleNewsItem> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        TitleNewsItemAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected TitleNewsItem newInstance() {
+            return new TitleNewsItem();
+        }
+
+        protected void writeFields(JsonWriter out, TitleNewsItem value) throws IOException {
+            writeField(out, "Body", value.Body);
+            writeField(out, "NewsId", value.NewsId);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+            writeField(out, "Title", value.Title);
+        }
+
+        protected boolean readField(JsonReader in, String name, TitleNewsItem value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = readString(in); return true;
+                case "NewsId": value.NewsId = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                case "Title": value.Title = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TradeInfoAdapter extends PlayFabModelAdapter<TradeInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TradeStatus> tradeStatusAdapter;
+
+        TradeInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            tradeStatusAdapter = gson.getAdapter(TradeStatus.class);
+        }
+
+        protected TradeInfo newInstance() {
+            return new TradeInfo();
+        }
+
+        protected void writeFields(JsonWriter out, TradeInfo value) throws IOException {
+            writeField(out, "AcceptedInventoryInstanceIds", value.AcceptedInventoryInstanceIds, stringListAdapter);
+            writeField(out, "AcceptedPlayerId", value.AcceptedPlayerId);
+            writeField(out, "AllowedPlayerIds", value.AllowedPlayerIds, stringListAdapter);
+            writeField(out, "CancelledAt", value.CancelledAt, dateAdapter);
+            writeField(out, "FilledAt", value.FilledAt, dateAdapter);
+            writeField(out, "InvalidatedAt", value.InvalidatedAt, dateAdapter);
+            writeField(out, "OfferedCatalogItemIds", value.OfferedCatalogItemIds, stringListAdapter);
+            writeField(out, "OfferedInventoryInstanceIds", value.OfferedInventoryInstanceIds, stringListAdapter);
+            writeField(out, "OfferingPlayerId", value.OfferingPlayerId);
+            writeField(out, "OpenedAt", value.OpenedAt, dateAdapter);
+            writeField(out, "RequestedCatalogItemIds", value.RequestedCatalogItemIds, stringListAdapter);
+            writeField(out, "Status", value.Status, tradeStatusAdapter);
+            writeField(out, "TradeId", value.TradeId);
+        }
+
+        protected boolean readField(JsonReader in, String name, TradeInfo value) throws IOException {
+            switch (name) {
+                case "AcceptedInventoryInstanceIds": value.AcceptedInventoryInstanceIds = stringListAdapter.read(in); return true;
+                case "AcceptedPlayerId": value.AcceptedPlayerId = readString(in); return true;
+                case "AllowedPlayerIds": value.AllowedPlayerIds = stringListAdapter.read(in); return true;
+                case "CancelledAt": value.CancelledAt = dateAdapter.read(in); return true;
+                case "FilledAt": value.FilledAt = dateAdapter.read(in); return true;
+                case "InvalidatedAt": value.InvalidatedAt = dateAdapter.read(in); return true;
+                case "OfferedCatalogItemIds": value.OfferedCatalogItemIds = stringListAdapter.read(in); return true;
+                case "OfferedInventoryInstanceIds": value.OfferedInventoryInstanceIds = stringListAdapter.read(in); return true;
+                case "OfferingPlayerId": value.OfferingPlayerId = readString(in); return true;
+                case "OpenedAt": value.OpenedAt = dateAdapter.read(in); return true;
+                case "RequestedCatalogItemIds": value.RequestedCatalogItemIds = stringListAdapter.read(in); return true;
+                case "Status": value.Status = tradeStatusAdapter.read(in); return true;
+                case "TradeId": value.TradeId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TreatmentAssignmentAdapter extends PlayFabModelAdapter<TreatmentAssignment> {
+        private final TypeAdapter<ArrayList<Variable>> variableListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        TreatmentAssignmentAdapter(Gson gson) {
+            variableListAdapter = listAdapter(gson, Variable.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected TreatmentAssignment newInstance() {
+            return new TreatmentAssignment();
+        }
+
+        protected void writeFields(JsonWriter out, TreatmentAssignment value) throws IOException {
+            writeField(out, "Variables", value.Variables, variableListAdapter);
+            writeField(out, "Variants", value.Variants, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TreatmentAssignment value) throws IOException {
+            switch (name) {
+                case "Variables": value.Variables = variableListAdapter.read(in); return true;
+                case "Variants": value.Variants = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TwitchPlayFabIdPairAdapter extends PlayFabModelAdapter<TwitchPlayFabIdPair> {
+        TwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected TwitchPlayFabIdPair newInstance() {
+            return new TwitchPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, TwitchPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TwitchId", value.TwitchId);
+        }
+
+        protected boolean readField(JsonReader in, String name, TwitchPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TwitchId": value.TwitchId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkAndroidDeviceIDRequestAdapter extends PlayFabModelAdapter<UnlinkAndroidDeviceIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkAndroidDeviceIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkAndroidDeviceIDRequest newInstance() {
+            return new UnlinkAndroidDeviceIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkAndroidDeviceIDRequest value) throws IOException {
+            writeField(out, "AndroidDeviceId", value.AndroidDeviceId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkAndroidDeviceIDRequest value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceId": value.AndroidDeviceId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkAndroidDeviceIDResultAdapter extends PlayFabModelAdapter<UnlinkAndroidDeviceIDResult> {
+        UnlinkAndroidDeviceIDResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkAndroidDeviceIDResult newInstance() {
+            return new UnlinkAndroidDeviceIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkAndroidDeviceIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkAndroidDeviceIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkAppleRequestAdapter extends PlayFabModelAdapter<UnlinkAppleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkAppleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkAppleRequest newInstance() {
+            return new UnlinkAppleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkAppleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkAppleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkCustomIDRequestAdapter extends PlayFabModelAdapter<UnlinkCustomIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkCustomIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkCustomIDRequest newInstance() {
+            return new UnlinkCustomIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkCustomIDRequest value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkCustomIDRequest value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkCustomIDResultAdapter extends PlayFabModelAdapter<UnlinkCustomIDResult> {
+        UnlinkCustomIDResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkCustomIDResult newInstance() {
+            return new UnlinkCustomIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkCustomIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkCustomIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkFacebookAccountRequestAdapter extends PlayFabModelAdapter<UnlinkFacebookAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkFacebookAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkFacebookAccountRequest newInstance() {
+            return new UnlinkFacebookAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkFacebookAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkFacebookAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkFacebookAccountResultAdapter extends PlayFabModelAdapter<UnlinkFacebookAccountResult> {
+        UnlinkFacebookAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkFacebookAccountResult newInstance() {
+            return new UnlinkFacebookAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkFacebookAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkFacebookAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkFacebookInstantGamesIdRequestAdapter extends PlayFabModelAdapter<UnlinkFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkFacebookInstantGamesIdRequest newInstance() {
+            return new UnlinkFacebookInstantGamesIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkFacebookInstantGamesIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FacebookInstantGamesId", value.FacebookInstantGamesId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkFacebookInstantGamesIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FacebookInstantGamesId": value.FacebookInstantGamesId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkFacebookInstantGamesIdResultAdapter extends PlayFabModelAdapter<UnlinkFacebookInstantGamesIdResult> {
+        UnlinkFacebookInstantGamesIdResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkFacebookInstantGamesIdResult newInstance() {
+            return new UnlinkFacebookInstantGamesIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkFacebookInstantGamesIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkFacebookInstantGamesIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkGameCenterAccountRequestAdapter extends PlayFabModelAdapter<UnlinkGameCenterAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkGameCenterAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkGameCenterAccountRequest newInstance() {
+            return new UnlinkGameCenterAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkGameCenterAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkGameCenterAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkGameCenterAccountResultAdapter extends PlayFabModelAdapter<UnlinkGameCenterAccountResult> {
+        UnlinkGameCenterAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkGameCenterAccountResult newInstance() {
+            return new UnlinkGameCenterAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkGameCenterAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkGameCenterAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkGoogleAccountRequestAdapter extends PlayFabModelAdapter<UnlinkGoogleAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkGoogleAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkGoogleAccountRequest newInstance() {
+            return new UnlinkGoogleAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkGoogleAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkGoogleAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkGoogleAccountResultAdapter extends PlayFabModelAdapter<UnlinkGoogleAccountResult> {
+        UnlinkGoogleAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkGoogleAccountResult newInstance() {
+            return new UnlinkGoogleAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkGoogleAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkGoogleAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkGooglePlayGamesServicesAccountRequestAdapter extends PlayFabModelAdapter<UnlinkGooglePlayGamesServicesAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkGooglePlayGamesServicesAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkGooglePlayGamesServicesAccountRequest newInstance() {
+            return new UnlinkGooglePlayGamesServicesAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkGooglePlayGamesServicesAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkGooglePlayGamesServicesAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkGooglePlayGamesServicesAccountResultAdapter extends PlayFabModelAdapter<UnlinkGooglePlayGamesServicesAccountResult> {
+        UnlinkGooglePlayGamesServicesAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkGooglePlayGamesServicesAccountResult newInstance() {
+            return new UnlinkGooglePlayGamesServicesAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkGooglePlayGamesServicesAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkGooglePlayGamesServicesAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkIOSDeviceIDRequestAdapter extends PlayFabModelAdapter<UnlinkIOSDeviceIDRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkIOSDeviceIDRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkIOSDeviceIDRequest newInstance() {
+            return new UnlinkIOSDeviceIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkIOSDeviceIDRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeviceId", value.DeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkIOSDeviceIDRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeviceId": value.DeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkIOSDeviceIDResultAdapter extends PlayFabModelAdapter<UnlinkIOSDeviceIDResult> {
+        UnlinkIOSDeviceIDResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkIOSDeviceIDResult newInstance() {
+            return new UnlinkIOSDeviceIDResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkIOSDeviceIDResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkIOSDeviceIDResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkKongregateAccountRequestAdapter extends PlayFabModelAdapter<UnlinkKongregateAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkKongregateAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkKongregateAccountRequest newInstance() {
+            return new UnlinkKongregateAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkKongregateAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkKongregateAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkKongregateAccountResultAdapter extends PlayFabModelAdapter<UnlinkKongregateAccountResult> {
+        UnlinkKongregateAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkKongregateAccountResult newInstance() {
+            return new UnlinkKongregateAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkKongregateAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkKongregateAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkNintendoServiceAccountRequestAdapter extends PlayFabModelAdapter<UnlinkNintendoServiceAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkNintendoServiceAccountRequest newInstance() {
+            return new UnlinkNintendoServiceAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkNintendoServiceAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkNintendoServiceAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkNintendoSwitchDeviceIdRequestAdapter extends PlayFabModelAdapter<UnlinkNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkNintendoSwitchDeviceIdRequest newInstance() {
+            return new UnlinkNintendoSwitchDeviceIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkNintendoSwitchDeviceIdResultAdapter extends PlayFabModelAdapter<UnlinkNintendoSwitchDeviceIdResult> {
+        UnlinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkNintendoSwitchDeviceIdResult newInstance() {
+            return new UnlinkNintendoSwitchDeviceIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkNintendoSwitchDeviceIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkNintendoSwitchDeviceIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkOpenIdConnectRequestAdapter extends PlayFabModelAdapter<UnlinkOpenIdConnectRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkOpenIdConnectRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkOpenIdConnectRequest newInstance() {
+            return new UnlinkOpenIdConnectRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkOpenIdConnectRequest value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkOpenIdConnectRequest value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkPSNAccountRequestAdapter extends PlayFabModelAdapter<UnlinkPSNAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkPSNAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkPSNAccountRequest newInstance() {
+            return new UnlinkPSNAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkPSNAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkPSNAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkPSNAccountResultAdapter extends PlayFabModelAdapter<UnlinkPSNAccountResult> {
+        UnlinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkPSNAccountResult newInstance() {
+            return new UnlinkPSNAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkPSNAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkPSNAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkSteamAccountRequestAdapter extends PlayFabModelAdapter<UnlinkSteamAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkSteamAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkSteamAccountRequest newInstance() {
+            return new UnlinkSteamAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkSteamAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkSteamAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkSteamAccountResultAdapter extends PlayFabModelAdapter<UnlinkSteamAccountResult> {
+        UnlinkSteamAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkSteamAccountResult newInstance() {
+            return new UnlinkSteamAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkSteamAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkSteamAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkTwitchAccountRequestAdapter extends PlayFabModelAdapter<UnlinkTwitchAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkTwitchAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkTwitchAccountRequest newInstance() {
+            return new UnlinkTwitchAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkTwitchAccountRequest value) throws IOException {
+            writeField(out, "AccessToken", value.AccessToken);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkTwitchAccountRequest value) throws IOException {
+            switch (name) {
+                case "AccessToken": value.AccessToken = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkTwitchAccountResultAdapter extends PlayFabModelAdapter<UnlinkTwitchAccountResult> {
+        UnlinkTwitchAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkTwitchAccountResult newInstance() {
+            return new UnlinkTwitchAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkTwitchAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkTwitchAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkXboxAccountRequestAdapter extends PlayFabModelAdapter<UnlinkXboxAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkXboxAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkXboxAccountRequest newInstance() {
+            return new UnlinkXboxAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkXboxAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkXboxAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkXboxAccountResultAdapter extends PlayFabModelAdapter<UnlinkXboxAccountResult> {
+        UnlinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkXboxAccountResult newInstance() {
+            return new UnlinkXboxAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkXboxAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkXboxAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlockContainerInstanceRequestAdapter extends PlayFabModelAdapter<UnlockContainerInstanceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlockContainerInstanceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlockContainerInstanceRequest newInstance() {
+            return new UnlockContainerInstanceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlockContainerInstanceRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ContainerItemInstanceId", value.ContainerItemInstanceId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "KeyItemInstanceId", value.KeyItemInstanceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlockContainerInstanceRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ContainerItemInstanceId": value.ContainerItemInstanceId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "KeyItemInstanceId": value.KeyItemInstanceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlockContainerItemRequestAdapter extends PlayFabModelAdapter<UnlockContainerItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlockContainerItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlockContainerItemRequest newInstance() {
+            return new UnlockContainerItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlockContainerItemRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ContainerItemId", value.ContainerItemId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlockContainerItemRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ContainerItemId": value.ContainerItemId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlockContainerItemResultAdapter extends PlayFabModelAdapter<UnlockContainerItemResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        UnlockContainerItemResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected UnlockContainerItemResult newInstance() {
+            return new UnlockContainerItemResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlockContainerItemResult value) throws IOException {
+            writeField(out, "GrantedItems", value.GrantedItems, itemInstanceListAdapter);
+            writeField(out, "UnlockedItemInstanceId", value.UnlockedItemInstanceId);
+            writeField(out, "UnlockedWithItemInstanceId", value.UnlockedWithItemInstanceId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlockContainerItemResult value) throws IOException {
+            switch (name) {
+                case "GrantedItems": value.GrantedItems = itemInstanceListAdapter.read(in); return true;
+                case "UnlockedItemInstanceId": value.UnlockedItemInstanceId = readString(in); return true;
+                case "UnlockedWithItemInstanceId": value.UnlockedWithItemInstanceId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateAvatarUrlRequestAdapter extends PlayFabModelAdapter<UpdateAvatarUrlRequest> {
+        UpdateAvatarUrlRequestAdapter(Gson gson) {
+        }
+
+        protected UpdateAvatarUrlRequest newInstance() {
+            return new UpdateAvatarUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateAvatarUrlRequest value) throws IOException {
+            writeField(out, "ImageUrl", value.ImageUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateAvatarUrlRequest value) throws IOException {
+            switch (name) {
+                case "ImageUrl": value.ImageUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterDataRequestAdapter extends PlayFabModelAdapter<UpdateCharacterDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateCharacterDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateCharacterDataRequest newInstance() {
+            return new UpdateCharacterDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterDataRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterDataRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterDataResultAdapter extends PlayFabModelAdapter<UpdateCharacterDataResult> {
+        UpdateCharacterDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateCharacterDataResult newInstance() {
+            return new UpdateCharacterDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterDataResult value) throws IOException {
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterDataResult value) throws IOException {
+            switch (name) {
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterStatisticsRequestAdapter extends PlayFabModelAdapter<UpdateCharacterStatisticsRequest> {
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateCharacterStatisticsRequestAdapter(Gson gson) {
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateCharacterStatisticsRequest newInstance() {
+            return new UpdateCharacterStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterStatisticsRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterStatistics", value.CharacterStatistics, integerMapAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterStatistics": value.CharacterStatistics = integerMapAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterStatisticsResultAdapter extends PlayFabModelAdapter<UpdateCharacterStatisticsResult> {
+        UpdateCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        protected UpdateCharacterStatisticsResult newInstance() {
+            return new UpdateCharacterStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterStatisticsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterStatisticsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerStatisticsRequestAdapter extends PlayFabModelAdapter<UpdatePlayerStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<StatisticUpdate>> statisticUpdateListAdapter;
+
+        UpdatePlayerStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            statisticUpdateListAdapter = listAdapter(gson, StatisticUpdate.class);
+        }
+
+        protected UpdatePlayerStatisticsRequest newInstance() {
+            return new UpdatePlayerStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerStatisticsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Statistics", value.Statistics, statisticUpdateListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Statistics": value.Statistics = statisticUpdateListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerStatisticsResultAdapter extends PlayFabModelAdapter<UpdatePlayerStatisticsResult> {
+        UpdatePlayerStatisticsResultAdapter(Gson gson) {
+        }
+
+        protected UpdatePlayerStatisticsResult newInstance() {
+            return new UpdatePlayerStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerStatisticsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerStatisticsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateSharedGroupDataRequestAdapter extends PlayFabModelAdapter<UpdateSharedGroupDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateSharedGroupDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateSharedGroupDataRequest newInstance() {
+            return new UpdateSharedGroupDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateSharedGroupDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateSharedGroupDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateSharedGroupDataResultAdapter extends PlayFabModelAdapter<UpdateSharedGroupDataResult> {
+        UpdateSharedGroupDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateSharedGroupDataResult newInstance() {
+            return new UpdateSharedGroupDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateSharedGroupDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateSharedGroupDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserDataRequestAdapter extends PlayFabModelAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateUserDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateUserDataRequest newInstance() {
+            return new UpdateUserDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserDataResultAdapter extends PlayFabModelAdapter<UpdateUserDataResult> {
+        UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateUserDataResult newInstance() {
+            return new UpdateUserDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserDataResult value) throws IOException {
+            switch (name) {
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameRequestAdapter extends PlayFabModelAdapter<UpdateUserTitleDisplayNameRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateUserTitleDisplayNameRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateUserTitleDisplayNameRequest newInstance() {
+            return new UpdateUserTitleDisplayNameRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameResultAdapter extends PlayFabModelAdapter<UpdateUserTitleDisplayNameResult> {
+        UpdateUserTitleDisplayNameResultAdapter(Gson gson) {
+        }
+
+        protected UpdateUserTitleDisplayNameResult newInstance() {
+            return new UpdateUserTitleDisplayNameResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserTitleDisplayNameResult value) throws IOException {
+            writeField(out, "DisplayName", value.DisplayName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserTitleDisplayNameResult value) throws IOException {
+            switch (name) {
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAccountInfoAdapter extends PlayFabModelAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<UserAppleIdInfo> userAppleIdInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserGooglePlayGamesInfo> userGooglePlayGamesInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchAccountIdInfo> userNintendoSwitchAccountIdInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<ArrayList<UserOpenIdInfo>> userOpenIdInfoListAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserServerCustomIdInfo> userServerCustomIdInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            userAppleIdInfoAdapter = gson.getAdapter(UserAppleIdInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userGooglePlayGamesInfoAdapter = gson.getAdapter(UserGooglePlayGamesInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchAccountIdInfoAdapter = gson.getAdapter(UserNintendoSwitchAccountIdInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoListAdapter = listAdapter(gson, UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userServerCustomIdInfoAdapter = gson.getAdapter(UserServerCustomIdInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        protected UserAccountInfo newInstance() {
+            return new UserAccountInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAccountInfo value) throws IOException {
+            writeField(out, "AndroidDeviceInfo", value.AndroidDeviceInfo, userAndroidDeviceInfoAdapter);
+            writeField(out, "AppleAccountInfo", value.AppleAccountInfo, userAppleIdInfoAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "CustomIdInfo", value.CustomIdInfo, userCustomIdInfoAdapter);
+            writeField(out, "FacebookInfo", value.FacebookInfo, userFacebookInfoAdapter);
+            writeField(out, "FacebookInstantGamesIdInfo", value.FacebookInstantGamesIdInfo, userFacebookInstantGamesIdInfoAdapter);
+            writeField(out, "GameCenterInfo", value.GameCenterInfo, userGameCenterInfoAdapter);
+            writeField(out, "GoogleInfo", value.GoogleInfo, userGoogleInfoAdapter);
+            writeField(out, "GooglePlayGamesInfo", value.GooglePlayGamesInfo, userGooglePlayGamesInfoAdapter);
+            writeField(out, "IosDeviceInfo", value.IosDeviceInfo, userIosDeviceInfoAdapter);
+            writeField(out, "KongregateInfo", value.KongregateInfo, userKongregateInfoAdapter);
+            writeField(out, "NintendoSwitchAccountInfo", value.NintendoSwitchAccountInfo, userNintendoSwitchAccountIdInfoAdapter);
+            writeField(out, "NintendoSwitchDeviceIdInfo", value.NintendoSwitchDeviceIdInfo, userNintendoSwitchDeviceIdInfoAdapter);
+            writeField(out, "OpenIdInfo", value.OpenIdInfo, userOpenIdInfoListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PrivateInfo", value.PrivateInfo, userPrivateAccountInfoAdapter);
+            writeField(out, "PsnInfo", value.PsnInfo, userPsnInfoAdapter);
+            writeField(out, "ServerCustomIdInfo", value.ServerCustomIdInfo, userServerCustomIdInfoAdapter);
+            writeField(out, "SteamInfo", value.SteamInfo, userSteamInfoAdapter);
+            writeField(out, "TitleInfo", value.TitleInfo, userTitleInfoAdapter);
+            writeField(out, "TwitchInfo", value.TwitchInfo, userTwitchInfoAdapter);
+            writeField(out, "Username", value.Username);
+            writeField(out, "XboxInfo", value.XboxInfo, userXboxInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAccountInfo value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); return true;
+                case "AppleAccountInfo": value.AppleAccountInfo = userAppleIdInfoAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); return true;
+                case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); return true;
+                case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); return true;
+                case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); return true;
+                case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); return true;
+                case "GooglePlayGamesInfo": value.GooglePlayGamesInfo = userGooglePlayGamesInfoAdapter.read(in); return true;
+                case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); return true;
+                case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); return true;
+                case "NintendoSwitchAccountInfo": value.NintendoSwitchAccountInfo = userNintendoSwitchAccountIdInfoAdapter.read(in); return true;
+                case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); return true;
+                case "OpenIdInfo": value.OpenIdInfo = userOpenIdInfoListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); return true;
+                case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); return true;
+                case "ServerCustomIdInfo": value.ServerCustomIdInfo = userServerCustomIdInfoAdapter.read(in); return true;
+                case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); return true;
+                case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); return true;
+                case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAndroidDeviceInfoAdapter extends PlayFabModelAdapter<UserAndroidDeviceInfo> {
+        UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        protected UserAndroidDeviceInfo newInstance() {
+            return new UserAndroidDeviceInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            writeField(out, "AndroidDeviceId", value.AndroidDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAndroidDeviceInfo value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceId": value.AndroidDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAppleIdInfoAdapter extends PlayFabModelAdapter<UserAppleIdInfo> {
+        UserAppleIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserAppleIdInfo newInstance() {
+            return new UserAppleIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAppleIdInfo value) throws IOException {
+            writeField(out, "AppleSubjectId", value.AppleSubjectId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAppleIdInfo value) throws IOException {
+            switch (name) {
+                case "AppleSubjectId": value.AppleSubjectId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserCustomIdInfoAdapter extends PlayFabModelAdapter<UserCustomIdInfo> {
+        UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserCustomIdInfo newInstance() {
+            return new UserCustomIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserCustomIdInfo value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserDataRecordAdapter extends PlayFabModelAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UserDataRecord newInstance() {
+            return new UserDataRecord();
+        }
+
+        protected void writeFields(JsonWriter out, UserDataRecord value) throws IOException {
+            writeField(out, "LastUpdated", value.LastUpdated, dateAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserDataRecord value) throws IOException {
+            switch (name) {
+                case "LastUpdated": value.LastUpdated = dateAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserFacebookInfoAdapter extends PlayFabModelAdapter<UserFacebookInfo> {
+        UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        protected UserFacebookInfo newInstance() {
+            return new UserFacebookInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserFacebookInfo value) throws IOException {
+            writeField(out, "FacebookId", value.FacebookId);
+            writeField(out, "FullName", value.FullName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserFacebookInfo value) throws IOException {
+            switch (name) {
+                case "FacebookId": value.FacebookId = readString(in); return true;
+                case "FullName": value.FullName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserFacebookInstantGamesIdInfoAdapter extends PlayFabModelAdapter<UserFacebookInstantGamesIdInfo> {
+        UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserFacebookInstantGamesIdInfo newInstance() {
+            return new UserFacebookInstantGamesIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            writeField(out, "FacebookInstantGamesId", value.FacebookInstantGamesId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserFacebookInstantGamesIdInfo value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesId": value.FacebookInstantGamesId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGameCenterInfoAdapter extends PlayFabModelAdapter<UserGameCenterInfo> {
+        UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        protected UserGameCenterInfo newInstance() {
+            return new UserGameCenterInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            writeField(out, "GameCenterId", value.GameCenterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGameCenterInfo value) throws IOException {
+            switch (name) {
+                case "GameCenterId": value.GameCenterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGoogleInfoAdapter extends PlayFabModelAdapter<UserGoogleInfo> {
+        UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        protected UserGoogleInfo newInstance() {
+            return new UserGoogleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGoogleInfo value) throws IOException {
+            writeField(out, "GoogleEmail", value.GoogleEmail);
+            writeField(out, "GoogleGender", value.GoogleGender);
+            writeField(out, "GoogleId", value.GoogleId);
+            writeField(out, "GoogleLocale", value.GoogleLocale);
+            writeField(out, "GoogleName", value.GoogleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGoogleInfo value) throws IOException {
+            switch (name) {
+                case "GoogleEmail": value.GoogleEmail = readString(in); return true;
+                case "GoogleGender": value.GoogleGender = readString(in); return true;
+                case "GoogleId": value.GoogleId = readString(in); return true;
+                case "GoogleLocale": value.GoogleLocale = readString(in); return true;
+                case "GoogleName": value.GoogleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGooglePlayGamesInfoAdapter extends PlayFabModelAdapter<UserGooglePlayGamesInfo> {
+        UserGooglePlayGamesInfoAdapter(Gson gson) {
+        }
+
+        protected UserGooglePlayGamesInfo newInstance() {
+            return new UserGooglePlayGamesInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGooglePlayGamesInfo value) throws IOException {
+            writeField(out, "GooglePlayGamesPlayerAvatarImageUrl", value.GooglePlayGamesPlayerAvatarImageUrl);
+            writeField(out, "GooglePlayGamesPlayerDisplayName", value.GooglePlayGamesPlayerDisplayName);
+            writeField(out, "GooglePlayGamesPlayerId", value.GooglePlayGamesPlayerId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGooglePlayGamesInfo value) throws IOException {
+            switch (name) {
+                case "GooglePlayGamesPlayerAvatarImageUrl": value.GooglePlayGamesPlayerAvatarImageUrl = readString(in); return true;
+                case "GooglePlayGamesPlayerDisplayName": value.GooglePlayGamesPlayerDisplayName = readString(in); return true;
+                case "GooglePlayGamesPlayerId": value.GooglePlayGamesPlayerId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserIosDeviceInfoAdapter extends PlayFabModelAdapter<UserIosDeviceInfo> {
+        UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        protected UserIosDeviceInfo newInstance() {
+            return new UserIosDeviceInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            writeField(out, "IosDeviceId", value.IosDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserIosDeviceInfo value) throws IOException {
+            switch (name) {
+                case "IosDeviceId": value.IosDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserKongregateInfoAdapter extends PlayFabModelAdapter<UserKongregateInfo> {
+        UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        protected UserKongregateInfo newInstance() {
+            return new UserKongregateInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserKongregateInfo value) throws IOException {
+            writeField(out, "KongregateId", value.KongregateId);
+            writeField(out, "KongregateName", value.KongregateName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserKongregateInfo value) throws IOException {
+            switch (name) {
+                case "KongregateId": value.KongregateId = readString(in); return true;
+                case "KongregateName": value.KongregateName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserNintendoSwitchAccountIdInfoAdapter extends PlayFabModelAdapter<UserNintendoSwitchAccountIdInfo> {
+        UserNintendoSwitchAccountIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserNintendoSwitchAccountIdInfo newInstance() {
+            return new UserNintendoSwitchAccountIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            writeField(out, "NintendoSwitchAccountSubjectId", value.NintendoSwitchAccountSubjectId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchAccountSubjectId": value.NintendoSwitchAccountSubjectId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserNintendoSwitchDeviceIdInfoAdapter extends PlayFabModelAdapter<UserNintendoSwitchDeviceIdInfo> {
+        UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserNintendoSwitchDeviceIdInfo newInstance() {
+            return new UserNintendoSwitchDeviceIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserOpenIdInfoAdapter extends PlayFabModelAdapter<UserOpenIdInfo> {
+        UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserOpenIdInfo newInstance() {
+            return new UserOpenIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "Issuer", value.Issuer);
+            writeField(out, "Subject", value.Subject);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserOpenIdInfo value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "Issuer": value.Issuer = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserPrivateAccountInfoAdapter extends PlayFabModelAdapter<UserPrivateAccountInfo> {
+        UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        protected UserPrivateAccountInfo newInstance() {
+            return new UserPrivateAccountInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            writeField(out, "Email", value.Email);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserPrivateAccountInfo value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserPsnInfoAdapter extends PlayFabModelAdapter<UserPsnInfo> {
+        UserPsnInfoAdapter(Gson gson) {
+        }
+
+        protected UserPsnInfo newInstance() {
+            return new UserPsnInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserPsnInfo value) throws IOException {
+            writeField(out, "PsnAccountId", value.PsnAccountId);
+            writeField(out, "PsnOnlineId", value.PsnOnlineId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserPsnInfo value) throws IOException {
+            switch (name) {
+                case "PsnAccountId": value.PsnAccountId = readString(in); return true;
+                case "PsnOnlineId": value.PsnOnlineId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserServerCustomIdInfoAdapter extends PlayFabModelAdapter<UserServerCustomIdInfo> {
+        UserServerCustomIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserServerCustomIdInfo newInstance() {
+            return new UserServerCustomIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserServerCustomIdInfo value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserServerCustomIdInfo value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserSettingsAdapter extends PlayFabModelAdapter<UserSettings> {
+        UserSettingsAdapter(Gson gson) {
+        }
+
+        protected UserSettings newInstance() {
+            return new UserSettings();
+        }
+
+        protected void writeFields(JsonWriter out, UserSettings value) throws IOException {
+            writeField(out, "GatherDeviceInfo", value.GatherDeviceInfo);
+            writeField(out, "GatherFocusInfo", value.GatherFocusInfo);
+            writeField(out, "NeedsAttribution", value.NeedsAttribution);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserSettings value) throws IOException {
+            switch (name) {
+                case "GatherDeviceInfo": value.GatherDeviceInfo = readBoolean(in); return true;
+                case "GatherFocusInfo": value.GatherFocusInfo = readBoolean(in); return true;
+                case "NeedsAttribution": value.NeedsAttribution = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserSteamInfoAdapter extends PlayFabModelAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        protected UserSteamInfo newInstance() {
+            return new UserSteamInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserSteamInfo value) throws IOException {
+            writeField(out, "SteamActivationStatus", value.SteamActivationStatus, titleActivationStatusAdapter);
+            writeField(out, "SteamCountry", value.SteamCountry);
+            writeField(out, "SteamCurrency", value.SteamCurrency, currencyAdapter);
+            writeField(out, "SteamId", value.SteamId);
+            writeField(out, "SteamName", value.SteamName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserSteamInfo value) throws IOException {
+            switch (name) {
+                case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); return true;
+                case "SteamCountry": value.SteamCountry = readString(in); return true;
+                case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); return true;
+                case "SteamId": value.SteamId = readString(in); return true;
+                case "SteamName": value.SteamName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserTitleInfoAdapter extends PlayFabModelAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected UserTitleInfo newInstance() {
+            return new UserTitleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserTitleInfo value) throws IOException {
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "FirstLogin", value.FirstLogin, dateAdapter);
+            writeField(out, "isBanned", value.isBanned);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "Origination", value.Origination, userOriginationAdapter);
+            writeField(out, "TitlePlayerAccount", value.TitlePlayerAccount, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserTitleInfo value) throws IOException {
+            switch (name) {
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "FirstLogin": value.FirstLogin = dateAdapter.read(in); return true;
+                case "isBanned": value.isBanned = readBoolean(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "Origination": value.Origination = userOriginationAdapter.read(in); return true;
+                case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserTwitchInfoAdapter extends PlayFabModelAdapter<UserTwitchInfo> {
+        UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        protected UserTwitchInfo newInstance() {
+            return new UserTwitchInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserTwitchInfo value) throws IOException {
+            writeField(out, "TwitchId", value.TwitchId);
+            writeField(out, "TwitchUserName", value.TwitchUserName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserTwitchInfo value) throws IOException {
+            switch (name) {
+                case "TwitchId": value.TwitchId = readString(in); return true;
+                case "TwitchUserName": value.TwitchUserName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserXboxInfoAdapter extends PlayFabModelAdapter<UserXboxInfo> {
+        UserXboxInfoAdapter(Gson gson) {
+        }
+
+        protected UserXboxInfo newInstance() {
+            return new UserXboxInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserXboxInfo value) throws IOException {
+            writeField(out, "XboxUserId", value.XboxUserId);
+            writeField(out, "XboxUserSandbox", value.XboxUserSandbox);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserXboxInfo value) throws IOException {
+            switch (name) {
+                case "XboxUserId": value.XboxUserId = readString(in); return true;
+                case "XboxUserSandbox": value.XboxUserSandbox = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateAmazonReceiptRequestAdapter extends PlayFabModelAdapter<ValidateAmazonReceiptRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ValidateAmazonReceiptRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ValidateAmazonReceiptRequest newInstance() {
+            return new ValidateAmazonReceiptRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateAmazonReceiptRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PurchasePrice", value.PurchasePrice);
+            writeField(out, "ReceiptId", value.ReceiptId);
+            writeField(out, "UserId", value.UserId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateAmazonReceiptRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PurchasePrice": value.PurchasePrice = readInteger(in); return true;
+                case "ReceiptId": value.ReceiptId = readString(in); return true;
+                case "UserId": value.UserId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateAmazonReceiptResultAdapter extends PlayFabModelAdapter<ValidateAmazonReceiptResult> {
+        private final TypeAdapter<ArrayList<PurchaseReceiptFulfillment>> purchaseReceiptFulfillmentListAdapter;
+
+        ValidateAmazonReceiptResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentListAdapter = listAdapter(gson, PurchaseReceiptFulfillment.class);
+        }
+
+        protected ValidateAmazonReceiptResult newInstance() {
+            return new ValidateAmazonReceiptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateAmazonReceiptResult value) throws IOException {
+            writeField(out, "Fulfillments", value.Fulfillments, purchaseReceiptFulfillmentListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateAmazonReceiptResult value) throws IOException {
+            switch (name) {
+                case "Fulfillments": value.Fulfillments = purchaseReceiptFulfillmentListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateGooglePlayPurchaseRequestAdapter extends PlayFabModelAdapter<ValidateGooglePlayPurchaseRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ValidateGooglePlayPurchaseRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ValidateGooglePlayPurchaseRequest newInstance() {
+            return new ValidateGooglePlayPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateGooglePlayPurchaseRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PurchasePrice", value.PurchasePrice);
+            writeField(out, "ReceiptJson", value.ReceiptJson);
+            writeField(out, "Signature", value.Signature);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateGooglePlayPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PurchasePrice": value.PurchasePrice = readLong(in); return true;
+                case "ReceiptJson": value.ReceiptJson = readString(in); return true;
+                case "Signature": value.Signature = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateGooglePlayPurchaseResultAdapter extends PlayFabModelAdapter<ValidateGooglePlayPurchaseResult> {
+        private final TypeAdapter<ArrayList<PurchaseReceiptFulfillment>> purchaseReceiptFulfillmentListAdapter;
+
+        ValidateGooglePlayPurchaseResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentListAdapter = listAdapter(gson, PurchaseReceiptFulfillment.class);
+        }
+
+        protected ValidateGooglePlayPurchaseResult newInstance() {
+            return new ValidateGooglePlayPurchaseResult();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateGooglePlayPurchaseResult value) throws IOException {
+            writeField(out, "Fulfillments", value.Fulfillments, purchaseReceiptFulfillmentListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateGooglePlayPurchaseResult value) throws IOException {
+            switch (name) {
+                case "Fulfillments": value.Fulfillments = purchaseReceiptFulfillmentListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateIOSReceiptRequestAdapter extends PlayFabModelAdapter<ValidateIOSReceiptRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ValidateIOSReceiptRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ValidateIOSReceiptRequest newInstance() {
+            return new ValidateIOSReceiptRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateIOSReceiptRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PurchasePrice", value.PurchasePrice);
+            writeField(out, "ReceiptData", value.ReceiptData);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateIOSReceiptRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PurchasePrice": value.PurchasePrice = readInteger(in); return true;
+                case "ReceiptData": value.ReceiptData = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateIOSReceiptResultAdapter extends PlayFabModelAdapter<ValidateIOSReceiptResult> {
+        private final TypeAdapter<ArrayList<PurchaseReceiptFulfillment>> purchaseReceiptFulfillmentListAdapter;
+
+        ValidateIOSReceiptResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentListAdapter = listAdapter(gson, PurchaseReceiptFulfillment.class);
+        }
+
+        protected ValidateIOSReceiptResult newInstance() {
+            return new ValidateIOSReceiptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateIOSReceiptResult value) throws IOException {
+            writeField(out, "Fulfillments", value.Fulfillments, purchaseReceiptFulfillmentListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateIOSReceiptResult value) throws IOException {
+            switch (name) {
+                case "Fulfillments": value.Fulfillments = purchaseReceiptFulfillmentListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateWindowsReceiptRequestAdapter extends PlayFabModelAdapter<ValidateWindowsReceiptRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ValidateWindowsReceiptRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ValidateWindowsReceiptRequest newInstance() {
+            return new ValidateWindowsReceiptRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateWindowsReceiptRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PurchasePrice", value.PurchasePrice);
+            writeField(out, "Receipt", value.Receipt);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateWindowsReceiptRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PurchasePrice": value.PurchasePrice = readLong(in); return true;
+                case "Receipt": value.Receipt = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateWindowsReceiptResultAdapter extends PlayFabModelAdapter<ValidateWindowsReceiptResult> {
+        private final TypeAdapter<ArrayList<PurchaseReceiptFulfillment>> purchaseReceiptFulfillmentListAdapter;
+
+        ValidateWindowsReceiptResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentListAdapter = listAdapter(gson, PurchaseReceiptFulfillment.class);
+        }
+
+        protected ValidateWindowsReceiptResult newInstance() {
+            return new ValidateWindowsReceiptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateWindowsReceiptResult value) throws IOException {
+            writeField(out, "Fulfillments", value.Fulfillments, purchaseReceiptFulfillmentListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateWindowsReceiptResult value) throws IOException {
+            switch (name) {
+                case "Fulfillments": value.Fulfillments = purchaseReceiptFulfillmentListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends PlayFabModelAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        protected ValueToDateModel newInstance() {
+            return new ValueToDateModel();
+        }
+
+        protected void writeFields(JsonWriter out, ValueToDateModel value) throws IOException {
+            writeField(out, "Currency", value.Currency);
+            writeField(out, "TotalValue", value.TotalValue);
+            writeField(out, "TotalValueAsDecimal", value.TotalValueAsDecimal);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValueToDateModel value) throws IOException {
+            switch (name) {
+                case "Currency": value.Currency = readString(in); return true;
+                case "TotalValue": value.TotalValue = readLong(in); return true;
+                case "TotalValueAsDecimal": value.TotalValueAsDecimal = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VariableAdapter extends PlayFabModelAdapter<Variable> {
+        VariableAdapter(Gson gson) {
+        }
+
+        protected Variable newInstance() {
+            return new Variable();
+        }
+
+        protected void writeFields(JsonWriter out, Variable value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, Variable value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends PlayFabModelAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected VirtualCurrencyRechargeTime newInstance() {
+            return new VirtualCurrencyRechargeTime();
+        }
+
+        protected void writeFields(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            writeField(out, "RechargeMax", value.RechargeMax);
+            writeField(out, "RechargeTime", value.RechargeTime, dateAdapter);
+            writeField(out, "SecondsToRecharge", value.SecondsToRecharge);
+        }
+
+        protected boolean readField(JsonReader in, String name, VirtualCurrencyRechargeTime value) throws IOException {
+            switch (name) {
+                case "RechargeMax": value.RechargeMax = readInteger(in); return true;
+                case "RechargeTime": value.RechargeTime = dateAdapter.read(in); return true;
+                case "SecondsToRecharge": value.SecondsToRecharge = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteClientCharacterEventRequestAdapter extends PlayFabModelAdapter<WriteClientCharacterEventRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteClientCharacterEventRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected WriteClientCharacterEventRequest newInstance() {
+            return new WriteClientCharacterEventRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteClientCharacterEventRequest value) throws IOException {
+            writeField(out, "Body", value.Body, objectMapAdapter);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteClientCharacterEventRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = objectMapAdapter.read(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteClientPlayerEventRequestAdapter extends PlayFabModelAdapter<WriteClientPlayerEventRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteClientPlayerEventRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected WriteClientPlayerEventRequest newInstance() {
+            return new WriteClientPlayerEventRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteClientPlayerEventRequest value) throws IOException {
+            writeField(out, "Body", value.Body, objectMapAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteClientPlayerEventRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = objectMapAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteEventResponseAdapter extends PlayFabModelAdapter<WriteEventResponse> {
+        WriteEventResponseAdapter(Gson gson) {
+        }
+
+        protected WriteEventResponse newInstance() {
+            return new WriteEventResponse();
+        }
+
+        protected void writeFields(JsonWriter out, WriteEventResponse value) throws IOException {
+            writeField(out, "EventId", value.EventId);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteEventResponse value) throws IOException {
+            switch (name) {
+                case "EventId": value.EventId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteTitleEventRequestAdapter extends PlayFabModelAdapter<WriteTitleEventRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteTitleEventRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected WriteTitleEventRequest newInstance() {
+            return new WriteTitleEventRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteTitleEventRequest value) throws IOException {
+            writeField(out, "Body", value.Body, objectMapAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteTitleEventRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = objectMapAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class XboxLiveAccountPlayFabIdPairAdapter extends PlayFabModelAdapter<XboxLiveAccountPlayFabIdPair> {
+        XboxLiveAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected XboxLiveAccountPlayFabIdPair newInstance() {
+            return new XboxLiveAccountPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, XboxLiveAccountPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "XboxLiveAccountId", value.XboxLiveAccountId);
+        }
+
+        protected boolean readField(JsonReader in, String name, XboxLiveAccountPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "XboxLiveAccountId": value.XboxLiveAccountId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
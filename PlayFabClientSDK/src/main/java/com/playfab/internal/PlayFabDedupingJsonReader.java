@@ -0,0 +1,49 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A JsonReader that returns one shared instance for every repeat of a short string, for decoding large, repetitive
+ * responses that are kept in memory, such as catalogs. Item classes, tags, currency codes, catalog versions and the
+ * item ids inside bundles then cost one String each however many items mention them. Longer strings, which are
+ * usually unique descriptions or custom data, are passed through. Not thread-safe, like JsonReader itself.
+ */
+public class PlayFabDedupingJsonReader extends JsonReader {
+    private static final int MAX_POOLED_LENGTH = 64;
+
+    private final Map<String, String> pool;
+
+    /** @param pool Canonical strings, shared across readers when several documents are decoded together */
+    public PlayFabDedupingJsonReader(Reader in, Map<String, String> pool) {
+        super(in);
+        this.pool = pool;
+    }
+
+    public PlayFabDedupingJsonReader(Reader in) {
+        this(in, new HashMap<String, String>());
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        return canonical(super.nextString());
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return canonical(super.nextName());
+    }
+
+    private String canonical(String value) {
+        if (value.length() > MAX_POOLED_LENGTH)
+            return value;
+        String existing = pool.get(value);
+        if (existing != null)
+            return existing;
+        pool.put(value, value);
+        return value;
+    }
+}
@@ -0,0 +1,1443 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabGroupsModels;
+import com.playfab.PlayFabGroupsModels.*;
+
+/**
+ * Streaming adapters for the PlayFabGroupsModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabGroupsModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabGroupsModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AcceptGroupApplicationRequest": return new AcceptGroupApplicationRequestAdapter(gson);
+            case "AcceptGroupInvitationRequest": return new AcceptGroupInvitationRequestAdapter(gson);
+            case "AddMembersRequest": return new AddMembersRequestAdapter(gson);
+            case "ApplyToGroupRequest": return new ApplyToGroupRequestAdapter(gson);
+            case "ApplyToGroupResponse": return new ApplyToGroupResponseAdapter(gson);
+            case "BlockEntityRequest": return new BlockEntityRequestAdapter(gson);
+            case "ChangeMemberRoleRequest": return new ChangeMemberRoleRequestAdapter(gson);
+            case "CreateGroupRequest": return new CreateGroupRequestAdapter(gson);
+            case "CreateGroupResponse": return new CreateGroupResponseAdapter(gson);
+            case "CreateGroupRoleRequest": return new CreateGroupRoleRequestAdapter(gson);
+            case "CreateGroupRoleResponse": return new CreateGroupRoleResponseAdapter(gson);
+            case "DeleteGroupRequest": return new DeleteGroupRequestAdapter(gson);
+            case "DeleteRoleRequest": return new DeleteRoleRequestAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "EntityMemberRole": return new EntityMemberRoleAdapter(gson);
+            case "EntityWithLineage": return new EntityWithLineageAdapter(gson);
+            case "GetGroupRequest": return new GetGroupRequestAdapter(gson);
+            case "GetGroupResponse": return new GetGroupResponseAdapter(gson);
+            case "GroupApplication": return new GroupApplicationAdapter(gson);
+            case "GroupBlock": return new GroupBlockAdapter(gson);
+            case "GroupInvitation": return new GroupInvitationAdapter(gson);
+            case "GroupRole": return new GroupRoleAdapter(gson);
+            case "GroupWithRoles": return new GroupWithRolesAdapter(gson);
+            case "InviteToGroupRequest": return new InviteToGroupRequestAdapter(gson);
+            case "InviteToGroupResponse": return new InviteToGroupResponseAdapter(gson);
+            case "IsMemberRequest": return new IsMemberRequestAdapter(gson);
+            case "IsMemberResponse": return new IsMemberResponseAdapter(gson);
+            case "ListGroupApplicationsRequest": return new ListGroupApplicationsRequestAdapter(gson);
+            case "ListGroupApplicationsResponse": return new ListGroupApplicationsResponseAdapter(gson);
+            case "ListGroupBlocksRequest": return new ListGroupBlocksRequestAdapter(gson);
+            case "ListGroupBlocksResponse": return new ListGroupBlocksResponseAdapter(gson);
+            case "ListGroupInvitationsRequest": return new ListGroupInvitationsRequestAdapter(gson);
+            case "ListGroupInvitationsResponse": return new ListGroupInvitationsResponseAdapter(gson);
+            case "ListGroupMembersRequest": return new ListGroupMembersRequestAdapter(gson);
+            case "ListGroupMembersResponse": return new ListGroupMembersResponseAdapter(gson);
+            case "ListMembershipOpportunitiesRequest": return new ListMembershipOpportunitiesRequestAdapter(gson);
+            case "ListMembershipOpportunitiesResponse": return new ListMembershipOpportunitiesResponseAdapter(gson);
+            case "ListMembershipRequest": return new ListMembershipRequestAdapter(gson);
+            case "ListMembershipResponse": return new ListMembershipResponseAdapter(gson);
+            case "RemoveGroupApplicationRequest": return new RemoveGroupApplicationRequestAdapter(gson);
+            case "RemoveGroupInvitationRequest": return new RemoveGroupInvitationRequestAdapter(gson);
+            case "RemoveMembersRequest": return new RemoveMembersRequestAdapter(gson);
+            case "UnblockEntityRequest": return new UnblockEntityRequestAdapter(gson);
+            case "UpdateGroupRequest": return new UpdateGroupRequestAdapter(gson);
+            case "UpdateGroupResponse": return new UpdateGroupResponseAdapter(gson);
+            case "UpdateGroupRoleRequest": return new UpdateGroupRoleRequestAdapter(gson);
+            case "UpdateGroupRoleResponse": return new UpdateGroupRoleResponseAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AcceptGroupApplicationRequestAdapter extends PlayFabModelAdapter<AcceptGroupApplicationRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AcceptGroupApplicationRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected AcceptGroupApplicationRequest newInstance() {
+            return new AcceptGroupApplicationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AcceptGroupApplicationRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AcceptGroupApplicationRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AcceptGroupInvitationRequestAdapter extends PlayFabModelAdapter<AcceptGroupInvitationRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AcceptGroupInvitationRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected AcceptGroupInvitationRequest newInstance() {
+            return new AcceptGroupInvitationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AcceptGroupInvitationRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AcceptGroupInvitationRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddMembersRequestAdapter extends PlayFabModelAdapter<AddMembersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        AddMembersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected AddMembersRequest newInstance() {
+            return new AddMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddMembersRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "Members", value.Members, entityKeyListAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddMembersRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "Members": value.Members = entityKeyListAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ApplyToGroupRequestAdapter extends PlayFabModelAdapter<ApplyToGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ApplyToGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ApplyToGroupRequest newInstance() {
+            return new ApplyToGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ApplyToGroupRequest value) throws IOException {
+            writeField(out, "AutoAcceptOutstandingInvite", value.AutoAcceptOutstandingInvite);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ApplyToGroupRequest value) throws IOException {
+            switch (name) {
+                case "AutoAcceptOutstandingInvite": value.AutoAcceptOutstandingInvite = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ApplyToGroupResponseAdapter extends PlayFabModelAdapter<ApplyToGroupResponse> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ApplyToGroupResponseAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ApplyToGroupResponse newInstance() {
+            return new ApplyToGroupResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ApplyToGroupResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityWithLineageAdapter);
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ApplyToGroupResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityWithLineageAdapter.read(in); return true;
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BlockEntityRequestAdapter extends PlayFabModelAdapter<BlockEntityRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        BlockEntityRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected BlockEntityRequest newInstance() {
+            return new BlockEntityRequest();
+        }
+
+        protected void writeFields(JsonWriter out, BlockEntityRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BlockEntityRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ChangeMemberRoleRequestAdapter extends PlayFabModelAdapter<ChangeMemberRoleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        ChangeMemberRoleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected ChangeMemberRoleRequest newInstance() {
+            return new ChangeMemberRoleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ChangeMemberRoleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DestinationRoleId", value.DestinationRoleId);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "Members", value.Members, entityKeyListAdapter);
+            writeField(out, "OriginRoleId", value.OriginRoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ChangeMemberRoleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DestinationRoleId": value.DestinationRoleId = readString(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "Members": value.Members = entityKeyListAdapter.read(in); return true;
+                case "OriginRoleId": value.OriginRoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateGroupRequestAdapter extends PlayFabModelAdapter<CreateGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CreateGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected CreateGroupRequest newInstance() {
+            return new CreateGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateGroupRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "GroupName", value.GroupName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateGroupRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "GroupName": value.GroupName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateGroupResponseAdapter extends PlayFabModelAdapter<CreateGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        CreateGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected CreateGroupResponse newInstance() {
+            return new CreateGroupResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateGroupResponse value) throws IOException {
+            writeField(out, "AdminRoleId", value.AdminRoleId);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "GroupName", value.GroupName);
+            writeField(out, "MemberRoleId", value.MemberRoleId);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "Roles", value.Roles, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateGroupResponse value) throws IOException {
+            switch (name) {
+                case "AdminRoleId": value.AdminRoleId = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "GroupName": value.GroupName = readString(in); return true;
+                case "MemberRoleId": value.MemberRoleId = readString(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "Roles": value.Roles = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateGroupRoleRequestAdapter extends PlayFabModelAdapter<CreateGroupRoleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CreateGroupRoleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected CreateGroupRoleRequest newInstance() {
+            return new CreateGroupRoleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateGroupRoleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "RoleId", value.RoleId);
+            writeField(out, "RoleName", value.RoleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateGroupRoleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                case "RoleName": value.RoleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateGroupRoleResponseAdapter extends PlayFabModelAdapter<CreateGroupRoleResponse> {
+        CreateGroupRoleResponseAdapter(Gson gson) {
+        }
+
+        protected CreateGroupRoleResponse newInstance() {
+            return new CreateGroupRoleResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateGroupRoleResponse value) throws IOException {
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "RoleId", value.RoleId);
+            writeField(out, "RoleName", value.RoleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateGroupRoleResponse value) throws IOException {
+            switch (name) {
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                case "RoleName": value.RoleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteGroupRequestAdapter extends PlayFabModelAdapter<DeleteGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteGroupRequest newInstance() {
+            return new DeleteGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteGroupRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteGroupRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteRoleRequestAdapter extends PlayFabModelAdapter<DeleteRoleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteRoleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteRoleRequest newInstance() {
+            return new DeleteRoleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteRoleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteRoleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityMemberRoleAdapter extends PlayFabModelAdapter<EntityMemberRole> {
+        private final TypeAdapter<ArrayList<EntityWithLineage>> entityWithLineageListAdapter;
+
+        EntityMemberRoleAdapter(Gson gson) {
+            entityWithLineageListAdapter = listAdapter(gson, EntityWithLineage.class);
+        }
+
+        protected EntityMemberRole newInstance() {
+            return new EntityMemberRole();
+        }
+
+        protected void writeFields(JsonWriter out, EntityMemberRole value) throws IOException {
+            writeField(out, "Members", value.Members, entityWithLineageListAdapter);
+            writeField(out, "RoleId", value.RoleId);
+            writeField(out, "RoleName", value.RoleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityMemberRole value) throws IOException {
+            switch (name) {
+                case "Members": value.Members = entityWithLineageListAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                case "RoleName": value.RoleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityWithLineageAdapter extends PlayFabModelAdapter<EntityWithLineage> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, EntityKey>> entityKeyMapAdapter;
+
+        EntityWithLineageAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityKeyMapAdapter = mapAdapter(gson, EntityKey.class);
+        }
+
+        protected EntityWithLineage newInstance() {
+            return new EntityWithLineage();
+        }
+
+        protected void writeFields(JsonWriter out, EntityWithLineage value) throws IOException {
+            writeField(out, "Key", value.Key, entityKeyAdapter);
+            writeField(out, "Lineage", value.Lineage, entityKeyMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityWithLineage value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = entityKeyAdapter.read(in); return true;
+                case "Lineage": value.Lineage = entityKeyMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetGroupRequestAdapter extends PlayFabModelAdapter<GetGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetGroupRequest newInstance() {
+            return new GetGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetGroupRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "GroupName", value.GroupName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetGroupRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "GroupName": value.GroupName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetGroupResponseAdapter extends PlayFabModelAdapter<GetGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetGroupResponse newInstance() {
+            return new GetGroupResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetGroupResponse value) throws IOException {
+            writeField(out, "AdminRoleId", value.AdminRoleId);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "GroupName", value.GroupName);
+            writeField(out, "MemberRoleId", value.MemberRoleId);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "Roles", value.Roles, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetGroupResponse value) throws IOException {
+            switch (name) {
+                case "AdminRoleId": value.AdminRoleId = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "GroupName": value.GroupName = readString(in); return true;
+                case "MemberRoleId": value.MemberRoleId = readString(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "Roles": value.Roles = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GroupApplicationAdapter extends PlayFabModelAdapter<GroupApplication> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GroupApplicationAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GroupApplication newInstance() {
+            return new GroupApplication();
+        }
+
+        protected void writeFields(JsonWriter out, GroupApplication value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityWithLineageAdapter);
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GroupApplication value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityWithLineageAdapter.read(in); return true;
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GroupBlockAdapter extends PlayFabModelAdapter<GroupBlock> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GroupBlockAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GroupBlock newInstance() {
+            return new GroupBlock();
+        }
+
+        protected void writeFields(JsonWriter out, GroupBlock value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityWithLineageAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GroupBlock value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityWithLineageAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GroupInvitationAdapter extends PlayFabModelAdapter<GroupInvitation> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        GroupInvitationAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        protected GroupInvitation newInstance() {
+            return new GroupInvitation();
+        }
+
+        protected void writeFields(JsonWriter out, GroupInvitation value) throws IOException {
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "InvitedByEntity", value.InvitedByEntity, entityWithLineageAdapter);
+            writeField(out, "InvitedEntity", value.InvitedEntity, entityWithLineageAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GroupInvitation value) throws IOException {
+            switch (name) {
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "InvitedByEntity": value.InvitedByEntity = entityWithLineageAdapter.read(in); return true;
+                case "InvitedEntity": value.InvitedEntity = entityWithLineageAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GroupRoleAdapter extends PlayFabModelAdapter<GroupRole> {
+        GroupRoleAdapter(Gson gson) {
+        }
+
+        protected GroupRole newInstance() {
+            return new GroupRole();
+        }
+
+        protected void writeFields(JsonWriter out, GroupRole value) throws IOException {
+            writeField(out, "RoleId", value.RoleId);
+            writeField(out, "RoleName", value.RoleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GroupRole value) throws IOException {
+            switch (name) {
+                case "RoleId": value.RoleId = readString(in); return true;
+                case "RoleName": value.RoleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GroupWithRolesAdapter extends PlayFabModelAdapter<GroupWithRoles> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<GroupRole>> groupRoleListAdapter;
+
+        GroupWithRolesAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            groupRoleListAdapter = listAdapter(gson, GroupRole.class);
+        }
+
+        protected GroupWithRoles newInstance() {
+            return new GroupWithRoles();
+        }
+
+        protected void writeFields(JsonWriter out, GroupWithRoles value) throws IOException {
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "GroupName", value.GroupName);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "Roles", value.Roles, groupRoleListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GroupWithRoles value) throws IOException {
+            switch (name) {
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "GroupName": value.GroupName = readString(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "Roles": value.Roles = groupRoleListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InviteToGroupRequestAdapter extends PlayFabModelAdapter<InviteToGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        InviteToGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected InviteToGroupRequest newInstance() {
+            return new InviteToGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InviteToGroupRequest value) throws IOException {
+            writeField(out, "AutoAcceptOutstandingApplication", value.AutoAcceptOutstandingApplication);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, InviteToGroupRequest value) throws IOException {
+            switch (name) {
+                case "AutoAcceptOutstandingApplication": value.AutoAcceptOutstandingApplication = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InviteToGroupResponseAdapter extends PlayFabModelAdapter<InviteToGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        InviteToGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        protected InviteToGroupResponse newInstance() {
+            return new InviteToGroupResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InviteToGroupResponse value) throws IOException {
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "InvitedByEntity", value.InvitedByEntity, entityWithLineageAdapter);
+            writeField(out, "InvitedEntity", value.InvitedEntity, entityWithLineageAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, InviteToGroupResponse value) throws IOException {
+            switch (name) {
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "InvitedByEntity": value.InvitedByEntity = entityWithLineageAdapter.read(in); return true;
+                case "InvitedEntity": value.InvitedEntity = entityWithLineageAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IsMemberRequestAdapter extends PlayFabModelAdapter<IsMemberRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        IsMemberRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected IsMemberRequest newInstance() {
+            return new IsMemberRequest();
+        }
+
+        protected void writeFields(JsonWriter out, IsMemberRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, IsMemberRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IsMemberResponseAdapter extends PlayFabModelAdapter<IsMemberResponse> {
+        IsMemberResponseAdapter(Gson gson) {
+        }
+
+        protected IsMemberResponse newInstance() {
+            return new IsMemberResponse();
+        }
+
+        protected void writeFields(JsonWriter out, IsMemberResponse value) throws IOException {
+            writeField(out, "IsMember", value.IsMember);
+        }
+
+        protected boolean readField(JsonReader in, String name, IsMemberResponse value) throws IOException {
+            switch (name) {
+                case "IsMember": value.IsMember = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupApplicationsRequestAdapter extends PlayFabModelAdapter<ListGroupApplicationsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupApplicationsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListGroupApplicationsRequest newInstance() {
+            return new ListGroupApplicationsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupApplicationsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupApplicationsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupApplicationsResponseAdapter extends PlayFabModelAdapter<ListGroupApplicationsResponse> {
+        private final TypeAdapter<ArrayList<GroupApplication>> groupApplicationListAdapter;
+
+        ListGroupApplicationsResponseAdapter(Gson gson) {
+            groupApplicationListAdapter = listAdapter(gson, GroupApplication.class);
+        }
+
+        protected ListGroupApplicationsResponse newInstance() {
+            return new ListGroupApplicationsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupApplicationsResponse value) throws IOException {
+            writeField(out, "Applications", value.Applications, groupApplicationListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupApplicationsResponse value) throws IOException {
+            switch (name) {
+                case "Applications": value.Applications = groupApplicationListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupBlocksRequestAdapter extends PlayFabModelAdapter<ListGroupBlocksRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupBlocksRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListGroupBlocksRequest newInstance() {
+            return new ListGroupBlocksRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupBlocksRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupBlocksRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupBlocksResponseAdapter extends PlayFabModelAdapter<ListGroupBlocksResponse> {
+        private final TypeAdapter<ArrayList<GroupBlock>> groupBlockListAdapter;
+
+        ListGroupBlocksResponseAdapter(Gson gson) {
+            groupBlockListAdapter = listAdapter(gson, GroupBlock.class);
+        }
+
+        protected ListGroupBlocksResponse newInstance() {
+            return new ListGroupBlocksResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupBlocksResponse value) throws IOException {
+            writeField(out, "BlockedEntities", value.BlockedEntities, groupBlockListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupBlocksResponse value) throws IOException {
+            switch (name) {
+                case "BlockedEntities": value.BlockedEntities = groupBlockListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupInvitationsRequestAdapter extends PlayFabModelAdapter<ListGroupInvitationsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupInvitationsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListGroupInvitationsRequest newInstance() {
+            return new ListGroupInvitationsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupInvitationsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupInvitationsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupInvitationsResponseAdapter extends PlayFabModelAdapter<ListGroupInvitationsResponse> {
+        private final TypeAdapter<ArrayList<GroupInvitation>> groupInvitationListAdapter;
+
+        ListGroupInvitationsResponseAdapter(Gson gson) {
+            groupInvitationListAdapter = listAdapter(gson, GroupInvitation.class);
+        }
+
+        protected ListGroupInvitationsResponse newInstance() {
+            return new ListGroupInvitationsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupInvitationsResponse value) throws IOException {
+            writeField(out, "Invitations", value.Invitations, groupInvitationListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupInvitationsResponse value) throws IOException {
+            switch (name) {
+                case "Invitations": value.Invitations = groupInvitationListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupMembersRequestAdapter extends PlayFabModelAdapter<ListGroupMembersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListGroupMembersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListGroupMembersRequest newInstance() {
+            return new ListGroupMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupMembersRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupMembersRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListGroupMembersResponseAdapter extends PlayFabModelAdapter<ListGroupMembersResponse> {
+        private final TypeAdapter<ArrayList<EntityMemberRole>> entityMemberRoleListAdapter;
+
+        ListGroupMembersResponseAdapter(Gson gson) {
+            entityMemberRoleListAdapter = listAdapter(gson, EntityMemberRole.class);
+        }
+
+        protected ListGroupMembersResponse newInstance() {
+            return new ListGroupMembersResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListGroupMembersResponse value) throws IOException {
+            writeField(out, "Members", value.Members, entityMemberRoleListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListGroupMembersResponse value) throws IOException {
+            switch (name) {
+                case "Members": value.Members = entityMemberRoleListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMembershipOpportunitiesRequestAdapter extends PlayFabModelAdapter<ListMembershipOpportunitiesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListMembershipOpportunitiesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListMembershipOpportunitiesRequest newInstance() {
+            return new ListMembershipOpportunitiesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListMembershipOpportunitiesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMembershipOpportunitiesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMembershipOpportunitiesResponseAdapter extends PlayFabModelAdapter<ListMembershipOpportunitiesResponse> {
+        private final TypeAdapter<ArrayList<GroupApplication>> groupApplicationListAdapter;
+        private final TypeAdapter<ArrayList<GroupInvitation>> groupInvitationListAdapter;
+
+        ListMembershipOpportunitiesResponseAdapter(Gson gson) {
+            groupApplicationListAdapter = listAdapter(gson, GroupApplication.class);
+            groupInvitationListAdapter = listAdapter(gson, GroupInvitation.class);
+        }
+
+        protected ListMembershipOpportunitiesResponse newInstance() {
+            return new ListMembershipOpportunitiesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListMembershipOpportunitiesResponse value) throws IOException {
+            writeField(out, "Applications", value.Applications, groupApplicationListAdapter);
+            writeField(out, "Invitations", value.Invitations, groupInvitationListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMembershipOpportunitiesResponse value) throws IOException {
+            switch (name) {
+                case "Applications": value.Applications = groupApplicationListAdapter.read(in); return true;
+                case "Invitations": value.Invitations = groupInvitationListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMembershipRequestAdapter extends PlayFabModelAdapter<ListMembershipRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListMembershipRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListMembershipRequest newInstance() {
+            return new ListMembershipRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListMembershipRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMembershipRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMembershipResponseAdapter extends PlayFabModelAdapter<ListMembershipResponse> {
+        private final TypeAdapter<ArrayList<GroupWithRoles>> groupWithRolesListAdapter;
+
+        ListMembershipResponseAdapter(Gson gson) {
+            groupWithRolesListAdapter = listAdapter(gson, GroupWithRoles.class);
+        }
+
+        protected ListMembershipResponse newInstance() {
+            return new ListMembershipResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListMembershipResponse value) throws IOException {
+            writeField(out, "Groups", value.Groups, groupWithRolesListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMembershipResponse value) throws IOException {
+            switch (name) {
+                case "Groups": value.Groups = groupWithRolesListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveGroupApplicationRequestAdapter extends PlayFabModelAdapter<RemoveGroupApplicationRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RemoveGroupApplicationRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RemoveGroupApplicationRequest newInstance() {
+            return new RemoveGroupApplicationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveGroupApplicationRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveGroupApplicationRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveGroupInvitationRequestAdapter extends PlayFabModelAdapter<RemoveGroupInvitationRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RemoveGroupInvitationRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RemoveGroupInvitationRequest newInstance() {
+            return new RemoveGroupInvitationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveGroupInvitationRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveGroupInvitationRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveMembersRequestAdapter extends PlayFabModelAdapter<RemoveMembersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        RemoveMembersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected RemoveMembersRequest newInstance() {
+            return new RemoveMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveMembersRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "Members", value.Members, entityKeyListAdapter);
+            writeField(out, "RoleId", value.RoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveMembersRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "Members": value.Members = entityKeyListAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnblockEntityRequestAdapter extends PlayFabModelAdapter<UnblockEntityRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UnblockEntityRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected UnblockEntityRequest newInstance() {
+            return new UnblockEntityRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnblockEntityRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnblockEntityRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateGroupRequestAdapter extends PlayFabModelAdapter<UpdateGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UpdateGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected UpdateGroupRequest newInstance() {
+            return new UpdateGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateGroupRequest value) throws IOException {
+            writeField(out, "AdminRoleId", value.AdminRoleId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExpectedProfileVersion", value.ExpectedProfileVersion);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "GroupName", value.GroupName);
+            writeField(out, "MemberRoleId", value.MemberRoleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateGroupRequest value) throws IOException {
+            switch (name) {
+                case "AdminRoleId": value.AdminRoleId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExpectedProfileVersion": value.ExpectedProfileVersion = readInteger(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "GroupName": value.GroupName = readString(in); return true;
+                case "MemberRoleId": value.MemberRoleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateGroupResponseAdapter extends PlayFabModelAdapter<UpdateGroupResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        UpdateGroupResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        protected UpdateGroupResponse newInstance() {
+            return new UpdateGroupResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateGroupResponse value) throws IOException {
+            writeField(out, "OperationReason", value.OperationReason);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "SetResult", value.SetResult, operationTypesAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateGroupResponse value) throws IOException {
+            switch (name) {
+                case "OperationReason": value.OperationReason = readString(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "SetResult": value.SetResult = operationTypesAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateGroupRoleRequestAdapter extends PlayFabModelAdapter<UpdateGroupRoleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UpdateGroupRoleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected UpdateGroupRoleRequest newInstance() {
+            return new UpdateGroupRoleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateGroupRoleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExpectedProfileVersion", value.ExpectedProfileVersion);
+            writeField(out, "Group", value.Group, entityKeyAdapter);
+            writeField(out, "RoleId", value.RoleId);
+            writeField(out, "RoleName", value.RoleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateGroupRoleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExpectedProfileVersion": value.ExpectedProfileVersion = readInteger(in); return true;
+                case "Group": value.Group = entityKeyAdapter.read(in); return true;
+                case "RoleId": value.RoleId = readString(in); return true;
+                case "RoleName": value.RoleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateGroupRoleResponseAdapter extends PlayFabModelAdapter<UpdateGroupRoleResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        UpdateGroupRoleResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        protected UpdateGroupRoleResponse newInstance() {
+            return new UpdateGroupRoleResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateGroupRoleResponse value) throws IOException {
+            writeField(out, "OperationReason", value.OperationReason);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "SetResult", value.SetResult, operationTypesAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateGroupRoleResponse value) throws IOException {
+            switch (name) {
+                case "OperationReason": value.OperationReason = readString(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "SetResult": value.SetResult = operationTypesAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
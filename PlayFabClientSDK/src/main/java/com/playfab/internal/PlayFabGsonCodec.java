@@ -0,0 +1,23 @@
+package com.playfab.internal;
+
+import java.io.*;
+import com.google.gson.stream.*;
+
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+
+/** The default codec: Gson's own entry points over PlayFabJson.gson. */
+public class PlayFabGsonCodec implements PlayFabJsonCodec {
+    public String toJson(Object value) {
+        return PlayFabJson.gson.toJson(value);
+    }
+
+    public <T> T fromJson(String json, Class<T> type) {
+        return PlayFabJson.gson.fromJson(json, type);
+    }
+
+    public <T> PlayFabJsonSuccess<T> fromSuccessJson(String json, Class<T> resultType) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true); // Match Gson.fromJson
+        return PlayFabJson.successAdapter(resultType).read(reader);
+    }
+}
@@ -0,0 +1,104 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.concurrent.*;
+import com.google.gson.*;
+import com.google.gson.reflect.*;
+
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabRawJson;
+
+/**
+ * The JSON entry point for PlayFabHTTP and every API class, and the single Gson configuration they share.
+ * Encoding and decoding go through the selected PlayFabJsonCodec; Gson with the generated adapters is the default.
+ * The PlayFabJsonSuccess envelope adapter for each result type is resolved once and cached, so no endpoint pays for
+ * TypeToken reflection on the request path. Models are encoded by the generated PlayFabModelAdapters rather than by
+ * reflection, Date fields by the lock-free PlayFabDateCodec, and PlayFabRawJson values verbatim.
+ */
+public class PlayFabJson {
+    public static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"; // Wire format of every Date field, always UTC
+    public static final String CODEC_PROPERTY = "com.playfab.jsonCodec"; // System property naming the codec to use
+    public static final Gson gson = new GsonBuilder()
+        .registerTypeAdapter(Date.class, new PlayFabDateCodec())
+        .registerTypeAdapter(PlayFabRawJson.class, new PlayFabRawJsonAdapter())
+        .registerTypeAdapterFactory(new PlayFabModelAdapters())
+        .create();
+
+    private static final ConcurrentMap<Class<?>, TypeAdapter<?>> successAdapters = new ConcurrentHashMap<Class<?>, TypeAdapter<?>>();
+    private static volatile PlayFabJsonCodec codec = loadCodec();
+
+    /** @return The cached adapter for PlayFabJsonSuccess&lt;resultType&gt;, resolving it on first use */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<PlayFabJsonSuccess<T>> successAdapter(Class<T> resultType) {
+        TypeAdapter<?> adapter = successAdapters.get(resultType);
+        if (adapter == null) {
+            Type envelopeType = TypeToken.getParameterized(PlayFabJsonSuccess.class, resultType).getType();
+            adapter = gson.getAdapter(TypeToken.get(envelopeType));
+            TypeAdapter<?> existing = successAdapters.putIfAbsent(resultType, adapter);
+            if (existing != null)
+                adapter = existing;
+        }
+        return (TypeAdapter<PlayFabJsonSuccess<T>>) adapter;
+    }
+
+    /** Decode a successful API response envelope into its typed data. */
+    public static <T> PlayFabJsonSuccess<T> fromSuccessJson(String json, Class<T> resultType) throws IOException {
+        return codec.fromSuccessJson(json, resultType);
+    }
+
+    /** Resolve the envelope adapters for the given result types ahead of the first call, e.g. during title startup. */
+    public static void warmUp(Class<?>... resultTypes) {
+        for (Class<?> resultType : resultTypes)
+            successAdapter(resultType);
+    }
+
+    public static String toJson(Object value) {
+        return codec.toJson(value);
+    }
+
+    public static <T> T fromJson(String json, Class<T> type) {
+        return codec.fromJson(json, type);
+    }
+
+    public static PlayFabJsonCodec getCodec() {
+        return codec;
+    }
+
+    public static void setCodec(PlayFabJsonCodec newCodec) {
+        if (newCodec == null)
+            throw new IllegalArgumentException("codec");
+        codec = newCodec;
+    }
+
+    /**
+     * The codec named by the com.playfab.jsonCodec system property ("gson", "streaming" or a class name), else the first
+     * PlayFabJsonCodec registered with java.util.ServiceLoader, else Gson.
+     */
+    private static PlayFabJsonCodec loadCodec() {
+        String name = System.getProperty(CODEC_PROPERTY);
+        if ("streaming".equalsIgnoreCase(name))
+            return new PlayFabStreamingJsonCodec();
+        if (name != null && !name.isEmpty() && !"gson".equalsIgnoreCase(name)) {
+            try {
+                return Class.forName(name).asSubclass(PlayFabJsonCodec.class).getDeclaredConstructor().newInstance();
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Cannot create JSON codec " + name, e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create JSON codec " + name, e);
+            } catch (ClassCastException e) {
+                throw new IllegalStateException(name + " is not a PlayFabJsonCodec", e);
+            }
+        }
+        if (name == null) {
+            Iterator<PlayFabJsonCodec> providers = ServiceLoader.load(PlayFabJsonCodec.class).iterator();
+            if (providers.hasNext())
+                return providers.next();
+        }
+        return new PlayFabGsonCodec();
+    }
+}
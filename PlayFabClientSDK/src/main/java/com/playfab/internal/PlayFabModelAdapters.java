@@ -0,0 +1,122 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabErrors.PlayFabJsonError;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabAuthenticationModels;
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabCloudScriptModels;
+import com.playfab.PlayFabDataModels;
+import com.playfab.PlayFabEconomyModels;
+import com.playfab.PlayFabExperimentationModels;
+import com.playfab.PlayFabGroupsModels;
+import com.playfab.PlayFabInsightsModels;
+import com.playfab.PlayFabLocalizationModels;
+import com.playfab.PlayFabMultiplayerModels;
+import com.playfab.PlayFabProfilesModels;
+
+/**
+ * Registers the generated model adapters, and the hand-written ones for the response envelopes, on the SDK's Gson so
+ * that no request or result goes through Gson's ReflectiveTypeAdapterFactory.
+ */
+public class PlayFabModelAdapters implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == PlayFabJsonSuccess.class) {
+            Type dataType = type.getType() instanceof ParameterizedType ? ((ParameterizedType) type.getType()).getActualTypeArguments()[0] : Object.class;
+            return (TypeAdapter<T>) new JsonSuccessAdapter<Object>((TypeAdapter<Object>) gson.getAdapter(TypeToken.get(dataType)));
+        }
+        if (raw == PlayFabJsonError.class)
+            return (TypeAdapter<T>) new JsonErrorAdapter(gson);
+
+        Class<?> owner = raw.getDeclaringClass();
+        if (owner == null || raw.isEnum())
+            return null;
+        if (owner == PlayFabAuthenticationModels.class) return (TypeAdapter<T>) PlayFabAuthenticationModelAdapters.create(gson, raw);
+        if (owner == PlayFabClientModels.class) return (TypeAdapter<T>) PlayFabClientModelAdapters.create(gson, raw);
+        if (owner == PlayFabCloudScriptModels.class) return (TypeAdapter<T>) PlayFabCloudScriptModelAdapters.create(gson, raw);
+        if (owner == PlayFabDataModels.class) return (TypeAdapter<T>) PlayFabDataModelAdapters.create(gson, raw);
+        if (owner == PlayFabEconomyModels.class) return (TypeAdapter<T>) PlayFabEconomyModelAdapters.create(gson, raw);
+        if (owner == PlayFabExperimentationModels.class) return (TypeAdapter<T>) PlayFabExperimentationModelAdapters.create(gson, raw);
+        if (owner == PlayFabGroupsModels.class) return (TypeAdapter<T>) PlayFabGroupsModelAdapters.create(gson, raw);
+        if (owner == PlayFabInsightsModels.class) return (TypeAdapter<T>) PlayFabInsightsModelAdapters.create(gson, raw);
+        if (owner == PlayFabLocalizationModels.class) return (TypeAdapter<T>) PlayFabLocalizationModelAdapters.create(gson, raw);
+        if (owner == PlayFabMultiplayerModels.class) return (TypeAdapter<T>) PlayFabMultiplayerModelAdapters.create(gson, raw);
+        if (owner == PlayFabProfilesModels.class) return (TypeAdapter<T>) PlayFabProfilesModelAdapters.create(gson, raw);
+        return null;
+    }
+
+    static final class JsonSuccessAdapter<E> extends PlayFabModelAdapter<PlayFabJsonSuccess<E>> {
+        private final TypeAdapter<E> dataAdapter;
+
+        JsonSuccessAdapter(TypeAdapter<E> dataAdapter) {
+            this.dataAdapter = dataAdapter;
+        }
+
+        protected PlayFabJsonSuccess<E> newInstance() {
+            return new PlayFabJsonSuccess<E>();
+        }
+
+        protected void writeFields(JsonWriter out, PlayFabJsonSuccess<E> value) throws IOException {
+            out.name("code").value(value.code);
+            writeField(out, "status", value.status);
+            writeField(out, "data", value.data, dataAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayFabJsonSuccess<E> value) throws IOException {
+            switch (name) {
+                case "code": value.code = readInt(in, value.code); return true;
+                case "status": value.status = readString(in); return true;
+                case "data": value.data = dataAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class JsonErrorAdapter extends PlayFabModelAdapter<PlayFabJsonError> {
+        private final TypeAdapter<Map<String, List<String>>> errorDetailsAdapter;
+
+        JsonErrorAdapter(Gson gson) {
+            errorDetailsAdapter = gson.getAdapter(new TypeToken<Map<String, List<String>>>(){});
+        }
+
+        protected PlayFabJsonError newInstance() {
+            return new PlayFabJsonError();
+        }
+
+        protected void writeFields(JsonWriter out, PlayFabJsonError value) throws IOException {
+            out.name("code").value(value.code);
+            writeField(out, "status", value.status);
+            writeField(out, "error", value.error);
+            out.name("errorCode").value(value.errorCode);
+            writeField(out, "errorMessage", value.errorMessage);
+            writeField(out, "errorDetails", value.errorDetails, errorDetailsAdapter);
+            writeField(out, "retryAfterSeconds", value.retryAfterSeconds);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayFabJsonError value) throws IOException {
+            switch (name) {
+                case "code": value.code = readInt(in, value.code); return true;
+                case "status": value.status = readString(in); return true;
+                case "error": value.error = readString(in); return true;
+                case "errorCode": value.errorCode = readInt(in, value.errorCode); return true;
+                case "errorMessage": value.errorMessage = readString(in); return true;
+                case "errorDetails": value.errorDetails = errorDetailsAdapter.read(in); return true;
+                case "retryAfterSeconds": value.retryAfterSeconds = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,5495 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabMultiplayerModels;
+import com.playfab.PlayFabMultiplayerModels.*;
+
+/**
+ * Streaming adapters for the PlayFabMultiplayerModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabMultiplayerModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabMultiplayerModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AssetReference": return new AssetReferenceAdapter(gson);
+            case "AssetReferenceParams": return new AssetReferenceParamsAdapter(gson);
+            case "AssetSummary": return new AssetSummaryAdapter(gson);
+            case "BuildAliasDetailsResponse": return new BuildAliasDetailsResponseAdapter(gson);
+            case "BuildAliasParams": return new BuildAliasParamsAdapter(gson);
+            case "BuildRegion": return new BuildRegionAdapter(gson);
+            case "BuildRegionParams": return new BuildRegionParamsAdapter(gson);
+            case "BuildSelectionCriterion": return new BuildSelectionCriterionAdapter(gson);
+            case "BuildSummary": return new BuildSummaryAdapter(gson);
+            case "CancelAllMatchmakingTicketsForPlayerRequest": return new CancelAllMatchmakingTicketsForPlayerRequestAdapter(gson);
+            case "CancelAllMatchmakingTicketsForPlayerResult": return new CancelAllMatchmakingTicketsForPlayerResultAdapter(gson);
+            case "CancelAllServerBackfillTicketsForPlayerRequest": return new CancelAllServerBackfillTicketsForPlayerRequestAdapter(gson);
+            case "CancelAllServerBackfillTicketsForPlayerResult": return new CancelAllServerBackfillTicketsForPlayerResultAdapter(gson);
+            case "CancelMatchmakingTicketRequest": return new CancelMatchmakingTicketRequestAdapter(gson);
+            case "CancelMatchmakingTicketResult": return new CancelMatchmakingTicketResultAdapter(gson);
+            case "CancelServerBackfillTicketRequest": return new CancelServerBackfillTicketRequestAdapter(gson);
+            case "CancelServerBackfillTicketResult": return new CancelServerBackfillTicketResultAdapter(gson);
+            case "Certificate": return new CertificateAdapter(gson);
+            case "CertificateSummary": return new CertificateSummaryAdapter(gson);
+            case "ConnectedPlayer": return new ConnectedPlayerAdapter(gson);
+            case "ContainerImageReference": return new ContainerImageReferenceAdapter(gson);
+            case "CoreCapacity": return new CoreCapacityAdapter(gson);
+            case "CoreCapacityChange": return new CoreCapacityChangeAdapter(gson);
+            case "CreateBuildAliasRequest": return new CreateBuildAliasRequestAdapter(gson);
+            case "CreateBuildWithCustomContainerRequest": return new CreateBuildWithCustomContainerRequestAdapter(gson);
+            case "CreateBuildWithCustomContainerResponse": return new CreateBuildWithCustomContainerResponseAdapter(gson);
+            case "CreateBuildWithManagedContainerRequest": return new CreateBuildWithManagedContainerRequestAdapter(gson);
+            case "CreateBuildWithManagedContainerResponse": return new CreateBuildWithManagedContainerResponseAdapter(gson);
+            case "CreateBuildWithProcessBasedServerRequest": return new CreateBuildWithProcessBasedServerRequestAdapter(gson);
+            case "CreateBuildWithProcessBasedServerResponse": return new CreateBuildWithProcessBasedServerResponseAdapter(gson);
+            case "CreateLobbyRequest": return new CreateLobbyRequestAdapter(gson);
+            case "CreateLobbyResult": return new CreateLobbyResultAdapter(gson);
+            case "CreateMatchmakingTicketRequest": return new CreateMatchmakingTicketRequestAdapter(gson);
+            case "CreateMatchmakingTicketResult": return new CreateMatchmakingTicketResultAdapter(gson);
+            case "CreateRemoteUserRequest": return new CreateRemoteUserRequestAdapter(gson);
+            case "CreateRemoteUserResponse": return new CreateRemoteUserResponseAdapter(gson);
+            case "CreateServerBackfillTicketRequest": return new CreateServerBackfillTicketRequestAdapter(gson);
+            case "CreateServerBackfillTicketResult": return new CreateServerBackfillTicketResultAdapter(gson);
+            case "CreateServerMatchmakingTicketRequest": return new CreateServerMatchmakingTicketRequestAdapter(gson);
+            case "CreateTitleMultiplayerServersQuotaChangeRequest": return new CreateTitleMultiplayerServersQuotaChangeRequestAdapter(gson);
+            case "CreateTitleMultiplayerServersQuotaChangeResponse": return new CreateTitleMultiplayerServersQuotaChangeResponseAdapter(gson);
+            case "CurrentServerStats": return new CurrentServerStatsAdapter(gson);
+            case "DeleteAssetRequest": return new DeleteAssetRequestAdapter(gson);
+            case "DeleteBuildAliasRequest": return new DeleteBuildAliasRequestAdapter(gson);
+            case "DeleteBuildRegionRequest": return new DeleteBuildRegionRequestAdapter(gson);
+            case "DeleteBuildRequest": return new DeleteBuildRequestAdapter(gson);
+            case "DeleteCertificateRequest": return new DeleteCertificateRequestAdapter(gson);
+            case "DeleteContainerImageRequest": return new DeleteContainerImageRequestAdapter(gson);
+            case "DeleteLobbyRequest": return new DeleteLobbyRequestAdapter(gson);
+            case "DeleteRemoteUserRequest": return new DeleteRemoteUserRequestAdapter(gson);
+            case "DynamicStandbySettings": return new DynamicStandbySettingsAdapter(gson);
+            case "DynamicStandbyThreshold": return new DynamicStandbyThresholdAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EnableMultiplayerServersForTitleRequest": return new EnableMultiplayerServersForTitleRequestAdapter(gson);
+            case "EnableMultiplayerServersForTitleResponse": return new EnableMultiplayerServersForTitleResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "FindFriendLobbiesRequest": return new FindFriendLobbiesRequestAdapter(gson);
+            case "FindFriendLobbiesResult": return new FindFriendLobbiesResultAdapter(gson);
+            case "FindLobbiesRequest": return new FindLobbiesRequestAdapter(gson);
+            case "FindLobbiesResult": return new FindLobbiesResultAdapter(gson);
+            case "FriendLobbySummary": return new FriendLobbySummaryAdapter(gson);
+            case "GameCertificateReference": return new GameCertificateReferenceAdapter(gson);
+            case "GameCertificateReferenceParams": return new GameCertificateReferenceParamsAdapter(gson);
+            case "GetAssetDownloadUrlRequest": return new GetAssetDownloadUrlRequestAdapter(gson);
+            case "GetAssetDownloadUrlResponse": return new GetAssetDownloadUrlResponseAdapter(gson);
+            case "GetAssetUploadUrlRequest": return new GetAssetUploadUrlRequestAdapter(gson);
+            case "GetAssetUploadUrlResponse": return new GetAssetUploadUrlResponseAdapter(gson);
+            case "GetBuildAliasRequest": return new GetBuildAliasRequestAdapter(gson);
+            case "GetBuildRequest": return new GetBuildRequestAdapter(gson);
+            case "GetBuildResponse": return new GetBuildResponseAdapter(gson);
+            case "GetContainerRegistryCredentialsRequest": return new GetContainerRegistryCredentialsRequestAdapter(gson);
+            case "GetContainerRegistryCredentialsResponse": return new GetContainerRegistryCredentialsResponseAdapter(gson);
+            case "GetLobbyRequest": return new GetLobbyRequestAdapter(gson);
+            case "GetLobbyResult": return new GetLobbyResultAdapter(gson);
+            case "GetMatchmakingTicketRequest": return new GetMatchmakingTicketRequestAdapter(gson);
+            case "GetMatchmakingTicketResult": return new GetMatchmakingTicketResultAdapter(gson);
+            case "GetMatchRequest": return new GetMatchRequestAdapter(gson);
+            case "GetMatchResult": return new GetMatchResultAdapter(gson);
+            case "GetMultiplayerServerDetailsRequest": return new GetMultiplayerServerDetailsRequestAdapter(gson);
+            case "GetMultiplayerServerDetailsResponse": return new GetMultiplayerServerDetailsResponseAdapter(gson);
+            case "GetMultiplayerServerLogsRequest": return new GetMultiplayerServerLogsRequestAdapter(gson);
+            case "GetMultiplayerServerLogsResponse": return new GetMultiplayerServerLogsResponseAdapter(gson);
+            case "GetMultiplayerSessionLogsBySessionIdRequest": return new GetMultiplayerSessionLogsBySessionIdRequestAdapter(gson);
+            case "GetQueueStatisticsRequest": return new GetQueueStatisticsRequestAdapter(gson);
+            case "GetQueueStatisticsResult": return new GetQueueStatisticsResultAdapter(gson);
+            case "GetRemoteLoginEndpointRequest": return new GetRemoteLoginEndpointRequestAdapter(gson);
+            case "GetRemoteLoginEndpointResponse": return new GetRemoteLoginEndpointResponseAdapter(gson);
+            case "GetServerBackfillTicketRequest": return new GetServerBackfillTicketRequestAdapter(gson);
+            case "GetServerBackfillTicketResult": return new GetServerBackfillTicketResultAdapter(gson);
+            case "GetTitleEnabledForMultiplayerServersStatusRequest": return new GetTitleEnabledForMultiplayerServersStatusRequestAdapter(gson);
+            case "GetTitleEnabledForMultiplayerServersStatusResponse": return new GetTitleEnabledForMultiplayerServersStatusResponseAdapter(gson);
+            case "GetTitleMultiplayerServersQuotaChangeRequest": return new GetTitleMultiplayerServersQuotaChangeRequestAdapter(gson);
+            case "GetTitleMultiplayerServersQuotaChangeResponse": return new GetTitleMultiplayerServersQuotaChangeResponseAdapter(gson);
+            case "GetTitleMultiplayerServersQuotasRequest": return new GetTitleMultiplayerServersQuotasRequestAdapter(gson);
+            case "GetTitleMultiplayerServersQuotasResponse": return new GetTitleMultiplayerServersQuotasResponseAdapter(gson);
+            case "InstrumentationConfiguration": return new InstrumentationConfigurationAdapter(gson);
+            case "InviteToLobbyRequest": return new InviteToLobbyRequestAdapter(gson);
+            case "JoinArrangedLobbyRequest": return new JoinArrangedLobbyRequestAdapter(gson);
+            case "JoinLobbyRequest": return new JoinLobbyRequestAdapter(gson);
+            case "JoinLobbyResult": return new JoinLobbyResultAdapter(gson);
+            case "JoinMatchmakingTicketRequest": return new JoinMatchmakingTicketRequestAdapter(gson);
+            case "JoinMatchmakingTicketResult": return new JoinMatchmakingTicketResultAdapter(gson);
+            case "LeaveLobbyRequest": return new LeaveLobbyRequestAdapter(gson);
+            case "LinuxInstrumentationConfiguration": return new LinuxInstrumentationConfigurationAdapter(gson);
+            case "ListAssetSummariesRequest": return new ListAssetSummariesRequestAdapter(gson);
+            case "ListAssetSummariesResponse": return new ListAssetSummariesResponseAdapter(gson);
+            case "ListBuildAliasesRequest": return new ListBuildAliasesRequestAdapter(gson);
+            case "ListBuildAliasesResponse": return new ListBuildAliasesResponseAdapter(gson);
+            case "ListBuildSummariesRequest": return new ListBuildSummariesRequestAdapter(gson);
+            case "ListBuildSummariesResponse": return new ListBuildSummariesResponseAdapter(gson);
+            case "ListCertificateSummariesRequest": return new ListCertificateSummariesRequestAdapter(gson);
+            case "ListCertificateSummariesResponse": return new ListCertificateSummariesResponseAdapter(gson);
+            case "ListContainerImagesRequest": return new ListContainerImagesRequestAdapter(gson);
+            case "ListContainerImagesResponse": return new ListContainerImagesResponseAdapter(gson);
+            case "ListContainerImageTagsRequest": return new ListContainerImageTagsRequestAdapter(gson);
+            case "ListContainerImageTagsResponse": return new ListContainerImageTagsResponseAdapter(gson);
+            case "ListMatchmakingTicketsForPlayerRequest": return new ListMatchmakingTicketsForPlayerRequestAdapter(gson);
+            case "ListMatchmakingTicketsForPlayerResult": return new ListMatchmakingTicketsForPlayerResultAdapter(gson);
+            case "ListMultiplayerServersRequest": return new ListMultiplayerServersRequestAdapter(gson);
+            case "ListMultiplayerServersResponse": return new ListMultiplayerServersResponseAdapter(gson);
+            case "ListPartyQosServersRequest": return new ListPartyQosServersRequestAdapter(gson);
+            case "ListPartyQosServersResponse": return new ListPartyQosServersResponseAdapter(gson);
+            case "ListQosServersForTitleRequest": return new ListQosServersForTitleRequestAdapter(gson);
+            case "ListQosServersForTitleResponse": return new ListQosServersForTitleResponseAdapter(gson);
+            case "ListServerBackfillTicketsForPlayerRequest": return new ListServerBackfillTicketsForPlayerRequestAdapter(gson);
+            case "ListServerBackfillTicketsForPlayerResult": return new ListServerBackfillTicketsForPlayerResultAdapter(gson);
+            case "ListTitleMultiplayerServersQuotaChangesRequest": return new ListTitleMultiplayerServersQuotaChangesRequestAdapter(gson);
+            case "ListTitleMultiplayerServersQuotaChangesResponse": return new ListTitleMultiplayerServersQuotaChangesResponseAdapter(gson);
+            case "ListVirtualMachineSummariesRequest": return new ListVirtualMachineSummariesRequestAdapter(gson);
+            case "ListVirtualMachineSummariesResponse": return new ListVirtualMachineSummariesResponseAdapter(gson);
+            case "Lobby": return new LobbyAdapter(gson);
+            case "LobbyEmptyResult": return new LobbyEmptyResultAdapter(gson);
+            case "LobbySummary": return new LobbySummaryAdapter(gson);
+            case "MatchmakingPlayer": return new MatchmakingPlayerAdapter(gson);
+            case "MatchmakingPlayerAttributes": return new MatchmakingPlayerAttributesAdapter(gson);
+            case "MatchmakingPlayerWithTeamAssignment": return new MatchmakingPlayerWithTeamAssignmentAdapter(gson);
+            case "Member": return new MemberAdapter(gson);
+            case "MonitoringApplicationConfiguration": return new MonitoringApplicationConfigurationAdapter(gson);
+            case "MonitoringApplicationConfigurationParams": return new MonitoringApplicationConfigurationParamsAdapter(gson);
+            case "MultiplayerServerSummary": return new MultiplayerServerSummaryAdapter(gson);
+            case "PaginationRequest": return new PaginationRequestAdapter(gson);
+            case "PaginationResponse": return new PaginationResponseAdapter(gson);
+            case "PartyInvitationConfiguration": return new PartyInvitationConfigurationAdapter(gson);
+            case "PartyNetworkConfiguration": return new PartyNetworkConfigurationAdapter(gson);
+            case "Port": return new PortAdapter(gson);
+            case "PublicIpAddress": return new PublicIpAddressAdapter(gson);
+            case "QosServer": return new QosServerAdapter(gson);
+            case "QuotaChange": return new QuotaChangeAdapter(gson);
+            case "RemoveMemberFromLobbyRequest": return new RemoveMemberFromLobbyRequestAdapter(gson);
+            case "RequestMultiplayerServerRequest": return new RequestMultiplayerServerRequestAdapter(gson);
+            case "RequestMultiplayerServerResponse": return new RequestMultiplayerServerResponseAdapter(gson);
+            case "RequestPartyServiceRequest": return new RequestPartyServiceRequestAdapter(gson);
+            case "RequestPartyServiceResponse": return new RequestPartyServiceResponseAdapter(gson);
+            case "RolloverContainerRegistryCredentialsRequest": return new RolloverContainerRegistryCredentialsRequestAdapter(gson);
+            case "RolloverContainerRegistryCredentialsResponse": return new RolloverContainerRegistryCredentialsResponseAdapter(gson);
+            case "Schedule": return new ScheduleAdapter(gson);
+            case "ScheduledStandbySettings": return new ScheduledStandbySettingsAdapter(gson);
+            case "ServerDetails": return new ServerDetailsAdapter(gson);
+            case "ServerResourceConstraintParams": return new ServerResourceConstraintParamsAdapter(gson);
+            case "ShutdownMultiplayerServerRequest": return new ShutdownMultiplayerServerRequestAdapter(gson);
+            case "Statistics": return new StatisticsAdapter(gson);
+            case "SubscribeToLobbyResourceRequest": return new SubscribeToLobbyResourceRequestAdapter(gson);
+            case "SubscribeToLobbyResourceResult": return new SubscribeToLobbyResourceResultAdapter(gson);
+            case "TitleMultiplayerServersQuotas": return new TitleMultiplayerServersQuotasAdapter(gson);
+            case "UnsubscribeFromLobbyResourceRequest": return new UnsubscribeFromLobbyResourceRequestAdapter(gson);
+            case "UntagContainerImageRequest": return new UntagContainerImageRequestAdapter(gson);
+            case "UpdateBuildAliasRequest": return new UpdateBuildAliasRequestAdapter(gson);
+            case "UpdateBuildNameRequest": return new UpdateBuildNameRequestAdapter(gson);
+            case "UpdateBuildRegionRequest": return new UpdateBuildRegionRequestAdapter(gson);
+            case "UpdateBuildRegionsRequest": return new UpdateBuildRegionsRequestAdapter(gson);
+            case "UpdateLobbyRequest": return new UpdateLobbyRequestAdapter(gson);
+            case "UploadCertificateRequest": return new UploadCertificateRequestAdapter(gson);
+            case "VirtualMachineSummary": return new VirtualMachineSummaryAdapter(gson);
+            case "VmStartupScriptConfiguration": return new VmStartupScriptConfigurationAdapter(gson);
+            case "VmStartupScriptParams": return new VmStartupScriptParamsAdapter(gson);
+            case "VmStartupScriptPortRequest": return new VmStartupScriptPortRequestAdapter(gson);
+            case "VmStartupScriptPortRequestParams": return new VmStartupScriptPortRequestParamsAdapter(gson);
+            case "WindowsCrashDumpConfiguration": return new WindowsCrashDumpConfigurationAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AssetReferenceAdapter extends PlayFabModelAdapter<AssetReference> {
+        AssetReferenceAdapter(Gson gson) {
+        }
+
+        protected AssetReference newInstance() {
+            return new AssetReference();
+        }
+
+        protected void writeFields(JsonWriter out, AssetReference value) throws IOException {
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "MountPath", value.MountPath);
+        }
+
+        protected boolean readField(JsonReader in, String name, AssetReference value) throws IOException {
+            switch (name) {
+                case "FileName": value.FileName = readString(in); return true;
+                case "MountPath": value.MountPath = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AssetReferenceParamsAdapter extends PlayFabModelAdapter<AssetReferenceParams> {
+        AssetReferenceParamsAdapter(Gson gson) {
+        }
+
+        protected AssetReferenceParams newInstance() {
+            return new AssetReferenceParams();
+        }
+
+        protected void writeFields(JsonWriter out, AssetReferenceParams value) throws IOException {
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "MountPath", value.MountPath);
+        }
+
+        protected boolean readField(JsonReader in, String name, AssetReferenceParams value) throws IOException {
+            switch (name) {
+                case "FileName": value.FileName = readString(in); return true;
+                case "MountPath": value.MountPath = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AssetSummaryAdapter extends PlayFabModelAdapter<AssetSummary> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AssetSummaryAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AssetSummary newInstance() {
+            return new AssetSummary();
+        }
+
+        protected void writeFields(JsonWriter out, AssetSummary value) throws IOException {
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AssetSummary value) throws IOException {
+            switch (name) {
+                case "FileName": value.FileName = readString(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BuildAliasDetailsResponseAdapter extends PlayFabModelAdapter<BuildAliasDetailsResponse> {
+        private final TypeAdapter<ArrayList<BuildSelectionCriterion>> buildSelectionCriterionListAdapter;
+
+        BuildAliasDetailsResponseAdapter(Gson gson) {
+            buildSelectionCriterionListAdapter = listAdapter(gson, BuildSelectionCriterion.class);
+        }
+
+        protected BuildAliasDetailsResponse newInstance() {
+            return new BuildAliasDetailsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, BuildAliasDetailsResponse value) throws IOException {
+            writeField(out, "AliasId", value.AliasId);
+            writeField(out, "AliasName", value.AliasName);
+            writeField(out, "BuildSelectionCriteria", value.BuildSelectionCriteria, buildSelectionCriterionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BuildAliasDetailsResponse value) throws IOException {
+            switch (name) {
+                case "AliasId": value.AliasId = readString(in); return true;
+                case "AliasName": value.AliasName = readString(in); return true;
+                case "BuildSelectionCriteria": value.BuildSelectionCriteria = buildSelectionCriterionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BuildAliasParamsAdapter extends PlayFabModelAdapter<BuildAliasParams> {
+        BuildAliasParamsAdapter(Gson gson) {
+        }
+
+        protected BuildAliasParams newInstance() {
+            return new BuildAliasParams();
+        }
+
+        protected void writeFields(JsonWriter out, BuildAliasParams value) throws IOException {
+            writeField(out, "AliasId", value.AliasId);
+        }
+
+        protected boolean readField(JsonReader in, String name, BuildAliasParams value) throws IOException {
+            switch (name) {
+                case "AliasId": value.AliasId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BuildRegionAdapter extends PlayFabModelAdapter<BuildRegion> {
+        private final TypeAdapter<CurrentServerStats> currentServerStatsAdapter;
+        private final TypeAdapter<DynamicStandbySettings> dynamicStandbySettingsAdapter;
+        private final TypeAdapter<ScheduledStandbySettings> scheduledStandbySettingsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        BuildRegionAdapter(Gson gson) {
+            currentServerStatsAdapter = gson.getAdapter(CurrentServerStats.class);
+            dynamicStandbySettingsAdapter = gson.getAdapter(DynamicStandbySettings.class);
+            scheduledStandbySettingsAdapter = gson.getAdapter(ScheduledStandbySettings.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        protected BuildRegion newInstance() {
+            return new BuildRegion();
+        }
+
+        protected void writeFields(JsonWriter out, BuildRegion value) throws IOException {
+            writeField(out, "CurrentServerStats", value.CurrentServerStats, currentServerStatsAdapter);
+            writeField(out, "DynamicStandbySettings", value.DynamicStandbySettings, dynamicStandbySettingsAdapter);
+            writeField(out, "IsAssetReplicationComplete", value.IsAssetReplicationComplete);
+            writeField(out, "MaxServers", value.MaxServers);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "Region", value.Region);
+            writeField(out, "ScheduledStandbySettings", value.ScheduledStandbySettings, scheduledStandbySettingsAdapter);
+            writeField(out, "StandbyServers", value.StandbyServers);
+            writeField(out, "Status", value.Status);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BuildRegion value) throws IOException {
+            switch (name) {
+                case "CurrentServerStats": value.CurrentServerStats = currentServerStatsAdapter.read(in); return true;
+                case "DynamicStandbySettings": value.DynamicStandbySettings = dynamicStandbySettingsAdapter.read(in); return true;
+                case "IsAssetReplicationComplete": value.IsAssetReplicationComplete = readBoolean(in); return true;
+                case "MaxServers": value.MaxServers = readInteger(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "ScheduledStandbySettings": value.ScheduledStandbySettings = scheduledStandbySettingsAdapter.read(in); return true;
+                case "StandbyServers": value.StandbyServers = readInteger(in); return true;
+                case "Status": value.Status = readString(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BuildRegionParamsAdapter extends PlayFabModelAdapter<BuildRegionParams> {
+        private final TypeAdapter<DynamicStandbySettings> dynamicStandbySettingsAdapter;
+        private final TypeAdapter<ScheduledStandbySettings> scheduledStandbySettingsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        BuildRegionParamsAdapter(Gson gson) {
+            dynamicStandbySettingsAdapter = gson.getAdapter(DynamicStandbySettings.class);
+            scheduledStandbySettingsAdapter = gson.getAdapter(ScheduledStandbySettings.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        protected BuildRegionParams newInstance() {
+            return new BuildRegionParams();
+        }
+
+        protected void writeFields(JsonWriter out, BuildRegionParams value) throws IOException {
+            writeField(out, "DynamicStandbySettings", value.DynamicStandbySettings, dynamicStandbySettingsAdapter);
+            writeField(out, "MaxServers", value.MaxServers);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "Region", value.Region);
+            writeField(out, "ScheduledStandbySettings", value.ScheduledStandbySettings, scheduledStandbySettingsAdapter);
+            writeField(out, "StandbyServers", value.StandbyServers);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BuildRegionParams value) throws IOException {
+            switch (name) {
+                case "DynamicStandbySettings": value.DynamicStandbySettings = dynamicStandbySettingsAdapter.read(in); return true;
+                case "MaxServers": value.MaxServers = readInteger(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "ScheduledStandbySettings": value.ScheduledStandbySettings = scheduledStandbySettingsAdapter.read(in); return true;
+                case "StandbyServers": value.StandbyServers = readInteger(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BuildSelectionCriterionAdapter extends PlayFabModelAdapter<BuildSelectionCriterion> {
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        BuildSelectionCriterionAdapter(Gson gson) {
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected BuildSelectionCriterion newInstance() {
+            return new BuildSelectionCriterion();
+        }
+
+        protected void writeFields(JsonWriter out, BuildSelectionCriterion value) throws IOException {
+            writeField(out, "BuildWeightDistribution", value.BuildWeightDistribution, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BuildSelectionCriterion value) throws IOException {
+            switch (name) {
+                case "BuildWeightDistribution": value.BuildWeightDistribution = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BuildSummaryAdapter extends PlayFabModelAdapter<BuildSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<BuildRegion>> buildRegionListAdapter;
+
+        BuildSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            buildRegionListAdapter = listAdapter(gson, BuildRegion.class);
+        }
+
+        protected BuildSummary newInstance() {
+            return new BuildSummary();
+        }
+
+        protected void writeFields(JsonWriter out, BuildSummary value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "CreationTime", value.CreationTime, dateAdapter);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BuildSummary value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "CreationTime": value.CreationTime = dateAdapter.read(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelAllMatchmakingTicketsForPlayerRequestAdapter extends PlayFabModelAdapter<CancelAllMatchmakingTicketsForPlayerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CancelAllMatchmakingTicketsForPlayerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected CancelAllMatchmakingTicketsForPlayerRequest newInstance() {
+            return new CancelAllMatchmakingTicketsForPlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CancelAllMatchmakingTicketsForPlayerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelAllMatchmakingTicketsForPlayerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelAllMatchmakingTicketsForPlayerResultAdapter extends PlayFabModelAdapter<CancelAllMatchmakingTicketsForPlayerResult> {
+        CancelAllMatchmakingTicketsForPlayerResultAdapter(Gson gson) {
+        }
+
+        protected CancelAllMatchmakingTicketsForPlayerResult newInstance() {
+            return new CancelAllMatchmakingTicketsForPlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, CancelAllMatchmakingTicketsForPlayerResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelAllMatchmakingTicketsForPlayerResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelAllServerBackfillTicketsForPlayerRequestAdapter extends PlayFabModelAdapter<CancelAllServerBackfillTicketsForPlayerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CancelAllServerBackfillTicketsForPlayerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected CancelAllServerBackfillTicketsForPlayerRequest newInstance() {
+            return new CancelAllServerBackfillTicketsForPlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CancelAllServerBackfillTicketsForPlayerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelAllServerBackfillTicketsForPlayerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelAllServerBackfillTicketsForPlayerResultAdapter extends PlayFabModelAdapter<CancelAllServerBackfillTicketsForPlayerResult> {
+        CancelAllServerBackfillTicketsForPlayerResultAdapter(Gson gson) {
+        }
+
+        protected CancelAllServerBackfillTicketsForPlayerResult newInstance() {
+            return new CancelAllServerBackfillTicketsForPlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, CancelAllServerBackfillTicketsForPlayerResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelAllServerBackfillTicketsForPlayerResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelMatchmakingTicketRequestAdapter extends PlayFabModelAdapter<CancelMatchmakingTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        CancelMatchmakingTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected CancelMatchmakingTicketRequest newInstance() {
+            return new CancelMatchmakingTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CancelMatchmakingTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelMatchmakingTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelMatchmakingTicketResultAdapter extends PlayFabModelAdapter<CancelMatchmakingTicketResult> {
+        CancelMatchmakingTicketResultAdapter(Gson gson) {
+        }
+
+        protected CancelMatchmakingTicketResult newInstance() {
+            return new CancelMatchmakingTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, CancelMatchmakingTicketResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelMatchmakingTicketResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelServerBackfillTicketRequestAdapter extends PlayFabModelAdapter<CancelServerBackfillTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        CancelServerBackfillTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected CancelServerBackfillTicketRequest newInstance() {
+            return new CancelServerBackfillTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CancelServerBackfillTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelServerBackfillTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CancelServerBackfillTicketResultAdapter extends PlayFabModelAdapter<CancelServerBackfillTicketResult> {
+        CancelServerBackfillTicketResultAdapter(Gson gson) {
+        }
+
+        protected CancelServerBackfillTicketResult newInstance() {
+            return new CancelServerBackfillTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, CancelServerBackfillTicketResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, CancelServerBackfillTicketResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CertificateAdapter extends PlayFabModelAdapter<Certificate> {
+        CertificateAdapter(Gson gson) {
+        }
+
+        protected Certificate newInstance() {
+            return new Certificate();
+        }
+
+        protected void writeFields(JsonWriter out, Certificate value) throws IOException {
+            writeField(out, "Base64EncodedValue", value.Base64EncodedValue);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Password", value.Password);
+        }
+
+        protected boolean readField(JsonReader in, String name, Certificate value) throws IOException {
+            switch (name) {
+                case "Base64EncodedValue": value.Base64EncodedValue = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CertificateSummaryAdapter extends PlayFabModelAdapter<CertificateSummary> {
+        CertificateSummaryAdapter(Gson gson) {
+        }
+
+        protected CertificateSummary newInstance() {
+            return new CertificateSummary();
+        }
+
+        protected void writeFields(JsonWriter out, CertificateSummary value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Thumbprint", value.Thumbprint);
+        }
+
+        protected boolean readField(JsonReader in, String name, CertificateSummary value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Thumbprint": value.Thumbprint = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConnectedPlayerAdapter extends PlayFabModelAdapter<ConnectedPlayer> {
+        ConnectedPlayerAdapter(Gson gson) {
+        }
+
+        protected ConnectedPlayer newInstance() {
+            return new ConnectedPlayer();
+        }
+
+        protected void writeFields(JsonWriter out, ConnectedPlayer value) throws IOException {
+            writeField(out, "PlayerId", value.PlayerId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConnectedPlayer value) throws IOException {
+            switch (name) {
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContainerImageReferenceAdapter extends PlayFabModelAdapter<ContainerImageReference> {
+        ContainerImageReferenceAdapter(Gson gson) {
+        }
+
+        protected ContainerImageReference newInstance() {
+            return new ContainerImageReference();
+        }
+
+        protected void writeFields(JsonWriter out, ContainerImageReference value) throws IOException {
+            writeField(out, "ImageName", value.ImageName);
+            writeField(out, "Tag", value.Tag);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContainerImageReference value) throws IOException {
+            switch (name) {
+                case "ImageName": value.ImageName = readString(in); return true;
+                case "Tag": value.Tag = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CoreCapacityAdapter extends PlayFabModelAdapter<CoreCapacity> {
+        private final TypeAdapter<AzureVmFamily> azureVmFamilyAdapter;
+
+        CoreCapacityAdapter(Gson gson) {
+            azureVmFamilyAdapter = gson.getAdapter(AzureVmFamily.class);
+        }
+
+        protected CoreCapacity newInstance() {
+            return new CoreCapacity();
+        }
+
+        protected void writeFields(JsonWriter out, CoreCapacity value) throws IOException {
+            writeField(out, "Available", value.Available);
+            writeField(out, "Region", value.Region);
+            writeField(out, "Total", value.Total);
+            writeField(out, "VmFamily", value.VmFamily, azureVmFamilyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CoreCapacity value) throws IOException {
+            switch (name) {
+                case "Available": value.Available = readInteger(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "Total": value.Total = readInteger(in); return true;
+                case "VmFamily": value.VmFamily = azureVmFamilyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CoreCapacityChangeAdapter extends PlayFabModelAdapter<CoreCapacityChange> {
+        private final TypeAdapter<AzureVmFamily> azureVmFamilyAdapter;
+
+        CoreCapacityChangeAdapter(Gson gson) {
+            azureVmFamilyAdapter = gson.getAdapter(AzureVmFamily.class);
+        }
+
+        protected CoreCapacityChange newInstance() {
+            return new CoreCapacityChange();
+        }
+
+        protected void writeFields(JsonWriter out, CoreCapacityChange value) throws IOException {
+            writeField(out, "NewCoreLimit", value.NewCoreLimit);
+            writeField(out, "Region", value.Region);
+            writeField(out, "VmFamily", value.VmFamily, azureVmFamilyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CoreCapacityChange value) throws IOException {
+            switch (name) {
+                case "NewCoreLimit": value.NewCoreLimit = readInteger(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "VmFamily": value.VmFamily = azureVmFamilyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildAliasRequestAdapter extends PlayFabModelAdapter<CreateBuildAliasRequest> {
+        private final TypeAdapter<ArrayList<BuildSelectionCriterion>> buildSelectionCriterionListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        CreateBuildAliasRequestAdapter(Gson gson) {
+            buildSelectionCriterionListAdapter = listAdapter(gson, BuildSelectionCriterion.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected CreateBuildAliasRequest newInstance() {
+            return new CreateBuildAliasRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildAliasRequest value) throws IOException {
+            writeField(out, "AliasName", value.AliasName);
+            writeField(out, "BuildSelectionCriteria", value.BuildSelectionCriteria, buildSelectionCriterionListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildAliasRequest value) throws IOException {
+            switch (name) {
+                case "AliasName": value.AliasName = readString(in); return true;
+                case "BuildSelectionCriteria": value.BuildSelectionCriteria = buildSelectionCriterionListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildWithCustomContainerRequestAdapter extends PlayFabModelAdapter<CreateBuildWithCustomContainerRequest> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<ContainerImageReference> containerImageReferenceAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<AssetReferenceParams>> assetReferenceParamsListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReferenceParams>> gameCertificateReferenceParamsListAdapter;
+        private final TypeAdapter<LinuxInstrumentationConfiguration> linuxInstrumentationConfigurationAdapter;
+        private final TypeAdapter<MonitoringApplicationConfigurationParams> monitoringApplicationConfigurationParamsAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegionParams>> buildRegionParamsListAdapter;
+        private final TypeAdapter<ServerResourceConstraintParams> serverResourceConstraintParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptParams> vmStartupScriptParamsAdapter;
+
+        CreateBuildWithCustomContainerRequestAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            containerImageReferenceAdapter = gson.getAdapter(ContainerImageReference.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            assetReferenceParamsListAdapter = listAdapter(gson, AssetReferenceParams.class);
+            gameCertificateReferenceParamsListAdapter = listAdapter(gson, GameCertificateReferenceParams.class);
+            linuxInstrumentationConfigurationAdapter = gson.getAdapter(LinuxInstrumentationConfiguration.class);
+            monitoringApplicationConfigurationParamsAdapter = gson.getAdapter(MonitoringApplicationConfigurationParams.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionParamsListAdapter = listAdapter(gson, BuildRegionParams.class);
+            serverResourceConstraintParamsAdapter = gson.getAdapter(ServerResourceConstraintParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptParamsAdapter = gson.getAdapter(VmStartupScriptParams.class);
+        }
+
+        protected CreateBuildWithCustomContainerRequest newInstance() {
+            return new CreateBuildWithCustomContainerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildWithCustomContainerRequest value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "ContainerFlavor", value.ContainerFlavor, containerFlavorAdapter);
+            writeField(out, "ContainerImageReference", value.ContainerImageReference, containerImageReferenceAdapter);
+            writeField(out, "ContainerRunCommand", value.ContainerRunCommand);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceParamsListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceParamsListAdapter);
+            writeField(out, "LinuxInstrumentationConfiguration", value.LinuxInstrumentationConfiguration, linuxInstrumentationConfigurationAdapter);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MonitoringApplicationConfiguration", value.MonitoringApplicationConfiguration, monitoringApplicationConfigurationParamsAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionParamsListAdapter);
+            writeField(out, "ServerResourceConstraints", value.ServerResourceConstraints, serverResourceConstraintParamsAdapter);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptParamsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildWithCustomContainerRequest value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); return true;
+                case "ContainerImageReference": value.ContainerImageReference = containerImageReferenceAdapter.read(in); return true;
+                case "ContainerRunCommand": value.ContainerRunCommand = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceParamsListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceParamsListAdapter.read(in); return true;
+                case "LinuxInstrumentationConfiguration": value.LinuxInstrumentationConfiguration = linuxInstrumentationConfigurationAdapter.read(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MonitoringApplicationConfiguration": value.MonitoringApplicationConfiguration = monitoringApplicationConfigurationParamsAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionParamsListAdapter.read(in); return true;
+                case "ServerResourceConstraints": value.ServerResourceConstraints = serverResourceConstraintParamsAdapter.read(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptParamsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildWithCustomContainerResponseAdapter extends PlayFabModelAdapter<CreateBuildWithCustomContainerResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContainerImageReference> containerImageReferenceAdapter;
+        private final TypeAdapter<ArrayList<AssetReference>> assetReferenceListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReference>> gameCertificateReferenceListAdapter;
+        private final TypeAdapter<LinuxInstrumentationConfiguration> linuxInstrumentationConfigurationAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<MonitoringApplicationConfiguration> monitoringApplicationConfigurationAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegion>> buildRegionListAdapter;
+        private final TypeAdapter<ServerResourceConstraintParams> serverResourceConstraintParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptConfiguration> vmStartupScriptConfigurationAdapter;
+
+        CreateBuildWithCustomContainerResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            containerImageReferenceAdapter = gson.getAdapter(ContainerImageReference.class);
+            assetReferenceListAdapter = listAdapter(gson, AssetReference.class);
+            gameCertificateReferenceListAdapter = listAdapter(gson, GameCertificateReference.class);
+            linuxInstrumentationConfigurationAdapter = gson.getAdapter(LinuxInstrumentationConfiguration.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            monitoringApplicationConfigurationAdapter = gson.getAdapter(MonitoringApplicationConfiguration.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionListAdapter = listAdapter(gson, BuildRegion.class);
+            serverResourceConstraintParamsAdapter = gson.getAdapter(ServerResourceConstraintParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptConfigurationAdapter = gson.getAdapter(VmStartupScriptConfiguration.class);
+        }
+
+        protected CreateBuildWithCustomContainerResponse newInstance() {
+            return new CreateBuildWithCustomContainerResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildWithCustomContainerResponse value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "ContainerFlavor", value.ContainerFlavor, containerFlavorAdapter);
+            writeField(out, "ContainerRunCommand", value.ContainerRunCommand);
+            writeField(out, "CreationTime", value.CreationTime, dateAdapter);
+            writeField(out, "CustomGameContainerImage", value.CustomGameContainerImage, containerImageReferenceAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceListAdapter);
+            writeField(out, "LinuxInstrumentationConfiguration", value.LinuxInstrumentationConfiguration, linuxInstrumentationConfigurationAdapter);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MonitoringApplicationConfiguration", value.MonitoringApplicationConfiguration, monitoringApplicationConfigurationAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "OsPlatform", value.OsPlatform);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionListAdapter);
+            writeField(out, "ServerResourceConstraints", value.ServerResourceConstraints, serverResourceConstraintParamsAdapter);
+            writeField(out, "ServerType", value.ServerType);
+            writeField(out, "UseStreamingForAssetDownloads", value.UseStreamingForAssetDownloads);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptConfigurationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildWithCustomContainerResponse value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); return true;
+                case "ContainerRunCommand": value.ContainerRunCommand = readString(in); return true;
+                case "CreationTime": value.CreationTime = dateAdapter.read(in); return true;
+                case "CustomGameContainerImage": value.CustomGameContainerImage = containerImageReferenceAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceListAdapter.read(in); return true;
+                case "LinuxInstrumentationConfiguration": value.LinuxInstrumentationConfiguration = linuxInstrumentationConfigurationAdapter.read(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MonitoringApplicationConfiguration": value.MonitoringApplicationConfiguration = monitoringApplicationConfigurationAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "OsPlatform": value.OsPlatform = readString(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionListAdapter.read(in); return true;
+                case "ServerResourceConstraints": value.ServerResourceConstraints = serverResourceConstraintParamsAdapter.read(in); return true;
+                case "ServerType": value.ServerType = readString(in); return true;
+                case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = readBoolean(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptConfigurationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildWithManagedContainerRequestAdapter extends PlayFabModelAdapter<CreateBuildWithManagedContainerRequest> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<AssetReferenceParams>> assetReferenceParamsListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReferenceParams>> gameCertificateReferenceParamsListAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<MonitoringApplicationConfigurationParams> monitoringApplicationConfigurationParamsAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegionParams>> buildRegionParamsListAdapter;
+        private final TypeAdapter<ServerResourceConstraintParams> serverResourceConstraintParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptParams> vmStartupScriptParamsAdapter;
+        private final TypeAdapter<WindowsCrashDumpConfiguration> windowsCrashDumpConfigurationAdapter;
+
+        CreateBuildWithManagedContainerRequestAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            assetReferenceParamsListAdapter = listAdapter(gson, AssetReferenceParams.class);
+            gameCertificateReferenceParamsListAdapter = listAdapter(gson, GameCertificateReferenceParams.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            monitoringApplicationConfigurationParamsAdapter = gson.getAdapter(MonitoringApplicationConfigurationParams.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionParamsListAdapter = listAdapter(gson, BuildRegionParams.class);
+            serverResourceConstraintParamsAdapter = gson.getAdapter(ServerResourceConstraintParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptParamsAdapter = gson.getAdapter(VmStartupScriptParams.class);
+            windowsCrashDumpConfigurationAdapter = gson.getAdapter(WindowsCrashDumpConfiguration.class);
+        }
+
+        protected CreateBuildWithManagedContainerRequest newInstance() {
+            return new CreateBuildWithManagedContainerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildWithManagedContainerRequest value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "ContainerFlavor", value.ContainerFlavor, containerFlavorAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceParamsListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceParamsListAdapter);
+            writeField(out, "GameWorkingDirectory", value.GameWorkingDirectory);
+            writeField(out, "InstrumentationConfiguration", value.InstrumentationConfiguration, instrumentationConfigurationAdapter);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MonitoringApplicationConfiguration", value.MonitoringApplicationConfiguration, monitoringApplicationConfigurationParamsAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionParamsListAdapter);
+            writeField(out, "ServerResourceConstraints", value.ServerResourceConstraints, serverResourceConstraintParamsAdapter);
+            writeField(out, "StartMultiplayerServerCommand", value.StartMultiplayerServerCommand);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptParamsAdapter);
+            writeField(out, "WindowsCrashDumpConfiguration", value.WindowsCrashDumpConfiguration, windowsCrashDumpConfigurationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildWithManagedContainerRequest value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceParamsListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceParamsListAdapter.read(in); return true;
+                case "GameWorkingDirectory": value.GameWorkingDirectory = readString(in); return true;
+                case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MonitoringApplicationConfiguration": value.MonitoringApplicationConfiguration = monitoringApplicationConfigurationParamsAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionParamsListAdapter.read(in); return true;
+                case "ServerResourceConstraints": value.ServerResourceConstraints = serverResourceConstraintParamsAdapter.read(in); return true;
+                case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = readString(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptParamsAdapter.read(in); return true;
+                case "WindowsCrashDumpConfiguration": value.WindowsCrashDumpConfiguration = windowsCrashDumpConfigurationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildWithManagedContainerResponseAdapter extends PlayFabModelAdapter<CreateBuildWithManagedContainerResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<AssetReference>> assetReferenceListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReference>> gameCertificateReferenceListAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<MonitoringApplicationConfiguration> monitoringApplicationConfigurationAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegion>> buildRegionListAdapter;
+        private final TypeAdapter<ServerResourceConstraintParams> serverResourceConstraintParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptConfiguration> vmStartupScriptConfigurationAdapter;
+
+        CreateBuildWithManagedContainerResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            assetReferenceListAdapter = listAdapter(gson, AssetReference.class);
+            gameCertificateReferenceListAdapter = listAdapter(gson, GameCertificateReference.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            monitoringApplicationConfigurationAdapter = gson.getAdapter(MonitoringApplicationConfiguration.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionListAdapter = listAdapter(gson, BuildRegion.class);
+            serverResourceConstraintParamsAdapter = gson.getAdapter(ServerResourceConstraintParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptConfigurationAdapter = gson.getAdapter(VmStartupScriptConfiguration.class);
+        }
+
+        protected CreateBuildWithManagedContainerResponse newInstance() {
+            return new CreateBuildWithManagedContainerResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildWithManagedContainerResponse value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "ContainerFlavor", value.ContainerFlavor, containerFlavorAdapter);
+            writeField(out, "CreationTime", value.CreationTime, dateAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceListAdapter);
+            writeField(out, "GameWorkingDirectory", value.GameWorkingDirectory);
+            writeField(out, "InstrumentationConfiguration", value.InstrumentationConfiguration, instrumentationConfigurationAdapter);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MonitoringApplicationConfiguration", value.MonitoringApplicationConfiguration, monitoringApplicationConfigurationAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "OsPlatform", value.OsPlatform);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionListAdapter);
+            writeField(out, "ServerResourceConstraints", value.ServerResourceConstraints, serverResourceConstraintParamsAdapter);
+            writeField(out, "ServerType", value.ServerType);
+            writeField(out, "StartMultiplayerServerCommand", value.StartMultiplayerServerCommand);
+            writeField(out, "UseStreamingForAssetDownloads", value.UseStreamingForAssetDownloads);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptConfigurationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildWithManagedContainerResponse value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); return true;
+                case "CreationTime": value.CreationTime = dateAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceListAdapter.read(in); return true;
+                case "GameWorkingDirectory": value.GameWorkingDirectory = readString(in); return true;
+                case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MonitoringApplicationConfiguration": value.MonitoringApplicationConfiguration = monitoringApplicationConfigurationAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "OsPlatform": value.OsPlatform = readString(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionListAdapter.read(in); return true;
+                case "ServerResourceConstraints": value.ServerResourceConstraints = serverResourceConstraintParamsAdapter.read(in); return true;
+                case "ServerType": value.ServerType = readString(in); return true;
+                case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = readString(in); return true;
+                case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = readBoolean(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptConfigurationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildWithProcessBasedServerRequestAdapter extends PlayFabModelAdapter<CreateBuildWithProcessBasedServerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<AssetReferenceParams>> assetReferenceParamsListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReferenceParams>> gameCertificateReferenceParamsListAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<MonitoringApplicationConfigurationParams> monitoringApplicationConfigurationParamsAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegionParams>> buildRegionParamsListAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptParams> vmStartupScriptParamsAdapter;
+
+        CreateBuildWithProcessBasedServerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            assetReferenceParamsListAdapter = listAdapter(gson, AssetReferenceParams.class);
+            gameCertificateReferenceParamsListAdapter = listAdapter(gson, GameCertificateReferenceParams.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            monitoringApplicationConfigurationParamsAdapter = gson.getAdapter(MonitoringApplicationConfigurationParams.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionParamsListAdapter = listAdapter(gson, BuildRegionParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptParamsAdapter = gson.getAdapter(VmStartupScriptParams.class);
+        }
+
+        protected CreateBuildWithProcessBasedServerRequest newInstance() {
+            return new CreateBuildWithProcessBasedServerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildWithProcessBasedServerRequest value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceParamsListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceParamsListAdapter);
+            writeField(out, "GameWorkingDirectory", value.GameWorkingDirectory);
+            writeField(out, "InstrumentationConfiguration", value.InstrumentationConfiguration, instrumentationConfigurationAdapter);
+            writeField(out, "IsOSPreview", value.IsOSPreview);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MonitoringApplicationConfiguration", value.MonitoringApplicationConfiguration, monitoringApplicationConfigurationParamsAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "OsPlatform", value.OsPlatform);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionParamsListAdapter);
+            writeField(out, "StartMultiplayerServerCommand", value.StartMultiplayerServerCommand);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptParamsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildWithProcessBasedServerRequest value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceParamsListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceParamsListAdapter.read(in); return true;
+                case "GameWorkingDirectory": value.GameWorkingDirectory = readString(in); return true;
+                case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); return true;
+                case "IsOSPreview": value.IsOSPreview = readBoolean(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MonitoringApplicationConfiguration": value.MonitoringApplicationConfiguration = monitoringApplicationConfigurationParamsAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "OsPlatform": value.OsPlatform = readString(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionParamsListAdapter.read(in); return true;
+                case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = readString(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptParamsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateBuildWithProcessBasedServerResponseAdapter extends PlayFabModelAdapter<CreateBuildWithProcessBasedServerResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<AssetReference>> assetReferenceListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReference>> gameCertificateReferenceListAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<MonitoringApplicationConfiguration> monitoringApplicationConfigurationAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegion>> buildRegionListAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptConfiguration> vmStartupScriptConfigurationAdapter;
+
+        CreateBuildWithProcessBasedServerResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            assetReferenceListAdapter = listAdapter(gson, AssetReference.class);
+            gameCertificateReferenceListAdapter = listAdapter(gson, GameCertificateReference.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            monitoringApplicationConfigurationAdapter = gson.getAdapter(MonitoringApplicationConfiguration.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionListAdapter = listAdapter(gson, BuildRegion.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptConfigurationAdapter = gson.getAdapter(VmStartupScriptConfiguration.class);
+        }
+
+        protected CreateBuildWithProcessBasedServerResponse newInstance() {
+            return new CreateBuildWithProcessBasedServerResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateBuildWithProcessBasedServerResponse value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "ContainerFlavor", value.ContainerFlavor, containerFlavorAdapter);
+            writeField(out, "CreationTime", value.CreationTime, dateAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceListAdapter);
+            writeField(out, "GameWorkingDirectory", value.GameWorkingDirectory);
+            writeField(out, "InstrumentationConfiguration", value.InstrumentationConfiguration, instrumentationConfigurationAdapter);
+            writeField(out, "IsOSPreview", value.IsOSPreview);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MonitoringApplicationConfiguration", value.MonitoringApplicationConfiguration, monitoringApplicationConfigurationAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "OsPlatform", value.OsPlatform);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionListAdapter);
+            writeField(out, "ServerType", value.ServerType);
+            writeField(out, "StartMultiplayerServerCommand", value.StartMultiplayerServerCommand);
+            writeField(out, "UseStreamingForAssetDownloads", value.UseStreamingForAssetDownloads);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptConfigurationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateBuildWithProcessBasedServerResponse value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); return true;
+                case "CreationTime": value.CreationTime = dateAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceListAdapter.read(in); return true;
+                case "GameWorkingDirectory": value.GameWorkingDirectory = readString(in); return true;
+                case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); return true;
+                case "IsOSPreview": value.IsOSPreview = readBoolean(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MonitoringApplicationConfiguration": value.MonitoringApplicationConfiguration = monitoringApplicationConfigurationAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "OsPlatform": value.OsPlatform = readString(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionListAdapter.read(in); return true;
+                case "ServerType": value.ServerType = readString(in); return true;
+                case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = readString(in); return true;
+                case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = readBoolean(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptConfigurationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateLobbyRequestAdapter extends PlayFabModelAdapter<CreateLobbyRequest> {
+        private final TypeAdapter<AccessPolicy> accessPolicyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<Member>> memberListAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<OwnerMigrationPolicy> ownerMigrationPolicyAdapter;
+
+        CreateLobbyRequestAdapter(Gson gson) {
+            accessPolicyAdapter = gson.getAdapter(AccessPolicy.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            memberListAdapter = listAdapter(gson, Member.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            ownerMigrationPolicyAdapter = gson.getAdapter(OwnerMigrationPolicy.class);
+        }
+
+        protected CreateLobbyRequest newInstance() {
+            return new CreateLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateLobbyRequest value) throws IOException {
+            writeField(out, "AccessPolicy", value.AccessPolicy, accessPolicyAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "LobbyData", value.LobbyData, stringMapAdapter);
+            writeField(out, "MaxPlayers", value.MaxPlayers);
+            writeField(out, "Members", value.Members, memberListAdapter);
+            writeField(out, "Owner", value.Owner, entityKeyAdapter);
+            writeField(out, "OwnerMigrationPolicy", value.OwnerMigrationPolicy, ownerMigrationPolicyAdapter);
+            writeField(out, "SearchData", value.SearchData, stringMapAdapter);
+            writeField(out, "UseConnections", value.UseConnections);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateLobbyRequest value) throws IOException {
+            switch (name) {
+                case "AccessPolicy": value.AccessPolicy = accessPolicyAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "LobbyData": value.LobbyData = stringMapAdapter.read(in); return true;
+                case "MaxPlayers": value.MaxPlayers = readLong(in); return true;
+                case "Members": value.Members = memberListAdapter.read(in); return true;
+                case "Owner": value.Owner = entityKeyAdapter.read(in); return true;
+                case "OwnerMigrationPolicy": value.OwnerMigrationPolicy = ownerMigrationPolicyAdapter.read(in); return true;
+                case "SearchData": value.SearchData = stringMapAdapter.read(in); return true;
+                case "UseConnections": value.UseConnections = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateLobbyResultAdapter extends PlayFabModelAdapter<CreateLobbyResult> {
+        CreateLobbyResultAdapter(Gson gson) {
+        }
+
+        protected CreateLobbyResult newInstance() {
+            return new CreateLobbyResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateLobbyResult value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "LobbyId", value.LobbyId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateLobbyResult value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateMatchmakingTicketRequestAdapter extends PlayFabModelAdapter<CreateMatchmakingTicketRequest> {
+        private final TypeAdapter<MatchmakingPlayer> matchmakingPlayerAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        CreateMatchmakingTicketRequestAdapter(Gson gson) {
+            matchmakingPlayerAdapter = gson.getAdapter(MatchmakingPlayer.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected CreateMatchmakingTicketRequest newInstance() {
+            return new CreateMatchmakingTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateMatchmakingTicketRequest value) throws IOException {
+            writeField(out, "Creator", value.Creator, matchmakingPlayerAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GiveUpAfterSeconds", value.GiveUpAfterSeconds);
+            writeField(out, "MembersToMatchWith", value.MembersToMatchWith, entityKeyListAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateMatchmakingTicketRequest value) throws IOException {
+            switch (name) {
+                case "Creator": value.Creator = matchmakingPlayerAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = readInteger(in); return true;
+                case "MembersToMatchWith": value.MembersToMatchWith = entityKeyListAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateMatchmakingTicketResultAdapter extends PlayFabModelAdapter<CreateMatchmakingTicketResult> {
+        CreateMatchmakingTicketResultAdapter(Gson gson) {
+        }
+
+        protected CreateMatchmakingTicketResult newInstance() {
+            return new CreateMatchmakingTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateMatchmakingTicketResult value) throws IOException {
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateMatchmakingTicketResult value) throws IOException {
+            switch (name) {
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateRemoteUserRequestAdapter extends PlayFabModelAdapter<CreateRemoteUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        CreateRemoteUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected CreateRemoteUserRequest newInstance() {
+            return new CreateRemoteUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateRemoteUserRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExpirationTime", value.ExpirationTime, dateAdapter);
+            writeField(out, "Region", value.Region);
+            writeField(out, "Username", value.Username);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateRemoteUserRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExpirationTime": value.ExpirationTime = dateAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateRemoteUserResponseAdapter extends PlayFabModelAdapter<CreateRemoteUserResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        CreateRemoteUserResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected CreateRemoteUserResponse newInstance() {
+            return new CreateRemoteUserResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateRemoteUserResponse value) throws IOException {
+            writeField(out, "ExpirationTime", value.ExpirationTime, dateAdapter);
+            writeField(out, "Password", value.Password);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateRemoteUserResponse value) throws IOException {
+            switch (name) {
+                case "ExpirationTime": value.ExpirationTime = dateAdapter.read(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateServerBackfillTicketRequestAdapter extends PlayFabModelAdapter<CreateServerBackfillTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<MatchmakingPlayerWithTeamAssignment>> matchmakingPlayerWithTeamAssignmentListAdapter;
+        private final TypeAdapter<ServerDetails> serverDetailsAdapter;
+
+        CreateServerBackfillTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            matchmakingPlayerWithTeamAssignmentListAdapter = listAdapter(gson, MatchmakingPlayerWithTeamAssignment.class);
+            serverDetailsAdapter = gson.getAdapter(ServerDetails.class);
+        }
+
+        protected CreateServerBackfillTicketRequest newInstance() {
+            return new CreateServerBackfillTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateServerBackfillTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GiveUpAfterSeconds", value.GiveUpAfterSeconds);
+            writeField(out, "Members", value.Members, matchmakingPlayerWithTeamAssignmentListAdapter);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "ServerDetails", value.ServerDetails, serverDetailsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateServerBackfillTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = readInteger(in); return true;
+                case "Members": value.Members = matchmakingPlayerWithTeamAssignmentListAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "ServerDetails": value.ServerDetails = serverDetailsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateServerBackfillTicketResultAdapter extends PlayFabModelAdapter<CreateServerBackfillTicketResult> {
+        CreateServerBackfillTicketResultAdapter(Gson gson) {
+        }
+
+        protected CreateServerBackfillTicketResult newInstance() {
+            return new CreateServerBackfillTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateServerBackfillTicketResult value) throws IOException {
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateServerBackfillTicketResult value) throws IOException {
+            switch (name) {
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateServerMatchmakingTicketRequestAdapter extends PlayFabModelAdapter<CreateServerMatchmakingTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<MatchmakingPlayer>> matchmakingPlayerListAdapter;
+
+        CreateServerMatchmakingTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            matchmakingPlayerListAdapter = listAdapter(gson, MatchmakingPlayer.class);
+        }
+
+        protected CreateServerMatchmakingTicketRequest newInstance() {
+            return new CreateServerMatchmakingTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateServerMatchmakingTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GiveUpAfterSeconds", value.GiveUpAfterSeconds);
+            writeField(out, "Members", value.Members, matchmakingPlayerListAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateServerMatchmakingTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = readInteger(in); return true;
+                case "Members": value.Members = matchmakingPlayerListAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateTitleMultiplayerServersQuotaChangeRequestAdapter extends PlayFabModelAdapter<CreateTitleMultiplayerServersQuotaChangeRequest> {
+        private final TypeAdapter<ArrayList<CoreCapacityChange>> coreCapacityChangeListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        CreateTitleMultiplayerServersQuotaChangeRequestAdapter(Gson gson) {
+            coreCapacityChangeListAdapter = listAdapter(gson, CoreCapacityChange.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected CreateTitleMultiplayerServersQuotaChangeRequest newInstance() {
+            return new CreateTitleMultiplayerServersQuotaChangeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateTitleMultiplayerServersQuotaChangeRequest value) throws IOException {
+            writeField(out, "ChangeDescription", value.ChangeDescription);
+            writeField(out, "Changes", value.Changes, coreCapacityChangeListAdapter);
+            writeField(out, "ContactEmail", value.ContactEmail);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Notes", value.Notes);
+            writeField(out, "StartDate", value.StartDate, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateTitleMultiplayerServersQuotaChangeRequest value) throws IOException {
+            switch (name) {
+                case "ChangeDescription": value.ChangeDescription = readString(in); return true;
+                case "Changes": value.Changes = coreCapacityChangeListAdapter.read(in); return true;
+                case "ContactEmail": value.ContactEmail = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Notes": value.Notes = readString(in); return true;
+                case "StartDate": value.StartDate = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateTitleMultiplayerServersQuotaChangeResponseAdapter extends PlayFabModelAdapter<CreateTitleMultiplayerServersQuotaChangeResponse> {
+        CreateTitleMultiplayerServersQuotaChangeResponseAdapter(Gson gson) {
+        }
+
+        protected CreateTitleMultiplayerServersQuotaChangeResponse newInstance() {
+            return new CreateTitleMultiplayerServersQuotaChangeResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateTitleMultiplayerServersQuotaChangeResponse value) throws IOException {
+            writeField(out, "RequestId", value.RequestId);
+            writeField(out, "WasApproved", value.WasApproved);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateTitleMultiplayerServersQuotaChangeResponse value) throws IOException {
+            switch (name) {
+                case "RequestId": value.RequestId = readString(in); return true;
+                case "WasApproved": value.WasApproved = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CurrentServerStatsAdapter extends PlayFabModelAdapter<CurrentServerStats> {
+        CurrentServerStatsAdapter(Gson gson) {
+        }
+
+        protected CurrentServerStats newInstance() {
+            return new CurrentServerStats();
+        }
+
+        protected void writeFields(JsonWriter out, CurrentServerStats value) throws IOException {
+            writeField(out, "Active", value.Active);
+            writeField(out, "Propping", value.Propping);
+            writeField(out, "StandingBy", value.StandingBy);
+            writeField(out, "Total", value.Total);
+        }
+
+        protected boolean readField(JsonReader in, String name, CurrentServerStats value) throws IOException {
+            switch (name) {
+                case "Active": value.Active = readInteger(in); return true;
+                case "Propping": value.Propping = readInteger(in); return true;
+                case "StandingBy": value.StandingBy = readInteger(in); return true;
+                case "Total": value.Total = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteAssetRequestAdapter extends PlayFabModelAdapter<DeleteAssetRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteAssetRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteAssetRequest newInstance() {
+            return new DeleteAssetRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteAssetRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FileName", value.FileName);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteAssetRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteBuildAliasRequestAdapter extends PlayFabModelAdapter<DeleteBuildAliasRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteBuildAliasRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteBuildAliasRequest newInstance() {
+            return new DeleteBuildAliasRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteBuildAliasRequest value) throws IOException {
+            writeField(out, "AliasId", value.AliasId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteBuildAliasRequest value) throws IOException {
+            switch (name) {
+                case "AliasId": value.AliasId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteBuildRegionRequestAdapter extends PlayFabModelAdapter<DeleteBuildRegionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteBuildRegionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteBuildRegionRequest newInstance() {
+            return new DeleteBuildRegionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteBuildRegionRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Region", value.Region);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteBuildRegionRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteBuildRequestAdapter extends PlayFabModelAdapter<DeleteBuildRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteBuildRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteBuildRequest newInstance() {
+            return new DeleteBuildRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteBuildRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteBuildRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteCertificateRequestAdapter extends PlayFabModelAdapter<DeleteCertificateRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteCertificateRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteCertificateRequest newInstance() {
+            return new DeleteCertificateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteCertificateRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteCertificateRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteContainerImageRequestAdapter extends PlayFabModelAdapter<DeleteContainerImageRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteContainerImageRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteContainerImageRequest newInstance() {
+            return new DeleteContainerImageRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteContainerImageRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ImageName", value.ImageName);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteContainerImageRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ImageName": value.ImageName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteLobbyRequestAdapter extends PlayFabModelAdapter<DeleteLobbyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteLobbyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteLobbyRequest newInstance() {
+            return new DeleteLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteLobbyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteLobbyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteRemoteUserRequestAdapter extends PlayFabModelAdapter<DeleteRemoteUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteRemoteUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteRemoteUserRequest newInstance() {
+            return new DeleteRemoteUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteRemoteUserRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Region", value.Region);
+            writeField(out, "Username", value.Username);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteRemoteUserRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DynamicStandbySettingsAdapter extends PlayFabModelAdapter<DynamicStandbySettings> {
+        private final TypeAdapter<ArrayList<DynamicStandbyThreshold>> dynamicStandbyThresholdListAdapter;
+
+        DynamicStandbySettingsAdapter(Gson gson) {
+            dynamicStandbyThresholdListAdapter = listAdapter(gson, DynamicStandbyThreshold.class);
+        }
+
+        protected DynamicStandbySettings newInstance() {
+            return new DynamicStandbySettings();
+        }
+
+        protected void writeFields(JsonWriter out, DynamicStandbySettings value) throws IOException {
+            writeField(out, "DynamicFloorMultiplierThresholds", value.DynamicFloorMultiplierThresholds, dynamicStandbyThresholdListAdapter);
+            writeField(out, "IsEnabled", value.IsEnabled);
+            writeField(out, "RampDownSeconds", value.RampDownSeconds);
+        }
+
+        protected boolean readField(JsonReader in, String name, DynamicStandbySettings value) throws IOException {
+            switch (name) {
+                case "DynamicFloorMultiplierThresholds": value.DynamicFloorMultiplierThresholds = dynamicStandbyThresholdListAdapter.read(in); return true;
+                case "IsEnabled": value.IsEnabled = readBoolean(in); return true;
+                case "RampDownSeconds": value.RampDownSeconds = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DynamicStandbyThresholdAdapter extends PlayFabModelAdapter<DynamicStandbyThreshold> {
+        DynamicStandbyThresholdAdapter(Gson gson) {
+        }
+
+        protected DynamicStandbyThreshold newInstance() {
+            return new DynamicStandbyThreshold();
+        }
+
+        protected void writeFields(JsonWriter out, DynamicStandbyThreshold value) throws IOException {
+            writeField(out, "Multiplier", value.Multiplier);
+            writeField(out, "TriggerThresholdPercentage", value.TriggerThresholdPercentage);
+        }
+
+        protected boolean readField(JsonReader in, String name, DynamicStandbyThreshold value) throws IOException {
+            switch (name) {
+                case "Multiplier": value.Multiplier = readDouble(in); return true;
+                case "TriggerThresholdPercentage": value.TriggerThresholdPercentage = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EnableMultiplayerServersForTitleRequestAdapter extends PlayFabModelAdapter<EnableMultiplayerServersForTitleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        EnableMultiplayerServersForTitleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected EnableMultiplayerServersForTitleRequest newInstance() {
+            return new EnableMultiplayerServersForTitleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, EnableMultiplayerServersForTitleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EnableMultiplayerServersForTitleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EnableMultiplayerServersForTitleResponseAdapter extends PlayFabModelAdapter<EnableMultiplayerServersForTitleResponse> {
+        private final TypeAdapter<TitleMultiplayerServerEnabledStatus> titleMultiplayerServerEnabledStatusAdapter;
+
+        EnableMultiplayerServersForTitleResponseAdapter(Gson gson) {
+            titleMultiplayerServerEnabledStatusAdapter = gson.getAdapter(TitleMultiplayerServerEnabledStatus.class);
+        }
+
+        protected EnableMultiplayerServersForTitleResponse newInstance() {
+            return new EnableMultiplayerServersForTitleResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EnableMultiplayerServersForTitleResponse value) throws IOException {
+            writeField(out, "Status", value.Status, titleMultiplayerServerEnabledStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EnableMultiplayerServersForTitleResponse value) throws IOException {
+            switch (name) {
+                case "Status": value.Status = titleMultiplayerServerEnabledStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FindFriendLobbiesRequestAdapter extends PlayFabModelAdapter<FindFriendLobbiesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExternalFriendSources> externalFriendSourcesAdapter;
+        private final TypeAdapter<PaginationRequest> paginationRequestAdapter;
+
+        FindFriendLobbiesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            externalFriendSourcesAdapter = gson.getAdapter(ExternalFriendSources.class);
+            paginationRequestAdapter = gson.getAdapter(PaginationRequest.class);
+        }
+
+        protected FindFriendLobbiesRequest newInstance() {
+            return new FindFriendLobbiesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, FindFriendLobbiesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExternalPlatformFriends", value.ExternalPlatformFriends, externalFriendSourcesAdapter);
+            writeField(out, "Filter", value.Filter);
+            writeField(out, "OrderBy", value.OrderBy);
+            writeField(out, "Pagination", value.Pagination, paginationRequestAdapter);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, FindFriendLobbiesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExternalPlatformFriends": value.ExternalPlatformFriends = externalFriendSourcesAdapter.read(in); return true;
+                case "Filter": value.Filter = readString(in); return true;
+                case "OrderBy": value.OrderBy = readString(in); return true;
+                case "Pagination": value.Pagination = paginationRequestAdapter.read(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FindFriendLobbiesResultAdapter extends PlayFabModelAdapter<FindFriendLobbiesResult> {
+        private final TypeAdapter<ArrayList<FriendLobbySummary>> friendLobbySummaryListAdapter;
+        private final TypeAdapter<PaginationResponse> paginationResponseAdapter;
+
+        FindFriendLobbiesResultAdapter(Gson gson) {
+            friendLobbySummaryListAdapter = listAdapter(gson, FriendLobbySummary.class);
+            paginationResponseAdapter = gson.getAdapter(PaginationResponse.class);
+        }
+
+        protected FindFriendLobbiesResult newInstance() {
+            return new FindFriendLobbiesResult();
+        }
+
+        protected void writeFields(JsonWriter out, FindFriendLobbiesResult value) throws IOException {
+            writeField(out, "Lobbies", value.Lobbies, friendLobbySummaryListAdapter);
+            writeField(out, "Pagination", value.Pagination, paginationResponseAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FindFriendLobbiesResult value) throws IOException {
+            switch (name) {
+                case "Lobbies": value.Lobbies = friendLobbySummaryListAdapter.read(in); return true;
+                case "Pagination": value.Pagination = paginationResponseAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FindLobbiesRequestAdapter extends PlayFabModelAdapter<FindLobbiesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PaginationRequest> paginationRequestAdapter;
+
+        FindLobbiesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            paginationRequestAdapter = gson.getAdapter(PaginationRequest.class);
+        }
+
+        protected FindLobbiesRequest newInstance() {
+            return new FindLobbiesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, FindLobbiesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Filter", value.Filter);
+            writeField(out, "OrderBy", value.OrderBy);
+            writeField(out, "Pagination", value.Pagination, paginationRequestAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FindLobbiesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Filter": value.Filter = readString(in); return true;
+                case "OrderBy": value.OrderBy = readString(in); return true;
+                case "Pagination": value.Pagination = paginationRequestAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FindLobbiesResultAdapter extends PlayFabModelAdapter<FindLobbiesResult> {
+        private final TypeAdapter<ArrayList<LobbySummary>> lobbySummaryListAdapter;
+        private final TypeAdapter<PaginationResponse> paginationResponseAdapter;
+
+        FindLobbiesResultAdapter(Gson gson) {
+            lobbySummaryListAdapter = listAdapter(gson, LobbySummary.class);
+            paginationResponseAdapter = gson.getAdapter(PaginationResponse.class);
+        }
+
+        protected FindLobbiesResult newInstance() {
+            return new FindLobbiesResult();
+        }
+
+        protected void writeFields(JsonWriter out, FindLobbiesResult value) throws IOException {
+            writeField(out, "Lobbies", value.Lobbies, lobbySummaryListAdapter);
+            writeField(out, "Pagination", value.Pagination, paginationResponseAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FindLobbiesResult value) throws IOException {
+            switch (name) {
+                case "Lobbies": value.Lobbies = lobbySummaryListAdapter.read(in); return true;
+                case "Pagination": value.Pagination = paginationResponseAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FriendLobbySummaryAdapter extends PlayFabModelAdapter<FriendLobbySummary> {
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+        private final TypeAdapter<MembershipLock> membershipLockAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        FriendLobbySummaryAdapter(Gson gson) {
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+            membershipLockAdapter = gson.getAdapter(MembershipLock.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected FriendLobbySummary newInstance() {
+            return new FriendLobbySummary();
+        }
+
+        protected void writeFields(JsonWriter out, FriendLobbySummary value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "CurrentPlayers", value.CurrentPlayers);
+            writeField(out, "Friends", value.Friends, entityKeyListAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MaxPlayers", value.MaxPlayers);
+            writeField(out, "MembershipLock", value.MembershipLock, membershipLockAdapter);
+            writeField(out, "Owner", value.Owner, entityKeyAdapter);
+            writeField(out, "SearchData", value.SearchData, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FriendLobbySummary value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "CurrentPlayers": value.CurrentPlayers = readLong(in); return true;
+                case "Friends": value.Friends = entityKeyListAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MaxPlayers": value.MaxPlayers = readLong(in); return true;
+                case "MembershipLock": value.MembershipLock = membershipLockAdapter.read(in); return true;
+                case "Owner": value.Owner = entityKeyAdapter.read(in); return true;
+                case "SearchData": value.SearchData = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GameCertificateReferenceAdapter extends PlayFabModelAdapter<GameCertificateReference> {
+        GameCertificateReferenceAdapter(Gson gson) {
+        }
+
+        protected GameCertificateReference newInstance() {
+            return new GameCertificateReference();
+        }
+
+        protected void writeFields(JsonWriter out, GameCertificateReference value) throws IOException {
+            writeField(out, "GsdkAlias", value.GsdkAlias);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, GameCertificateReference value) throws IOException {
+            switch (name) {
+                case "GsdkAlias": value.GsdkAlias = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GameCertificateReferenceParamsAdapter extends PlayFabModelAdapter<GameCertificateReferenceParams> {
+        GameCertificateReferenceParamsAdapter(Gson gson) {
+        }
+
+        protected GameCertificateReferenceParams newInstance() {
+            return new GameCertificateReferenceParams();
+        }
+
+        protected void writeFields(JsonWriter out, GameCertificateReferenceParams value) throws IOException {
+            writeField(out, "GsdkAlias", value.GsdkAlias);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, GameCertificateReferenceParams value) throws IOException {
+            switch (name) {
+                case "GsdkAlias": value.GsdkAlias = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAssetDownloadUrlRequestAdapter extends PlayFabModelAdapter<GetAssetDownloadUrlRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetAssetDownloadUrlRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetAssetDownloadUrlRequest newInstance() {
+            return new GetAssetDownloadUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetAssetDownloadUrlRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FileName", value.FileName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAssetDownloadUrlRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAssetDownloadUrlResponseAdapter extends PlayFabModelAdapter<GetAssetDownloadUrlResponse> {
+        GetAssetDownloadUrlResponseAdapter(Gson gson) {
+        }
+
+        protected GetAssetDownloadUrlResponse newInstance() {
+            return new GetAssetDownloadUrlResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetAssetDownloadUrlResponse value) throws IOException {
+            writeField(out, "AssetDownloadUrl", value.AssetDownloadUrl);
+            writeField(out, "FileName", value.FileName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAssetDownloadUrlResponse value) throws IOException {
+            switch (name) {
+                case "AssetDownloadUrl": value.AssetDownloadUrl = readString(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAssetUploadUrlRequestAdapter extends PlayFabModelAdapter<GetAssetUploadUrlRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetAssetUploadUrlRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetAssetUploadUrlRequest newInstance() {
+            return new GetAssetUploadUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetAssetUploadUrlRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FileName", value.FileName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAssetUploadUrlRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAssetUploadUrlResponseAdapter extends PlayFabModelAdapter<GetAssetUploadUrlResponse> {
+        GetAssetUploadUrlResponseAdapter(Gson gson) {
+        }
+
+        protected GetAssetUploadUrlResponse newInstance() {
+            return new GetAssetUploadUrlResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetAssetUploadUrlResponse value) throws IOException {
+            writeField(out, "AssetUploadUrl", value.AssetUploadUrl);
+            writeField(out, "FileName", value.FileName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAssetUploadUrlResponse value) throws IOException {
+            switch (name) {
+                case "AssetUploadUrl": value.AssetUploadUrl = readString(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetBuildAliasRequestAdapter extends PlayFabModelAdapter<GetBuildAliasRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetBuildAliasRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetBuildAliasRequest newInstance() {
+            return new GetBuildAliasRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetBuildAliasRequest value) throws IOException {
+            writeField(out, "AliasId", value.AliasId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetBuildAliasRequest value) throws IOException {
+            switch (name) {
+                case "AliasId": value.AliasId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetBuildRequestAdapter extends PlayFabModelAdapter<GetBuildRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetBuildRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetBuildRequest newInstance() {
+            return new GetBuildRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetBuildRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetBuildRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetBuildResponseAdapter extends PlayFabModelAdapter<GetBuildResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContainerImageReference> containerImageReferenceAdapter;
+        private final TypeAdapter<ArrayList<AssetReference>> assetReferenceListAdapter;
+        private final TypeAdapter<ArrayList<GameCertificateReference>> gameCertificateReferenceListAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<BuildRegion>> buildRegionListAdapter;
+        private final TypeAdapter<ServerResourceConstraintParams> serverResourceConstraintParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+        private final TypeAdapter<VmStartupScriptConfiguration> vmStartupScriptConfigurationAdapter;
+
+        GetBuildResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            containerImageReferenceAdapter = gson.getAdapter(ContainerImageReference.class);
+            assetReferenceListAdapter = listAdapter(gson, AssetReference.class);
+            gameCertificateReferenceListAdapter = listAdapter(gson, GameCertificateReference.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            buildRegionListAdapter = listAdapter(gson, BuildRegion.class);
+            serverResourceConstraintParamsAdapter = gson.getAdapter(ServerResourceConstraintParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+            vmStartupScriptConfigurationAdapter = gson.getAdapter(VmStartupScriptConfiguration.class);
+        }
+
+        protected GetBuildResponse newInstance() {
+            return new GetBuildResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetBuildResponse value) throws IOException {
+            writeField(out, "AreAssetsReadonly", value.AreAssetsReadonly);
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "BuildStatus", value.BuildStatus);
+            writeField(out, "ContainerFlavor", value.ContainerFlavor, containerFlavorAdapter);
+            writeField(out, "ContainerRunCommand", value.ContainerRunCommand);
+            writeField(out, "CreationTime", value.CreationTime, dateAdapter);
+            writeField(out, "CustomGameContainerImage", value.CustomGameContainerImage, containerImageReferenceAdapter);
+            writeField(out, "GameAssetReferences", value.GameAssetReferences, assetReferenceListAdapter);
+            writeField(out, "GameCertificateReferences", value.GameCertificateReferences, gameCertificateReferenceListAdapter);
+            writeField(out, "InstrumentationConfiguration", value.InstrumentationConfiguration, instrumentationConfigurationAdapter);
+            writeField(out, "Metadata", value.Metadata, stringMapAdapter);
+            writeField(out, "MultiplayerServerCountPerVm", value.MultiplayerServerCountPerVm);
+            writeField(out, "OsPlatform", value.OsPlatform);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "RegionConfigurations", value.RegionConfigurations, buildRegionListAdapter);
+            writeField(out, "ServerResourceConstraints", value.ServerResourceConstraints, serverResourceConstraintParamsAdapter);
+            writeField(out, "ServerType", value.ServerType);
+            writeField(out, "StartMultiplayerServerCommand", value.StartMultiplayerServerCommand);
+            writeField(out, "VmSize", value.VmSize, azureVmSizeAdapter);
+            writeField(out, "VmStartupScriptConfiguration", value.VmStartupScriptConfiguration, vmStartupScriptConfigurationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetBuildResponse value) throws IOException {
+            switch (name) {
+                case "AreAssetsReadonly": value.AreAssetsReadonly = readBoolean(in); return true;
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "BuildStatus": value.BuildStatus = readString(in); return true;
+                case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); return true;
+                case "ContainerRunCommand": value.ContainerRunCommand = readString(in); return true;
+                case "CreationTime": value.CreationTime = dateAdapter.read(in); return true;
+                case "CustomGameContainerImage": value.CustomGameContainerImage = containerImageReferenceAdapter.read(in); return true;
+                case "GameAssetReferences": value.GameAssetReferences = assetReferenceListAdapter.read(in); return true;
+                case "GameCertificateReferences": value.GameCertificateReferences = gameCertificateReferenceListAdapter.read(in); return true;
+                case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); return true;
+                case "Metadata": value.Metadata = stringMapAdapter.read(in); return true;
+                case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = readInteger(in); return true;
+                case "OsPlatform": value.OsPlatform = readString(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "RegionConfigurations": value.RegionConfigurations = buildRegionListAdapter.read(in); return true;
+                case "ServerResourceConstraints": value.ServerResourceConstraints = serverResourceConstraintParamsAdapter.read(in); return true;
+                case "ServerType": value.ServerType = readString(in); return true;
+                case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = readString(in); return true;
+                case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); return true;
+                case "VmStartupScriptConfiguration": value.VmStartupScriptConfiguration = vmStartupScriptConfigurationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContainerRegistryCredentialsRequestAdapter extends PlayFabModelAdapter<GetContainerRegistryCredentialsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetContainerRegistryCredentialsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetContainerRegistryCredentialsRequest newInstance() {
+            return new GetContainerRegistryCredentialsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetContainerRegistryCredentialsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContainerRegistryCredentialsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContainerRegistryCredentialsResponseAdapter extends PlayFabModelAdapter<GetContainerRegistryCredentialsResponse> {
+        GetContainerRegistryCredentialsResponseAdapter(Gson gson) {
+        }
+
+        protected GetContainerRegistryCredentialsResponse newInstance() {
+            return new GetContainerRegistryCredentialsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetContainerRegistryCredentialsResponse value) throws IOException {
+            writeField(out, "DnsName", value.DnsName);
+            writeField(out, "Password", value.Password);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContainerRegistryCredentialsResponse value) throws IOException {
+            switch (name) {
+                case "DnsName": value.DnsName = readString(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLobbyRequestAdapter extends PlayFabModelAdapter<GetLobbyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetLobbyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetLobbyRequest newInstance() {
+            return new GetLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLobbyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLobbyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLobbyResultAdapter extends PlayFabModelAdapter<GetLobbyResult> {
+        private final TypeAdapter<Lobby> lobbyAdapter;
+
+        GetLobbyResultAdapter(Gson gson) {
+            lobbyAdapter = gson.getAdapter(Lobby.class);
+        }
+
+        protected GetLobbyResult newInstance() {
+            return new GetLobbyResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLobbyResult value) throws IOException {
+            writeField(out, "Lobby", value.Lobby, lobbyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLobbyResult value) throws IOException {
+            switch (name) {
+                case "Lobby": value.Lobby = lobbyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMatchmakingTicketRequestAdapter extends PlayFabModelAdapter<GetMatchmakingTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetMatchmakingTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetMatchmakingTicketRequest newInstance() {
+            return new GetMatchmakingTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetMatchmakingTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EscapeObject", value.EscapeObject);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMatchmakingTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EscapeObject": value.EscapeObject = readBoolean(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMatchmakingTicketResultAdapter extends PlayFabModelAdapter<GetMatchmakingTicketResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<MatchmakingPlayer>> matchmakingPlayerListAdapter;
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        GetMatchmakingTicketResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            matchmakingPlayerListAdapter = listAdapter(gson, MatchmakingPlayer.class);
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected GetMatchmakingTicketResult newInstance() {
+            return new GetMatchmakingTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetMatchmakingTicketResult value) throws IOException {
+            writeField(out, "CancellationReasonString", value.CancellationReasonString);
+            writeField(out, "ChangeNumber", value.ChangeNumber);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "Creator", value.Creator, entityKeyAdapter);
+            writeField(out, "GiveUpAfterSeconds", value.GiveUpAfterSeconds);
+            writeField(out, "MatchId", value.MatchId);
+            writeField(out, "Members", value.Members, matchmakingPlayerListAdapter);
+            writeField(out, "MembersToMatchWith", value.MembersToMatchWith, entityKeyListAdapter);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "Status", value.Status);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMatchmakingTicketResult value) throws IOException {
+            switch (name) {
+                case "CancellationReasonString": value.CancellationReasonString = readString(in); return true;
+                case "ChangeNumber": value.ChangeNumber = readLong(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "Creator": value.Creator = entityKeyAdapter.read(in); return true;
+                case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = readInteger(in); return true;
+                case "MatchId": value.MatchId = readString(in); return true;
+                case "Members": value.Members = matchmakingPlayerListAdapter.read(in); return true;
+                case "MembersToMatchWith": value.MembersToMatchWith = entityKeyListAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "Status": value.Status = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMatchRequestAdapter extends PlayFabModelAdapter<GetMatchRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetMatchRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetMatchRequest newInstance() {
+            return new GetMatchRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetMatchRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EscapeObject", value.EscapeObject);
+            writeField(out, "MatchId", value.MatchId);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "ReturnMemberAttributes", value.ReturnMemberAttributes);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMatchRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EscapeObject": value.EscapeObject = readBoolean(in); return true;
+                case "MatchId": value.MatchId = readString(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "ReturnMemberAttributes": value.ReturnMemberAttributes = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMatchResultAdapter extends PlayFabModelAdapter<GetMatchResult> {
+        private final TypeAdapter<ArrayList<MatchmakingPlayerWithTeamAssignment>> matchmakingPlayerWithTeamAssignmentListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ServerDetails> serverDetailsAdapter;
+
+        GetMatchResultAdapter(Gson gson) {
+            matchmakingPlayerWithTeamAssignmentListAdapter = listAdapter(gson, MatchmakingPlayerWithTeamAssignment.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            serverDetailsAdapter = gson.getAdapter(ServerDetails.class);
+        }
+
+        protected GetMatchResult newInstance() {
+            return new GetMatchResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetMatchResult value) throws IOException {
+            writeField(out, "ArrangementString", value.ArrangementString);
+            writeField(out, "MatchId", value.MatchId);
+            writeField(out, "Members", value.Members, matchmakingPlayerWithTeamAssignmentListAdapter);
+            writeField(out, "RegionPreferences", value.RegionPreferences, stringListAdapter);
+            writeField(out, "ServerDetails", value.ServerDetails, serverDetailsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMatchResult value) throws IOException {
+            switch (name) {
+                case "ArrangementString": value.ArrangementString = readString(in); return true;
+                case "MatchId": value.MatchId = readString(in); return true;
+                case "Members": value.Members = matchmakingPlayerWithTeamAssignmentListAdapter.read(in); return true;
+                case "RegionPreferences": value.RegionPreferences = stringListAdapter.read(in); return true;
+                case "ServerDetails": value.ServerDetails = serverDetailsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMultiplayerServerDetailsRequestAdapter extends PlayFabModelAdapter<GetMultiplayerServerDetailsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetMultiplayerServerDetailsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetMultiplayerServerDetailsRequest newInstance() {
+            return new GetMultiplayerServerDetailsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetMultiplayerServerDetailsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "SessionId", value.SessionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMultiplayerServerDetailsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMultiplayerServerDetailsResponseAdapter extends PlayFabModelAdapter<GetMultiplayerServerDetailsResponse> {
+        private final TypeAdapter<ArrayList<ConnectedPlayer>> connectedPlayerListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<PublicIpAddress>> publicIpAddressListAdapter;
+
+        GetMultiplayerServerDetailsResponseAdapter(Gson gson) {
+            connectedPlayerListAdapter = listAdapter(gson, ConnectedPlayer.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            publicIpAddressListAdapter = listAdapter(gson, PublicIpAddress.class);
+        }
+
+        protected GetMultiplayerServerDetailsResponse newInstance() {
+            return new GetMultiplayerServerDetailsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetMultiplayerServerDetailsResponse value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "ConnectedPlayers", value.ConnectedPlayers, connectedPlayerListAdapter);
+            writeField(out, "FQDN", value.FQDN);
+            writeField(out, "IPV4Address", value.IPV4Address);
+            writeField(out, "LastStateTransitionTime", value.LastStateTransitionTime, dateAdapter);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "PublicIPV4Addresses", value.PublicIPV4Addresses, publicIpAddressListAdapter);
+            writeField(out, "Region", value.Region);
+            writeField(out, "ServerId", value.ServerId);
+            writeField(out, "SessionId", value.SessionId);
+            writeField(out, "State", value.State);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMultiplayerServerDetailsResponse value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "ConnectedPlayers": value.ConnectedPlayers = connectedPlayerListAdapter.read(in); return true;
+                case "FQDN": value.FQDN = readString(in); return true;
+                case "IPV4Address": value.IPV4Address = readString(in); return true;
+                case "LastStateTransitionTime": value.LastStateTransitionTime = dateAdapter.read(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "PublicIPV4Addresses": value.PublicIPV4Addresses = publicIpAddressListAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "ServerId": value.ServerId = readString(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                case "State": value.State = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMultiplayerServerLogsRequestAdapter extends PlayFabModelAdapter<GetMultiplayerServerLogsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetMultiplayerServerLogsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetMultiplayerServerLogsRequest newInstance() {
+            return new GetMultiplayerServerLogsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetMultiplayerServerLogsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ServerId", value.ServerId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMultiplayerServerLogsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ServerId": value.ServerId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMultiplayerServerLogsResponseAdapter extends PlayFabModelAdapter<GetMultiplayerServerLogsResponse> {
+        GetMultiplayerServerLogsResponseAdapter(Gson gson) {
+        }
+
+        protected GetMultiplayerServerLogsResponse newInstance() {
+            return new GetMultiplayerServerLogsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetMultiplayerServerLogsResponse value) throws IOException {
+            writeField(out, "LogDownloadUrl", value.LogDownloadUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMultiplayerServerLogsResponse value) throws IOException {
+            switch (name) {
+                case "LogDownloadUrl": value.LogDownloadUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMultiplayerSessionLogsBySessionIdRequestAdapter extends PlayFabModelAdapter<GetMultiplayerSessionLogsBySessionIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetMultiplayerSessionLogsBySessionIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetMultiplayerSessionLogsBySessionIdRequest newInstance() {
+            return new GetMultiplayerSessionLogsBySessionIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetMultiplayerSessionLogsBySessionIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "SessionId", value.SessionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMultiplayerSessionLogsBySessionIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetQueueStatisticsRequestAdapter extends PlayFabModelAdapter<GetQueueStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetQueueStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetQueueStatisticsRequest newInstance() {
+            return new GetQueueStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetQueueStatisticsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetQueueStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetQueueStatisticsResultAdapter extends PlayFabModelAdapter<GetQueueStatisticsResult> {
+        private final TypeAdapter<Statistics> statisticsAdapter;
+
+        GetQueueStatisticsResultAdapter(Gson gson) {
+            statisticsAdapter = gson.getAdapter(Statistics.class);
+        }
+
+        protected GetQueueStatisticsResult newInstance() {
+            return new GetQueueStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetQueueStatisticsResult value) throws IOException {
+            writeField(out, "NumberOfPlayersMatching", value.NumberOfPlayersMatching);
+            writeField(out, "TimeToMatchStatisticsInSeconds", value.TimeToMatchStatisticsInSeconds, statisticsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetQueueStatisticsResult value) throws IOException {
+            switch (name) {
+                case "NumberOfPlayersMatching": value.NumberOfPlayersMatching = readLong(in); return true;
+                case "TimeToMatchStatisticsInSeconds": value.TimeToMatchStatisticsInSeconds = statisticsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetRemoteLoginEndpointRequestAdapter extends PlayFabModelAdapter<GetRemoteLoginEndpointRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetRemoteLoginEndpointRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetRemoteLoginEndpointRequest newInstance() {
+            return new GetRemoteLoginEndpointRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetRemoteLoginEndpointRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Region", value.Region);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetRemoteLoginEndpointRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetRemoteLoginEndpointResponseAdapter extends PlayFabModelAdapter<GetRemoteLoginEndpointResponse> {
+        GetRemoteLoginEndpointResponseAdapter(Gson gson) {
+        }
+
+        protected GetRemoteLoginEndpointResponse newInstance() {
+            return new GetRemoteLoginEndpointResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetRemoteLoginEndpointResponse value) throws IOException {
+            writeField(out, "IPV4Address", value.IPV4Address);
+            writeField(out, "Port", value.Port);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetRemoteLoginEndpointResponse value) throws IOException {
+            switch (name) {
+                case "IPV4Address": value.IPV4Address = readString(in); return true;
+                case "Port": value.Port = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetServerBackfillTicketRequestAdapter extends PlayFabModelAdapter<GetServerBackfillTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetServerBackfillTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetServerBackfillTicketRequest newInstance() {
+            return new GetServerBackfillTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetServerBackfillTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EscapeObject", value.EscapeObject);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetServerBackfillTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EscapeObject": value.EscapeObject = readBoolean(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetServerBackfillTicketResultAdapter extends PlayFabModelAdapter<GetServerBackfillTicketResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<MatchmakingPlayerWithTeamAssignment>> matchmakingPlayerWithTeamAssignmentListAdapter;
+        private final TypeAdapter<ServerDetails> serverDetailsAdapter;
+
+        GetServerBackfillTicketResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            matchmakingPlayerWithTeamAssignmentListAdapter = listAdapter(gson, MatchmakingPlayerWithTeamAssignment.class);
+            serverDetailsAdapter = gson.getAdapter(ServerDetails.class);
+        }
+
+        protected GetServerBackfillTicketResult newInstance() {
+            return new GetServerBackfillTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetServerBackfillTicketResult value) throws IOException {
+            writeField(out, "CancellationReasonString", value.CancellationReasonString);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "GiveUpAfterSeconds", value.GiveUpAfterSeconds);
+            writeField(out, "MatchId", value.MatchId);
+            writeField(out, "Members", value.Members, matchmakingPlayerWithTeamAssignmentListAdapter);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "ServerDetails", value.ServerDetails, serverDetailsAdapter);
+            writeField(out, "Status", value.Status);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetServerBackfillTicketResult value) throws IOException {
+            switch (name) {
+                case "CancellationReasonString": value.CancellationReasonString = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = readInteger(in); return true;
+                case "MatchId": value.MatchId = readString(in); return true;
+                case "Members": value.Members = matchmakingPlayerWithTeamAssignmentListAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "ServerDetails": value.ServerDetails = serverDetailsAdapter.read(in); return true;
+                case "Status": value.Status = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleEnabledForMultiplayerServersStatusRequestAdapter extends PlayFabModelAdapter<GetTitleEnabledForMultiplayerServersStatusRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetTitleEnabledForMultiplayerServersStatusRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetTitleEnabledForMultiplayerServersStatusRequest newInstance() {
+            return new GetTitleEnabledForMultiplayerServersStatusRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleEnabledForMultiplayerServersStatusRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleEnabledForMultiplayerServersStatusRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleEnabledForMultiplayerServersStatusResponseAdapter extends PlayFabModelAdapter<GetTitleEnabledForMultiplayerServersStatusResponse> {
+        private final TypeAdapter<TitleMultiplayerServerEnabledStatus> titleMultiplayerServerEnabledStatusAdapter;
+
+        GetTitleEnabledForMultiplayerServersStatusResponseAdapter(Gson gson) {
+            titleMultiplayerServerEnabledStatusAdapter = gson.getAdapter(TitleMultiplayerServerEnabledStatus.class);
+        }
+
+        protected GetTitleEnabledForMultiplayerServersStatusResponse newInstance() {
+            return new GetTitleEnabledForMultiplayerServersStatusResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleEnabledForMultiplayerServersStatusResponse value) throws IOException {
+            writeField(out, "Status", value.Status, titleMultiplayerServerEnabledStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleEnabledForMultiplayerServersStatusResponse value) throws IOException {
+            switch (name) {
+                case "Status": value.Status = titleMultiplayerServerEnabledStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleMultiplayerServersQuotaChangeRequestAdapter extends PlayFabModelAdapter<GetTitleMultiplayerServersQuotaChangeRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetTitleMultiplayerServersQuotaChangeRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetTitleMultiplayerServersQuotaChangeRequest newInstance() {
+            return new GetTitleMultiplayerServersQuotaChangeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleMultiplayerServersQuotaChangeRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "RequestId", value.RequestId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleMultiplayerServersQuotaChangeRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "RequestId": value.RequestId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleMultiplayerServersQuotaChangeResponseAdapter extends PlayFabModelAdapter<GetTitleMultiplayerServersQuotaChangeResponse> {
+        private final TypeAdapter<QuotaChange> quotaChangeAdapter;
+
+        GetTitleMultiplayerServersQuotaChangeResponseAdapter(Gson gson) {
+            quotaChangeAdapter = gson.getAdapter(QuotaChange.class);
+        }
+
+        protected GetTitleMultiplayerServersQuotaChangeResponse newInstance() {
+            return new GetTitleMultiplayerServersQuotaChangeResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleMultiplayerServersQuotaChangeResponse value) throws IOException {
+            writeField(out, "Change", value.Change, quotaChangeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleMultiplayerServersQuotaChangeResponse value) throws IOException {
+            switch (name) {
+                case "Change": value.Change = quotaChangeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleMultiplayerServersQuotasRequestAdapter extends PlayFabModelAdapter<GetTitleMultiplayerServersQuotasRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetTitleMultiplayerServersQuotasRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetTitleMultiplayerServersQuotasRequest newInstance() {
+            return new GetTitleMultiplayerServersQuotasRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleMultiplayerServersQuotasRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleMultiplayerServersQuotasRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleMultiplayerServersQuotasResponseAdapter extends PlayFabModelAdapter<GetTitleMultiplayerServersQuotasResponse> {
+        private final TypeAdapter<TitleMultiplayerServersQuotas> titleMultiplayerServersQuotasAdapter;
+
+        GetTitleMultiplayerServersQuotasResponseAdapter(Gson gson) {
+            titleMultiplayerServersQuotasAdapter = gson.getAdapter(TitleMultiplayerServersQuotas.class);
+        }
+
+        protected GetTitleMultiplayerServersQuotasResponse newInstance() {
+            return new GetTitleMultiplayerServersQuotasResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleMultiplayerServersQuotasResponse value) throws IOException {
+            writeField(out, "Quotas", value.Quotas, titleMultiplayerServersQuotasAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleMultiplayerServersQuotasResponse value) throws IOException {
+            switch (name) {
+                case "Quotas": value.Quotas = titleMultiplayerServersQuotasAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InstrumentationConfigurationAdapter extends PlayFabModelAdapter<InstrumentationConfiguration> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        InstrumentationConfigurationAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected InstrumentationConfiguration newInstance() {
+            return new InstrumentationConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, InstrumentationConfiguration value) throws IOException {
+            writeField(out, "IsEnabled", value.IsEnabled);
+            writeField(out, "ProcessesToMonitor", value.ProcessesToMonitor, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InstrumentationConfiguration value) throws IOException {
+            switch (name) {
+                case "IsEnabled": value.IsEnabled = readBoolean(in); return true;
+                case "ProcessesToMonitor": value.ProcessesToMonitor = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InviteToLobbyRequestAdapter extends PlayFabModelAdapter<InviteToLobbyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        InviteToLobbyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected InviteToLobbyRequest newInstance() {
+            return new InviteToLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InviteToLobbyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InviteeEntity", value.InviteeEntity, entityKeyAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InviteToLobbyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InviteeEntity": value.InviteeEntity = entityKeyAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class JoinArrangedLobbyRequestAdapter extends PlayFabModelAdapter<JoinArrangedLobbyRequest> {
+        private final TypeAdapter<AccessPolicy> accessPolicyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<OwnerMigrationPolicy> ownerMigrationPolicyAdapter;
+
+        JoinArrangedLobbyRequestAdapter(Gson gson) {
+            accessPolicyAdapter = gson.getAdapter(AccessPolicy.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            ownerMigrationPolicyAdapter = gson.getAdapter(OwnerMigrationPolicy.class);
+        }
+
+        protected JoinArrangedLobbyRequest newInstance() {
+            return new JoinArrangedLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, JoinArrangedLobbyRequest value) throws IOException {
+            writeField(out, "AccessPolicy", value.AccessPolicy, accessPolicyAdapter);
+            writeField(out, "ArrangementString", value.ArrangementString);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MaxPlayers", value.MaxPlayers);
+            writeField(out, "MemberData", value.MemberData, stringMapAdapter);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+            writeField(out, "OwnerMigrationPolicy", value.OwnerMigrationPolicy, ownerMigrationPolicyAdapter);
+            writeField(out, "UseConnections", value.UseConnections);
+        }
+
+        protected boolean readField(JsonReader in, String name, JoinArrangedLobbyRequest value) throws IOException {
+            switch (name) {
+                case "AccessPolicy": value.AccessPolicy = accessPolicyAdapter.read(in); return true;
+                case "ArrangementString": value.ArrangementString = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MaxPlayers": value.MaxPlayers = readLong(in); return true;
+                case "MemberData": value.MemberData = stringMapAdapter.read(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                case "OwnerMigrationPolicy": value.OwnerMigrationPolicy = ownerMigrationPolicyAdapter.read(in); return true;
+                case "UseConnections": value.UseConnections = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class JoinLobbyRequestAdapter extends PlayFabModelAdapter<JoinLobbyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        JoinLobbyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected JoinLobbyRequest newInstance() {
+            return new JoinLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, JoinLobbyRequest value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MemberData", value.MemberData, stringMapAdapter);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, JoinLobbyRequest value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MemberData": value.MemberData = stringMapAdapter.read(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class JoinLobbyResultAdapter extends PlayFabModelAdapter<JoinLobbyResult> {
+        JoinLobbyResultAdapter(Gson gson) {
+        }
+
+        protected JoinLobbyResult newInstance() {
+            return new JoinLobbyResult();
+        }
+
+        protected void writeFields(JsonWriter out, JoinLobbyResult value) throws IOException {
+            writeField(out, "LobbyId", value.LobbyId);
+        }
+
+        protected boolean readField(JsonReader in, String name, JoinLobbyResult value) throws IOException {
+            switch (name) {
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class JoinMatchmakingTicketRequestAdapter extends PlayFabModelAdapter<JoinMatchmakingTicketRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<MatchmakingPlayer> matchmakingPlayerAdapter;
+
+        JoinMatchmakingTicketRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            matchmakingPlayerAdapter = gson.getAdapter(MatchmakingPlayer.class);
+        }
+
+        protected JoinMatchmakingTicketRequest newInstance() {
+            return new JoinMatchmakingTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, JoinMatchmakingTicketRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Member", value.Member, matchmakingPlayerAdapter);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "TicketId", value.TicketId);
+        }
+
+        protected boolean readField(JsonReader in, String name, JoinMatchmakingTicketRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Member": value.Member = matchmakingPlayerAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "TicketId": value.TicketId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class JoinMatchmakingTicketResultAdapter extends PlayFabModelAdapter<JoinMatchmakingTicketResult> {
+        JoinMatchmakingTicketResultAdapter(Gson gson) {
+        }
+
+        protected JoinMatchmakingTicketResult newInstance() {
+            return new JoinMatchmakingTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, JoinMatchmakingTicketResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, JoinMatchmakingTicketResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LeaveLobbyRequestAdapter extends PlayFabModelAdapter<LeaveLobbyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        LeaveLobbyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected LeaveLobbyRequest newInstance() {
+            return new LeaveLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LeaveLobbyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LeaveLobbyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinuxInstrumentationConfigurationAdapter extends PlayFabModelAdapter<LinuxInstrumentationConfiguration> {
+        LinuxInstrumentationConfigurationAdapter(Gson gson) {
+        }
+
+        protected LinuxInstrumentationConfiguration newInstance() {
+            return new LinuxInstrumentationConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, LinuxInstrumentationConfiguration value) throws IOException {
+            writeField(out, "IsEnabled", value.IsEnabled);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinuxInstrumentationConfiguration value) throws IOException {
+            switch (name) {
+                case "IsEnabled": value.IsEnabled = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListAssetSummariesRequestAdapter extends PlayFabModelAdapter<ListAssetSummariesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListAssetSummariesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListAssetSummariesRequest newInstance() {
+            return new ListAssetSummariesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListAssetSummariesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListAssetSummariesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListAssetSummariesResponseAdapter extends PlayFabModelAdapter<ListAssetSummariesResponse> {
+        private final TypeAdapter<ArrayList<AssetSummary>> assetSummaryListAdapter;
+
+        ListAssetSummariesResponseAdapter(Gson gson) {
+            assetSummaryListAdapter = listAdapter(gson, AssetSummary.class);
+        }
+
+        protected ListAssetSummariesResponse newInstance() {
+            return new ListAssetSummariesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListAssetSummariesResponse value) throws IOException {
+            writeField(out, "AssetSummaries", value.AssetSummaries, assetSummaryListAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListAssetSummariesResponse value) throws IOException {
+            switch (name) {
+                case "AssetSummaries": value.AssetSummaries = assetSummaryListAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListBuildAliasesRequestAdapter extends PlayFabModelAdapter<ListBuildAliasesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListBuildAliasesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListBuildAliasesRequest newInstance() {
+            return new ListBuildAliasesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListBuildAliasesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListBuildAliasesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListBuildAliasesResponseAdapter extends PlayFabModelAdapter<ListBuildAliasesResponse> {
+        private final TypeAdapter<ArrayList<BuildAliasDetailsResponse>> buildAliasDetailsResponseListAdapter;
+
+        ListBuildAliasesResponseAdapter(Gson gson) {
+            buildAliasDetailsResponseListAdapter = listAdapter(gson, BuildAliasDetailsResponse.class);
+        }
+
+        protected ListBuildAliasesResponse newInstance() {
+            return new ListBuildAliasesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListBuildAliasesResponse value) throws IOException {
+            writeField(out, "BuildAliases", value.BuildAliases, buildAliasDetailsResponseListAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListBuildAliasesResponse value) throws IOException {
+            switch (name) {
+                case "BuildAliases": value.BuildAliases = buildAliasDetailsResponseListAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListBuildSummariesRequestAdapter extends PlayFabModelAdapter<ListBuildSummariesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListBuildSummariesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListBuildSummariesRequest newInstance() {
+            return new ListBuildSummariesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListBuildSummariesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListBuildSummariesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListBuildSummariesResponseAdapter extends PlayFabModelAdapter<ListBuildSummariesResponse> {
+        private final TypeAdapter<ArrayList<BuildSummary>> buildSummaryListAdapter;
+
+        ListBuildSummariesResponseAdapter(Gson gson) {
+            buildSummaryListAdapter = listAdapter(gson, BuildSummary.class);
+        }
+
+        protected ListBuildSummariesResponse newInstance() {
+            return new ListBuildSummariesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListBuildSummariesResponse value) throws IOException {
+            writeField(out, "BuildSummaries", value.BuildSummaries, buildSummaryListAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListBuildSummariesResponse value) throws IOException {
+            switch (name) {
+                case "BuildSummaries": value.BuildSummaries = buildSummaryListAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListCertificateSummariesRequestAdapter extends PlayFabModelAdapter<ListCertificateSummariesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListCertificateSummariesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListCertificateSummariesRequest newInstance() {
+            return new ListCertificateSummariesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListCertificateSummariesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListCertificateSummariesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListCertificateSummariesResponseAdapter extends PlayFabModelAdapter<ListCertificateSummariesResponse> {
+        private final TypeAdapter<ArrayList<CertificateSummary>> certificateSummaryListAdapter;
+
+        ListCertificateSummariesResponseAdapter(Gson gson) {
+            certificateSummaryListAdapter = listAdapter(gson, CertificateSummary.class);
+        }
+
+        protected ListCertificateSummariesResponse newInstance() {
+            return new ListCertificateSummariesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListCertificateSummariesResponse value) throws IOException {
+            writeField(out, "CertificateSummaries", value.CertificateSummaries, certificateSummaryListAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListCertificateSummariesResponse value) throws IOException {
+            switch (name) {
+                case "CertificateSummaries": value.CertificateSummaries = certificateSummaryListAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListContainerImagesRequestAdapter extends PlayFabModelAdapter<ListContainerImagesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListContainerImagesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListContainerImagesRequest newInstance() {
+            return new ListContainerImagesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListContainerImagesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListContainerImagesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListContainerImagesResponseAdapter extends PlayFabModelAdapter<ListContainerImagesResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ListContainerImagesResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ListContainerImagesResponse newInstance() {
+            return new ListContainerImagesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListContainerImagesResponse value) throws IOException {
+            writeField(out, "Images", value.Images, stringListAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListContainerImagesResponse value) throws IOException {
+            switch (name) {
+                case "Images": value.Images = stringListAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListContainerImageTagsRequestAdapter extends PlayFabModelAdapter<ListContainerImageTagsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListContainerImageTagsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListContainerImageTagsRequest newInstance() {
+            return new ListContainerImageTagsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListContainerImageTagsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ImageName", value.ImageName);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListContainerImageTagsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ImageName": value.ImageName = readString(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListContainerImageTagsResponseAdapter extends PlayFabModelAdapter<ListContainerImageTagsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ListContainerImageTagsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ListContainerImageTagsResponse newInstance() {
+            return new ListContainerImageTagsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListContainerImageTagsResponse value) throws IOException {
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListContainerImageTagsResponse value) throws IOException {
+            switch (name) {
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMatchmakingTicketsForPlayerRequestAdapter extends PlayFabModelAdapter<ListMatchmakingTicketsForPlayerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListMatchmakingTicketsForPlayerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListMatchmakingTicketsForPlayerRequest newInstance() {
+            return new ListMatchmakingTicketsForPlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListMatchmakingTicketsForPlayerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMatchmakingTicketsForPlayerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMatchmakingTicketsForPlayerResultAdapter extends PlayFabModelAdapter<ListMatchmakingTicketsForPlayerResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ListMatchmakingTicketsForPlayerResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ListMatchmakingTicketsForPlayerResult newInstance() {
+            return new ListMatchmakingTicketsForPlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListMatchmakingTicketsForPlayerResult value) throws IOException {
+            writeField(out, "TicketIds", value.TicketIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMatchmakingTicketsForPlayerResult value) throws IOException {
+            switch (name) {
+                case "TicketIds": value.TicketIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMultiplayerServersRequestAdapter extends PlayFabModelAdapter<ListMultiplayerServersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListMultiplayerServersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListMultiplayerServersRequest newInstance() {
+            return new ListMultiplayerServersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListMultiplayerServersRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "Region", value.Region);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMultiplayerServersRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListMultiplayerServersResponseAdapter extends PlayFabModelAdapter<ListMultiplayerServersResponse> {
+        private final TypeAdapter<ArrayList<MultiplayerServerSummary>> multiplayerServerSummaryListAdapter;
+
+        ListMultiplayerServersResponseAdapter(Gson gson) {
+            multiplayerServerSummaryListAdapter = listAdapter(gson, MultiplayerServerSummary.class);
+        }
+
+        protected ListMultiplayerServersResponse newInstance() {
+            return new ListMultiplayerServersResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListMultiplayerServersResponse value) throws IOException {
+            writeField(out, "MultiplayerServerSummaries", value.MultiplayerServerSummaries, multiplayerServerSummaryListAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListMultiplayerServersResponse value) throws IOException {
+            switch (name) {
+                case "MultiplayerServerSummaries": value.MultiplayerServerSummaries = multiplayerServerSummaryListAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListPartyQosServersRequestAdapter extends PlayFabModelAdapter<ListPartyQosServersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListPartyQosServersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListPartyQosServersRequest newInstance() {
+            return new ListPartyQosServersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListPartyQosServersRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListPartyQosServersRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListPartyQosServersResponseAdapter extends PlayFabModelAdapter<ListPartyQosServersResponse> {
+        private final TypeAdapter<ArrayList<QosServer>> qosServerListAdapter;
+
+        ListPartyQosServersResponseAdapter(Gson gson) {
+            qosServerListAdapter = listAdapter(gson, QosServer.class);
+        }
+
+        protected ListPartyQosServersResponse newInstance() {
+            return new ListPartyQosServersResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListPartyQosServersResponse value) throws IOException {
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "QosServers", value.QosServers, qosServerListAdapter);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListPartyQosServersResponse value) throws IOException {
+            switch (name) {
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "QosServers": value.QosServers = qosServerListAdapter.read(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListQosServersForTitleRequestAdapter extends PlayFabModelAdapter<ListQosServersForTitleRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListQosServersForTitleRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListQosServersForTitleRequest newInstance() {
+            return new ListQosServersForTitleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListQosServersForTitleRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "IncludeAllRegions", value.IncludeAllRegions);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListQosServersForTitleRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "IncludeAllRegions": value.IncludeAllRegions = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListQosServersForTitleResponseAdapter extends PlayFabModelAdapter<ListQosServersForTitleResponse> {
+        private final TypeAdapter<ArrayList<QosServer>> qosServerListAdapter;
+
+        ListQosServersForTitleResponseAdapter(Gson gson) {
+            qosServerListAdapter = listAdapter(gson, QosServer.class);
+        }
+
+        protected ListQosServersForTitleResponse newInstance() {
+            return new ListQosServersForTitleResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListQosServersForTitleResponse value) throws IOException {
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "QosServers", value.QosServers, qosServerListAdapter);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListQosServersForTitleResponse value) throws IOException {
+            switch (name) {
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "QosServers": value.QosServers = qosServerListAdapter.read(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListServerBackfillTicketsForPlayerRequestAdapter extends PlayFabModelAdapter<ListServerBackfillTicketsForPlayerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListServerBackfillTicketsForPlayerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListServerBackfillTicketsForPlayerRequest newInstance() {
+            return new ListServerBackfillTicketsForPlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListServerBackfillTicketsForPlayerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListServerBackfillTicketsForPlayerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListServerBackfillTicketsForPlayerResultAdapter extends PlayFabModelAdapter<ListServerBackfillTicketsForPlayerResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ListServerBackfillTicketsForPlayerResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ListServerBackfillTicketsForPlayerResult newInstance() {
+            return new ListServerBackfillTicketsForPlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListServerBackfillTicketsForPlayerResult value) throws IOException {
+            writeField(out, "TicketIds", value.TicketIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListServerBackfillTicketsForPlayerResult value) throws IOException {
+            switch (name) {
+                case "TicketIds": value.TicketIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListTitleMultiplayerServersQuotaChangesRequestAdapter extends PlayFabModelAdapter<ListTitleMultiplayerServersQuotaChangesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListTitleMultiplayerServersQuotaChangesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListTitleMultiplayerServersQuotaChangesRequest newInstance() {
+            return new ListTitleMultiplayerServersQuotaChangesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListTitleMultiplayerServersQuotaChangesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListTitleMultiplayerServersQuotaChangesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListTitleMultiplayerServersQuotaChangesResponseAdapter extends PlayFabModelAdapter<ListTitleMultiplayerServersQuotaChangesResponse> {
+        private final TypeAdapter<ArrayList<QuotaChange>> quotaChangeListAdapter;
+
+        ListTitleMultiplayerServersQuotaChangesResponseAdapter(Gson gson) {
+            quotaChangeListAdapter = listAdapter(gson, QuotaChange.class);
+        }
+
+        protected ListTitleMultiplayerServersQuotaChangesResponse newInstance() {
+            return new ListTitleMultiplayerServersQuotaChangesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListTitleMultiplayerServersQuotaChangesResponse value) throws IOException {
+            writeField(out, "Changes", value.Changes, quotaChangeListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListTitleMultiplayerServersQuotaChangesResponse value) throws IOException {
+            switch (name) {
+                case "Changes": value.Changes = quotaChangeListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListVirtualMachineSummariesRequestAdapter extends PlayFabModelAdapter<ListVirtualMachineSummariesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListVirtualMachineSummariesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListVirtualMachineSummariesRequest newInstance() {
+            return new ListVirtualMachineSummariesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListVirtualMachineSummariesRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "Region", value.Region);
+            writeField(out, "SkipToken", value.SkipToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListVirtualMachineSummariesRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListVirtualMachineSummariesResponseAdapter extends PlayFabModelAdapter<ListVirtualMachineSummariesResponse> {
+        private final TypeAdapter<ArrayList<VirtualMachineSummary>> virtualMachineSummaryListAdapter;
+
+        ListVirtualMachineSummariesResponseAdapter(Gson gson) {
+            virtualMachineSummaryListAdapter = listAdapter(gson, VirtualMachineSummary.class);
+        }
+
+        protected ListVirtualMachineSummariesResponse newInstance() {
+            return new ListVirtualMachineSummariesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListVirtualMachineSummariesResponse value) throws IOException {
+            writeField(out, "PageSize", value.PageSize);
+            writeField(out, "SkipToken", value.SkipToken);
+            writeField(out, "VirtualMachines", value.VirtualMachines, virtualMachineSummaryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListVirtualMachineSummariesResponse value) throws IOException {
+            switch (name) {
+                case "PageSize": value.PageSize = readInteger(in); return true;
+                case "SkipToken": value.SkipToken = readString(in); return true;
+                case "VirtualMachines": value.VirtualMachines = virtualMachineSummaryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LobbyAdapter extends PlayFabModelAdapter<Lobby> {
+        private final TypeAdapter<AccessPolicy> accessPolicyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<Member>> memberListAdapter;
+        private final TypeAdapter<MembershipLock> membershipLockAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<OwnerMigrationPolicy> ownerMigrationPolicyAdapter;
+
+        LobbyAdapter(Gson gson) {
+            accessPolicyAdapter = gson.getAdapter(AccessPolicy.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            memberListAdapter = listAdapter(gson, Member.class);
+            membershipLockAdapter = gson.getAdapter(MembershipLock.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            ownerMigrationPolicyAdapter = gson.getAdapter(OwnerMigrationPolicy.class);
+        }
+
+        protected Lobby newInstance() {
+            return new Lobby();
+        }
+
+        protected void writeFields(JsonWriter out, Lobby value) throws IOException {
+            writeField(out, "AccessPolicy", value.AccessPolicy, accessPolicyAdapter);
+            writeField(out, "ChangeNumber", value.ChangeNumber);
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "LobbyData", value.LobbyData, stringMapAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MaxPlayers", value.MaxPlayers);
+            writeField(out, "Members", value.Members, memberListAdapter);
+            writeField(out, "MembershipLock", value.MembershipLock, membershipLockAdapter);
+            writeField(out, "Owner", value.Owner, entityKeyAdapter);
+            writeField(out, "OwnerMigrationPolicy", value.OwnerMigrationPolicy, ownerMigrationPolicyAdapter);
+            writeField(out, "PubSubConnectionHandle", value.PubSubConnectionHandle);
+            writeField(out, "SearchData", value.SearchData, stringMapAdapter);
+            writeField(out, "UseConnections", value.UseConnections);
+        }
+
+        protected boolean readField(JsonReader in, String name, Lobby value) throws IOException {
+            switch (name) {
+                case "AccessPolicy": value.AccessPolicy = accessPolicyAdapter.read(in); return true;
+                case "ChangeNumber": value.ChangeNumber = readLong(in); return true;
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "LobbyData": value.LobbyData = stringMapAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MaxPlayers": value.MaxPlayers = readLong(in); return true;
+                case "Members": value.Members = memberListAdapter.read(in); return true;
+                case "MembershipLock": value.MembershipLock = membershipLockAdapter.read(in); return true;
+                case "Owner": value.Owner = entityKeyAdapter.read(in); return true;
+                case "OwnerMigrationPolicy": value.OwnerMigrationPolicy = ownerMigrationPolicyAdapter.read(in); return true;
+                case "PubSubConnectionHandle": value.PubSubConnectionHandle = readString(in); return true;
+                case "SearchData": value.SearchData = stringMapAdapter.read(in); return true;
+                case "UseConnections": value.UseConnections = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LobbyEmptyResultAdapter extends PlayFabModelAdapter<LobbyEmptyResult> {
+        LobbyEmptyResultAdapter(Gson gson) {
+        }
+
+        protected LobbyEmptyResult newInstance() {
+            return new LobbyEmptyResult();
+        }
+
+        protected void writeFields(JsonWriter out, LobbyEmptyResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LobbyEmptyResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LobbySummaryAdapter extends PlayFabModelAdapter<LobbySummary> {
+        private final TypeAdapter<MembershipLock> membershipLockAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LobbySummaryAdapter(Gson gson) {
+            membershipLockAdapter = gson.getAdapter(MembershipLock.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LobbySummary newInstance() {
+            return new LobbySummary();
+        }
+
+        protected void writeFields(JsonWriter out, LobbySummary value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "CurrentPlayers", value.CurrentPlayers);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MaxPlayers", value.MaxPlayers);
+            writeField(out, "MembershipLock", value.MembershipLock, membershipLockAdapter);
+            writeField(out, "Owner", value.Owner, entityKeyAdapter);
+            writeField(out, "SearchData", value.SearchData, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LobbySummary value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "CurrentPlayers": value.CurrentPlayers = readLong(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MaxPlayers": value.MaxPlayers = readLong(in); return true;
+                case "MembershipLock": value.MembershipLock = membershipLockAdapter.read(in); return true;
+                case "Owner": value.Owner = entityKeyAdapter.read(in); return true;
+                case "SearchData": value.SearchData = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MatchmakingPlayerAdapter extends PlayFabModelAdapter<MatchmakingPlayer> {
+        private final TypeAdapter<MatchmakingPlayerAttributes> matchmakingPlayerAttributesAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        MatchmakingPlayerAdapter(Gson gson) {
+            matchmakingPlayerAttributesAdapter = gson.getAdapter(MatchmakingPlayerAttributes.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected MatchmakingPlayer newInstance() {
+            return new MatchmakingPlayer();
+        }
+
+        protected void writeFields(JsonWriter out, MatchmakingPlayer value) throws IOException {
+            writeField(out, "Attributes", value.Attributes, matchmakingPlayerAttributesAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, MatchmakingPlayer value) throws IOException {
+            switch (name) {
+                case "Attributes": value.Attributes = matchmakingPlayerAttributesAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MatchmakingPlayerAttributesAdapter extends PlayFabModelAdapter<MatchmakingPlayerAttributes> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        MatchmakingPlayerAttributesAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected MatchmakingPlayerAttributes newInstance() {
+            return new MatchmakingPlayerAttributes();
+        }
+
+        protected void writeFields(JsonWriter out, MatchmakingPlayerAttributes value) throws IOException {
+            writeField(out, "DataObject", value.DataObject, objectAdapter);
+            writeField(out, "EscapedDataObject", value.EscapedDataObject);
+        }
+
+        protected boolean readField(JsonReader in, String name, MatchmakingPlayerAttributes value) throws IOException {
+            switch (name) {
+                case "DataObject": value.DataObject = objectAdapter.read(in); return true;
+                case "EscapedDataObject": value.EscapedDataObject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MatchmakingPlayerWithTeamAssignmentAdapter extends PlayFabModelAdapter<MatchmakingPlayerWithTeamAssignment> {
+        private final TypeAdapter<MatchmakingPlayerAttributes> matchmakingPlayerAttributesAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        MatchmakingPlayerWithTeamAssignmentAdapter(Gson gson) {
+            matchmakingPlayerAttributesAdapter = gson.getAdapter(MatchmakingPlayerAttributes.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected MatchmakingPlayerWithTeamAssignment newInstance() {
+            return new MatchmakingPlayerWithTeamAssignment();
+        }
+
+        protected void writeFields(JsonWriter out, MatchmakingPlayerWithTeamAssignment value) throws IOException {
+            writeField(out, "Attributes", value.Attributes, matchmakingPlayerAttributesAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "TeamId", value.TeamId);
+        }
+
+        protected boolean readField(JsonReader in, String name, MatchmakingPlayerWithTeamAssignment value) throws IOException {
+            switch (name) {
+                case "Attributes": value.Attributes = matchmakingPlayerAttributesAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "TeamId": value.TeamId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MemberAdapter extends PlayFabModelAdapter<Member> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        MemberAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected Member newInstance() {
+            return new Member();
+        }
+
+        protected void writeFields(JsonWriter out, Member value) throws IOException {
+            writeField(out, "MemberData", value.MemberData, stringMapAdapter);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+            writeField(out, "PubSubConnectionHandle", value.PubSubConnectionHandle);
+        }
+
+        protected boolean readField(JsonReader in, String name, Member value) throws IOException {
+            switch (name) {
+                case "MemberData": value.MemberData = stringMapAdapter.read(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                case "PubSubConnectionHandle": value.PubSubConnectionHandle = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MonitoringApplicationConfigurationAdapter extends PlayFabModelAdapter<MonitoringApplicationConfiguration> {
+        private final TypeAdapter<AssetReference> assetReferenceAdapter;
+
+        MonitoringApplicationConfigurationAdapter(Gson gson) {
+            assetReferenceAdapter = gson.getAdapter(AssetReference.class);
+        }
+
+        protected MonitoringApplicationConfiguration newInstance() {
+            return new MonitoringApplicationConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, MonitoringApplicationConfiguration value) throws IOException {
+            writeField(out, "AssetReference", value.AssetReference, assetReferenceAdapter);
+            writeField(out, "ExecutionScriptName", value.ExecutionScriptName);
+            writeField(out, "InstallationScriptName", value.InstallationScriptName);
+            writeField(out, "OnStartRuntimeInMinutes", value.OnStartRuntimeInMinutes);
+        }
+
+        protected boolean readField(JsonReader in, String name, MonitoringApplicationConfiguration value) throws IOException {
+            switch (name) {
+                case "AssetReference": value.AssetReference = assetReferenceAdapter.read(in); return true;
+                case "ExecutionScriptName": value.ExecutionScriptName = readString(in); return true;
+                case "InstallationScriptName": value.InstallationScriptName = readString(in); return true;
+                case "OnStartRuntimeInMinutes": value.OnStartRuntimeInMinutes = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MonitoringApplicationConfigurationParamsAdapter extends PlayFabModelAdapter<MonitoringApplicationConfigurationParams> {
+        private final TypeAdapter<AssetReferenceParams> assetReferenceParamsAdapter;
+
+        MonitoringApplicationConfigurationParamsAdapter(Gson gson) {
+            assetReferenceParamsAdapter = gson.getAdapter(AssetReferenceParams.class);
+        }
+
+        protected MonitoringApplicationConfigurationParams newInstance() {
+            return new MonitoringApplicationConfigurationParams();
+        }
+
+        protected void writeFields(JsonWriter out, MonitoringApplicationConfigurationParams value) throws IOException {
+            writeField(out, "AssetReference", value.AssetReference, assetReferenceParamsAdapter);
+            writeField(out, "ExecutionScriptName", value.ExecutionScriptName);
+            writeField(out, "InstallationScriptName", value.InstallationScriptName);
+            writeField(out, "OnStartRuntimeInMinutes", value.OnStartRuntimeInMinutes);
+        }
+
+        protected boolean readField(JsonReader in, String name, MonitoringApplicationConfigurationParams value) throws IOException {
+            switch (name) {
+                case "AssetReference": value.AssetReference = assetReferenceParamsAdapter.read(in); return true;
+                case "ExecutionScriptName": value.ExecutionScriptName = readString(in); return true;
+                case "InstallationScriptName": value.InstallationScriptName = readString(in); return true;
+                case "OnStartRuntimeInMinutes": value.OnStartRuntimeInMinutes = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MultiplayerServerSummaryAdapter extends PlayFabModelAdapter<MultiplayerServerSummary> {
+        private final TypeAdapter<ArrayList<ConnectedPlayer>> connectedPlayerListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        MultiplayerServerSummaryAdapter(Gson gson) {
+            connectedPlayerListAdapter = listAdapter(gson, ConnectedPlayer.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected MultiplayerServerSummary newInstance() {
+            return new MultiplayerServerSummary();
+        }
+
+        protected void writeFields(JsonWriter out, MultiplayerServerSummary value) throws IOException {
+            writeField(out, "ConnectedPlayers", value.ConnectedPlayers, connectedPlayerListAdapter);
+            writeField(out, "LastStateTransitionTime", value.LastStateTransitionTime, dateAdapter);
+            writeField(out, "Region", value.Region);
+            writeField(out, "ServerId", value.ServerId);
+            writeField(out, "SessionId", value.SessionId);
+            writeField(out, "State", value.State);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, MultiplayerServerSummary value) throws IOException {
+            switch (name) {
+                case "ConnectedPlayers": value.ConnectedPlayers = connectedPlayerListAdapter.read(in); return true;
+                case "LastStateTransitionTime": value.LastStateTransitionTime = dateAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "ServerId": value.ServerId = readString(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                case "State": value.State = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PaginationRequestAdapter extends PlayFabModelAdapter<PaginationRequest> {
+        PaginationRequestAdapter(Gson gson) {
+        }
+
+        protected PaginationRequest newInstance() {
+            return new PaginationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PaginationRequest value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "PageSizeRequested", value.PageSizeRequested);
+        }
+
+        protected boolean readField(JsonReader in, String name, PaginationRequest value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "PageSizeRequested": value.PageSizeRequested = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PaginationResponseAdapter extends PlayFabModelAdapter<PaginationResponse> {
+        PaginationResponseAdapter(Gson gson) {
+        }
+
+        protected PaginationResponse newInstance() {
+            return new PaginationResponse();
+        }
+
+        protected void writeFields(JsonWriter out, PaginationResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "TotalMatchedLobbyCount", value.TotalMatchedLobbyCount);
+        }
+
+        protected boolean readField(JsonReader in, String name, PaginationResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "TotalMatchedLobbyCount": value.TotalMatchedLobbyCount = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PartyInvitationConfigurationAdapter extends PlayFabModelAdapter<PartyInvitationConfiguration> {
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        PartyInvitationConfigurationAdapter(Gson gson) {
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected PartyInvitationConfiguration newInstance() {
+            return new PartyInvitationConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, PartyInvitationConfiguration value) throws IOException {
+            writeField(out, "EntityKeys", value.EntityKeys, entityKeyListAdapter);
+            writeField(out, "Identifier", value.Identifier);
+            writeField(out, "Revocability", value.Revocability);
+        }
+
+        protected boolean readField(JsonReader in, String name, PartyInvitationConfiguration value) throws IOException {
+            switch (name) {
+                case "EntityKeys": value.EntityKeys = entityKeyListAdapter.read(in); return true;
+                case "Identifier": value.Identifier = readString(in); return true;
+                case "Revocability": value.Revocability = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PartyNetworkConfigurationAdapter extends PlayFabModelAdapter<PartyNetworkConfiguration> {
+        private final TypeAdapter<PartyInvitationConfiguration> partyInvitationConfigurationAdapter;
+
+        PartyNetworkConfigurationAdapter(Gson gson) {
+            partyInvitationConfigurationAdapter = gson.getAdapter(PartyInvitationConfiguration.class);
+        }
+
+        protected PartyNetworkConfiguration newInstance() {
+            return new PartyNetworkConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, PartyNetworkConfiguration value) throws IOException {
+            writeField(out, "DirectPeerConnectivityOptions", value.DirectPeerConnectivityOptions);
+            writeField(out, "MaxDevices", value.MaxDevices);
+            writeField(out, "MaxDevicesPerUser", value.MaxDevicesPerUser);
+            writeField(out, "MaxEndpointsPerDevice", value.MaxEndpointsPerDevice);
+            writeField(out, "MaxUsers", value.MaxUsers);
+            writeField(out, "MaxUsersPerDevice", value.MaxUsersPerDevice);
+            writeField(out, "PartyInvitationConfiguration", value.PartyInvitationConfiguration, partyInvitationConfigurationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PartyNetworkConfiguration value) throws IOException {
+            switch (name) {
+                case "DirectPeerConnectivityOptions": value.DirectPeerConnectivityOptions = readString(in); return true;
+                case "MaxDevices": value.MaxDevices = readLong(in); return true;
+                case "MaxDevicesPerUser": value.MaxDevicesPerUser = readLong(in); return true;
+                case "MaxEndpointsPerDevice": value.MaxEndpointsPerDevice = readLong(in); return true;
+                case "MaxUsers": value.MaxUsers = readLong(in); return true;
+                case "MaxUsersPerDevice": value.MaxUsersPerDevice = readLong(in); return true;
+                case "PartyInvitationConfiguration": value.PartyInvitationConfiguration = partyInvitationConfigurationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PortAdapter extends PlayFabModelAdapter<Port> {
+        private final TypeAdapter<ProtocolType> protocolTypeAdapter;
+
+        PortAdapter(Gson gson) {
+            protocolTypeAdapter = gson.getAdapter(ProtocolType.class);
+        }
+
+        protected Port newInstance() {
+            return new Port();
+        }
+
+        protected void writeFields(JsonWriter out, Port value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Num", value.Num);
+            writeField(out, "Protocol", value.Protocol, protocolTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, Port value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Num": value.Num = readInteger(in); return true;
+                case "Protocol": value.Protocol = protocolTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PublicIpAddressAdapter extends PlayFabModelAdapter<PublicIpAddress> {
+        PublicIpAddressAdapter(Gson gson) {
+        }
+
+        protected PublicIpAddress newInstance() {
+            return new PublicIpAddress();
+        }
+
+        protected void writeFields(JsonWriter out, PublicIpAddress value) throws IOException {
+            writeField(out, "FQDN", value.FQDN);
+            writeField(out, "IpAddress", value.IpAddress);
+            writeField(out, "RoutingType", value.RoutingType);
+        }
+
+        protected boolean readField(JsonReader in, String name, PublicIpAddress value) throws IOException {
+            switch (name) {
+                case "FQDN": value.FQDN = readString(in); return true;
+                case "IpAddress": value.IpAddress = readString(in); return true;
+                case "RoutingType": value.RoutingType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class QosServerAdapter extends PlayFabModelAdapter<QosServer> {
+        QosServerAdapter(Gson gson) {
+        }
+
+        protected QosServer newInstance() {
+            return new QosServer();
+        }
+
+        protected void writeFields(JsonWriter out, QosServer value) throws IOException {
+            writeField(out, "Region", value.Region);
+            writeField(out, "ServerUrl", value.ServerUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, QosServer value) throws IOException {
+            switch (name) {
+                case "Region": value.Region = readString(in); return true;
+                case "ServerUrl": value.ServerUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class QuotaChangeAdapter extends PlayFabModelAdapter<QuotaChange> {
+        private final TypeAdapter<ArrayList<CoreCapacityChange>> coreCapacityChangeListAdapter;
+
+        QuotaChangeAdapter(Gson gson) {
+            coreCapacityChangeListAdapter = listAdapter(gson, CoreCapacityChange.class);
+        }
+
+        protected QuotaChange newInstance() {
+            return new QuotaChange();
+        }
+
+        protected void writeFields(JsonWriter out, QuotaChange value) throws IOException {
+            writeField(out, "ChangeDescription", value.ChangeDescription);
+            writeField(out, "Changes", value.Changes, coreCapacityChangeListAdapter);
+            writeField(out, "IsPendingReview", value.IsPendingReview);
+            writeField(out, "Notes", value.Notes);
+            writeField(out, "RequestId", value.RequestId);
+            writeField(out, "ReviewComments", value.ReviewComments);
+            writeField(out, "WasApproved", value.WasApproved);
+        }
+
+        protected boolean readField(JsonReader in, String name, QuotaChange value) throws IOException {
+            switch (name) {
+                case "ChangeDescription": value.ChangeDescription = readString(in); return true;
+                case "Changes": value.Changes = coreCapacityChangeListAdapter.read(in); return true;
+                case "IsPendingReview": value.IsPendingReview = readBoolean(in); return true;
+                case "Notes": value.Notes = readString(in); return true;
+                case "RequestId": value.RequestId = readString(in); return true;
+                case "ReviewComments": value.ReviewComments = readString(in); return true;
+                case "WasApproved": value.WasApproved = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveMemberFromLobbyRequestAdapter extends PlayFabModelAdapter<RemoveMemberFromLobbyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RemoveMemberFromLobbyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RemoveMemberFromLobbyRequest newInstance() {
+            return new RemoveMemberFromLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveMemberFromLobbyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+            writeField(out, "PreventRejoin", value.PreventRejoin);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveMemberFromLobbyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                case "PreventRejoin": value.PreventRejoin = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RequestMultiplayerServerRequestAdapter extends PlayFabModelAdapter<RequestMultiplayerServerRequest> {
+        private final TypeAdapter<BuildAliasParams> buildAliasParamsAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RequestMultiplayerServerRequestAdapter(Gson gson) {
+            buildAliasParamsAdapter = gson.getAdapter(BuildAliasParams.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RequestMultiplayerServerRequest newInstance() {
+            return new RequestMultiplayerServerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RequestMultiplayerServerRequest value) throws IOException {
+            writeField(out, "BuildAliasParams", value.BuildAliasParams, buildAliasParamsAdapter);
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InitialPlayers", value.InitialPlayers, stringListAdapter);
+            writeField(out, "PreferredRegions", value.PreferredRegions, stringListAdapter);
+            writeField(out, "SessionCookie", value.SessionCookie);
+            writeField(out, "SessionId", value.SessionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RequestMultiplayerServerRequest value) throws IOException {
+            switch (name) {
+                case "BuildAliasParams": value.BuildAliasParams = buildAliasParamsAdapter.read(in); return true;
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InitialPlayers": value.InitialPlayers = stringListAdapter.read(in); return true;
+                case "PreferredRegions": value.PreferredRegions = stringListAdapter.read(in); return true;
+                case "SessionCookie": value.SessionCookie = readString(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RequestMultiplayerServerResponseAdapter extends PlayFabModelAdapter<RequestMultiplayerServerResponse> {
+        private final TypeAdapter<ArrayList<ConnectedPlayer>> connectedPlayerListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+        private final TypeAdapter<ArrayList<PublicIpAddress>> publicIpAddressListAdapter;
+
+        RequestMultiplayerServerResponseAdapter(Gson gson) {
+            connectedPlayerListAdapter = listAdapter(gson, ConnectedPlayer.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            portListAdapter = listAdapter(gson, Port.class);
+            publicIpAddressListAdapter = listAdapter(gson, PublicIpAddress.class);
+        }
+
+        protected RequestMultiplayerServerResponse newInstance() {
+            return new RequestMultiplayerServerResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RequestMultiplayerServerResponse value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "ConnectedPlayers", value.ConnectedPlayers, connectedPlayerListAdapter);
+            writeField(out, "FQDN", value.FQDN);
+            writeField(out, "IPV4Address", value.IPV4Address);
+            writeField(out, "LastStateTransitionTime", value.LastStateTransitionTime, dateAdapter);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "PublicIPV4Addresses", value.PublicIPV4Addresses, publicIpAddressListAdapter);
+            writeField(out, "Region", value.Region);
+            writeField(out, "ServerId", value.ServerId);
+            writeField(out, "SessionId", value.SessionId);
+            writeField(out, "State", value.State);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RequestMultiplayerServerResponse value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "ConnectedPlayers": value.ConnectedPlayers = connectedPlayerListAdapter.read(in); return true;
+                case "FQDN": value.FQDN = readString(in); return true;
+                case "IPV4Address": value.IPV4Address = readString(in); return true;
+                case "LastStateTransitionTime": value.LastStateTransitionTime = dateAdapter.read(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "PublicIPV4Addresses": value.PublicIPV4Addresses = publicIpAddressListAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                case "ServerId": value.ServerId = readString(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                case "State": value.State = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RequestPartyServiceRequestAdapter extends PlayFabModelAdapter<RequestPartyServiceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PartyNetworkConfiguration> partyNetworkConfigurationAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RequestPartyServiceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            partyNetworkConfigurationAdapter = gson.getAdapter(PartyNetworkConfiguration.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RequestPartyServiceRequest newInstance() {
+            return new RequestPartyServiceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RequestPartyServiceRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "NetworkConfiguration", value.NetworkConfiguration, partyNetworkConfigurationAdapter);
+            writeField(out, "PartyId", value.PartyId);
+            writeField(out, "PreferredRegions", value.PreferredRegions, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RequestPartyServiceRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "NetworkConfiguration": value.NetworkConfiguration = partyNetworkConfigurationAdapter.read(in); return true;
+                case "PartyId": value.PartyId = readString(in); return true;
+                case "PreferredRegions": value.PreferredRegions = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RequestPartyServiceResponseAdapter extends PlayFabModelAdapter<RequestPartyServiceResponse> {
+        RequestPartyServiceResponseAdapter(Gson gson) {
+        }
+
+        protected RequestPartyServiceResponse newInstance() {
+            return new RequestPartyServiceResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RequestPartyServiceResponse value) throws IOException {
+            writeField(out, "InvitationId", value.InvitationId);
+            writeField(out, "PartyId", value.PartyId);
+            writeField(out, "SerializedNetworkDescriptor", value.SerializedNetworkDescriptor);
+        }
+
+        protected boolean readField(JsonReader in, String name, RequestPartyServiceResponse value) throws IOException {
+            switch (name) {
+                case "InvitationId": value.InvitationId = readString(in); return true;
+                case "PartyId": value.PartyId = readString(in); return true;
+                case "SerializedNetworkDescriptor": value.SerializedNetworkDescriptor = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RolloverContainerRegistryCredentialsRequestAdapter extends PlayFabModelAdapter<RolloverContainerRegistryCredentialsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RolloverContainerRegistryCredentialsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RolloverContainerRegistryCredentialsRequest newInstance() {
+            return new RolloverContainerRegistryCredentialsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RolloverContainerRegistryCredentialsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RolloverContainerRegistryCredentialsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RolloverContainerRegistryCredentialsResponseAdapter extends PlayFabModelAdapter<RolloverContainerRegistryCredentialsResponse> {
+        RolloverContainerRegistryCredentialsResponseAdapter(Gson gson) {
+        }
+
+        protected RolloverContainerRegistryCredentialsResponse newInstance() {
+            return new RolloverContainerRegistryCredentialsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RolloverContainerRegistryCredentialsResponse value) throws IOException {
+            writeField(out, "DnsName", value.DnsName);
+            writeField(out, "Password", value.Password);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, RolloverContainerRegistryCredentialsResponse value) throws IOException {
+            switch (name) {
+                case "DnsName": value.DnsName = readString(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScheduleAdapter extends PlayFabModelAdapter<Schedule> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ScheduleAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected Schedule newInstance() {
+            return new Schedule();
+        }
+
+        protected void writeFields(JsonWriter out, Schedule value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "EndTime", value.EndTime, dateAdapter);
+            writeField(out, "IsDisabled", value.IsDisabled);
+            writeField(out, "IsRecurringWeekly", value.IsRecurringWeekly);
+            writeField(out, "StartTime", value.StartTime, dateAdapter);
+            writeField(out, "TargetStandby", value.TargetStandby);
+        }
+
+        protected boolean readField(JsonReader in, String name, Schedule value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "EndTime": value.EndTime = dateAdapter.read(in); return true;
+                case "IsDisabled": value.IsDisabled = readBoolean(in); return true;
+                case "IsRecurringWeekly": value.IsRecurringWeekly = readBoolean(in); return true;
+                case "StartTime": value.StartTime = dateAdapter.read(in); return true;
+                case "TargetStandby": value.TargetStandby = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScheduledStandbySettingsAdapter extends PlayFabModelAdapter<ScheduledStandbySettings> {
+        private final TypeAdapter<ArrayList<Schedule>> scheduleListAdapter;
+
+        ScheduledStandbySettingsAdapter(Gson gson) {
+            scheduleListAdapter = listAdapter(gson, Schedule.class);
+        }
+
+        protected ScheduledStandbySettings newInstance() {
+            return new ScheduledStandbySettings();
+        }
+
+        protected void writeFields(JsonWriter out, ScheduledStandbySettings value) throws IOException {
+            writeField(out, "IsEnabled", value.IsEnabled);
+            writeField(out, "ScheduleList", value.ScheduleList, scheduleListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScheduledStandbySettings value) throws IOException {
+            switch (name) {
+                case "IsEnabled": value.IsEnabled = readBoolean(in); return true;
+                case "ScheduleList": value.ScheduleList = scheduleListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ServerDetailsAdapter extends PlayFabModelAdapter<ServerDetails> {
+        private final TypeAdapter<ArrayList<Port>> portListAdapter;
+
+        ServerDetailsAdapter(Gson gson) {
+            portListAdapter = listAdapter(gson, Port.class);
+        }
+
+        protected ServerDetails newInstance() {
+            return new ServerDetails();
+        }
+
+        protected void writeFields(JsonWriter out, ServerDetails value) throws IOException {
+            writeField(out, "Fqdn", value.Fqdn);
+            writeField(out, "IPV4Address", value.IPV4Address);
+            writeField(out, "Ports", value.Ports, portListAdapter);
+            writeField(out, "Region", value.Region);
+        }
+
+        protected boolean readField(JsonReader in, String name, ServerDetails value) throws IOException {
+            switch (name) {
+                case "Fqdn": value.Fqdn = readString(in); return true;
+                case "IPV4Address": value.IPV4Address = readString(in); return true;
+                case "Ports": value.Ports = portListAdapter.read(in); return true;
+                case "Region": value.Region = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ServerResourceConstraintParamsAdapter extends PlayFabModelAdapter<ServerResourceConstraintParams> {
+        ServerResourceConstraintParamsAdapter(Gson gson) {
+        }
+
+        protected ServerResourceConstraintParams newInstance() {
+            return new ServerResourceConstraintParams();
+        }
+
+        protected void writeFields(JsonWriter out, ServerResourceConstraintParams value) throws IOException {
+            writeField(out, "CpuLimit", value.CpuLimit);
+            writeField(out, "MemoryLimitGB", value.MemoryLimitGB);
+        }
+
+        protected boolean readField(JsonReader in, String name, ServerResourceConstraintParams value) throws IOException {
+            switch (name) {
+                case "CpuLimit": value.CpuLimit = readDouble(in); return true;
+                case "MemoryLimitGB": value.MemoryLimitGB = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ShutdownMultiplayerServerRequestAdapter extends PlayFabModelAdapter<ShutdownMultiplayerServerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ShutdownMultiplayerServerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ShutdownMultiplayerServerRequest newInstance() {
+            return new ShutdownMultiplayerServerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ShutdownMultiplayerServerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "SessionId", value.SessionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ShutdownMultiplayerServerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "SessionId": value.SessionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticsAdapter extends PlayFabModelAdapter<Statistics> {
+        StatisticsAdapter(Gson gson) {
+        }
+
+        protected Statistics newInstance() {
+            return new Statistics();
+        }
+
+        protected void writeFields(JsonWriter out, Statistics value) throws IOException {
+            writeField(out, "Average", value.Average);
+            writeField(out, "Percentile50", value.Percentile50);
+            writeField(out, "Percentile90", value.Percentile90);
+            writeField(out, "Percentile99", value.Percentile99);
+        }
+
+        protected boolean readField(JsonReader in, String name, Statistics value) throws IOException {
+            switch (name) {
+                case "Average": value.Average = readDouble(in); return true;
+                case "Percentile50": value.Percentile50 = readDouble(in); return true;
+                case "Percentile90": value.Percentile90 = readDouble(in); return true;
+                case "Percentile99": value.Percentile99 = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscribeToLobbyResourceRequestAdapter extends PlayFabModelAdapter<SubscribeToLobbyResourceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<SubscriptionType> subscriptionTypeAdapter;
+
+        SubscribeToLobbyResourceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            subscriptionTypeAdapter = gson.getAdapter(SubscriptionType.class);
+        }
+
+        protected SubscribeToLobbyResourceRequest newInstance() {
+            return new SubscribeToLobbyResourceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubscribeToLobbyResourceRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EntityKey", value.EntityKey, entityKeyAdapter);
+            writeField(out, "PubSubConnectionHandle", value.PubSubConnectionHandle);
+            writeField(out, "ResourceId", value.ResourceId);
+            writeField(out, "SubscriptionVersion", value.SubscriptionVersion);
+            writeField(out, "Type", value.Type, subscriptionTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscribeToLobbyResourceRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EntityKey": value.EntityKey = entityKeyAdapter.read(in); return true;
+                case "PubSubConnectionHandle": value.PubSubConnectionHandle = readString(in); return true;
+                case "ResourceId": value.ResourceId = readString(in); return true;
+                case "SubscriptionVersion": value.SubscriptionVersion = readLong(in); return true;
+                case "Type": value.Type = subscriptionTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscribeToLobbyResourceResultAdapter extends PlayFabModelAdapter<SubscribeToLobbyResourceResult> {
+        SubscribeToLobbyResourceResultAdapter(Gson gson) {
+        }
+
+        protected SubscribeToLobbyResourceResult newInstance() {
+            return new SubscribeToLobbyResourceResult();
+        }
+
+        protected void writeFields(JsonWriter out, SubscribeToLobbyResourceResult value) throws IOException {
+            writeField(out, "Topic", value.Topic);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscribeToLobbyResourceResult value) throws IOException {
+            switch (name) {
+                case "Topic": value.Topic = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TitleMultiplayerServersQuotasAdapter extends PlayFabModelAdapter<TitleMultiplayerServersQuotas> {
+        private final TypeAdapter<ArrayList<CoreCapacity>> coreCapacityListAdapter;
+
+        TitleMultiplayerServersQuotasAdapter(Gson gson) {
+            coreCapacityListAdapter = listAdapter(gson, CoreCapacity.class);
+        }
+
+        protected TitleMultiplayerServersQuotas newInstance() {
+            return new TitleMultiplayerServersQuotas();
+        }
+
+        protected void writeFields(JsonWriter out, TitleMultiplayerServersQuotas value) throws IOException {
+            writeField(out, "CoreCapacities", value.CoreCapacities, coreCapacityListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TitleMultiplayerServersQuotas value) throws IOException {
+            switch (name) {
+                case "CoreCapacities": value.CoreCapacities = coreCapacityListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnsubscribeFromLobbyResourceRequestAdapter extends PlayFabModelAdapter<UnsubscribeFromLobbyResourceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<SubscriptionType> subscriptionTypeAdapter;
+
+        UnsubscribeFromLobbyResourceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            subscriptionTypeAdapter = gson.getAdapter(SubscriptionType.class);
+        }
+
+        protected UnsubscribeFromLobbyResourceRequest newInstance() {
+            return new UnsubscribeFromLobbyResourceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnsubscribeFromLobbyResourceRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EntityKey", value.EntityKey, entityKeyAdapter);
+            writeField(out, "PubSubConnectionHandle", value.PubSubConnectionHandle);
+            writeField(out, "ResourceId", value.ResourceId);
+            writeField(out, "SubscriptionVersion", value.SubscriptionVersion);
+            writeField(out, "Type", value.Type, subscriptionTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnsubscribeFromLobbyResourceRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EntityKey": value.EntityKey = entityKeyAdapter.read(in); return true;
+                case "PubSubConnectionHandle": value.PubSubConnectionHandle = readString(in); return true;
+                case "ResourceId": value.ResourceId = readString(in); return true;
+                case "SubscriptionVersion": value.SubscriptionVersion = readLong(in); return true;
+                case "Type": value.Type = subscriptionTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UntagContainerImageRequestAdapter extends PlayFabModelAdapter<UntagContainerImageRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UntagContainerImageRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UntagContainerImageRequest newInstance() {
+            return new UntagContainerImageRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UntagContainerImageRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ImageName", value.ImageName);
+            writeField(out, "Tag", value.Tag);
+        }
+
+        protected boolean readField(JsonReader in, String name, UntagContainerImageRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ImageName": value.ImageName = readString(in); return true;
+                case "Tag": value.Tag = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBuildAliasRequestAdapter extends PlayFabModelAdapter<UpdateBuildAliasRequest> {
+        private final TypeAdapter<ArrayList<BuildSelectionCriterion>> buildSelectionCriterionListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateBuildAliasRequestAdapter(Gson gson) {
+            buildSelectionCriterionListAdapter = listAdapter(gson, BuildSelectionCriterion.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateBuildAliasRequest newInstance() {
+            return new UpdateBuildAliasRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBuildAliasRequest value) throws IOException {
+            writeField(out, "AliasId", value.AliasId);
+            writeField(out, "AliasName", value.AliasName);
+            writeField(out, "BuildSelectionCriteria", value.BuildSelectionCriteria, buildSelectionCriterionListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBuildAliasRequest value) throws IOException {
+            switch (name) {
+                case "AliasId": value.AliasId = readString(in); return true;
+                case "AliasName": value.AliasName = readString(in); return true;
+                case "BuildSelectionCriteria": value.BuildSelectionCriteria = buildSelectionCriterionListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBuildNameRequestAdapter extends PlayFabModelAdapter<UpdateBuildNameRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateBuildNameRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateBuildNameRequest newInstance() {
+            return new UpdateBuildNameRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBuildNameRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildName", value.BuildName);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBuildNameRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildName": value.BuildName = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBuildRegionRequestAdapter extends PlayFabModelAdapter<UpdateBuildRegionRequest> {
+        private final TypeAdapter<BuildRegionParams> buildRegionParamsAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateBuildRegionRequestAdapter(Gson gson) {
+            buildRegionParamsAdapter = gson.getAdapter(BuildRegionParams.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateBuildRegionRequest newInstance() {
+            return new UpdateBuildRegionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBuildRegionRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildRegion", value.BuildRegion, buildRegionParamsAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBuildRegionRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildRegion": value.BuildRegion = buildRegionParamsAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBuildRegionsRequestAdapter extends PlayFabModelAdapter<UpdateBuildRegionsRequest> {
+        private final TypeAdapter<ArrayList<BuildRegionParams>> buildRegionParamsListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateBuildRegionsRequestAdapter(Gson gson) {
+            buildRegionParamsListAdapter = listAdapter(gson, BuildRegionParams.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateBuildRegionsRequest newInstance() {
+            return new UpdateBuildRegionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBuildRegionsRequest value) throws IOException {
+            writeField(out, "BuildId", value.BuildId);
+            writeField(out, "BuildRegions", value.BuildRegions, buildRegionParamsListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBuildRegionsRequest value) throws IOException {
+            switch (name) {
+                case "BuildId": value.BuildId = readString(in); return true;
+                case "BuildRegions": value.BuildRegions = buildRegionParamsListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateLobbyRequestAdapter extends PlayFabModelAdapter<UpdateLobbyRequest> {
+        private final TypeAdapter<AccessPolicy> accessPolicyAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<MembershipLock> membershipLockAdapter;
+
+        UpdateLobbyRequestAdapter(Gson gson) {
+            accessPolicyAdapter = gson.getAdapter(AccessPolicy.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            membershipLockAdapter = gson.getAdapter(MembershipLock.class);
+        }
+
+        protected UpdateLobbyRequest newInstance() {
+            return new UpdateLobbyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateLobbyRequest value) throws IOException {
+            writeField(out, "AccessPolicy", value.AccessPolicy, accessPolicyAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "LobbyData", value.LobbyData, stringMapAdapter);
+            writeField(out, "LobbyDataToDelete", value.LobbyDataToDelete, stringListAdapter);
+            writeField(out, "LobbyId", value.LobbyId);
+            writeField(out, "MaxPlayers", value.MaxPlayers);
+            writeField(out, "MemberData", value.MemberData, stringMapAdapter);
+            writeField(out, "MemberDataToDelete", value.MemberDataToDelete, stringListAdapter);
+            writeField(out, "MemberEntity", value.MemberEntity, entityKeyAdapter);
+            writeField(out, "MembershipLock", value.MembershipLock, membershipLockAdapter);
+            writeField(out, "Owner", value.Owner, entityKeyAdapter);
+            writeField(out, "SearchData", value.SearchData, stringMapAdapter);
+            writeField(out, "SearchDataToDelete", value.SearchDataToDelete, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateLobbyRequest value) throws IOException {
+            switch (name) {
+                case "AccessPolicy": value.AccessPolicy = accessPolicyAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "LobbyData": value.LobbyData = stringMapAdapter.read(in); return true;
+                case "LobbyDataToDelete": value.LobbyDataToDelete = stringListAdapter.read(in); return true;
+                case "LobbyId": value.LobbyId = readString(in); return true;
+                case "MaxPlayers": value.MaxPlayers = readLong(in); return true;
+                case "MemberData": value.MemberData = stringMapAdapter.read(in); return true;
+                case "MemberDataToDelete": value.MemberDataToDelete = stringListAdapter.read(in); return true;
+                case "MemberEntity": value.MemberEntity = entityKeyAdapter.read(in); return true;
+                case "MembershipLock": value.MembershipLock = membershipLockAdapter.read(in); return true;
+                case "Owner": value.Owner = entityKeyAdapter.read(in); return true;
+                case "SearchData": value.SearchData = stringMapAdapter.read(in); return true;
+                case "SearchDataToDelete": value.SearchDataToDelete = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UploadCertificateRequestAdapter extends PlayFabModelAdapter<UploadCertificateRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Certificate> certificateAdapter;
+
+        UploadCertificateRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            certificateAdapter = gson.getAdapter(Certificate.class);
+        }
+
+        protected UploadCertificateRequest newInstance() {
+            return new UploadCertificateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UploadCertificateRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceUpdate", value.ForceUpdate);
+            writeField(out, "GameCertificate", value.GameCertificate, certificateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UploadCertificateRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceUpdate": value.ForceUpdate = readBoolean(in); return true;
+                case "GameCertificate": value.GameCertificate = certificateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VirtualMachineSummaryAdapter extends PlayFabModelAdapter<VirtualMachineSummary> {
+        VirtualMachineSummaryAdapter(Gson gson) {
+        }
+
+        protected VirtualMachineSummary newInstance() {
+            return new VirtualMachineSummary();
+        }
+
+        protected void writeFields(JsonWriter out, VirtualMachineSummary value) throws IOException {
+            writeField(out, "HealthStatus", value.HealthStatus);
+            writeField(out, "State", value.State);
+            writeField(out, "VmId", value.VmId);
+        }
+
+        protected boolean readField(JsonReader in, String name, VirtualMachineSummary value) throws IOException {
+            switch (name) {
+                case "HealthStatus": value.HealthStatus = readString(in); return true;
+                case "State": value.State = readString(in); return true;
+                case "VmId": value.VmId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VmStartupScriptConfigurationAdapter extends PlayFabModelAdapter<VmStartupScriptConfiguration> {
+        private final TypeAdapter<ArrayList<VmStartupScriptPortRequest>> vmStartupScriptPortRequestListAdapter;
+        private final TypeAdapter<AssetReference> assetReferenceAdapter;
+
+        VmStartupScriptConfigurationAdapter(Gson gson) {
+            vmStartupScriptPortRequestListAdapter = listAdapter(gson, VmStartupScriptPortRequest.class);
+            assetReferenceAdapter = gson.getAdapter(AssetReference.class);
+        }
+
+        protected VmStartupScriptConfiguration newInstance() {
+            return new VmStartupScriptConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, VmStartupScriptConfiguration value) throws IOException {
+            writeField(out, "PortRequests", value.PortRequests, vmStartupScriptPortRequestListAdapter);
+            writeField(out, "VmStartupScriptAssetReference", value.VmStartupScriptAssetReference, assetReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, VmStartupScriptConfiguration value) throws IOException {
+            switch (name) {
+                case "PortRequests": value.PortRequests = vmStartupScriptPortRequestListAdapter.read(in); return true;
+                case "VmStartupScriptAssetReference": value.VmStartupScriptAssetReference = assetReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VmStartupScriptParamsAdapter extends PlayFabModelAdapter<VmStartupScriptParams> {
+        private final TypeAdapter<ArrayList<VmStartupScriptPortRequestParams>> vmStartupScriptPortRequestParamsListAdapter;
+        private final TypeAdapter<AssetReferenceParams> assetReferenceParamsAdapter;
+
+        VmStartupScriptParamsAdapter(Gson gson) {
+            vmStartupScriptPortRequestParamsListAdapter = listAdapter(gson, VmStartupScriptPortRequestParams.class);
+            assetReferenceParamsAdapter = gson.getAdapter(AssetReferenceParams.class);
+        }
+
+        protected VmStartupScriptParams newInstance() {
+            return new VmStartupScriptParams();
+        }
+
+        protected void writeFields(JsonWriter out, VmStartupScriptParams value) throws IOException {
+            writeField(out, "PortRequests", value.PortRequests, vmStartupScriptPortRequestParamsListAdapter);
+            writeField(out, "VmStartupScriptAssetReference", value.VmStartupScriptAssetReference, assetReferenceParamsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, VmStartupScriptParams value) throws IOException {
+            switch (name) {
+                case "PortRequests": value.PortRequests = vmStartupScriptPortRequestParamsListAdapter.read(in); return true;
+                case "VmStartupScriptAssetReference": value.VmStartupScriptAssetReference = assetReferenceParamsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VmStartupScriptPortRequestAdapter extends PlayFabModelAdapter<VmStartupScriptPortRequest> {
+        private final TypeAdapter<ProtocolType> protocolTypeAdapter;
+
+        VmStartupScriptPortRequestAdapter(Gson gson) {
+            protocolTypeAdapter = gson.getAdapter(ProtocolType.class);
+        }
+
+        protected VmStartupScriptPortRequest newInstance() {
+            return new VmStartupScriptPortRequest();
+        }
+
+        protected void writeFields(JsonWriter out, VmStartupScriptPortRequest value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Protocol", value.Protocol, protocolTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, VmStartupScriptPortRequest value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Protocol": value.Protocol = protocolTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VmStartupScriptPortRequestParamsAdapter extends PlayFabModelAdapter<VmStartupScriptPortRequestParams> {
+        private final TypeAdapter<ProtocolType> protocolTypeAdapter;
+
+        VmStartupScriptPortRequestParamsAdapter(Gson gson) {
+            protocolTypeAdapter = gson.getAdapter(ProtocolType.class);
+        }
+
+        protected VmStartupScriptPortRequestParams newInstance() {
+            return new VmStartupScriptPortRequestParams();
+        }
+
+        protected void writeFields(JsonWriter out, VmStartupScriptPortRequestParams value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Protocol", value.Protocol, protocolTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, VmStartupScriptPortRequestParams value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Protocol": value.Protocol = protocolTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WindowsCrashDumpConfigurationAdapter extends PlayFabModelAdapter<WindowsCrashDumpConfiguration> {
+        WindowsCrashDumpConfigurationAdapter(Gson gson) {
+        }
+
+        protected WindowsCrashDumpConfiguration newInstance() {
+            return new WindowsCrashDumpConfiguration();
+        }
+
+        protected void writeFields(JsonWriter out, WindowsCrashDumpConfiguration value) throws IOException {
+            writeField(out, "CustomDumpFlags", value.CustomDumpFlags);
+            writeField(out, "DumpType", value.DumpType);
+            writeField(out, "IsEnabled", value.IsEnabled);
+        }
+
+        protected boolean readField(JsonReader in, String name, WindowsCrashDumpConfiguration value) throws IOException {
+            switch (name) {
+                case "CustomDumpFlags": value.CustomDumpFlags = readInteger(in); return true;
+                case "DumpType": value.DumpType = readInteger(in); return true;
+                case "IsEnabled": value.IsEnabled = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabRawJson;
+
+/** Splices PlayFabRawJson text into the output unchanged. */
+public class PlayFabRawJsonAdapter extends TypeAdapter<PlayFabRawJson> {
+    @Override
+    public void write(JsonWriter out, PlayFabRawJson value) throws IOException {
+        if (value == null)
+            out.nullValue();
+        else
+            out.jsonValue(value.getJson());
+    }
+
+    @Override
+    public PlayFabRawJson read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return new PlayFabRawJson(JsonParser.parseReader(in).toString());
+    }
+}
@@ -0,0 +1,114 @@
+package com.playfab.benchmark;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import com.google.gson.*;
+import com.google.gson.reflect.*;
+import org.openjdk.jmh.annotations.*;
+
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabEventsModels;
+import com.playfab.internal.*;
+
+/**
+ * Compares the JSON codecs on an inventory-sized result and a bulk WriteEvents request.
+ * "reflective" is a plain Gson with setDateFormat, i.e. the SDK before the generated adapters.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayFabJsonCodecBenchmark {
+    @Param({ "reflective", "gson", "streaming" })
+    public String codecName;
+
+    private PlayFabJsonCodec codec;
+    private String inventoryJson;
+    private PlayFabEventsModels.WriteEventsRequest writeEventsRequest;
+
+    @Setup
+    public void setUp() {
+        if ("reflective".equals(codecName))
+            codec = new ReflectiveCodec();
+        else if ("streaming".equals(codecName))
+            codec = new PlayFabStreamingJsonCodec();
+        else
+            codec = new PlayFabGsonCodec();
+
+        Random rand = new Random(1);
+        PlayFabClientModels.GetUserInventoryResult inventory = new PlayFabClientModels.GetUserInventoryResult();
+        inventory.Inventory = new ArrayList<PlayFabClientModels.ItemInstance>();
+        for (int i = 0; i < 500; i++) {
+            PlayFabClientModels.ItemInstance item = new PlayFabClientModels.ItemInstance();
+            item.ItemId = "sword_" + (i % 40);
+            item.ItemInstanceId = Long.toHexString(rand.nextLong());
+            item.ItemClass = "weapon";
+            item.CatalogVersion = "main";
+            item.DisplayName = "Sword of <Testing> #" + i;
+            item.PurchaseDate = new Date(1700000000000L + i * 1000L);
+            item.Expiration = new Date(1800000000000L + i * 1000L);
+            item.RemainingUses = rand.nextInt(10);
+            item.UnitCurrency = "GO";
+            item.UnitPrice = 100L;
+            item.CustomData = new HashMap<String, String>();
+            item.CustomData.put("level", Integer.toString(rand.nextInt(60)));
+            inventory.Inventory.add(item);
+        }
+        inventory.VirtualCurrency = new HashMap<String, Integer>();
+        inventory.VirtualCurrency.put("GO", 1234);
+        PlayFabJsonSuccess<PlayFabClientModels.GetUserInventoryResult> envelope = new PlayFabJsonSuccess<PlayFabClientModels.GetUserInventoryResult>();
+        envelope.code = 200;
+        envelope.status = "OK";
+        envelope.data = inventory;
+        inventoryJson = PlayFabJson.gson.toJson(envelope);
+
+        writeEventsRequest = new PlayFabEventsModels.WriteEventsRequest();
+        writeEventsRequest.Events = new ArrayList<PlayFabEventsModels.EventContents>();
+        for (int i = 0; i < 200; i++) {
+            PlayFabEventsModels.EventContents event = new PlayFabEventsModels.EventContents();
+            event.EventNamespace = "custom.telemetry";
+            event.Name = "frame_stats";
+            event.OriginalTimestamp = new Date(1700000000000L + i);
+            event.Entity = new PlayFabEventsModels.EntityKey();
+            event.Entity.Id = "ABCDEF0123456789";
+            event.Entity.Type = "title_player_account";
+            Map<String, Object> payload = new HashMap<String, Object>();
+            payload.put("fps", 59.5 + i % 3);
+            payload.put("map", "harbor");
+            event.Payload = payload;
+            writeEventsRequest.Events.add(event);
+        }
+    }
+
+    @Benchmark
+    public Object decodeInventory() throws Exception {
+        return codec.fromSuccessJson(inventoryJson, PlayFabClientModels.GetUserInventoryResult.class);
+    }
+
+    @Benchmark
+    public String encodeWriteEvents() {
+        return codec.toJson(writeEventsRequest);
+    }
+
+    /** Gson as configured before the generated adapters and the date codec were registered. */
+    static class ReflectiveCodec implements PlayFabJsonCodec {
+        private final Gson gson = new GsonBuilder().setDateFormat(PlayFabJson.DATE_FORMAT).create();
+
+        public String toJson(Object value) {
+            return gson.toJson(value);
+        }
+
+        public <T> T fromJson(String json, Class<T> type) {
+            return gson.fromJson(json, type);
+        }
+
+        public <T> PlayFabJsonSuccess<T> fromSuccessJson(String json, Class<T> resultType) {
+            return gson.fromJson(json, TypeToken.getParameterized(PlayFabJsonSuccess.class, resultType).getType());
+        }
+    }
+}
@@ -6,13 +6,9 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** APIs for managing title configurations, uploaded Game Server code executables, and user data */
 public class PlayFabAdminAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Abort an ongoing task instance.
      * @param request AbortTaskInstanceRequest
@@ -67,7 +63,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -129,7 +125,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddLocalizedNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddLocalizedNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<AddLocalizedNewsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddLocalizedNewsResult.class);
         AddLocalizedNewsResult result = resultData.data;
 
         PlayFabResult<AddLocalizedNewsResult> pfResult = new PlayFabResult<AddLocalizedNewsResult>();
@@ -191,7 +187,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<AddNewsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddNewsResult.class);
         AddNewsResult result = resultData.data;
 
         PlayFabResult<AddNewsResult> pfResult = new PlayFabResult<AddNewsResult>();
@@ -253,7 +249,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddPlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddPlayerTagResult.class);
         AddPlayerTagResult result = resultData.data;
 
         PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
@@ -320,7 +316,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyUserVirtualCurrencyResult.class);
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -390,7 +386,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BlankResult.class);
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -452,7 +448,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BanUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<BanUsersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BanUsersResult.class);
         BanUsersResult result = resultData.data;
 
         PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
@@ -519,7 +515,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>>(){}.getType());
+        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CheckLimitedEditionItemAvailabilityResult.class);
         CheckLimitedEditionItemAvailabilityResult result = resultData.data;
 
         PlayFabResult<CheckLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
@@ -581,7 +577,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateTaskResult.class);
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -643,7 +639,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateTaskResult.class);
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -705,7 +701,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateTaskResult.class);
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -767,7 +763,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -834,7 +830,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreatePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreatePlayerSharedSecretResult.class);
         CreatePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<CreatePlayerSharedSecretResult> pfResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
@@ -901,7 +897,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>>(){}.getType());
+        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreatePlayerStatisticDefinitionResult.class);
         CreatePlayerStatisticDefinitionResult result = resultData.data;
 
         PlayFabResult<CreatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
@@ -968,7 +964,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateSegmentResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSegmentResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateSegmentResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateSegmentResponse.class);
         CreateSegmentResponse result = resultData.data;
 
         PlayFabResult<CreateSegmentResponse> pfResult = new PlayFabResult<CreateSegmentResponse>();
@@ -1030,7 +1026,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BlankResult.class);
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -1092,7 +1088,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteMasterPlayerAccountResult.class);
         DeleteMasterPlayerAccountResult result = resultData.data;
 
         PlayFabResult<DeleteMasterPlayerAccountResult> pfResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
@@ -1154,7 +1150,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteMasterPlayerEventDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteMasterPlayerEventDataResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteMasterPlayerEventDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteMasterPlayerEventDataResult.class);
         DeleteMasterPlayerEventDataResult result = resultData.data;
 
         PlayFabResult<DeleteMasterPlayerEventDataResult> pfResult = new PlayFabResult<DeleteMasterPlayerEventDataResult>();
@@ -1216,7 +1212,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteMembershipSubscriptionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteMembershipSubscriptionResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteMembershipSubscriptionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteMembershipSubscriptionResult.class);
         DeleteMembershipSubscriptionResult result = resultData.data;
 
         PlayFabResult<DeleteMembershipSubscriptionResult> pfResult = new PlayFabResult<DeleteMembershipSubscriptionResult>();
@@ -1278,7 +1274,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1340,7 +1336,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeletePlayerResult.class);
         DeletePlayerResult result = resultData.data;
 
         PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
@@ -1407,7 +1403,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeletePlayerSharedSecretResult.class);
         DeletePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<DeletePlayerSharedSecretResult> pfResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
@@ -1469,7 +1465,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteSegmentsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteSegmentsResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteSegmentsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteSegmentsResponse.class);
         DeleteSegmentsResponse result = resultData.data;
 
         PlayFabResult<DeleteSegmentsResponse> pfResult = new PlayFabResult<DeleteSegmentsResponse>();
@@ -1536,7 +1532,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteStoreResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteStoreResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteStoreResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteStoreResult.class);
         DeleteStoreResult result = resultData.data;
 
         PlayFabResult<DeleteStoreResult> pfResult = new PlayFabResult<DeleteStoreResult>();
@@ -1598,7 +1594,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1660,7 +1656,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteTitleResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteTitleResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteTitleResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteTitleResult.class);
         DeleteTitleResult result = resultData.data;
 
         PlayFabResult<DeleteTitleResult> pfResult = new PlayFabResult<DeleteTitleResult>();
@@ -1722,7 +1718,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteTitleDataOverrideResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteTitleDataOverrideResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteTitleDataOverrideResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteTitleDataOverrideResult.class);
         DeleteTitleDataOverrideResult result = resultData.data;
 
         PlayFabResult<DeleteTitleDataOverrideResult> pfResult = new PlayFabResult<DeleteTitleDataOverrideResult>();
@@ -1784,7 +1780,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExportMasterPlayerDataResult>>(){}.getType());
+        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExportMasterPlayerDataResult.class);
         ExportMasterPlayerDataResult result = resultData.data;
 
         PlayFabResult<ExportMasterPlayerDataResult> pfResult = new PlayFabResult<ExportMasterPlayerDataResult>();
@@ -1854,7 +1850,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExportPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExportPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<ExportPlayersInSegmentResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExportPlayersInSegmentResult.class);
         ExportPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<ExportPlayersInSegmentResult> pfResult = new PlayFabResult<ExportPlayersInSegmentResult>();
@@ -1916,7 +1912,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>>(){}.getType());
+        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetActionsOnPlayersInSegmentTaskInstanceResult.class);
         GetActionsOnPlayersInSegmentTaskInstanceResult result = resultData.data;
 
         PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> pfResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
@@ -1983,7 +1979,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetAllSegmentsResult.class);
         GetAllSegmentsResult result = resultData.data;
 
         PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
@@ -2050,7 +2046,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCatalogItemsResult.class);
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -2112,7 +2108,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptRevisionResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCloudScriptRevisionResult.class);
         GetCloudScriptRevisionResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptRevisionResult> pfResult = new PlayFabResult<GetCloudScriptRevisionResult>();
@@ -2174,7 +2170,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCloudScriptTaskInstanceResult.class);
         GetCloudScriptTaskInstanceResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptTaskInstanceResult> pfResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
@@ -2241,7 +2237,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCloudScriptVersionsResult.class);
         GetCloudScriptVersionsResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptVersionsResult> pfResult = new PlayFabResult<GetCloudScriptVersionsResult>();
@@ -2303,7 +2299,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentListResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetContentListResult.class);
         GetContentListResult result = resultData.data;
 
         PlayFabResult<GetContentListResult> pfResult = new PlayFabResult<GetContentListResult>();
@@ -2373,7 +2369,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentUploadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetContentUploadUrlResult.class);
         GetContentUploadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentUploadUrlResult> pfResult = new PlayFabResult<GetContentUploadUrlResult>();
@@ -2435,7 +2431,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetDataReportResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDataReportResult>>(){}.getType());
+        PlayFabJsonSuccess<GetDataReportResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetDataReportResult.class);
         GetDataReportResult result = resultData.data;
 
         PlayFabResult<GetDataReportResult> pfResult = new PlayFabResult<GetDataReportResult>();
@@ -2497,7 +2493,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayedTitleListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayedTitleListResult.class);
         GetPlayedTitleListResult result = resultData.data;
 
         PlayFabResult<GetPlayedTitleListResult> pfResult = new PlayFabResult<GetPlayedTitleListResult>();
@@ -2559,7 +2555,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerIdFromAuthTokenResult.class);
         GetPlayerIdFromAuthTokenResult result = resultData.data;
 
         PlayFabResult<GetPlayerIdFromAuthTokenResult> pfResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
@@ -2621,7 +2617,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerProfileResult.class);
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2683,7 +2679,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerSegmentsResult.class);
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2745,7 +2741,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSharedSecretsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerSharedSecretsResult.class);
         GetPlayerSharedSecretsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSharedSecretsResult> pfResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
@@ -2821,7 +2817,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayersInSegmentResult.class);
         GetPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
@@ -2888,7 +2884,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerStatisticDefinitionsResult.class);
         GetPlayerStatisticDefinitionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticDefinitionsResult> pfResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
@@ -2950,7 +2946,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerStatisticVersionsResult.class);
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -3012,7 +3008,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerTagsResult.class);
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -3074,7 +3070,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPolicyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPolicyResponse.class);
         GetPolicyResponse result = resultData.data;
 
         PlayFabResult<GetPolicyResponse> pfResult = new PlayFabResult<GetPolicyResponse>();
@@ -3136,7 +3132,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPublisherDataResult.class);
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3203,7 +3199,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetRandomResultTablesResult.class);
         GetRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
@@ -3276,7 +3272,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayersInSegmentExportResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentExportResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentExportResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayersInSegmentExportResponse.class);
         GetPlayersInSegmentExportResponse result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentExportResponse> pfResult = new PlayFabResult<GetPlayersInSegmentExportResponse>();
@@ -3338,7 +3334,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetSegmentsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSegmentsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetSegmentsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetSegmentsResponse.class);
         GetSegmentsResponse result = resultData.data;
 
         PlayFabResult<GetSegmentsResponse> pfResult = new PlayFabResult<GetSegmentsResponse>();
@@ -3405,7 +3401,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetStoreItemsResult.class);
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -3467,7 +3463,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTaskInstancesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTaskInstancesResult.class);
         GetTaskInstancesResult result = resultData.data;
 
         PlayFabResult<GetTaskInstancesResult> pfResult = new PlayFabResult<GetTaskInstancesResult>();
@@ -3529,7 +3525,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTasksResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTasksResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTasksResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTasksResult.class);
         GetTasksResult result = resultData.data;
 
         PlayFabResult<GetTasksResult> pfResult = new PlayFabResult<GetTasksResult>();
@@ -3591,7 +3587,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleDataResult.class);
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3653,7 +3649,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleDataResult.class);
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3715,7 +3711,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LookupUserAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LookupUserAccountInfoResult.class);
         LookupUserAccountInfoResult result = resultData.data;
 
         PlayFabResult<LookupUserAccountInfoResult> pfResult = new PlayFabResult<LookupUserAccountInfoResult>();
@@ -3777,7 +3773,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserBansResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserBansResult.class);
         GetUserBansResult result = resultData.data;
 
         PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
@@ -3839,7 +3835,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3901,7 +3897,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3968,7 +3964,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserInventoryResult.class);
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -4030,7 +4026,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4092,7 +4088,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4154,7 +4150,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4216,7 +4212,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4283,7 +4279,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GrantItemsToUsersResult.class);
         GrantItemsToUsersResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
@@ -4350,7 +4346,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>>(){}.getType());
+        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, IncrementLimitedEditionItemAvailabilityResult.class);
         IncrementLimitedEditionItemAvailabilityResult result = resultData.data;
 
         PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
@@ -4412,7 +4408,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>>(){}.getType());
+        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, IncrementPlayerStatisticVersionResult.class);
         IncrementPlayerStatisticVersionResult result = resultData.data;
 
         PlayFabResult<IncrementPlayerStatisticVersionResult> pfResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
@@ -4474,7 +4470,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListOpenIdConnectionResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListOpenIdConnectionResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListOpenIdConnectionResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListOpenIdConnectionResponse.class);
         ListOpenIdConnectionResponse result = resultData.data;
 
         PlayFabResult<ListOpenIdConnectionResponse> pfResult = new PlayFabResult<ListOpenIdConnectionResponse>();
@@ -4541,7 +4537,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>>(){}.getType());
+        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListVirtualCurrencyTypesResult.class);
         ListVirtualCurrencyTypesResult result = resultData.data;
 
         PlayFabResult<ListVirtualCurrencyTypesResult> pfResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
@@ -4608,7 +4604,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RefundPurchaseResponse>>(){}.getType());
+        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RefundPurchaseResponse.class);
         RefundPurchaseResponse result = resultData.data;
 
         PlayFabResult<RefundPurchaseResponse> pfResult = new PlayFabResult<RefundPurchaseResponse>();
@@ -4670,7 +4666,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemovePlayerTagResult.class);
         RemovePlayerTagResult result = resultData.data;
 
         PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
@@ -4737,7 +4733,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BlankResult.class);
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -4799,7 +4795,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ResetCharacterStatisticsResult.class);
         ResetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<ResetCharacterStatisticsResult> pfResult = new PlayFabResult<ResetCharacterStatisticsResult>();
@@ -4861,7 +4857,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResetPasswordResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetPasswordResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetPasswordResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ResetPasswordResult.class);
         ResetPasswordResult result = resultData.data;
 
         PlayFabResult<ResetPasswordResult> pfResult = new PlayFabResult<ResetPasswordResult>();
@@ -4923,7 +4919,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetUserStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ResetUserStatisticsResult.class);
         ResetUserStatisticsResult result = resultData.data;
 
         PlayFabResult<ResetUserStatisticsResult> pfResult = new PlayFabResult<ResetUserStatisticsResult>();
@@ -4990,7 +4986,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>>(){}.getType());
+        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ResolvePurchaseDisputeResponse.class);
         ResolvePurchaseDisputeResponse result = resultData.data;
 
         PlayFabResult<ResolvePurchaseDisputeResponse> pfResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
@@ -5052,7 +5048,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeAllBansForUserResult.class);
         RevokeAllBansForUserResult result = resultData.data;
 
         PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
@@ -5114,7 +5110,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeBansResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeBansResult.class);
         RevokeBansResult result = resultData.data;
 
         PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
@@ -5181,7 +5177,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeInventoryResult.class);
         RevokeInventoryResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
@@ -5248,7 +5244,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeInventoryItemsResult.class);
         RevokeInventoryItemsResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
@@ -5310,7 +5306,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RunTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RunTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<RunTaskResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RunTaskResult.class);
         RunTaskResult result = resultData.data;
 
         PlayFabResult<RunTaskResult> pfResult = new PlayFabResult<RunTaskResult>();
@@ -5380,7 +5376,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SendAccountRecoveryEmailResult.class);
         SendAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
@@ -5447,7 +5443,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCatalogItemsResult.class);
         UpdateCatalogItemsResult result = resultData.data;
 
         PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
@@ -5509,7 +5505,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetMembershipOverrideResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetMembershipOverrideResult>>(){}.getType());
+        PlayFabJsonSuccess<SetMembershipOverrideResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetMembershipOverrideResult.class);
         SetMembershipOverrideResult result = resultData.data;
 
         PlayFabResult<SetMembershipOverrideResult> pfResult = new PlayFabResult<SetMembershipOverrideResult>();
@@ -5571,7 +5567,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetPlayerSecretResult.class);
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -5633,7 +5629,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublishedRevisionResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetPublishedRevisionResult.class);
         SetPublishedRevisionResult result = resultData.data;
 
         PlayFabResult<SetPublishedRevisionResult> pfResult = new PlayFabResult<SetPublishedRevisionResult>();
@@ -5695,7 +5691,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetPublisherDataResult.class);
         SetPublisherDataResult result = resultData.data;
 
         PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
@@ -5762,7 +5758,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateStoreItemsResult.class);
         UpdateStoreItemsResult result = resultData.data;
 
         PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
@@ -5835,7 +5831,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetTitleDataResult.class);
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -5897,7 +5893,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataAndOverridesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataAndOverridesResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataAndOverridesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetTitleDataAndOverridesResult.class);
         SetTitleDataAndOverridesResult result = resultData.data;
 
         PlayFabResult<SetTitleDataAndOverridesResult> pfResult = new PlayFabResult<SetTitleDataAndOverridesResult>();
@@ -5964,7 +5960,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetTitleDataResult.class);
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -6034,7 +6030,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetupPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetupPushNotificationResult.class);
         SetupPushNotificationResult result = resultData.data;
 
         PlayFabResult<SetupPushNotificationResult> pfResult = new PlayFabResult<SetupPushNotificationResult>();
@@ -6101,7 +6097,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyUserVirtualCurrencyResult.class);
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -6163,7 +6159,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateBansResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateBansResult.class);
         UpdateBansResult result = resultData.data;
 
         PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
@@ -6230,7 +6226,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCatalogItemsResult.class);
         UpdateCatalogItemsResult result = resultData.data;
 
         PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
@@ -6297,7 +6293,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCloudScriptResult.class);
         UpdateCloudScriptResult result = resultData.data;
 
         PlayFabResult<UpdateCloudScriptResult> pfResult = new PlayFabResult<UpdateCloudScriptResult>();
@@ -6359,7 +6355,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6426,7 +6422,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdatePlayerSharedSecretResult.class);
         UpdatePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerSharedSecretResult> pfResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
@@ -6488,7 +6484,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdatePlayerStatisticDefinitionResult.class);
         UpdatePlayerStatisticDefinitionResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
@@ -6550,7 +6546,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdatePolicyResponse.class);
         UpdatePolicyResponse result = resultData.data;
 
         PlayFabResult<UpdatePolicyResponse> pfResult = new PlayFabResult<UpdatePolicyResponse>();
@@ -6617,7 +6613,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateRandomResultTablesResult.class);
         UpdateRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<UpdateRandomResultTablesResult> pfResult = new PlayFabResult<UpdateRandomResultTablesResult>();
@@ -6679,7 +6675,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateSegmentResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSegmentResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSegmentResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateSegmentResponse.class);
         UpdateSegmentResponse result = resultData.data;
 
         PlayFabResult<UpdateSegmentResponse> pfResult = new PlayFabResult<UpdateSegmentResponse>();
@@ -6746,7 +6742,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateStoreItemsResult.class);
         UpdateStoreItemsResult result = resultData.data;
 
         PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
@@ -6808,7 +6804,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6870,7 +6866,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6932,7 +6928,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -6994,7 +6990,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7056,7 +7052,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7118,7 +7114,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7180,7 +7176,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7242,7 +7238,7 @@ public class PlayFabAdminAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserTitleDisplayNameResult.class);
         UpdateUserTitleDisplayNameResult result = resultData.data;
 
         PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
@@ -6,8 +6,6 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * The Authentication APIs provide a convenient way to convert classic authentication responses into entity authentication
@@ -16,8 +14,6 @@ import com.google.gson.reflect.*;
      * used to call Matchmaking Lobby and Pubsub for server scenarios.
      */
 public class PlayFabAuthenticationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Create a game_server entity token and return a new or existing game_server entity.
      * @param request AuthenticateCustomIdRequest
@@ -72,7 +68,7 @@ public class PlayFabAuthenticationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AuthenticateCustomIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AuthenticateCustomIdResult>>(){}.getType());
+        PlayFabJsonSuccess<AuthenticateCustomIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AuthenticateCustomIdResult.class);
         AuthenticateCustomIdResult result = resultData.data;
         PlayFabSettings.EntityToken = (result.EntityToken != null && result.EntityToken.EntityToken != null) ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
 
@@ -135,7 +131,7 @@ public class PlayFabAuthenticationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -205,7 +201,7 @@ public class PlayFabAuthenticationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityTokenResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetEntityTokenResponse.class);
         GetEntityTokenResponse result = resultData.data;
         PlayFabSettings.EntityToken = result.EntityToken != null ? result.EntityToken : PlayFabSettings.EntityToken;
 
@@ -268,7 +264,7 @@ public class PlayFabAuthenticationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ValidateEntityTokenResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateEntityTokenResponse>>(){}.getType());
+        PlayFabJsonSuccess<ValidateEntityTokenResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ValidateEntityTokenResponse.class);
         ValidateEntityTokenResponse result = resultData.data;
 
         PlayFabResult<ValidateEntityTokenResponse> pfResult = new PlayFabResult<ValidateEntityTokenResponse>();
@@ -0,0 +1,151 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEconomyModels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * A size-bounded cache of Economy catalog items in front of PlayFabEconomyAPI.GetItems. Lookups that miss, from any
+     * number of threads, are collected for a short window and resolved together with one GetItems call of up to 50 Ids
+     * (or AlternateIds), and stale items are refreshed the same way in the background while still being served. When a
+     * refreshed item comes back with the ETag already cached, the cached instance is kept. Items that do not exist are
+     * not cached.
+     */
+public class PlayFabEconomyItemCache {
+    private static final int MAX_ITEMS_PER_CALL = 50;
+
+    private final int maxEntries;
+    private final PlayFabCache<String, CatalogItem> items;
+    private final PlayFabBatcher<String, CatalogItem> byId;
+    private final PlayFabBatcher<String, CatalogItem> byAlternateId;
+    private final ConcurrentMap<String, String> alternateIds = new ConcurrentHashMap<String, String>();
+
+    /**
+     * @param ttlMillis How long an item is served before it is fetched again
+     * @param staleMillis How long after that it is still served while a background call refreshes it
+     * @param maxEntries Upper bound on the number of cached items
+     * @param batchWindowMillis How long a miss waits for others to share its GetItems call
+     */
+    public PlayFabEconomyItemCache(long ttlMillis, long staleMillis, int maxEntries, long batchWindowMillis) {
+        this.maxEntries = maxEntries;
+        this.byId = new PlayFabBatcher<String, CatalogItem>(new PlayFabBatcher.Loader<String, CatalogItem>() {
+            public PlayFabResult<Map<String, CatalogItem>> load(List<String> ids) {
+                GetItemsRequest request = new GetItemsRequest();
+                request.Ids = new ArrayList<String>(ids);
+                return fetch(request, false);
+            }
+        }, MAX_ITEMS_PER_CALL, batchWindowMillis);
+        this.byAlternateId = new PlayFabBatcher<String, CatalogItem>(new PlayFabBatcher.Loader<String, CatalogItem>() {
+            public PlayFabResult<Map<String, CatalogItem>> load(List<String> keys) {
+                GetItemsRequest request = new GetItemsRequest();
+                request.AlternateIds = new ArrayList<CatalogAlternateId>(keys.size());
+                for (String key : keys) {
+                    int split = key.indexOf('\n');
+                    CatalogAlternateId alternateId = new CatalogAlternateId();
+                    alternateId.Type = key.substring(0, split);
+                    alternateId.Value = key.substring(split + 1);
+                    request.AlternateIds.add(alternateId);
+                }
+                return fetch(request, true);
+            }
+        }, MAX_ITEMS_PER_CALL, batchWindowMillis);
+        this.items = new PlayFabCache<String, CatalogItem>(new PlayFabCache.Loader<String, CatalogItem>() {
+            public PlayFabResult<CatalogItem> load(String id, CatalogItem previous) {
+                PlayFabResult<CatalogItem> result = byId.get(id);
+                if (previous != null && result.Result != null && previous.ETag != null && previous.ETag.equals(result.Result.ETag))
+                    result.Result = previous;
+                return result;
+            }
+        }, ttlMillis, staleMillis, maxEntries);
+    }
+
+    /** @return The item, from the cache when it can be served; a null Result if the catalog has no such item */
+    public PlayFabResult<CatalogItem> getItem(String id) {
+        return items.get(id);
+    }
+
+    /** Look up several items, sharing GetItems calls between all of the misses. Items that do not exist are left out. */
+    public PlayFabResult<Map<String, CatalogItem>> getItems(Collection<String> ids) {
+        PlayFabResult<Map<String, CatalogItem>> result = new PlayFabResult<Map<String, CatalogItem>>();
+        Map<String, Future<PlayFabResult<CatalogItem>>> misses = new LinkedHashMap<String, Future<PlayFabResult<CatalogItem>>>();
+        Map<String, CatalogItem> found = new LinkedHashMap<String, CatalogItem>();
+        for (String id : ids) {
+            CatalogItem item = items.peek(id);
+            if (item != null)
+                found.put(id, item);
+            else
+                misses.put(id, byId.submit(id));
+        }
+        for (Map.Entry<String, Future<PlayFabResult<CatalogItem>>> miss : misses.entrySet()) {
+            PlayFabResult<CatalogItem> single;
+            try {
+                single = miss.getValue().get();
+            } catch (Exception e) {
+                single = new PlayFabResult<CatalogItem>();
+                single.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            }
+            if (single.Error != null) {
+                result.Error = single.Error;
+                return result;
+            }
+            if (single.Result != null) {
+                items.put(miss.getKey(), single.Result);
+                found.put(miss.getKey(), single.Result);
+            }
+        }
+        result.Result = found;
+        return result;
+    }
+
+    /** @return The item with the given alternate ID, such as a marketplace offer ID; a null Result if there is none */
+    public PlayFabResult<CatalogItem> getItemByAlternateId(String type, String value) {
+        String key = type + "\n" + value;
+        String id = alternateIds.get(key);
+        if (id != null)
+            return items.get(id);
+        PlayFabResult<CatalogItem> result = byAlternateId.get(key);
+        if (result.Result != null)
+            items.put(result.Result.Id, result.Result);
+        return result;
+    }
+
+    /** Fetch the item again on next access, e.g. after it was republished. */
+    public void invalidate(String id) {
+        items.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        items.invalidateAll();
+        alternateIds.clear();
+    }
+
+    private PlayFabResult<Map<String, CatalogItem>> fetch(GetItemsRequest request, boolean keyByAlternateId) {
+        PlayFabResult<Map<String, CatalogItem>> result = new PlayFabResult<Map<String, CatalogItem>>();
+        PlayFabResult<GetItemsResponse> response = PlayFabEconomyAPI.GetItems(request);
+        if (response.Error != null) {
+            result.Error = response.Error;
+            return result;
+        }
+
+        result.Result = new HashMap<String, CatalogItem>();
+        if (response.Result == null || response.Result.Items == null)
+            return result;
+        if (alternateIds.size() > maxEntries)
+            alternateIds.clear(); // Rebuilt as items are fetched again
+        for (CatalogItem item : response.Result.Items) {
+            if (!keyByAlternateId)
+                result.Result.put(item.Id, item);
+            if (item.AlternateIds == null)
+                continue;
+            for (CatalogAlternateId alternateId : item.AlternateIds) {
+                String key = alternateId.Type + "\n" + alternateId.Value;
+                alternateIds.put(key, item.Id);
+                if (keyByAlternateId)
+                    result.Result.put(key, item);
+            }
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.playfab;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.List;
 
@@ -774,10 +775,36 @@ public class PlayFabErrors {
             return equals(o.id);
         }
 
+        // Open-addressed code -> constant table, so getFromCode neither scans nor clones values()
+        private static final int[] lookupCodes;
+        private static final PlayFabErrorCode[] lookupValues;
+        static {
+            PlayFabErrorCode[] all = values();
+            int size = Integer.highestOneBit(all.length * 2) * 2;
+            lookupCodes = new int[size];
+            lookupValues = new PlayFabErrorCode[size];
+            Arrays.fill(lookupCodes, -1);
+            for (PlayFabErrorCode error : all) {
+                int slot = slot(error.id);
+                while (lookupCodes[slot] != -1 && lookupCodes[slot] != error.id)
+                    slot = (slot + 1) & (size - 1);
+                if (lookupCodes[slot] == -1) { // Keep the first constant declared for a code, as the linear scan did
+                    lookupCodes[slot] = error.id;
+                    lookupValues[slot] = error;
+                }
+            }
+        }
+
+        private static int slot(int code) {
+            int h = code * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & (lookupCodes.length - 1);
+        }
+
         public static PlayFabErrorCode getFromCode(int code) {
-            for(PlayFabErrorCode error : PlayFabErrorCode.values()) {
-                if (error.equals(code)) {
-                    return error;
+            if (code >= 0) {
+                for (int slot = slot(code); lookupCodes[slot] != -1; slot = (slot + 1) & (lookupCodes.length - 1)) {
+                    if (lookupCodes[slot] == code)
+                        return lookupValues[slot];
                 }
             }
             return PlayFabErrorCode.Unknown;
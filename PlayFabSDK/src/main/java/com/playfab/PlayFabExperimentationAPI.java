@@ -6,13 +6,9 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** APIs for managing experiments. */
 public class PlayFabExperimentationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Creates a new experiment exclusion group for a title.
      * @param request CreateExclusionGroupRequest
@@ -67,7 +63,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateExclusionGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateExclusionGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateExclusionGroupResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateExclusionGroupResult.class);
         CreateExclusionGroupResult result = resultData.data;
 
         PlayFabResult<CreateExclusionGroupResult> pfResult = new PlayFabResult<CreateExclusionGroupResult>();
@@ -129,7 +125,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateExperimentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateExperimentResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateExperimentResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateExperimentResult.class);
         CreateExperimentResult result = resultData.data;
 
         PlayFabResult<CreateExperimentResult> pfResult = new PlayFabResult<CreateExperimentResult>();
@@ -191,7 +187,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -253,7 +249,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -315,7 +311,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetExclusionGroupsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetExclusionGroupsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetExclusionGroupsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetExclusionGroupsResult.class);
         GetExclusionGroupsResult result = resultData.data;
 
         PlayFabResult<GetExclusionGroupsResult> pfResult = new PlayFabResult<GetExclusionGroupsResult>();
@@ -377,7 +373,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetExclusionGroupTrafficResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetExclusionGroupTrafficResult>>(){}.getType());
+        PlayFabJsonSuccess<GetExclusionGroupTrafficResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetExclusionGroupTrafficResult.class);
         GetExclusionGroupTrafficResult result = resultData.data;
 
         PlayFabResult<GetExclusionGroupTrafficResult> pfResult = new PlayFabResult<GetExclusionGroupTrafficResult>();
@@ -439,7 +435,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetExperimentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetExperimentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetExperimentsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetExperimentsResult.class);
         GetExperimentsResult result = resultData.data;
 
         PlayFabResult<GetExperimentsResult> pfResult = new PlayFabResult<GetExperimentsResult>();
@@ -501,7 +497,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLatestScorecardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLatestScorecardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLatestScorecardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLatestScorecardResult.class);
         GetLatestScorecardResult result = resultData.data;
 
         PlayFabResult<GetLatestScorecardResult> pfResult = new PlayFabResult<GetLatestScorecardResult>();
@@ -563,7 +559,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTreatmentAssignmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTreatmentAssignmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTreatmentAssignmentResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTreatmentAssignmentResult.class);
         GetTreatmentAssignmentResult result = resultData.data;
 
         PlayFabResult<GetTreatmentAssignmentResult> pfResult = new PlayFabResult<GetTreatmentAssignmentResult>();
@@ -625,7 +621,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -687,7 +683,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -749,7 +745,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -811,7 +807,7 @@ public class PlayFabExperimentationAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
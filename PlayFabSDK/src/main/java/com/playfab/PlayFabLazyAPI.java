@@ -0,0 +1,77 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+
+    /**
+     * Variants of the APIs with the largest results that return a PlayFabLazyResult instead of a fully decoded object.
+     * The request, authentication and error handling are the same as the regular methods; only the decoding differs.
+     */
+public class PlayFabLazyAPI {
+    /** PlayFabClientAPI.GetPlayerCombinedInfo, decoding InfoResultPayload members on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabClientModels.GetPlayerCombinedInfoResult>> ClientGetPlayerCombinedInfo(final PlayFabClientModels.GetPlayerCombinedInfoRequest request) {
+        return post("/Client/GetPlayerCombinedInfo", request, "X-Authorization", PlayFabSettings.ClientSessionTicket, "Must be logged in to call this method", PlayFabClientModels.GetPlayerCombinedInfoResult.class);
+    }
+
+    /** PlayFabClientAPI.GetUserInventory, decoding Inventory and VirtualCurrency on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabClientModels.GetUserInventoryResult>> ClientGetUserInventory(final PlayFabClientModels.GetUserInventoryRequest request) {
+        return post("/Client/GetUserInventory", request, "X-Authorization", PlayFabSettings.ClientSessionTicket, "Must be logged in to call this method", PlayFabClientModels.GetUserInventoryResult.class);
+    }
+
+    /** PlayFabClientAPI.GetCatalogItems, decoding the Catalog on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabClientModels.GetCatalogItemsResult>> ClientGetCatalogItems(final PlayFabClientModels.GetCatalogItemsRequest request) {
+        return post("/Client/GetCatalogItems", request, "X-Authorization", PlayFabSettings.ClientSessionTicket, "Must be logged in to call this method", PlayFabClientModels.GetCatalogItemsResult.class);
+    }
+
+    /** PlayFabServerAPI.GetPlayerCombinedInfo, decoding InfoResultPayload members on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabServerModels.GetPlayerCombinedInfoResult>> ServerGetPlayerCombinedInfo(final PlayFabServerModels.GetPlayerCombinedInfoRequest request) {
+        return post("/Server/GetPlayerCombinedInfo", request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, "Must have PlayFabSettings.DeveloperSecretKey set to call this method", PlayFabServerModels.GetPlayerCombinedInfoResult.class);
+    }
+
+    /** PlayFabServerAPI.GetUserInventory, decoding Inventory and VirtualCurrency on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabServerModels.GetUserInventoryResult>> ServerGetUserInventory(final PlayFabServerModels.GetUserInventoryRequest request) {
+        return post("/Server/GetUserInventory", request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, "Must have PlayFabSettings.DeveloperSecretKey set to call this method", PlayFabServerModels.GetUserInventoryResult.class);
+    }
+
+    /** PlayFabServerAPI.GetCatalogItems, decoding the Catalog on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabServerModels.GetCatalogItemsResult>> ServerGetCatalogItems(final PlayFabServerModels.GetCatalogItemsRequest request) {
+        return post("/Server/GetCatalogItems", request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, "Must have PlayFabSettings.DeveloperSecretKey set to call this method", PlayFabServerModels.GetCatalogItemsResult.class);
+    }
+
+    /** PlayFabAdminAPI.GetCatalogItems, decoding the Catalog on access. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabAdminModels.GetCatalogItemsResult>> AdminGetCatalogItems(final PlayFabAdminModels.GetCatalogItemsRequest request) {
+        return post("/Admin/GetCatalogItems", request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey, "Must have PlayFabSettings.DeveloperSecretKey set to call this method", PlayFabAdminModels.GetCatalogItemsResult.class);
+    }
+
+    /** PlayFabEconomyAPI.SearchItems, decoding Items on access while ContinuationToken stays cheap to read. */
+    public static PlayFabResult<PlayFabLazyResult<PlayFabEconomyModels.SearchItemsResponse>> EconomySearchItems(final PlayFabEconomyModels.SearchItemsRequest request) {
+        return post("/Catalog/SearchItems", request, "X-EntityToken", PlayFabSettings.EntityToken, "Must call GetEntityToken before you can use the Entity API", PlayFabEconomyModels.SearchItemsResponse.class);
+    }
+
+    private static <T> PlayFabResult<PlayFabLazyResult<T>> post(String apiCall, Object request, String authType, String authKey, String missingAuthMessage, Class<T> resultType) {
+        PlayFabResult<PlayFabLazyResult<T>> pfResult = new PlayFabResult<PlayFabLazyResult<T>>();
+        if (authKey == null) {
+            pfResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, missingAuthMessage, null, null);
+            return pfResult;
+        }
+
+        try {
+            FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL(apiCall), request, authType, authKey);
+            task.run();
+            Object httpResult = task.get();
+            if (httpResult instanceof PlayFabError) {
+                PlayFabError error = (PlayFabError)httpResult;
+                if (PlayFabSettings.GlobalErrorHandler != null)
+                    PlayFabSettings.GlobalErrorHandler.callback(error);
+                pfResult.Error = error;
+                return pfResult;
+            }
+            pfResult.Result = PlayFabLazyResult.ofSuccessJson((String) httpResult, resultType);
+        } catch(Exception e) {
+            pfResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+        }
+        return pfResult;
+    }
+}
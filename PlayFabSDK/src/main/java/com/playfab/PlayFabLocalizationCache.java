@@ -0,0 +1,127 @@
+package com.playfab;
+
+import com.playfab.internal.PlayFabCache;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabProfilesModels.*;
+import java.util.*;
+import com.google.gson.reflect.TypeToken;
+
+    /**
+     * Session-start localization without the session-start calls. The title's language list from GetLanguageList
+     * hardly ever changes, so it is cached per title for a long TTL and can be persisted with persistTo. Each entity's
+     * profile language is tracked from the profiles passed to track and from the SetProfileLanguage calls made through
+     * setLanguage, and setLanguage skips the call when the language is already the one on record.
+     */
+public class PlayFabLocalizationCache {
+    /** An entity's profile language as last seen, with the profile version it was seen at. */
+    private static final class KnownLanguage {
+        final String language;
+        final Integer versionNumber;
+
+        KnownLanguage(String language, Integer versionNumber) {
+            this.language = language;
+            this.versionNumber = versionNumber;
+        }
+    }
+
+    private static final long RECORDED_MILLIS = Long.MAX_VALUE / 2; // Languages are kept until forgotten or evicted
+
+    private final PlayFabCache<String, List<String>> languageLists;
+    private final PlayFabCache<String, KnownLanguage> languages;
+
+    /**
+     * @param ttlMillis How long the language list is served before it is fetched again
+     * @param staleMillis How long after that it is still served while a background call refreshes it
+     * @param maxEntities Upper bound on the number of entities whose language is tracked; the least recently recorded
+     *     are forgotten first
+     */
+    public PlayFabLocalizationCache(long ttlMillis, long staleMillis, int maxEntities) {
+        this.languageLists = new PlayFabCache<String, List<String>>(new PlayFabCache.Loader<String, List<String>>() {
+            public PlayFabResult<List<String>> load(String titleId, List<String> previous) {
+                PlayFabResult<PlayFabLocalizationModels.GetLanguageListResponse> response = PlayFabLocalizationAPI.GetLanguageList(new PlayFabLocalizationModels.GetLanguageListRequest());
+                PlayFabResult<List<String>> result = new PlayFabResult<List<String>>();
+                result.Error = response.Error;
+                if (response.Result != null)
+                    result.Result = response.Result.LanguageList != null ? Collections.unmodifiableList(response.Result.LanguageList) : Collections.<String>emptyList();
+                return result;
+            }
+        }, ttlMillis, staleMillis, 16);
+        this.languages = new PlayFabCache<String, KnownLanguage>(new PlayFabCache.Loader<String, KnownLanguage>() {
+            public PlayFabResult<KnownLanguage> load(String key, KnownLanguage previous) {
+                return new PlayFabResult<KnownLanguage>(); // Only ever recorded and peeked at, never loaded
+            }
+        }, RECORDED_MILLIS, 0, maxEntities);
+    }
+
+    /** Keep the language list in store as well, so a restarted process does not fetch it again. */
+    public PlayFabLocalizationCache persistTo(PlayFabCacheStore store) {
+        languageLists.persistTo(store, "/Locale/GetLanguageList", new TypeToken<List<String>>(){}.getType());
+        return this;
+    }
+
+    /** @return The languages the title supports, from the cache when it can be served */
+    public PlayFabResult<List<String>> getLanguageList() {
+        String titleId = PlayFabSettings.TitleId;
+        return languageLists.get(titleId == null ? "" : titleId);
+    }
+
+    /** Record the language on a profile read elsewhere, e.g. through GetProfile or PlayFabProfileResolver. */
+    public void track(EntityProfileBody profile) {
+        if (profile != null && profile.Entity != null)
+            languages.put(cacheKey(profile.Entity), new KnownLanguage(profile.Language, profile.VersionNumber));
+    }
+
+    /**
+     * @param entity The entity; null for the entity the current entity token belongs to
+     * @return The entity's profile language as last seen, or null if it is not known
+     */
+    public String getLanguage(EntityKey entity) {
+        KnownLanguage known = languages.peek(cacheKey(entity));
+        return known == null ? null : known.language;
+    }
+
+    /**
+     * PlayFabProfilesAPI.SetProfileLanguage, unless the language on record is already the one requested, in which
+     * case no call is made and the response reports OperationResult None with the recorded version.
+     * @param entity The entity; null for the entity the current entity token belongs to
+     */
+    public PlayFabResult<SetProfileLanguageResponse> setLanguage(EntityKey entity, String language) {
+        String key = cacheKey(entity);
+        KnownLanguage known = languages.peek(key);
+        if (known != null && language != null && language.equals(known.language)) {
+            PlayFabResult<SetProfileLanguageResponse> result = new PlayFabResult<SetProfileLanguageResponse>();
+            result.Result = new SetProfileLanguageResponse();
+            result.Result.OperationResult = OperationTypes.None;
+            result.Result.VersionNumber = known.versionNumber;
+            return result;
+        }
+
+        SetProfileLanguageRequest request = new SetProfileLanguageRequest();
+        request.Entity = entity;
+        request.Language = language;
+        PlayFabResult<SetProfileLanguageResponse> result = PlayFabProfilesAPI.SetProfileLanguage(request);
+        if (result.Error == null)
+            languages.put(key, new KnownLanguage(language, result.Result == null ? null : result.Result.VersionNumber));
+        else
+            languages.invalidate(key); // The profile may not be what we thought
+        return result;
+    }
+
+    /** Forget the entity's language, e.g. after it was changed by a call that did not go through this cache. */
+    public void forget(EntityKey entity) {
+        languages.invalidate(cacheKey(entity));
+    }
+
+    public void invalidateAll() {
+        languageLists.invalidateAll();
+        languages.invalidateAll();
+    }
+
+    private static String cacheKey(EntityKey entity) {
+        if (entity != null)
+            return entity.Type + "\n" + entity.Id;
+        // The caller's own entity, known only by its token; a new token gets a new entry
+        String token = PlayFabSettings.EntityToken;
+        return "\n" + (token == null ? "" : token);
+    }
+}
@@ -0,0 +1,277 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * Per-player segment membership and tags for gating offers and features. A player's GetPlayerSegments and
+     * GetPlayerTags calls are made together, in parallel, on the first lookup, and the result is kept for a short TTL;
+     * lookups for a player already being fetched wait for that fetch instead of starting another. Tags written through
+     * addTag and removeTag update the cached entry once PlayFab accepts them. Segments that depend on tags are only
+     * recomputed by PlayFab, so they catch up when the entry expires.
+     */
+public abstract class PlayFabPlayerSegmentCache {
+    /** A player's segments and tags at the time they were fetched. */
+    public static final class Membership {
+        private final Map<String, String> segments;
+        private final Set<String> tags;
+
+        Membership(Map<String, String> segments, Set<String> tags) {
+            this.segments = Collections.unmodifiableMap(segments);
+            this.tags = Collections.unmodifiableSet(tags);
+        }
+
+        /** @return The names of the player's segments, keyed by segment ID */
+        public Map<String, String> getSegments() {
+            return segments;
+        }
+
+        /** @return The player's tags, in canonical form such as title.ABCD.VIP */
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public boolean isInSegment(String segmentId) {
+            return segments.containsKey(segmentId);
+        }
+
+        /** @param tagName A tag name as written with AddPlayerTag, or a canonical tag */
+        public boolean hasTag(String tagName) {
+            return tags.contains(tagName) || tags.contains(canonicalTag(tagName));
+        }
+
+        Membership withTag(String tagName, boolean present) {
+            Set<String> changed = new LinkedHashSet<String>(tags);
+            changed.remove(tagName);
+            changed.remove(canonicalTag(tagName));
+            if (present)
+                changed.add(canonicalTag(tagName));
+            return new Membership(segments, changed);
+        }
+    }
+
+    private final PlayFabCache<String, Membership> cache;
+
+    private PlayFabPlayerSegmentCache(long ttlMillis, int maxPlayers) {
+        this.cache = new PlayFabCache<String, Membership>(new PlayFabCache.Loader<String, Membership>() {
+            public PlayFabResult<Membership> load(final String playFabId, Membership previous) {
+                FutureTask<PlayFabResult<List<String>>> tags = new FutureTask<PlayFabResult<List<String>>>(new Callable<PlayFabResult<List<String>>>() {
+                    public PlayFabResult<List<String>> call() {
+                        return fetchTags(playFabId);
+                    }
+                });
+                try {
+                    PlayFabScheduler.io().execute(tags);
+                } catch (RejectedExecutionException e) {
+                    tags.run(); // The io pool is saturated; fetch the tags on this thread instead
+                }
+                PlayFabResult<Map<String, String>> segments = fetchSegments(playFabId);
+                tags.run(); // Does nothing if an io thread has started the tags; otherwise they are fetched here, not waited for
+
+                PlayFabResult<Membership> result = new PlayFabResult<Membership>();
+                PlayFabResult<List<String>> tagResult;
+                try {
+                    tagResult = tags.get();
+                } catch (Exception e) {
+                    tagResult = new PlayFabResult<List<String>>();
+                    tagResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+                }
+                result.Error = segments.Error != null ? segments.Error : tagResult.Error;
+                if (result.Error == null)
+                    result.Result = new Membership(segments.Result, new LinkedHashSet<String>(tagResult.Result));
+                return result;
+            }
+        }, ttlMillis, 0, maxPlayers);
+    }
+
+    /** @return The player's segments, keyed by ID, with their names */
+    abstract PlayFabResult<Map<String, String>> fetchSegments(String playFabId);
+
+    abstract PlayFabResult<List<String>> fetchTags(String playFabId);
+
+    /** @return The player's segments and tags, from the cache when it can be served */
+    public PlayFabResult<Membership> get(String playFabId) {
+        return cache.get(playFabId);
+    }
+
+    public PlayFabResult<Boolean> isInSegment(String playFabId, String segmentId) {
+        PlayFabResult<Membership> membership = get(playFabId);
+        PlayFabResult<Boolean> result = new PlayFabResult<Boolean>();
+        result.Error = membership.Error;
+        if (membership.Result != null)
+            result.Result = membership.Result.isInSegment(segmentId);
+        return result;
+    }
+
+    public PlayFabResult<Boolean> hasTag(String playFabId, String tagName) {
+        PlayFabResult<Membership> membership = get(playFabId);
+        PlayFabResult<Boolean> result = new PlayFabResult<Boolean>();
+        result.Error = membership.Error;
+        if (membership.Result != null)
+            result.Result = membership.Result.hasTag(tagName);
+        return result;
+    }
+
+    /** Drop the player's entry, e.g. after their tags were changed by a call that did not go through this cache. */
+    public void invalidate(String playFabId) {
+        cache.invalidate(playFabId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** Apply a tag write PlayFab has accepted to the player's entry, if one is cached. */
+    void tagWritten(String playFabId, String tagName, boolean present) {
+        Membership cached = cache.peek(playFabId);
+        if (cached != null)
+            cache.put(playFabId, cached.withTag(tagName, present));
+    }
+
+    private static String canonicalTag(String tagName) {
+        return "title." + PlayFabSettings.TitleId + "." + tagName;
+    }
+
+    /** Over the Client API, for the signed-in player only, whose PlayFabId is passed to every method. */
+    public static class Client extends PlayFabPlayerSegmentCache {
+        /**
+         * @param ttlMillis How long a player's segments and tags are served before they are fetched again
+         * @param maxPlayers Upper bound on the number of players cached
+         */
+        public Client(long ttlMillis, int maxPlayers) {
+            super(ttlMillis, maxPlayers);
+        }
+
+        PlayFabResult<Map<String, String>> fetchSegments(String playFabId) {
+            PlayFabResult<PlayFabClientModels.GetPlayerSegmentsResult> response = PlayFabClientAPI.GetPlayerSegments(new PlayFabClientModels.GetPlayerSegmentsRequest());
+            PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+            result.Error = response.Error;
+            if (response.Error == null) {
+                result.Result = new LinkedHashMap<String, String>();
+                if (response.Result.Segments != null)
+                    for (PlayFabClientModels.GetSegmentResult segment : response.Result.Segments)
+                        result.Result.put(segment.Id, segment.Name);
+            }
+            return result;
+        }
+
+        PlayFabResult<List<String>> fetchTags(String playFabId) {
+            PlayFabClientModels.GetPlayerTagsRequest request = new PlayFabClientModels.GetPlayerTagsRequest();
+            request.PlayFabId = playFabId;
+            PlayFabResult<PlayFabClientModels.GetPlayerTagsResult> response = PlayFabClientAPI.GetPlayerTags(request);
+            PlayFabResult<List<String>> result = new PlayFabResult<List<String>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = response.Result.Tags != null ? response.Result.Tags : Collections.<String>emptyList();
+            return result;
+        }
+    }
+
+    /** Over the Server API. */
+    public static class Server extends PlayFabPlayerSegmentCache {
+        /**
+         * @param ttlMillis How long a player's segments and tags are served before they are fetched again
+         * @param maxPlayers Upper bound on the number of players cached
+         */
+        public Server(long ttlMillis, int maxPlayers) {
+            super(ttlMillis, maxPlayers);
+        }
+
+        PlayFabResult<Map<String, String>> fetchSegments(String playFabId) {
+            PlayFabServerModels.GetPlayersSegmentsRequest request = new PlayFabServerModels.GetPlayersSegmentsRequest();
+            request.PlayFabId = playFabId;
+            PlayFabResult<PlayFabServerModels.GetPlayerSegmentsResult> response = PlayFabServerAPI.GetPlayerSegments(request);
+            PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+            result.Error = response.Error;
+            if (response.Error == null) {
+                result.Result = new LinkedHashMap<String, String>();
+                if (response.Result.Segments != null)
+                    for (PlayFabServerModels.GetSegmentResult segment : response.Result.Segments)
+                        result.Result.put(segment.Id, segment.Name);
+            }
+            return result;
+        }
+
+        PlayFabResult<List<String>> fetchTags(String playFabId) {
+            PlayFabServerModels.GetPlayerTagsRequest request = new PlayFabServerModels.GetPlayerTagsRequest();
+            request.PlayFabId = playFabId;
+            PlayFabResult<PlayFabServerModels.GetPlayerTagsResult> response = PlayFabServerAPI.GetPlayerTags(request);
+            PlayFabResult<List<String>> result = new PlayFabResult<List<String>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = response.Result.Tags != null ? response.Result.Tags : Collections.<String>emptyList();
+            return result;
+        }
+
+        /** PlayFabServerAPI.AddPlayerTag, adding the tag to the player's cached entry when it succeeds. */
+        public PlayFabResult<PlayFabServerModels.AddPlayerTagResult> addTag(PlayFabServerModels.AddPlayerTagRequest request) {
+            PlayFabResult<PlayFabServerModels.AddPlayerTagResult> result = PlayFabServerAPI.AddPlayerTag(request);
+            if (result.Error == null)
+                tagWritten(request.PlayFabId, request.TagName, true);
+            return result;
+        }
+
+        /** PlayFabServerAPI.RemovePlayerTag, removing the tag from the player's cached entry when it succeeds. */
+        public PlayFabResult<PlayFabServerModels.RemovePlayerTagResult> removeTag(PlayFabServerModels.RemovePlayerTagRequest request) {
+            PlayFabResult<PlayFabServerModels.RemovePlayerTagResult> result = PlayFabServerAPI.RemovePlayerTag(request);
+            if (result.Error == null)
+                tagWritten(request.PlayFabId, request.TagName, false);
+            return result;
+        }
+    }
+
+    /** Over the Admin API. */
+    public static class Admin extends PlayFabPlayerSegmentCache {
+        /**
+         * @param ttlMillis How long a player's segments and tags are served before they are fetched again
+         * @param maxPlayers Upper bound on the number of players cached
+         */
+        public Admin(long ttlMillis, int maxPlayers) {
+            super(ttlMillis, maxPlayers);
+        }
+
+        PlayFabResult<Map<String, String>> fetchSegments(String playFabId) {
+            PlayFabAdminModels.GetPlayersSegmentsRequest request = new PlayFabAdminModels.GetPlayersSegmentsRequest();
+            request.PlayFabId = playFabId;
+            PlayFabResult<PlayFabAdminModels.GetPlayerSegmentsResult> response = PlayFabAdminAPI.GetPlayerSegments(request);
+            PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+            result.Error = response.Error;
+            if (response.Error == null) {
+                result.Result = new LinkedHashMap<String, String>();
+                if (response.Result.Segments != null)
+                    for (PlayFabAdminModels.GetSegmentResult segment : response.Result.Segments)
+                        result.Result.put(segment.Id, segment.Name);
+            }
+            return result;
+        }
+
+        PlayFabResult<List<String>> fetchTags(String playFabId) {
+            PlayFabAdminModels.GetPlayerTagsRequest request = new PlayFabAdminModels.GetPlayerTagsRequest();
+            request.PlayFabId = playFabId;
+            PlayFabResult<PlayFabAdminModels.GetPlayerTagsResult> response = PlayFabAdminAPI.GetPlayerTags(request);
+            PlayFabResult<List<String>> result = new PlayFabResult<List<String>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = response.Result.Tags != null ? response.Result.Tags : Collections.<String>emptyList();
+            return result;
+        }
+
+        /** PlayFabAdminAPI.AddPlayerTag, adding the tag to the player's cached entry when it succeeds. */
+        public PlayFabResult<PlayFabAdminModels.AddPlayerTagResult> addTag(PlayFabAdminModels.AddPlayerTagRequest request) {
+            PlayFabResult<PlayFabAdminModels.AddPlayerTagResult> result = PlayFabAdminAPI.AddPlayerTag(request);
+            if (result.Error == null)
+                tagWritten(request.PlayFabId, request.TagName, true);
+            return result;
+        }
+
+        /** PlayFabAdminAPI.RemovePlayerTag, removing the tag from the player's cached entry when it succeeds. */
+        public PlayFabResult<PlayFabAdminModels.RemovePlayerTagResult> removeTag(PlayFabAdminModels.RemovePlayerTagRequest request) {
+            PlayFabResult<PlayFabAdminModels.RemovePlayerTagResult> result = PlayFabAdminAPI.RemovePlayerTag(request);
+            if (result.Error == null)
+                tagWritten(request.PlayFabId, request.TagName, false);
+            return result;
+        }
+    }
+}
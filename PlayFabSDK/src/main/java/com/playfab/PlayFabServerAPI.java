@@ -6,16 +6,12 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * Provides functionality to allow external (developer-controlled) servers to interact with user inventories and data in a
      * trusted manner, and to handle matchmaking and client connection orchestration
      */
 public class PlayFabServerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * _NOTE: This is a Legacy Economy API, and is in bugfix-only mode. All new Economy features are being developed only for
      * version 2._ Increments the character's balance of the specified virtual currency by the stated amount
@@ -75,7 +71,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyCharacterVirtualCurrencyResult.class);
         ModifyCharacterVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
@@ -142,7 +138,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -212,7 +208,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -274,7 +270,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddPlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddPlayerTagResult.class);
         AddPlayerTagResult result = resultData.data;
 
         PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
@@ -347,7 +343,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AddSharedGroupMembersResult.class);
         AddSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
@@ -414,7 +410,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyUserVirtualCurrencyResult.class);
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -476,7 +472,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AuthenticateSessionTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AuthenticateSessionTicketResult.class);
         AuthenticateSessionTicketResult result = resultData.data;
 
         PlayFabResult<AuthenticateSessionTicketResult> pfResult = new PlayFabResult<AuthenticateSessionTicketResult>();
@@ -538,7 +534,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AwardSteamAchievementResult>>(){}.getType());
+        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, AwardSteamAchievementResult.class);
         AwardSteamAchievementResult result = resultData.data;
 
         PlayFabResult<AwardSteamAchievementResult> pfResult = new PlayFabResult<AwardSteamAchievementResult>();
@@ -600,7 +596,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<BanUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<BanUsersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, BanUsersResult.class);
         BanUsersResult result = resultData.data;
 
         PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
@@ -670,7 +666,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ConsumeItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ConsumeItemResult.class);
         ConsumeItemResult result = resultData.data;
 
         PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
@@ -743,7 +739,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateSharedGroupResult.class);
         CreateSharedGroupResult result = resultData.data;
 
         PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
@@ -805,7 +801,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteCharacterFromUserResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteCharacterFromUserResult.class);
         DeleteCharacterFromUserResult result = resultData.data;
 
         PlayFabResult<DeleteCharacterFromUserResult> pfResult = new PlayFabResult<DeleteCharacterFromUserResult>();
@@ -867,7 +863,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeletePlayerResult.class);
         DeletePlayerResult result = resultData.data;
 
         PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
@@ -929,7 +925,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeletePushNotificationTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePushNotificationTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePushNotificationTemplateResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeletePushNotificationTemplateResult.class);
         DeletePushNotificationTemplateResult result = resultData.data;
 
         PlayFabResult<DeletePushNotificationTemplateResult> pfResult = new PlayFabResult<DeletePushNotificationTemplateResult>();
@@ -999,7 +995,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1072,7 +1068,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EvaluateRandomResultTableResult>>(){}.getType());
+        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EvaluateRandomResultTableResult.class);
         EvaluateRandomResultTableResult result = resultData.data;
 
         PlayFabResult<EvaluateRandomResultTableResult> pfResult = new PlayFabResult<EvaluateRandomResultTableResult>();
@@ -1139,7 +1135,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExecuteCloudScriptResult.class);
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -1206,7 +1202,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetAllSegmentsResult.class);
         GetAllSegmentsResult result = resultData.data;
 
         PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
@@ -1273,7 +1269,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListUsersCharactersResult.class);
         ListUsersCharactersResult result = resultData.data;
 
         PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
@@ -1340,7 +1336,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCatalogItemsResult.class);
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1402,7 +1398,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterDataResult.class);
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1464,7 +1460,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterDataResult.class);
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1531,7 +1527,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterInventoryResult.class);
         GetCharacterInventoryResult result = resultData.data;
 
         PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
@@ -1593,7 +1589,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterLeaderboardResult.class);
         GetCharacterLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
@@ -1655,7 +1651,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterDataResult.class);
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1717,7 +1713,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetCharacterStatisticsResult.class);
         GetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
@@ -1796,7 +1792,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetContentDownloadUrlResult.class);
         GetContentDownloadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
@@ -1863,7 +1859,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardResult.class);
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1930,7 +1926,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFriendsListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetFriendsListResult.class);
         GetFriendsListResult result = resultData.data;
 
         PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
@@ -1992,7 +1988,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardResult.class);
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -2054,7 +2050,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardAroundCharacterResult.class);
         GetLeaderboardAroundCharacterResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
@@ -2116,7 +2112,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardAroundUserResult.class);
         GetLeaderboardAroundUserResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundUserResult> pfResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
@@ -2178,7 +2174,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetLeaderboardForUsersCharactersResult.class);
         GetLeaderboardForUsersCharactersResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
@@ -2245,7 +2241,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerCombinedInfoResult.class);
         GetPlayerCombinedInfoResult result = resultData.data;
 
         PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
@@ -2307,7 +2303,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerProfileResult.class);
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2369,7 +2365,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerSegmentsResult.class);
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2445,7 +2441,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayersInSegmentResult.class);
         GetPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
@@ -2507,7 +2503,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerStatisticsResult.class);
         GetPlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
@@ -2569,7 +2565,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerStatisticVersionsResult.class);
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2631,7 +2627,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayerTagsResult.class);
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2693,7 +2689,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromFacebookIDsResult.class);
         GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
@@ -2755,7 +2751,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromFacebookInstantGamesIdsResult.class);
         GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
@@ -2825,7 +2821,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromGenericIDsResult.class);
         GetPlayFabIDsFromGenericIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGenericIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
@@ -2887,7 +2883,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoServiceAccountIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoServiceAccountIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoServiceAccountIdsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromNintendoServiceAccountIdsResult.class);
         GetPlayFabIDsFromNintendoServiceAccountIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoServiceAccountIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoServiceAccountIdsResult>();
@@ -2949,7 +2945,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult.class);
         GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
@@ -3011,7 +3007,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromPSNAccountIDsResult.class);
         GetPlayFabIDsFromPSNAccountIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>();
@@ -3078,7 +3074,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromSteamIDsResult.class);
         GetPlayFabIDsFromSteamIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
@@ -3148,7 +3144,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromTwitchIDsResult.class);
         GetPlayFabIDsFromTwitchIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
@@ -3210,7 +3206,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPlayFabIDsFromXboxLiveIDsResult.class);
         GetPlayFabIDsFromXboxLiveIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>();
@@ -3272,7 +3268,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetPublisherDataResult.class);
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3342,7 +3338,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetRandomResultTablesResult.class);
         GetRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
@@ -3404,7 +3400,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetServerCustomIDsFromPlayFabIDsResult.class);
         GetServerCustomIDsFromPlayFabIDsResult result = resultData.data;
 
         PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> pfResult = new PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>();
@@ -3474,7 +3470,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetSharedGroupDataResult.class);
         GetSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
@@ -3544,7 +3540,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetStoreItemsResult.class);
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -3606,7 +3602,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTimeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTimeResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTimeResult.class);
         GetTimeResult result = resultData.data;
 
         PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
@@ -3668,7 +3664,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleDataResult.class);
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3730,7 +3726,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleDataResult.class);
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3792,7 +3788,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitleNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitleNewsResult.class);
         GetTitleNewsResult result = resultData.data;
 
         PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
@@ -3854,7 +3850,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserAccountInfoResult.class);
         GetUserAccountInfoResult result = resultData.data;
 
         PlayFabResult<GetUserAccountInfoResult> pfResult = new PlayFabResult<GetUserAccountInfoResult>();
@@ -3916,7 +3912,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserBansResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserBansResult.class);
         GetUserBansResult result = resultData.data;
 
         PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
@@ -3978,7 +3974,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4040,7 +4036,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4107,7 +4103,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserInventoryResult.class);
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -4169,7 +4165,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4231,7 +4227,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4293,7 +4289,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4355,7 +4351,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetUserDataResult.class);
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4422,7 +4418,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GrantCharacterToUserResult.class);
         GrantCharacterToUserResult result = resultData.data;
 
         PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
@@ -4489,7 +4485,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GrantItemsToCharacterResult.class);
         GrantItemsToCharacterResult result = resultData.data;
 
         PlayFabResult<GrantItemsToCharacterResult> pfResult = new PlayFabResult<GrantItemsToCharacterResult>();
@@ -4556,7 +4552,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GrantItemsToUserResult.class);
         GrantItemsToUserResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUserResult> pfResult = new PlayFabResult<GrantItemsToUserResult>();
@@ -4623,7 +4619,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GrantItemsToUsersResult.class);
         GrantItemsToUsersResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
@@ -4685,7 +4681,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -4747,7 +4743,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -4809,7 +4805,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkNintendoSwitchDeviceIdResult.class);
         LinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<LinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
@@ -4871,7 +4867,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkPSNAccountResult.class);
         LinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<LinkPSNAccountResult> pfResult = new PlayFabResult<LinkPSNAccountResult>();
@@ -4933,7 +4929,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkPSNIdResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkPSNIdResponse>>(){}.getType());
+        PlayFabJsonSuccess<LinkPSNIdResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkPSNIdResponse.class);
         LinkPSNIdResponse result = resultData.data;
 
         PlayFabResult<LinkPSNIdResponse> pfResult = new PlayFabResult<LinkPSNIdResponse>();
@@ -4995,7 +4991,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkServerCustomIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkServerCustomIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkServerCustomIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkServerCustomIdResult.class);
         LinkServerCustomIdResult result = resultData.data;
 
         PlayFabResult<LinkServerCustomIdResult> pfResult = new PlayFabResult<LinkServerCustomIdResult>();
@@ -5057,7 +5053,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkSteamIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkSteamIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkSteamIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkSteamIdResult.class);
         LinkSteamIdResult result = resultData.data;
 
         PlayFabResult<LinkSteamIdResult> pfResult = new PlayFabResult<LinkSteamIdResult>();
@@ -5119,7 +5115,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, LinkXboxAccountResult.class);
         LinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<LinkXboxAccountResult> pfResult = new PlayFabResult<LinkXboxAccountResult>();
@@ -5186,7 +5182,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ServerLoginResult.class);
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -5253,7 +5249,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ServerLoginResult.class);
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -5320,7 +5316,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ServerLoginResult.class);
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -5387,7 +5383,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ServerLoginResult.class);
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -5454,7 +5450,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyItemUsesResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyItemUsesResult.class);
         ModifyItemUsesResult result = resultData.data;
 
         PlayFabResult<ModifyItemUsesResult> pfResult = new PlayFabResult<ModifyItemUsesResult>();
@@ -5521,7 +5517,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, MoveItemToCharacterFromCharacterResult.class);
         MoveItemToCharacterFromCharacterResult result = resultData.data;
 
         PlayFabResult<MoveItemToCharacterFromCharacterResult> pfResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
@@ -5588,7 +5584,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, MoveItemToCharacterFromUserResult.class);
         MoveItemToCharacterFromUserResult result = resultData.data;
 
         PlayFabResult<MoveItemToCharacterFromUserResult> pfResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
@@ -5655,7 +5651,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, MoveItemToUserFromCharacterResult.class);
         MoveItemToUserFromCharacterResult result = resultData.data;
 
         PlayFabResult<MoveItemToUserFromCharacterResult> pfResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
@@ -5725,7 +5721,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RedeemCouponResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RedeemCouponResult.class);
         RedeemCouponResult result = resultData.data;
 
         PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
@@ -5787,7 +5783,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -5849,7 +5845,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -5911,7 +5907,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemovePlayerTagResult.class);
         RemovePlayerTagResult result = resultData.data;
 
         PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
@@ -5984,7 +5980,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RemoveSharedGroupMembersResult.class);
         RemoveSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
@@ -6051,7 +6047,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportPlayerServerResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ReportPlayerServerResult.class);
         ReportPlayerServerResult result = resultData.data;
 
         PlayFabResult<ReportPlayerServerResult> pfResult = new PlayFabResult<ReportPlayerServerResult>();
@@ -6113,7 +6109,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeAllBansForUserResult.class);
         RevokeAllBansForUserResult result = resultData.data;
 
         PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
@@ -6175,7 +6171,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeBansResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeBansResult.class);
         RevokeBansResult result = resultData.data;
 
         PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
@@ -6242,7 +6238,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeInventoryResult.class);
         RevokeInventoryResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
@@ -6309,7 +6305,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, RevokeInventoryItemsResult.class);
         RevokeInventoryItemsResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
@@ -6371,7 +6367,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SavePushNotificationTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SavePushNotificationTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<SavePushNotificationTemplateResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SavePushNotificationTemplateResult.class);
         SavePushNotificationTemplateResult result = resultData.data;
 
         PlayFabResult<SavePushNotificationTemplateResult> pfResult = new PlayFabResult<SavePushNotificationTemplateResult>();
@@ -6438,7 +6434,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SendCustomAccountRecoveryEmailResult.class);
         SendCustomAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendCustomAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
@@ -6500,7 +6496,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendEmailFromTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SendEmailFromTemplateResult.class);
         SendEmailFromTemplateResult result = resultData.data;
 
         PlayFabResult<SendEmailFromTemplateResult> pfResult = new PlayFabResult<SendEmailFromTemplateResult>();
@@ -6567,7 +6563,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SendPushNotificationResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SendPushNotificationResult.class);
         SendPushNotificationResult result = resultData.data;
 
         PlayFabResult<SendPushNotificationResult> pfResult = new PlayFabResult<SendPushNotificationResult>();
@@ -6634,7 +6630,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SendPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SendPushNotificationResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SendPushNotificationResult.class);
         SendPushNotificationResult result = resultData.data;
 
         PlayFabResult<SendPushNotificationResult> pfResult = new PlayFabResult<SendPushNotificationResult>();
@@ -6696,7 +6692,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6763,7 +6759,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetPlayerSecretResult.class);
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -6825,7 +6821,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetPublisherDataResult.class);
         SetPublisherDataResult result = resultData.data;
 
         PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
@@ -6887,7 +6883,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetTitleDataResult.class);
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -6949,7 +6945,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetTitleDataResult.class);
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -7019,7 +7015,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyCharacterVirtualCurrencyResult.class);
         ModifyCharacterVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
@@ -7089,7 +7085,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ModifyUserVirtualCurrencyResult.class);
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -7151,7 +7147,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7213,7 +7209,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkNintendoSwitchDeviceIdResult.class);
         UnlinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
@@ -7275,7 +7271,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkPSNAccountResult.class);
         UnlinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkPSNAccountResult> pfResult = new PlayFabResult<UnlinkPSNAccountResult>();
@@ -7337,7 +7333,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkServerCustomIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkServerCustomIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkServerCustomIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkServerCustomIdResult.class);
         UnlinkServerCustomIdResult result = resultData.data;
 
         PlayFabResult<UnlinkServerCustomIdResult> pfResult = new PlayFabResult<UnlinkServerCustomIdResult>();
@@ -7399,7 +7395,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkSteamIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkSteamIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkSteamIdResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkSteamIdResult.class);
         UnlinkSteamIdResult result = resultData.data;
 
         PlayFabResult<UnlinkSteamIdResult> pfResult = new PlayFabResult<UnlinkSteamIdResult>();
@@ -7461,7 +7457,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlinkXboxAccountResult.class);
         UnlinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkXboxAccountResult> pfResult = new PlayFabResult<UnlinkXboxAccountResult>();
@@ -7534,7 +7530,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlockContainerItemResult.class);
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -7610,7 +7606,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UnlockContainerItemResult.class);
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -7672,7 +7668,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7734,7 +7730,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateBansResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateBansResult.class);
         UpdateBansResult result = resultData.data;
 
         PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
@@ -7796,7 +7792,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCharacterDataResult.class);
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -7858,7 +7854,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCharacterDataResult.class);
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -7920,7 +7916,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCharacterDataResult.class);
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -7982,7 +7978,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateCharacterStatisticsResult.class);
         UpdateCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
@@ -8044,7 +8040,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdatePlayerStatisticsResult.class);
         UpdatePlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
@@ -8120,7 +8116,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateSharedGroupDataResult.class);
         UpdateSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
@@ -8182,7 +8178,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8244,7 +8240,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8311,7 +8307,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResponse.class);
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -8373,7 +8369,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8435,7 +8431,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8497,7 +8493,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8559,7 +8555,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, UpdateUserDataResult.class);
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8621,7 +8617,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventResponse.class);
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -8683,7 +8679,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventResponse.class);
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -8745,7 +8741,7 @@ public class PlayFabServerAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventResponse.class);
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -0,0 +1,156 @@
+package com.playfab;
+
+import com.playfab.internal.PlayFabCache;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.*;
+import com.google.gson.reflect.TypeToken;
+
+    /**
+     * A shared cache in front of GetTitleData or GetTitleInternalData. Results are keyed by title, override label and
+     * key set; a cached result is served from memory for the TTL, then served stale while one background call refreshes
+     * it, so readers only wait on the network for the first load or after a long idle period. Create one instance per
+     * endpoint and share it; optionally persist it with persistTo so a restarted process starts warm.
+     */
+public class PlayFabTitleDataCache {
+    private static final List<String> ALL_KEYS = Collections.emptyList();
+
+    /** Fetches one key set from the endpoint. */
+    private static abstract class Source {
+        abstract PlayFabResult<Map<String, String>> fetch(ArrayList<String> keys, String overrideLabel);
+    }
+
+    private final String apiCall;
+    private final PlayFabCache<String, Map<String, String>> cache;
+
+    private PlayFabTitleDataCache(String apiCall, final Source source, long ttlMillis, long staleMillis) {
+        this.apiCall = apiCall;
+        this.cache = new PlayFabCache<String, Map<String, String>>(new PlayFabCache.Loader<String, Map<String, String>>() {
+            public PlayFabResult<Map<String, String>> load(String key, Map<String, String> previous) {
+                String[] parts = key.split("\n", -1);
+                ArrayList<String> keys = null;
+                if (parts.length > 2) {
+                    keys = new ArrayList<String>(parts.length - 2);
+                    for (int i = 2; i < parts.length; i++)
+                        keys.add(parts[i]);
+                }
+                return source.fetch(keys, parts[1].length() == 0 ? null : parts[1]);
+            }
+        }, ttlMillis, staleMillis, 1024);
+    }
+
+    /** A cache over PlayFabClientAPI.GetTitleData. */
+    public static PlayFabTitleDataCache ClientTitleData(long ttlMillis, long staleMillis) {
+        return new PlayFabTitleDataCache("/Client/GetTitleData", new Source() {
+            PlayFabResult<Map<String, String>> fetch(ArrayList<String> keys, String overrideLabel) {
+                PlayFabClientModels.GetTitleDataRequest request = new PlayFabClientModels.GetTitleDataRequest();
+                request.Keys = keys;
+                request.OverrideLabel = overrideLabel;
+                PlayFabResult<PlayFabClientModels.GetTitleDataResult> result = PlayFabClientAPI.GetTitleData(request);
+                return data(result.Error, result.Result == null ? null : result.Result.Data);
+            }
+        }, ttlMillis, staleMillis);
+    }
+
+    /** A cache over PlayFabServerAPI.GetTitleData. */
+    public static PlayFabTitleDataCache ServerTitleData(long ttlMillis, long staleMillis) {
+        return new PlayFabTitleDataCache("/Server/GetTitleData", new Source() {
+            PlayFabResult<Map<String, String>> fetch(ArrayList<String> keys, String overrideLabel) {
+                PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+                request.Keys = keys;
+                request.OverrideLabel = overrideLabel;
+                PlayFabResult<PlayFabServerModels.GetTitleDataResult> result = PlayFabServerAPI.GetTitleData(request);
+                return data(result.Error, result.Result == null ? null : result.Result.Data);
+            }
+        }, ttlMillis, staleMillis);
+    }
+
+    /** A cache over PlayFabServerAPI.GetTitleInternalData. */
+    public static PlayFabTitleDataCache ServerTitleInternalData(long ttlMillis, long staleMillis) {
+        return new PlayFabTitleDataCache("/Server/GetTitleInternalData", new Source() {
+            PlayFabResult<Map<String, String>> fetch(ArrayList<String> keys, String overrideLabel) {
+                PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+                request.Keys = keys;
+                request.OverrideLabel = overrideLabel;
+                PlayFabResult<PlayFabServerModels.GetTitleDataResult> result = PlayFabServerAPI.GetTitleInternalData(request);
+                return data(result.Error, result.Result == null ? null : result.Result.Data);
+            }
+        }, ttlMillis, staleMillis);
+    }
+
+    /** A cache over PlayFabAdminAPI.GetTitleData. */
+    public static PlayFabTitleDataCache AdminTitleData(long ttlMillis, long staleMillis) {
+        return new PlayFabTitleDataCache("/Admin/GetTitleData", new Source() {
+            PlayFabResult<Map<String, String>> fetch(ArrayList<String> keys, String overrideLabel) {
+                PlayFabAdminModels.GetTitleDataRequest request = new PlayFabAdminModels.GetTitleDataRequest();
+                request.Keys = keys;
+                request.OverrideLabel = overrideLabel;
+                PlayFabResult<PlayFabAdminModels.GetTitleDataResult> result = PlayFabAdminAPI.GetTitleData(request);
+                return data(result.Error, result.Result == null ? null : result.Result.Data);
+            }
+        }, ttlMillis, staleMillis);
+    }
+
+    /** A cache over PlayFabAdminAPI.GetTitleInternalData. */
+    public static PlayFabTitleDataCache AdminTitleInternalData(long ttlMillis, long staleMillis) {
+        return new PlayFabTitleDataCache("/Admin/GetTitleInternalData", new Source() {
+            PlayFabResult<Map<String, String>> fetch(ArrayList<String> keys, String overrideLabel) {
+                PlayFabAdminModels.GetTitleDataRequest request = new PlayFabAdminModels.GetTitleDataRequest();
+                request.Keys = keys;
+                request.OverrideLabel = overrideLabel;
+                PlayFabResult<PlayFabAdminModels.GetTitleDataResult> result = PlayFabAdminAPI.GetTitleInternalData(request);
+                return data(result.Error, result.Result == null ? null : result.Result.Data);
+            }
+        }, ttlMillis, staleMillis);
+    }
+
+    /** Keep loaded key sets in store as well, and serve from it on a miss, e.g. right after a restart. */
+    public PlayFabTitleDataCache persistTo(PlayFabCacheStore store) {
+        cache.persistTo(store, apiCall, new TypeToken<Map<String, String>>(){}.getType());
+        return this;
+    }
+
+    /** @return All title data, from the cache when it can be served */
+    public PlayFabResult<Map<String, String>> getAll() {
+        return get(ALL_KEYS, null);
+    }
+
+    /**
+     * @param keys The keys to fetch; key sets with the same members share a cache entry regardless of order. Empty or
+     *     null fetches all keys.
+     * @param overrideLabel Optional label of the override to apply, as on GetTitleDataRequest
+     * @return The title data, from the cache when it can be served. The map must not be modified.
+     */
+    public PlayFabResult<Map<String, String>> get(Collection<String> keys, String overrideLabel) {
+        return cache.get(cacheKey(keys, overrideLabel));
+    }
+
+    /** @return One value from the cached copy of all title data, loading it if needed; null if absent or the load failed */
+    public String getValue(String key) {
+        PlayFabResult<Map<String, String>> all = getAll();
+        return all.Result == null ? null : all.Result.get(key);
+    }
+
+    /** Reload everything on next access, e.g. after the title data was changed through the Admin or Server API. */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String cacheKey(Collection<String> keys, String overrideLabel) {
+        StringBuilder key = new StringBuilder();
+        key.append(PlayFabSettings.TitleId).append('\n').append(overrideLabel == null ? "" : overrideLabel);
+        if (keys != null && !keys.isEmpty()) {
+            for (String name : new TreeSet<String>(keys))
+                key.append('\n').append(name);
+        }
+        return key.toString();
+    }
+
+    private static PlayFabResult<Map<String, String>> data(PlayFabError error, Map<String, String> data) {
+        PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+        result.Error = error;
+        if (error == null)
+            result.Result = data == null ? Collections.<String, String>emptyMap() : Collections.unmodifiableMap(data);
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+
+    /**
+     * A per-player cache of GetUserData or GetUserReadOnlyData that revalidates with IfChangedFromDataVersion. Within
+     * the TTL a player's data is served from memory; after it, the cached DataVersion is sent and, when the player's data
+     * has not changed, PlayFab returns no data and the cached copy is kept, so a revalidation costs a round trip but
+     * almost no payload. When the version has moved on the response carries every key and replaces the entry.
+     * Each entry holds all of a player's keys, since DataVersion covers them all. Writes made through update() drop
+     * the player's entry once they succeed, so our own changes are visible on the next read.
+     */
+public abstract class PlayFabUserDataCache<R> {
+    private final PlayFabCache<String, R> cache;
+
+    private PlayFabUserDataCache(long ttlMillis, long staleMillis, int maxPlayers) {
+        this.cache = new PlayFabCache<String, R>(new PlayFabCache.Loader<String, R>() {
+            public PlayFabResult<R> load(String key, R previous) {
+                Long previousVersion = previous == null ? null : dataVersion(previous);
+                PlayFabResult<R> result = fetch(key.startsWith("\n") ? null : key, previousVersion);
+                if (result.Error == null && result.Result != null && previousVersion != null && previousVersion.equals(dataVersion(result.Result)))
+                    result.Result = previous; // Unchanged: the response carries no data
+                return result;
+            }
+        }, ttlMillis, staleMillis, maxPlayers);
+    }
+
+    abstract PlayFabResult<R> fetch(String playFabId, Long ifChangedFromDataVersion);
+
+    abstract Long dataVersion(R result);
+
+    /**
+     * @param playFabId The player; on the Client API null means the signed-in player
+     * @return All of the player's data, from the cache when it can be served
+     */
+    public PlayFabResult<R> get(String playFabId) {
+        return cache.get(cacheKey(playFabId));
+    }
+
+    /** Drop the player's entry, e.g. after it was changed by a call that did not go through this cache. */
+    public void invalidate(String playFabId) {
+        cache.invalidate(cacheKey(playFabId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String cacheKey(String playFabId) {
+        if (playFabId != null)
+            return playFabId;
+        // The signed-in player, who is only known by session ticket; a new login gets a new entry
+        String ticket = PlayFabSettings.ClientSessionTicket;
+        return "\n" + (ticket == null ? "" : ticket);
+    }
+
+    /** Over the Client API: the signed-in player's data, or the data another player has made public. */
+    public static class Client extends PlayFabUserDataCache<PlayFabClientModels.GetUserDataResult> {
+        private final boolean readOnly;
+
+        private Client(boolean readOnly, long ttlMillis, long staleMillis, int maxPlayers) {
+            super(ttlMillis, staleMillis, maxPlayers);
+            this.readOnly = readOnly;
+        }
+
+        /** A cache over PlayFabClientAPI.GetUserData. */
+        public static Client UserData(long ttlMillis, long staleMillis, int maxPlayers) {
+            return new Client(false, ttlMillis, staleMillis, maxPlayers);
+        }
+
+        /** A cache over PlayFabClientAPI.GetUserReadOnlyData. */
+        public static Client UserReadOnlyData(long ttlMillis, long staleMillis, int maxPlayers) {
+            return new Client(true, ttlMillis, staleMillis, maxPlayers);
+        }
+
+        PlayFabResult<PlayFabClientModels.GetUserDataResult> fetch(String playFabId, Long ifChangedFromDataVersion) {
+            PlayFabClientModels.GetUserDataRequest request = new PlayFabClientModels.GetUserDataRequest();
+            request.PlayFabId = playFabId;
+            request.IfChangedFromDataVersion = ifChangedFromDataVersion;
+            return readOnly ? PlayFabClientAPI.GetUserReadOnlyData(request) : PlayFabClientAPI.GetUserData(request);
+        }
+
+        Long dataVersion(PlayFabClientModels.GetUserDataResult result) {
+            return result.DataVersion;
+        }
+
+        /** PlayFabClientAPI.UpdateUserData, dropping the signed-in player's entry when it succeeds. */
+        public PlayFabResult<PlayFabClientModels.UpdateUserDataResult> update(final PlayFabClientModels.UpdateUserDataRequest request) {
+            if (readOnly) {
+                PlayFabResult<PlayFabClientModels.UpdateUserDataResult> result = new PlayFabResult<PlayFabClientModels.UpdateUserDataResult>();
+                result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, "Read-only data cannot be written through the Client API", null, null);
+                return result;
+            }
+            PlayFabResult<PlayFabClientModels.UpdateUserDataResult> result = PlayFabClientAPI.UpdateUserData(request);
+            if (result.Error == null)
+                invalidate(null);
+            return result;
+        }
+    }
+
+    /** Over the Server API. */
+    public static class Server extends PlayFabUserDataCache<PlayFabServerModels.GetUserDataResult> {
+        private final boolean readOnly;
+
+        private Server(boolean readOnly, long ttlMillis, long staleMillis, int maxPlayers) {
+            super(ttlMillis, staleMillis, maxPlayers);
+            this.readOnly = readOnly;
+        }
+
+        /** A cache over PlayFabServerAPI.GetUserData. */
+        public static Server UserData(long ttlMillis, long staleMillis, int maxPlayers) {
+            return new Server(false, ttlMillis, staleMillis, maxPlayers);
+        }
+
+        /** A cache over PlayFabServerAPI.GetUserReadOnlyData. */
+        public static Server UserReadOnlyData(long ttlMillis, long staleMillis, int maxPlayers) {
+            return new Server(true, ttlMillis, staleMillis, maxPlayers);
+        }
+
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> fetch(String playFabId, Long ifChangedFromDataVersion) {
+            PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+            request.PlayFabId = playFabId;
+            request.IfChangedFromDataVersion = ifChangedFromDataVersion;
+            return readOnly ? PlayFabServerAPI.GetUserReadOnlyData(request) : PlayFabServerAPI.GetUserData(request);
+        }
+
+        Long dataVersion(PlayFabServerModels.GetUserDataResult result) {
+            return result.DataVersion;
+        }
+
+        /** PlayFabServerAPI.UpdateUserData or UpdateUserReadOnlyData, to match this cache, dropping the player's entry when it succeeds. */
+        public PlayFabResult<PlayFabServerModels.UpdateUserDataResult> update(final PlayFabServerModels.UpdateUserDataRequest request) {
+            PlayFabResult<PlayFabServerModels.UpdateUserDataResult> result = readOnly ? PlayFabServerAPI.UpdateUserReadOnlyData(request) : PlayFabServerAPI.UpdateUserData(request);
+            if (result.Error == null)
+                invalidate(request.PlayFabId);
+            return result;
+        }
+    }
+
+    /** Over the Admin API. */
+    public static class Admin extends PlayFabUserDataCache<PlayFabAdminModels.GetUserDataResult> {
+        private final boolean readOnly;
+
+        private Admin(boolean readOnly, long ttlMillis, long staleMillis, int maxPlayers) {
+            super(ttlMillis, staleMillis, maxPlayers);
+            this.readOnly = readOnly;
+        }
+
+        /** A cache over PlayFabAdminAPI.GetUserData. */
+        public static Admin UserData(long ttlMillis, long staleMillis, int maxPlayers) {
+            return new Admin(false, ttlMillis, staleMillis, maxPlayers);
+        }
+
+        /** A cache over PlayFabAdminAPI.GetUserReadOnlyData. */
+        public static Admin UserReadOnlyData(long ttlMillis, long staleMillis, int maxPlayers) {
+            return new Admin(true, ttlMillis, staleMillis, maxPlayers);
+        }
+
+        PlayFabResult<PlayFabAdminModels.GetUserDataResult> fetch(String playFabId, Long ifChangedFromDataVersion) {
+            PlayFabAdminModels.GetUserDataRequest request = new PlayFabAdminModels.GetUserDataRequest();
+            request.PlayFabId = playFabId;
+            request.IfChangedFromDataVersion = ifChangedFromDataVersion;
+            return readOnly ? PlayFabAdminAPI.GetUserReadOnlyData(request) : PlayFabAdminAPI.GetUserData(request);
+        }
+
+        Long dataVersion(PlayFabAdminModels.GetUserDataResult result) {
+            return result.DataVersion;
+        }
+
+        /** PlayFabAdminAPI.UpdateUserData or UpdateUserReadOnlyData, to match this cache, dropping the player's entry when it succeeds. */
+        public PlayFabResult<PlayFabAdminModels.UpdateUserDataResult> update(final PlayFabAdminModels.UpdateUserDataRequest request) {
+            PlayFabResult<PlayFabAdminModels.UpdateUserDataResult> result = readOnly ? PlayFabAdminAPI.UpdateUserReadOnlyData(request) : PlayFabAdminAPI.UpdateUserData(request);
+            if (result.Error == null)
+                invalidate(request.PlayFabId);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,8711 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabAdminModels;
+import com.playfab.PlayFabAdminModels.*;
+
+/**
+ * Streaming adapters for the PlayFabAdminModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabAdminModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabAdminModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AbortTaskInstanceRequest": return new AbortTaskInstanceRequestAdapter(gson);
+            case "Action": return new ActionAdapter(gson);
+            case "ActionsOnPlayersInSegmentTaskParameter": return new ActionsOnPlayersInSegmentTaskParameterAdapter(gson);
+            case "ActionsOnPlayersInSegmentTaskSummary": return new ActionsOnPlayersInSegmentTaskSummaryAdapter(gson);
+            case "AdCampaignAttribution": return new AdCampaignAttributionAdapter(gson);
+            case "AdCampaignAttributionModel": return new AdCampaignAttributionModelAdapter(gson);
+            case "AdCampaignSegmentFilter": return new AdCampaignSegmentFilterAdapter(gson);
+            case "AddInventoryItemV2Content": return new AddInventoryItemV2ContentAdapter(gson);
+            case "AddLocalizedNewsRequest": return new AddLocalizedNewsRequestAdapter(gson);
+            case "AddLocalizedNewsResult": return new AddLocalizedNewsResultAdapter(gson);
+            case "AddNewsRequest": return new AddNewsRequestAdapter(gson);
+            case "AddNewsResult": return new AddNewsResultAdapter(gson);
+            case "AddPlayerTagRequest": return new AddPlayerTagRequestAdapter(gson);
+            case "AddPlayerTagResult": return new AddPlayerTagResultAdapter(gson);
+            case "AddUserVirtualCurrencyRequest": return new AddUserVirtualCurrencyRequestAdapter(gson);
+            case "AddVirtualCurrencyTypesRequest": return new AddVirtualCurrencyTypesRequestAdapter(gson);
+            case "AllPlayersSegmentFilter": return new AllPlayersSegmentFilterAdapter(gson);
+            case "ApiCondition": return new ApiConditionAdapter(gson);
+            case "BanInfo": return new BanInfoAdapter(gson);
+            case "BanPlayerContent": return new BanPlayerContentAdapter(gson);
+            case "BanPlayerSegmentAction": return new BanPlayerSegmentActionAdapter(gson);
+            case "BanRequest": return new BanRequestAdapter(gson);
+            case "BanUsersRequest": return new BanUsersRequestAdapter(gson);
+            case "BanUsersResult": return new BanUsersResultAdapter(gson);
+            case "BlankResult": return new BlankResultAdapter(gson);
+            case "CatalogItem": return new CatalogItemAdapter(gson);
+            case "CatalogItemBundleInfo": return new CatalogItemBundleInfoAdapter(gson);
+            case "CatalogItemConsumableInfo": return new CatalogItemConsumableInfoAdapter(gson);
+            case "CatalogItemContainerInfo": return new CatalogItemContainerInfoAdapter(gson);
+            case "CheckLimitedEditionItemAvailabilityRequest": return new CheckLimitedEditionItemAvailabilityRequestAdapter(gson);
+            case "CheckLimitedEditionItemAvailabilityResult": return new CheckLimitedEditionItemAvailabilityResultAdapter(gson);
+            case "ChurnPredictionSegmentFilter": return new ChurnPredictionSegmentFilterAdapter(gson);
+            case "CloudScriptFile": return new CloudScriptFileAdapter(gson);
+            case "CloudScriptTaskParameter": return new CloudScriptTaskParameterAdapter(gson);
+            case "CloudScriptTaskSummary": return new CloudScriptTaskSummaryAdapter(gson);
+            case "CloudScriptVersionStatus": return new CloudScriptVersionStatusAdapter(gson);
+            case "ContactEmailInfo": return new ContactEmailInfoAdapter(gson);
+            case "ContactEmailInfoModel": return new ContactEmailInfoModelAdapter(gson);
+            case "ContentInfo": return new ContentInfoAdapter(gson);
+            case "CreateActionsOnPlayerSegmentTaskRequest": return new CreateActionsOnPlayerSegmentTaskRequestAdapter(gson);
+            case "CreateCloudScriptTaskRequest": return new CreateCloudScriptTaskRequestAdapter(gson);
+            case "CreateInsightsScheduledScalingTaskRequest": return new CreateInsightsScheduledScalingTaskRequestAdapter(gson);
+            case "CreateOpenIdConnectionRequest": return new CreateOpenIdConnectionRequestAdapter(gson);
+            case "CreatePlayerSharedSecretRequest": return new CreatePlayerSharedSecretRequestAdapter(gson);
+            case "CreatePlayerSharedSecretResult": return new CreatePlayerSharedSecretResultAdapter(gson);
+            case "CreatePlayerStatisticDefinitionRequest": return new CreatePlayerStatisticDefinitionRequestAdapter(gson);
+            case "CreatePlayerStatisticDefinitionResult": return new CreatePlayerStatisticDefinitionResultAdapter(gson);
+            case "CreateSegmentRequest": return new CreateSegmentRequestAdapter(gson);
+            case "CreateSegmentResponse": return new CreateSegmentResponseAdapter(gson);
+            case "CreateTaskResult": return new CreateTaskResultAdapter(gson);
+            case "DeleteContentRequest": return new DeleteContentRequestAdapter(gson);
+            case "DeleteInventoryItemV2Content": return new DeleteInventoryItemV2ContentAdapter(gson);
+            case "DeleteMasterPlayerAccountRequest": return new DeleteMasterPlayerAccountRequestAdapter(gson);
+            case "DeleteMasterPlayerAccountResult": return new DeleteMasterPlayerAccountResultAdapter(gson);
+            case "DeleteMasterPlayerEventDataRequest": return new DeleteMasterPlayerEventDataRequestAdapter(gson);
+            case "DeleteMasterPlayerEventDataResult": return new DeleteMasterPlayerEventDataResultAdapter(gson);
+            case "DeleteMembershipSubscriptionRequest": return new DeleteMembershipSubscriptionRequestAdapter(gson);
+            case "DeleteMembershipSubscriptionResult": return new DeleteMembershipSubscriptionResultAdapter(gson);
+            case "DeleteOpenIdConnectionRequest": return new DeleteOpenIdConnectionRequestAdapter(gson);
+            case "DeletePlayerContent": return new DeletePlayerContentAdapter(gson);
+            case "DeletePlayerRequest": return new DeletePlayerRequestAdapter(gson);
+            case "DeletePlayerResult": return new DeletePlayerResultAdapter(gson);
+            case "DeletePlayerSegmentAction": return new DeletePlayerSegmentActionAdapter(gson);
+            case "DeletePlayerSharedSecretRequest": return new DeletePlayerSharedSecretRequestAdapter(gson);
+            case "DeletePlayerSharedSecretResult": return new DeletePlayerSharedSecretResultAdapter(gson);
+            case "DeletePlayerStatisticSegmentAction": return new DeletePlayerStatisticSegmentActionAdapter(gson);
+            case "DeleteSegmentRequest": return new DeleteSegmentRequestAdapter(gson);
+            case "DeleteSegmentsResponse": return new DeleteSegmentsResponseAdapter(gson);
+            case "DeleteStoreRequest": return new DeleteStoreRequestAdapter(gson);
+            case "DeleteStoreResult": return new DeleteStoreResultAdapter(gson);
+            case "DeleteTaskRequest": return new DeleteTaskRequestAdapter(gson);
+            case "DeleteTitleDataOverrideRequest": return new DeleteTitleDataOverrideRequestAdapter(gson);
+            case "DeleteTitleDataOverrideResult": return new DeleteTitleDataOverrideResultAdapter(gson);
+            case "DeleteTitleRequest": return new DeleteTitleRequestAdapter(gson);
+            case "DeleteTitleResult": return new DeleteTitleResultAdapter(gson);
+            case "EmailNotificationSegmentAction": return new EmailNotificationSegmentActionAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "ExecuteAzureFunctionSegmentAction": return new ExecuteAzureFunctionSegmentActionAdapter(gson);
+            case "ExecuteCloudScriptContent": return new ExecuteCloudScriptContentAdapter(gson);
+            case "ExecuteCloudScriptResult": return new ExecuteCloudScriptResultAdapter(gson);
+            case "ExecuteCloudScriptSegmentAction": return new ExecuteCloudScriptSegmentActionAdapter(gson);
+            case "ExecuteFunctionContent": return new ExecuteFunctionContentAdapter(gson);
+            case "ExportMasterPlayerDataRequest": return new ExportMasterPlayerDataRequestAdapter(gson);
+            case "ExportMasterPlayerDataResult": return new ExportMasterPlayerDataResultAdapter(gson);
+            case "ExportPlayersInSegmentRequest": return new ExportPlayersInSegmentRequestAdapter(gson);
+            case "ExportPlayersInSegmentResult": return new ExportPlayersInSegmentResultAdapter(gson);
+            case "FirstLoginDateSegmentFilter": return new FirstLoginDateSegmentFilterAdapter(gson);
+            case "FirstLoginTimespanSegmentFilter": return new FirstLoginTimespanSegmentFilterAdapter(gson);
+            case "GetActionsOnPlayersInSegmentTaskInstanceResult": return new GetActionsOnPlayersInSegmentTaskInstanceResultAdapter(gson);
+            case "GetAllSegmentsRequest": return new GetAllSegmentsRequestAdapter(gson);
+            case "GetAllSegmentsResult": return new GetAllSegmentsResultAdapter(gson);
+            case "GetCatalogItemsRequest": return new GetCatalogItemsRequestAdapter(gson);
+            case "GetCatalogItemsResult": return new GetCatalogItemsResultAdapter(gson);
+            case "GetCloudScriptRevisionRequest": return new GetCloudScriptRevisionRequestAdapter(gson);
+            case "GetCloudScriptRevisionResult": return new GetCloudScriptRevisionResultAdapter(gson);
+            case "GetCloudScriptTaskInstanceResult": return new GetCloudScriptTaskInstanceResultAdapter(gson);
+            case "GetCloudScriptVersionsRequest": return new GetCloudScriptVersionsRequestAdapter(gson);
+            case "GetCloudScriptVersionsResult": return new GetCloudScriptVersionsResultAdapter(gson);
+            case "GetContentListRequest": return new GetContentListRequestAdapter(gson);
+            case "GetContentListResult": return new GetContentListResultAdapter(gson);
+            case "GetContentUploadUrlRequest": return new GetContentUploadUrlRequestAdapter(gson);
+            case "GetContentUploadUrlResult": return new GetContentUploadUrlResultAdapter(gson);
+            case "GetDataReportRequest": return new GetDataReportRequestAdapter(gson);
+            case "GetDataReportResult": return new GetDataReportResultAdapter(gson);
+            case "GetPlayedTitleListRequest": return new GetPlayedTitleListRequestAdapter(gson);
+            case "GetPlayedTitleListResult": return new GetPlayedTitleListResultAdapter(gson);
+            case "GetPlayerIdFromAuthTokenRequest": return new GetPlayerIdFromAuthTokenRequestAdapter(gson);
+            case "GetPlayerIdFromAuthTokenResult": return new GetPlayerIdFromAuthTokenResultAdapter(gson);
+            case "GetPlayerProfileRequest": return new GetPlayerProfileRequestAdapter(gson);
+            case "GetPlayerProfileResult": return new GetPlayerProfileResultAdapter(gson);
+            case "GetPlayerSegmentsResult": return new GetPlayerSegmentsResultAdapter(gson);
+            case "GetPlayerSharedSecretsRequest": return new GetPlayerSharedSecretsRequestAdapter(gson);
+            case "GetPlayerSharedSecretsResult": return new GetPlayerSharedSecretsResultAdapter(gson);
+            case "GetPlayersInSegmentExportRequest": return new GetPlayersInSegmentExportRequestAdapter(gson);
+            case "GetPlayersInSegmentExportResponse": return new GetPlayersInSegmentExportResponseAdapter(gson);
+            case "GetPlayersInSegmentRequest": return new GetPlayersInSegmentRequestAdapter(gson);
+            case "GetPlayersInSegmentResult": return new GetPlayersInSegmentResultAdapter(gson);
+            case "GetPlayersSegmentsRequest": return new GetPlayersSegmentsRequestAdapter(gson);
+            case "GetPlayerStatisticDefinitionsRequest": return new GetPlayerStatisticDefinitionsRequestAdapter(gson);
+            case "GetPlayerStatisticDefinitionsResult": return new GetPlayerStatisticDefinitionsResultAdapter(gson);
+            case "GetPlayerStatisticVersionsRequest": return new GetPlayerStatisticVersionsRequestAdapter(gson);
+            case "GetPlayerStatisticVersionsResult": return new GetPlayerStatisticVersionsResultAdapter(gson);
+            case "GetPlayerTagsRequest": return new GetPlayerTagsRequestAdapter(gson);
+            case "GetPlayerTagsResult": return new GetPlayerTagsResultAdapter(gson);
+            case "GetPolicyRequest": return new GetPolicyRequestAdapter(gson);
+            case "GetPolicyResponse": return new GetPolicyResponseAdapter(gson);
+            case "GetPublisherDataRequest": return new GetPublisherDataRequestAdapter(gson);
+            case "GetPublisherDataResult": return new GetPublisherDataResultAdapter(gson);
+            case "GetRandomResultTablesRequest": return new GetRandomResultTablesRequestAdapter(gson);
+            case "GetRandomResultTablesResult": return new GetRandomResultTablesResultAdapter(gson);
+            case "GetSegmentResult": return new GetSegmentResultAdapter(gson);
+            case "GetSegmentsRequest": return new GetSegmentsRequestAdapter(gson);
+            case "GetSegmentsResponse": return new GetSegmentsResponseAdapter(gson);
+            case "GetStoreItemsRequest": return new GetStoreItemsRequestAdapter(gson);
+            case "GetStoreItemsResult": return new GetStoreItemsResultAdapter(gson);
+            case "GetTaskInstanceRequest": return new GetTaskInstanceRequestAdapter(gson);
+            case "GetTaskInstancesRequest": return new GetTaskInstancesRequestAdapter(gson);
+            case "GetTaskInstancesResult": return new GetTaskInstancesResultAdapter(gson);
+            case "GetTasksRequest": return new GetTasksRequestAdapter(gson);
+            case "GetTasksResult": return new GetTasksResultAdapter(gson);
+            case "GetTitleDataRequest": return new GetTitleDataRequestAdapter(gson);
+            case "GetTitleDataResult": return new GetTitleDataResultAdapter(gson);
+            case "GetUserBansRequest": return new GetUserBansRequestAdapter(gson);
+            case "GetUserBansResult": return new GetUserBansResultAdapter(gson);
+            case "GetUserDataRequest": return new GetUserDataRequestAdapter(gson);
+            case "GetUserDataResult": return new GetUserDataResultAdapter(gson);
+            case "GetUserInventoryRequest": return new GetUserInventoryRequestAdapter(gson);
+            case "GetUserInventoryResult": return new GetUserInventoryResultAdapter(gson);
+            case "GrantedItemInstance": return new GrantedItemInstanceAdapter(gson);
+            case "GrantItemContent": return new GrantItemContentAdapter(gson);
+            case "GrantItemSegmentAction": return new GrantItemSegmentActionAdapter(gson);
+            case "GrantItemsToUsersRequest": return new GrantItemsToUsersRequestAdapter(gson);
+            case "GrantItemsToUsersResult": return new GrantItemsToUsersResultAdapter(gson);
+            case "GrantVirtualCurrencyContent": return new GrantVirtualCurrencyContentAdapter(gson);
+            case "GrantVirtualCurrencySegmentAction": return new GrantVirtualCurrencySegmentActionAdapter(gson);
+            case "IncrementLimitedEditionItemAvailabilityRequest": return new IncrementLimitedEditionItemAvailabilityRequestAdapter(gson);
+            case "IncrementLimitedEditionItemAvailabilityResult": return new IncrementLimitedEditionItemAvailabilityResultAdapter(gson);
+            case "IncrementPlayerStatisticContent": return new IncrementPlayerStatisticContentAdapter(gson);
+            case "IncrementPlayerStatisticSegmentAction": return new IncrementPlayerStatisticSegmentActionAdapter(gson);
+            case "IncrementPlayerStatisticVersionRequest": return new IncrementPlayerStatisticVersionRequestAdapter(gson);
+            case "IncrementPlayerStatisticVersionResult": return new IncrementPlayerStatisticVersionResultAdapter(gson);
+            case "InsightsScalingTaskParameter": return new InsightsScalingTaskParameterAdapter(gson);
+            case "ItemGrant": return new ItemGrantAdapter(gson);
+            case "ItemInstance": return new ItemInstanceAdapter(gson);
+            case "LastLoginDateSegmentFilter": return new LastLoginDateSegmentFilterAdapter(gson);
+            case "LastLoginTimespanSegmentFilter": return new LastLoginTimespanSegmentFilterAdapter(gson);
+            case "LinkedPlatformAccountModel": return new LinkedPlatformAccountModelAdapter(gson);
+            case "LinkedUserAccountHasEmailSegmentFilter": return new LinkedUserAccountHasEmailSegmentFilterAdapter(gson);
+            case "LinkedUserAccountSegmentFilter": return new LinkedUserAccountSegmentFilterAdapter(gson);
+            case "ListOpenIdConnectionRequest": return new ListOpenIdConnectionRequestAdapter(gson);
+            case "ListOpenIdConnectionResponse": return new ListOpenIdConnectionResponseAdapter(gson);
+            case "ListVirtualCurrencyTypesRequest": return new ListVirtualCurrencyTypesRequestAdapter(gson);
+            case "ListVirtualCurrencyTypesResult": return new ListVirtualCurrencyTypesResultAdapter(gson);
+            case "LocationModel": return new LocationModelAdapter(gson);
+            case "LocationSegmentFilter": return new LocationSegmentFilterAdapter(gson);
+            case "LogStatement": return new LogStatementAdapter(gson);
+            case "LookupUserAccountInfoRequest": return new LookupUserAccountInfoRequestAdapter(gson);
+            case "LookupUserAccountInfoResult": return new LookupUserAccountInfoResultAdapter(gson);
+            case "MembershipModel": return new MembershipModelAdapter(gson);
+            case "ModifyUserVirtualCurrencyResult": return new ModifyUserVirtualCurrencyResultAdapter(gson);
+            case "NameIdentifier": return new NameIdentifierAdapter(gson);
+            case "OpenIdConnection": return new OpenIdConnectionAdapter(gson);
+            case "OpenIdIssuerInformation": return new OpenIdIssuerInformationAdapter(gson);
+            case "PermissionStatement": return new PermissionStatementAdapter(gson);
+            case "PlayerChurnPredictionSegmentFilter": return new PlayerChurnPredictionSegmentFilterAdapter(gson);
+            case "PlayerChurnPredictionTimeSegmentFilter": return new PlayerChurnPredictionTimeSegmentFilterAdapter(gson);
+            case "PlayerChurnPreviousPredictionSegmentFilter": return new PlayerChurnPreviousPredictionSegmentFilterAdapter(gson);
+            case "PlayerLinkedAccount": return new PlayerLinkedAccountAdapter(gson);
+            case "PlayerLocation": return new PlayerLocationAdapter(gson);
+            case "PlayerProfile": return new PlayerProfileAdapter(gson);
+            case "PlayerProfileModel": return new PlayerProfileModelAdapter(gson);
+            case "PlayerProfileViewConstraints": return new PlayerProfileViewConstraintsAdapter(gson);
+            case "PlayerStatistic": return new PlayerStatisticAdapter(gson);
+            case "PlayerStatisticDefinition": return new PlayerStatisticDefinitionAdapter(gson);
+            case "PlayerStatisticVersion": return new PlayerStatisticVersionAdapter(gson);
+            case "PushNotificationContent": return new PushNotificationContentAdapter(gson);
+            case "PushNotificationRegistration": return new PushNotificationRegistrationAdapter(gson);
+            case "PushNotificationRegistrationModel": return new PushNotificationRegistrationModelAdapter(gson);
+            case "PushNotificationSegmentAction": return new PushNotificationSegmentActionAdapter(gson);
+            case "PushNotificationSegmentFilter": return new PushNotificationSegmentFilterAdapter(gson);
+            case "RandomResultTable": return new RandomResultTableAdapter(gson);
+            case "RandomResultTableListing": return new RandomResultTableListingAdapter(gson);
+            case "RefundPurchaseRequest": return new RefundPurchaseRequestAdapter(gson);
+            case "RefundPurchaseResponse": return new RefundPurchaseResponseAdapter(gson);
+            case "RemovePlayerTagRequest": return new RemovePlayerTagRequestAdapter(gson);
+            case "RemovePlayerTagResult": return new RemovePlayerTagResultAdapter(gson);
+            case "RemoveVirtualCurrencyTypesRequest": return new RemoveVirtualCurrencyTypesRequestAdapter(gson);
+            case "ResetCharacterStatisticsRequest": return new ResetCharacterStatisticsRequestAdapter(gson);
+            case "ResetCharacterStatisticsResult": return new ResetCharacterStatisticsResultAdapter(gson);
+            case "ResetPasswordRequest": return new ResetPasswordRequestAdapter(gson);
+            case "ResetPasswordResult": return new ResetPasswordResultAdapter(gson);
+            case "ResetUserStatisticsRequest": return new ResetUserStatisticsRequestAdapter(gson);
+            case "ResetUserStatisticsResult": return new ResetUserStatisticsResultAdapter(gson);
+            case "ResolvePurchaseDisputeRequest": return new ResolvePurchaseDisputeRequestAdapter(gson);
+            case "ResolvePurchaseDisputeResponse": return new ResolvePurchaseDisputeResponseAdapter(gson);
+            case "ResultTableNode": return new ResultTableNodeAdapter(gson);
+            case "RevokeAllBansForUserRequest": return new RevokeAllBansForUserRequestAdapter(gson);
+            case "RevokeAllBansForUserResult": return new RevokeAllBansForUserResultAdapter(gson);
+            case "RevokeBansRequest": return new RevokeBansRequestAdapter(gson);
+            case "RevokeBansResult": return new RevokeBansResultAdapter(gson);
+            case "RevokeInventoryItem": return new RevokeInventoryItemAdapter(gson);
+            case "RevokeInventoryItemRequest": return new RevokeInventoryItemRequestAdapter(gson);
+            case "RevokeInventoryItemsRequest": return new RevokeInventoryItemsRequestAdapter(gson);
+            case "RevokeInventoryItemsResult": return new RevokeInventoryItemsResultAdapter(gson);
+            case "RevokeInventoryResult": return new RevokeInventoryResultAdapter(gson);
+            case "RevokeItemError": return new RevokeItemErrorAdapter(gson);
+            case "RunTaskRequest": return new RunTaskRequestAdapter(gson);
+            case "RunTaskResult": return new RunTaskResultAdapter(gson);
+            case "ScheduledTask": return new ScheduledTaskAdapter(gson);
+            case "ScriptExecutionError": return new ScriptExecutionErrorAdapter(gson);
+            case "SegmentAndDefinition": return new SegmentAndDefinitionAdapter(gson);
+            case "SegmentModel": return new SegmentModelAdapter(gson);
+            case "SegmentOrDefinition": return new SegmentOrDefinitionAdapter(gson);
+            case "SegmentTrigger": return new SegmentTriggerAdapter(gson);
+            case "SendAccountRecoveryEmailRequest": return new SendAccountRecoveryEmailRequestAdapter(gson);
+            case "SendAccountRecoveryEmailResult": return new SendAccountRecoveryEmailResultAdapter(gson);
+            case "SendEmailContent": return new SendEmailContentAdapter(gson);
+            case "SetMembershipOverrideRequest": return new SetMembershipOverrideRequestAdapter(gson);
+            case "SetMembershipOverrideResult": return new SetMembershipOverrideResultAdapter(gson);
+            case "SetPlayerSecretRequest": return new SetPlayerSecretRequestAdapter(gson);
+            case "SetPlayerSecretResult": return new SetPlayerSecretResultAdapter(gson);
+            case "SetPublishedRevisionRequest": return new SetPublishedRevisionRequestAdapter(gson);
+            case "SetPublishedRevisionResult": return new SetPublishedRevisionResultAdapter(gson);
+            case "SetPublisherDataRequest": return new SetPublisherDataRequestAdapter(gson);
+            case "SetPublisherDataResult": return new SetPublisherDataResultAdapter(gson);
+            case "SetTitleDataAndOverridesRequest": return new SetTitleDataAndOverridesRequestAdapter(gson);
+            case "SetTitleDataAndOverridesResult": return new SetTitleDataAndOverridesResultAdapter(gson);
+            case "SetTitleDataRequest": return new SetTitleDataRequestAdapter(gson);
+            case "SetTitleDataResult": return new SetTitleDataResultAdapter(gson);
+            case "SetupPushNotificationRequest": return new SetupPushNotificationRequestAdapter(gson);
+            case "SetupPushNotificationResult": return new SetupPushNotificationResultAdapter(gson);
+            case "SharedSecret": return new SharedSecretAdapter(gson);
+            case "StatisticModel": return new StatisticModelAdapter(gson);
+            case "StatisticSegmentFilter": return new StatisticSegmentFilterAdapter(gson);
+            case "StoreItem": return new StoreItemAdapter(gson);
+            case "StoreMarketingModel": return new StoreMarketingModelAdapter(gson);
+            case "SubscriptionModel": return new SubscriptionModelAdapter(gson);
+            case "SubtractInventoryItemV2Content": return new SubtractInventoryItemV2ContentAdapter(gson);
+            case "SubtractUserVirtualCurrencyRequest": return new SubtractUserVirtualCurrencyRequestAdapter(gson);
+            case "TagModel": return new TagModelAdapter(gson);
+            case "TagSegmentFilter": return new TagSegmentFilterAdapter(gson);
+            case "TaskInstanceBasicSummary": return new TaskInstanceBasicSummaryAdapter(gson);
+            case "TitleDataKeyValue": return new TitleDataKeyValueAdapter(gson);
+            case "TotalValueToDateInUSDSegmentFilter": return new TotalValueToDateInUSDSegmentFilterAdapter(gson);
+            case "UpdateBanRequest": return new UpdateBanRequestAdapter(gson);
+            case "UpdateBansRequest": return new UpdateBansRequestAdapter(gson);
+            case "UpdateBansResult": return new UpdateBansResultAdapter(gson);
+            case "UpdateCatalogItemsRequest": return new UpdateCatalogItemsRequestAdapter(gson);
+            case "UpdateCatalogItemsResult": return new UpdateCatalogItemsResultAdapter(gson);
+            case "UpdateCloudScriptRequest": return new UpdateCloudScriptRequestAdapter(gson);
+            case "UpdateCloudScriptResult": return new UpdateCloudScriptResultAdapter(gson);
+            case "UpdateOpenIdConnectionRequest": return new UpdateOpenIdConnectionRequestAdapter(gson);
+            case "UpdatePlayerSharedSecretRequest": return new UpdatePlayerSharedSecretRequestAdapter(gson);
+            case "UpdatePlayerSharedSecretResult": return new UpdatePlayerSharedSecretResultAdapter(gson);
+            case "UpdatePlayerStatisticDefinitionRequest": return new UpdatePlayerStatisticDefinitionRequestAdapter(gson);
+            case "UpdatePlayerStatisticDefinitionResult": return new UpdatePlayerStatisticDefinitionResultAdapter(gson);
+            case "UpdatePolicyRequest": return new UpdatePolicyRequestAdapter(gson);
+            case "UpdatePolicyResponse": return new UpdatePolicyResponseAdapter(gson);
+            case "UpdateRandomResultTablesRequest": return new UpdateRandomResultTablesRequestAdapter(gson);
+            case "UpdateRandomResultTablesResult": return new UpdateRandomResultTablesResultAdapter(gson);
+            case "UpdateSegmentRequest": return new UpdateSegmentRequestAdapter(gson);
+            case "UpdateSegmentResponse": return new UpdateSegmentResponseAdapter(gson);
+            case "UpdateStoreItemsRequest": return new UpdateStoreItemsRequestAdapter(gson);
+            case "UpdateStoreItemsResult": return new UpdateStoreItemsResultAdapter(gson);
+            case "UpdateTaskRequest": return new UpdateTaskRequestAdapter(gson);
+            case "UpdateUserDataRequest": return new UpdateUserDataRequestAdapter(gson);
+            case "UpdateUserDataResult": return new UpdateUserDataResultAdapter(gson);
+            case "UpdateUserInternalDataRequest": return new UpdateUserInternalDataRequestAdapter(gson);
+            case "UpdateUserTitleDisplayNameRequest": return new UpdateUserTitleDisplayNameRequestAdapter(gson);
+            case "UpdateUserTitleDisplayNameResult": return new UpdateUserTitleDisplayNameResultAdapter(gson);
+            case "UserAccountInfo": return new UserAccountInfoAdapter(gson);
+            case "UserAndroidDeviceInfo": return new UserAndroidDeviceInfoAdapter(gson);
+            case "UserAppleIdInfo": return new UserAppleIdInfoAdapter(gson);
+            case "UserCustomIdInfo": return new UserCustomIdInfoAdapter(gson);
+            case "UserDataRecord": return new UserDataRecordAdapter(gson);
+            case "UserFacebookInfo": return new UserFacebookInfoAdapter(gson);
+            case "UserFacebookInstantGamesIdInfo": return new UserFacebookInstantGamesIdInfoAdapter(gson);
+            case "UserGameCenterInfo": return new UserGameCenterInfoAdapter(gson);
+            case "UserGoogleInfo": return new UserGoogleInfoAdapter(gson);
+            case "UserGooglePlayGamesInfo": return new UserGooglePlayGamesInfoAdapter(gson);
+            case "UserIosDeviceInfo": return new UserIosDeviceInfoAdapter(gson);
+            case "UserKongregateInfo": return new UserKongregateInfoAdapter(gson);
+            case "UserNintendoSwitchAccountIdInfo": return new UserNintendoSwitchAccountIdInfoAdapter(gson);
+            case "UserNintendoSwitchDeviceIdInfo": return new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+            case "UserOpenIdInfo": return new UserOpenIdInfoAdapter(gson);
+            case "UserOriginationSegmentFilter": return new UserOriginationSegmentFilterAdapter(gson);
+            case "UserPrivateAccountInfo": return new UserPrivateAccountInfoAdapter(gson);
+            case "UserPsnInfo": return new UserPsnInfoAdapter(gson);
+            case "UserServerCustomIdInfo": return new UserServerCustomIdInfoAdapter(gson);
+            case "UserSteamInfo": return new UserSteamInfoAdapter(gson);
+            case "UserTitleInfo": return new UserTitleInfoAdapter(gson);
+            case "UserTwitchInfo": return new UserTwitchInfoAdapter(gson);
+            case "UserXboxInfo": return new UserXboxInfoAdapter(gson);
+            case "ValueToDateModel": return new ValueToDateModelAdapter(gson);
+            case "ValueToDateSegmentFilter": return new ValueToDateSegmentFilterAdapter(gson);
+            case "VirtualCurrencyBalanceSegmentFilter": return new VirtualCurrencyBalanceSegmentFilterAdapter(gson);
+            case "VirtualCurrencyData": return new VirtualCurrencyDataAdapter(gson);
+            case "VirtualCurrencyRechargeTime": return new VirtualCurrencyRechargeTimeAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AbortTaskInstanceRequestAdapter extends PlayFabModelAdapter<AbortTaskInstanceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AbortTaskInstanceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AbortTaskInstanceRequest newInstance() {
+            return new AbortTaskInstanceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AbortTaskInstanceRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "TaskInstanceId", value.TaskInstanceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AbortTaskInstanceRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "TaskInstanceId": value.TaskInstanceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ActionAdapter extends PlayFabModelAdapter<Action> {
+        private final TypeAdapter<AddInventoryItemV2Content> addInventoryItemV2ContentAdapter;
+        private final TypeAdapter<BanPlayerContent> banPlayerContentAdapter;
+        private final TypeAdapter<DeleteInventoryItemV2Content> deleteInventoryItemV2ContentAdapter;
+        private final TypeAdapter<DeletePlayerContent> deletePlayerContentAdapter;
+        private final TypeAdapter<ExecuteCloudScriptContent> executeCloudScriptContentAdapter;
+        private final TypeAdapter<ExecuteFunctionContent> executeFunctionContentAdapter;
+        private final TypeAdapter<GrantItemContent> grantItemContentAdapter;
+        private final TypeAdapter<GrantVirtualCurrencyContent> grantVirtualCurrencyContentAdapter;
+        private final TypeAdapter<IncrementPlayerStatisticContent> incrementPlayerStatisticContentAdapter;
+        private final TypeAdapter<PushNotificationContent> pushNotificationContentAdapter;
+        private final TypeAdapter<SendEmailContent> sendEmailContentAdapter;
+        private final TypeAdapter<SubtractInventoryItemV2Content> subtractInventoryItemV2ContentAdapter;
+
+        ActionAdapter(Gson gson) {
+            addInventoryItemV2ContentAdapter = gson.getAdapter(AddInventoryItemV2Content.class);
+            banPlayerContentAdapter = gson.getAdapter(BanPlayerContent.class);
+            deleteInventoryItemV2ContentAdapter = gson.getAdapter(DeleteInventoryItemV2Content.class);
+            deletePlayerContentAdapter = gson.getAdapter(DeletePlayerContent.class);
+            executeCloudScriptContentAdapter = gson.getAdapter(ExecuteCloudScriptContent.class);
+            executeFunctionContentAdapter = gson.getAdapter(ExecuteFunctionContent.class);
+            grantItemContentAdapter = gson.getAdapter(GrantItemContent.class);
+            grantVirtualCurrencyContentAdapter = gson.getAdapter(GrantVirtualCurrencyContent.class);
+            incrementPlayerStatisticContentAdapter = gson.getAdapter(IncrementPlayerStatisticContent.class);
+            pushNotificationContentAdapter = gson.getAdapter(PushNotificationContent.class);
+            sendEmailContentAdapter = gson.getAdapter(SendEmailContent.class);
+            subtractInventoryItemV2ContentAdapter = gson.getAdapter(SubtractInventoryItemV2Content.class);
+        }
+
+        protected Action newInstance() {
+            return new Action();
+        }
+
+        protected void writeFields(JsonWriter out, Action value) throws IOException {
+            writeField(out, "AddInventoryItemV2Content", value.AddInventoryItemV2Content, addInventoryItemV2ContentAdapter);
+            writeField(out, "BanPlayerContent", value.BanPlayerContent, banPlayerContentAdapter);
+            writeField(out, "DeleteInventoryItemV2Content", value.DeleteInventoryItemV2Content, deleteInventoryItemV2ContentAdapter);
+            writeField(out, "DeletePlayerContent", value.DeletePlayerContent, deletePlayerContentAdapter);
+            writeField(out, "ExecuteCloudScriptContent", value.ExecuteCloudScriptContent, executeCloudScriptContentAdapter);
+            writeField(out, "ExecuteFunctionContent", value.ExecuteFunctionContent, executeFunctionContentAdapter);
+            writeField(out, "GrantItemContent", value.GrantItemContent, grantItemContentAdapter);
+            writeField(out, "GrantVirtualCurrencyContent", value.GrantVirtualCurrencyContent, grantVirtualCurrencyContentAdapter);
+            writeField(out, "IncrementPlayerStatisticContent", value.IncrementPlayerStatisticContent, incrementPlayerStatisticContentAdapter);
+            writeField(out, "PushNotificationContent", value.PushNotificationContent, pushNotificationContentAdapter);
+            writeField(out, "SendEmailContent", value.SendEmailContent, sendEmailContentAdapter);
+            writeField(out, "SubtractInventoryItemV2Content", value.SubtractInventoryItemV2Content, subtractInventoryItemV2ContentAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, Action value) throws IOException {
+            switch (name) {
+                case "AddInventoryItemV2Content": value.AddInventoryItemV2Content = addInventoryItemV2ContentAdapter.read(in); return true;
+                case "BanPlayerContent": value.BanPlayerContent = banPlayerContentAdapter.read(in); return true;
+                case "DeleteInventoryItemV2Content": value.DeleteInventoryItemV2Content = deleteInventoryItemV2ContentAdapter.read(in); return true;
+                case "DeletePlayerContent": value.DeletePlayerContent = deletePlayerContentAdapter.read(in); return true;
+                case "ExecuteCloudScriptContent": value.ExecuteCloudScriptContent = executeCloudScriptContentAdapter.read(in); return true;
+                case "ExecuteFunctionContent": value.ExecuteFunctionContent = executeFunctionContentAdapter.read(in); return true;
+                case "GrantItemContent": value.GrantItemContent = grantItemContentAdapter.read(in); return true;
+                case "GrantVirtualCurrencyContent": value.GrantVirtualCurrencyContent = grantVirtualCurrencyContentAdapter.read(in); return true;
+                case "IncrementPlayerStatisticContent": value.IncrementPlayerStatisticContent = incrementPlayerStatisticContentAdapter.read(in); return true;
+                case "PushNotificationContent": value.PushNotificationContent = pushNotificationContentAdapter.read(in); return true;
+                case "SendEmailContent": value.SendEmailContent = sendEmailContentAdapter.read(in); return true;
+                case "SubtractInventoryItemV2Content": value.SubtractInventoryItemV2Content = subtractInventoryItemV2ContentAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ActionsOnPlayersInSegmentTaskParameterAdapter extends PlayFabModelAdapter<ActionsOnPlayersInSegmentTaskParameter> {
+        private final TypeAdapter<ArrayList<Action>> actionListAdapter;
+
+        ActionsOnPlayersInSegmentTaskParameterAdapter(Gson gson) {
+            actionListAdapter = listAdapter(gson, Action.class);
+        }
+
+        protected ActionsOnPlayersInSegmentTaskParameter newInstance() {
+            return new ActionsOnPlayersInSegmentTaskParameter();
+        }
+
+        protected void writeFields(JsonWriter out, ActionsOnPlayersInSegmentTaskParameter value) throws IOException {
+            writeField(out, "Actions", value.Actions, actionListAdapter);
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ActionsOnPlayersInSegmentTaskParameter value) throws IOException {
+            switch (name) {
+                case "Actions": value.Actions = actionListAdapter.read(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ActionsOnPlayersInSegmentTaskSummaryAdapter extends PlayFabModelAdapter<ActionsOnPlayersInSegmentTaskSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        ActionsOnPlayersInSegmentTaskSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected ActionsOnPlayersInSegmentTaskSummary newInstance() {
+            return new ActionsOnPlayersInSegmentTaskSummary();
+        }
+
+        protected void writeFields(JsonWriter out, ActionsOnPlayersInSegmentTaskSummary value) throws IOException {
+            writeField(out, "CompletedAt", value.CompletedAt, dateAdapter);
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+            writeField(out, "ErrorWasFatal", value.ErrorWasFatal);
+            writeField(out, "EstimatedSecondsRemaining", value.EstimatedSecondsRemaining);
+            writeField(out, "PercentComplete", value.PercentComplete);
+            writeField(out, "ScheduledByUserId", value.ScheduledByUserId);
+            writeField(out, "StartedAt", value.StartedAt, dateAdapter);
+            writeField(out, "Status", value.Status, taskInstanceStatusAdapter);
+            writeField(out, "TaskIdentifier", value.TaskIdentifier, nameIdentifierAdapter);
+            writeField(out, "TaskInstanceId", value.TaskInstanceId);
+            writeField(out, "TotalPlayersInSegment", value.TotalPlayersInSegment);
+            writeField(out, "TotalPlayersProcessed", value.TotalPlayersProcessed);
+        }
+
+        protected boolean readField(JsonReader in, String name, ActionsOnPlayersInSegmentTaskSummary value) throws IOException {
+            switch (name) {
+                case "CompletedAt": value.CompletedAt = dateAdapter.read(in); return true;
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                case "ErrorWasFatal": value.ErrorWasFatal = readBoolean(in); return true;
+                case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = readDouble(in); return true;
+                case "PercentComplete": value.PercentComplete = readDouble(in); return true;
+                case "ScheduledByUserId": value.ScheduledByUserId = readString(in); return true;
+                case "StartedAt": value.StartedAt = dateAdapter.read(in); return true;
+                case "Status": value.Status = taskInstanceStatusAdapter.read(in); return true;
+                case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); return true;
+                case "TaskInstanceId": value.TaskInstanceId = readString(in); return true;
+                case "TotalPlayersInSegment": value.TotalPlayersInSegment = readInteger(in); return true;
+                case "TotalPlayersProcessed": value.TotalPlayersProcessed = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdCampaignAttributionAdapter extends PlayFabModelAdapter<AdCampaignAttribution> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AdCampaignAttribution newInstance() {
+            return new AdCampaignAttribution();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignAttribution value) throws IOException {
+            writeField(out, "AttributedAt", value.AttributedAt, dateAdapter);
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignAttribution value) throws IOException {
+            switch (name) {
+                case "AttributedAt": value.AttributedAt = dateAdapter.read(in); return true;
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends PlayFabModelAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AdCampaignAttributionModel newInstance() {
+            return new AdCampaignAttributionModel();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            writeField(out, "AttributedAt", value.AttributedAt, dateAdapter);
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignAttributionModel value) throws IOException {
+            switch (name) {
+                case "AttributedAt": value.AttributedAt = dateAdapter.read(in); return true;
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdCampaignSegmentFilterAdapter extends PlayFabModelAdapter<AdCampaignSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        AdCampaignSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected AdCampaignSegmentFilter newInstance() {
+            return new AdCampaignSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignSegmentFilter value) throws IOException {
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "CampaignSource", value.CampaignSource);
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignSegmentFilter value) throws IOException {
+            switch (name) {
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "CampaignSource": value.CampaignSource = readString(in); return true;
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddInventoryItemV2ContentAdapter extends PlayFabModelAdapter<AddInventoryItemV2Content> {
+        AddInventoryItemV2ContentAdapter(Gson gson) {
+        }
+
+        protected AddInventoryItemV2Content newInstance() {
+            return new AddInventoryItemV2Content();
+        }
+
+        protected void writeFields(JsonWriter out, AddInventoryItemV2Content value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "StackId", value.StackId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddInventoryItemV2Content value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readInteger(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddLocalizedNewsRequestAdapter extends PlayFabModelAdapter<AddLocalizedNewsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddLocalizedNewsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddLocalizedNewsRequest newInstance() {
+            return new AddLocalizedNewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddLocalizedNewsRequest value) throws IOException {
+            writeField(out, "Body", value.Body);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Language", value.Language);
+            writeField(out, "NewsId", value.NewsId);
+            writeField(out, "Title", value.Title);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddLocalizedNewsRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Language": value.Language = readString(in); return true;
+                case "NewsId": value.NewsId = readString(in); return true;
+                case "Title": value.Title = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddLocalizedNewsResultAdapter extends PlayFabModelAdapter<AddLocalizedNewsResult> {
+        AddLocalizedNewsResultAdapter(Gson gson) {
+        }
+
+        protected AddLocalizedNewsResult newInstance() {
+            return new AddLocalizedNewsResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddLocalizedNewsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddLocalizedNewsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddNewsRequestAdapter extends PlayFabModelAdapter<AddNewsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        AddNewsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AddNewsRequest newInstance() {
+            return new AddNewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddNewsRequest value) throws IOException {
+            writeField(out, "Body", value.Body);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+            writeField(out, "Title", value.Title);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddNewsRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                case "Title": value.Title = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddNewsResultAdapter extends PlayFabModelAdapter<AddNewsResult> {
+        AddNewsResultAdapter(Gson gson) {
+        }
+
+        protected AddNewsResult newInstance() {
+            return new AddNewsResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddNewsResult value) throws IOException {
+            writeField(out, "NewsId", value.NewsId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddNewsResult value) throws IOException {
+            switch (name) {
+                case "NewsId": value.NewsId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddPlayerTagRequestAdapter extends PlayFabModelAdapter<AddPlayerTagRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddPlayerTagRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddPlayerTagRequest newInstance() {
+            return new AddPlayerTagRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddPlayerTagRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TagName", value.TagName);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddPlayerTagRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TagName": value.TagName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddPlayerTagResultAdapter extends PlayFabModelAdapter<AddPlayerTagResult> {
+        AddPlayerTagResultAdapter(Gson gson) {
+        }
+
+        protected AddPlayerTagResult newInstance() {
+            return new AddPlayerTagResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddPlayerTagResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddPlayerTagResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddUserVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<AddUserVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddUserVirtualCurrencyRequest newInstance() {
+            return new AddUserVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddUserVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddVirtualCurrencyTypesRequestAdapter extends PlayFabModelAdapter<AddVirtualCurrencyTypesRequest> {
+        private final TypeAdapter<ArrayList<VirtualCurrencyData>> virtualCurrencyDataListAdapter;
+
+        AddVirtualCurrencyTypesRequestAdapter(Gson gson) {
+            virtualCurrencyDataListAdapter = listAdapter(gson, VirtualCurrencyData.class);
+        }
+
+        protected AddVirtualCurrencyTypesRequest newInstance() {
+            return new AddVirtualCurrencyTypesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddVirtualCurrencyTypesRequest value) throws IOException {
+            writeField(out, "VirtualCurrencies", value.VirtualCurrencies, virtualCurrencyDataListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddVirtualCurrencyTypesRequest value) throws IOException {
+            switch (name) {
+                case "VirtualCurrencies": value.VirtualCurrencies = virtualCurrencyDataListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AllPlayersSegmentFilterAdapter extends PlayFabModelAdapter<AllPlayersSegmentFilter> {
+        AllPlayersSegmentFilterAdapter(Gson gson) {
+        }
+
+        protected AllPlayersSegmentFilter newInstance() {
+            return new AllPlayersSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, AllPlayersSegmentFilter value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AllPlayersSegmentFilter value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ApiConditionAdapter extends PlayFabModelAdapter<ApiCondition> {
+        private final TypeAdapter<Conditionals> conditionalsAdapter;
+
+        ApiConditionAdapter(Gson gson) {
+            conditionalsAdapter = gson.getAdapter(Conditionals.class);
+        }
+
+        protected ApiCondition newInstance() {
+            return new ApiCondition();
+        }
+
+        protected void writeFields(JsonWriter out, ApiCondition value) throws IOException {
+            writeField(out, "HasSignatureOrEncryption", value.HasSignatureOrEncryption, conditionalsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ApiCondition value) throws IOException {
+            switch (name) {
+                case "HasSignatureOrEncryption": value.HasSignatureOrEncryption = conditionalsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanInfoAdapter extends PlayFabModelAdapter<BanInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        BanInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected BanInfo newInstance() {
+            return new BanInfo();
+        }
+
+        protected void writeFields(JsonWriter out, BanInfo value) throws IOException {
+            writeField(out, "Active", value.Active);
+            writeField(out, "BanId", value.BanId);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "IPAddress", value.IPAddress);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanInfo value) throws IOException {
+            switch (name) {
+                case "Active": value.Active = readBoolean(in); return true;
+                case "BanId": value.BanId = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "IPAddress": value.IPAddress = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanPlayerContentAdapter extends PlayFabModelAdapter<BanPlayerContent> {
+        BanPlayerContentAdapter(Gson gson) {
+        }
+
+        protected BanPlayerContent newInstance() {
+            return new BanPlayerContent();
+        }
+
+        protected void writeFields(JsonWriter out, BanPlayerContent value) throws IOException {
+            writeField(out, "BanDurationHours", value.BanDurationHours);
+            writeField(out, "BanReason", value.BanReason);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanPlayerContent value) throws IOException {
+            switch (name) {
+                case "BanDurationHours": value.BanDurationHours = readInteger(in); return true;
+                case "BanReason": value.BanReason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanPlayerSegmentActionAdapter extends PlayFabModelAdapter<BanPlayerSegmentAction> {
+        BanPlayerSegmentActionAdapter(Gson gson) {
+        }
+
+        protected BanPlayerSegmentAction newInstance() {
+            return new BanPlayerSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, BanPlayerSegmentAction value) throws IOException {
+            writeField(out, "BanHours", value.BanHours);
+            writeField(out, "ReasonForBan", value.ReasonForBan);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanPlayerSegmentAction value) throws IOException {
+            switch (name) {
+                case "BanHours": value.BanHours = readLong(in); return true;
+                case "ReasonForBan": value.ReasonForBan = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanRequestAdapter extends PlayFabModelAdapter<BanRequest> {
+        BanRequestAdapter(Gson gson) {
+        }
+
+        protected BanRequest newInstance() {
+            return new BanRequest();
+        }
+
+        protected void writeFields(JsonWriter out, BanRequest value) throws IOException {
+            writeField(out, "DurationInHours", value.DurationInHours);
+            writeField(out, "IPAddress", value.IPAddress);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanRequest value) throws IOException {
+            switch (name) {
+                case "DurationInHours": value.DurationInHours = readLong(in); return true;
+                case "IPAddress": value.IPAddress = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanUsersRequestAdapter extends PlayFabModelAdapter<BanUsersRequest> {
+        private final TypeAdapter<ArrayList<BanRequest>> banRequestListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        BanUsersRequestAdapter(Gson gson) {
+            banRequestListAdapter = listAdapter(gson, BanRequest.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected BanUsersRequest newInstance() {
+            return new BanUsersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, BanUsersRequest value) throws IOException {
+            writeField(out, "Bans", value.Bans, banRequestListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanUsersRequest value) throws IOException {
+            switch (name) {
+                case "Bans": value.Bans = banRequestListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanUsersResultAdapter extends PlayFabModelAdapter<BanUsersResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        BanUsersResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected BanUsersResult newInstance() {
+            return new BanUsersResult();
+        }
+
+        protected void writeFields(JsonWriter out, BanUsersResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanUsersResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BlankResultAdapter extends PlayFabModelAdapter<BlankResult> {
+        BlankResultAdapter(Gson gson) {
+        }
+
+        protected BlankResult newInstance() {
+            return new BlankResult();
+        }
+
+        protected void writeFields(JsonWriter out, BlankResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, BlankResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemAdapter extends PlayFabModelAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected CatalogItem newInstance() {
+            return new CatalogItem();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItem value) throws IOException {
+            writeField(out, "Bundle", value.Bundle, catalogItemBundleInfoAdapter);
+            writeField(out, "CanBecomeCharacter", value.CanBecomeCharacter);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "Consumable", value.Consumable, catalogItemConsumableInfoAdapter);
+            writeField(out, "Container", value.Container, catalogItemContainerInfoAdapter);
+            writeField(out, "CustomData", value.CustomData);
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "InitialLimitedEditionCount", value.InitialLimitedEditionCount);
+            writeField(out, "IsLimitedEdition", value.IsLimitedEdition);
+            writeField(out, "IsStackable", value.IsStackable);
+            writeField(out, "IsTradable", value.IsTradable);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemImageUrl", value.ItemImageUrl);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItem value) throws IOException {
+            switch (name) {
+                case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); return true;
+                case "CanBecomeCharacter": value.CanBecomeCharacter = readBoolean(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); return true;
+                case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); return true;
+                case "CustomData": value.CustomData = readString(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = readInteger(in); return true;
+                case "IsLimitedEdition": value.IsLimitedEdition = readBoolean(in); return true;
+                case "IsStackable": value.IsStackable = readBoolean(in); return true;
+                case "IsTradable": value.IsTradable = readBoolean(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemImageUrl": value.ItemImageUrl = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemBundleInfoAdapter extends PlayFabModelAdapter<CatalogItemBundleInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CatalogItemBundleInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CatalogItemBundleInfo newInstance() {
+            return new CatalogItemBundleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            writeField(out, "BundledItems", value.BundledItems, stringListAdapter);
+            writeField(out, "BundledResultTables", value.BundledResultTables, stringListAdapter);
+            writeField(out, "BundledVirtualCurrencies", value.BundledVirtualCurrencies, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemBundleInfo value) throws IOException {
+            switch (name) {
+                case "BundledItems": value.BundledItems = stringListAdapter.read(in); return true;
+                case "BundledResultTables": value.BundledResultTables = stringListAdapter.read(in); return true;
+                case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemConsumableInfoAdapter extends PlayFabModelAdapter<CatalogItemConsumableInfo> {
+        CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        protected CatalogItemConsumableInfo newInstance() {
+            return new CatalogItemConsumableInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            writeField(out, "UsageCount", value.UsageCount);
+            writeField(out, "UsagePeriod", value.UsagePeriod);
+            writeField(out, "UsagePeriodGroup", value.UsagePeriodGroup);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemConsumableInfo value) throws IOException {
+            switch (name) {
+                case "UsageCount": value.UsageCount = readLong(in); return true;
+                case "UsagePeriod": value.UsagePeriod = readLong(in); return true;
+                case "UsagePeriodGroup": value.UsagePeriodGroup = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemContainerInfoAdapter extends PlayFabModelAdapter<CatalogItemContainerInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CatalogItemContainerInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CatalogItemContainerInfo newInstance() {
+            return new CatalogItemContainerInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            writeField(out, "ItemContents", value.ItemContents, stringListAdapter);
+            writeField(out, "KeyItemId", value.KeyItemId);
+            writeField(out, "ResultTableContents", value.ResultTableContents, stringListAdapter);
+            writeField(out, "VirtualCurrencyContents", value.VirtualCurrencyContents, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemContainerInfo value) throws IOException {
+            switch (name) {
+                case "ItemContents": value.ItemContents = stringListAdapter.read(in); return true;
+                case "KeyItemId": value.KeyItemId = readString(in); return true;
+                case "ResultTableContents": value.ResultTableContents = stringListAdapter.read(in); return true;
+                case "VirtualCurrencyContents": value.VirtualCurrencyContents = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CheckLimitedEditionItemAvailabilityRequestAdapter extends PlayFabModelAdapter<CheckLimitedEditionItemAvailabilityRequest> {
+        CheckLimitedEditionItemAvailabilityRequestAdapter(Gson gson) {
+        }
+
+        protected CheckLimitedEditionItemAvailabilityRequest newInstance() {
+            return new CheckLimitedEditionItemAvailabilityRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CheckLimitedEditionItemAvailabilityRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "ItemId", value.ItemId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CheckLimitedEditionItemAvailabilityRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CheckLimitedEditionItemAvailabilityResultAdapter extends PlayFabModelAdapter<CheckLimitedEditionItemAvailabilityResult> {
+        CheckLimitedEditionItemAvailabilityResultAdapter(Gson gson) {
+        }
+
+        protected CheckLimitedEditionItemAvailabilityResult newInstance() {
+            return new CheckLimitedEditionItemAvailabilityResult();
+        }
+
+        protected void writeFields(JsonWriter out, CheckLimitedEditionItemAvailabilityResult value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+        }
+
+        protected boolean readField(JsonReader in, String name, CheckLimitedEditionItemAvailabilityResult value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ChurnPredictionSegmentFilterAdapter extends PlayFabModelAdapter<ChurnPredictionSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<ChurnRiskLevel> churnRiskLevelAdapter;
+
+        ChurnPredictionSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            churnRiskLevelAdapter = gson.getAdapter(ChurnRiskLevel.class);
+        }
+
+        protected ChurnPredictionSegmentFilter newInstance() {
+            return new ChurnPredictionSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, ChurnPredictionSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "RiskLevel", value.RiskLevel, churnRiskLevelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ChurnPredictionSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "RiskLevel": value.RiskLevel = churnRiskLevelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CloudScriptFileAdapter extends PlayFabModelAdapter<CloudScriptFile> {
+        CloudScriptFileAdapter(Gson gson) {
+        }
+
+        protected CloudScriptFile newInstance() {
+            return new CloudScriptFile();
+        }
+
+        protected void writeFields(JsonWriter out, CloudScriptFile value) throws IOException {
+            writeField(out, "FileContents", value.FileContents);
+            writeField(out, "Filename", value.Filename);
+        }
+
+        protected boolean readField(JsonReader in, String name, CloudScriptFile value) throws IOException {
+            switch (name) {
+                case "FileContents": value.FileContents = readString(in); return true;
+                case "Filename": value.Filename = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CloudScriptTaskParameterAdapter extends PlayFabModelAdapter<CloudScriptTaskParameter> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        CloudScriptTaskParameterAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected CloudScriptTaskParameter newInstance() {
+            return new CloudScriptTaskParameter();
+        }
+
+        protected void writeFields(JsonWriter out, CloudScriptTaskParameter value) throws IOException {
+            writeField(out, "Argument", value.Argument, objectAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CloudScriptTaskParameter value) throws IOException {
+            switch (name) {
+                case "Argument": value.Argument = objectAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CloudScriptTaskSummaryAdapter extends PlayFabModelAdapter<CloudScriptTaskSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExecuteCloudScriptResult> executeCloudScriptResultAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        CloudScriptTaskSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            executeCloudScriptResultAdapter = gson.getAdapter(ExecuteCloudScriptResult.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected CloudScriptTaskSummary newInstance() {
+            return new CloudScriptTaskSummary();
+        }
+
+        protected void writeFields(JsonWriter out, CloudScriptTaskSummary value) throws IOException {
+            writeField(out, "CompletedAt", value.CompletedAt, dateAdapter);
+            writeField(out, "EstimatedSecondsRemaining", value.EstimatedSecondsRemaining);
+            writeField(out, "PercentComplete", value.PercentComplete);
+            writeField(out, "Result", value.Result, executeCloudScriptResultAdapter);
+            writeField(out, "ScheduledByUserId", value.ScheduledByUserId);
+            writeField(out, "StartedAt", value.StartedAt, dateAdapter);
+            writeField(out, "Status", value.Status, taskInstanceStatusAdapter);
+            writeField(out, "TaskIdentifier", value.TaskIdentifier, nameIdentifierAdapter);
+            writeField(out, "TaskInstanceId", value.TaskInstanceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CloudScriptTaskSummary value) throws IOException {
+            switch (name) {
+                case "CompletedAt": value.CompletedAt = dateAdapter.read(in); return true;
+                case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = readDouble(in); return true;
+                case "PercentComplete": value.PercentComplete = readDouble(in); return true;
+                case "Result": value.Result = executeCloudScriptResultAdapter.read(in); return true;
+                case "ScheduledByUserId": value.ScheduledByUserId = readString(in); return true;
+                case "StartedAt": value.StartedAt = dateAdapter.read(in); return true;
+                case "Status": value.Status = taskInstanceStatusAdapter.read(in); return true;
+                case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); return true;
+                case "TaskInstanceId": value.TaskInstanceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CloudScriptVersionStatusAdapter extends PlayFabModelAdapter<CloudScriptVersionStatus> {
+        CloudScriptVersionStatusAdapter(Gson gson) {
+        }
+
+        protected CloudScriptVersionStatus newInstance() {
+            return new CloudScriptVersionStatus();
+        }
+
+        protected void writeFields(JsonWriter out, CloudScriptVersionStatus value) throws IOException {
+            writeField(out, "LatestRevision", value.LatestRevision);
+            writeField(out, "PublishedRevision", value.PublishedRevision);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, CloudScriptVersionStatus value) throws IOException {
+            switch (name) {
+                case "LatestRevision": value.LatestRevision = readInteger(in); return true;
+                case "PublishedRevision": value.PublishedRevision = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContactEmailInfoAdapter extends PlayFabModelAdapter<ContactEmailInfo> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        protected ContactEmailInfo newInstance() {
+            return new ContactEmailInfo();
+        }
+
+        protected void writeFields(JsonWriter out, ContactEmailInfo value) throws IOException {
+            writeField(out, "EmailAddress", value.EmailAddress);
+            writeField(out, "Name", value.Name);
+            writeField(out, "VerificationStatus", value.VerificationStatus, emailVerificationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContactEmailInfo value) throws IOException {
+            switch (name) {
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends PlayFabModelAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        protected ContactEmailInfoModel newInstance() {
+            return new ContactEmailInfoModel();
+        }
+
+        protected void writeFields(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            writeField(out, "EmailAddress", value.EmailAddress);
+            writeField(out, "Name", value.Name);
+            writeField(out, "VerificationStatus", value.VerificationStatus, emailVerificationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContactEmailInfoModel value) throws IOException {
+            switch (name) {
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContentInfoAdapter extends PlayFabModelAdapter<ContentInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        ContentInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected ContentInfo newInstance() {
+            return new ContentInfo();
+        }
+
+        protected void writeFields(JsonWriter out, ContentInfo value) throws IOException {
+            writeField(out, "Key", value.Key);
+            writeField(out, "LastModified", value.LastModified, dateAdapter);
+            writeField(out, "Size", value.Size);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContentInfo value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                case "LastModified": value.LastModified = dateAdapter.read(in); return true;
+                case "Size": value.Size = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateActionsOnPlayerSegmentTaskRequestAdapter extends PlayFabModelAdapter<CreateActionsOnPlayerSegmentTaskRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> actionsOnPlayersInSegmentTaskParameterAdapter;
+
+        CreateActionsOnPlayerSegmentTaskRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            actionsOnPlayersInSegmentTaskParameterAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskParameter.class);
+        }
+
+        protected CreateActionsOnPlayerSegmentTaskRequest newInstance() {
+            return new CreateActionsOnPlayerSegmentTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateActionsOnPlayerSegmentTaskRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Parameter", value.Parameter, actionsOnPlayersInSegmentTaskParameterAdapter);
+            writeField(out, "Schedule", value.Schedule);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateActionsOnPlayerSegmentTaskRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Parameter": value.Parameter = actionsOnPlayersInSegmentTaskParameterAdapter.read(in); return true;
+                case "Schedule": value.Schedule = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateCloudScriptTaskRequestAdapter extends PlayFabModelAdapter<CreateCloudScriptTaskRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<CloudScriptTaskParameter> cloudScriptTaskParameterAdapter;
+
+        CreateCloudScriptTaskRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            cloudScriptTaskParameterAdapter = gson.getAdapter(CloudScriptTaskParameter.class);
+        }
+
+        protected CreateCloudScriptTaskRequest newInstance() {
+            return new CreateCloudScriptTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateCloudScriptTaskRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Parameter", value.Parameter, cloudScriptTaskParameterAdapter);
+            writeField(out, "Schedule", value.Schedule);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateCloudScriptTaskRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Parameter": value.Parameter = cloudScriptTaskParameterAdapter.read(in); return true;
+                case "Schedule": value.Schedule = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateInsightsScheduledScalingTaskRequestAdapter extends PlayFabModelAdapter<CreateInsightsScheduledScalingTaskRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<InsightsScalingTaskParameter> insightsScalingTaskParameterAdapter;
+
+        CreateInsightsScheduledScalingTaskRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            insightsScalingTaskParameterAdapter = gson.getAdapter(InsightsScalingTaskParameter.class);
+        }
+
+        protected CreateInsightsScheduledScalingTaskRequest newInstance() {
+            return new CreateInsightsScheduledScalingTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateInsightsScheduledScalingTaskRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Parameter", value.Parameter, insightsScalingTaskParameterAdapter);
+            writeField(out, "Schedule", value.Schedule);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateInsightsScheduledScalingTaskRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Parameter": value.Parameter = insightsScalingTaskParameterAdapter.read(in); return true;
+                case "Schedule": value.Schedule = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateOpenIdConnectionRequestAdapter extends PlayFabModelAdapter<CreateOpenIdConnectionRequest> {
+        private final TypeAdapter<OpenIdIssuerInformation> openIdIssuerInformationAdapter;
+
+        CreateOpenIdConnectionRequestAdapter(Gson gson) {
+            openIdIssuerInformationAdapter = gson.getAdapter(OpenIdIssuerInformation.class);
+        }
+
+        protected CreateOpenIdConnectionRequest newInstance() {
+            return new CreateOpenIdConnectionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateOpenIdConnectionRequest value) throws IOException {
+            writeField(out, "ClientId", value.ClientId);
+            writeField(out, "ClientSecret", value.ClientSecret);
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "IgnoreNonce", value.IgnoreNonce);
+            writeField(out, "IssuerDiscoveryUrl", value.IssuerDiscoveryUrl);
+            writeField(out, "IssuerInformation", value.IssuerInformation, openIdIssuerInformationAdapter);
+            writeField(out, "IssuerOverride", value.IssuerOverride);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateOpenIdConnectionRequest value) throws IOException {
+            switch (name) {
+                case "ClientId": value.ClientId = readString(in); return true;
+                case "ClientSecret": value.ClientSecret = readString(in); return true;
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "IgnoreNonce": value.IgnoreNonce = readBoolean(in); return true;
+                case "IssuerDiscoveryUrl": value.IssuerDiscoveryUrl = readString(in); return true;
+                case "IssuerInformation": value.IssuerInformation = openIdIssuerInformationAdapter.read(in); return true;
+                case "IssuerOverride": value.IssuerOverride = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreatePlayerSharedSecretRequestAdapter extends PlayFabModelAdapter<CreatePlayerSharedSecretRequest> {
+        CreatePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        protected CreatePlayerSharedSecretRequest newInstance() {
+            return new CreatePlayerSharedSecretRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreatePlayerSharedSecretRequest value) throws IOException {
+            writeField(out, "FriendlyName", value.FriendlyName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreatePlayerSharedSecretRequest value) throws IOException {
+            switch (name) {
+                case "FriendlyName": value.FriendlyName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreatePlayerSharedSecretResultAdapter extends PlayFabModelAdapter<CreatePlayerSharedSecretResult> {
+        CreatePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        protected CreatePlayerSharedSecretResult newInstance() {
+            return new CreatePlayerSharedSecretResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreatePlayerSharedSecretResult value) throws IOException {
+            writeField(out, "SecretKey", value.SecretKey);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreatePlayerSharedSecretResult value) throws IOException {
+            switch (name) {
+                case "SecretKey": value.SecretKey = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreatePlayerStatisticDefinitionRequestAdapter extends PlayFabModelAdapter<CreatePlayerStatisticDefinitionRequest> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        CreatePlayerStatisticDefinitionRequestAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        protected CreatePlayerStatisticDefinitionRequest newInstance() {
+            return new CreatePlayerStatisticDefinitionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreatePlayerStatisticDefinitionRequest value) throws IOException {
+            writeField(out, "AggregationMethod", value.AggregationMethod, statisticAggregationMethodAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "VersionChangeInterval", value.VersionChangeInterval, statisticResetIntervalOptionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreatePlayerStatisticDefinitionRequest value) throws IOException {
+            switch (name) {
+                case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreatePlayerStatisticDefinitionResultAdapter extends PlayFabModelAdapter<CreatePlayerStatisticDefinitionResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        CreatePlayerStatisticDefinitionResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        protected CreatePlayerStatisticDefinitionResult newInstance() {
+            return new CreatePlayerStatisticDefinitionResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreatePlayerStatisticDefinitionResult value) throws IOException {
+            writeField(out, "Statistic", value.Statistic, playerStatisticDefinitionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreatePlayerStatisticDefinitionResult value) throws IOException {
+            switch (name) {
+                case "Statistic": value.Statistic = playerStatisticDefinitionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateSegmentRequestAdapter extends PlayFabModelAdapter<CreateSegmentRequest> {
+        private final TypeAdapter<SegmentModel> segmentModelAdapter;
+
+        CreateSegmentRequestAdapter(Gson gson) {
+            segmentModelAdapter = gson.getAdapter(SegmentModel.class);
+        }
+
+        protected CreateSegmentRequest newInstance() {
+            return new CreateSegmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateSegmentRequest value) throws IOException {
+            writeField(out, "SegmentModel", value.SegmentModel, segmentModelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateSegmentRequest value) throws IOException {
+            switch (name) {
+                case "SegmentModel": value.SegmentModel = segmentModelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateSegmentResponseAdapter extends PlayFabModelAdapter<CreateSegmentResponse> {
+        CreateSegmentResponseAdapter(Gson gson) {
+        }
+
+        protected CreateSegmentResponse newInstance() {
+            return new CreateSegmentResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateSegmentResponse value) throws IOException {
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateSegmentResponse value) throws IOException {
+            switch (name) {
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateTaskResultAdapter extends PlayFabModelAdapter<CreateTaskResult> {
+        CreateTaskResultAdapter(Gson gson) {
+        }
+
+        protected CreateTaskResult newInstance() {
+            return new CreateTaskResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateTaskResult value) throws IOException {
+            writeField(out, "TaskId", value.TaskId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateTaskResult value) throws IOException {
+            switch (name) {
+                case "TaskId": value.TaskId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteContentRequestAdapter extends PlayFabModelAdapter<DeleteContentRequest> {
+        DeleteContentRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteContentRequest newInstance() {
+            return new DeleteContentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteContentRequest value) throws IOException {
+            writeField(out, "Key", value.Key);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteContentRequest value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteInventoryItemV2ContentAdapter extends PlayFabModelAdapter<DeleteInventoryItemV2Content> {
+        DeleteInventoryItemV2ContentAdapter(Gson gson) {
+        }
+
+        protected DeleteInventoryItemV2Content newInstance() {
+            return new DeleteInventoryItemV2Content();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteInventoryItemV2Content value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "StackId", value.StackId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteInventoryItemV2Content value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteMasterPlayerAccountRequestAdapter extends PlayFabModelAdapter<DeleteMasterPlayerAccountRequest> {
+        DeleteMasterPlayerAccountRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteMasterPlayerAccountRequest newInstance() {
+            return new DeleteMasterPlayerAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteMasterPlayerAccountRequest value) throws IOException {
+            writeField(out, "MetaData", value.MetaData);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteMasterPlayerAccountRequest value) throws IOException {
+            switch (name) {
+                case "MetaData": value.MetaData = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteMasterPlayerAccountResultAdapter extends PlayFabModelAdapter<DeleteMasterPlayerAccountResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        DeleteMasterPlayerAccountResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected DeleteMasterPlayerAccountResult newInstance() {
+            return new DeleteMasterPlayerAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteMasterPlayerAccountResult value) throws IOException {
+            writeField(out, "JobReceiptId", value.JobReceiptId);
+            writeField(out, "TitleIds", value.TitleIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteMasterPlayerAccountResult value) throws IOException {
+            switch (name) {
+                case "JobReceiptId": value.JobReceiptId = readString(in); return true;
+                case "TitleIds": value.TitleIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteMasterPlayerEventDataRequestAdapter extends PlayFabModelAdapter<DeleteMasterPlayerEventDataRequest> {
+        DeleteMasterPlayerEventDataRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteMasterPlayerEventDataRequest newInstance() {
+            return new DeleteMasterPlayerEventDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteMasterPlayerEventDataRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteMasterPlayerEventDataRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteMasterPlayerEventDataResultAdapter extends PlayFabModelAdapter<DeleteMasterPlayerEventDataResult> {
+        DeleteMasterPlayerEventDataResultAdapter(Gson gson) {
+        }
+
+        protected DeleteMasterPlayerEventDataResult newInstance() {
+            return new DeleteMasterPlayerEventDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteMasterPlayerEventDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteMasterPlayerEventDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteMembershipSubscriptionRequestAdapter extends PlayFabModelAdapter<DeleteMembershipSubscriptionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteMembershipSubscriptionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteMembershipSubscriptionRequest newInstance() {
+            return new DeleteMembershipSubscriptionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteMembershipSubscriptionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MembershipId", value.MembershipId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SubscriptionId", value.SubscriptionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteMembershipSubscriptionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MembershipId": value.MembershipId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SubscriptionId": value.SubscriptionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteMembershipSubscriptionResultAdapter extends PlayFabModelAdapter<DeleteMembershipSubscriptionResult> {
+        DeleteMembershipSubscriptionResultAdapter(Gson gson) {
+        }
+
+        protected DeleteMembershipSubscriptionResult newInstance() {
+            return new DeleteMembershipSubscriptionResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteMembershipSubscriptionResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteMembershipSubscriptionResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteOpenIdConnectionRequestAdapter extends PlayFabModelAdapter<DeleteOpenIdConnectionRequest> {
+        DeleteOpenIdConnectionRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteOpenIdConnectionRequest newInstance() {
+            return new DeleteOpenIdConnectionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteOpenIdConnectionRequest value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteOpenIdConnectionRequest value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerContentAdapter extends PlayFabModelAdapter<DeletePlayerContent> {
+        DeletePlayerContentAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerContent newInstance() {
+            return new DeletePlayerContent();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerContent value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerContent value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerRequestAdapter extends PlayFabModelAdapter<DeletePlayerRequest> {
+        DeletePlayerRequestAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerRequest newInstance() {
+            return new DeletePlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerResultAdapter extends PlayFabModelAdapter<DeletePlayerResult> {
+        DeletePlayerResultAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerResult newInstance() {
+            return new DeletePlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerSegmentActionAdapter extends PlayFabModelAdapter<DeletePlayerSegmentAction> {
+        DeletePlayerSegmentActionAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerSegmentAction newInstance() {
+            return new DeletePlayerSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerSegmentAction value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerSegmentAction value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerSharedSecretRequestAdapter extends PlayFabModelAdapter<DeletePlayerSharedSecretRequest> {
+        DeletePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerSharedSecretRequest newInstance() {
+            return new DeletePlayerSharedSecretRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerSharedSecretRequest value) throws IOException {
+            writeField(out, "SecretKey", value.SecretKey);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerSharedSecretRequest value) throws IOException {
+            switch (name) {
+                case "SecretKey": value.SecretKey = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerSharedSecretResultAdapter extends PlayFabModelAdapter<DeletePlayerSharedSecretResult> {
+        DeletePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerSharedSecretResult newInstance() {
+            return new DeletePlayerSharedSecretResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerSharedSecretResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerSharedSecretResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerStatisticSegmentActionAdapter extends PlayFabModelAdapter<DeletePlayerStatisticSegmentAction> {
+        DeletePlayerStatisticSegmentActionAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerStatisticSegmentAction newInstance() {
+            return new DeletePlayerStatisticSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerStatisticSegmentAction value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerStatisticSegmentAction value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteSegmentRequestAdapter extends PlayFabModelAdapter<DeleteSegmentRequest> {
+        DeleteSegmentRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteSegmentRequest newInstance() {
+            return new DeleteSegmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteSegmentRequest value) throws IOException {
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteSegmentRequest value) throws IOException {
+            switch (name) {
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteSegmentsResponseAdapter extends PlayFabModelAdapter<DeleteSegmentsResponse> {
+        DeleteSegmentsResponseAdapter(Gson gson) {
+        }
+
+        protected DeleteSegmentsResponse newInstance() {
+            return new DeleteSegmentsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteSegmentsResponse value) throws IOException {
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteSegmentsResponse value) throws IOException {
+            switch (name) {
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteStoreRequestAdapter extends PlayFabModelAdapter<DeleteStoreRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteStoreRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteStoreRequest newInstance() {
+            return new DeleteStoreRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteStoreRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteStoreRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteStoreResultAdapter extends PlayFabModelAdapter<DeleteStoreResult> {
+        DeleteStoreResultAdapter(Gson gson) {
+        }
+
+        protected DeleteStoreResult newInstance() {
+            return new DeleteStoreResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteStoreResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteStoreResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTaskRequestAdapter extends PlayFabModelAdapter<DeleteTaskRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        DeleteTaskRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected DeleteTaskRequest newInstance() {
+            return new DeleteTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTaskRequest value) throws IOException {
+            writeField(out, "Identifier", value.Identifier, nameIdentifierAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTaskRequest value) throws IOException {
+            switch (name) {
+                case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTitleDataOverrideRequestAdapter extends PlayFabModelAdapter<DeleteTitleDataOverrideRequest> {
+        DeleteTitleDataOverrideRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteTitleDataOverrideRequest newInstance() {
+            return new DeleteTitleDataOverrideRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTitleDataOverrideRequest value) throws IOException {
+            writeField(out, "OverrideLabel", value.OverrideLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTitleDataOverrideRequest value) throws IOException {
+            switch (name) {
+                case "OverrideLabel": value.OverrideLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTitleDataOverrideResultAdapter extends PlayFabModelAdapter<DeleteTitleDataOverrideResult> {
+        DeleteTitleDataOverrideResultAdapter(Gson gson) {
+        }
+
+        protected DeleteTitleDataOverrideResult newInstance() {
+            return new DeleteTitleDataOverrideResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTitleDataOverrideResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTitleDataOverrideResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTitleRequestAdapter extends PlayFabModelAdapter<DeleteTitleRequest> {
+        DeleteTitleRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteTitleRequest newInstance() {
+            return new DeleteTitleRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTitleRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTitleRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTitleResultAdapter extends PlayFabModelAdapter<DeleteTitleResult> {
+        DeleteTitleResultAdapter(Gson gson) {
+        }
+
+        protected DeleteTitleResult newInstance() {
+            return new DeleteTitleResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTitleResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTitleResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmailNotificationSegmentActionAdapter extends PlayFabModelAdapter<EmailNotificationSegmentAction> {
+        EmailNotificationSegmentActionAdapter(Gson gson) {
+        }
+
+        protected EmailNotificationSegmentAction newInstance() {
+            return new EmailNotificationSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, EmailNotificationSegmentAction value) throws IOException {
+            writeField(out, "EmailTemplateId", value.EmailTemplateId);
+            writeField(out, "EmailTemplateName", value.EmailTemplateName);
+        }
+
+        protected boolean readField(JsonReader in, String name, EmailNotificationSegmentAction value) throws IOException {
+            switch (name) {
+                case "EmailTemplateId": value.EmailTemplateId = readString(in); return true;
+                case "EmailTemplateName": value.EmailTemplateName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteAzureFunctionSegmentActionAdapter extends PlayFabModelAdapter<ExecuteAzureFunctionSegmentAction> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        ExecuteAzureFunctionSegmentActionAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected ExecuteAzureFunctionSegmentAction newInstance() {
+            return new ExecuteAzureFunctionSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteAzureFunctionSegmentAction value) throws IOException {
+            writeField(out, "AzureFunction", value.AzureFunction);
+            writeField(out, "FunctionParameter", value.FunctionParameter, objectAdapter);
+            writeField(out, "GenerateFunctionExecutedEvents", value.GenerateFunctionExecutedEvents);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteAzureFunctionSegmentAction value) throws IOException {
+            switch (name) {
+                case "AzureFunction": value.AzureFunction = readString(in); return true;
+                case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); return true;
+                case "GenerateFunctionExecutedEvents": value.GenerateFunctionExecutedEvents = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptContentAdapter extends PlayFabModelAdapter<ExecuteCloudScriptContent> {
+        ExecuteCloudScriptContentAdapter(Gson gson) {
+        }
+
+        protected ExecuteCloudScriptContent newInstance() {
+            return new ExecuteCloudScriptContent();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptContent value) throws IOException {
+            writeField(out, "CloudScriptMethodArguments", value.CloudScriptMethodArguments);
+            writeField(out, "CloudScriptMethodName", value.CloudScriptMethodName);
+            writeField(out, "PublishResultsToPlayStream", value.PublishResultsToPlayStream);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptContent value) throws IOException {
+            switch (name) {
+                case "CloudScriptMethodArguments": value.CloudScriptMethodArguments = readString(in); return true;
+                case "CloudScriptMethodName": value.CloudScriptMethodName = readString(in); return true;
+                case "PublishResultsToPlayStream": value.PublishResultsToPlayStream = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends PlayFabModelAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ArrayList<LogStatement>> logStatementListAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementListAdapter = listAdapter(gson, LogStatement.class);
+        }
+
+        protected ExecuteCloudScriptResult newInstance() {
+            return new ExecuteCloudScriptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            writeField(out, "APIRequestsIssued", value.APIRequestsIssued);
+            writeField(out, "Error", value.Error, scriptExecutionErrorAdapter);
+            writeField(out, "ExecutionTimeSeconds", value.ExecutionTimeSeconds);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionResult", value.FunctionResult, objectAdapter);
+            writeField(out, "FunctionResultTooLarge", value.FunctionResultTooLarge);
+            writeField(out, "HttpRequestsIssued", value.HttpRequestsIssued);
+            writeField(out, "Logs", value.Logs, logStatementListAdapter);
+            writeField(out, "LogsTooLarge", value.LogsTooLarge);
+            writeField(out, "MemoryConsumedBytes", value.MemoryConsumedBytes);
+            writeField(out, "ProcessorTimeSeconds", value.ProcessorTimeSeconds);
+            writeField(out, "Revision", value.Revision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptResult value) throws IOException {
+            switch (name) {
+                case "APIRequestsIssued": value.APIRequestsIssued = readInteger(in); return true;
+                case "Error": value.Error = scriptExecutionErrorAdapter.read(in); return true;
+                case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = readDouble(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionResult": value.FunctionResult = objectAdapter.read(in); return true;
+                case "FunctionResultTooLarge": value.FunctionResultTooLarge = readBoolean(in); return true;
+                case "HttpRequestsIssued": value.HttpRequestsIssued = readInteger(in); return true;
+                case "Logs": value.Logs = logStatementListAdapter.read(in); return true;
+                case "LogsTooLarge": value.LogsTooLarge = readBoolean(in); return true;
+                case "MemoryConsumedBytes": value.MemoryConsumedBytes = readLong(in); return true;
+                case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = readDouble(in); return true;
+                case "Revision": value.Revision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptSegmentActionAdapter extends PlayFabModelAdapter<ExecuteCloudScriptSegmentAction> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        ExecuteCloudScriptSegmentActionAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected ExecuteCloudScriptSegmentAction newInstance() {
+            return new ExecuteCloudScriptSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptSegmentAction value) throws IOException {
+            writeField(out, "CloudScriptFunction", value.CloudScriptFunction);
+            writeField(out, "CloudScriptPublishResultsToPlayStream", value.CloudScriptPublishResultsToPlayStream);
+            writeField(out, "FunctionParameter", value.FunctionParameter, objectAdapter);
+            writeField(out, "FunctionParameterJson", value.FunctionParameterJson);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptSegmentAction value) throws IOException {
+            switch (name) {
+                case "CloudScriptFunction": value.CloudScriptFunction = readString(in); return true;
+                case "CloudScriptPublishResultsToPlayStream": value.CloudScriptPublishResultsToPlayStream = readBoolean(in); return true;
+                case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); return true;
+                case "FunctionParameterJson": value.FunctionParameterJson = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteFunctionContentAdapter extends PlayFabModelAdapter<ExecuteFunctionContent> {
+        ExecuteFunctionContentAdapter(Gson gson) {
+        }
+
+        protected ExecuteFunctionContent newInstance() {
+            return new ExecuteFunctionContent();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteFunctionContent value) throws IOException {
+            writeField(out, "CloudScriptFunctionArguments", value.CloudScriptFunctionArguments);
+            writeField(out, "CloudScriptFunctionName", value.CloudScriptFunctionName);
+            writeField(out, "PublishResultsToPlayStream", value.PublishResultsToPlayStream);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteFunctionContent value) throws IOException {
+            switch (name) {
+                case "CloudScriptFunctionArguments": value.CloudScriptFunctionArguments = readString(in); return true;
+                case "CloudScriptFunctionName": value.CloudScriptFunctionName = readString(in); return true;
+                case "PublishResultsToPlayStream": value.PublishResultsToPlayStream = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExportMasterPlayerDataRequestAdapter extends PlayFabModelAdapter<ExportMasterPlayerDataRequest> {
+        ExportMasterPlayerDataRequestAdapter(Gson gson) {
+        }
+
+        protected ExportMasterPlayerDataRequest newInstance() {
+            return new ExportMasterPlayerDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExportMasterPlayerDataRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExportMasterPlayerDataRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExportMasterPlayerDataResultAdapter extends PlayFabModelAdapter<ExportMasterPlayerDataResult> {
+        ExportMasterPlayerDataResultAdapter(Gson gson) {
+        }
+
+        protected ExportMasterPlayerDataResult newInstance() {
+            return new ExportMasterPlayerDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExportMasterPlayerDataResult value) throws IOException {
+            writeField(out, "JobReceiptId", value.JobReceiptId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExportMasterPlayerDataResult value) throws IOException {
+            switch (name) {
+                case "JobReceiptId": value.JobReceiptId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExportPlayersInSegmentRequestAdapter extends PlayFabModelAdapter<ExportPlayersInSegmentRequest> {
+        ExportPlayersInSegmentRequestAdapter(Gson gson) {
+        }
+
+        protected ExportPlayersInSegmentRequest newInstance() {
+            return new ExportPlayersInSegmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExportPlayersInSegmentRequest value) throws IOException {
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExportPlayersInSegmentRequest value) throws IOException {
+            switch (name) {
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExportPlayersInSegmentResultAdapter extends PlayFabModelAdapter<ExportPlayersInSegmentResult> {
+        ExportPlayersInSegmentResultAdapter(Gson gson) {
+        }
+
+        protected ExportPlayersInSegmentResult newInstance() {
+            return new ExportPlayersInSegmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExportPlayersInSegmentResult value) throws IOException {
+            writeField(out, "ExportId", value.ExportId);
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExportPlayersInSegmentResult value) throws IOException {
+            switch (name) {
+                case "ExportId": value.ExportId = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FirstLoginDateSegmentFilterAdapter extends PlayFabModelAdapter<FirstLoginDateSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        FirstLoginDateSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected FirstLoginDateSegmentFilter newInstance() {
+            return new FirstLoginDateSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, FirstLoginDateSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "LogInDate", value.LogInDate, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FirstLoginDateSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "LogInDate": value.LogInDate = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FirstLoginTimespanSegmentFilterAdapter extends PlayFabModelAdapter<FirstLoginTimespanSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        FirstLoginTimespanSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected FirstLoginTimespanSegmentFilter newInstance() {
+            return new FirstLoginTimespanSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, FirstLoginTimespanSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "DurationInMinutes", value.DurationInMinutes);
+        }
+
+        protected boolean readField(JsonReader in, String name, FirstLoginTimespanSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "DurationInMinutes": value.DurationInMinutes = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetActionsOnPlayersInSegmentTaskInstanceResultAdapter extends PlayFabModelAdapter<GetActionsOnPlayersInSegmentTaskInstanceResult> {
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> actionsOnPlayersInSegmentTaskParameterAdapter;
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskSummary> actionsOnPlayersInSegmentTaskSummaryAdapter;
+
+        GetActionsOnPlayersInSegmentTaskInstanceResultAdapter(Gson gson) {
+            actionsOnPlayersInSegmentTaskParameterAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskParameter.class);
+            actionsOnPlayersInSegmentTaskSummaryAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskSummary.class);
+        }
+
+        protected GetActionsOnPlayersInSegmentTaskInstanceResult newInstance() {
+            return new GetActionsOnPlayersInSegmentTaskInstanceResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetActionsOnPlayersInSegmentTaskInstanceResult value) throws IOException {
+            writeField(out, "Parameter", value.Parameter, actionsOnPlayersInSegmentTaskParameterAdapter);
+            writeField(out, "Summary", value.Summary, actionsOnPlayersInSegmentTaskSummaryAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetActionsOnPlayersInSegmentTaskInstanceResult value) throws IOException {
+            switch (name) {
+                case "Parameter": value.Parameter = actionsOnPlayersInSegmentTaskParameterAdapter.read(in); return true;
+                case "Summary": value.Summary = actionsOnPlayersInSegmentTaskSummaryAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAllSegmentsRequestAdapter extends PlayFabModelAdapter<GetAllSegmentsRequest> {
+        GetAllSegmentsRequestAdapter(Gson gson) {
+        }
+
+        protected GetAllSegmentsRequest newInstance() {
+            return new GetAllSegmentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetAllSegmentsRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAllSegmentsRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAllSegmentsResultAdapter extends PlayFabModelAdapter<GetAllSegmentsResult> {
+        private final TypeAdapter<ArrayList<GetSegmentResult>> getSegmentResultListAdapter;
+
+        GetAllSegmentsResultAdapter(Gson gson) {
+            getSegmentResultListAdapter = listAdapter(gson, GetSegmentResult.class);
+        }
+
+        protected GetAllSegmentsResult newInstance() {
+            return new GetAllSegmentsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetAllSegmentsResult value) throws IOException {
+            writeField(out, "Segments", value.Segments, getSegmentResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAllSegmentsResult value) throws IOException {
+            switch (name) {
+                case "Segments": value.Segments = getSegmentResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogItemsRequestAdapter extends PlayFabModelAdapter<GetCatalogItemsRequest> {
+        GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        protected GetCatalogItemsRequest newInstance() {
+            return new GetCatalogItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogItemsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogItemsResultAdapter extends PlayFabModelAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetCatalogItemsResult newInstance() {
+            return new GetCatalogItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            writeField(out, "Catalog", value.Catalog, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogItemsResult value) throws IOException {
+            switch (name) {
+                case "Catalog": value.Catalog = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCloudScriptRevisionRequestAdapter extends PlayFabModelAdapter<GetCloudScriptRevisionRequest> {
+        GetCloudScriptRevisionRequestAdapter(Gson gson) {
+        }
+
+        protected GetCloudScriptRevisionRequest newInstance() {
+            return new GetCloudScriptRevisionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCloudScriptRevisionRequest value) throws IOException {
+            writeField(out, "Revision", value.Revision);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCloudScriptRevisionRequest value) throws IOException {
+            switch (name) {
+                case "Revision": value.Revision = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCloudScriptRevisionResultAdapter extends PlayFabModelAdapter<GetCloudScriptRevisionResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<CloudScriptFile>> cloudScriptFileListAdapter;
+
+        GetCloudScriptRevisionResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            cloudScriptFileListAdapter = listAdapter(gson, CloudScriptFile.class);
+        }
+
+        protected GetCloudScriptRevisionResult newInstance() {
+            return new GetCloudScriptRevisionResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCloudScriptRevisionResult value) throws IOException {
+            writeField(out, "CreatedAt", value.CreatedAt, dateAdapter);
+            writeField(out, "Files", value.Files, cloudScriptFileListAdapter);
+            writeField(out, "IsPublished", value.IsPublished);
+            writeField(out, "Revision", value.Revision);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCloudScriptRevisionResult value) throws IOException {
+            switch (name) {
+                case "CreatedAt": value.CreatedAt = dateAdapter.read(in); return true;
+                case "Files": value.Files = cloudScriptFileListAdapter.read(in); return true;
+                case "IsPublished": value.IsPublished = readBoolean(in); return true;
+                case "Revision": value.Revision = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCloudScriptTaskInstanceResultAdapter extends PlayFabModelAdapter<GetCloudScriptTaskInstanceResult> {
+        private final TypeAdapter<CloudScriptTaskParameter> cloudScriptTaskParameterAdapter;
+        private final TypeAdapter<CloudScriptTaskSummary> cloudScriptTaskSummaryAdapter;
+
+        GetCloudScriptTaskInstanceResultAdapter(Gson gson) {
+            cloudScriptTaskParameterAdapter = gson.getAdapter(CloudScriptTaskParameter.class);
+            cloudScriptTaskSummaryAdapter = gson.getAdapter(CloudScriptTaskSummary.class);
+        }
+
+        protected GetCloudScriptTaskInstanceResult newInstance() {
+            return new GetCloudScriptTaskInstanceResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCloudScriptTaskInstanceResult value) throws IOException {
+            writeField(out, "Parameter", value.Parameter, cloudScriptTaskParameterAdapter);
+            writeField(out, "Summary", value.Summary, cloudScriptTaskSummaryAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCloudScriptTaskInstanceResult value) throws IOException {
+            switch (name) {
+                case "Parameter": value.Parameter = cloudScriptTaskParameterAdapter.read(in); return true;
+                case "Summary": value.Summary = cloudScriptTaskSummaryAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCloudScriptVersionsRequestAdapter extends PlayFabModelAdapter<GetCloudScriptVersionsRequest> {
+        GetCloudScriptVersionsRequestAdapter(Gson gson) {
+        }
+
+        protected GetCloudScriptVersionsRequest newInstance() {
+            return new GetCloudScriptVersionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCloudScriptVersionsRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCloudScriptVersionsRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCloudScriptVersionsResultAdapter extends PlayFabModelAdapter<GetCloudScriptVersionsResult> {
+        private final TypeAdapter<ArrayList<CloudScriptVersionStatus>> cloudScriptVersionStatusListAdapter;
+
+        GetCloudScriptVersionsResultAdapter(Gson gson) {
+            cloudScriptVersionStatusListAdapter = listAdapter(gson, CloudScriptVersionStatus.class);
+        }
+
+        protected GetCloudScriptVersionsResult newInstance() {
+            return new GetCloudScriptVersionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCloudScriptVersionsResult value) throws IOException {
+            writeField(out, "Versions", value.Versions, cloudScriptVersionStatusListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCloudScriptVersionsResult value) throws IOException {
+            switch (name) {
+                case "Versions": value.Versions = cloudScriptVersionStatusListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentListRequestAdapter extends PlayFabModelAdapter<GetContentListRequest> {
+        GetContentListRequestAdapter(Gson gson) {
+        }
+
+        protected GetContentListRequest newInstance() {
+            return new GetContentListRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentListRequest value) throws IOException {
+            writeField(out, "Prefix", value.Prefix);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentListRequest value) throws IOException {
+            switch (name) {
+                case "Prefix": value.Prefix = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentListResultAdapter extends PlayFabModelAdapter<GetContentListResult> {
+        private final TypeAdapter<ArrayList<ContentInfo>> contentInfoListAdapter;
+
+        GetContentListResultAdapter(Gson gson) {
+            contentInfoListAdapter = listAdapter(gson, ContentInfo.class);
+        }
+
+        protected GetContentListResult newInstance() {
+            return new GetContentListResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentListResult value) throws IOException {
+            writeField(out, "Contents", value.Contents, contentInfoListAdapter);
+            writeField(out, "ItemCount", value.ItemCount);
+            writeField(out, "TotalSize", value.TotalSize);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentListResult value) throws IOException {
+            switch (name) {
+                case "Contents": value.Contents = contentInfoListAdapter.read(in); return true;
+                case "ItemCount": value.ItemCount = readInteger(in); return true;
+                case "TotalSize": value.TotalSize = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentUploadUrlRequestAdapter extends PlayFabModelAdapter<GetContentUploadUrlRequest> {
+        GetContentUploadUrlRequestAdapter(Gson gson) {
+        }
+
+        protected GetContentUploadUrlRequest newInstance() {
+            return new GetContentUploadUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentUploadUrlRequest value) throws IOException {
+            writeField(out, "ContentType", value.ContentType);
+            writeField(out, "Key", value.Key);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentUploadUrlRequest value) throws IOException {
+            switch (name) {
+                case "ContentType": value.ContentType = readString(in); return true;
+                case "Key": value.Key = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentUploadUrlResultAdapter extends PlayFabModelAdapter<GetContentUploadUrlResult> {
+        GetContentUploadUrlResultAdapter(Gson gson) {
+        }
+
+        protected GetContentUploadUrlResult newInstance() {
+            return new GetContentUploadUrlResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentUploadUrlResult value) throws IOException {
+            writeField(out, "URL", value.URL);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentUploadUrlResult value) throws IOException {
+            switch (name) {
+                case "URL": value.URL = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetDataReportRequestAdapter extends PlayFabModelAdapter<GetDataReportRequest> {
+        GetDataReportRequestAdapter(Gson gson) {
+        }
+
+        protected GetDataReportRequest newInstance() {
+            return new GetDataReportRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetDataReportRequest value) throws IOException {
+            writeField(out, "Day", value.Day);
+            writeField(out, "Month", value.Month);
+            writeField(out, "ReportName", value.ReportName);
+            writeField(out, "Year", value.Year);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetDataReportRequest value) throws IOException {
+            switch (name) {
+                case "Day": value.Day = readInteger(in); return true;
+                case "Month": value.Month = readInteger(in); return true;
+                case "ReportName": value.ReportName = readString(in); return true;
+                case "Year": value.Year = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetDataReportResultAdapter extends PlayFabModelAdapter<GetDataReportResult> {
+        GetDataReportResultAdapter(Gson gson) {
+        }
+
+        protected GetDataReportResult newInstance() {
+            return new GetDataReportResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetDataReportResult value) throws IOException {
+            writeField(out, "DownloadUrl", value.DownloadUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetDataReportResult value) throws IOException {
+            switch (name) {
+                case "DownloadUrl": value.DownloadUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayedTitleListRequestAdapter extends PlayFabModelAdapter<GetPlayedTitleListRequest> {
+        GetPlayedTitleListRequestAdapter(Gson gson) {
+        }
+
+        protected GetPlayedTitleListRequest newInstance() {
+            return new GetPlayedTitleListRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayedTitleListRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayedTitleListRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayedTitleListResultAdapter extends PlayFabModelAdapter<GetPlayedTitleListResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayedTitleListResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayedTitleListResult newInstance() {
+            return new GetPlayedTitleListResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayedTitleListResult value) throws IOException {
+            writeField(out, "TitleIds", value.TitleIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayedTitleListResult value) throws IOException {
+            switch (name) {
+                case "TitleIds": value.TitleIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerIdFromAuthTokenRequestAdapter extends PlayFabModelAdapter<GetPlayerIdFromAuthTokenRequest> {
+        private final TypeAdapter<AuthTokenType> authTokenTypeAdapter;
+
+        GetPlayerIdFromAuthTokenRequestAdapter(Gson gson) {
+            authTokenTypeAdapter = gson.getAdapter(AuthTokenType.class);
+        }
+
+        protected GetPlayerIdFromAuthTokenRequest newInstance() {
+            return new GetPlayerIdFromAuthTokenRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerIdFromAuthTokenRequest value) throws IOException {
+            writeField(out, "Token", value.Token);
+            writeField(out, "TokenType", value.TokenType, authTokenTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerIdFromAuthTokenRequest value) throws IOException {
+            switch (name) {
+                case "Token": value.Token = readString(in); return true;
+                case "TokenType": value.TokenType = authTokenTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerIdFromAuthTokenResultAdapter extends PlayFabModelAdapter<GetPlayerIdFromAuthTokenResult> {
+        GetPlayerIdFromAuthTokenResultAdapter(Gson gson) {
+        }
+
+        protected GetPlayerIdFromAuthTokenResult newInstance() {
+            return new GetPlayerIdFromAuthTokenResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerIdFromAuthTokenResult value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerIdFromAuthTokenResult value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerProfileRequestAdapter extends PlayFabModelAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerProfileRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetPlayerProfileRequest newInstance() {
+            return new GetPlayerProfileRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerProfileRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerProfileResultAdapter extends PlayFabModelAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        protected GetPlayerProfileResult newInstance() {
+            return new GetPlayerProfileResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            writeField(out, "PlayerProfile", value.PlayerProfile, playerProfileModelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerProfileResult value) throws IOException {
+            switch (name) {
+                case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerSegmentsResultAdapter extends PlayFabModelAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<ArrayList<GetSegmentResult>> getSegmentResultListAdapter;
+
+        GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultListAdapter = listAdapter(gson, GetSegmentResult.class);
+        }
+
+        protected GetPlayerSegmentsResult newInstance() {
+            return new GetPlayerSegmentsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            writeField(out, "Segments", value.Segments, getSegmentResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerSegmentsResult value) throws IOException {
+            switch (name) {
+                case "Segments": value.Segments = getSegmentResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerSharedSecretsRequestAdapter extends PlayFabModelAdapter<GetPlayerSharedSecretsRequest> {
+        GetPlayerSharedSecretsRequestAdapter(Gson gson) {
+        }
+
+        protected GetPlayerSharedSecretsRequest newInstance() {
+            return new GetPlayerSharedSecretsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerSharedSecretsRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerSharedSecretsRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerSharedSecretsResultAdapter extends PlayFabModelAdapter<GetPlayerSharedSecretsResult> {
+        private final TypeAdapter<ArrayList<SharedSecret>> sharedSecretListAdapter;
+
+        GetPlayerSharedSecretsResultAdapter(Gson gson) {
+            sharedSecretListAdapter = listAdapter(gson, SharedSecret.class);
+        }
+
+        protected GetPlayerSharedSecretsResult newInstance() {
+            return new GetPlayerSharedSecretsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerSharedSecretsResult value) throws IOException {
+            writeField(out, "SharedSecrets", value.SharedSecrets, sharedSecretListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerSharedSecretsResult value) throws IOException {
+            switch (name) {
+                case "SharedSecrets": value.SharedSecrets = sharedSecretListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersInSegmentExportRequestAdapter extends PlayFabModelAdapter<GetPlayersInSegmentExportRequest> {
+        GetPlayersInSegmentExportRequestAdapter(Gson gson) {
+        }
+
+        protected GetPlayersInSegmentExportRequest newInstance() {
+            return new GetPlayersInSegmentExportRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersInSegmentExportRequest value) throws IOException {
+            writeField(out, "ExportId", value.ExportId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersInSegmentExportRequest value) throws IOException {
+            switch (name) {
+                case "ExportId": value.ExportId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersInSegmentExportResponseAdapter extends PlayFabModelAdapter<GetPlayersInSegmentExportResponse> {
+        GetPlayersInSegmentExportResponseAdapter(Gson gson) {
+        }
+
+        protected GetPlayersInSegmentExportResponse newInstance() {
+            return new GetPlayersInSegmentExportResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersInSegmentExportResponse value) throws IOException {
+            writeField(out, "IndexUrl", value.IndexUrl);
+            writeField(out, "State", value.State);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersInSegmentExportResponse value) throws IOException {
+            switch (name) {
+                case "IndexUrl": value.IndexUrl = readString(in); return true;
+                case "State": value.State = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersInSegmentRequestAdapter extends PlayFabModelAdapter<GetPlayersInSegmentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayersInSegmentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayersInSegmentRequest newInstance() {
+            return new GetPlayersInSegmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersInSegmentRequest value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GetProfilesAsync", value.GetProfilesAsync);
+            writeField(out, "MaxBatchSize", value.MaxBatchSize);
+            writeField(out, "SecondsToLive", value.SecondsToLive);
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersInSegmentRequest value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GetProfilesAsync": value.GetProfilesAsync = readBoolean(in); return true;
+                case "MaxBatchSize": value.MaxBatchSize = readLong(in); return true;
+                case "SecondsToLive": value.SecondsToLive = readLong(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersInSegmentResultAdapter extends PlayFabModelAdapter<GetPlayersInSegmentResult> {
+        private final TypeAdapter<ArrayList<PlayerProfile>> playerProfileListAdapter;
+
+        GetPlayersInSegmentResultAdapter(Gson gson) {
+            playerProfileListAdapter = listAdapter(gson, PlayerProfile.class);
+        }
+
+        protected GetPlayersInSegmentResult newInstance() {
+            return new GetPlayersInSegmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersInSegmentResult value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "PlayerProfiles", value.PlayerProfiles, playerProfileListAdapter);
+            writeField(out, "ProfilesInSegment", value.ProfilesInSegment);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersInSegmentResult value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "PlayerProfiles": value.PlayerProfiles = playerProfileListAdapter.read(in); return true;
+                case "ProfilesInSegment": value.ProfilesInSegment = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersSegmentsRequestAdapter extends PlayFabModelAdapter<GetPlayersSegmentsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayersSegmentsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayersSegmentsRequest newInstance() {
+            return new GetPlayersSegmentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersSegmentsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersSegmentsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticDefinitionsRequestAdapter extends PlayFabModelAdapter<GetPlayerStatisticDefinitionsRequest> {
+        GetPlayerStatisticDefinitionsRequestAdapter(Gson gson) {
+        }
+
+        protected GetPlayerStatisticDefinitionsRequest newInstance() {
+            return new GetPlayerStatisticDefinitionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticDefinitionsRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticDefinitionsRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticDefinitionsResultAdapter extends PlayFabModelAdapter<GetPlayerStatisticDefinitionsResult> {
+        private final TypeAdapter<ArrayList<PlayerStatisticDefinition>> playerStatisticDefinitionListAdapter;
+
+        GetPlayerStatisticDefinitionsResultAdapter(Gson gson) {
+            playerStatisticDefinitionListAdapter = listAdapter(gson, PlayerStatisticDefinition.class);
+        }
+
+        protected GetPlayerStatisticDefinitionsResult newInstance() {
+            return new GetPlayerStatisticDefinitionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticDefinitionsResult value) throws IOException {
+            writeField(out, "Statistics", value.Statistics, playerStatisticDefinitionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticDefinitionsResult value) throws IOException {
+            switch (name) {
+                case "Statistics": value.Statistics = playerStatisticDefinitionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsRequestAdapter extends PlayFabModelAdapter<GetPlayerStatisticVersionsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayerStatisticVersionsRequest newInstance() {
+            return new GetPlayerStatisticVersionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticVersionsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsResultAdapter extends PlayFabModelAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<ArrayList<PlayerStatisticVersion>> playerStatisticVersionListAdapter;
+
+        GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionListAdapter = listAdapter(gson, PlayerStatisticVersion.class);
+        }
+
+        protected GetPlayerStatisticVersionsResult newInstance() {
+            return new GetPlayerStatisticVersionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            writeField(out, "StatisticVersions", value.StatisticVersions, playerStatisticVersionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticVersionsResult value) throws IOException {
+            switch (name) {
+                case "StatisticVersions": value.StatisticVersions = playerStatisticVersionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTagsRequestAdapter extends PlayFabModelAdapter<GetPlayerTagsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayerTagsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayerTagsRequest newInstance() {
+            return new GetPlayerTagsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Namespace", value.Namespace);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTagsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Namespace": value.Namespace = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTagsResultAdapter extends PlayFabModelAdapter<GetPlayerTagsResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayerTagsResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayerTagsResult newInstance() {
+            return new GetPlayerTagsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTagsResult value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPolicyRequestAdapter extends PlayFabModelAdapter<GetPolicyRequest> {
+        GetPolicyRequestAdapter(Gson gson) {
+        }
+
+        protected GetPolicyRequest newInstance() {
+            return new GetPolicyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPolicyRequest value) throws IOException {
+            writeField(out, "PolicyName", value.PolicyName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPolicyRequest value) throws IOException {
+            switch (name) {
+                case "PolicyName": value.PolicyName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPolicyResponseAdapter extends PlayFabModelAdapter<GetPolicyResponse> {
+        private final TypeAdapter<ArrayList<PermissionStatement>> permissionStatementListAdapter;
+
+        GetPolicyResponseAdapter(Gson gson) {
+            permissionStatementListAdapter = listAdapter(gson, PermissionStatement.class);
+        }
+
+        protected GetPolicyResponse newInstance() {
+            return new GetPolicyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetPolicyResponse value) throws IOException {
+            writeField(out, "PolicyName", value.PolicyName);
+            writeField(out, "PolicyVersion", value.PolicyVersion);
+            writeField(out, "Statements", value.Statements, permissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPolicyResponse value) throws IOException {
+            switch (name) {
+                case "PolicyName": value.PolicyName = readString(in); return true;
+                case "PolicyVersion": value.PolicyVersion = readInteger(in); return true;
+                case "Statements": value.Statements = permissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPublisherDataRequestAdapter extends PlayFabModelAdapter<GetPublisherDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPublisherDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPublisherDataRequest newInstance() {
+            return new GetPublisherDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPublisherDataRequest value) throws IOException {
+            switch (name) {
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPublisherDataResultAdapter extends PlayFabModelAdapter<GetPublisherDataResult> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPublisherDataResultAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPublisherDataResult newInstance() {
+            return new GetPublisherDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPublisherDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetRandomResultTablesRequestAdapter extends PlayFabModelAdapter<GetRandomResultTablesRequest> {
+        GetRandomResultTablesRequestAdapter(Gson gson) {
+        }
+
+        protected GetRandomResultTablesRequest newInstance() {
+            return new GetRandomResultTablesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetRandomResultTablesRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetRandomResultTablesRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetRandomResultTablesResultAdapter extends PlayFabModelAdapter<GetRandomResultTablesResult> {
+        private final TypeAdapter<Map<String, RandomResultTableListing>> randomResultTableListingMapAdapter;
+
+        GetRandomResultTablesResultAdapter(Gson gson) {
+            randomResultTableListingMapAdapter = mapAdapter(gson, RandomResultTableListing.class);
+        }
+
+        protected GetRandomResultTablesResult newInstance() {
+            return new GetRandomResultTablesResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetRandomResultTablesResult value) throws IOException {
+            writeField(out, "Tables", value.Tables, randomResultTableListingMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetRandomResultTablesResult value) throws IOException {
+            switch (name) {
+                case "Tables": value.Tables = randomResultTableListingMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSegmentResultAdapter extends PlayFabModelAdapter<GetSegmentResult> {
+        GetSegmentResultAdapter(Gson gson) {
+        }
+
+        protected GetSegmentResult newInstance() {
+            return new GetSegmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetSegmentResult value) throws IOException {
+            writeField(out, "ABTestParent", value.ABTestParent);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSegmentResult value) throws IOException {
+            switch (name) {
+                case "ABTestParent": value.ABTestParent = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSegmentsRequestAdapter extends PlayFabModelAdapter<GetSegmentsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetSegmentsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetSegmentsRequest newInstance() {
+            return new GetSegmentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetSegmentsRequest value) throws IOException {
+            writeField(out, "SegmentIds", value.SegmentIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSegmentsRequest value) throws IOException {
+            switch (name) {
+                case "SegmentIds": value.SegmentIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSegmentsResponseAdapter extends PlayFabModelAdapter<GetSegmentsResponse> {
+        private final TypeAdapter<ArrayList<SegmentModel>> segmentModelListAdapter;
+
+        GetSegmentsResponseAdapter(Gson gson) {
+            segmentModelListAdapter = listAdapter(gson, SegmentModel.class);
+        }
+
+        protected GetSegmentsResponse newInstance() {
+            return new GetSegmentsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetSegmentsResponse value) throws IOException {
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+            writeField(out, "Segments", value.Segments, segmentModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSegmentsResponse value) throws IOException {
+            switch (name) {
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                case "Segments": value.Segments = segmentModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetStoreItemsRequestAdapter extends PlayFabModelAdapter<GetStoreItemsRequest> {
+        GetStoreItemsRequestAdapter(Gson gson) {
+        }
+
+        protected GetStoreItemsRequest newInstance() {
+            return new GetStoreItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetStoreItemsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetStoreItemsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetStoreItemsResultAdapter extends PlayFabModelAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<ArrayList<StoreItem>> storeItemListAdapter;
+
+        GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemListAdapter = listAdapter(gson, StoreItem.class);
+        }
+
+        protected GetStoreItemsResult newInstance() {
+            return new GetStoreItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "MarketingData", value.MarketingData, storeMarketingModelAdapter);
+            writeField(out, "Source", value.Source, sourceTypeAdapter);
+            writeField(out, "Store", value.Store, storeItemListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetStoreItemsResult value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); return true;
+                case "Source": value.Source = sourceTypeAdapter.read(in); return true;
+                case "Store": value.Store = storeItemListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTaskInstanceRequestAdapter extends PlayFabModelAdapter<GetTaskInstanceRequest> {
+        GetTaskInstanceRequestAdapter(Gson gson) {
+        }
+
+        protected GetTaskInstanceRequest newInstance() {
+            return new GetTaskInstanceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTaskInstanceRequest value) throws IOException {
+            writeField(out, "TaskInstanceId", value.TaskInstanceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTaskInstanceRequest value) throws IOException {
+            switch (name) {
+                case "TaskInstanceId": value.TaskInstanceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTaskInstancesRequestAdapter extends PlayFabModelAdapter<GetTaskInstancesRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        GetTaskInstancesRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected GetTaskInstancesRequest newInstance() {
+            return new GetTaskInstancesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTaskInstancesRequest value) throws IOException {
+            writeField(out, "StartedAtRangeFrom", value.StartedAtRangeFrom, dateAdapter);
+            writeField(out, "StartedAtRangeTo", value.StartedAtRangeTo, dateAdapter);
+            writeField(out, "StatusFilter", value.StatusFilter, taskInstanceStatusAdapter);
+            writeField(out, "TaskIdentifier", value.TaskIdentifier, nameIdentifierAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTaskInstancesRequest value) throws IOException {
+            switch (name) {
+                case "StartedAtRangeFrom": value.StartedAtRangeFrom = dateAdapter.read(in); return true;
+                case "StartedAtRangeTo": value.StartedAtRangeTo = dateAdapter.read(in); return true;
+                case "StatusFilter": value.StatusFilter = taskInstanceStatusAdapter.read(in); return true;
+                case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTaskInstancesResultAdapter extends PlayFabModelAdapter<GetTaskInstancesResult> {
+        private final TypeAdapter<ArrayList<TaskInstanceBasicSummary>> taskInstanceBasicSummaryListAdapter;
+
+        GetTaskInstancesResultAdapter(Gson gson) {
+            taskInstanceBasicSummaryListAdapter = listAdapter(gson, TaskInstanceBasicSummary.class);
+        }
+
+        protected GetTaskInstancesResult newInstance() {
+            return new GetTaskInstancesResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTaskInstancesResult value) throws IOException {
+            writeField(out, "Summaries", value.Summaries, taskInstanceBasicSummaryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTaskInstancesResult value) throws IOException {
+            switch (name) {
+                case "Summaries": value.Summaries = taskInstanceBasicSummaryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTasksRequestAdapter extends PlayFabModelAdapter<GetTasksRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        GetTasksRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected GetTasksRequest newInstance() {
+            return new GetTasksRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTasksRequest value) throws IOException {
+            writeField(out, "Identifier", value.Identifier, nameIdentifierAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTasksRequest value) throws IOException {
+            switch (name) {
+                case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTasksResultAdapter extends PlayFabModelAdapter<GetTasksResult> {
+        private final TypeAdapter<ArrayList<ScheduledTask>> scheduledTaskListAdapter;
+
+        GetTasksResultAdapter(Gson gson) {
+            scheduledTaskListAdapter = listAdapter(gson, ScheduledTask.class);
+        }
+
+        protected GetTasksResult newInstance() {
+            return new GetTasksResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTasksResult value) throws IOException {
+            writeField(out, "Tasks", value.Tasks, scheduledTaskListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTasksResult value) throws IOException {
+            switch (name) {
+                case "Tasks": value.Tasks = scheduledTaskListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleDataRequestAdapter extends PlayFabModelAdapter<GetTitleDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetTitleDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetTitleDataRequest newInstance() {
+            return new GetTitleDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "OverrideLabel", value.OverrideLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleDataRequest value) throws IOException {
+            switch (name) {
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "OverrideLabel": value.OverrideLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleDataResultAdapter extends PlayFabModelAdapter<GetTitleDataResult> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetTitleDataResultAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetTitleDataResult newInstance() {
+            return new GetTitleDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserBansRequestAdapter extends PlayFabModelAdapter<GetUserBansRequest> {
+        GetUserBansRequestAdapter(Gson gson) {
+        }
+
+        protected GetUserBansRequest newInstance() {
+            return new GetUserBansRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserBansRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserBansRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserBansResultAdapter extends PlayFabModelAdapter<GetUserBansResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        GetUserBansResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected GetUserBansResult newInstance() {
+            return new GetUserBansResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserBansResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserBansResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserDataRequestAdapter extends PlayFabModelAdapter<GetUserDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetUserDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetUserDataRequest newInstance() {
+            return new GetUserDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserDataRequest value) throws IOException {
+            writeField(out, "IfChangedFromDataVersion", value.IfChangedFromDataVersion);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserDataRequest value) throws IOException {
+            switch (name) {
+                case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = readLong(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserDataResultAdapter extends PlayFabModelAdapter<GetUserDataResult> {
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+
+        GetUserDataResultAdapter(Gson gson) {
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+        }
+
+        protected GetUserDataResult newInstance() {
+            return new GetUserDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, userDataRecordMapAdapter);
+            writeField(out, "DataVersion", value.DataVersion);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = userDataRecordMapAdapter.read(in); return true;
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserInventoryRequestAdapter extends PlayFabModelAdapter<GetUserInventoryRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetUserInventoryRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetUserInventoryRequest newInstance() {
+            return new GetUserInventoryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserInventoryRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserInventoryResultAdapter extends PlayFabModelAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetUserInventoryResult newInstance() {
+            return new GetUserInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, integerMapAdapter);
+            writeField(out, "VirtualCurrencyRechargeTimes", value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserInventoryResult value) throws IOException {
+            switch (name) {
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = integerMapAdapter.read(in); return true;
+                case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantedItemInstanceAdapter extends PlayFabModelAdapter<GrantedItemInstance> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GrantedItemInstanceAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GrantedItemInstance newInstance() {
+            return new GrantedItemInstance();
+        }
+
+        protected void writeFields(JsonWriter out, GrantedItemInstance value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "BundleContents", value.BundleContents, stringListAdapter);
+            writeField(out, "BundleParent", value.BundleParent);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomData", value.CustomData, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+            writeField(out, "RemainingUses", value.RemainingUses);
+            writeField(out, "Result", value.Result);
+            writeField(out, "UnitCurrency", value.UnitCurrency);
+            writeField(out, "UnitPrice", value.UnitPrice);
+            writeField(out, "UsesIncrementedBy", value.UsesIncrementedBy);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantedItemInstance value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "BundleContents": value.BundleContents = stringListAdapter.read(in); return true;
+                case "BundleParent": value.BundleParent = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomData": value.CustomData = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                case "Result": value.Result = readBoolean(in); return true;
+                case "UnitCurrency": value.UnitCurrency = readString(in); return true;
+                case "UnitPrice": value.UnitPrice = readLong(in); return true;
+                case "UsesIncrementedBy": value.UsesIncrementedBy = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemContentAdapter extends PlayFabModelAdapter<GrantItemContent> {
+        GrantItemContentAdapter(Gson gson) {
+        }
+
+        protected GrantItemContent newInstance() {
+            return new GrantItemContent();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemContent value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemQuantity", value.ItemQuantity);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemContent value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemQuantity": value.ItemQuantity = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemSegmentActionAdapter extends PlayFabModelAdapter<GrantItemSegmentAction> {
+        GrantItemSegmentActionAdapter(Gson gson) {
+        }
+
+        protected GrantItemSegmentAction newInstance() {
+            return new GrantItemSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemSegmentAction value) throws IOException {
+            writeField(out, "CatelogId", value.CatelogId);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "Quantity", value.Quantity);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemSegmentAction value) throws IOException {
+            switch (name) {
+                case "CatelogId": value.CatelogId = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "Quantity": value.Quantity = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToUsersRequestAdapter extends PlayFabModelAdapter<GrantItemsToUsersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<ItemGrant>> itemGrantListAdapter;
+
+        GrantItemsToUsersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            itemGrantListAdapter = listAdapter(gson, ItemGrant.class);
+        }
+
+        protected GrantItemsToUsersRequest newInstance() {
+            return new GrantItemsToUsersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToUsersRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemGrants", value.ItemGrants, itemGrantListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToUsersRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemGrants": value.ItemGrants = itemGrantListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToUsersResultAdapter extends PlayFabModelAdapter<GrantItemsToUsersResult> {
+        private final TypeAdapter<ArrayList<GrantedItemInstance>> grantedItemInstanceListAdapter;
+
+        GrantItemsToUsersResultAdapter(Gson gson) {
+            grantedItemInstanceListAdapter = listAdapter(gson, GrantedItemInstance.class);
+        }
+
+        protected GrantItemsToUsersResult newInstance() {
+            return new GrantItemsToUsersResult();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToUsersResult value) throws IOException {
+            writeField(out, "ItemGrantResults", value.ItemGrantResults, grantedItemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToUsersResult value) throws IOException {
+            switch (name) {
+                case "ItemGrantResults": value.ItemGrantResults = grantedItemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantVirtualCurrencyContentAdapter extends PlayFabModelAdapter<GrantVirtualCurrencyContent> {
+        GrantVirtualCurrencyContentAdapter(Gson gson) {
+        }
+
+        protected GrantVirtualCurrencyContent newInstance() {
+            return new GrantVirtualCurrencyContent();
+        }
+
+        protected void writeFields(JsonWriter out, GrantVirtualCurrencyContent value) throws IOException {
+            writeField(out, "CurrencyAmount", value.CurrencyAmount);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantVirtualCurrencyContent value) throws IOException {
+            switch (name) {
+                case "CurrencyAmount": value.CurrencyAmount = readInteger(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantVirtualCurrencySegmentActionAdapter extends PlayFabModelAdapter<GrantVirtualCurrencySegmentAction> {
+        GrantVirtualCurrencySegmentActionAdapter(Gson gson) {
+        }
+
+        protected GrantVirtualCurrencySegmentAction newInstance() {
+            return new GrantVirtualCurrencySegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, GrantVirtualCurrencySegmentAction value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantVirtualCurrencySegmentAction value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IncrementLimitedEditionItemAvailabilityRequestAdapter extends PlayFabModelAdapter<IncrementLimitedEditionItemAvailabilityRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        IncrementLimitedEditionItemAvailabilityRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected IncrementLimitedEditionItemAvailabilityRequest newInstance() {
+            return new IncrementLimitedEditionItemAvailabilityRequest();
+        }
+
+        protected void writeFields(JsonWriter out, IncrementLimitedEditionItemAvailabilityRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemId", value.ItemId);
+        }
+
+        protected boolean readField(JsonReader in, String name, IncrementLimitedEditionItemAvailabilityRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IncrementLimitedEditionItemAvailabilityResultAdapter extends PlayFabModelAdapter<IncrementLimitedEditionItemAvailabilityResult> {
+        IncrementLimitedEditionItemAvailabilityResultAdapter(Gson gson) {
+        }
+
+        protected IncrementLimitedEditionItemAvailabilityResult newInstance() {
+            return new IncrementLimitedEditionItemAvailabilityResult();
+        }
+
+        protected void writeFields(JsonWriter out, IncrementLimitedEditionItemAvailabilityResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, IncrementLimitedEditionItemAvailabilityResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class IncrementPlayerStatisticContentAdapter extends PlayFabModelAdapter<IncrementPlayerStatisticContent> {
+        IncrementPlayerStatisticContentAdapter(Gson gson) {
+        }
+
+        protected IncrementPlayerStatisticContent newInstance() {
+            return new IncrementPlayerStatisticContent();
+        }
+
+        protected void writeFields(JsonWriter out, IncrementPlayerStatisticContent value) throws IOException {
+            writeField(out, "StatisticChangeBy", value.StatisticChangeBy);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, IncrementPlayerStatisticContent value) throws IOException {
+            switch (name) {
+                case "StatisticChangeBy": value.StatisticChangeBy = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IncrementPlayerStatisticSegmentActionAdapter extends PlayFabModelAdapter<IncrementPlayerStatisticSegmentAction> {
+        IncrementPlayerStatisticSegmentActionAdapter(Gson gson) {
+        }
+
+        protected IncrementPlayerStatisticSegmentAction newInstance() {
+            return new IncrementPlayerStatisticSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, IncrementPlayerStatisticSegmentAction value) throws IOException {
+            writeField(out, "IncrementValue", value.IncrementValue);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, IncrementPlayerStatisticSegmentAction value) throws IOException {
+            switch (name) {
+                case "IncrementValue": value.IncrementValue = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IncrementPlayerStatisticVersionRequestAdapter extends PlayFabModelAdapter<IncrementPlayerStatisticVersionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        IncrementPlayerStatisticVersionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected IncrementPlayerStatisticVersionRequest newInstance() {
+            return new IncrementPlayerStatisticVersionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, IncrementPlayerStatisticVersionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, IncrementPlayerStatisticVersionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class IncrementPlayerStatisticVersionResultAdapter extends PlayFabModelAdapter<IncrementPlayerStatisticVersionResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        IncrementPlayerStatisticVersionResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        protected IncrementPlayerStatisticVersionResult newInstance() {
+            return new IncrementPlayerStatisticVersionResult();
+        }
+
+        protected void writeFields(JsonWriter out, IncrementPlayerStatisticVersionResult value) throws IOException {
+            writeField(out, "StatisticVersion", value.StatisticVersion, playerStatisticVersionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, IncrementPlayerStatisticVersionResult value) throws IOException {
+            switch (name) {
+                case "StatisticVersion": value.StatisticVersion = playerStatisticVersionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsScalingTaskParameterAdapter extends PlayFabModelAdapter<InsightsScalingTaskParameter> {
+        InsightsScalingTaskParameterAdapter(Gson gson) {
+        }
+
+        protected InsightsScalingTaskParameter newInstance() {
+            return new InsightsScalingTaskParameter();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsScalingTaskParameter value) throws IOException {
+            writeField(out, "Level", value.Level);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsScalingTaskParameter value) throws IOException {
+            switch (name) {
+                case "Level": value.Level = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ItemGrantAdapter extends PlayFabModelAdapter<ItemGrant> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ItemGrantAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ItemGrant newInstance() {
+            return new ItemGrant();
+        }
+
+        protected void writeFields(JsonWriter out, ItemGrant value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ItemGrant value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ItemInstanceAdapter extends PlayFabModelAdapter<ItemInstance> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected ItemInstance newInstance() {
+            return new ItemInstance();
+        }
+
+        protected void writeFields(JsonWriter out, ItemInstance value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "BundleContents", value.BundleContents, stringListAdapter);
+            writeField(out, "BundleParent", value.BundleParent);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomData", value.CustomData, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+            writeField(out, "RemainingUses", value.RemainingUses);
+            writeField(out, "UnitCurrency", value.UnitCurrency);
+            writeField(out, "UnitPrice", value.UnitPrice);
+            writeField(out, "UsesIncrementedBy", value.UsesIncrementedBy);
+        }
+
+        protected boolean readField(JsonReader in, String name, ItemInstance value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "BundleContents": value.BundleContents = stringListAdapter.read(in); return true;
+                case "BundleParent": value.BundleParent = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomData": value.CustomData = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                case "UnitCurrency": value.UnitCurrency = readString(in); return true;
+                case "UnitPrice": value.UnitPrice = readLong(in); return true;
+                case "UsesIncrementedBy": value.UsesIncrementedBy = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LastLoginDateSegmentFilterAdapter extends PlayFabModelAdapter<LastLoginDateSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        LastLoginDateSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected LastLoginDateSegmentFilter newInstance() {
+            return new LastLoginDateSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, LastLoginDateSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "LogInDate", value.LogInDate, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LastLoginDateSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "LogInDate": value.LogInDate = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LastLoginTimespanSegmentFilterAdapter extends PlayFabModelAdapter<LastLoginTimespanSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        LastLoginTimespanSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected LastLoginTimespanSegmentFilter newInstance() {
+            return new LastLoginTimespanSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, LastLoginTimespanSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "DurationInMinutes", value.DurationInMinutes);
+        }
+
+        protected boolean readField(JsonReader in, String name, LastLoginTimespanSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "DurationInMinutes": value.DurationInMinutes = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends PlayFabModelAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        protected LinkedPlatformAccountModel newInstance() {
+            return new LinkedPlatformAccountModel();
+        }
+
+        protected void writeFields(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "Platform", value.Platform, loginIdentityProviderAdapter);
+            writeField(out, "PlatformUserId", value.PlatformUserId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkedPlatformAccountModel value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); return true;
+                case "PlatformUserId": value.PlatformUserId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkedUserAccountHasEmailSegmentFilterAdapter extends PlayFabModelAdapter<LinkedUserAccountHasEmailSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<SegmentLoginIdentityProvider> segmentLoginIdentityProviderAdapter;
+
+        LinkedUserAccountHasEmailSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            segmentLoginIdentityProviderAdapter = gson.getAdapter(SegmentLoginIdentityProvider.class);
+        }
+
+        protected LinkedUserAccountHasEmailSegmentFilter newInstance() {
+            return new LinkedUserAccountHasEmailSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, LinkedUserAccountHasEmailSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "LoginProvider", value.LoginProvider, segmentLoginIdentityProviderAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkedUserAccountHasEmailSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "LoginProvider": value.LoginProvider = segmentLoginIdentityProviderAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkedUserAccountSegmentFilterAdapter extends PlayFabModelAdapter<LinkedUserAccountSegmentFilter> {
+        private final TypeAdapter<SegmentLoginIdentityProvider> segmentLoginIdentityProviderAdapter;
+
+        LinkedUserAccountSegmentFilterAdapter(Gson gson) {
+            segmentLoginIdentityProviderAdapter = gson.getAdapter(SegmentLoginIdentityProvider.class);
+        }
+
+        protected LinkedUserAccountSegmentFilter newInstance() {
+            return new LinkedUserAccountSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, LinkedUserAccountSegmentFilter value) throws IOException {
+            writeField(out, "LoginProvider", value.LoginProvider, segmentLoginIdentityProviderAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkedUserAccountSegmentFilter value) throws IOException {
+            switch (name) {
+                case "LoginProvider": value.LoginProvider = segmentLoginIdentityProviderAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListOpenIdConnectionRequestAdapter extends PlayFabModelAdapter<ListOpenIdConnectionRequest> {
+        ListOpenIdConnectionRequestAdapter(Gson gson) {
+        }
+
+        protected ListOpenIdConnectionRequest newInstance() {
+            return new ListOpenIdConnectionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListOpenIdConnectionRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ListOpenIdConnectionRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListOpenIdConnectionResponseAdapter extends PlayFabModelAdapter<ListOpenIdConnectionResponse> {
+        private final TypeAdapter<ArrayList<OpenIdConnection>> openIdConnectionListAdapter;
+
+        ListOpenIdConnectionResponseAdapter(Gson gson) {
+            openIdConnectionListAdapter = listAdapter(gson, OpenIdConnection.class);
+        }
+
+        protected ListOpenIdConnectionResponse newInstance() {
+            return new ListOpenIdConnectionResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListOpenIdConnectionResponse value) throws IOException {
+            writeField(out, "Connections", value.Connections, openIdConnectionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListOpenIdConnectionResponse value) throws IOException {
+            switch (name) {
+                case "Connections": value.Connections = openIdConnectionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListVirtualCurrencyTypesRequestAdapter extends PlayFabModelAdapter<ListVirtualCurrencyTypesRequest> {
+        ListVirtualCurrencyTypesRequestAdapter(Gson gson) {
+        }
+
+        protected ListVirtualCurrencyTypesRequest newInstance() {
+            return new ListVirtualCurrencyTypesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListVirtualCurrencyTypesRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ListVirtualCurrencyTypesRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListVirtualCurrencyTypesResultAdapter extends PlayFabModelAdapter<ListVirtualCurrencyTypesResult> {
+        private final TypeAdapter<ArrayList<VirtualCurrencyData>> virtualCurrencyDataListAdapter;
+
+        ListVirtualCurrencyTypesResultAdapter(Gson gson) {
+            virtualCurrencyDataListAdapter = listAdapter(gson, VirtualCurrencyData.class);
+        }
+
+        protected ListVirtualCurrencyTypesResult newInstance() {
+            return new ListVirtualCurrencyTypesResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListVirtualCurrencyTypesResult value) throws IOException {
+            writeField(out, "VirtualCurrencies", value.VirtualCurrencies, virtualCurrencyDataListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListVirtualCurrencyTypesResult value) throws IOException {
+            switch (name) {
+                case "VirtualCurrencies": value.VirtualCurrencies = virtualCurrencyDataListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LocationModelAdapter extends PlayFabModelAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        protected LocationModel newInstance() {
+            return new LocationModel();
+        }
+
+        protected void writeFields(JsonWriter out, LocationModel value) throws IOException {
+            writeField(out, "City", value.City);
+            writeField(out, "ContinentCode", value.ContinentCode, continentCodeAdapter);
+            writeField(out, "CountryCode", value.CountryCode, countryCodeAdapter);
+            writeField(out, "Latitude", value.Latitude);
+            writeField(out, "Longitude", value.Longitude);
+        }
+
+        protected boolean readField(JsonReader in, String name, LocationModel value) throws IOException {
+            switch (name) {
+                case "City": value.City = readString(in); return true;
+                case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); return true;
+                case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); return true;
+                case "Latitude": value.Latitude = readDouble(in); return true;
+                case "Longitude": value.Longitude = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LocationSegmentFilterAdapter extends PlayFabModelAdapter<LocationSegmentFilter> {
+        private final TypeAdapter<SegmentCountryCode> segmentCountryCodeAdapter;
+
+        LocationSegmentFilterAdapter(Gson gson) {
+            segmentCountryCodeAdapter = gson.getAdapter(SegmentCountryCode.class);
+        }
+
+        protected LocationSegmentFilter newInstance() {
+            return new LocationSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, LocationSegmentFilter value) throws IOException {
+            writeField(out, "CountryCode", value.CountryCode, segmentCountryCodeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LocationSegmentFilter value) throws IOException {
+            switch (name) {
+                case "CountryCode": value.CountryCode = segmentCountryCodeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LogStatementAdapter extends PlayFabModelAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected LogStatement newInstance() {
+            return new LogStatement();
+        }
+
+        protected void writeFields(JsonWriter out, LogStatement value) throws IOException {
+            writeField(out, "Data", value.Data, objectAdapter);
+            writeField(out, "Level", value.Level);
+            writeField(out, "Message", value.Message);
+        }
+
+        protected boolean readField(JsonReader in, String name, LogStatement value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = objectAdapter.read(in); return true;
+                case "Level": value.Level = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LookupUserAccountInfoRequestAdapter extends PlayFabModelAdapter<LookupUserAccountInfoRequest> {
+        LookupUserAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        protected LookupUserAccountInfoRequest newInstance() {
+            return new LookupUserAccountInfoRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LookupUserAccountInfoRequest value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TitleDisplayName", value.TitleDisplayName);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, LookupUserAccountInfoRequest value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TitleDisplayName": value.TitleDisplayName = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LookupUserAccountInfoResultAdapter extends PlayFabModelAdapter<LookupUserAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        LookupUserAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        protected LookupUserAccountInfoResult newInstance() {
+            return new LookupUserAccountInfoResult();
+        }
+
+        protected void writeFields(JsonWriter out, LookupUserAccountInfoResult value) throws IOException {
+            writeField(out, "UserInfo", value.UserInfo, userAccountInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, LookupUserAccountInfoResult value) throws IOException {
+            switch (name) {
+                case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MembershipModelAdapter extends PlayFabModelAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<SubscriptionModel>> subscriptionModelListAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelListAdapter = listAdapter(gson, SubscriptionModel.class);
+        }
+
+        protected MembershipModel newInstance() {
+            return new MembershipModel();
+        }
+
+        protected void writeFields(JsonWriter out, MembershipModel value) throws IOException {
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "MembershipExpiration", value.MembershipExpiration, dateAdapter);
+            writeField(out, "MembershipId", value.MembershipId);
+            writeField(out, "OverrideExpiration", value.OverrideExpiration, dateAdapter);
+            writeField(out, "Subscriptions", value.Subscriptions, subscriptionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, MembershipModel value) throws IOException {
+            switch (name) {
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); return true;
+                case "MembershipId": value.MembershipId = readString(in); return true;
+                case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); return true;
+                case "Subscriptions": value.Subscriptions = subscriptionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModifyUserVirtualCurrencyResultAdapter extends PlayFabModelAdapter<ModifyUserVirtualCurrencyResult> {
+        ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        protected ModifyUserVirtualCurrencyResult newInstance() {
+            return new ModifyUserVirtualCurrencyResult();
+        }
+
+        protected void writeFields(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            writeField(out, "Balance", value.Balance);
+            writeField(out, "BalanceChange", value.BalanceChange);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModifyUserVirtualCurrencyResult value) throws IOException {
+            switch (name) {
+                case "Balance": value.Balance = readInteger(in); return true;
+                case "BalanceChange": value.BalanceChange = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class NameIdentifierAdapter extends PlayFabModelAdapter<NameIdentifier> {
+        NameIdentifierAdapter(Gson gson) {
+        }
+
+        protected NameIdentifier newInstance() {
+            return new NameIdentifier();
+        }
+
+        protected void writeFields(JsonWriter out, NameIdentifier value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, NameIdentifier value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class OpenIdConnectionAdapter extends PlayFabModelAdapter<OpenIdConnection> {
+        private final TypeAdapter<OpenIdIssuerInformation> openIdIssuerInformationAdapter;
+
+        OpenIdConnectionAdapter(Gson gson) {
+            openIdIssuerInformationAdapter = gson.getAdapter(OpenIdIssuerInformation.class);
+        }
+
+        protected OpenIdConnection newInstance() {
+            return new OpenIdConnection();
+        }
+
+        protected void writeFields(JsonWriter out, OpenIdConnection value) throws IOException {
+            writeField(out, "ClientId", value.ClientId);
+            writeField(out, "ClientSecret", value.ClientSecret);
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "DiscoverConfiguration", value.DiscoverConfiguration);
+            writeField(out, "IgnoreNonce", value.IgnoreNonce);
+            writeField(out, "IssuerInformation", value.IssuerInformation, openIdIssuerInformationAdapter);
+            writeField(out, "IssuerOverride", value.IssuerOverride);
+        }
+
+        protected boolean readField(JsonReader in, String name, OpenIdConnection value) throws IOException {
+            switch (name) {
+                case "ClientId": value.ClientId = readString(in); return true;
+                case "ClientSecret": value.ClientSecret = readString(in); return true;
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "DiscoverConfiguration": value.DiscoverConfiguration = readBoolean(in); return true;
+                case "IgnoreNonce": value.IgnoreNonce = readBoolean(in); return true;
+                case "IssuerInformation": value.IssuerInformation = openIdIssuerInformationAdapter.read(in); return true;
+                case "IssuerOverride": value.IssuerOverride = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class OpenIdIssuerInformationAdapter extends PlayFabModelAdapter<OpenIdIssuerInformation> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        OpenIdIssuerInformationAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected OpenIdIssuerInformation newInstance() {
+            return new OpenIdIssuerInformation();
+        }
+
+        protected void writeFields(JsonWriter out, OpenIdIssuerInformation value) throws IOException {
+            writeField(out, "AuthorizationUrl", value.AuthorizationUrl);
+            writeField(out, "Issuer", value.Issuer);
+            writeField(out, "JsonWebKeySet", value.JsonWebKeySet, objectAdapter);
+            writeField(out, "TokenUrl", value.TokenUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, OpenIdIssuerInformation value) throws IOException {
+            switch (name) {
+                case "AuthorizationUrl": value.AuthorizationUrl = readString(in); return true;
+                case "Issuer": value.Issuer = readString(in); return true;
+                case "JsonWebKeySet": value.JsonWebKeySet = objectAdapter.read(in); return true;
+                case "TokenUrl": value.TokenUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PermissionStatementAdapter extends PlayFabModelAdapter<PermissionStatement> {
+        private final TypeAdapter<ApiCondition> apiConditionAdapter;
+        private final TypeAdapter<EffectType> effectTypeAdapter;
+
+        PermissionStatementAdapter(Gson gson) {
+            apiConditionAdapter = gson.getAdapter(ApiCondition.class);
+            effectTypeAdapter = gson.getAdapter(EffectType.class);
+        }
+
+        protected PermissionStatement newInstance() {
+            return new PermissionStatement();
+        }
+
+        protected void writeFields(JsonWriter out, PermissionStatement value) throws IOException {
+            writeField(out, "Action", value.Action);
+            writeField(out, "ApiConditions", value.ApiConditions, apiConditionAdapter);
+            writeField(out, "Comment", value.Comment);
+            writeField(out, "Effect", value.Effect, effectTypeAdapter);
+            writeField(out, "Principal", value.Principal);
+            writeField(out, "Resource", value.Resource);
+        }
+
+        protected boolean readField(JsonReader in, String name, PermissionStatement value) throws IOException {
+            switch (name) {
+                case "Action": value.Action = readString(in); return true;
+                case "ApiConditions": value.ApiConditions = apiConditionAdapter.read(in); return true;
+                case "Comment": value.Comment = readString(in); return true;
+                case "Effect": value.Effect = effectTypeAdapter.read(in); return true;
+                case "Principal": value.Principal = readString(in); return true;
+                case "Resource": value.Resource = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerChurnPredictionSegmentFilterAdapter extends PlayFabModelAdapter<PlayerChurnPredictionSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<ChurnRiskLevel> churnRiskLevelAdapter;
+
+        PlayerChurnPredictionSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            churnRiskLevelAdapter = gson.getAdapter(ChurnRiskLevel.class);
+        }
+
+        protected PlayerChurnPredictionSegmentFilter newInstance() {
+            return new PlayerChurnPredictionSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerChurnPredictionSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "RiskLevel", value.RiskLevel, churnRiskLevelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerChurnPredictionSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "RiskLevel": value.RiskLevel = churnRiskLevelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerChurnPredictionTimeSegmentFilterAdapter extends PlayFabModelAdapter<PlayerChurnPredictionTimeSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        PlayerChurnPredictionTimeSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected PlayerChurnPredictionTimeSegmentFilter newInstance() {
+            return new PlayerChurnPredictionTimeSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerChurnPredictionTimeSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "DurationInDays", value.DurationInDays);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerChurnPredictionTimeSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "DurationInDays": value.DurationInDays = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerChurnPreviousPredictionSegmentFilterAdapter extends PlayFabModelAdapter<PlayerChurnPreviousPredictionSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<ChurnRiskLevel> churnRiskLevelAdapter;
+
+        PlayerChurnPreviousPredictionSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            churnRiskLevelAdapter = gson.getAdapter(ChurnRiskLevel.class);
+        }
+
+        protected PlayerChurnPreviousPredictionSegmentFilter newInstance() {
+            return new PlayerChurnPreviousPredictionSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerChurnPreviousPredictionSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "RiskLevel", value.RiskLevel, churnRiskLevelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerChurnPreviousPredictionSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "RiskLevel": value.RiskLevel = churnRiskLevelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerLinkedAccountAdapter extends PlayFabModelAdapter<PlayerLinkedAccount> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        PlayerLinkedAccountAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        protected PlayerLinkedAccount newInstance() {
+            return new PlayerLinkedAccount();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerLinkedAccount value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "Platform", value.Platform, loginIdentityProviderAdapter);
+            writeField(out, "PlatformUserId", value.PlatformUserId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerLinkedAccount value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); return true;
+                case "PlatformUserId": value.PlatformUserId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerLocationAdapter extends PlayFabModelAdapter<PlayerLocation> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        PlayerLocationAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        protected PlayerLocation newInstance() {
+            return new PlayerLocation();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerLocation value) throws IOException {
+            writeField(out, "City", value.City);
+            writeField(out, "ContinentCode", value.ContinentCode, continentCodeAdapter);
+            writeField(out, "CountryCode", value.CountryCode, countryCodeAdapter);
+            writeField(out, "Latitude", value.Latitude);
+            writeField(out, "Longitude", value.Longitude);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerLocation value) throws IOException {
+            switch (name) {
+                case "City": value.City = readString(in); return true;
+                case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); return true;
+                case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); return true;
+                case "Latitude": value.Latitude = readDouble(in); return true;
+                case "Longitude": value.Longitude = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileAdapter extends PlayFabModelAdapter<PlayerProfile> {
+        private final TypeAdapter<ArrayList<AdCampaignAttribution>> adCampaignAttributionListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ChurnRiskLevel> churnRiskLevelAdapter;
+        private final TypeAdapter<ArrayList<ContactEmailInfo>> contactEmailInfoListAdapter;
+        private final TypeAdapter<ArrayList<PlayerLinkedAccount>> playerLinkedAccountListAdapter;
+        private final TypeAdapter<Map<String, PlayerLocation>> playerLocationMapAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<PlayerStatistic>> playerStatisticListAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationRegistration>> pushNotificationRegistrationListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        PlayerProfileAdapter(Gson gson) {
+            adCampaignAttributionListAdapter = listAdapter(gson, AdCampaignAttribution.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            churnRiskLevelAdapter = gson.getAdapter(ChurnRiskLevel.class);
+            contactEmailInfoListAdapter = listAdapter(gson, ContactEmailInfo.class);
+            playerLinkedAccountListAdapter = listAdapter(gson, PlayerLinkedAccount.class);
+            playerLocationMapAdapter = mapAdapter(gson, PlayerLocation.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            playerStatisticListAdapter = listAdapter(gson, PlayerStatistic.class);
+            pushNotificationRegistrationListAdapter = listAdapter(gson, PushNotificationRegistration.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected PlayerProfile newInstance() {
+            return new PlayerProfile();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfile value) throws IOException {
+            writeField(out, "AdCampaignAttributions", value.AdCampaignAttributions, adCampaignAttributionListAdapter);
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "BannedUntil", value.BannedUntil, dateAdapter);
+            writeField(out, "ChurnPrediction", value.ChurnPrediction, churnRiskLevelAdapter);
+            writeField(out, "ContactEmailAddresses", value.ContactEmailAddresses, contactEmailInfoListAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "LinkedAccounts", value.LinkedAccounts, playerLinkedAccountListAdapter);
+            writeField(out, "Locations", value.Locations, playerLocationMapAdapter);
+            writeField(out, "Origination", value.Origination, loginIdentityProviderAdapter);
+            writeField(out, "PlayerExperimentVariants", value.PlayerExperimentVariants, stringListAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PlayerStatistics", value.PlayerStatistics, playerStatisticListAdapter);
+            writeField(out, "PublisherId", value.PublisherId);
+            writeField(out, "PushNotificationRegistrations", value.PushNotificationRegistrations, pushNotificationRegistrationListAdapter);
+            writeField(out, "Statistics", value.Statistics, integerMapAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TotalValueToDateInUSD", value.TotalValueToDateInUSD);
+            writeField(out, "ValuesToDate", value.ValuesToDate, longMapAdapter);
+            writeField(out, "VirtualCurrencyBalances", value.VirtualCurrencyBalances, integerMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfile value) throws IOException {
+            switch (name) {
+                case "AdCampaignAttributions": value.AdCampaignAttributions = adCampaignAttributionListAdapter.read(in); return true;
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "BannedUntil": value.BannedUntil = dateAdapter.read(in); return true;
+                case "ChurnPrediction": value.ChurnPrediction = churnRiskLevelAdapter.read(in); return true;
+                case "ContactEmailAddresses": value.ContactEmailAddresses = contactEmailInfoListAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "LinkedAccounts": value.LinkedAccounts = playerLinkedAccountListAdapter.read(in); return true;
+                case "Locations": value.Locations = playerLocationMapAdapter.read(in); return true;
+                case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); return true;
+                case "PlayerExperimentVariants": value.PlayerExperimentVariants = stringListAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PlayerStatistics": value.PlayerStatistics = playerStatisticListAdapter.read(in); return true;
+                case "PublisherId": value.PublisherId = readString(in); return true;
+                case "PushNotificationRegistrations": value.PushNotificationRegistrations = pushNotificationRegistrationListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = integerMapAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = readLong(in); return true;
+                case "ValuesToDate": value.ValuesToDate = longMapAdapter.read(in); return true;
+                case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = integerMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends PlayFabModelAdapter<PlayerProfileModel> {
+        private final TypeAdapter<ArrayList<AdCampaignAttributionModel>> adCampaignAttributionModelListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<ContactEmailInfoModel>> contactEmailInfoModelListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<LinkedPlatformAccountModel>> linkedPlatformAccountModelListAdapter;
+        private final TypeAdapter<ArrayList<LocationModel>> locationModelListAdapter;
+        private final TypeAdapter<ArrayList<MembershipModel>> membershipModelListAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationRegistrationModel>> pushNotificationRegistrationModelListAdapter;
+        private final TypeAdapter<ArrayList<StatisticModel>> statisticModelListAdapter;
+        private final TypeAdapter<ArrayList<TagModel>> tagModelListAdapter;
+        private final TypeAdapter<ArrayList<ValueToDateModel>> valueToDateModelListAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelListAdapter = listAdapter(gson, AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelListAdapter = listAdapter(gson, ContactEmailInfoModel.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            linkedPlatformAccountModelListAdapter = listAdapter(gson, LinkedPlatformAccountModel.class);
+            locationModelListAdapter = listAdapter(gson, LocationModel.class);
+            membershipModelListAdapter = listAdapter(gson, MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelListAdapter = listAdapter(gson, PushNotificationRegistrationModel.class);
+            statisticModelListAdapter = listAdapter(gson, StatisticModel.class);
+            tagModelListAdapter = listAdapter(gson, TagModel.class);
+            valueToDateModelListAdapter = listAdapter(gson, ValueToDateModel.class);
+        }
+
+        protected PlayerProfileModel newInstance() {
+            return new PlayerProfileModel();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileModel value) throws IOException {
+            writeField(out, "AdCampaignAttributions", value.AdCampaignAttributions, adCampaignAttributionModelListAdapter);
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "BannedUntil", value.BannedUntil, dateAdapter);
+            writeField(out, "ContactEmailAddresses", value.ContactEmailAddresses, contactEmailInfoModelListAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "ExperimentVariants", value.ExperimentVariants, stringListAdapter);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "LinkedAccounts", value.LinkedAccounts, linkedPlatformAccountModelListAdapter);
+            writeField(out, "Locations", value.Locations, locationModelListAdapter);
+            writeField(out, "Memberships", value.Memberships, membershipModelListAdapter);
+            writeField(out, "Origination", value.Origination, loginIdentityProviderAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PublisherId", value.PublisherId);
+            writeField(out, "PushNotificationRegistrations", value.PushNotificationRegistrations, pushNotificationRegistrationModelListAdapter);
+            writeField(out, "Statistics", value.Statistics, statisticModelListAdapter);
+            writeField(out, "Tags", value.Tags, tagModelListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TotalValueToDateInUSD", value.TotalValueToDateInUSD);
+            writeField(out, "ValuesToDate", value.ValuesToDate, valueToDateModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileModel value) throws IOException {
+            switch (name) {
+                case "AdCampaignAttributions": value.AdCampaignAttributions = adCampaignAttributionModelListAdapter.read(in); return true;
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "BannedUntil": value.BannedUntil = dateAdapter.read(in); return true;
+                case "ContactEmailAddresses": value.ContactEmailAddresses = contactEmailInfoModelListAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "ExperimentVariants": value.ExperimentVariants = stringListAdapter.read(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "LinkedAccounts": value.LinkedAccounts = linkedPlatformAccountModelListAdapter.read(in); return true;
+                case "Locations": value.Locations = locationModelListAdapter.read(in); return true;
+                case "Memberships": value.Memberships = membershipModelListAdapter.read(in); return true;
+                case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PublisherId": value.PublisherId = readString(in); return true;
+                case "PushNotificationRegistrations": value.PushNotificationRegistrations = pushNotificationRegistrationModelListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = statisticModelListAdapter.read(in); return true;
+                case "Tags": value.Tags = tagModelListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = readLong(in); return true;
+                case "ValuesToDate": value.ValuesToDate = valueToDateModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileViewConstraintsAdapter extends PlayFabModelAdapter<PlayerProfileViewConstraints> {
+        PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        protected PlayerProfileViewConstraints newInstance() {
+            return new PlayerProfileViewConstraints();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            writeField(out, "ShowAvatarUrl", value.ShowAvatarUrl);
+            writeField(out, "ShowBannedUntil", value.ShowBannedUntil);
+            writeField(out, "ShowCampaignAttributions", value.ShowCampaignAttributions);
+            writeField(out, "ShowContactEmailAddresses", value.ShowContactEmailAddresses);
+            writeField(out, "ShowCreated", value.ShowCreated);
+            writeField(out, "ShowDisplayName", value.ShowDisplayName);
+            writeField(out, "ShowExperimentVariants", value.ShowExperimentVariants);
+            writeField(out, "ShowLastLogin", value.ShowLastLogin);
+            writeField(out, "ShowLinkedAccounts", value.ShowLinkedAccounts);
+            writeField(out, "ShowLocations", value.ShowLocations);
+            writeField(out, "ShowMemberships", value.ShowMemberships);
+            writeField(out, "ShowOrigination", value.ShowOrigination);
+            writeField(out, "ShowPushNotificationRegistrations", value.ShowPushNotificationRegistrations);
+            writeField(out, "ShowStatistics", value.ShowStatistics);
+            writeField(out, "ShowTags", value.ShowTags);
+            writeField(out, "ShowTotalValueToDateInUsd", value.ShowTotalValueToDateInUsd);
+            writeField(out, "ShowValuesToDate", value.ShowValuesToDate);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileViewConstraints value) throws IOException {
+            switch (name) {
+                case "ShowAvatarUrl": value.ShowAvatarUrl = readBoolean(in); return true;
+                case "ShowBannedUntil": value.ShowBannedUntil = readBoolean(in); return true;
+                case "ShowCampaignAttributions": value.ShowCampaignAttributions = readBoolean(in); return true;
+                case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = readBoolean(in); return true;
+                case "ShowCreated": value.ShowCreated = readBoolean(in); return true;
+                case "ShowDisplayName": value.ShowDisplayName = readBoolean(in); return true;
+                case "ShowExperimentVariants": value.ShowExperimentVariants = readBoolean(in); return true;
+                case "ShowLastLogin": value.ShowLastLogin = readBoolean(in); return true;
+                case "ShowLinkedAccounts": value.ShowLinkedAccounts = readBoolean(in); return true;
+                case "ShowLocations": value.ShowLocations = readBoolean(in); return true;
+                case "ShowMemberships": value.ShowMemberships = readBoolean(in); return true;
+                case "ShowOrigination": value.ShowOrigination = readBoolean(in); return true;
+                case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = readBoolean(in); return true;
+                case "ShowStatistics": value.ShowStatistics = readBoolean(in); return true;
+                case "ShowTags": value.ShowTags = readBoolean(in); return true;
+                case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = readBoolean(in); return true;
+                case "ShowValuesToDate": value.ShowValuesToDate = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerStatisticAdapter extends PlayFabModelAdapter<PlayerStatistic> {
+        PlayerStatisticAdapter(Gson gson) {
+        }
+
+        protected PlayerStatistic newInstance() {
+            return new PlayerStatistic();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerStatistic value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+            writeField(out, "StatisticValue", value.StatisticValue);
+            writeField(out, "StatisticVersion", value.StatisticVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerStatistic value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "StatisticValue": value.StatisticValue = readInteger(in); return true;
+                case "StatisticVersion": value.StatisticVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerStatisticDefinitionAdapter extends PlayFabModelAdapter<PlayerStatisticDefinition> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        PlayerStatisticDefinitionAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        protected PlayerStatisticDefinition newInstance() {
+            return new PlayerStatisticDefinition();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerStatisticDefinition value) throws IOException {
+            writeField(out, "AggregationMethod", value.AggregationMethod, statisticAggregationMethodAdapter);
+            writeField(out, "CurrentVersion", value.CurrentVersion);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "VersionChangeInterval", value.VersionChangeInterval, statisticResetIntervalOptionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerStatisticDefinition value) throws IOException {
+            switch (name) {
+                case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); return true;
+                case "CurrentVersion": value.CurrentVersion = readLong(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerStatisticVersionAdapter extends PlayFabModelAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<StatisticVersionStatus> statisticVersionStatusAdapter;
+
+        PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            statisticVersionStatusAdapter = gson.getAdapter(StatisticVersionStatus.class);
+        }
+
+        protected PlayerStatisticVersion newInstance() {
+            return new PlayerStatisticVersion();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            writeField(out, "ActivationTime", value.ActivationTime, dateAdapter);
+            writeField(out, "ArchiveDownloadUrl", value.ArchiveDownloadUrl);
+            writeField(out, "DeactivationTime", value.DeactivationTime, dateAdapter);
+            writeField(out, "ScheduledActivationTime", value.ScheduledActivationTime, dateAdapter);
+            writeField(out, "ScheduledDeactivationTime", value.ScheduledDeactivationTime, dateAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Status", value.Status, statisticVersionStatusAdapter);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerStatisticVersion value) throws IOException {
+            switch (name) {
+                case "ActivationTime": value.ActivationTime = dateAdapter.read(in); return true;
+                case "ArchiveDownloadUrl": value.ArchiveDownloadUrl = readString(in); return true;
+                case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); return true;
+                case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); return true;
+                case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Status": value.Status = statisticVersionStatusAdapter.read(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationContentAdapter extends PlayFabModelAdapter<PushNotificationContent> {
+        PushNotificationContentAdapter(Gson gson) {
+        }
+
+        protected PushNotificationContent newInstance() {
+            return new PushNotificationContent();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationContent value) throws IOException {
+            writeField(out, "Message", value.Message);
+            writeField(out, "PushNotificationTemplateId", value.PushNotificationTemplateId);
+            writeField(out, "Subject", value.Subject);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationContent value) throws IOException {
+            switch (name) {
+                case "Message": value.Message = readString(in); return true;
+                case "PushNotificationTemplateId": value.PushNotificationTemplateId = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationRegistrationAdapter extends PlayFabModelAdapter<PushNotificationRegistration> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected PushNotificationRegistration newInstance() {
+            return new PushNotificationRegistration();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationRegistration value) throws IOException {
+            writeField(out, "NotificationEndpointARN", value.NotificationEndpointARN);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationRegistration value) throws IOException {
+            switch (name) {
+                case "NotificationEndpointARN": value.NotificationEndpointARN = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends PlayFabModelAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected PushNotificationRegistrationModel newInstance() {
+            return new PushNotificationRegistrationModel();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            writeField(out, "NotificationEndpointARN", value.NotificationEndpointARN);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationRegistrationModel value) throws IOException {
+            switch (name) {
+                case "NotificationEndpointARN": value.NotificationEndpointARN = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationSegmentActionAdapter extends PlayFabModelAdapter<PushNotificationSegmentAction> {
+        PushNotificationSegmentActionAdapter(Gson gson) {
+        }
+
+        protected PushNotificationSegmentAction newInstance() {
+            return new PushNotificationSegmentAction();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationSegmentAction value) throws IOException {
+            writeField(out, "PushNotificationTemplateId", value.PushNotificationTemplateId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationSegmentAction value) throws IOException {
+            switch (name) {
+                case "PushNotificationTemplateId": value.PushNotificationTemplateId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationSegmentFilterAdapter extends PlayFabModelAdapter<PushNotificationSegmentFilter> {
+        private final TypeAdapter<SegmentPushNotificationDevicePlatform> segmentPushNotificationDevicePlatformAdapter;
+
+        PushNotificationSegmentFilterAdapter(Gson gson) {
+            segmentPushNotificationDevicePlatformAdapter = gson.getAdapter(SegmentPushNotificationDevicePlatform.class);
+        }
+
+        protected PushNotificationSegmentFilter newInstance() {
+            return new PushNotificationSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationSegmentFilter value) throws IOException {
+            writeField(out, "PushNotificationDevicePlatform", value.PushNotificationDevicePlatform, segmentPushNotificationDevicePlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationSegmentFilter value) throws IOException {
+            switch (name) {
+                case "PushNotificationDevicePlatform": value.PushNotificationDevicePlatform = segmentPushNotificationDevicePlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RandomResultTableAdapter extends PlayFabModelAdapter<RandomResultTable> {
+        private final TypeAdapter<ArrayList<ResultTableNode>> resultTableNodeListAdapter;
+
+        RandomResultTableAdapter(Gson gson) {
+            resultTableNodeListAdapter = listAdapter(gson, ResultTableNode.class);
+        }
+
+        protected RandomResultTable newInstance() {
+            return new RandomResultTable();
+        }
+
+        protected void writeFields(JsonWriter out, RandomResultTable value) throws IOException {
+            writeField(out, "Nodes", value.Nodes, resultTableNodeListAdapter);
+            writeField(out, "TableId", value.TableId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RandomResultTable value) throws IOException {
+            switch (name) {
+                case "Nodes": value.Nodes = resultTableNodeListAdapter.read(in); return true;
+                case "TableId": value.TableId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RandomResultTableListingAdapter extends PlayFabModelAdapter<RandomResultTableListing> {
+        private final TypeAdapter<ArrayList<ResultTableNode>> resultTableNodeListAdapter;
+
+        RandomResultTableListingAdapter(Gson gson) {
+            resultTableNodeListAdapter = listAdapter(gson, ResultTableNode.class);
+        }
+
+        protected RandomResultTableListing newInstance() {
+            return new RandomResultTableListing();
+        }
+
+        protected void writeFields(JsonWriter out, RandomResultTableListing value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "Nodes", value.Nodes, resultTableNodeListAdapter);
+            writeField(out, "TableId", value.TableId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RandomResultTableListing value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "Nodes": value.Nodes = resultTableNodeListAdapter.read(in); return true;
+                case "TableId": value.TableId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RefundPurchaseRequestAdapter extends PlayFabModelAdapter<RefundPurchaseRequest> {
+        RefundPurchaseRequestAdapter(Gson gson) {
+        }
+
+        protected RefundPurchaseRequest newInstance() {
+            return new RefundPurchaseRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RefundPurchaseRequest value) throws IOException {
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, RefundPurchaseRequest value) throws IOException {
+            switch (name) {
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RefundPurchaseResponseAdapter extends PlayFabModelAdapter<RefundPurchaseResponse> {
+        RefundPurchaseResponseAdapter(Gson gson) {
+        }
+
+        protected RefundPurchaseResponse newInstance() {
+            return new RefundPurchaseResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RefundPurchaseResponse value) throws IOException {
+            writeField(out, "PurchaseStatus", value.PurchaseStatus);
+        }
+
+        protected boolean readField(JsonReader in, String name, RefundPurchaseResponse value) throws IOException {
+            switch (name) {
+                case "PurchaseStatus": value.PurchaseStatus = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemovePlayerTagRequestAdapter extends PlayFabModelAdapter<RemovePlayerTagRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RemovePlayerTagRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RemovePlayerTagRequest newInstance() {
+            return new RemovePlayerTagRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemovePlayerTagRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TagName", value.TagName);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemovePlayerTagRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TagName": value.TagName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemovePlayerTagResultAdapter extends PlayFabModelAdapter<RemovePlayerTagResult> {
+        RemovePlayerTagResultAdapter(Gson gson) {
+        }
+
+        protected RemovePlayerTagResult newInstance() {
+            return new RemovePlayerTagResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemovePlayerTagResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemovePlayerTagResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveVirtualCurrencyTypesRequestAdapter extends PlayFabModelAdapter<RemoveVirtualCurrencyTypesRequest> {
+        private final TypeAdapter<ArrayList<VirtualCurrencyData>> virtualCurrencyDataListAdapter;
+
+        RemoveVirtualCurrencyTypesRequestAdapter(Gson gson) {
+            virtualCurrencyDataListAdapter = listAdapter(gson, VirtualCurrencyData.class);
+        }
+
+        protected RemoveVirtualCurrencyTypesRequest newInstance() {
+            return new RemoveVirtualCurrencyTypesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveVirtualCurrencyTypesRequest value) throws IOException {
+            writeField(out, "VirtualCurrencies", value.VirtualCurrencies, virtualCurrencyDataListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveVirtualCurrencyTypesRequest value) throws IOException {
+            switch (name) {
+                case "VirtualCurrencies": value.VirtualCurrencies = virtualCurrencyDataListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResetCharacterStatisticsRequestAdapter extends PlayFabModelAdapter<ResetCharacterStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ResetCharacterStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ResetCharacterStatisticsRequest newInstance() {
+            return new ResetCharacterStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ResetCharacterStatisticsRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResetCharacterStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResetCharacterStatisticsResultAdapter extends PlayFabModelAdapter<ResetCharacterStatisticsResult> {
+        ResetCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        protected ResetCharacterStatisticsResult newInstance() {
+            return new ResetCharacterStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ResetCharacterStatisticsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ResetCharacterStatisticsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResetPasswordRequestAdapter extends PlayFabModelAdapter<ResetPasswordRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ResetPasswordRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ResetPasswordRequest newInstance() {
+            return new ResetPasswordRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ResetPasswordRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Password", value.Password);
+            writeField(out, "Token", value.Token);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResetPasswordRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Password": value.Password = readString(in); return true;
+                case "Token": value.Token = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResetPasswordResultAdapter extends PlayFabModelAdapter<ResetPasswordResult> {
+        ResetPasswordResultAdapter(Gson gson) {
+        }
+
+        protected ResetPasswordResult newInstance() {
+            return new ResetPasswordResult();
+        }
+
+        protected void writeFields(JsonWriter out, ResetPasswordResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ResetPasswordResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResetUserStatisticsRequestAdapter extends PlayFabModelAdapter<ResetUserStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ResetUserStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ResetUserStatisticsRequest newInstance() {
+            return new ResetUserStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ResetUserStatisticsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResetUserStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResetUserStatisticsResultAdapter extends PlayFabModelAdapter<ResetUserStatisticsResult> {
+        ResetUserStatisticsResultAdapter(Gson gson) {
+        }
+
+        protected ResetUserStatisticsResult newInstance() {
+            return new ResetUserStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ResetUserStatisticsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ResetUserStatisticsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResolvePurchaseDisputeRequestAdapter extends PlayFabModelAdapter<ResolvePurchaseDisputeRequest> {
+        private final TypeAdapter<ResolutionOutcome> resolutionOutcomeAdapter;
+
+        ResolvePurchaseDisputeRequestAdapter(Gson gson) {
+            resolutionOutcomeAdapter = gson.getAdapter(ResolutionOutcome.class);
+        }
+
+        protected ResolvePurchaseDisputeRequest newInstance() {
+            return new ResolvePurchaseDisputeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ResolvePurchaseDisputeRequest value) throws IOException {
+            writeField(out, "OrderId", value.OrderId);
+            writeField(out, "Outcome", value.Outcome, resolutionOutcomeAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResolvePurchaseDisputeRequest value) throws IOException {
+            switch (name) {
+                case "OrderId": value.OrderId = readString(in); return true;
+                case "Outcome": value.Outcome = resolutionOutcomeAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResolvePurchaseDisputeResponseAdapter extends PlayFabModelAdapter<ResolvePurchaseDisputeResponse> {
+        ResolvePurchaseDisputeResponseAdapter(Gson gson) {
+        }
+
+        protected ResolvePurchaseDisputeResponse newInstance() {
+            return new ResolvePurchaseDisputeResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ResolvePurchaseDisputeResponse value) throws IOException {
+            writeField(out, "PurchaseStatus", value.PurchaseStatus);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResolvePurchaseDisputeResponse value) throws IOException {
+            switch (name) {
+                case "PurchaseStatus": value.PurchaseStatus = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResultTableNodeAdapter extends PlayFabModelAdapter<ResultTableNode> {
+        private final TypeAdapter<ResultTableNodeType> resultTableNodeTypeAdapter;
+
+        ResultTableNodeAdapter(Gson gson) {
+            resultTableNodeTypeAdapter = gson.getAdapter(ResultTableNodeType.class);
+        }
+
+        protected ResultTableNode newInstance() {
+            return new ResultTableNode();
+        }
+
+        protected void writeFields(JsonWriter out, ResultTableNode value) throws IOException {
+            writeField(out, "ResultItem", value.ResultItem);
+            writeField(out, "ResultItemType", value.ResultItemType, resultTableNodeTypeAdapter);
+            writeField(out, "Weight", value.Weight);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResultTableNode value) throws IOException {
+            switch (name) {
+                case "ResultItem": value.ResultItem = readString(in); return true;
+                case "ResultItemType": value.ResultItemType = resultTableNodeTypeAdapter.read(in); return true;
+                case "Weight": value.Weight = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeAllBansForUserRequestAdapter extends PlayFabModelAdapter<RevokeAllBansForUserRequest> {
+        RevokeAllBansForUserRequestAdapter(Gson gson) {
+        }
+
+        protected RevokeAllBansForUserRequest newInstance() {
+            return new RevokeAllBansForUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeAllBansForUserRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeAllBansForUserRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeAllBansForUserResultAdapter extends PlayFabModelAdapter<RevokeAllBansForUserResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        RevokeAllBansForUserResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected RevokeAllBansForUserResult newInstance() {
+            return new RevokeAllBansForUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeAllBansForUserResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeAllBansForUserResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeBansRequestAdapter extends PlayFabModelAdapter<RevokeBansRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RevokeBansRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RevokeBansRequest newInstance() {
+            return new RevokeBansRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeBansRequest value) throws IOException {
+            writeField(out, "BanIds", value.BanIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeBansRequest value) throws IOException {
+            switch (name) {
+                case "BanIds": value.BanIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeBansResultAdapter extends PlayFabModelAdapter<RevokeBansResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        RevokeBansResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected RevokeBansResult newInstance() {
+            return new RevokeBansResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeBansResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeBansResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemAdapter extends PlayFabModelAdapter<RevokeInventoryItem> {
+        RevokeInventoryItemAdapter(Gson gson) {
+        }
+
+        protected RevokeInventoryItem newInstance() {
+            return new RevokeInventoryItem();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItem value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItem value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemRequestAdapter extends PlayFabModelAdapter<RevokeInventoryItemRequest> {
+        RevokeInventoryItemRequestAdapter(Gson gson) {
+        }
+
+        protected RevokeInventoryItemRequest newInstance() {
+            return new RevokeInventoryItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItemRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItemRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemsRequestAdapter extends PlayFabModelAdapter<RevokeInventoryItemsRequest> {
+        private final TypeAdapter<ArrayList<RevokeInventoryItem>> revokeInventoryItemListAdapter;
+
+        RevokeInventoryItemsRequestAdapter(Gson gson) {
+            revokeInventoryItemListAdapter = listAdapter(gson, RevokeInventoryItem.class);
+        }
+
+        protected RevokeInventoryItemsRequest newInstance() {
+            return new RevokeInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItemsRequest value) throws IOException {
+            writeField(out, "Items", value.Items, revokeInventoryItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = revokeInventoryItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemsResultAdapter extends PlayFabModelAdapter<RevokeInventoryItemsResult> {
+        private final TypeAdapter<ArrayList<RevokeItemError>> revokeItemErrorListAdapter;
+
+        RevokeInventoryItemsResultAdapter(Gson gson) {
+            revokeItemErrorListAdapter = listAdapter(gson, RevokeItemError.class);
+        }
+
+        protected RevokeInventoryItemsResult newInstance() {
+            return new RevokeInventoryItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItemsResult value) throws IOException {
+            writeField(out, "Errors", value.Errors, revokeItemErrorListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItemsResult value) throws IOException {
+            switch (name) {
+                case "Errors": value.Errors = revokeItemErrorListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryResultAdapter extends PlayFabModelAdapter<RevokeInventoryResult> {
+        RevokeInventoryResultAdapter(Gson gson) {
+        }
+
+        protected RevokeInventoryResult newInstance() {
+            return new RevokeInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeItemErrorAdapter extends PlayFabModelAdapter<RevokeItemError> {
+        private final TypeAdapter<GenericErrorCodes> genericErrorCodesAdapter;
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        RevokeItemErrorAdapter(Gson gson) {
+            genericErrorCodesAdapter = gson.getAdapter(GenericErrorCodes.class);
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        protected RevokeItemError newInstance() {
+            return new RevokeItemError();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeItemError value) throws IOException {
+            writeField(out, "Error", value.Error, genericErrorCodesAdapter);
+            writeField(out, "Item", value.Item, revokeInventoryItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeItemError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = genericErrorCodesAdapter.read(in); return true;
+                case "Item": value.Item = revokeInventoryItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RunTaskRequestAdapter extends PlayFabModelAdapter<RunTaskRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        RunTaskRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected RunTaskRequest newInstance() {
+            return new RunTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RunTaskRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Identifier", value.Identifier, nameIdentifierAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RunTaskRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RunTaskResultAdapter extends PlayFabModelAdapter<RunTaskResult> {
+        RunTaskResultAdapter(Gson gson) {
+        }
+
+        protected RunTaskResult newInstance() {
+            return new RunTaskResult();
+        }
+
+        protected void writeFields(JsonWriter out, RunTaskResult value) throws IOException {
+            writeField(out, "TaskInstanceId", value.TaskInstanceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RunTaskResult value) throws IOException {
+            switch (name) {
+                case "TaskInstanceId": value.TaskInstanceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScheduledTaskAdapter extends PlayFabModelAdapter<ScheduledTask> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        ScheduledTaskAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        protected ScheduledTask newInstance() {
+            return new ScheduledTask();
+        }
+
+        protected void writeFields(JsonWriter out, ScheduledTask value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "LastRunTime", value.LastRunTime, dateAdapter);
+            writeField(out, "Name", value.Name);
+            writeField(out, "NextRunTime", value.NextRunTime, dateAdapter);
+            writeField(out, "Parameter", value.Parameter, objectAdapter);
+            writeField(out, "Schedule", value.Schedule);
+            writeField(out, "TaskId", value.TaskId);
+            writeField(out, "Type", value.Type, scheduledTaskTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScheduledTask value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "LastRunTime": value.LastRunTime = dateAdapter.read(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "NextRunTime": value.NextRunTime = dateAdapter.read(in); return true;
+                case "Parameter": value.Parameter = objectAdapter.read(in); return true;
+                case "Schedule": value.Schedule = readString(in); return true;
+                case "TaskId": value.TaskId = readString(in); return true;
+                case "Type": value.Type = scheduledTaskTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends PlayFabModelAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        protected ScriptExecutionError newInstance() {
+            return new ScriptExecutionError();
+        }
+
+        protected void writeFields(JsonWriter out, ScriptExecutionError value) throws IOException {
+            writeField(out, "Error", value.Error);
+            writeField(out, "Message", value.Message);
+            writeField(out, "StackTrace", value.StackTrace);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScriptExecutionError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "StackTrace": value.StackTrace = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SegmentAndDefinitionAdapter extends PlayFabModelAdapter<SegmentAndDefinition> {
+        private final TypeAdapter<AdCampaignSegmentFilter> adCampaignSegmentFilterAdapter;
+        private final TypeAdapter<AllPlayersSegmentFilter> allPlayersSegmentFilterAdapter;
+        private final TypeAdapter<ChurnPredictionSegmentFilter> churnPredictionSegmentFilterAdapter;
+        private final TypeAdapter<FirstLoginDateSegmentFilter> firstLoginDateSegmentFilterAdapter;
+        private final TypeAdapter<FirstLoginTimespanSegmentFilter> firstLoginTimespanSegmentFilterAdapter;
+        private final TypeAdapter<LastLoginDateSegmentFilter> lastLoginDateSegmentFilterAdapter;
+        private final TypeAdapter<LastLoginTimespanSegmentFilter> lastLoginTimespanSegmentFilterAdapter;
+        private final TypeAdapter<LinkedUserAccountSegmentFilter> linkedUserAccountSegmentFilterAdapter;
+        private final TypeAdapter<LinkedUserAccountHasEmailSegmentFilter> linkedUserAccountHasEmailSegmentFilterAdapter;
+        private final TypeAdapter<LocationSegmentFilter> locationSegmentFilterAdapter;
+        private final TypeAdapter<PlayerChurnPredictionSegmentFilter> playerChurnPredictionSegmentFilterAdapter;
+        private final TypeAdapter<PlayerChurnPredictionTimeSegmentFilter> playerChurnPredictionTimeSegmentFilterAdapter;
+        private final TypeAdapter<PlayerChurnPreviousPredictionSegmentFilter> playerChurnPreviousPredictionSegmentFilterAdapter;
+        private final TypeAdapter<PushNotificationSegmentFilter> pushNotificationSegmentFilterAdapter;
+        private final TypeAdapter<StatisticSegmentFilter> statisticSegmentFilterAdapter;
+        private final TypeAdapter<TagSegmentFilter> tagSegmentFilterAdapter;
+        private final TypeAdapter<TotalValueToDateInUSDSegmentFilter> totalValueToDateInUSDSegmentFilterAdapter;
+        private final TypeAdapter<UserOriginationSegmentFilter> userOriginationSegmentFilterAdapter;
+        private final TypeAdapter<ValueToDateSegmentFilter> valueToDateSegmentFilterAdapter;
+        private final TypeAdapter<VirtualCurrencyBalanceSegmentFilter> virtualCurrencyBalanceSegmentFilterAdapter;
+
+        SegmentAndDefinitionAdapter(Gson gson) {
+            adCampaignSegmentFilterAdapter = gson.getAdapter(AdCampaignSegmentFilter.class);
+            allPlayersSegmentFilterAdapter = gson.getAdapter(AllPlayersSegmentFilter.class);
+            churnPredictionSegmentFilterAdapter = gson.getAdapter(ChurnPredictionSegmentFilter.class);
+            firstLoginDateSegmentFilterAdapter = gson.getAdapter(FirstLoginDateSegmentFilter.class);
+            firstLoginTimespanSegmentFilterAdapter = gson.getAdapter(FirstLoginTimespanSegmentFilter.class);
+            lastLoginDateSegmentFilterAdapter = gson.getAdapter(LastLoginDateSegmentFilter.class);
+            lastLoginTimespanSegmentFilterAdapter = gson.getAdapter(LastLoginTimespanSegmentFilter.class);
+            linkedUserAccountSegmentFilterAdapter = gson.getAdapter(LinkedUserAccountSegmentFilter.class);
+            linkedUserAccountHasEmailSegmentFilterAdapter = gson.getAdapter(LinkedUserAccountHasEmailSegmentFilter.class);
+            locationSegmentFilterAdapter = gson.getAdapter(LocationSegmentFilter.class);
+            playerChurnPredictionSegmentFilterAdapter = gson.getAdapter(PlayerChurnPredictionSegmentFilter.class);
+            playerChurnPredictionTimeSegmentFilterAdapter = gson.getAdapter(PlayerChurnPredictionTimeSegmentFilter.class);
+            playerChurnPreviousPredictionSegmentFilterAdapter = gson.getAdapter(PlayerChurnPreviousPredictionSegmentFilter.class);
+            pushNotificationSegmentFilterAdapter = gson.getAdapter(PushNotificationSegmentFilter.class);
+            statisticSegmentFilterAdapter = gson.getAdapter(StatisticSegmentFilter.class);
+            tagSegmentFilterAdapter = gson.getAdapter(TagSegmentFilter.class);
+            totalValueToDateInUSDSegmentFilterAdapter = gson.getAdapter(TotalValueToDateInUSDSegmentFilter.class);
+            userOriginationSegmentFilterAdapter = gson.getAdapter(UserOriginationSegmentFilter.class);
+            valueToDateSegmentFilterAdapter = gson.getAdapter(ValueToDateSegmentFilter.class);
+            virtualCurrencyBalanceSegmentFilterAdapter = gson.getAdapter(VirtualCurrencyBalanceSegmentFilter.class);
+        }
+
+        protected SegmentAndDefinition newInstance() {
+            return new SegmentAndDefinition();
+        }
+
+        protected void writeFields(JsonWriter out, SegmentAndDefinition value) throws IOException {
+            writeField(out, "AdCampaignFilter", value.AdCampaignFilter, adCampaignSegmentFilterAdapter);
+            writeField(out, "AllPlayersFilter", value.AllPlayersFilter, allPlayersSegmentFilterAdapter);
+            writeField(out, "ChurnPredictionFilter", value.ChurnPredictionFilter, churnPredictionSegmentFilterAdapter);
+            writeField(out, "FirstLoginDateFilter", value.FirstLoginDateFilter, firstLoginDateSegmentFilterAdapter);
+            writeField(out, "FirstLoginFilter", value.FirstLoginFilter, firstLoginTimespanSegmentFilterAdapter);
+            writeField(out, "LastLoginDateFilter", value.LastLoginDateFilter, lastLoginDateSegmentFilterAdapter);
+            writeField(out, "LastLoginFilter", value.LastLoginFilter, lastLoginTimespanSegmentFilterAdapter);
+            writeField(out, "LinkedUserAccountFilter", value.LinkedUserAccountFilter, linkedUserAccountSegmentFilterAdapter);
+            writeField(out, "LinkedUserAccountHasEmailFilter", value.LinkedUserAccountHasEmailFilter, linkedUserAccountHasEmailSegmentFilterAdapter);
+            writeField(out, "LocationFilter", value.LocationFilter, locationSegmentFilterAdapter);
+            writeField(out, "PlayerChurnPredictionFilter", value.PlayerChurnPredictionFilter, playerChurnPredictionSegmentFilterAdapter);
+            writeField(out, "PlayerChurnPredictionTimeFilter", value.PlayerChurnPredictionTimeFilter, playerChurnPredictionTimeSegmentFilterAdapter);
+            writeField(out, "PlayerChurnPreviousPredictionFilter", value.PlayerChurnPreviousPredictionFilter, playerChurnPreviousPredictionSegmentFilterAdapter);
+            writeField(out, "PushNotificationFilter", value.PushNotificationFilter, pushNotificationSegmentFilterAdapter);
+            writeField(out, "StatisticFilter", value.StatisticFilter, statisticSegmentFilterAdapter);
+            writeField(out, "TagFilter", value.TagFilter, tagSegmentFilterAdapter);
+            writeField(out, "TotalValueToDateInUSDFilter", value.TotalValueToDateInUSDFilter, totalValueToDateInUSDSegmentFilterAdapter);
+            writeField(out, "UserOriginationFilter", value.UserOriginationFilter, userOriginationSegmentFilterAdapter);
+            writeField(out, "ValueToDateFilter", value.ValueToDateFilter, valueToDateSegmentFilterAdapter);
+            writeField(out, "VirtualCurrencyBalanceFilter", value.VirtualCurrencyBalanceFilter, virtualCurrencyBalanceSegmentFilterAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SegmentAndDefinition value) throws IOException {
+            switch (name) {
+                case "AdCampaignFilter": value.AdCampaignFilter = adCampaignSegmentFilterAdapter.read(in); return true;
+                case "AllPlayersFilter": value.AllPlayersFilter = allPlayersSegmentFilterAdapter.read(in); return true;
+                case "ChurnPredictionFilter": value.ChurnPredictionFilter = churnPredictionSegmentFilterAdapter.read(in); return true;
+                case "FirstLoginDateFilter": value.FirstLoginDateFilter = firstLoginDateSegmentFilterAdapter.read(in); return true;
+                case "FirstLoginFilter": value.FirstLoginFilter = firstLoginTimespanSegmentFilterAdapter.read(in); return true;
+                case "LastLoginDateFilter": value.LastLoginDateFilter = lastLoginDateSegmentFilterAdapter.read(in); return true;
+                case "LastLoginFilter": value.LastLoginFilter = lastLoginTimespanSegmentFilterAdapter.read(in); return true;
+                case "LinkedUserAccountFilter": value.LinkedUserAccountFilter = linkedUserAccountSegmentFilterAdapter.read(in); return true;
+                case "LinkedUserAccountHasEmailFilter": value.LinkedUserAccountHasEmailFilter = linkedUserAccountHasEmailSegmentFilterAdapter.read(in); return true;
+                case "LocationFilter": value.LocationFilter = locationSegmentFilterAdapter.read(in); return true;
+                case "PlayerChurnPredictionFilter": value.PlayerChurnPredictionFilter = playerChurnPredictionSegmentFilterAdapter.read(in); return true;
+                case "PlayerChurnPredictionTimeFilter": value.PlayerChurnPredictionTimeFilter = playerChurnPredictionTimeSegmentFilterAdapter.read(in); return true;
+                case "PlayerChurnPreviousPredictionFilter": value.PlayerChurnPreviousPredictionFilter = playerChurnPreviousPredictionSegmentFilterAdapter.read(in); return true;
+                case "PushNotificationFilter": value.PushNotificationFilter = pushNotificationSegmentFilterAdapter.read(in); return true;
+                case "StatisticFilter": value.StatisticFilter = statisticSegmentFilterAdapter.read(in); return true;
+                case "TagFilter": value.TagFilter = tagSegmentFilterAdapter.read(in); return true;
+                case "TotalValueToDateInUSDFilter": value.TotalValueToDateInUSDFilter = totalValueToDateInUSDSegmentFilterAdapter.read(in); return true;
+                case "UserOriginationFilter": value.UserOriginationFilter = userOriginationSegmentFilterAdapter.read(in); return true;
+                case "ValueToDateFilter": value.ValueToDateFilter = valueToDateSegmentFilterAdapter.read(in); return true;
+                case "VirtualCurrencyBalanceFilter": value.VirtualCurrencyBalanceFilter = virtualCurrencyBalanceSegmentFilterAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SegmentModelAdapter extends PlayFabModelAdapter<SegmentModel> {
+        private final TypeAdapter<ArrayList<SegmentTrigger>> segmentTriggerListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<SegmentOrDefinition>> segmentOrDefinitionListAdapter;
+
+        SegmentModelAdapter(Gson gson) {
+            segmentTriggerListAdapter = listAdapter(gson, SegmentTrigger.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            segmentOrDefinitionListAdapter = listAdapter(gson, SegmentOrDefinition.class);
+        }
+
+        protected SegmentModel newInstance() {
+            return new SegmentModel();
+        }
+
+        protected void writeFields(JsonWriter out, SegmentModel value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "EnteredSegmentActions", value.EnteredSegmentActions, segmentTriggerListAdapter);
+            writeField(out, "LastUpdateTime", value.LastUpdateTime, dateAdapter);
+            writeField(out, "LeftSegmentActions", value.LeftSegmentActions, segmentTriggerListAdapter);
+            writeField(out, "Name", value.Name);
+            writeField(out, "SegmentId", value.SegmentId);
+            writeField(out, "SegmentOrDefinitions", value.SegmentOrDefinitions, segmentOrDefinitionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SegmentModel value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "EnteredSegmentActions": value.EnteredSegmentActions = segmentTriggerListAdapter.read(in); return true;
+                case "LastUpdateTime": value.LastUpdateTime = dateAdapter.read(in); return true;
+                case "LeftSegmentActions": value.LeftSegmentActions = segmentTriggerListAdapter.read(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                case "SegmentOrDefinitions": value.SegmentOrDefinitions = segmentOrDefinitionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SegmentOrDefinitionAdapter extends PlayFabModelAdapter<SegmentOrDefinition> {
+        private final TypeAdapter<ArrayList<SegmentAndDefinition>> segmentAndDefinitionListAdapter;
+
+        SegmentOrDefinitionAdapter(Gson gson) {
+            segmentAndDefinitionListAdapter = listAdapter(gson, SegmentAndDefinition.class);
+        }
+
+        protected SegmentOrDefinition newInstance() {
+            return new SegmentOrDefinition();
+        }
+
+        protected void writeFields(JsonWriter out, SegmentOrDefinition value) throws IOException {
+            writeField(out, "SegmentAndDefinitions", value.SegmentAndDefinitions, segmentAndDefinitionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SegmentOrDefinition value) throws IOException {
+            switch (name) {
+                case "SegmentAndDefinitions": value.SegmentAndDefinitions = segmentAndDefinitionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SegmentTriggerAdapter extends PlayFabModelAdapter<SegmentTrigger> {
+        private final TypeAdapter<BanPlayerSegmentAction> banPlayerSegmentActionAdapter;
+        private final TypeAdapter<DeletePlayerSegmentAction> deletePlayerSegmentActionAdapter;
+        private final TypeAdapter<DeletePlayerStatisticSegmentAction> deletePlayerStatisticSegmentActionAdapter;
+        private final TypeAdapter<EmailNotificationSegmentAction> emailNotificationSegmentActionAdapter;
+        private final TypeAdapter<ExecuteAzureFunctionSegmentAction> executeAzureFunctionSegmentActionAdapter;
+        private final TypeAdapter<ExecuteCloudScriptSegmentAction> executeCloudScriptSegmentActionAdapter;
+        private final TypeAdapter<GrantItemSegmentAction> grantItemSegmentActionAdapter;
+        private final TypeAdapter<GrantVirtualCurrencySegmentAction> grantVirtualCurrencySegmentActionAdapter;
+        private final TypeAdapter<IncrementPlayerStatisticSegmentAction> incrementPlayerStatisticSegmentActionAdapter;
+        private final TypeAdapter<PushNotificationSegmentAction> pushNotificationSegmentActionAdapter;
+
+        SegmentTriggerAdapter(Gson gson) {
+            banPlayerSegmentActionAdapter = gson.getAdapter(BanPlayerSegmentAction.class);
+            deletePlayerSegmentActionAdapter = gson.getAdapter(DeletePlayerSegmentAction.class);
+            deletePlayerStatisticSegmentActionAdapter = gson.getAdapter(DeletePlayerStatisticSegmentAction.class);
+            emailNotificationSegmentActionAdapter = gson.getAdapter(EmailNotificationSegmentAction.class);
+            executeAzureFunctionSegmentActionAdapter = gson.getAdapter(ExecuteAzureFunctionSegmentAction.class);
+            executeCloudScriptSegmentActionAdapter = gson.getAdapter(ExecuteCloudScriptSegmentAction.class);
+            grantItemSegmentActionAdapter = gson.getAdapter(GrantItemSegmentAction.class);
+            grantVirtualCurrencySegmentActionAdapter = gson.getAdapter(GrantVirtualCurrencySegmentAction.class);
+            incrementPlayerStatisticSegmentActionAdapter = gson.getAdapter(IncrementPlayerStatisticSegmentAction.class);
+            pushNotificationSegmentActionAdapter = gson.getAdapter(PushNotificationSegmentAction.class);
+        }
+
+        protected SegmentTrigger newInstance() {
+            return new SegmentTrigger();
+        }
+
+        protected void writeFields(JsonWriter out, SegmentTrigger value) throws IOException {
+            writeField(out, "BanPlayerAction", value.BanPlayerAction, banPlayerSegmentActionAdapter);
+            writeField(out, "DeletePlayerAction", value.DeletePlayerAction, deletePlayerSegmentActionAdapter);
+            writeField(out, "DeletePlayerStatisticAction", value.DeletePlayerStatisticAction, deletePlayerStatisticSegmentActionAdapter);
+            writeField(out, "EmailNotificationAction", value.EmailNotificationAction, emailNotificationSegmentActionAdapter);
+            writeField(out, "ExecuteAzureFunctionAction", value.ExecuteAzureFunctionAction, executeAzureFunctionSegmentActionAdapter);
+            writeField(out, "ExecuteCloudScriptAction", value.ExecuteCloudScriptAction, executeCloudScriptSegmentActionAdapter);
+            writeField(out, "GrantItemAction", value.GrantItemAction, grantItemSegmentActionAdapter);
+            writeField(out, "GrantVirtualCurrencyAction", value.GrantVirtualCurrencyAction, grantVirtualCurrencySegmentActionAdapter);
+            writeField(out, "IncrementPlayerStatisticAction", value.IncrementPlayerStatisticAction, incrementPlayerStatisticSegmentActionAdapter);
+            writeField(out, "PushNotificationAction", value.PushNotificationAction, pushNotificationSegmentActionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SegmentTrigger value) throws IOException {
+            switch (name) {
+                case "BanPlayerAction": value.BanPlayerAction = banPlayerSegmentActionAdapter.read(in); return true;
+                case "DeletePlayerAction": value.DeletePlayerAction = deletePlayerSegmentActionAdapter.read(in); return true;
+                case "DeletePlayerStatisticAction": value.DeletePlayerStatisticAction = deletePlayerStatisticSegmentActionAdapter.read(in); return true;
+                case "EmailNotificationAction": value.EmailNotificationAction = emailNotificationSegmentActionAdapter.read(in); return true;
+                case "ExecuteAzureFunctionAction": value.ExecuteAzureFunctionAction = executeAzureFunctionSegmentActionAdapter.read(in); return true;
+                case "ExecuteCloudScriptAction": value.ExecuteCloudScriptAction = executeCloudScriptSegmentActionAdapter.read(in); return true;
+                case "GrantItemAction": value.GrantItemAction = grantItemSegmentActionAdapter.read(in); return true;
+                case "GrantVirtualCurrencyAction": value.GrantVirtualCurrencyAction = grantVirtualCurrencySegmentActionAdapter.read(in); return true;
+                case "IncrementPlayerStatisticAction": value.IncrementPlayerStatisticAction = incrementPlayerStatisticSegmentActionAdapter.read(in); return true;
+                case "PushNotificationAction": value.PushNotificationAction = pushNotificationSegmentActionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendAccountRecoveryEmailRequestAdapter extends PlayFabModelAdapter<SendAccountRecoveryEmailRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SendAccountRecoveryEmailRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SendAccountRecoveryEmailRequest newInstance() {
+            return new SendAccountRecoveryEmailRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SendAccountRecoveryEmailRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Email", value.Email);
+            writeField(out, "EmailTemplateId", value.EmailTemplateId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendAccountRecoveryEmailRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Email": value.Email = readString(in); return true;
+                case "EmailTemplateId": value.EmailTemplateId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendAccountRecoveryEmailResultAdapter extends PlayFabModelAdapter<SendAccountRecoveryEmailResult> {
+        SendAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        protected SendAccountRecoveryEmailResult newInstance() {
+            return new SendAccountRecoveryEmailResult();
+        }
+
+        protected void writeFields(JsonWriter out, SendAccountRecoveryEmailResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SendAccountRecoveryEmailResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendEmailContentAdapter extends PlayFabModelAdapter<SendEmailContent> {
+        SendEmailContentAdapter(Gson gson) {
+        }
+
+        protected SendEmailContent newInstance() {
+            return new SendEmailContent();
+        }
+
+        protected void writeFields(JsonWriter out, SendEmailContent value) throws IOException {
+            writeField(out, "EmailTemplateId", value.EmailTemplateId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendEmailContent value) throws IOException {
+            switch (name) {
+                case "EmailTemplateId": value.EmailTemplateId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetMembershipOverrideRequestAdapter extends PlayFabModelAdapter<SetMembershipOverrideRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        SetMembershipOverrideRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected SetMembershipOverrideRequest newInstance() {
+            return new SetMembershipOverrideRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetMembershipOverrideRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExpirationTime", value.ExpirationTime, dateAdapter);
+            writeField(out, "MembershipId", value.MembershipId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetMembershipOverrideRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExpirationTime": value.ExpirationTime = dateAdapter.read(in); return true;
+                case "MembershipId": value.MembershipId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetMembershipOverrideResultAdapter extends PlayFabModelAdapter<SetMembershipOverrideResult> {
+        SetMembershipOverrideResultAdapter(Gson gson) {
+        }
+
+        protected SetMembershipOverrideResult newInstance() {
+            return new SetMembershipOverrideResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetMembershipOverrideResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetMembershipOverrideResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPlayerSecretRequestAdapter extends PlayFabModelAdapter<SetPlayerSecretRequest> {
+        SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        protected SetPlayerSecretRequest newInstance() {
+            return new SetPlayerSecretRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPlayerSecretRequest value) throws IOException {
+            switch (name) {
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPlayerSecretResultAdapter extends PlayFabModelAdapter<SetPlayerSecretResult> {
+        SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        protected SetPlayerSecretResult newInstance() {
+            return new SetPlayerSecretResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPlayerSecretResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPublishedRevisionRequestAdapter extends PlayFabModelAdapter<SetPublishedRevisionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SetPublishedRevisionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SetPublishedRevisionRequest newInstance() {
+            return new SetPublishedRevisionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetPublishedRevisionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Revision", value.Revision);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPublishedRevisionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Revision": value.Revision = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPublishedRevisionResultAdapter extends PlayFabModelAdapter<SetPublishedRevisionResult> {
+        SetPublishedRevisionResultAdapter(Gson gson) {
+        }
+
+        protected SetPublishedRevisionResult newInstance() {
+            return new SetPublishedRevisionResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetPublishedRevisionResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPublishedRevisionResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPublisherDataRequestAdapter extends PlayFabModelAdapter<SetPublisherDataRequest> {
+        SetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        protected SetPublisherDataRequest newInstance() {
+            return new SetPublisherDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetPublisherDataRequest value) throws IOException {
+            writeField(out, "Key", value.Key);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPublisherDataRequest value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPublisherDataResultAdapter extends PlayFabModelAdapter<SetPublisherDataResult> {
+        SetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        protected SetPublisherDataResult newInstance() {
+            return new SetPublisherDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetPublisherDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPublisherDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTitleDataAndOverridesRequestAdapter extends PlayFabModelAdapter<SetTitleDataAndOverridesRequest> {
+        private final TypeAdapter<ArrayList<TitleDataKeyValue>> titleDataKeyValueListAdapter;
+
+        SetTitleDataAndOverridesRequestAdapter(Gson gson) {
+            titleDataKeyValueListAdapter = listAdapter(gson, TitleDataKeyValue.class);
+        }
+
+        protected SetTitleDataAndOverridesRequest newInstance() {
+            return new SetTitleDataAndOverridesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetTitleDataAndOverridesRequest value) throws IOException {
+            writeField(out, "KeyValues", value.KeyValues, titleDataKeyValueListAdapter);
+            writeField(out, "OverrideLabel", value.OverrideLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTitleDataAndOverridesRequest value) throws IOException {
+            switch (name) {
+                case "KeyValues": value.KeyValues = titleDataKeyValueListAdapter.read(in); return true;
+                case "OverrideLabel": value.OverrideLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTitleDataAndOverridesResultAdapter extends PlayFabModelAdapter<SetTitleDataAndOverridesResult> {
+        SetTitleDataAndOverridesResultAdapter(Gson gson) {
+        }
+
+        protected SetTitleDataAndOverridesResult newInstance() {
+            return new SetTitleDataAndOverridesResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetTitleDataAndOverridesResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTitleDataAndOverridesResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTitleDataRequestAdapter extends PlayFabModelAdapter<SetTitleDataRequest> {
+        SetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        protected SetTitleDataRequest newInstance() {
+            return new SetTitleDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetTitleDataRequest value) throws IOException {
+            writeField(out, "Key", value.Key);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTitleDataRequest value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTitleDataResultAdapter extends PlayFabModelAdapter<SetTitleDataResult> {
+        SetTitleDataResultAdapter(Gson gson) {
+        }
+
+        protected SetTitleDataResult newInstance() {
+            return new SetTitleDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetTitleDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTitleDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetupPushNotificationRequestAdapter extends PlayFabModelAdapter<SetupPushNotificationRequest> {
+        private final TypeAdapter<PushSetupPlatform> pushSetupPlatformAdapter;
+
+        SetupPushNotificationRequestAdapter(Gson gson) {
+            pushSetupPlatformAdapter = gson.getAdapter(PushSetupPlatform.class);
+        }
+
+        protected SetupPushNotificationRequest newInstance() {
+            return new SetupPushNotificationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetupPushNotificationRequest value) throws IOException {
+            writeField(out, "Credential", value.Credential);
+            writeField(out, "Key", value.Key);
+            writeField(out, "Name", value.Name);
+            writeField(out, "OverwriteOldARN", value.OverwriteOldARN);
+            writeField(out, "Platform", value.Platform, pushSetupPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetupPushNotificationRequest value) throws IOException {
+            switch (name) {
+                case "Credential": value.Credential = readString(in); return true;
+                case "Key": value.Key = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "OverwriteOldARN": value.OverwriteOldARN = readBoolean(in); return true;
+                case "Platform": value.Platform = pushSetupPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetupPushNotificationResultAdapter extends PlayFabModelAdapter<SetupPushNotificationResult> {
+        SetupPushNotificationResultAdapter(Gson gson) {
+        }
+
+        protected SetupPushNotificationResult newInstance() {
+            return new SetupPushNotificationResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetupPushNotificationResult value) throws IOException {
+            writeField(out, "ARN", value.ARN);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetupPushNotificationResult value) throws IOException {
+            switch (name) {
+                case "ARN": value.ARN = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SharedSecretAdapter extends PlayFabModelAdapter<SharedSecret> {
+        SharedSecretAdapter(Gson gson) {
+        }
+
+        protected SharedSecret newInstance() {
+            return new SharedSecret();
+        }
+
+        protected void writeFields(JsonWriter out, SharedSecret value) throws IOException {
+            writeField(out, "Disabled", value.Disabled);
+            writeField(out, "FriendlyName", value.FriendlyName);
+            writeField(out, "SecretKey", value.SecretKey);
+        }
+
+        protected boolean readField(JsonReader in, String name, SharedSecret value) throws IOException {
+            switch (name) {
+                case "Disabled": value.Disabled = readBoolean(in); return true;
+                case "FriendlyName": value.FriendlyName = readString(in); return true;
+                case "SecretKey": value.SecretKey = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticModelAdapter extends PlayFabModelAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        protected StatisticModel newInstance() {
+            return new StatisticModel();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticModel value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticModel value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticSegmentFilterAdapter extends PlayFabModelAdapter<StatisticSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        StatisticSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected StatisticSegmentFilter newInstance() {
+            return new StatisticSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "FilterValue", value.FilterValue);
+            writeField(out, "Name", value.Name);
+            writeField(out, "UseCurrentVersion", value.UseCurrentVersion);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "FilterValue": value.FilterValue = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "UseCurrentVersion": value.UseCurrentVersion = readBoolean(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreItemAdapter extends PlayFabModelAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected StoreItem newInstance() {
+            return new StoreItem();
+        }
+
+        protected void writeFields(JsonWriter out, StoreItem value) throws IOException {
+            writeField(out, "CustomData", value.CustomData, objectAdapter);
+            writeField(out, "DisplayPosition", value.DisplayPosition);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreItem value) throws IOException {
+            switch (name) {
+                case "CustomData": value.CustomData = objectAdapter.read(in); return true;
+                case "DisplayPosition": value.DisplayPosition = readLong(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreMarketingModelAdapter extends PlayFabModelAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected StoreMarketingModel newInstance() {
+            return new StoreMarketingModel();
+        }
+
+        protected void writeFields(JsonWriter out, StoreMarketingModel value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Metadata", value.Metadata, objectAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreMarketingModel value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Metadata": value.Metadata = objectAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends PlayFabModelAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        protected SubscriptionModel newInstance() {
+            return new SubscriptionModel();
+        }
+
+        protected void writeFields(JsonWriter out, SubscriptionModel value) throws IOException {
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "InitialSubscriptionTime", value.InitialSubscriptionTime, dateAdapter);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Status", value.Status, subscriptionProviderStatusAdapter);
+            writeField(out, "SubscriptionId", value.SubscriptionId);
+            writeField(out, "SubscriptionItemId", value.SubscriptionItemId);
+            writeField(out, "SubscriptionProvider", value.SubscriptionProvider);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscriptionModel value) throws IOException {
+            switch (name) {
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); return true;
+                case "SubscriptionId": value.SubscriptionId = readString(in); return true;
+                case "SubscriptionItemId": value.SubscriptionItemId = readString(in); return true;
+                case "SubscriptionProvider": value.SubscriptionProvider = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractInventoryItemV2ContentAdapter extends PlayFabModelAdapter<SubtractInventoryItemV2Content> {
+        SubtractInventoryItemV2ContentAdapter(Gson gson) {
+        }
+
+        protected SubtractInventoryItemV2Content newInstance() {
+            return new SubtractInventoryItemV2Content();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractInventoryItemV2Content value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "StackId", value.StackId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractInventoryItemV2Content value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readInteger(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractUserVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<SubtractUserVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SubtractUserVirtualCurrencyRequest newInstance() {
+            return new SubtractUserVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TagModelAdapter extends PlayFabModelAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        protected TagModel newInstance() {
+            return new TagModel();
+        }
+
+        protected void writeFields(JsonWriter out, TagModel value) throws IOException {
+            writeField(out, "TagValue", value.TagValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, TagModel value) throws IOException {
+            switch (name) {
+                case "TagValue": value.TagValue = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TagSegmentFilterAdapter extends PlayFabModelAdapter<TagSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        TagSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected TagSegmentFilter newInstance() {
+            return new TagSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, TagSegmentFilter value) throws IOException {
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "TagValue", value.TagValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, TagSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "TagValue": value.TagValue = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TaskInstanceBasicSummaryAdapter extends PlayFabModelAdapter<TaskInstanceBasicSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        TaskInstanceBasicSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        protected TaskInstanceBasicSummary newInstance() {
+            return new TaskInstanceBasicSummary();
+        }
+
+        protected void writeFields(JsonWriter out, TaskInstanceBasicSummary value) throws IOException {
+            writeField(out, "CompletedAt", value.CompletedAt, dateAdapter);
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+            writeField(out, "EstimatedSecondsRemaining", value.EstimatedSecondsRemaining);
+            writeField(out, "PercentComplete", value.PercentComplete);
+            writeField(out, "ScheduledByUserId", value.ScheduledByUserId);
+            writeField(out, "StartedAt", value.StartedAt, dateAdapter);
+            writeField(out, "Status", value.Status, taskInstanceStatusAdapter);
+            writeField(out, "TaskIdentifier", value.TaskIdentifier, nameIdentifierAdapter);
+            writeField(out, "TaskInstanceId", value.TaskInstanceId);
+            writeField(out, "Type", value.Type, scheduledTaskTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TaskInstanceBasicSummary value) throws IOException {
+            switch (name) {
+                case "CompletedAt": value.CompletedAt = dateAdapter.read(in); return true;
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = readDouble(in); return true;
+                case "PercentComplete": value.PercentComplete = readDouble(in); return true;
+                case "ScheduledByUserId": value.ScheduledByUserId = readString(in); return true;
+                case "StartedAt": value.StartedAt = dateAdapter.read(in); return true;
+                case "Status": value.Status = taskInstanceStatusAdapter.read(in); return true;
+                case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); return true;
+                case "TaskInstanceId": value.TaskInstanceId = readString(in); return true;
+                case "Type": value.Type = scheduledTaskTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TitleDataKeyValueAdapter extends PlayFabModelAdapter<TitleDataKeyValue> {
+        TitleDataKeyValueAdapter(Gson gson) {
+        }
+
+        protected TitleDataKeyValue newInstance() {
+            return new TitleDataKeyValue();
+        }
+
+        protected void writeFields(JsonWriter out, TitleDataKeyValue value) throws IOException {
+            writeField(out, "Key", value.Key);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, TitleDataKeyValue value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TotalValueToDateInUSDSegmentFilterAdapter extends PlayFabModelAdapter<TotalValueToDateInUSDSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        TotalValueToDateInUSDSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected TotalValueToDateInUSDSegmentFilter newInstance() {
+            return new TotalValueToDateInUSDSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, TotalValueToDateInUSDSegmentFilter value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TotalValueToDateInUSDSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readString(in); return true;
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBanRequestAdapter extends PlayFabModelAdapter<UpdateBanRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        UpdateBanRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected UpdateBanRequest newInstance() {
+            return new UpdateBanRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBanRequest value) throws IOException {
+            writeField(out, "Active", value.Active);
+            writeField(out, "BanId", value.BanId);
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "IPAddress", value.IPAddress);
+            writeField(out, "Permanent", value.Permanent);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBanRequest value) throws IOException {
+            switch (name) {
+                case "Active": value.Active = readBoolean(in); return true;
+                case "BanId": value.BanId = readString(in); return true;
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "IPAddress": value.IPAddress = readString(in); return true;
+                case "Permanent": value.Permanent = readBoolean(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBansRequestAdapter extends PlayFabModelAdapter<UpdateBansRequest> {
+        private final TypeAdapter<ArrayList<UpdateBanRequest>> updateBanRequestListAdapter;
+
+        UpdateBansRequestAdapter(Gson gson) {
+            updateBanRequestListAdapter = listAdapter(gson, UpdateBanRequest.class);
+        }
+
+        protected UpdateBansRequest newInstance() {
+            return new UpdateBansRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBansRequest value) throws IOException {
+            writeField(out, "Bans", value.Bans, updateBanRequestListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBansRequest value) throws IOException {
+            switch (name) {
+                case "Bans": value.Bans = updateBanRequestListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBansResultAdapter extends PlayFabModelAdapter<UpdateBansResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        UpdateBansResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected UpdateBansResult newInstance() {
+            return new UpdateBansResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBansResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBansResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCatalogItemsRequestAdapter extends PlayFabModelAdapter<UpdateCatalogItemsRequest> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateCatalogItemsRequestAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateCatalogItemsRequest newInstance() {
+            return new UpdateCatalogItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCatalogItemsRequest value) throws IOException {
+            writeField(out, "Catalog", value.Catalog, catalogItemListAdapter);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "SetAsDefaultCatalog", value.SetAsDefaultCatalog);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCatalogItemsRequest value) throws IOException {
+            switch (name) {
+                case "Catalog": value.Catalog = catalogItemListAdapter.read(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "SetAsDefaultCatalog": value.SetAsDefaultCatalog = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCatalogItemsResultAdapter extends PlayFabModelAdapter<UpdateCatalogItemsResult> {
+        UpdateCatalogItemsResultAdapter(Gson gson) {
+        }
+
+        protected UpdateCatalogItemsResult newInstance() {
+            return new UpdateCatalogItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCatalogItemsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCatalogItemsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCloudScriptRequestAdapter extends PlayFabModelAdapter<UpdateCloudScriptRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<CloudScriptFile>> cloudScriptFileListAdapter;
+
+        UpdateCloudScriptRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            cloudScriptFileListAdapter = listAdapter(gson, CloudScriptFile.class);
+        }
+
+        protected UpdateCloudScriptRequest newInstance() {
+            return new UpdateCloudScriptRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCloudScriptRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeveloperPlayFabId", value.DeveloperPlayFabId);
+            writeField(out, "Files", value.Files, cloudScriptFileListAdapter);
+            writeField(out, "Publish", value.Publish);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCloudScriptRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeveloperPlayFabId": value.DeveloperPlayFabId = readString(in); return true;
+                case "Files": value.Files = cloudScriptFileListAdapter.read(in); return true;
+                case "Publish": value.Publish = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCloudScriptResultAdapter extends PlayFabModelAdapter<UpdateCloudScriptResult> {
+        UpdateCloudScriptResultAdapter(Gson gson) {
+        }
+
+        protected UpdateCloudScriptResult newInstance() {
+            return new UpdateCloudScriptResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCloudScriptResult value) throws IOException {
+            writeField(out, "Revision", value.Revision);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCloudScriptResult value) throws IOException {
+            switch (name) {
+                case "Revision": value.Revision = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateOpenIdConnectionRequestAdapter extends PlayFabModelAdapter<UpdateOpenIdConnectionRequest> {
+        private final TypeAdapter<OpenIdIssuerInformation> openIdIssuerInformationAdapter;
+
+        UpdateOpenIdConnectionRequestAdapter(Gson gson) {
+            openIdIssuerInformationAdapter = gson.getAdapter(OpenIdIssuerInformation.class);
+        }
+
+        protected UpdateOpenIdConnectionRequest newInstance() {
+            return new UpdateOpenIdConnectionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateOpenIdConnectionRequest value) throws IOException {
+            writeField(out, "ClientId", value.ClientId);
+            writeField(out, "ClientSecret", value.ClientSecret);
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "IgnoreNonce", value.IgnoreNonce);
+            writeField(out, "IssuerDiscoveryUrl", value.IssuerDiscoveryUrl);
+            writeField(out, "IssuerInformation", value.IssuerInformation, openIdIssuerInformationAdapter);
+            writeField(out, "IssuerOverride", value.IssuerOverride);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateOpenIdConnectionRequest value) throws IOException {
+            switch (name) {
+                case "ClientId": value.ClientId = readString(in); return true;
+                case "ClientSecret": value.ClientSecret = readString(in); return true;
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "IgnoreNonce": value.IgnoreNonce = readBoolean(in); return true;
+                case "IssuerDiscoveryUrl": value.IssuerDiscoveryUrl = readString(in); return true;
+                case "IssuerInformation": value.IssuerInformation = openIdIssuerInformationAdapter.read(in); return true;
+                case "IssuerOverride": value.IssuerOverride = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerSharedSecretRequestAdapter extends PlayFabModelAdapter<UpdatePlayerSharedSecretRequest> {
+        UpdatePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        protected UpdatePlayerSharedSecretRequest newInstance() {
+            return new UpdatePlayerSharedSecretRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerSharedSecretRequest value) throws IOException {
+            writeField(out, "Disabled", value.Disabled);
+            writeField(out, "FriendlyName", value.FriendlyName);
+            writeField(out, "SecretKey", value.SecretKey);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerSharedSecretRequest value) throws IOException {
+            switch (name) {
+                case "Disabled": value.Disabled = readBoolean(in); return true;
+                case "FriendlyName": value.FriendlyName = readString(in); return true;
+                case "SecretKey": value.SecretKey = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerSharedSecretResultAdapter extends PlayFabModelAdapter<UpdatePlayerSharedSecretResult> {
+        UpdatePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        protected UpdatePlayerSharedSecretResult newInstance() {
+            return new UpdatePlayerSharedSecretResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerSharedSecretResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerSharedSecretResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerStatisticDefinitionRequestAdapter extends PlayFabModelAdapter<UpdatePlayerStatisticDefinitionRequest> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        UpdatePlayerStatisticDefinitionRequestAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        protected UpdatePlayerStatisticDefinitionRequest newInstance() {
+            return new UpdatePlayerStatisticDefinitionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerStatisticDefinitionRequest value) throws IOException {
+            writeField(out, "AggregationMethod", value.AggregationMethod, statisticAggregationMethodAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "VersionChangeInterval", value.VersionChangeInterval, statisticResetIntervalOptionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerStatisticDefinitionRequest value) throws IOException {
+            switch (name) {
+                case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerStatisticDefinitionResultAdapter extends PlayFabModelAdapter<UpdatePlayerStatisticDefinitionResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        UpdatePlayerStatisticDefinitionResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        protected UpdatePlayerStatisticDefinitionResult newInstance() {
+            return new UpdatePlayerStatisticDefinitionResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerStatisticDefinitionResult value) throws IOException {
+            writeField(out, "Statistic", value.Statistic, playerStatisticDefinitionAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerStatisticDefinitionResult value) throws IOException {
+            switch (name) {
+                case "Statistic": value.Statistic = playerStatisticDefinitionAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePolicyRequestAdapter extends PlayFabModelAdapter<UpdatePolicyRequest> {
+        private final TypeAdapter<ArrayList<PermissionStatement>> permissionStatementListAdapter;
+
+        UpdatePolicyRequestAdapter(Gson gson) {
+            permissionStatementListAdapter = listAdapter(gson, PermissionStatement.class);
+        }
+
+        protected UpdatePolicyRequest newInstance() {
+            return new UpdatePolicyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePolicyRequest value) throws IOException {
+            writeField(out, "OverwritePolicy", value.OverwritePolicy);
+            writeField(out, "PolicyName", value.PolicyName);
+            writeField(out, "PolicyVersion", value.PolicyVersion);
+            writeField(out, "Statements", value.Statements, permissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePolicyRequest value) throws IOException {
+            switch (name) {
+                case "OverwritePolicy": value.OverwritePolicy = readBoolean(in); return true;
+                case "PolicyName": value.PolicyName = readString(in); return true;
+                case "PolicyVersion": value.PolicyVersion = readInteger(in); return true;
+                case "Statements": value.Statements = permissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePolicyResponseAdapter extends PlayFabModelAdapter<UpdatePolicyResponse> {
+        private final TypeAdapter<ArrayList<PermissionStatement>> permissionStatementListAdapter;
+
+        UpdatePolicyResponseAdapter(Gson gson) {
+            permissionStatementListAdapter = listAdapter(gson, PermissionStatement.class);
+        }
+
+        protected UpdatePolicyResponse newInstance() {
+            return new UpdatePolicyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePolicyResponse value) throws IOException {
+            writeField(out, "PolicyName", value.PolicyName);
+            writeField(out, "Statements", value.Statements, permissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePolicyResponse value) throws IOException {
+            switch (name) {
+                case "PolicyName": value.PolicyName = readString(in); return true;
+                case "Statements": value.Statements = permissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateRandomResultTablesRequestAdapter extends PlayFabModelAdapter<UpdateRandomResultTablesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<RandomResultTable>> randomResultTableListAdapter;
+
+        UpdateRandomResultTablesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            randomResultTableListAdapter = listAdapter(gson, RandomResultTable.class);
+        }
+
+        protected UpdateRandomResultTablesRequest newInstance() {
+            return new UpdateRandomResultTablesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateRandomResultTablesRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Tables", value.Tables, randomResultTableListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateRandomResultTablesRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Tables": value.Tables = randomResultTableListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateRandomResultTablesResultAdapter extends PlayFabModelAdapter<UpdateRandomResultTablesResult> {
+        UpdateRandomResultTablesResultAdapter(Gson gson) {
+        }
+
+        protected UpdateRandomResultTablesResult newInstance() {
+            return new UpdateRandomResultTablesResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateRandomResultTablesResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateRandomResultTablesResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateSegmentRequestAdapter extends PlayFabModelAdapter<UpdateSegmentRequest> {
+        private final TypeAdapter<SegmentModel> segmentModelAdapter;
+
+        UpdateSegmentRequestAdapter(Gson gson) {
+            segmentModelAdapter = gson.getAdapter(SegmentModel.class);
+        }
+
+        protected UpdateSegmentRequest newInstance() {
+            return new UpdateSegmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateSegmentRequest value) throws IOException {
+            writeField(out, "SegmentModel", value.SegmentModel, segmentModelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateSegmentRequest value) throws IOException {
+            switch (name) {
+                case "SegmentModel": value.SegmentModel = segmentModelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateSegmentResponseAdapter extends PlayFabModelAdapter<UpdateSegmentResponse> {
+        UpdateSegmentResponseAdapter(Gson gson) {
+        }
+
+        protected UpdateSegmentResponse newInstance() {
+            return new UpdateSegmentResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateSegmentResponse value) throws IOException {
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateSegmentResponse value) throws IOException {
+            switch (name) {
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateStoreItemsRequestAdapter extends PlayFabModelAdapter<UpdateStoreItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<ArrayList<StoreItem>> storeItemListAdapter;
+
+        UpdateStoreItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            storeItemListAdapter = listAdapter(gson, StoreItem.class);
+        }
+
+        protected UpdateStoreItemsRequest newInstance() {
+            return new UpdateStoreItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateStoreItemsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MarketingData", value.MarketingData, storeMarketingModelAdapter);
+            writeField(out, "Store", value.Store, storeItemListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateStoreItemsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); return true;
+                case "Store": value.Store = storeItemListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateStoreItemsResultAdapter extends PlayFabModelAdapter<UpdateStoreItemsResult> {
+        UpdateStoreItemsResultAdapter(Gson gson) {
+        }
+
+        protected UpdateStoreItemsResult newInstance() {
+            return new UpdateStoreItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateStoreItemsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateStoreItemsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateTaskRequestAdapter extends PlayFabModelAdapter<UpdateTaskRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        UpdateTaskRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        protected UpdateTaskRequest newInstance() {
+            return new UpdateTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateTaskRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "Identifier", value.Identifier, nameIdentifierAdapter);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Parameter", value.Parameter, objectAdapter);
+            writeField(out, "Schedule", value.Schedule);
+            writeField(out, "Type", value.Type, scheduledTaskTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateTaskRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Parameter": value.Parameter = objectAdapter.read(in); return true;
+                case "Schedule": value.Schedule = readString(in); return true;
+                case "Type": value.Type = scheduledTaskTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserDataRequestAdapter extends PlayFabModelAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateUserDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateUserDataRequest newInstance() {
+            return new UpdateUserDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserDataResultAdapter extends PlayFabModelAdapter<UpdateUserDataResult> {
+        UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateUserDataResult newInstance() {
+            return new UpdateUserDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserDataResult value) throws IOException {
+            switch (name) {
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserInternalDataRequestAdapter extends PlayFabModelAdapter<UpdateUserInternalDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        UpdateUserInternalDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected UpdateUserInternalDataRequest newInstance() {
+            return new UpdateUserInternalDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserInternalDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserInternalDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameRequestAdapter extends PlayFabModelAdapter<UpdateUserTitleDisplayNameRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateUserTitleDisplayNameRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateUserTitleDisplayNameRequest newInstance() {
+            return new UpdateUserTitleDisplayNameRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserTitleDisplayNameResultAdapter extends PlayFabModelAdapter<UpdateUserTitleDisplayNameResult> {
+        UpdateUserTitleDisplayNameResultAdapter(Gson gson) {
+        }
+
+        protected UpdateUserTitleDisplayNameResult newInstance() {
+            return new UpdateUserTitleDisplayNameResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserTitleDisplayNameResult value) throws IOException {
+            writeField(out, "DisplayName", value.DisplayName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserTitleDisplayNameResult value) throws IOException {
+            switch (name) {
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAccountInfoAdapter extends PlayFabModelAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<UserAppleIdInfo> userAppleIdInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserGooglePlayGamesInfo> userGooglePlayGamesInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchAccountIdInfo> userNintendoSwitchAccountIdInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<ArrayList<UserOpenIdInfo>> userOpenIdInfoListAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserServerCustomIdInfo> userServerCustomIdInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            userAppleIdInfoAdapter = gson.getAdapter(UserAppleIdInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userGooglePlayGamesInfoAdapter = gson.getAdapter(UserGooglePlayGamesInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchAccountIdInfoAdapter = gson.getAdapter(UserNintendoSwitchAccountIdInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoListAdapter = listAdapter(gson, UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userServerCustomIdInfoAdapter = gson.getAdapter(UserServerCustomIdInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        protected UserAccountInfo newInstance() {
+            return new UserAccountInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAccountInfo value) throws IOException {
+            writeField(out, "AndroidDeviceInfo", value.AndroidDeviceInfo, userAndroidDeviceInfoAdapter);
+            writeField(out, "AppleAccountInfo", value.AppleAccountInfo, userAppleIdInfoAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "CustomIdInfo", value.CustomIdInfo, userCustomIdInfoAdapter);
+            writeField(out, "FacebookInfo", value.FacebookInfo, userFacebookInfoAdapter);
+            writeField(out, "FacebookInstantGamesIdInfo", value.FacebookInstantGamesIdInfo, userFacebookInstantGamesIdInfoAdapter);
+            writeField(out, "GameCenterInfo", value.GameCenterInfo, userGameCenterInfoAdapter);
+            writeField(out, "GoogleInfo", value.GoogleInfo, userGoogleInfoAdapter);
+            writeField(out, "GooglePlayGamesInfo", value.GooglePlayGamesInfo, userGooglePlayGamesInfoAdapter);
+            writeField(out, "IosDeviceInfo", value.IosDeviceInfo, userIosDeviceInfoAdapter);
+            writeField(out, "KongregateInfo", value.KongregateInfo, userKongregateInfoAdapter);
+            writeField(out, "NintendoSwitchAccountInfo", value.NintendoSwitchAccountInfo, userNintendoSwitchAccountIdInfoAdapter);
+            writeField(out, "NintendoSwitchDeviceIdInfo", value.NintendoSwitchDeviceIdInfo, userNintendoSwitchDeviceIdInfoAdapter);
+            writeField(out, "OpenIdInfo", value.OpenIdInfo, userOpenIdInfoListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PrivateInfo", value.PrivateInfo, userPrivateAccountInfoAdapter);
+            writeField(out, "PsnInfo", value.PsnInfo, userPsnInfoAdapter);
+            writeField(out, "ServerCustomIdInfo", value.ServerCustomIdInfo, userServerCustomIdInfoAdapter);
+            writeField(out, "SteamInfo", value.SteamInfo, userSteamInfoAdapter);
+            writeField(out, "TitleInfo", value.TitleInfo, userTitleInfoAdapter);
+            writeField(out, "TwitchInfo", value.TwitchInfo, userTwitchInfoAdapter);
+            writeField(out, "Username", value.Username);
+            writeField(out, "XboxInfo", value.XboxInfo, userXboxInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAccountInfo value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); return true;
+                case "AppleAccountInfo": value.AppleAccountInfo = userAppleIdInfoAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); return true;
+                case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); return true;
+                case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); return true;
+                case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); return true;
+                case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); return true;
+                case "GooglePlayGamesInfo": value.GooglePlayGamesInfo = userGooglePlayGamesInfoAdapter.read(in); return true;
+                case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); return true;
+                case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); return true;
+                case "NintendoSwitchAccountInfo": value.NintendoSwitchAccountInfo = userNintendoSwitchAccountIdInfoAdapter.read(in); return true;
+                case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); return true;
+                case "OpenIdInfo": value.OpenIdInfo = userOpenIdInfoListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); return true;
+                case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); return true;
+                case "ServerCustomIdInfo": value.ServerCustomIdInfo = userServerCustomIdInfoAdapter.read(in); return true;
+                case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); return true;
+                case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); return true;
+                case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAndroidDeviceInfoAdapter extends PlayFabModelAdapter<UserAndroidDeviceInfo> {
+        UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        protected UserAndroidDeviceInfo newInstance() {
+            return new UserAndroidDeviceInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            writeField(out, "AndroidDeviceId", value.AndroidDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAndroidDeviceInfo value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceId": value.AndroidDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAppleIdInfoAdapter extends PlayFabModelAdapter<UserAppleIdInfo> {
+        UserAppleIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserAppleIdInfo newInstance() {
+            return new UserAppleIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAppleIdInfo value) throws IOException {
+            writeField(out, "AppleSubjectId", value.AppleSubjectId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAppleIdInfo value) throws IOException {
+            switch (name) {
+                case "AppleSubjectId": value.AppleSubjectId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserCustomIdInfoAdapter extends PlayFabModelAdapter<UserCustomIdInfo> {
+        UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserCustomIdInfo newInstance() {
+            return new UserCustomIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserCustomIdInfo value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserDataRecordAdapter extends PlayFabModelAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UserDataRecord newInstance() {
+            return new UserDataRecord();
+        }
+
+        protected void writeFields(JsonWriter out, UserDataRecord value) throws IOException {
+            writeField(out, "LastUpdated", value.LastUpdated, dateAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserDataRecord value) throws IOException {
+            switch (name) {
+                case "LastUpdated": value.LastUpdated = dateAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserFacebookInfoAdapter extends PlayFabModelAdapter<UserFacebookInfo> {
+        UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        protected UserFacebookInfo newInstance() {
+            return new UserFacebookInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserFacebookInfo value) throws IOException {
+            writeField(out, "FacebookId", value.FacebookId);
+            writeField(out, "FullName", value.FullName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserFacebookInfo value) throws IOException {
+            switch (name) {
+                case "FacebookId": value.FacebookId = readString(in); return true;
+                case "FullName": value.FullName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserFacebookInstantGamesIdInfoAdapter extends PlayFabModelAdapter<UserFacebookInstantGamesIdInfo> {
+        UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserFacebookInstantGamesIdInfo newInstance() {
+            return new UserFacebookInstantGamesIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            writeField(out, "FacebookInstantGamesId", value.FacebookInstantGamesId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserFacebookInstantGamesIdInfo value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesId": value.FacebookInstantGamesId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGameCenterInfoAdapter extends PlayFabModelAdapter<UserGameCenterInfo> {
+        UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        protected UserGameCenterInfo newInstance() {
+            return new UserGameCenterInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            writeField(out, "GameCenterId", value.GameCenterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGameCenterInfo value) throws IOException {
+            switch (name) {
+                case "GameCenterId": value.GameCenterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGoogleInfoAdapter extends PlayFabModelAdapter<UserGoogleInfo> {
+        UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        protected UserGoogleInfo newInstance() {
+            return new UserGoogleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGoogleInfo value) throws IOException {
+            writeField(out, "GoogleEmail", value.GoogleEmail);
+            writeField(out, "GoogleGender", value.GoogleGender);
+            writeField(out, "GoogleId", value.GoogleId);
+            writeField(out, "GoogleLocale", value.GoogleLocale);
+            writeField(out, "GoogleName", value.GoogleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGoogleInfo value) throws IOException {
+            switch (name) {
+                case "GoogleEmail": value.GoogleEmail = readString(in); return true;
+                case "GoogleGender": value.GoogleGender = readString(in); return true;
+                case "GoogleId": value.GoogleId = readString(in); return true;
+                case "GoogleLocale": value.GoogleLocale = readString(in); return true;
+                case "GoogleName": value.GoogleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGooglePlayGamesInfoAdapter extends PlayFabModelAdapter<UserGooglePlayGamesInfo> {
+        UserGooglePlayGamesInfoAdapter(Gson gson) {
+        }
+
+        protected UserGooglePlayGamesInfo newInstance() {
+            return new UserGooglePlayGamesInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGooglePlayGamesInfo value) throws IOException {
+            writeField(out, "GooglePlayGamesPlayerAvatarImageUrl", value.GooglePlayGamesPlayerAvatarImageUrl);
+            writeField(out, "GooglePlayGamesPlayerDisplayName", value.GooglePlayGamesPlayerDisplayName);
+            writeField(out, "GooglePlayGamesPlayerId", value.GooglePlayGamesPlayerId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGooglePlayGamesInfo value) throws IOException {
+            switch (name) {
+                case "GooglePlayGamesPlayerAvatarImageUrl": value.GooglePlayGamesPlayerAvatarImageUrl = readString(in); return true;
+                case "GooglePlayGamesPlayerDisplayName": value.GooglePlayGamesPlayerDisplayName = readString(in); return true;
+                case "GooglePlayGamesPlayerId": value.GooglePlayGamesPlayerId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserIosDeviceInfoAdapter extends PlayFabModelAdapter<UserIosDeviceInfo> {
+        UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        protected UserIosDeviceInfo newInstance() {
+            return new UserIosDeviceInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            writeField(out, "IosDeviceId", value.IosDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserIosDeviceInfo value) throws IOException {
+            switch (name) {
+                case "IosDeviceId": value.IosDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserKongregateInfoAdapter extends PlayFabModelAdapter<UserKongregateInfo> {
+        UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        protected UserKongregateInfo newInstance() {
+            return new UserKongregateInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserKongregateInfo value) throws IOException {
+            writeField(out, "KongregateId", value.KongregateId);
+            writeField(out, "KongregateName", value.KongregateName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserKongregateInfo value) throws IOException {
+            switch (name) {
+                case "KongregateId": value.KongregateId = readString(in); return true;
+                case "KongregateName": value.KongregateName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserNintendoSwitchAccountIdInfoAdapter extends PlayFabModelAdapter<UserNintendoSwitchAccountIdInfo> {
+        UserNintendoSwitchAccountIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserNintendoSwitchAccountIdInfo newInstance() {
+            return new UserNintendoSwitchAccountIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            writeField(out, "NintendoSwitchAccountSubjectId", value.NintendoSwitchAccountSubjectId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchAccountSubjectId": value.NintendoSwitchAccountSubjectId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserNintendoSwitchDeviceIdInfoAdapter extends PlayFabModelAdapter<UserNintendoSwitchDeviceIdInfo> {
+        UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserNintendoSwitchDeviceIdInfo newInstance() {
+            return new UserNintendoSwitchDeviceIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserOpenIdInfoAdapter extends PlayFabModelAdapter<UserOpenIdInfo> {
+        UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserOpenIdInfo newInstance() {
+            return new UserOpenIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "Issuer", value.Issuer);
+            writeField(out, "Subject", value.Subject);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserOpenIdInfo value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "Issuer": value.Issuer = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserOriginationSegmentFilterAdapter extends PlayFabModelAdapter<UserOriginationSegmentFilter> {
+        private final TypeAdapter<SegmentLoginIdentityProvider> segmentLoginIdentityProviderAdapter;
+
+        UserOriginationSegmentFilterAdapter(Gson gson) {
+            segmentLoginIdentityProviderAdapter = gson.getAdapter(SegmentLoginIdentityProvider.class);
+        }
+
+        protected UserOriginationSegmentFilter newInstance() {
+            return new UserOriginationSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, UserOriginationSegmentFilter value) throws IOException {
+            writeField(out, "LoginProvider", value.LoginProvider, segmentLoginIdentityProviderAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserOriginationSegmentFilter value) throws IOException {
+            switch (name) {
+                case "LoginProvider": value.LoginProvider = segmentLoginIdentityProviderAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserPrivateAccountInfoAdapter extends PlayFabModelAdapter<UserPrivateAccountInfo> {
+        UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        protected UserPrivateAccountInfo newInstance() {
+            return new UserPrivateAccountInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            writeField(out, "Email", value.Email);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserPrivateAccountInfo value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserPsnInfoAdapter extends PlayFabModelAdapter<UserPsnInfo> {
+        UserPsnInfoAdapter(Gson gson) {
+        }
+
+        protected UserPsnInfo newInstance() {
+            return new UserPsnInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserPsnInfo value) throws IOException {
+            writeField(out, "PsnAccountId", value.PsnAccountId);
+            writeField(out, "PsnOnlineId", value.PsnOnlineId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserPsnInfo value) throws IOException {
+            switch (name) {
+                case "PsnAccountId": value.PsnAccountId = readString(in); return true;
+                case "PsnOnlineId": value.PsnOnlineId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserServerCustomIdInfoAdapter extends PlayFabModelAdapter<UserServerCustomIdInfo> {
+        UserServerCustomIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserServerCustomIdInfo newInstance() {
+            return new UserServerCustomIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserServerCustomIdInfo value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserServerCustomIdInfo value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserSteamInfoAdapter extends PlayFabModelAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        protected UserSteamInfo newInstance() {
+            return new UserSteamInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserSteamInfo value) throws IOException {
+            writeField(out, "SteamActivationStatus", value.SteamActivationStatus, titleActivationStatusAdapter);
+            writeField(out, "SteamCountry", value.SteamCountry);
+            writeField(out, "SteamCurrency", value.SteamCurrency, currencyAdapter);
+            writeField(out, "SteamId", value.SteamId);
+            writeField(out, "SteamName", value.SteamName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserSteamInfo value) throws IOException {
+            switch (name) {
+                case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); return true;
+                case "SteamCountry": value.SteamCountry = readString(in); return true;
+                case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); return true;
+                case "SteamId": value.SteamId = readString(in); return true;
+                case "SteamName": value.SteamName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserTitleInfoAdapter extends PlayFabModelAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected UserTitleInfo newInstance() {
+            return new UserTitleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserTitleInfo value) throws IOException {
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "FirstLogin", value.FirstLogin, dateAdapter);
+            writeField(out, "isBanned", value.isBanned);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "Origination", value.Origination, userOriginationAdapter);
+            writeField(out, "TitlePlayerAccount", value.TitlePlayerAccount, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserTitleInfo value) throws IOException {
+            switch (name) {
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "FirstLogin": value.FirstLogin = dateAdapter.read(in); return true;
+                case "isBanned": value.isBanned = readBoolean(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "Origination": value.Origination = userOriginationAdapter.read(in); return true;
+                case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserTwitchInfoAdapter extends PlayFabModelAdapter<UserTwitchInfo> {
+        UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        protected UserTwitchInfo newInstance() {
+            return new UserTwitchInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserTwitchInfo value) throws IOException {
+            writeField(out, "TwitchId", value.TwitchId);
+            writeField(out, "TwitchUserName", value.TwitchUserName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserTwitchInfo value) throws IOException {
+            switch (name) {
+                case "TwitchId": value.TwitchId = readString(in); return true;
+                case "TwitchUserName": value.TwitchUserName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserXboxInfoAdapter extends PlayFabModelAdapter<UserXboxInfo> {
+        UserXboxInfoAdapter(Gson gson) {
+        }
+
+        protected UserXboxInfo newInstance() {
+            return new UserXboxInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserXboxInfo value) throws IOException {
+            writeField(out, "XboxUserId", value.XboxUserId);
+            writeField(out, "XboxUserSandbox", value.XboxUserSandbox);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserXboxInfo value) throws IOException {
+            switch (name) {
+                case "XboxUserId": value.XboxUserId = readString(in); return true;
+                case "XboxUserSandbox": value.XboxUserSandbox = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends PlayFabModelAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        protected ValueToDateModel newInstance() {
+            return new ValueToDateModel();
+        }
+
+        protected void writeFields(JsonWriter out, ValueToDateModel value) throws IOException {
+            writeField(out, "Currency", value.Currency);
+            writeField(out, "TotalValue", value.TotalValue);
+            writeField(out, "TotalValueAsDecimal", value.TotalValueAsDecimal);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValueToDateModel value) throws IOException {
+            switch (name) {
+                case "Currency": value.Currency = readString(in); return true;
+                case "TotalValue": value.TotalValue = readLong(in); return true;
+                case "TotalValueAsDecimal": value.TotalValueAsDecimal = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValueToDateSegmentFilterAdapter extends PlayFabModelAdapter<ValueToDateSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<SegmentCurrency> segmentCurrencyAdapter;
+
+        ValueToDateSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            segmentCurrencyAdapter = gson.getAdapter(SegmentCurrency.class);
+        }
+
+        protected ValueToDateSegmentFilter newInstance() {
+            return new ValueToDateSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, ValueToDateSegmentFilter value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "Currency", value.Currency, segmentCurrencyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValueToDateSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readString(in); return true;
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "Currency": value.Currency = segmentCurrencyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VirtualCurrencyBalanceSegmentFilterAdapter extends PlayFabModelAdapter<VirtualCurrencyBalanceSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        VirtualCurrencyBalanceSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        protected VirtualCurrencyBalanceSegmentFilter newInstance() {
+            return new VirtualCurrencyBalanceSegmentFilter();
+        }
+
+        protected void writeFields(JsonWriter out, VirtualCurrencyBalanceSegmentFilter value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "Comparison", value.Comparison, segmentFilterComparisonAdapter);
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+        }
+
+        protected boolean readField(JsonReader in, String name, VirtualCurrencyBalanceSegmentFilter value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); return true;
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VirtualCurrencyDataAdapter extends PlayFabModelAdapter<VirtualCurrencyData> {
+        VirtualCurrencyDataAdapter(Gson gson) {
+        }
+
+        protected VirtualCurrencyData newInstance() {
+            return new VirtualCurrencyData();
+        }
+
+        protected void writeFields(JsonWriter out, VirtualCurrencyData value) throws IOException {
+            writeField(out, "CurrencyCode", value.CurrencyCode);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "InitialDeposit", value.InitialDeposit);
+            writeField(out, "RechargeMax", value.RechargeMax);
+            writeField(out, "RechargeRate", value.RechargeRate);
+        }
+
+        protected boolean readField(JsonReader in, String name, VirtualCurrencyData value) throws IOException {
+            switch (name) {
+                case "CurrencyCode": value.CurrencyCode = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "InitialDeposit": value.InitialDeposit = readInteger(in); return true;
+                case "RechargeMax": value.RechargeMax = readInteger(in); return true;
+                case "RechargeRate": value.RechargeRate = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends PlayFabModelAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected VirtualCurrencyRechargeTime newInstance() {
+            return new VirtualCurrencyRechargeTime();
+        }
+
+        protected void writeFields(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            writeField(out, "RechargeMax", value.RechargeMax);
+            writeField(out, "RechargeTime", value.RechargeTime, dateAdapter);
+            writeField(out, "SecondsToRecharge", value.SecondsToRecharge);
+        }
+
+        protected boolean readField(JsonReader in, String name, VirtualCurrencyRechargeTime value) throws IOException {
+            switch (name) {
+                case "RechargeMax": value.RechargeMax = readInteger(in); return true;
+                case "RechargeTime": value.RechargeTime = dateAdapter.read(in); return true;
+                case "SecondsToRecharge": value.SecondsToRecharge = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
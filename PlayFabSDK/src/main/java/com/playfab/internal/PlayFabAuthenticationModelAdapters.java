@@ -0,0 +1,331 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabAuthenticationModels;
+import com.playfab.PlayFabAuthenticationModels.*;
+
+/**
+ * Streaming adapters for the PlayFabAuthenticationModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabAuthenticationModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabAuthenticationModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AuthenticateCustomIdRequest": return new AuthenticateCustomIdRequestAdapter(gson);
+            case "AuthenticateCustomIdResult": return new AuthenticateCustomIdResultAdapter(gson);
+            case "DeleteRequest": return new DeleteRequestAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "EntityLineage": return new EntityLineageAdapter(gson);
+            case "EntityTokenResponse": return new EntityTokenResponseAdapter(gson);
+            case "GetEntityTokenRequest": return new GetEntityTokenRequestAdapter(gson);
+            case "GetEntityTokenResponse": return new GetEntityTokenResponseAdapter(gson);
+            case "ValidateEntityTokenRequest": return new ValidateEntityTokenRequestAdapter(gson);
+            case "ValidateEntityTokenResponse": return new ValidateEntityTokenResponseAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AuthenticateCustomIdRequestAdapter extends PlayFabModelAdapter<AuthenticateCustomIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AuthenticateCustomIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AuthenticateCustomIdRequest newInstance() {
+            return new AuthenticateCustomIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AuthenticateCustomIdRequest value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AuthenticateCustomIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AuthenticateCustomIdResultAdapter extends PlayFabModelAdapter<AuthenticateCustomIdResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+
+        AuthenticateCustomIdResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+        }
+
+        protected AuthenticateCustomIdResult newInstance() {
+            return new AuthenticateCustomIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, AuthenticateCustomIdResult value) throws IOException {
+            writeField(out, "EntityToken", value.EntityToken, entityTokenResponseAdapter);
+            writeField(out, "NewlyCreated", value.NewlyCreated);
+        }
+
+        protected boolean readField(JsonReader in, String name, AuthenticateCustomIdResult value) throws IOException {
+            switch (name) {
+                case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); return true;
+                case "NewlyCreated": value.NewlyCreated = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteRequestAdapter extends PlayFabModelAdapter<DeleteRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteRequest newInstance() {
+            return new DeleteRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityLineageAdapter extends PlayFabModelAdapter<EntityLineage> {
+        EntityLineageAdapter(Gson gson) {
+        }
+
+        protected EntityLineage newInstance() {
+            return new EntityLineage();
+        }
+
+        protected void writeFields(JsonWriter out, EntityLineage value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "GroupId", value.GroupId);
+            writeField(out, "MasterPlayerAccountId", value.MasterPlayerAccountId);
+            writeField(out, "NamespaceId", value.NamespaceId);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TitlePlayerAccountId", value.TitlePlayerAccountId);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityLineage value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "GroupId": value.GroupId = readString(in); return true;
+                case "MasterPlayerAccountId": value.MasterPlayerAccountId = readString(in); return true;
+                case "NamespaceId": value.NamespaceId = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TitlePlayerAccountId": value.TitlePlayerAccountId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityTokenResponseAdapter extends PlayFabModelAdapter<EntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        EntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected EntityTokenResponse newInstance() {
+            return new EntityTokenResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EntityTokenResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EntityToken", value.EntityToken);
+            writeField(out, "TokenExpiration", value.TokenExpiration, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityTokenResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EntityToken": value.EntityToken = readString(in); return true;
+                case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityTokenRequestAdapter extends PlayFabModelAdapter<GetEntityTokenRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityTokenRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetEntityTokenRequest newInstance() {
+            return new GetEntityTokenRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityTokenRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityTokenRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityTokenResponseAdapter extends PlayFabModelAdapter<GetEntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetEntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetEntityTokenResponse newInstance() {
+            return new GetEntityTokenResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityTokenResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EntityToken", value.EntityToken);
+            writeField(out, "TokenExpiration", value.TokenExpiration, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityTokenResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EntityToken": value.EntityToken = readString(in); return true;
+                case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateEntityTokenRequestAdapter extends PlayFabModelAdapter<ValidateEntityTokenRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ValidateEntityTokenRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ValidateEntityTokenRequest newInstance() {
+            return new ValidateEntityTokenRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateEntityTokenRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EntityToken", value.EntityToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateEntityTokenRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EntityToken": value.EntityToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValidateEntityTokenResponseAdapter extends PlayFabModelAdapter<ValidateEntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<IdentifiedDeviceType> identifiedDeviceTypeAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<EntityLineage> entityLineageAdapter;
+
+        ValidateEntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            identifiedDeviceTypeAdapter = gson.getAdapter(IdentifiedDeviceType.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            entityLineageAdapter = gson.getAdapter(EntityLineage.class);
+        }
+
+        protected ValidateEntityTokenResponse newInstance() {
+            return new ValidateEntityTokenResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ValidateEntityTokenResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "IdentifiedDeviceType", value.IdentifiedDeviceType, identifiedDeviceTypeAdapter);
+            writeField(out, "IdentityProvider", value.IdentityProvider, loginIdentityProviderAdapter);
+            writeField(out, "IdentityProviderIssuedId", value.IdentityProviderIssuedId);
+            writeField(out, "Lineage", value.Lineage, entityLineageAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValidateEntityTokenResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "IdentifiedDeviceType": value.IdentifiedDeviceType = identifiedDeviceTypeAdapter.read(in); return true;
+                case "IdentityProvider": value.IdentityProvider = loginIdentityProviderAdapter.read(in); return true;
+                case "IdentityProviderIssuedId": value.IdentityProviderIssuedId = readString(in); return true;
+                case "Lineage": value.Lineage = entityLineageAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * Collects single-key lookups from many threads and resolves them with one list call. The first key submitted opens a
+ * window of windowMillis; every key submitted before it closes, up to maxBatchSize, goes into the same call, and a full
+ * batch is sent at once without waiting. A key already waiting shares the pending lookup instead of being sent twice.
+ * Batches run on the io() pool, but a thread waiting on a lookup runs its batch itself once the window has passed and
+ * no other thread has started it, so a wait never depends on a free io() thread, even when the waiter is one.
+ */
+public class PlayFabBatcher<K, V> {
+    public static interface Loader<K, V> {
+        /** @return The values found; keys missing from the map resolve to a null Result */
+        public PlayFabResult<Map<K, V>> load(List<K> keys);
+    }
+
+    private static final long MAX_WAIT_MILLIS = 120000; // Well past PlayFabHTTP's own timeout, so only a stuck loader reaches it
+
+    private static final Callable<Object> NOTHING = new Callable<Object>() {
+        public Object call() {
+            return null;
+        }
+    };
+
+    /** A lookup completed by its batch rather than by running it. */
+    private final class Lookup extends FutureTask<PlayFabResult<V>> {
+        private final Batch batch;
+
+        @SuppressWarnings("unchecked")
+        Lookup(Batch batch) {
+            super((Callable<PlayFabResult<V>>) (Callable<?>) NOTHING);
+            this.batch = batch;
+        }
+
+        void complete(PlayFabResult<V> result) {
+            set(result);
+        }
+
+        @Override
+        public void run() {
+            // Only the batch may complete this
+        }
+
+        /** Waits at most MAX_WAIT_MILLIS; a timeout is reported as an ExecutionException. */
+        @Override
+        public PlayFabResult<V> get() throws InterruptedException, ExecutionException {
+            try {
+                return get(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new ExecutionException(new TimeoutException("No result after " + MAX_WAIT_MILLIS + " ms"));
+            }
+        }
+
+        @Override
+        public PlayFabResult<V> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            if (!isDone()) {
+                try {
+                    return super.get(Math.min(unit.toNanos(timeout), TimeUnit.MILLISECONDS.toNanos(Math.max(1, windowMillis))), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (System.nanoTime() < deadline)
+                        batch.runHere(); // Not started within its window: the io() pool may be full of threads waiting like this one
+                }
+            }
+            return super.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** The keys of one call; it runs once, on whichever thread starts it first. */
+    private final class Batch implements Runnable {
+        final Map<K, Lookup> lookups = new LinkedHashMap<K, Lookup>(); // Guarded by lock while the batch is open
+        final AtomicBoolean started = new AtomicBoolean();
+
+        void runHere() {
+            close(this);
+            run();
+        }
+
+        public void run() {
+            if (!started.compareAndSet(false, true))
+                return;
+            PlayFabResult<Map<K, V>> result;
+            try {
+                result = loader.load(new ArrayList<K>(lookups.keySet()));
+            } catch (Exception e) {
+                result = new PlayFabResult<Map<K, V>>();
+                result.Error = failure(e).Error;
+            }
+            for (Map.Entry<K, Lookup> entry : lookups.entrySet()) {
+                PlayFabResult<V> single = new PlayFabResult<V>();
+                single.Error = result.Error;
+                if (result.Error == null && result.Result != null)
+                    single.Result = result.Result.get(entry.getKey());
+                entry.getValue().complete(single);
+            }
+        }
+    }
+
+    private final Loader<K, V> loader;
+    private final int maxBatchSize;
+    private final long windowMillis;
+    private final Object lock = new Object();
+    private Batch open = new Batch(); // Guarded by lock
+
+    public PlayFabBatcher(Loader<K, V> loader, int maxBatchSize, long windowMillis) {
+        if (loader == null)
+            throw new IllegalArgumentException("loader");
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+    }
+
+    /** @return The eventual result for key; submitting never blocks, and waiting on it may run the lookup's batch */
+    public Future<PlayFabResult<V>> submit(K key) {
+        Lookup lookup;
+        final Batch batch;
+        boolean full;
+        boolean first;
+        synchronized (lock) {
+            lookup = open.lookups.get(key);
+            if (lookup != null)
+                return lookup;
+            batch = open;
+            lookup = new Lookup(batch);
+            batch.lookups.put(key, lookup);
+            first = batch.lookups.size() == 1;
+            full = batch.lookups.size() >= maxBatchSize;
+            if (full)
+                open = new Batch();
+        }
+
+        if (full) {
+            send(batch);
+        } else if (first) {
+            PlayFabScheduler.get().schedule(new Runnable() {
+                public void run() {
+                    close(batch);
+                    send(batch);
+                }
+            }, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return lookup;
+    }
+
+    /** Submit and wait. */
+    public PlayFabResult<V> get(K key) {
+        try {
+            return submit(key).get();
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /** Stop adding keys to batch, if it is still the one open. */
+    private void close(Batch batch) {
+        synchronized (lock) {
+            if (open == batch)
+                open = new Batch();
+        }
+    }
+
+    private void send(final Batch batch) {
+        if (batch.started.get())
+            return; // Already run by a waiting thread
+        try {
+            PlayFabScheduler.io().execute(batch);
+        } catch (RejectedExecutionException e) {
+            // The io pool is saturated; the batch waits another window unless a waiting thread runs it first
+            PlayFabScheduler.get().schedule(new Runnable() {
+                public void run() {
+                    send(batch);
+                }
+            }, Math.max(1, windowMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static <V> PlayFabResult<V> failure(Exception e) {
+        PlayFabResult<V> result = new PlayFabResult<V>();
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, cause.getMessage(), null, null);
+        return result;
+    }
+}
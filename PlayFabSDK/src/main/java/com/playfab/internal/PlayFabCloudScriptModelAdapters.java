@@ -0,0 +1,1173 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabCloudScriptModels;
+import com.playfab.PlayFabCloudScriptModels.*;
+
+/**
+ * Streaming adapters for the PlayFabCloudScriptModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabCloudScriptModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabCloudScriptModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AdCampaignAttributionModel": return new AdCampaignAttributionModelAdapter(gson);
+            case "ContactEmailInfoModel": return new ContactEmailInfoModelAdapter(gson);
+            case "EmptyResult": return new EmptyResultAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "ExecuteCloudScriptResult": return new ExecuteCloudScriptResultAdapter(gson);
+            case "ExecuteEntityCloudScriptRequest": return new ExecuteEntityCloudScriptRequestAdapter(gson);
+            case "ExecuteFunctionRequest": return new ExecuteFunctionRequestAdapter(gson);
+            case "ExecuteFunctionResult": return new ExecuteFunctionResultAdapter(gson);
+            case "FunctionExecutionError": return new FunctionExecutionErrorAdapter(gson);
+            case "FunctionModel": return new FunctionModelAdapter(gson);
+            case "GetFunctionRequest": return new GetFunctionRequestAdapter(gson);
+            case "GetFunctionResult": return new GetFunctionResultAdapter(gson);
+            case "HttpFunctionModel": return new HttpFunctionModelAdapter(gson);
+            case "LinkedPlatformAccountModel": return new LinkedPlatformAccountModelAdapter(gson);
+            case "ListFunctionsRequest": return new ListFunctionsRequestAdapter(gson);
+            case "ListFunctionsResult": return new ListFunctionsResultAdapter(gson);
+            case "ListHttpFunctionsResult": return new ListHttpFunctionsResultAdapter(gson);
+            case "ListQueuedFunctionsResult": return new ListQueuedFunctionsResultAdapter(gson);
+            case "LocationModel": return new LocationModelAdapter(gson);
+            case "LogStatement": return new LogStatementAdapter(gson);
+            case "MembershipModel": return new MembershipModelAdapter(gson);
+            case "NameIdentifier": return new NameIdentifierAdapter(gson);
+            case "PlayerProfileModel": return new PlayerProfileModelAdapter(gson);
+            case "PlayStreamEventEnvelopeModel": return new PlayStreamEventEnvelopeModelAdapter(gson);
+            case "PostFunctionResultForEntityTriggeredActionRequest": return new PostFunctionResultForEntityTriggeredActionRequestAdapter(gson);
+            case "PostFunctionResultForFunctionExecutionRequest": return new PostFunctionResultForFunctionExecutionRequestAdapter(gson);
+            case "PostFunctionResultForPlayerTriggeredActionRequest": return new PostFunctionResultForPlayerTriggeredActionRequestAdapter(gson);
+            case "PostFunctionResultForScheduledTaskRequest": return new PostFunctionResultForScheduledTaskRequestAdapter(gson);
+            case "PushNotificationRegistrationModel": return new PushNotificationRegistrationModelAdapter(gson);
+            case "QueuedFunctionModel": return new QueuedFunctionModelAdapter(gson);
+            case "RegisterHttpFunctionRequest": return new RegisterHttpFunctionRequestAdapter(gson);
+            case "RegisterQueuedFunctionRequest": return new RegisterQueuedFunctionRequestAdapter(gson);
+            case "ScriptExecutionError": return new ScriptExecutionErrorAdapter(gson);
+            case "StatisticModel": return new StatisticModelAdapter(gson);
+            case "SubscriptionModel": return new SubscriptionModelAdapter(gson);
+            case "TagModel": return new TagModelAdapter(gson);
+            case "UnregisterFunctionRequest": return new UnregisterFunctionRequestAdapter(gson);
+            case "ValueToDateModel": return new ValueToDateModelAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends PlayFabModelAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AdCampaignAttributionModel newInstance() {
+            return new AdCampaignAttributionModel();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            writeField(out, "AttributedAt", value.AttributedAt, dateAdapter);
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignAttributionModel value) throws IOException {
+            switch (name) {
+                case "AttributedAt": value.AttributedAt = dateAdapter.read(in); return true;
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends PlayFabModelAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        protected ContactEmailInfoModel newInstance() {
+            return new ContactEmailInfoModel();
+        }
+
+        protected void writeFields(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            writeField(out, "EmailAddress", value.EmailAddress);
+            writeField(out, "Name", value.Name);
+            writeField(out, "VerificationStatus", value.VerificationStatus, emailVerificationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContactEmailInfoModel value) throws IOException {
+            switch (name) {
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResultAdapter extends PlayFabModelAdapter<EmptyResult> {
+        EmptyResultAdapter(Gson gson) {
+        }
+
+        protected EmptyResult newInstance() {
+            return new EmptyResult();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends PlayFabModelAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ArrayList<LogStatement>> logStatementListAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementListAdapter = listAdapter(gson, LogStatement.class);
+        }
+
+        protected ExecuteCloudScriptResult newInstance() {
+            return new ExecuteCloudScriptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            writeField(out, "APIRequestsIssued", value.APIRequestsIssued);
+            writeField(out, "Error", value.Error, scriptExecutionErrorAdapter);
+            writeField(out, "ExecutionTimeSeconds", value.ExecutionTimeSeconds);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionResult", value.FunctionResult, objectAdapter);
+            writeField(out, "FunctionResultTooLarge", value.FunctionResultTooLarge);
+            writeField(out, "HttpRequestsIssued", value.HttpRequestsIssued);
+            writeField(out, "Logs", value.Logs, logStatementListAdapter);
+            writeField(out, "LogsTooLarge", value.LogsTooLarge);
+            writeField(out, "MemoryConsumedBytes", value.MemoryConsumedBytes);
+            writeField(out, "ProcessorTimeSeconds", value.ProcessorTimeSeconds);
+            writeField(out, "Revision", value.Revision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptResult value) throws IOException {
+            switch (name) {
+                case "APIRequestsIssued": value.APIRequestsIssued = readInteger(in); return true;
+                case "Error": value.Error = scriptExecutionErrorAdapter.read(in); return true;
+                case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = readDouble(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionResult": value.FunctionResult = objectAdapter.read(in); return true;
+                case "FunctionResultTooLarge": value.FunctionResultTooLarge = readBoolean(in); return true;
+                case "HttpRequestsIssued": value.HttpRequestsIssued = readInteger(in); return true;
+                case "Logs": value.Logs = logStatementListAdapter.read(in); return true;
+                case "LogsTooLarge": value.LogsTooLarge = readBoolean(in); return true;
+                case "MemoryConsumedBytes": value.MemoryConsumedBytes = readLong(in); return true;
+                case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = readDouble(in); return true;
+                case "Revision": value.Revision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteEntityCloudScriptRequestAdapter extends PlayFabModelAdapter<ExecuteEntityCloudScriptRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        ExecuteEntityCloudScriptRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        protected ExecuteEntityCloudScriptRequest newInstance() {
+            return new ExecuteEntityCloudScriptRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteEntityCloudScriptRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionParameter", value.FunctionParameter, objectAdapter);
+            writeField(out, "GeneratePlayStreamEvent", value.GeneratePlayStreamEvent);
+            writeField(out, "RevisionSelection", value.RevisionSelection, cloudScriptRevisionOptionAdapter);
+            writeField(out, "SpecificRevision", value.SpecificRevision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteEntityCloudScriptRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); return true;
+                case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = readBoolean(in); return true;
+                case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); return true;
+                case "SpecificRevision": value.SpecificRevision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteFunctionRequestAdapter extends PlayFabModelAdapter<ExecuteFunctionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        ExecuteFunctionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected ExecuteFunctionRequest newInstance() {
+            return new ExecuteFunctionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteFunctionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionParameter", value.FunctionParameter, objectAdapter);
+            writeField(out, "GeneratePlayStreamEvent", value.GeneratePlayStreamEvent);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteFunctionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); return true;
+                case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteFunctionResultAdapter extends PlayFabModelAdapter<ExecuteFunctionResult> {
+        private final TypeAdapter<FunctionExecutionError> functionExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        ExecuteFunctionResultAdapter(Gson gson) {
+            functionExecutionErrorAdapter = gson.getAdapter(FunctionExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected ExecuteFunctionResult newInstance() {
+            return new ExecuteFunctionResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteFunctionResult value) throws IOException {
+            writeField(out, "Error", value.Error, functionExecutionErrorAdapter);
+            writeField(out, "ExecutionTimeMilliseconds", value.ExecutionTimeMilliseconds);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionResult", value.FunctionResult, objectAdapter);
+            writeField(out, "FunctionResultTooLarge", value.FunctionResultTooLarge);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteFunctionResult value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = functionExecutionErrorAdapter.read(in); return true;
+                case "ExecutionTimeMilliseconds": value.ExecutionTimeMilliseconds = readInteger(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionResult": value.FunctionResult = objectAdapter.read(in); return true;
+                case "FunctionResultTooLarge": value.FunctionResultTooLarge = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FunctionExecutionErrorAdapter extends PlayFabModelAdapter<FunctionExecutionError> {
+        FunctionExecutionErrorAdapter(Gson gson) {
+        }
+
+        protected FunctionExecutionError newInstance() {
+            return new FunctionExecutionError();
+        }
+
+        protected void writeFields(JsonWriter out, FunctionExecutionError value) throws IOException {
+            writeField(out, "Error", value.Error);
+            writeField(out, "Message", value.Message);
+            writeField(out, "StackTrace", value.StackTrace);
+        }
+
+        protected boolean readField(JsonReader in, String name, FunctionExecutionError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "StackTrace": value.StackTrace = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FunctionModelAdapter extends PlayFabModelAdapter<FunctionModel> {
+        FunctionModelAdapter(Gson gson) {
+        }
+
+        protected FunctionModel newInstance() {
+            return new FunctionModel();
+        }
+
+        protected void writeFields(JsonWriter out, FunctionModel value) throws IOException {
+            writeField(out, "FunctionAddress", value.FunctionAddress);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "TriggerType", value.TriggerType);
+        }
+
+        protected boolean readField(JsonReader in, String name, FunctionModel value) throws IOException {
+            switch (name) {
+                case "FunctionAddress": value.FunctionAddress = readString(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "TriggerType": value.TriggerType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFunctionRequestAdapter extends PlayFabModelAdapter<GetFunctionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetFunctionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetFunctionRequest newInstance() {
+            return new GetFunctionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFunctionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFunctionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFunctionResultAdapter extends PlayFabModelAdapter<GetFunctionResult> {
+        GetFunctionResultAdapter(Gson gson) {
+        }
+
+        protected GetFunctionResult newInstance() {
+            return new GetFunctionResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetFunctionResult value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "FunctionUrl", value.FunctionUrl);
+            writeField(out, "QueueName", value.QueueName);
+            writeField(out, "TriggerType", value.TriggerType);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFunctionResult value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "FunctionUrl": value.FunctionUrl = readString(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                case "TriggerType": value.TriggerType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class HttpFunctionModelAdapter extends PlayFabModelAdapter<HttpFunctionModel> {
+        HttpFunctionModelAdapter(Gson gson) {
+        }
+
+        protected HttpFunctionModel newInstance() {
+            return new HttpFunctionModel();
+        }
+
+        protected void writeFields(JsonWriter out, HttpFunctionModel value) throws IOException {
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionUrl", value.FunctionUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, HttpFunctionModel value) throws IOException {
+            switch (name) {
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionUrl": value.FunctionUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends PlayFabModelAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        protected LinkedPlatformAccountModel newInstance() {
+            return new LinkedPlatformAccountModel();
+        }
+
+        protected void writeFields(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "Platform", value.Platform, loginIdentityProviderAdapter);
+            writeField(out, "PlatformUserId", value.PlatformUserId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkedPlatformAccountModel value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); return true;
+                case "PlatformUserId": value.PlatformUserId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListFunctionsRequestAdapter extends PlayFabModelAdapter<ListFunctionsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ListFunctionsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ListFunctionsRequest newInstance() {
+            return new ListFunctionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListFunctionsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListFunctionsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListFunctionsResultAdapter extends PlayFabModelAdapter<ListFunctionsResult> {
+        private final TypeAdapter<ArrayList<FunctionModel>> functionModelListAdapter;
+
+        ListFunctionsResultAdapter(Gson gson) {
+            functionModelListAdapter = listAdapter(gson, FunctionModel.class);
+        }
+
+        protected ListFunctionsResult newInstance() {
+            return new ListFunctionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListFunctionsResult value) throws IOException {
+            writeField(out, "Functions", value.Functions, functionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListFunctionsResult value) throws IOException {
+            switch (name) {
+                case "Functions": value.Functions = functionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListHttpFunctionsResultAdapter extends PlayFabModelAdapter<ListHttpFunctionsResult> {
+        private final TypeAdapter<ArrayList<HttpFunctionModel>> httpFunctionModelListAdapter;
+
+        ListHttpFunctionsResultAdapter(Gson gson) {
+            httpFunctionModelListAdapter = listAdapter(gson, HttpFunctionModel.class);
+        }
+
+        protected ListHttpFunctionsResult newInstance() {
+            return new ListHttpFunctionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListHttpFunctionsResult value) throws IOException {
+            writeField(out, "Functions", value.Functions, httpFunctionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListHttpFunctionsResult value) throws IOException {
+            switch (name) {
+                case "Functions": value.Functions = httpFunctionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListQueuedFunctionsResultAdapter extends PlayFabModelAdapter<ListQueuedFunctionsResult> {
+        private final TypeAdapter<ArrayList<QueuedFunctionModel>> queuedFunctionModelListAdapter;
+
+        ListQueuedFunctionsResultAdapter(Gson gson) {
+            queuedFunctionModelListAdapter = listAdapter(gson, QueuedFunctionModel.class);
+        }
+
+        protected ListQueuedFunctionsResult newInstance() {
+            return new ListQueuedFunctionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListQueuedFunctionsResult value) throws IOException {
+            writeField(out, "Functions", value.Functions, queuedFunctionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListQueuedFunctionsResult value) throws IOException {
+            switch (name) {
+                case "Functions": value.Functions = queuedFunctionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LocationModelAdapter extends PlayFabModelAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        protected LocationModel newInstance() {
+            return new LocationModel();
+        }
+
+        protected void writeFields(JsonWriter out, LocationModel value) throws IOException {
+            writeField(out, "City", value.City);
+            writeField(out, "ContinentCode", value.ContinentCode, continentCodeAdapter);
+            writeField(out, "CountryCode", value.CountryCode, countryCodeAdapter);
+            writeField(out, "Latitude", value.Latitude);
+            writeField(out, "Longitude", value.Longitude);
+        }
+
+        protected boolean readField(JsonReader in, String name, LocationModel value) throws IOException {
+            switch (name) {
+                case "City": value.City = readString(in); return true;
+                case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); return true;
+                case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); return true;
+                case "Latitude": value.Latitude = readDouble(in); return true;
+                case "Longitude": value.Longitude = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LogStatementAdapter extends PlayFabModelAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected LogStatement newInstance() {
+            return new LogStatement();
+        }
+
+        protected void writeFields(JsonWriter out, LogStatement value) throws IOException {
+            writeField(out, "Data", value.Data, objectAdapter);
+            writeField(out, "Level", value.Level);
+            writeField(out, "Message", value.Message);
+        }
+
+        protected boolean readField(JsonReader in, String name, LogStatement value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = objectAdapter.read(in); return true;
+                case "Level": value.Level = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MembershipModelAdapter extends PlayFabModelAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<SubscriptionModel>> subscriptionModelListAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelListAdapter = listAdapter(gson, SubscriptionModel.class);
+        }
+
+        protected MembershipModel newInstance() {
+            return new MembershipModel();
+        }
+
+        protected void writeFields(JsonWriter out, MembershipModel value) throws IOException {
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "MembershipExpiration", value.MembershipExpiration, dateAdapter);
+            writeField(out, "MembershipId", value.MembershipId);
+            writeField(out, "OverrideExpiration", value.OverrideExpiration, dateAdapter);
+            writeField(out, "Subscriptions", value.Subscriptions, subscriptionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, MembershipModel value) throws IOException {
+            switch (name) {
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); return true;
+                case "MembershipId": value.MembershipId = readString(in); return true;
+                case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); return true;
+                case "Subscriptions": value.Subscriptions = subscriptionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class NameIdentifierAdapter extends PlayFabModelAdapter<NameIdentifier> {
+        NameIdentifierAdapter(Gson gson) {
+        }
+
+        protected NameIdentifier newInstance() {
+            return new NameIdentifier();
+        }
+
+        protected void writeFields(JsonWriter out, NameIdentifier value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, NameIdentifier value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends PlayFabModelAdapter<PlayerProfileModel> {
+        private final TypeAdapter<ArrayList<AdCampaignAttributionModel>> adCampaignAttributionModelListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<ContactEmailInfoModel>> contactEmailInfoModelListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<LinkedPlatformAccountModel>> linkedPlatformAccountModelListAdapter;
+        private final TypeAdapter<ArrayList<LocationModel>> locationModelListAdapter;
+        private final TypeAdapter<ArrayList<MembershipModel>> membershipModelListAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationRegistrationModel>> pushNotificationRegistrationModelListAdapter;
+        private final TypeAdapter<ArrayList<StatisticModel>> statisticModelListAdapter;
+        private final TypeAdapter<ArrayList<TagModel>> tagModelListAdapter;
+        private final TypeAdapter<ArrayList<ValueToDateModel>> valueToDateModelListAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelListAdapter = listAdapter(gson, AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelListAdapter = listAdapter(gson, ContactEmailInfoModel.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            linkedPlatformAccountModelListAdapter = listAdapter(gson, LinkedPlatformAccountModel.class);
+            locationModelListAdapter = listAdapter(gson, LocationModel.class);
+            membershipModelListAdapter = listAdapter(gson, MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelListAdapter = listAdapter(gson, PushNotificationRegistrationModel.class);
+            statisticModelListAdapter = listAdapter(gson, StatisticModel.class);
+            tagModelListAdapter = listAdapter(gson, TagModel.class);
+            valueToDateModelListAdapter = listAdapter(gson, ValueToDateModel.class);
+        }
+
+        protected PlayerProfileModel newInstance() {
+            return new PlayerProfileModel();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileModel value) throws IOException {
+            writeField(out, "AdCampaignAttributions", value.AdCampaignAttributions, adCampaignAttributionModelListAdapter);
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "BannedUntil", value.BannedUntil, dateAdapter);
+            writeField(out, "ContactEmailAddresses", value.ContactEmailAddresses, contactEmailInfoModelListAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "ExperimentVariants", value.ExperimentVariants, stringListAdapter);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "LinkedAccounts", value.LinkedAccounts, linkedPlatformAccountModelListAdapter);
+            writeField(out, "Locations", value.Locations, locationModelListAdapter);
+            writeField(out, "Memberships", value.Memberships, membershipModelListAdapter);
+            writeField(out, "Origination", value.Origination, loginIdentityProviderAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PublisherId", value.PublisherId);
+            writeField(out, "PushNotificationRegistrations", value.PushNotificationRegistrations, pushNotificationRegistrationModelListAdapter);
+            writeField(out, "Statistics", value.Statistics, statisticModelListAdapter);
+            writeField(out, "Tags", value.Tags, tagModelListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TotalValueToDateInUSD", value.TotalValueToDateInUSD);
+            writeField(out, "ValuesToDate", value.ValuesToDate, valueToDateModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileModel value) throws IOException {
+            switch (name) {
+                case "AdCampaignAttributions": value.AdCampaignAttributions = adCampaignAttributionModelListAdapter.read(in); return true;
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "BannedUntil": value.BannedUntil = dateAdapter.read(in); return true;
+                case "ContactEmailAddresses": value.ContactEmailAddresses = contactEmailInfoModelListAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "ExperimentVariants": value.ExperimentVariants = stringListAdapter.read(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "LinkedAccounts": value.LinkedAccounts = linkedPlatformAccountModelListAdapter.read(in); return true;
+                case "Locations": value.Locations = locationModelListAdapter.read(in); return true;
+                case "Memberships": value.Memberships = membershipModelListAdapter.read(in); return true;
+                case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PublisherId": value.PublisherId = readString(in); return true;
+                case "PushNotificationRegistrations": value.PushNotificationRegistrations = pushNotificationRegistrationModelListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = statisticModelListAdapter.read(in); return true;
+                case "Tags": value.Tags = tagModelListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = readLong(in); return true;
+                case "ValuesToDate": value.ValuesToDate = valueToDateModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayStreamEventEnvelopeModelAdapter extends PlayFabModelAdapter<PlayStreamEventEnvelopeModel> {
+        PlayStreamEventEnvelopeModelAdapter(Gson gson) {
+        }
+
+        protected PlayStreamEventEnvelopeModel newInstance() {
+            return new PlayStreamEventEnvelopeModel();
+        }
+
+        protected void writeFields(JsonWriter out, PlayStreamEventEnvelopeModel value) throws IOException {
+            writeField(out, "EntityId", value.EntityId);
+            writeField(out, "EntityType", value.EntityType);
+            writeField(out, "EventData", value.EventData);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "EventNamespace", value.EventNamespace);
+            writeField(out, "EventSettings", value.EventSettings);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayStreamEventEnvelopeModel value) throws IOException {
+            switch (name) {
+                case "EntityId": value.EntityId = readString(in); return true;
+                case "EntityType": value.EntityType = readString(in); return true;
+                case "EventData": value.EventData = readString(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "EventNamespace": value.EventNamespace = readString(in); return true;
+                case "EventSettings": value.EventSettings = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PostFunctionResultForEntityTriggeredActionRequestAdapter extends PlayFabModelAdapter<PostFunctionResultForEntityTriggeredActionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+
+        PostFunctionResultForEntityTriggeredActionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+        }
+
+        protected PostFunctionResultForEntityTriggeredActionRequest newInstance() {
+            return new PostFunctionResultForEntityTriggeredActionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PostFunctionResultForEntityTriggeredActionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FunctionResult", value.FunctionResult, executeFunctionResultAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PostFunctionResultForEntityTriggeredActionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PostFunctionResultForFunctionExecutionRequestAdapter extends PlayFabModelAdapter<PostFunctionResultForFunctionExecutionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+
+        PostFunctionResultForFunctionExecutionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+        }
+
+        protected PostFunctionResultForFunctionExecutionRequest newInstance() {
+            return new PostFunctionResultForFunctionExecutionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PostFunctionResultForFunctionExecutionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FunctionResult", value.FunctionResult, executeFunctionResultAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PostFunctionResultForFunctionExecutionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PostFunctionResultForPlayerTriggeredActionRequestAdapter extends PlayFabModelAdapter<PostFunctionResultForPlayerTriggeredActionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<PlayStreamEventEnvelopeModel> playStreamEventEnvelopeModelAdapter;
+
+        PostFunctionResultForPlayerTriggeredActionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            playStreamEventEnvelopeModelAdapter = gson.getAdapter(PlayStreamEventEnvelopeModel.class);
+        }
+
+        protected PostFunctionResultForPlayerTriggeredActionRequest newInstance() {
+            return new PostFunctionResultForPlayerTriggeredActionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PostFunctionResultForPlayerTriggeredActionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionResult", value.FunctionResult, executeFunctionResultAdapter);
+            writeField(out, "PlayerProfile", value.PlayerProfile, playerProfileModelAdapter);
+            writeField(out, "PlayStreamEventEnvelope", value.PlayStreamEventEnvelope, playStreamEventEnvelopeModelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PostFunctionResultForPlayerTriggeredActionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); return true;
+                case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); return true;
+                case "PlayStreamEventEnvelope": value.PlayStreamEventEnvelope = playStreamEventEnvelopeModelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PostFunctionResultForScheduledTaskRequestAdapter extends PlayFabModelAdapter<PostFunctionResultForScheduledTaskRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        PostFunctionResultForScheduledTaskRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        protected PostFunctionResultForScheduledTaskRequest newInstance() {
+            return new PostFunctionResultForScheduledTaskRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PostFunctionResultForScheduledTaskRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionResult", value.FunctionResult, executeFunctionResultAdapter);
+            writeField(out, "ScheduledTaskId", value.ScheduledTaskId, nameIdentifierAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PostFunctionResultForScheduledTaskRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); return true;
+                case "ScheduledTaskId": value.ScheduledTaskId = nameIdentifierAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends PlayFabModelAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected PushNotificationRegistrationModel newInstance() {
+            return new PushNotificationRegistrationModel();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            writeField(out, "NotificationEndpointARN", value.NotificationEndpointARN);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationRegistrationModel value) throws IOException {
+            switch (name) {
+                case "NotificationEndpointARN": value.NotificationEndpointARN = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class QueuedFunctionModelAdapter extends PlayFabModelAdapter<QueuedFunctionModel> {
+        QueuedFunctionModelAdapter(Gson gson) {
+        }
+
+        protected QueuedFunctionModel newInstance() {
+            return new QueuedFunctionModel();
+        }
+
+        protected void writeFields(JsonWriter out, QueuedFunctionModel value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, QueuedFunctionModel value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RegisterHttpFunctionRequestAdapter extends PlayFabModelAdapter<RegisterHttpFunctionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RegisterHttpFunctionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RegisterHttpFunctionRequest newInstance() {
+            return new RegisterHttpFunctionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RegisterHttpFunctionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionUrl", value.FunctionUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, RegisterHttpFunctionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionUrl": value.FunctionUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RegisterQueuedFunctionRequestAdapter extends PlayFabModelAdapter<RegisterQueuedFunctionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RegisterQueuedFunctionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RegisterQueuedFunctionRequest newInstance() {
+            return new RegisterQueuedFunctionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RegisterQueuedFunctionRequest value) throws IOException {
+            writeField(out, "ConnectionString", value.ConnectionString);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "QueueName", value.QueueName);
+        }
+
+        protected boolean readField(JsonReader in, String name, RegisterQueuedFunctionRequest value) throws IOException {
+            switch (name) {
+                case "ConnectionString": value.ConnectionString = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "QueueName": value.QueueName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends PlayFabModelAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        protected ScriptExecutionError newInstance() {
+            return new ScriptExecutionError();
+        }
+
+        protected void writeFields(JsonWriter out, ScriptExecutionError value) throws IOException {
+            writeField(out, "Error", value.Error);
+            writeField(out, "Message", value.Message);
+            writeField(out, "StackTrace", value.StackTrace);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScriptExecutionError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "StackTrace": value.StackTrace = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticModelAdapter extends PlayFabModelAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        protected StatisticModel newInstance() {
+            return new StatisticModel();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticModel value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticModel value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends PlayFabModelAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        protected SubscriptionModel newInstance() {
+            return new SubscriptionModel();
+        }
+
+        protected void writeFields(JsonWriter out, SubscriptionModel value) throws IOException {
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "InitialSubscriptionTime", value.InitialSubscriptionTime, dateAdapter);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Status", value.Status, subscriptionProviderStatusAdapter);
+            writeField(out, "SubscriptionId", value.SubscriptionId);
+            writeField(out, "SubscriptionItemId", value.SubscriptionItemId);
+            writeField(out, "SubscriptionProvider", value.SubscriptionProvider);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscriptionModel value) throws IOException {
+            switch (name) {
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); return true;
+                case "SubscriptionId": value.SubscriptionId = readString(in); return true;
+                case "SubscriptionItemId": value.SubscriptionItemId = readString(in); return true;
+                case "SubscriptionProvider": value.SubscriptionProvider = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TagModelAdapter extends PlayFabModelAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        protected TagModel newInstance() {
+            return new TagModel();
+        }
+
+        protected void writeFields(JsonWriter out, TagModel value) throws IOException {
+            writeField(out, "TagValue", value.TagValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, TagModel value) throws IOException {
+            switch (name) {
+                case "TagValue": value.TagValue = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnregisterFunctionRequestAdapter extends PlayFabModelAdapter<UnregisterFunctionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnregisterFunctionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnregisterFunctionRequest newInstance() {
+            return new UnregisterFunctionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnregisterFunctionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnregisterFunctionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends PlayFabModelAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        protected ValueToDateModel newInstance() {
+            return new ValueToDateModel();
+        }
+
+        protected void writeFields(JsonWriter out, ValueToDateModel value) throws IOException {
+            writeField(out, "Currency", value.Currency);
+            writeField(out, "TotalValue", value.TotalValue);
+            writeField(out, "TotalValueAsDecimal", value.TotalValueAsDecimal);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValueToDateModel value) throws IOException {
+            switch (name) {
+                case "Currency": value.Currency = readString(in); return true;
+                case "TotalValue": value.TotalValue = readLong(in); return true;
+                case "TotalValueAsDecimal": value.TotalValueAsDecimal = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
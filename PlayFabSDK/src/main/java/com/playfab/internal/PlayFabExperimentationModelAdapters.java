@@ -0,0 +1,930 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabExperimentationModels;
+import com.playfab.PlayFabExperimentationModels.*;
+
+/**
+ * Streaming adapters for the PlayFabExperimentationModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabExperimentationModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabExperimentationModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "CreateExclusionGroupRequest": return new CreateExclusionGroupRequestAdapter(gson);
+            case "CreateExclusionGroupResult": return new CreateExclusionGroupResultAdapter(gson);
+            case "CreateExperimentRequest": return new CreateExperimentRequestAdapter(gson);
+            case "CreateExperimentResult": return new CreateExperimentResultAdapter(gson);
+            case "DeleteExclusionGroupRequest": return new DeleteExclusionGroupRequestAdapter(gson);
+            case "DeleteExperimentRequest": return new DeleteExperimentRequestAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "ExclusionGroupTrafficAllocation": return new ExclusionGroupTrafficAllocationAdapter(gson);
+            case "Experiment": return new ExperimentAdapter(gson);
+            case "ExperimentExclusionGroup": return new ExperimentExclusionGroupAdapter(gson);
+            case "GetExclusionGroupsRequest": return new GetExclusionGroupsRequestAdapter(gson);
+            case "GetExclusionGroupsResult": return new GetExclusionGroupsResultAdapter(gson);
+            case "GetExclusionGroupTrafficRequest": return new GetExclusionGroupTrafficRequestAdapter(gson);
+            case "GetExclusionGroupTrafficResult": return new GetExclusionGroupTrafficResultAdapter(gson);
+            case "GetExperimentsRequest": return new GetExperimentsRequestAdapter(gson);
+            case "GetExperimentsResult": return new GetExperimentsResultAdapter(gson);
+            case "GetLatestScorecardRequest": return new GetLatestScorecardRequestAdapter(gson);
+            case "GetLatestScorecardResult": return new GetLatestScorecardResultAdapter(gson);
+            case "GetTreatmentAssignmentRequest": return new GetTreatmentAssignmentRequestAdapter(gson);
+            case "GetTreatmentAssignmentResult": return new GetTreatmentAssignmentResultAdapter(gson);
+            case "MetricData": return new MetricDataAdapter(gson);
+            case "Scorecard": return new ScorecardAdapter(gson);
+            case "ScorecardDataRow": return new ScorecardDataRowAdapter(gson);
+            case "StartExperimentRequest": return new StartExperimentRequestAdapter(gson);
+            case "StopExperimentRequest": return new StopExperimentRequestAdapter(gson);
+            case "TreatmentAssignment": return new TreatmentAssignmentAdapter(gson);
+            case "UpdateExclusionGroupRequest": return new UpdateExclusionGroupRequestAdapter(gson);
+            case "UpdateExperimentRequest": return new UpdateExperimentRequestAdapter(gson);
+            case "Variable": return new VariableAdapter(gson);
+            case "Variant": return new VariantAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class CreateExclusionGroupRequestAdapter extends PlayFabModelAdapter<CreateExclusionGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        CreateExclusionGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected CreateExclusionGroupRequest newInstance() {
+            return new CreateExclusionGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateExclusionGroupRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateExclusionGroupRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateExclusionGroupResultAdapter extends PlayFabModelAdapter<CreateExclusionGroupResult> {
+        CreateExclusionGroupResultAdapter(Gson gson) {
+        }
+
+        protected CreateExclusionGroupResult newInstance() {
+            return new CreateExclusionGroupResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateExclusionGroupResult value) throws IOException {
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateExclusionGroupResult value) throws IOException {
+            switch (name) {
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateExperimentRequestAdapter extends PlayFabModelAdapter<CreateExperimentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExperimentType> experimentTypeAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<Variant>> variantListAdapter;
+
+        CreateExperimentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            experimentTypeAdapter = gson.getAdapter(ExperimentType.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            variantListAdapter = listAdapter(gson, Variant.class);
+        }
+
+        protected CreateExperimentRequest newInstance() {
+            return new CreateExperimentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateExperimentRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "EndDate", value.EndDate, dateAdapter);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+            writeField(out, "ExclusionGroupTrafficAllocation", value.ExclusionGroupTrafficAllocation);
+            writeField(out, "ExperimentType", value.ExperimentType, experimentTypeAdapter);
+            writeField(out, "Name", value.Name);
+            writeField(out, "SegmentId", value.SegmentId);
+            writeField(out, "StartDate", value.StartDate, dateAdapter);
+            writeField(out, "TitlePlayerAccountTestIds", value.TitlePlayerAccountTestIds, stringListAdapter);
+            writeField(out, "Variants", value.Variants, variantListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateExperimentRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "EndDate": value.EndDate = dateAdapter.read(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                case "ExclusionGroupTrafficAllocation": value.ExclusionGroupTrafficAllocation = readLong(in); return true;
+                case "ExperimentType": value.ExperimentType = experimentTypeAdapter.read(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                case "StartDate": value.StartDate = dateAdapter.read(in); return true;
+                case "TitlePlayerAccountTestIds": value.TitlePlayerAccountTestIds = stringListAdapter.read(in); return true;
+                case "Variants": value.Variants = variantListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateExperimentResultAdapter extends PlayFabModelAdapter<CreateExperimentResult> {
+        CreateExperimentResultAdapter(Gson gson) {
+        }
+
+        protected CreateExperimentResult newInstance() {
+            return new CreateExperimentResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateExperimentResult value) throws IOException {
+            writeField(out, "ExperimentId", value.ExperimentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateExperimentResult value) throws IOException {
+            switch (name) {
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteExclusionGroupRequestAdapter extends PlayFabModelAdapter<DeleteExclusionGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteExclusionGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteExclusionGroupRequest newInstance() {
+            return new DeleteExclusionGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteExclusionGroupRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteExclusionGroupRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteExperimentRequestAdapter extends PlayFabModelAdapter<DeleteExperimentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteExperimentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteExperimentRequest newInstance() {
+            return new DeleteExperimentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteExperimentRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExperimentId", value.ExperimentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteExperimentRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExclusionGroupTrafficAllocationAdapter extends PlayFabModelAdapter<ExclusionGroupTrafficAllocation> {
+        ExclusionGroupTrafficAllocationAdapter(Gson gson) {
+        }
+
+        protected ExclusionGroupTrafficAllocation newInstance() {
+            return new ExclusionGroupTrafficAllocation();
+        }
+
+        protected void writeFields(JsonWriter out, ExclusionGroupTrafficAllocation value) throws IOException {
+            writeField(out, "ExperimentId", value.ExperimentId);
+            writeField(out, "TrafficAllocation", value.TrafficAllocation);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExclusionGroupTrafficAllocation value) throws IOException {
+            switch (name) {
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                case "TrafficAllocation": value.TrafficAllocation = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExperimentAdapter extends PlayFabModelAdapter<Experiment> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExperimentType> experimentTypeAdapter;
+        private final TypeAdapter<ExperimentState> experimentStateAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<Variant>> variantListAdapter;
+
+        ExperimentAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            experimentTypeAdapter = gson.getAdapter(ExperimentType.class);
+            experimentStateAdapter = gson.getAdapter(ExperimentState.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            variantListAdapter = listAdapter(gson, Variant.class);
+        }
+
+        protected Experiment newInstance() {
+            return new Experiment();
+        }
+
+        protected void writeFields(JsonWriter out, Experiment value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "EndDate", value.EndDate, dateAdapter);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+            writeField(out, "ExclusionGroupTrafficAllocation", value.ExclusionGroupTrafficAllocation);
+            writeField(out, "ExperimentType", value.ExperimentType, experimentTypeAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+            writeField(out, "SegmentId", value.SegmentId);
+            writeField(out, "StartDate", value.StartDate, dateAdapter);
+            writeField(out, "State", value.State, experimentStateAdapter);
+            writeField(out, "TitlePlayerAccountTestIds", value.TitlePlayerAccountTestIds, stringListAdapter);
+            writeField(out, "Variants", value.Variants, variantListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, Experiment value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "EndDate": value.EndDate = dateAdapter.read(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                case "ExclusionGroupTrafficAllocation": value.ExclusionGroupTrafficAllocation = readLong(in); return true;
+                case "ExperimentType": value.ExperimentType = experimentTypeAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                case "StartDate": value.StartDate = dateAdapter.read(in); return true;
+                case "State": value.State = experimentStateAdapter.read(in); return true;
+                case "TitlePlayerAccountTestIds": value.TitlePlayerAccountTestIds = stringListAdapter.read(in); return true;
+                case "Variants": value.Variants = variantListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExperimentExclusionGroupAdapter extends PlayFabModelAdapter<ExperimentExclusionGroup> {
+        ExperimentExclusionGroupAdapter(Gson gson) {
+        }
+
+        protected ExperimentExclusionGroup newInstance() {
+            return new ExperimentExclusionGroup();
+        }
+
+        protected void writeFields(JsonWriter out, ExperimentExclusionGroup value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExperimentExclusionGroup value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetExclusionGroupsRequestAdapter extends PlayFabModelAdapter<GetExclusionGroupsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetExclusionGroupsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetExclusionGroupsRequest newInstance() {
+            return new GetExclusionGroupsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetExclusionGroupsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetExclusionGroupsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetExclusionGroupsResultAdapter extends PlayFabModelAdapter<GetExclusionGroupsResult> {
+        private final TypeAdapter<ArrayList<ExperimentExclusionGroup>> experimentExclusionGroupListAdapter;
+
+        GetExclusionGroupsResultAdapter(Gson gson) {
+            experimentExclusionGroupListAdapter = listAdapter(gson, ExperimentExclusionGroup.class);
+        }
+
+        protected GetExclusionGroupsResult newInstance() {
+            return new GetExclusionGroupsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetExclusionGroupsResult value) throws IOException {
+            writeField(out, "ExclusionGroups", value.ExclusionGroups, experimentExclusionGroupListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetExclusionGroupsResult value) throws IOException {
+            switch (name) {
+                case "ExclusionGroups": value.ExclusionGroups = experimentExclusionGroupListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetExclusionGroupTrafficRequestAdapter extends PlayFabModelAdapter<GetExclusionGroupTrafficRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetExclusionGroupTrafficRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetExclusionGroupTrafficRequest newInstance() {
+            return new GetExclusionGroupTrafficRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetExclusionGroupTrafficRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetExclusionGroupTrafficRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetExclusionGroupTrafficResultAdapter extends PlayFabModelAdapter<GetExclusionGroupTrafficResult> {
+        private final TypeAdapter<ArrayList<ExclusionGroupTrafficAllocation>> exclusionGroupTrafficAllocationListAdapter;
+
+        GetExclusionGroupTrafficResultAdapter(Gson gson) {
+            exclusionGroupTrafficAllocationListAdapter = listAdapter(gson, ExclusionGroupTrafficAllocation.class);
+        }
+
+        protected GetExclusionGroupTrafficResult newInstance() {
+            return new GetExclusionGroupTrafficResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetExclusionGroupTrafficResult value) throws IOException {
+            writeField(out, "TrafficAllocations", value.TrafficAllocations, exclusionGroupTrafficAllocationListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetExclusionGroupTrafficResult value) throws IOException {
+            switch (name) {
+                case "TrafficAllocations": value.TrafficAllocations = exclusionGroupTrafficAllocationListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetExperimentsRequestAdapter extends PlayFabModelAdapter<GetExperimentsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetExperimentsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetExperimentsRequest newInstance() {
+            return new GetExperimentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetExperimentsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetExperimentsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetExperimentsResultAdapter extends PlayFabModelAdapter<GetExperimentsResult> {
+        private final TypeAdapter<ArrayList<Experiment>> experimentListAdapter;
+
+        GetExperimentsResultAdapter(Gson gson) {
+            experimentListAdapter = listAdapter(gson, Experiment.class);
+        }
+
+        protected GetExperimentsResult newInstance() {
+            return new GetExperimentsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetExperimentsResult value) throws IOException {
+            writeField(out, "Experiments", value.Experiments, experimentListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetExperimentsResult value) throws IOException {
+            switch (name) {
+                case "Experiments": value.Experiments = experimentListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLatestScorecardRequestAdapter extends PlayFabModelAdapter<GetLatestScorecardRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetLatestScorecardRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetLatestScorecardRequest newInstance() {
+            return new GetLatestScorecardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLatestScorecardRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExperimentId", value.ExperimentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLatestScorecardRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLatestScorecardResultAdapter extends PlayFabModelAdapter<GetLatestScorecardResult> {
+        private final TypeAdapter<Scorecard> scorecardAdapter;
+
+        GetLatestScorecardResultAdapter(Gson gson) {
+            scorecardAdapter = gson.getAdapter(Scorecard.class);
+        }
+
+        protected GetLatestScorecardResult newInstance() {
+            return new GetLatestScorecardResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLatestScorecardResult value) throws IOException {
+            writeField(out, "Scorecard", value.Scorecard, scorecardAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLatestScorecardResult value) throws IOException {
+            switch (name) {
+                case "Scorecard": value.Scorecard = scorecardAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTreatmentAssignmentRequestAdapter extends PlayFabModelAdapter<GetTreatmentAssignmentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetTreatmentAssignmentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetTreatmentAssignmentRequest newInstance() {
+            return new GetTreatmentAssignmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTreatmentAssignmentRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTreatmentAssignmentRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTreatmentAssignmentResultAdapter extends PlayFabModelAdapter<GetTreatmentAssignmentResult> {
+        private final TypeAdapter<TreatmentAssignment> treatmentAssignmentAdapter;
+
+        GetTreatmentAssignmentResultAdapter(Gson gson) {
+            treatmentAssignmentAdapter = gson.getAdapter(TreatmentAssignment.class);
+        }
+
+        protected GetTreatmentAssignmentResult newInstance() {
+            return new GetTreatmentAssignmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTreatmentAssignmentResult value) throws IOException {
+            writeField(out, "TreatmentAssignment", value.TreatmentAssignment, treatmentAssignmentAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTreatmentAssignmentResult value) throws IOException {
+            switch (name) {
+                case "TreatmentAssignment": value.TreatmentAssignment = treatmentAssignmentAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MetricDataAdapter extends PlayFabModelAdapter<MetricData> {
+        MetricDataAdapter(Gson gson) {
+        }
+
+        protected MetricData newInstance() {
+            return new MetricData();
+        }
+
+        protected void writeFields(JsonWriter out, MetricData value) throws IOException {
+            writeField(out, "ConfidenceIntervalEnd", value.ConfidenceIntervalEnd);
+            writeField(out, "ConfidenceIntervalStart", value.ConfidenceIntervalStart);
+            writeField(out, "DeltaAbsoluteChange", value.DeltaAbsoluteChange);
+            writeField(out, "DeltaRelativeChange", value.DeltaRelativeChange);
+            writeField(out, "InternalName", value.InternalName);
+            writeField(out, "Movement", value.Movement);
+            writeField(out, "Name", value.Name);
+            writeField(out, "PMove", value.PMove);
+            writeField(out, "PValue", value.PValue);
+            writeField(out, "PValueThreshold", value.PValueThreshold);
+            writeField(out, "StatSigLevel", value.StatSigLevel);
+            writeField(out, "StdDev", value.StdDev);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, MetricData value) throws IOException {
+            switch (name) {
+                case "ConfidenceIntervalEnd": value.ConfidenceIntervalEnd = readDouble(in); return true;
+                case "ConfidenceIntervalStart": value.ConfidenceIntervalStart = readDouble(in); return true;
+                case "DeltaAbsoluteChange": value.DeltaAbsoluteChange = readFloat(in); return true;
+                case "DeltaRelativeChange": value.DeltaRelativeChange = readFloat(in); return true;
+                case "InternalName": value.InternalName = readString(in); return true;
+                case "Movement": value.Movement = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "PMove": value.PMove = readFloat(in); return true;
+                case "PValue": value.PValue = readFloat(in); return true;
+                case "PValueThreshold": value.PValueThreshold = readFloat(in); return true;
+                case "StatSigLevel": value.StatSigLevel = readString(in); return true;
+                case "StdDev": value.StdDev = readFloat(in); return true;
+                case "Value": value.Value = readFloat(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScorecardAdapter extends PlayFabModelAdapter<Scorecard> {
+        private final TypeAdapter<AnalysisTaskState> analysisTaskStateAdapter;
+        private final TypeAdapter<ArrayList<ScorecardDataRow>> scorecardDataRowListAdapter;
+
+        ScorecardAdapter(Gson gson) {
+            analysisTaskStateAdapter = gson.getAdapter(AnalysisTaskState.class);
+            scorecardDataRowListAdapter = listAdapter(gson, ScorecardDataRow.class);
+        }
+
+        protected Scorecard newInstance() {
+            return new Scorecard();
+        }
+
+        protected void writeFields(JsonWriter out, Scorecard value) throws IOException {
+            writeField(out, "DateGenerated", value.DateGenerated);
+            writeField(out, "Duration", value.Duration);
+            writeField(out, "EventsProcessed", value.EventsProcessed);
+            writeField(out, "ExperimentId", value.ExperimentId);
+            writeField(out, "ExperimentName", value.ExperimentName);
+            writeField(out, "LatestJobStatus", value.LatestJobStatus, analysisTaskStateAdapter);
+            writeField(out, "SampleRatioMismatch", value.SampleRatioMismatch);
+            writeField(out, "ScorecardDataRows", value.ScorecardDataRows, scorecardDataRowListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, Scorecard value) throws IOException {
+            switch (name) {
+                case "DateGenerated": value.DateGenerated = readString(in); return true;
+                case "Duration": value.Duration = readString(in); return true;
+                case "EventsProcessed": value.EventsProcessed = readDouble(in); return true;
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                case "ExperimentName": value.ExperimentName = readString(in); return true;
+                case "LatestJobStatus": value.LatestJobStatus = analysisTaskStateAdapter.read(in); return true;
+                case "SampleRatioMismatch": value.SampleRatioMismatch = readBoolean(in); return true;
+                case "ScorecardDataRows": value.ScorecardDataRows = scorecardDataRowListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScorecardDataRowAdapter extends PlayFabModelAdapter<ScorecardDataRow> {
+        private final TypeAdapter<Map<String, MetricData>> metricDataMapAdapter;
+
+        ScorecardDataRowAdapter(Gson gson) {
+            metricDataMapAdapter = mapAdapter(gson, MetricData.class);
+        }
+
+        protected ScorecardDataRow newInstance() {
+            return new ScorecardDataRow();
+        }
+
+        protected void writeFields(JsonWriter out, ScorecardDataRow value) throws IOException {
+            writeField(out, "IsControl", value.IsControl);
+            writeField(out, "MetricDataRows", value.MetricDataRows, metricDataMapAdapter);
+            writeField(out, "PlayerCount", value.PlayerCount);
+            writeField(out, "VariantName", value.VariantName);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScorecardDataRow value) throws IOException {
+            switch (name) {
+                case "IsControl": value.IsControl = readBoolean(in); return true;
+                case "MetricDataRows": value.MetricDataRows = metricDataMapAdapter.read(in); return true;
+                case "PlayerCount": value.PlayerCount = readLong(in); return true;
+                case "VariantName": value.VariantName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StartExperimentRequestAdapter extends PlayFabModelAdapter<StartExperimentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        StartExperimentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected StartExperimentRequest newInstance() {
+            return new StartExperimentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, StartExperimentRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExperimentId", value.ExperimentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, StartExperimentRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StopExperimentRequestAdapter extends PlayFabModelAdapter<StopExperimentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        StopExperimentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected StopExperimentRequest newInstance() {
+            return new StopExperimentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, StopExperimentRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExperimentId", value.ExperimentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, StopExperimentRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExperimentId": value.ExperimentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TreatmentAssignmentAdapter extends PlayFabModelAdapter<TreatmentAssignment> {
+        private final TypeAdapter<ArrayList<Variable>> variableListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        TreatmentAssignmentAdapter(Gson gson) {
+            variableListAdapter = listAdapter(gson, Variable.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected TreatmentAssignment newInstance() {
+            return new TreatmentAssignment();
+        }
+
+        protected void writeFields(JsonWriter out, TreatmentAssignment value) throws IOException {
+            writeField(out, "Variables", value.Variables, variableListAdapter);
+            writeField(out, "Variants", value.Variants, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TreatmentAssignment value) throws IOException {
+            switch (name) {
+                case "Variables": value.Variables = variableListAdapter.read(in); return true;
+                case "Variants": value.Variants = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateExclusionGroupRequestAdapter extends PlayFabModelAdapter<UpdateExclusionGroupRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateExclusionGroupRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateExclusionGroupRequest newInstance() {
+            return new UpdateExclusionGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateExclusionGroupRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateExclusionGroupRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateExperimentRequestAdapter extends PlayFabModelAdapter<UpdateExperimentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExperimentType> experimentTypeAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<Variant>> variantListAdapter;
+
+        UpdateExperimentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            experimentTypeAdapter = gson.getAdapter(ExperimentType.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            variantListAdapter = listAdapter(gson, Variant.class);
+        }
+
+        protected UpdateExperimentRequest newInstance() {
+            return new UpdateExperimentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateExperimentRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Description", value.Description);
+            writeField(out, "EndDate", value.EndDate, dateAdapter);
+            writeField(out, "ExclusionGroupId", value.ExclusionGroupId);
+            writeField(out, "ExclusionGroupTrafficAllocation", value.ExclusionGroupTrafficAllocation);
+            writeField(out, "ExperimentType", value.ExperimentType, experimentTypeAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+            writeField(out, "SegmentId", value.SegmentId);
+            writeField(out, "StartDate", value.StartDate, dateAdapter);
+            writeField(out, "TitlePlayerAccountTestIds", value.TitlePlayerAccountTestIds, stringListAdapter);
+            writeField(out, "Variants", value.Variants, variantListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateExperimentRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "EndDate": value.EndDate = dateAdapter.read(in); return true;
+                case "ExclusionGroupId": value.ExclusionGroupId = readString(in); return true;
+                case "ExclusionGroupTrafficAllocation": value.ExclusionGroupTrafficAllocation = readLong(in); return true;
+                case "ExperimentType": value.ExperimentType = experimentTypeAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                case "StartDate": value.StartDate = dateAdapter.read(in); return true;
+                case "TitlePlayerAccountTestIds": value.TitlePlayerAccountTestIds = stringListAdapter.read(in); return true;
+                case "Variants": value.Variants = variantListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VariableAdapter extends PlayFabModelAdapter<Variable> {
+        VariableAdapter(Gson gson) {
+        }
+
+        protected Variable newInstance() {
+            return new Variable();
+        }
+
+        protected void writeFields(JsonWriter out, Variable value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, Variable value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VariantAdapter extends PlayFabModelAdapter<Variant> {
+        private final TypeAdapter<ArrayList<Variable>> variableListAdapter;
+
+        VariantAdapter(Gson gson) {
+            variableListAdapter = listAdapter(gson, Variable.class);
+        }
+
+        protected Variant newInstance() {
+            return new Variant();
+        }
+
+        protected void writeFields(JsonWriter out, Variant value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "Id", value.Id);
+            writeField(out, "IsControl", value.IsControl);
+            writeField(out, "Name", value.Name);
+            writeField(out, "TitleDataOverrideLabel", value.TitleDataOverrideLabel);
+            writeField(out, "TrafficPercentage", value.TrafficPercentage);
+            writeField(out, "Variables", value.Variables, variableListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, Variant value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "IsControl": value.IsControl = readBoolean(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "TitleDataOverrideLabel": value.TitleDataOverrideLabel = readString(in); return true;
+                case "TrafficPercentage": value.TrafficPercentage = readLong(in); return true;
+                case "Variables": value.Variables = variableListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -4,7 +4,6 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.net.*;
 import java.io.*;
-import com.google.gson.*;
 
 import com.playfab.PlayFabSettings;
 import com.playfab.PlayFabErrors.PlayFabError;
@@ -14,7 +13,8 @@ import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
 
 public class PlayFabHTTP {
     private static final int timeoutInMilliseconds = 60000;
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+
+    private static final String[] httpStatusStrings = new String[600];
 
     public static FutureTask<Object> doPost(final String url, final Object request, final String authType, final String authKey) {
         return new FutureTask<Object>(new Callable<Object>() {
@@ -34,7 +34,7 @@ public class PlayFabHTTP {
             bodyString = (String)request;
         }
         else {
-            bodyString = gson.toJson(request);
+            bodyString = PlayFabJson.toJson(request);
         }
 
         HttpURLConnection con = (HttpURLConnection) new URL(url).openConnection();
@@ -74,9 +74,9 @@ public class PlayFabHTTP {
 
             PlayFabJsonError errorResult = null;
             try {
-                errorResult = gson.fromJson(responseString, PlayFabJsonError.class);
+                errorResult = PlayFabJson.fromJson(responseString, PlayFabJsonError.class);
             } catch(Exception e) {
-                return GeneratePfError(httpCode, PlayFabErrorCode.JsonParseError, "Server response not proper json :" + responseString, errorResult.retryAfterSeconds, null);
+                return GeneratePfError(httpCode, PlayFabErrorCode.JsonParseError, "Server response not proper json :" + responseString, null, null);
             }
 
             httpCode = errorResult.code;
@@ -103,7 +103,7 @@ public class PlayFabHTTP {
         PlayFabError output =  new PlayFabError();
 
         output.httpCode = httpCode;
-        output.httpStatus = "" + httpCode; // TODO: Convert this to the right string-name
+        output.httpStatus = httpStatus(httpCode); // TODO: Convert this to the right string-name
         output.pfErrorCode = pfErrorCode;
         output.errorMessage = errorMessage;
         output.errorDetails = errorDetails;
@@ -111,4 +111,15 @@ public class PlayFabHTTP {
 
         return output;
     }
+
+    private static String httpStatus(int httpCode) {
+        if (httpCode < 0 || httpCode >= httpStatusStrings.length)
+            return Integer.toString(httpCode);
+        String status = httpStatusStrings[httpCode];
+        if (status == null) {
+            status = Integer.toString(httpCode); // Racing writers store equal strings, so no lock is needed
+            httpStatusStrings[httpCode] = status;
+        }
+        return status;
+    }
 }
@@ -0,0 +1,344 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabInsightsModels;
+import com.playfab.PlayFabInsightsModels.*;
+
+/**
+ * Streaming adapters for the PlayFabInsightsModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabInsightsModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabInsightsModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "InsightsEmptyRequest": return new InsightsEmptyRequestAdapter(gson);
+            case "InsightsGetDetailsResponse": return new InsightsGetDetailsResponseAdapter(gson);
+            case "InsightsGetLimitsResponse": return new InsightsGetLimitsResponseAdapter(gson);
+            case "InsightsGetOperationStatusRequest": return new InsightsGetOperationStatusRequestAdapter(gson);
+            case "InsightsGetOperationStatusResponse": return new InsightsGetOperationStatusResponseAdapter(gson);
+            case "InsightsGetPendingOperationsRequest": return new InsightsGetPendingOperationsRequestAdapter(gson);
+            case "InsightsGetPendingOperationsResponse": return new InsightsGetPendingOperationsResponseAdapter(gson);
+            case "InsightsOperationResponse": return new InsightsOperationResponseAdapter(gson);
+            case "InsightsPerformanceLevel": return new InsightsPerformanceLevelAdapter(gson);
+            case "InsightsSetPerformanceRequest": return new InsightsSetPerformanceRequestAdapter(gson);
+            case "InsightsSetStorageRetentionRequest": return new InsightsSetStorageRetentionRequestAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class InsightsEmptyRequestAdapter extends PlayFabModelAdapter<InsightsEmptyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        InsightsEmptyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected InsightsEmptyRequest newInstance() {
+            return new InsightsEmptyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsEmptyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsEmptyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsGetDetailsResponseAdapter extends PlayFabModelAdapter<InsightsGetDetailsResponse> {
+        private final TypeAdapter<InsightsGetLimitsResponse> insightsGetLimitsResponseAdapter;
+        private final TypeAdapter<ArrayList<InsightsGetOperationStatusResponse>> insightsGetOperationStatusResponseListAdapter;
+
+        InsightsGetDetailsResponseAdapter(Gson gson) {
+            insightsGetLimitsResponseAdapter = gson.getAdapter(InsightsGetLimitsResponse.class);
+            insightsGetOperationStatusResponseListAdapter = listAdapter(gson, InsightsGetOperationStatusResponse.class);
+        }
+
+        protected InsightsGetDetailsResponse newInstance() {
+            return new InsightsGetDetailsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsGetDetailsResponse value) throws IOException {
+            writeField(out, "DataUsageMb", value.DataUsageMb);
+            writeField(out, "ErrorMessage", value.ErrorMessage);
+            writeField(out, "Limits", value.Limits, insightsGetLimitsResponseAdapter);
+            writeField(out, "PendingOperations", value.PendingOperations, insightsGetOperationStatusResponseListAdapter);
+            writeField(out, "PerformanceLevel", value.PerformanceLevel);
+            writeField(out, "RetentionDays", value.RetentionDays);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsGetDetailsResponse value) throws IOException {
+            switch (name) {
+                case "DataUsageMb": value.DataUsageMb = readLong(in); return true;
+                case "ErrorMessage": value.ErrorMessage = readString(in); return true;
+                case "Limits": value.Limits = insightsGetLimitsResponseAdapter.read(in); return true;
+                case "PendingOperations": value.PendingOperations = insightsGetOperationStatusResponseListAdapter.read(in); return true;
+                case "PerformanceLevel": value.PerformanceLevel = readInteger(in); return true;
+                case "RetentionDays": value.RetentionDays = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsGetLimitsResponseAdapter extends PlayFabModelAdapter<InsightsGetLimitsResponse> {
+        private final TypeAdapter<ArrayList<InsightsPerformanceLevel>> insightsPerformanceLevelListAdapter;
+
+        InsightsGetLimitsResponseAdapter(Gson gson) {
+            insightsPerformanceLevelListAdapter = listAdapter(gson, InsightsPerformanceLevel.class);
+        }
+
+        protected InsightsGetLimitsResponse newInstance() {
+            return new InsightsGetLimitsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsGetLimitsResponse value) throws IOException {
+            writeField(out, "DefaultPerformanceLevel", value.DefaultPerformanceLevel);
+            writeField(out, "DefaultStorageRetentionDays", value.DefaultStorageRetentionDays);
+            writeField(out, "StorageMaxRetentionDays", value.StorageMaxRetentionDays);
+            writeField(out, "StorageMinRetentionDays", value.StorageMinRetentionDays);
+            writeField(out, "SubMeters", value.SubMeters, insightsPerformanceLevelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsGetLimitsResponse value) throws IOException {
+            switch (name) {
+                case "DefaultPerformanceLevel": value.DefaultPerformanceLevel = readInteger(in); return true;
+                case "DefaultStorageRetentionDays": value.DefaultStorageRetentionDays = readInteger(in); return true;
+                case "StorageMaxRetentionDays": value.StorageMaxRetentionDays = readInteger(in); return true;
+                case "StorageMinRetentionDays": value.StorageMinRetentionDays = readInteger(in); return true;
+                case "SubMeters": value.SubMeters = insightsPerformanceLevelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsGetOperationStatusRequestAdapter extends PlayFabModelAdapter<InsightsGetOperationStatusRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        InsightsGetOperationStatusRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected InsightsGetOperationStatusRequest newInstance() {
+            return new InsightsGetOperationStatusRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsGetOperationStatusRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "OperationId", value.OperationId);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsGetOperationStatusRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "OperationId": value.OperationId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsGetOperationStatusResponseAdapter extends PlayFabModelAdapter<InsightsGetOperationStatusResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        InsightsGetOperationStatusResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected InsightsGetOperationStatusResponse newInstance() {
+            return new InsightsGetOperationStatusResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsGetOperationStatusResponse value) throws IOException {
+            writeField(out, "Message", value.Message);
+            writeField(out, "OperationCompletedTime", value.OperationCompletedTime, dateAdapter);
+            writeField(out, "OperationId", value.OperationId);
+            writeField(out, "OperationLastUpdated", value.OperationLastUpdated, dateAdapter);
+            writeField(out, "OperationStartedTime", value.OperationStartedTime, dateAdapter);
+            writeField(out, "OperationType", value.OperationType);
+            writeField(out, "OperationValue", value.OperationValue);
+            writeField(out, "Status", value.Status);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsGetOperationStatusResponse value) throws IOException {
+            switch (name) {
+                case "Message": value.Message = readString(in); return true;
+                case "OperationCompletedTime": value.OperationCompletedTime = dateAdapter.read(in); return true;
+                case "OperationId": value.OperationId = readString(in); return true;
+                case "OperationLastUpdated": value.OperationLastUpdated = dateAdapter.read(in); return true;
+                case "OperationStartedTime": value.OperationStartedTime = dateAdapter.read(in); return true;
+                case "OperationType": value.OperationType = readString(in); return true;
+                case "OperationValue": value.OperationValue = readInteger(in); return true;
+                case "Status": value.Status = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsGetPendingOperationsRequestAdapter extends PlayFabModelAdapter<InsightsGetPendingOperationsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        InsightsGetPendingOperationsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected InsightsGetPendingOperationsRequest newInstance() {
+            return new InsightsGetPendingOperationsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsGetPendingOperationsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "OperationType", value.OperationType);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsGetPendingOperationsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "OperationType": value.OperationType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsGetPendingOperationsResponseAdapter extends PlayFabModelAdapter<InsightsGetPendingOperationsResponse> {
+        private final TypeAdapter<ArrayList<InsightsGetOperationStatusResponse>> insightsGetOperationStatusResponseListAdapter;
+
+        InsightsGetPendingOperationsResponseAdapter(Gson gson) {
+            insightsGetOperationStatusResponseListAdapter = listAdapter(gson, InsightsGetOperationStatusResponse.class);
+        }
+
+        protected InsightsGetPendingOperationsResponse newInstance() {
+            return new InsightsGetPendingOperationsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsGetPendingOperationsResponse value) throws IOException {
+            writeField(out, "PendingOperations", value.PendingOperations, insightsGetOperationStatusResponseListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsGetPendingOperationsResponse value) throws IOException {
+            switch (name) {
+                case "PendingOperations": value.PendingOperations = insightsGetOperationStatusResponseListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsOperationResponseAdapter extends PlayFabModelAdapter<InsightsOperationResponse> {
+        InsightsOperationResponseAdapter(Gson gson) {
+        }
+
+        protected InsightsOperationResponse newInstance() {
+            return new InsightsOperationResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsOperationResponse value) throws IOException {
+            writeField(out, "Message", value.Message);
+            writeField(out, "OperationId", value.OperationId);
+            writeField(out, "OperationType", value.OperationType);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsOperationResponse value) throws IOException {
+            switch (name) {
+                case "Message": value.Message = readString(in); return true;
+                case "OperationId": value.OperationId = readString(in); return true;
+                case "OperationType": value.OperationType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsPerformanceLevelAdapter extends PlayFabModelAdapter<InsightsPerformanceLevel> {
+        InsightsPerformanceLevelAdapter(Gson gson) {
+        }
+
+        protected InsightsPerformanceLevel newInstance() {
+            return new InsightsPerformanceLevel();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsPerformanceLevel value) throws IOException {
+            writeField(out, "ActiveEventExports", value.ActiveEventExports);
+            writeField(out, "CacheSizeMB", value.CacheSizeMB);
+            writeField(out, "Concurrency", value.Concurrency);
+            writeField(out, "CreditsPerMinute", value.CreditsPerMinute);
+            writeField(out, "EventsPerSecond", value.EventsPerSecond);
+            writeField(out, "Level", value.Level);
+            writeField(out, "MaxMemoryPerQueryMB", value.MaxMemoryPerQueryMB);
+            writeField(out, "VirtualCpuCores", value.VirtualCpuCores);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsPerformanceLevel value) throws IOException {
+            switch (name) {
+                case "ActiveEventExports": value.ActiveEventExports = readInteger(in); return true;
+                case "CacheSizeMB": value.CacheSizeMB = readInteger(in); return true;
+                case "Concurrency": value.Concurrency = readInteger(in); return true;
+                case "CreditsPerMinute": value.CreditsPerMinute = readDouble(in); return true;
+                case "EventsPerSecond": value.EventsPerSecond = readInteger(in); return true;
+                case "Level": value.Level = readInteger(in); return true;
+                case "MaxMemoryPerQueryMB": value.MaxMemoryPerQueryMB = readInteger(in); return true;
+                case "VirtualCpuCores": value.VirtualCpuCores = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsSetPerformanceRequestAdapter extends PlayFabModelAdapter<InsightsSetPerformanceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        InsightsSetPerformanceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected InsightsSetPerformanceRequest newInstance() {
+            return new InsightsSetPerformanceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsSetPerformanceRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PerformanceLevel", value.PerformanceLevel);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsSetPerformanceRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PerformanceLevel": value.PerformanceLevel = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InsightsSetStorageRetentionRequestAdapter extends PlayFabModelAdapter<InsightsSetStorageRetentionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        InsightsSetStorageRetentionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected InsightsSetStorageRetentionRequest newInstance() {
+            return new InsightsSetStorageRetentionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InsightsSetStorageRetentionRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "RetentionDays", value.RetentionDays);
+        }
+
+        protected boolean readField(JsonReader in, String name, InsightsSetStorageRetentionRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "RetentionDays": value.RetentionDays = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+
+/**
+ * Encodes requests and decodes responses for PlayFabHTTP and the API classes.
+ * PlayFabJson selects one implementation per process; see PlayFabJson for how it is chosen. Implementations must be
+ * thread-safe and must produce the same JSON members as the generated model adapters.
+ */
+public interface PlayFabJsonCodec {
+    String toJson(Object value);
+
+    <T> T fromJson(String json, Class<T> type);
+
+    <T> PlayFabJsonSuccess<T> fromSuccessJson(String json, Class<T> resultType) throws IOException;
+}
@@ -0,0 +1,153 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Base class for the generated streaming adapters of the PlayFab*Models classes.
+ * Produces the same JSON as Gson's reflective adapter: fields in declaration order, null fields omitted, unknown names
+ * skipped on read. Scalar fields are read and written inline; everything else is delegated to the Gson adapter for its
+ * declared type, resolved once when the model adapter is created.
+ */
+public abstract class PlayFabModelAdapter<T> extends TypeAdapter<T> {
+    protected abstract T newInstance();
+
+    protected abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+    /** @return false if name is not a field of T, in which case the caller skips its value */
+    protected abstract boolean readField(JsonReader in, String name, T value) throws IOException;
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        writeFields(out, value);
+        out.endObject();
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        T value = newInstance();
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!readField(in, in.nextName(), value))
+                in.skipValue();
+        }
+        in.endObject();
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <E> TypeAdapter<ArrayList<E>> listAdapter(Gson gson, Class<E> elementType) {
+        return (TypeAdapter<ArrayList<E>>) gson.getAdapter(TypeToken.getParameterized(ArrayList.class, elementType));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <V> TypeAdapter<Map<String, V>> mapAdapter(Gson gson, Class<V> valueType) {
+        return (TypeAdapter<Map<String, V>>) gson.getAdapter(TypeToken.getParameterized(Map.class, String.class, valueType));
+    }
+
+    protected static void writeField(JsonWriter out, String name, String value) throws IOException {
+        if (value != null)
+            out.name(name).value(value);
+    }
+
+    protected static void writeField(JsonWriter out, String name, Boolean value) throws IOException {
+        if (value != null)
+            out.name(name).value(value);
+    }
+
+    protected static void writeField(JsonWriter out, String name, Number value) throws IOException {
+        if (value != null)
+            out.name(name).value(value);
+    }
+
+    protected static <V> void writeField(JsonWriter out, String name, V value, TypeAdapter<V> adapter) throws IOException {
+        if (value != null) {
+            out.name(name);
+            adapter.write(out, value);
+        }
+    }
+
+    protected static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN)
+            return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    protected static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING)
+            return Boolean.parseBoolean(in.nextString());
+        return in.nextBoolean();
+    }
+
+    protected static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    protected static int readInt(JsonReader in, int current) throws IOException {
+        Integer value = readInteger(in);
+        return value == null ? current : value;
+    }
+
+    protected static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    protected static Double readDouble(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextDouble();
+    }
+
+    protected static Float readFloat(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return (float) in.nextDouble();
+    }
+}
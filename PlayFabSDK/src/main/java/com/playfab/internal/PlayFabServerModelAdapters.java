@@ -0,0 +1,8690 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerModels.*;
+
+/**
+ * Streaming adapters for the PlayFabServerModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabServerModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabServerModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AdCampaignAttribution": return new AdCampaignAttributionAdapter(gson);
+            case "AdCampaignAttributionModel": return new AdCampaignAttributionModelAdapter(gson);
+            case "AddCharacterVirtualCurrencyRequest": return new AddCharacterVirtualCurrencyRequestAdapter(gson);
+            case "AddFriendRequest": return new AddFriendRequestAdapter(gson);
+            case "AddGenericIDRequest": return new AddGenericIDRequestAdapter(gson);
+            case "AddPlayerTagRequest": return new AddPlayerTagRequestAdapter(gson);
+            case "AddPlayerTagResult": return new AddPlayerTagResultAdapter(gson);
+            case "AddSharedGroupMembersRequest": return new AddSharedGroupMembersRequestAdapter(gson);
+            case "AddSharedGroupMembersResult": return new AddSharedGroupMembersResultAdapter(gson);
+            case "AddUserVirtualCurrencyRequest": return new AddUserVirtualCurrencyRequestAdapter(gson);
+            case "AdvancedPushPlatformMsg": return new AdvancedPushPlatformMsgAdapter(gson);
+            case "AuthenticateSessionTicketRequest": return new AuthenticateSessionTicketRequestAdapter(gson);
+            case "AuthenticateSessionTicketResult": return new AuthenticateSessionTicketResultAdapter(gson);
+            case "AwardSteamAchievementItem": return new AwardSteamAchievementItemAdapter(gson);
+            case "AwardSteamAchievementRequest": return new AwardSteamAchievementRequestAdapter(gson);
+            case "AwardSteamAchievementResult": return new AwardSteamAchievementResultAdapter(gson);
+            case "BanInfo": return new BanInfoAdapter(gson);
+            case "BanRequest": return new BanRequestAdapter(gson);
+            case "BanUsersRequest": return new BanUsersRequestAdapter(gson);
+            case "BanUsersResult": return new BanUsersResultAdapter(gson);
+            case "CatalogItem": return new CatalogItemAdapter(gson);
+            case "CatalogItemBundleInfo": return new CatalogItemBundleInfoAdapter(gson);
+            case "CatalogItemConsumableInfo": return new CatalogItemConsumableInfoAdapter(gson);
+            case "CatalogItemContainerInfo": return new CatalogItemContainerInfoAdapter(gson);
+            case "CharacterInventory": return new CharacterInventoryAdapter(gson);
+            case "CharacterLeaderboardEntry": return new CharacterLeaderboardEntryAdapter(gson);
+            case "CharacterResult": return new CharacterResultAdapter(gson);
+            case "ConsumeItemRequest": return new ConsumeItemRequestAdapter(gson);
+            case "ConsumeItemResult": return new ConsumeItemResultAdapter(gson);
+            case "ContactEmailInfo": return new ContactEmailInfoAdapter(gson);
+            case "ContactEmailInfoModel": return new ContactEmailInfoModelAdapter(gson);
+            case "CreateSharedGroupRequest": return new CreateSharedGroupRequestAdapter(gson);
+            case "CreateSharedGroupResult": return new CreateSharedGroupResultAdapter(gson);
+            case "DeleteCharacterFromUserRequest": return new DeleteCharacterFromUserRequestAdapter(gson);
+            case "DeleteCharacterFromUserResult": return new DeleteCharacterFromUserResultAdapter(gson);
+            case "DeletePlayerRequest": return new DeletePlayerRequestAdapter(gson);
+            case "DeletePlayerResult": return new DeletePlayerResultAdapter(gson);
+            case "DeletePushNotificationTemplateRequest": return new DeletePushNotificationTemplateRequestAdapter(gson);
+            case "DeletePushNotificationTemplateResult": return new DeletePushNotificationTemplateResultAdapter(gson);
+            case "DeleteSharedGroupRequest": return new DeleteSharedGroupRequestAdapter(gson);
+            case "EmptyResponse": return new EmptyResponseAdapter(gson);
+            case "EmptyResult": return new EmptyResultAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "EntityTokenResponse": return new EntityTokenResponseAdapter(gson);
+            case "EvaluateRandomResultTableRequest": return new EvaluateRandomResultTableRequestAdapter(gson);
+            case "EvaluateRandomResultTableResult": return new EvaluateRandomResultTableResultAdapter(gson);
+            case "ExecuteCloudScriptResult": return new ExecuteCloudScriptResultAdapter(gson);
+            case "ExecuteCloudScriptServerRequest": return new ExecuteCloudScriptServerRequestAdapter(gson);
+            case "FacebookInstantGamesPlayFabIdPair": return new FacebookInstantGamesPlayFabIdPairAdapter(gson);
+            case "FacebookPlayFabIdPair": return new FacebookPlayFabIdPairAdapter(gson);
+            case "FriendInfo": return new FriendInfoAdapter(gson);
+            case "GenericPlayFabIdPair": return new GenericPlayFabIdPairAdapter(gson);
+            case "GenericServiceId": return new GenericServiceIdAdapter(gson);
+            case "GetAllSegmentsRequest": return new GetAllSegmentsRequestAdapter(gson);
+            case "GetAllSegmentsResult": return new GetAllSegmentsResultAdapter(gson);
+            case "GetCatalogItemsRequest": return new GetCatalogItemsRequestAdapter(gson);
+            case "GetCatalogItemsResult": return new GetCatalogItemsResultAdapter(gson);
+            case "GetCharacterDataRequest": return new GetCharacterDataRequestAdapter(gson);
+            case "GetCharacterDataResult": return new GetCharacterDataResultAdapter(gson);
+            case "GetCharacterInventoryRequest": return new GetCharacterInventoryRequestAdapter(gson);
+            case "GetCharacterInventoryResult": return new GetCharacterInventoryResultAdapter(gson);
+            case "GetCharacterLeaderboardRequest": return new GetCharacterLeaderboardRequestAdapter(gson);
+            case "GetCharacterLeaderboardResult": return new GetCharacterLeaderboardResultAdapter(gson);
+            case "GetCharacterStatisticsRequest": return new GetCharacterStatisticsRequestAdapter(gson);
+            case "GetCharacterStatisticsResult": return new GetCharacterStatisticsResultAdapter(gson);
+            case "GetContentDownloadUrlRequest": return new GetContentDownloadUrlRequestAdapter(gson);
+            case "GetContentDownloadUrlResult": return new GetContentDownloadUrlResultAdapter(gson);
+            case "GetFriendLeaderboardRequest": return new GetFriendLeaderboardRequestAdapter(gson);
+            case "GetFriendsListRequest": return new GetFriendsListRequestAdapter(gson);
+            case "GetFriendsListResult": return new GetFriendsListResultAdapter(gson);
+            case "GetLeaderboardAroundCharacterRequest": return new GetLeaderboardAroundCharacterRequestAdapter(gson);
+            case "GetLeaderboardAroundCharacterResult": return new GetLeaderboardAroundCharacterResultAdapter(gson);
+            case "GetLeaderboardAroundUserRequest": return new GetLeaderboardAroundUserRequestAdapter(gson);
+            case "GetLeaderboardAroundUserResult": return new GetLeaderboardAroundUserResultAdapter(gson);
+            case "GetLeaderboardForUsersCharactersRequest": return new GetLeaderboardForUsersCharactersRequestAdapter(gson);
+            case "GetLeaderboardForUsersCharactersResult": return new GetLeaderboardForUsersCharactersResultAdapter(gson);
+            case "GetLeaderboardRequest": return new GetLeaderboardRequestAdapter(gson);
+            case "GetLeaderboardResult": return new GetLeaderboardResultAdapter(gson);
+            case "GetPlayerCombinedInfoRequest": return new GetPlayerCombinedInfoRequestAdapter(gson);
+            case "GetPlayerCombinedInfoRequestParams": return new GetPlayerCombinedInfoRequestParamsAdapter(gson);
+            case "GetPlayerCombinedInfoResult": return new GetPlayerCombinedInfoResultAdapter(gson);
+            case "GetPlayerCombinedInfoResultPayload": return new GetPlayerCombinedInfoResultPayloadAdapter(gson);
+            case "GetPlayerProfileRequest": return new GetPlayerProfileRequestAdapter(gson);
+            case "GetPlayerProfileResult": return new GetPlayerProfileResultAdapter(gson);
+            case "GetPlayerSegmentsResult": return new GetPlayerSegmentsResultAdapter(gson);
+            case "GetPlayersInSegmentRequest": return new GetPlayersInSegmentRequestAdapter(gson);
+            case "GetPlayersInSegmentResult": return new GetPlayersInSegmentResultAdapter(gson);
+            case "GetPlayersSegmentsRequest": return new GetPlayersSegmentsRequestAdapter(gson);
+            case "GetPlayerStatisticsRequest": return new GetPlayerStatisticsRequestAdapter(gson);
+            case "GetPlayerStatisticsResult": return new GetPlayerStatisticsResultAdapter(gson);
+            case "GetPlayerStatisticVersionsRequest": return new GetPlayerStatisticVersionsRequestAdapter(gson);
+            case "GetPlayerStatisticVersionsResult": return new GetPlayerStatisticVersionsResultAdapter(gson);
+            case "GetPlayerTagsRequest": return new GetPlayerTagsRequestAdapter(gson);
+            case "GetPlayerTagsResult": return new GetPlayerTagsResultAdapter(gson);
+            case "GetPlayFabIDsFromFacebookIDsRequest": return new GetPlayFabIDsFromFacebookIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromFacebookIDsResult": return new GetPlayFabIDsFromFacebookIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromFacebookInstantGamesIdsRequest": return new GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(gson);
+            case "GetPlayFabIDsFromFacebookInstantGamesIdsResult": return new GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(gson);
+            case "GetPlayFabIDsFromGenericIDsRequest": return new GetPlayFabIDsFromGenericIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromGenericIDsResult": return new GetPlayFabIDsFromGenericIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromNintendoServiceAccountIdsRequest": return new GetPlayFabIDsFromNintendoServiceAccountIdsRequestAdapter(gson);
+            case "GetPlayFabIDsFromNintendoServiceAccountIdsResult": return new GetPlayFabIDsFromNintendoServiceAccountIdsResultAdapter(gson);
+            case "GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest": return new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(gson);
+            case "GetPlayFabIDsFromNintendoSwitchDeviceIdsResult": return new GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(gson);
+            case "GetPlayFabIDsFromPSNAccountIDsRequest": return new GetPlayFabIDsFromPSNAccountIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromPSNAccountIDsResult": return new GetPlayFabIDsFromPSNAccountIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromSteamIDsRequest": return new GetPlayFabIDsFromSteamIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromSteamIDsResult": return new GetPlayFabIDsFromSteamIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromTwitchIDsRequest": return new GetPlayFabIDsFromTwitchIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromTwitchIDsResult": return new GetPlayFabIDsFromTwitchIDsResultAdapter(gson);
+            case "GetPlayFabIDsFromXboxLiveIDsRequest": return new GetPlayFabIDsFromXboxLiveIDsRequestAdapter(gson);
+            case "GetPlayFabIDsFromXboxLiveIDsResult": return new GetPlayFabIDsFromXboxLiveIDsResultAdapter(gson);
+            case "GetPublisherDataRequest": return new GetPublisherDataRequestAdapter(gson);
+            case "GetPublisherDataResult": return new GetPublisherDataResultAdapter(gson);
+            case "GetRandomResultTablesRequest": return new GetRandomResultTablesRequestAdapter(gson);
+            case "GetRandomResultTablesResult": return new GetRandomResultTablesResultAdapter(gson);
+            case "GetSegmentResult": return new GetSegmentResultAdapter(gson);
+            case "GetServerCustomIDsFromPlayFabIDsRequest": return new GetServerCustomIDsFromPlayFabIDsRequestAdapter(gson);
+            case "GetServerCustomIDsFromPlayFabIDsResult": return new GetServerCustomIDsFromPlayFabIDsResultAdapter(gson);
+            case "GetSharedGroupDataRequest": return new GetSharedGroupDataRequestAdapter(gson);
+            case "GetSharedGroupDataResult": return new GetSharedGroupDataResultAdapter(gson);
+            case "GetStoreItemsResult": return new GetStoreItemsResultAdapter(gson);
+            case "GetStoreItemsServerRequest": return new GetStoreItemsServerRequestAdapter(gson);
+            case "GetTimeRequest": return new GetTimeRequestAdapter(gson);
+            case "GetTimeResult": return new GetTimeResultAdapter(gson);
+            case "GetTitleDataRequest": return new GetTitleDataRequestAdapter(gson);
+            case "GetTitleDataResult": return new GetTitleDataResultAdapter(gson);
+            case "GetTitleNewsRequest": return new GetTitleNewsRequestAdapter(gson);
+            case "GetTitleNewsResult": return new GetTitleNewsResultAdapter(gson);
+            case "GetUserAccountInfoRequest": return new GetUserAccountInfoRequestAdapter(gson);
+            case "GetUserAccountInfoResult": return new GetUserAccountInfoResultAdapter(gson);
+            case "GetUserBansRequest": return new GetUserBansRequestAdapter(gson);
+            case "GetUserBansResult": return new GetUserBansResultAdapter(gson);
+            case "GetUserDataRequest": return new GetUserDataRequestAdapter(gson);
+            case "GetUserDataResult": return new GetUserDataResultAdapter(gson);
+            case "GetUserInventoryRequest": return new GetUserInventoryRequestAdapter(gson);
+            case "GetUserInventoryResult": return new GetUserInventoryResultAdapter(gson);
+            case "GrantCharacterToUserRequest": return new GrantCharacterToUserRequestAdapter(gson);
+            case "GrantCharacterToUserResult": return new GrantCharacterToUserResultAdapter(gson);
+            case "GrantedItemInstance": return new GrantedItemInstanceAdapter(gson);
+            case "GrantItemsToCharacterRequest": return new GrantItemsToCharacterRequestAdapter(gson);
+            case "GrantItemsToCharacterResult": return new GrantItemsToCharacterResultAdapter(gson);
+            case "GrantItemsToUserRequest": return new GrantItemsToUserRequestAdapter(gson);
+            case "GrantItemsToUserResult": return new GrantItemsToUserResultAdapter(gson);
+            case "GrantItemsToUsersRequest": return new GrantItemsToUsersRequestAdapter(gson);
+            case "GrantItemsToUsersResult": return new GrantItemsToUsersResultAdapter(gson);
+            case "ItemGrant": return new ItemGrantAdapter(gson);
+            case "ItemInstance": return new ItemInstanceAdapter(gson);
+            case "LinkedPlatformAccountModel": return new LinkedPlatformAccountModelAdapter(gson);
+            case "LinkNintendoServiceAccountRequest": return new LinkNintendoServiceAccountRequestAdapter(gson);
+            case "LinkNintendoServiceAccountSubjectRequest": return new LinkNintendoServiceAccountSubjectRequestAdapter(gson);
+            case "LinkNintendoSwitchDeviceIdRequest": return new LinkNintendoSwitchDeviceIdRequestAdapter(gson);
+            case "LinkNintendoSwitchDeviceIdResult": return new LinkNintendoSwitchDeviceIdResultAdapter(gson);
+            case "LinkPSNAccountRequest": return new LinkPSNAccountRequestAdapter(gson);
+            case "LinkPSNAccountResult": return new LinkPSNAccountResultAdapter(gson);
+            case "LinkPSNIdRequest": return new LinkPSNIdRequestAdapter(gson);
+            case "LinkPSNIdResponse": return new LinkPSNIdResponseAdapter(gson);
+            case "LinkServerCustomIdRequest": return new LinkServerCustomIdRequestAdapter(gson);
+            case "LinkServerCustomIdResult": return new LinkServerCustomIdResultAdapter(gson);
+            case "LinkSteamIdRequest": return new LinkSteamIdRequestAdapter(gson);
+            case "LinkSteamIdResult": return new LinkSteamIdResultAdapter(gson);
+            case "LinkXboxAccountRequest": return new LinkXboxAccountRequestAdapter(gson);
+            case "LinkXboxAccountResult": return new LinkXboxAccountResultAdapter(gson);
+            case "ListUsersCharactersRequest": return new ListUsersCharactersRequestAdapter(gson);
+            case "ListUsersCharactersResult": return new ListUsersCharactersResultAdapter(gson);
+            case "LocalizedPushNotificationProperties": return new LocalizedPushNotificationPropertiesAdapter(gson);
+            case "LocationModel": return new LocationModelAdapter(gson);
+            case "LoginWithServerCustomIdRequest": return new LoginWithServerCustomIdRequestAdapter(gson);
+            case "LoginWithSteamIdRequest": return new LoginWithSteamIdRequestAdapter(gson);
+            case "LoginWithXboxIdRequest": return new LoginWithXboxIdRequestAdapter(gson);
+            case "LoginWithXboxRequest": return new LoginWithXboxRequestAdapter(gson);
+            case "LogStatement": return new LogStatementAdapter(gson);
+            case "MembershipModel": return new MembershipModelAdapter(gson);
+            case "ModifyCharacterVirtualCurrencyResult": return new ModifyCharacterVirtualCurrencyResultAdapter(gson);
+            case "ModifyItemUsesRequest": return new ModifyItemUsesRequestAdapter(gson);
+            case "ModifyItemUsesResult": return new ModifyItemUsesResultAdapter(gson);
+            case "ModifyUserVirtualCurrencyResult": return new ModifyUserVirtualCurrencyResultAdapter(gson);
+            case "MoveItemToCharacterFromCharacterRequest": return new MoveItemToCharacterFromCharacterRequestAdapter(gson);
+            case "MoveItemToCharacterFromCharacterResult": return new MoveItemToCharacterFromCharacterResultAdapter(gson);
+            case "MoveItemToCharacterFromUserRequest": return new MoveItemToCharacterFromUserRequestAdapter(gson);
+            case "MoveItemToCharacterFromUserResult": return new MoveItemToCharacterFromUserResultAdapter(gson);
+            case "MoveItemToUserFromCharacterRequest": return new MoveItemToUserFromCharacterRequestAdapter(gson);
+            case "MoveItemToUserFromCharacterResult": return new MoveItemToUserFromCharacterResultAdapter(gson);
+            case "NintendoServiceAccountPlayFabIdPair": return new NintendoServiceAccountPlayFabIdPairAdapter(gson);
+            case "NintendoSwitchPlayFabIdPair": return new NintendoSwitchPlayFabIdPairAdapter(gson);
+            case "PlayerLeaderboardEntry": return new PlayerLeaderboardEntryAdapter(gson);
+            case "PlayerLinkedAccount": return new PlayerLinkedAccountAdapter(gson);
+            case "PlayerLocation": return new PlayerLocationAdapter(gson);
+            case "PlayerProfile": return new PlayerProfileAdapter(gson);
+            case "PlayerProfileModel": return new PlayerProfileModelAdapter(gson);
+            case "PlayerProfileViewConstraints": return new PlayerProfileViewConstraintsAdapter(gson);
+            case "PlayerStatistic": return new PlayerStatisticAdapter(gson);
+            case "PlayerStatisticVersion": return new PlayerStatisticVersionAdapter(gson);
+            case "PSNAccountPlayFabIdPair": return new PSNAccountPlayFabIdPairAdapter(gson);
+            case "PushNotificationPackage": return new PushNotificationPackageAdapter(gson);
+            case "PushNotificationRegistration": return new PushNotificationRegistrationAdapter(gson);
+            case "PushNotificationRegistrationModel": return new PushNotificationRegistrationModelAdapter(gson);
+            case "RandomResultTableListing": return new RandomResultTableListingAdapter(gson);
+            case "RedeemCouponRequest": return new RedeemCouponRequestAdapter(gson);
+            case "RedeemCouponResult": return new RedeemCouponResultAdapter(gson);
+            case "RemoveFriendRequest": return new RemoveFriendRequestAdapter(gson);
+            case "RemoveGenericIDRequest": return new RemoveGenericIDRequestAdapter(gson);
+            case "RemovePlayerTagRequest": return new RemovePlayerTagRequestAdapter(gson);
+            case "RemovePlayerTagResult": return new RemovePlayerTagResultAdapter(gson);
+            case "RemoveSharedGroupMembersRequest": return new RemoveSharedGroupMembersRequestAdapter(gson);
+            case "RemoveSharedGroupMembersResult": return new RemoveSharedGroupMembersResultAdapter(gson);
+            case "ReportPlayerServerRequest": return new ReportPlayerServerRequestAdapter(gson);
+            case "ReportPlayerServerResult": return new ReportPlayerServerResultAdapter(gson);
+            case "ResultTableNode": return new ResultTableNodeAdapter(gson);
+            case "RevokeAllBansForUserRequest": return new RevokeAllBansForUserRequestAdapter(gson);
+            case "RevokeAllBansForUserResult": return new RevokeAllBansForUserResultAdapter(gson);
+            case "RevokeBansRequest": return new RevokeBansRequestAdapter(gson);
+            case "RevokeBansResult": return new RevokeBansResultAdapter(gson);
+            case "RevokeInventoryItem": return new RevokeInventoryItemAdapter(gson);
+            case "RevokeInventoryItemRequest": return new RevokeInventoryItemRequestAdapter(gson);
+            case "RevokeInventoryItemsRequest": return new RevokeInventoryItemsRequestAdapter(gson);
+            case "RevokeInventoryItemsResult": return new RevokeInventoryItemsResultAdapter(gson);
+            case "RevokeInventoryResult": return new RevokeInventoryResultAdapter(gson);
+            case "RevokeItemError": return new RevokeItemErrorAdapter(gson);
+            case "SavePushNotificationTemplateRequest": return new SavePushNotificationTemplateRequestAdapter(gson);
+            case "SavePushNotificationTemplateResult": return new SavePushNotificationTemplateResultAdapter(gson);
+            case "ScriptExecutionError": return new ScriptExecutionErrorAdapter(gson);
+            case "SendCustomAccountRecoveryEmailRequest": return new SendCustomAccountRecoveryEmailRequestAdapter(gson);
+            case "SendCustomAccountRecoveryEmailResult": return new SendCustomAccountRecoveryEmailResultAdapter(gson);
+            case "SendEmailFromTemplateRequest": return new SendEmailFromTemplateRequestAdapter(gson);
+            case "SendEmailFromTemplateResult": return new SendEmailFromTemplateResultAdapter(gson);
+            case "SendPushNotificationFromTemplateRequest": return new SendPushNotificationFromTemplateRequestAdapter(gson);
+            case "SendPushNotificationRequest": return new SendPushNotificationRequestAdapter(gson);
+            case "SendPushNotificationResult": return new SendPushNotificationResultAdapter(gson);
+            case "ServerCustomIDPlayFabIDPair": return new ServerCustomIDPlayFabIDPairAdapter(gson);
+            case "ServerLoginResult": return new ServerLoginResultAdapter(gson);
+            case "SetFriendTagsRequest": return new SetFriendTagsRequestAdapter(gson);
+            case "SetPlayerSecretRequest": return new SetPlayerSecretRequestAdapter(gson);
+            case "SetPlayerSecretResult": return new SetPlayerSecretResultAdapter(gson);
+            case "SetPublisherDataRequest": return new SetPublisherDataRequestAdapter(gson);
+            case "SetPublisherDataResult": return new SetPublisherDataResultAdapter(gson);
+            case "SetTitleDataRequest": return new SetTitleDataRequestAdapter(gson);
+            case "SetTitleDataResult": return new SetTitleDataResultAdapter(gson);
+            case "SharedGroupDataRecord": return new SharedGroupDataRecordAdapter(gson);
+            case "StatisticModel": return new StatisticModelAdapter(gson);
+            case "StatisticNameVersion": return new StatisticNameVersionAdapter(gson);
+            case "StatisticUpdate": return new StatisticUpdateAdapter(gson);
+            case "StatisticValue": return new StatisticValueAdapter(gson);
+            case "SteamPlayFabIdPair": return new SteamPlayFabIdPairAdapter(gson);
+            case "StoreItem": return new StoreItemAdapter(gson);
+            case "StoreMarketingModel": return new StoreMarketingModelAdapter(gson);
+            case "SubscriptionModel": return new SubscriptionModelAdapter(gson);
+            case "SubtractCharacterVirtualCurrencyRequest": return new SubtractCharacterVirtualCurrencyRequestAdapter(gson);
+            case "SubtractUserVirtualCurrencyRequest": return new SubtractUserVirtualCurrencyRequestAdapter(gson);
+            case "TagModel": return new TagModelAdapter(gson);
+            case "TitleNewsItem": return new TitleNewsItemAdapter(gson);
+            case "TreatmentAssignment": return new TreatmentAssignmentAdapter(gson);
+            case "TwitchPlayFabIdPair": return new TwitchPlayFabIdPairAdapter(gson);
+            case "UnlinkNintendoServiceAccountRequest": return new UnlinkNintendoServiceAccountRequestAdapter(gson);
+            case "UnlinkNintendoSwitchDeviceIdRequest": return new UnlinkNintendoSwitchDeviceIdRequestAdapter(gson);
+            case "UnlinkNintendoSwitchDeviceIdResult": return new UnlinkNintendoSwitchDeviceIdResultAdapter(gson);
+            case "UnlinkPSNAccountRequest": return new UnlinkPSNAccountRequestAdapter(gson);
+            case "UnlinkPSNAccountResult": return new UnlinkPSNAccountResultAdapter(gson);
+            case "UnlinkServerCustomIdRequest": return new UnlinkServerCustomIdRequestAdapter(gson);
+            case "UnlinkServerCustomIdResult": return new UnlinkServerCustomIdResultAdapter(gson);
+            case "UnlinkSteamIdRequest": return new UnlinkSteamIdRequestAdapter(gson);
+            case "UnlinkSteamIdResult": return new UnlinkSteamIdResultAdapter(gson);
+            case "UnlinkXboxAccountRequest": return new UnlinkXboxAccountRequestAdapter(gson);
+            case "UnlinkXboxAccountResult": return new UnlinkXboxAccountResultAdapter(gson);
+            case "UnlockContainerInstanceRequest": return new UnlockContainerInstanceRequestAdapter(gson);
+            case "UnlockContainerItemRequest": return new UnlockContainerItemRequestAdapter(gson);
+            case "UnlockContainerItemResult": return new UnlockContainerItemResultAdapter(gson);
+            case "UpdateAvatarUrlRequest": return new UpdateAvatarUrlRequestAdapter(gson);
+            case "UpdateBanRequest": return new UpdateBanRequestAdapter(gson);
+            case "UpdateBansRequest": return new UpdateBansRequestAdapter(gson);
+            case "UpdateBansResult": return new UpdateBansResultAdapter(gson);
+            case "UpdateCharacterDataRequest": return new UpdateCharacterDataRequestAdapter(gson);
+            case "UpdateCharacterDataResult": return new UpdateCharacterDataResultAdapter(gson);
+            case "UpdateCharacterStatisticsRequest": return new UpdateCharacterStatisticsRequestAdapter(gson);
+            case "UpdateCharacterStatisticsResult": return new UpdateCharacterStatisticsResultAdapter(gson);
+            case "UpdatePlayerStatisticsRequest": return new UpdatePlayerStatisticsRequestAdapter(gson);
+            case "UpdatePlayerStatisticsResult": return new UpdatePlayerStatisticsResultAdapter(gson);
+            case "UpdateSharedGroupDataRequest": return new UpdateSharedGroupDataRequestAdapter(gson);
+            case "UpdateSharedGroupDataResult": return new UpdateSharedGroupDataResultAdapter(gson);
+            case "UpdateUserDataRequest": return new UpdateUserDataRequestAdapter(gson);
+            case "UpdateUserDataResult": return new UpdateUserDataResultAdapter(gson);
+            case "UpdateUserInternalDataRequest": return new UpdateUserInternalDataRequestAdapter(gson);
+            case "UpdateUserInventoryItemDataRequest": return new UpdateUserInventoryItemDataRequestAdapter(gson);
+            case "UserAccountInfo": return new UserAccountInfoAdapter(gson);
+            case "UserAndroidDeviceInfo": return new UserAndroidDeviceInfoAdapter(gson);
+            case "UserAppleIdInfo": return new UserAppleIdInfoAdapter(gson);
+            case "UserCustomIdInfo": return new UserCustomIdInfoAdapter(gson);
+            case "UserDataRecord": return new UserDataRecordAdapter(gson);
+            case "UserFacebookInfo": return new UserFacebookInfoAdapter(gson);
+            case "UserFacebookInstantGamesIdInfo": return new UserFacebookInstantGamesIdInfoAdapter(gson);
+            case "UserGameCenterInfo": return new UserGameCenterInfoAdapter(gson);
+            case "UserGoogleInfo": return new UserGoogleInfoAdapter(gson);
+            case "UserGooglePlayGamesInfo": return new UserGooglePlayGamesInfoAdapter(gson);
+            case "UserIosDeviceInfo": return new UserIosDeviceInfoAdapter(gson);
+            case "UserKongregateInfo": return new UserKongregateInfoAdapter(gson);
+            case "UserNintendoSwitchAccountIdInfo": return new UserNintendoSwitchAccountIdInfoAdapter(gson);
+            case "UserNintendoSwitchDeviceIdInfo": return new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+            case "UserOpenIdInfo": return new UserOpenIdInfoAdapter(gson);
+            case "UserPrivateAccountInfo": return new UserPrivateAccountInfoAdapter(gson);
+            case "UserPsnInfo": return new UserPsnInfoAdapter(gson);
+            case "UserServerCustomIdInfo": return new UserServerCustomIdInfoAdapter(gson);
+            case "UserSettings": return new UserSettingsAdapter(gson);
+            case "UserSteamInfo": return new UserSteamInfoAdapter(gson);
+            case "UserTitleInfo": return new UserTitleInfoAdapter(gson);
+            case "UserTwitchInfo": return new UserTwitchInfoAdapter(gson);
+            case "UserXboxInfo": return new UserXboxInfoAdapter(gson);
+            case "ValueToDateModel": return new ValueToDateModelAdapter(gson);
+            case "Variable": return new VariableAdapter(gson);
+            case "VirtualCurrencyRechargeTime": return new VirtualCurrencyRechargeTimeAdapter(gson);
+            case "WriteEventResponse": return new WriteEventResponseAdapter(gson);
+            case "WriteServerCharacterEventRequest": return new WriteServerCharacterEventRequestAdapter(gson);
+            case "WriteServerPlayerEventRequest": return new WriteServerPlayerEventRequestAdapter(gson);
+            case "WriteTitleEventRequest": return new WriteTitleEventRequestAdapter(gson);
+            case "XboxLiveAccountPlayFabIdPair": return new XboxLiveAccountPlayFabIdPairAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AdCampaignAttributionAdapter extends PlayFabModelAdapter<AdCampaignAttribution> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AdCampaignAttribution newInstance() {
+            return new AdCampaignAttribution();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignAttribution value) throws IOException {
+            writeField(out, "AttributedAt", value.AttributedAt, dateAdapter);
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignAttribution value) throws IOException {
+            switch (name) {
+                case "AttributedAt": value.AttributedAt = dateAdapter.read(in); return true;
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdCampaignAttributionModelAdapter extends PlayFabModelAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected AdCampaignAttributionModel newInstance() {
+            return new AdCampaignAttributionModel();
+        }
+
+        protected void writeFields(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            writeField(out, "AttributedAt", value.AttributedAt, dateAdapter);
+            writeField(out, "CampaignId", value.CampaignId);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdCampaignAttributionModel value) throws IOException {
+            switch (name) {
+                case "AttributedAt": value.AttributedAt = dateAdapter.read(in); return true;
+                case "CampaignId": value.CampaignId = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddCharacterVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<AddCharacterVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddCharacterVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddCharacterVirtualCurrencyRequest newInstance() {
+            return new AddCharacterVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddCharacterVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddCharacterVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddFriendRequestAdapter extends PlayFabModelAdapter<AddFriendRequest> {
+        AddFriendRequestAdapter(Gson gson) {
+        }
+
+        protected AddFriendRequest newInstance() {
+            return new AddFriendRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddFriendRequest value) throws IOException {
+            writeField(out, "FriendEmail", value.FriendEmail);
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "FriendTitleDisplayName", value.FriendTitleDisplayName);
+            writeField(out, "FriendUsername", value.FriendUsername);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddFriendRequest value) throws IOException {
+            switch (name) {
+                case "FriendEmail": value.FriendEmail = readString(in); return true;
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "FriendTitleDisplayName": value.FriendTitleDisplayName = readString(in); return true;
+                case "FriendUsername": value.FriendUsername = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddGenericIDRequestAdapter extends PlayFabModelAdapter<AddGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        AddGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        protected AddGenericIDRequest newInstance() {
+            return new AddGenericIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddGenericIDRequest value) throws IOException {
+            writeField(out, "GenericId", value.GenericId, genericServiceIdAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddGenericIDRequest value) throws IOException {
+            switch (name) {
+                case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddPlayerTagRequestAdapter extends PlayFabModelAdapter<AddPlayerTagRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddPlayerTagRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddPlayerTagRequest newInstance() {
+            return new AddPlayerTagRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddPlayerTagRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TagName", value.TagName);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddPlayerTagRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TagName": value.TagName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddPlayerTagResultAdapter extends PlayFabModelAdapter<AddPlayerTagResult> {
+        AddPlayerTagResultAdapter(Gson gson) {
+        }
+
+        protected AddPlayerTagResult newInstance() {
+            return new AddPlayerTagResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddPlayerTagResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddPlayerTagResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddSharedGroupMembersRequestAdapter extends PlayFabModelAdapter<AddSharedGroupMembersRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        AddSharedGroupMembersRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected AddSharedGroupMembersRequest newInstance() {
+            return new AddSharedGroupMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddSharedGroupMembersRequest value) throws IOException {
+            writeField(out, "PlayFabIds", value.PlayFabIds, stringListAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddSharedGroupMembersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabIds": value.PlayFabIds = stringListAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddSharedGroupMembersResultAdapter extends PlayFabModelAdapter<AddSharedGroupMembersResult> {
+        AddSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        protected AddSharedGroupMembersResult newInstance() {
+            return new AddSharedGroupMembersResult();
+        }
+
+        protected void writeFields(JsonWriter out, AddSharedGroupMembersResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, AddSharedGroupMembersResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddUserVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<AddUserVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected AddUserVirtualCurrencyRequest newInstance() {
+            return new AddUserVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddUserVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AdvancedPushPlatformMsgAdapter extends PlayFabModelAdapter<AdvancedPushPlatformMsg> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        AdvancedPushPlatformMsgAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected AdvancedPushPlatformMsg newInstance() {
+            return new AdvancedPushPlatformMsg();
+        }
+
+        protected void writeFields(JsonWriter out, AdvancedPushPlatformMsg value) throws IOException {
+            writeField(out, "GCMDataOnly", value.GCMDataOnly);
+            writeField(out, "Json", value.Json);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AdvancedPushPlatformMsg value) throws IOException {
+            switch (name) {
+                case "GCMDataOnly": value.GCMDataOnly = readBoolean(in); return true;
+                case "Json": value.Json = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AuthenticateSessionTicketRequestAdapter extends PlayFabModelAdapter<AuthenticateSessionTicketRequest> {
+        AuthenticateSessionTicketRequestAdapter(Gson gson) {
+        }
+
+        protected AuthenticateSessionTicketRequest newInstance() {
+            return new AuthenticateSessionTicketRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AuthenticateSessionTicketRequest value) throws IOException {
+            writeField(out, "SessionTicket", value.SessionTicket);
+        }
+
+        protected boolean readField(JsonReader in, String name, AuthenticateSessionTicketRequest value) throws IOException {
+            switch (name) {
+                case "SessionTicket": value.SessionTicket = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AuthenticateSessionTicketResultAdapter extends PlayFabModelAdapter<AuthenticateSessionTicketResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        AuthenticateSessionTicketResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        protected AuthenticateSessionTicketResult newInstance() {
+            return new AuthenticateSessionTicketResult();
+        }
+
+        protected void writeFields(JsonWriter out, AuthenticateSessionTicketResult value) throws IOException {
+            writeField(out, "IsSessionTicketExpired", value.IsSessionTicketExpired);
+            writeField(out, "UserInfo", value.UserInfo, userAccountInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AuthenticateSessionTicketResult value) throws IOException {
+            switch (name) {
+                case "IsSessionTicketExpired": value.IsSessionTicketExpired = readBoolean(in); return true;
+                case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AwardSteamAchievementItemAdapter extends PlayFabModelAdapter<AwardSteamAchievementItem> {
+        AwardSteamAchievementItemAdapter(Gson gson) {
+        }
+
+        protected AwardSteamAchievementItem newInstance() {
+            return new AwardSteamAchievementItem();
+        }
+
+        protected void writeFields(JsonWriter out, AwardSteamAchievementItem value) throws IOException {
+            writeField(out, "AchievementName", value.AchievementName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Result", value.Result);
+        }
+
+        protected boolean readField(JsonReader in, String name, AwardSteamAchievementItem value) throws IOException {
+            switch (name) {
+                case "AchievementName": value.AchievementName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Result": value.Result = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AwardSteamAchievementRequestAdapter extends PlayFabModelAdapter<AwardSteamAchievementRequest> {
+        private final TypeAdapter<ArrayList<AwardSteamAchievementItem>> awardSteamAchievementItemListAdapter;
+
+        AwardSteamAchievementRequestAdapter(Gson gson) {
+            awardSteamAchievementItemListAdapter = listAdapter(gson, AwardSteamAchievementItem.class);
+        }
+
+        protected AwardSteamAchievementRequest newInstance() {
+            return new AwardSteamAchievementRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AwardSteamAchievementRequest value) throws IOException {
+            writeField(out, "Achievements", value.Achievements, awardSteamAchievementItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AwardSteamAchievementRequest value) throws IOException {
+            switch (name) {
+                case "Achievements": value.Achievements = awardSteamAchievementItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AwardSteamAchievementResultAdapter extends PlayFabModelAdapter<AwardSteamAchievementResult> {
+        private final TypeAdapter<ArrayList<AwardSteamAchievementItem>> awardSteamAchievementItemListAdapter;
+
+        AwardSteamAchievementResultAdapter(Gson gson) {
+            awardSteamAchievementItemListAdapter = listAdapter(gson, AwardSteamAchievementItem.class);
+        }
+
+        protected AwardSteamAchievementResult newInstance() {
+            return new AwardSteamAchievementResult();
+        }
+
+        protected void writeFields(JsonWriter out, AwardSteamAchievementResult value) throws IOException {
+            writeField(out, "AchievementResults", value.AchievementResults, awardSteamAchievementItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AwardSteamAchievementResult value) throws IOException {
+            switch (name) {
+                case "AchievementResults": value.AchievementResults = awardSteamAchievementItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanInfoAdapter extends PlayFabModelAdapter<BanInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        BanInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected BanInfo newInstance() {
+            return new BanInfo();
+        }
+
+        protected void writeFields(JsonWriter out, BanInfo value) throws IOException {
+            writeField(out, "Active", value.Active);
+            writeField(out, "BanId", value.BanId);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "IPAddress", value.IPAddress);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanInfo value) throws IOException {
+            switch (name) {
+                case "Active": value.Active = readBoolean(in); return true;
+                case "BanId": value.BanId = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "IPAddress": value.IPAddress = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanRequestAdapter extends PlayFabModelAdapter<BanRequest> {
+        BanRequestAdapter(Gson gson) {
+        }
+
+        protected BanRequest newInstance() {
+            return new BanRequest();
+        }
+
+        protected void writeFields(JsonWriter out, BanRequest value) throws IOException {
+            writeField(out, "DurationInHours", value.DurationInHours);
+            writeField(out, "IPAddress", value.IPAddress);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanRequest value) throws IOException {
+            switch (name) {
+                case "DurationInHours": value.DurationInHours = readLong(in); return true;
+                case "IPAddress": value.IPAddress = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanUsersRequestAdapter extends PlayFabModelAdapter<BanUsersRequest> {
+        private final TypeAdapter<ArrayList<BanRequest>> banRequestListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        BanUsersRequestAdapter(Gson gson) {
+            banRequestListAdapter = listAdapter(gson, BanRequest.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected BanUsersRequest newInstance() {
+            return new BanUsersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, BanUsersRequest value) throws IOException {
+            writeField(out, "Bans", value.Bans, banRequestListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanUsersRequest value) throws IOException {
+            switch (name) {
+                case "Bans": value.Bans = banRequestListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class BanUsersResultAdapter extends PlayFabModelAdapter<BanUsersResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        BanUsersResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected BanUsersResult newInstance() {
+            return new BanUsersResult();
+        }
+
+        protected void writeFields(JsonWriter out, BanUsersResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, BanUsersResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemAdapter extends PlayFabModelAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected CatalogItem newInstance() {
+            return new CatalogItem();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItem value) throws IOException {
+            writeField(out, "Bundle", value.Bundle, catalogItemBundleInfoAdapter);
+            writeField(out, "CanBecomeCharacter", value.CanBecomeCharacter);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "Consumable", value.Consumable, catalogItemConsumableInfoAdapter);
+            writeField(out, "Container", value.Container, catalogItemContainerInfoAdapter);
+            writeField(out, "CustomData", value.CustomData);
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "InitialLimitedEditionCount", value.InitialLimitedEditionCount);
+            writeField(out, "IsLimitedEdition", value.IsLimitedEdition);
+            writeField(out, "IsStackable", value.IsStackable);
+            writeField(out, "IsTradable", value.IsTradable);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemImageUrl", value.ItemImageUrl);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItem value) throws IOException {
+            switch (name) {
+                case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); return true;
+                case "CanBecomeCharacter": value.CanBecomeCharacter = readBoolean(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); return true;
+                case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); return true;
+                case "CustomData": value.CustomData = readString(in); return true;
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = readInteger(in); return true;
+                case "IsLimitedEdition": value.IsLimitedEdition = readBoolean(in); return true;
+                case "IsStackable": value.IsStackable = readBoolean(in); return true;
+                case "IsTradable": value.IsTradable = readBoolean(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemImageUrl": value.ItemImageUrl = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemBundleInfoAdapter extends PlayFabModelAdapter<CatalogItemBundleInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CatalogItemBundleInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CatalogItemBundleInfo newInstance() {
+            return new CatalogItemBundleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            writeField(out, "BundledItems", value.BundledItems, stringListAdapter);
+            writeField(out, "BundledResultTables", value.BundledResultTables, stringListAdapter);
+            writeField(out, "BundledVirtualCurrencies", value.BundledVirtualCurrencies, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemBundleInfo value) throws IOException {
+            switch (name) {
+                case "BundledItems": value.BundledItems = stringListAdapter.read(in); return true;
+                case "BundledResultTables": value.BundledResultTables = stringListAdapter.read(in); return true;
+                case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemConsumableInfoAdapter extends PlayFabModelAdapter<CatalogItemConsumableInfo> {
+        CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        protected CatalogItemConsumableInfo newInstance() {
+            return new CatalogItemConsumableInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            writeField(out, "UsageCount", value.UsageCount);
+            writeField(out, "UsagePeriod", value.UsagePeriod);
+            writeField(out, "UsagePeriodGroup", value.UsagePeriodGroup);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemConsumableInfo value) throws IOException {
+            switch (name) {
+                case "UsageCount": value.UsageCount = readLong(in); return true;
+                case "UsagePeriod": value.UsagePeriod = readLong(in); return true;
+                case "UsagePeriodGroup": value.UsagePeriodGroup = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemContainerInfoAdapter extends PlayFabModelAdapter<CatalogItemContainerInfo> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        CatalogItemContainerInfoAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected CatalogItemContainerInfo newInstance() {
+            return new CatalogItemContainerInfo();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            writeField(out, "ItemContents", value.ItemContents, stringListAdapter);
+            writeField(out, "KeyItemId", value.KeyItemId);
+            writeField(out, "ResultTableContents", value.ResultTableContents, stringListAdapter);
+            writeField(out, "VirtualCurrencyContents", value.VirtualCurrencyContents, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemContainerInfo value) throws IOException {
+            switch (name) {
+                case "ItemContents": value.ItemContents = stringListAdapter.read(in); return true;
+                case "KeyItemId": value.KeyItemId = readString(in); return true;
+                case "ResultTableContents": value.ResultTableContents = stringListAdapter.read(in); return true;
+                case "VirtualCurrencyContents": value.VirtualCurrencyContents = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CharacterInventoryAdapter extends PlayFabModelAdapter<CharacterInventory> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        CharacterInventoryAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected CharacterInventory newInstance() {
+            return new CharacterInventory();
+        }
+
+        protected void writeFields(JsonWriter out, CharacterInventory value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CharacterInventory value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CharacterLeaderboardEntryAdapter extends PlayFabModelAdapter<CharacterLeaderboardEntry> {
+        CharacterLeaderboardEntryAdapter(Gson gson) {
+        }
+
+        protected CharacterLeaderboardEntry newInstance() {
+            return new CharacterLeaderboardEntry();
+        }
+
+        protected void writeFields(JsonWriter out, CharacterLeaderboardEntry value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterName", value.CharacterName);
+            writeField(out, "CharacterType", value.CharacterType);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Position", value.Position);
+            writeField(out, "StatValue", value.StatValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, CharacterLeaderboardEntry value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterName": value.CharacterName = readString(in); return true;
+                case "CharacterType": value.CharacterType = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Position": value.Position = readInteger(in); return true;
+                case "StatValue": value.StatValue = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CharacterResultAdapter extends PlayFabModelAdapter<CharacterResult> {
+        CharacterResultAdapter(Gson gson) {
+        }
+
+        protected CharacterResult newInstance() {
+            return new CharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, CharacterResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterName", value.CharacterName);
+            writeField(out, "CharacterType", value.CharacterType);
+        }
+
+        protected boolean readField(JsonReader in, String name, CharacterResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterName": value.CharacterName = readString(in); return true;
+                case "CharacterType": value.CharacterType = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeItemRequestAdapter extends PlayFabModelAdapter<ConsumeItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ConsumeItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ConsumeItemRequest newInstance() {
+            return new ConsumeItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeItemRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ConsumeCount", value.ConsumeCount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeItemRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ConsumeCount": value.ConsumeCount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ConsumeItemResultAdapter extends PlayFabModelAdapter<ConsumeItemResult> {
+        ConsumeItemResultAdapter(Gson gson) {
+        }
+
+        protected ConsumeItemResult newInstance() {
+            return new ConsumeItemResult();
+        }
+
+        protected void writeFields(JsonWriter out, ConsumeItemResult value) throws IOException {
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "RemainingUses", value.RemainingUses);
+        }
+
+        protected boolean readField(JsonReader in, String name, ConsumeItemResult value) throws IOException {
+            switch (name) {
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContactEmailInfoAdapter extends PlayFabModelAdapter<ContactEmailInfo> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        protected ContactEmailInfo newInstance() {
+            return new ContactEmailInfo();
+        }
+
+        protected void writeFields(JsonWriter out, ContactEmailInfo value) throws IOException {
+            writeField(out, "EmailAddress", value.EmailAddress);
+            writeField(out, "Name", value.Name);
+            writeField(out, "VerificationStatus", value.VerificationStatus, emailVerificationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContactEmailInfo value) throws IOException {
+            switch (name) {
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContactEmailInfoModelAdapter extends PlayFabModelAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        protected ContactEmailInfoModel newInstance() {
+            return new ContactEmailInfoModel();
+        }
+
+        protected void writeFields(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            writeField(out, "EmailAddress", value.EmailAddress);
+            writeField(out, "Name", value.Name);
+            writeField(out, "VerificationStatus", value.VerificationStatus, emailVerificationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ContactEmailInfoModel value) throws IOException {
+            switch (name) {
+                case "EmailAddress": value.EmailAddress = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateSharedGroupRequestAdapter extends PlayFabModelAdapter<CreateSharedGroupRequest> {
+        CreateSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        protected CreateSharedGroupRequest newInstance() {
+            return new CreateSharedGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateSharedGroupRequest value) throws IOException {
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateSharedGroupRequest value) throws IOException {
+            switch (name) {
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateSharedGroupResultAdapter extends PlayFabModelAdapter<CreateSharedGroupResult> {
+        CreateSharedGroupResultAdapter(Gson gson) {
+        }
+
+        protected CreateSharedGroupResult newInstance() {
+            return new CreateSharedGroupResult();
+        }
+
+        protected void writeFields(JsonWriter out, CreateSharedGroupResult value) throws IOException {
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateSharedGroupResult value) throws IOException {
+            switch (name) {
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteCharacterFromUserRequestAdapter extends PlayFabModelAdapter<DeleteCharacterFromUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        DeleteCharacterFromUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected DeleteCharacterFromUserRequest newInstance() {
+            return new DeleteCharacterFromUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteCharacterFromUserRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SaveCharacterInventory", value.SaveCharacterInventory);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteCharacterFromUserRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SaveCharacterInventory": value.SaveCharacterInventory = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteCharacterFromUserResultAdapter extends PlayFabModelAdapter<DeleteCharacterFromUserResult> {
+        DeleteCharacterFromUserResultAdapter(Gson gson) {
+        }
+
+        protected DeleteCharacterFromUserResult newInstance() {
+            return new DeleteCharacterFromUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteCharacterFromUserResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteCharacterFromUserResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerRequestAdapter extends PlayFabModelAdapter<DeletePlayerRequest> {
+        DeletePlayerRequestAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerRequest newInstance() {
+            return new DeletePlayerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePlayerResultAdapter extends PlayFabModelAdapter<DeletePlayerResult> {
+        DeletePlayerResultAdapter(Gson gson) {
+        }
+
+        protected DeletePlayerResult newInstance() {
+            return new DeletePlayerResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePlayerResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePlayerResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePushNotificationTemplateRequestAdapter extends PlayFabModelAdapter<DeletePushNotificationTemplateRequest> {
+        DeletePushNotificationTemplateRequestAdapter(Gson gson) {
+        }
+
+        protected DeletePushNotificationTemplateRequest newInstance() {
+            return new DeletePushNotificationTemplateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePushNotificationTemplateRequest value) throws IOException {
+            writeField(out, "PushNotificationTemplateId", value.PushNotificationTemplateId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePushNotificationTemplateRequest value) throws IOException {
+            switch (name) {
+                case "PushNotificationTemplateId": value.PushNotificationTemplateId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeletePushNotificationTemplateResultAdapter extends PlayFabModelAdapter<DeletePushNotificationTemplateResult> {
+        DeletePushNotificationTemplateResultAdapter(Gson gson) {
+        }
+
+        protected DeletePushNotificationTemplateResult newInstance() {
+            return new DeletePushNotificationTemplateResult();
+        }
+
+        protected void writeFields(JsonWriter out, DeletePushNotificationTemplateResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeletePushNotificationTemplateResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteSharedGroupRequestAdapter extends PlayFabModelAdapter<DeleteSharedGroupRequest> {
+        DeleteSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        protected DeleteSharedGroupRequest newInstance() {
+            return new DeleteSharedGroupRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteSharedGroupRequest value) throws IOException {
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteSharedGroupRequest value) throws IOException {
+            switch (name) {
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResponseAdapter extends PlayFabModelAdapter<EmptyResponse> {
+        EmptyResponseAdapter(Gson gson) {
+        }
+
+        protected EmptyResponse newInstance() {
+            return new EmptyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EmptyResultAdapter extends PlayFabModelAdapter<EmptyResult> {
+        EmptyResultAdapter(Gson gson) {
+        }
+
+        protected EmptyResult newInstance() {
+            return new EmptyResult();
+        }
+
+        protected void writeFields(JsonWriter out, EmptyResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, EmptyResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityTokenResponseAdapter extends PlayFabModelAdapter<EntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        EntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected EntityTokenResponse newInstance() {
+            return new EntityTokenResponse();
+        }
+
+        protected void writeFields(JsonWriter out, EntityTokenResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EntityToken", value.EntityToken);
+            writeField(out, "TokenExpiration", value.TokenExpiration, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityTokenResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EntityToken": value.EntityToken = readString(in); return true;
+                case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EvaluateRandomResultTableRequestAdapter extends PlayFabModelAdapter<EvaluateRandomResultTableRequest> {
+        EvaluateRandomResultTableRequestAdapter(Gson gson) {
+        }
+
+        protected EvaluateRandomResultTableRequest newInstance() {
+            return new EvaluateRandomResultTableRequest();
+        }
+
+        protected void writeFields(JsonWriter out, EvaluateRandomResultTableRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "TableId", value.TableId);
+        }
+
+        protected boolean readField(JsonReader in, String name, EvaluateRandomResultTableRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "TableId": value.TableId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EvaluateRandomResultTableResultAdapter extends PlayFabModelAdapter<EvaluateRandomResultTableResult> {
+        EvaluateRandomResultTableResultAdapter(Gson gson) {
+        }
+
+        protected EvaluateRandomResultTableResult newInstance() {
+            return new EvaluateRandomResultTableResult();
+        }
+
+        protected void writeFields(JsonWriter out, EvaluateRandomResultTableResult value) throws IOException {
+            writeField(out, "ResultItemId", value.ResultItemId);
+        }
+
+        protected boolean readField(JsonReader in, String name, EvaluateRandomResultTableResult value) throws IOException {
+            switch (name) {
+                case "ResultItemId": value.ResultItemId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptResultAdapter extends PlayFabModelAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ArrayList<LogStatement>> logStatementListAdapter;
+
+        ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementListAdapter = listAdapter(gson, LogStatement.class);
+        }
+
+        protected ExecuteCloudScriptResult newInstance() {
+            return new ExecuteCloudScriptResult();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            writeField(out, "APIRequestsIssued", value.APIRequestsIssued);
+            writeField(out, "Error", value.Error, scriptExecutionErrorAdapter);
+            writeField(out, "ExecutionTimeSeconds", value.ExecutionTimeSeconds);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionResult", value.FunctionResult, objectAdapter);
+            writeField(out, "FunctionResultTooLarge", value.FunctionResultTooLarge);
+            writeField(out, "HttpRequestsIssued", value.HttpRequestsIssued);
+            writeField(out, "Logs", value.Logs, logStatementListAdapter);
+            writeField(out, "LogsTooLarge", value.LogsTooLarge);
+            writeField(out, "MemoryConsumedBytes", value.MemoryConsumedBytes);
+            writeField(out, "ProcessorTimeSeconds", value.ProcessorTimeSeconds);
+            writeField(out, "Revision", value.Revision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptResult value) throws IOException {
+            switch (name) {
+                case "APIRequestsIssued": value.APIRequestsIssued = readInteger(in); return true;
+                case "Error": value.Error = scriptExecutionErrorAdapter.read(in); return true;
+                case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = readDouble(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionResult": value.FunctionResult = objectAdapter.read(in); return true;
+                case "FunctionResultTooLarge": value.FunctionResultTooLarge = readBoolean(in); return true;
+                case "HttpRequestsIssued": value.HttpRequestsIssued = readInteger(in); return true;
+                case "Logs": value.Logs = logStatementListAdapter.read(in); return true;
+                case "LogsTooLarge": value.LogsTooLarge = readBoolean(in); return true;
+                case "MemoryConsumedBytes": value.MemoryConsumedBytes = readLong(in); return true;
+                case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = readDouble(in); return true;
+                case "Revision": value.Revision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteCloudScriptServerRequestAdapter extends PlayFabModelAdapter<ExecuteCloudScriptServerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        ExecuteCloudScriptServerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        protected ExecuteCloudScriptServerRequest newInstance() {
+            return new ExecuteCloudScriptServerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteCloudScriptServerRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "FunctionName", value.FunctionName);
+            writeField(out, "FunctionParameter", value.FunctionParameter, objectAdapter);
+            writeField(out, "GeneratePlayStreamEvent", value.GeneratePlayStreamEvent);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "RevisionSelection", value.RevisionSelection, cloudScriptRevisionOptionAdapter);
+            writeField(out, "SpecificRevision", value.SpecificRevision);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteCloudScriptServerRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "FunctionName": value.FunctionName = readString(in); return true;
+                case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); return true;
+                case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); return true;
+                case "SpecificRevision": value.SpecificRevision = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FacebookInstantGamesPlayFabIdPairAdapter extends PlayFabModelAdapter<FacebookInstantGamesPlayFabIdPair> {
+        FacebookInstantGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected FacebookInstantGamesPlayFabIdPair newInstance() {
+            return new FacebookInstantGamesPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            writeField(out, "FacebookInstantGamesId", value.FacebookInstantGamesId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesId": value.FacebookInstantGamesId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FacebookPlayFabIdPairAdapter extends PlayFabModelAdapter<FacebookPlayFabIdPair> {
+        FacebookPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected FacebookPlayFabIdPair newInstance() {
+            return new FacebookPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, FacebookPlayFabIdPair value) throws IOException {
+            writeField(out, "FacebookId", value.FacebookId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, FacebookPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "FacebookId": value.FacebookId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FriendInfoAdapter extends PlayFabModelAdapter<FriendInfo> {
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        FriendInfoAdapter(Gson gson) {
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        protected FriendInfo newInstance() {
+            return new FriendInfo();
+        }
+
+        protected void writeFields(JsonWriter out, FriendInfo value) throws IOException {
+            writeField(out, "FacebookInfo", value.FacebookInfo, userFacebookInfoAdapter);
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "GameCenterInfo", value.GameCenterInfo, userGameCenterInfoAdapter);
+            writeField(out, "Profile", value.Profile, playerProfileModelAdapter);
+            writeField(out, "PSNInfo", value.PSNInfo, userPsnInfoAdapter);
+            writeField(out, "SteamInfo", value.SteamInfo, userSteamInfoAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "TitleDisplayName", value.TitleDisplayName);
+            writeField(out, "Username", value.Username);
+            writeField(out, "XboxInfo", value.XboxInfo, userXboxInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FriendInfo value) throws IOException {
+            switch (name) {
+                case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); return true;
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); return true;
+                case "Profile": value.Profile = playerProfileModelAdapter.read(in); return true;
+                case "PSNInfo": value.PSNInfo = userPsnInfoAdapter.read(in); return true;
+                case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "TitleDisplayName": value.TitleDisplayName = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GenericPlayFabIdPairAdapter extends PlayFabModelAdapter<GenericPlayFabIdPair> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        GenericPlayFabIdPairAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        protected GenericPlayFabIdPair newInstance() {
+            return new GenericPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, GenericPlayFabIdPair value) throws IOException {
+            writeField(out, "GenericId", value.GenericId, genericServiceIdAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GenericPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GenericServiceIdAdapter extends PlayFabModelAdapter<GenericServiceId> {
+        GenericServiceIdAdapter(Gson gson) {
+        }
+
+        protected GenericServiceId newInstance() {
+            return new GenericServiceId();
+        }
+
+        protected void writeFields(JsonWriter out, GenericServiceId value) throws IOException {
+            writeField(out, "ServiceName", value.ServiceName);
+            writeField(out, "UserId", value.UserId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GenericServiceId value) throws IOException {
+            switch (name) {
+                case "ServiceName": value.ServiceName = readString(in); return true;
+                case "UserId": value.UserId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAllSegmentsRequestAdapter extends PlayFabModelAdapter<GetAllSegmentsRequest> {
+        GetAllSegmentsRequestAdapter(Gson gson) {
+        }
+
+        protected GetAllSegmentsRequest newInstance() {
+            return new GetAllSegmentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetAllSegmentsRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAllSegmentsRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetAllSegmentsResultAdapter extends PlayFabModelAdapter<GetAllSegmentsResult> {
+        private final TypeAdapter<ArrayList<GetSegmentResult>> getSegmentResultListAdapter;
+
+        GetAllSegmentsResultAdapter(Gson gson) {
+            getSegmentResultListAdapter = listAdapter(gson, GetSegmentResult.class);
+        }
+
+        protected GetAllSegmentsResult newInstance() {
+            return new GetAllSegmentsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetAllSegmentsResult value) throws IOException {
+            writeField(out, "Segments", value.Segments, getSegmentResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetAllSegmentsResult value) throws IOException {
+            switch (name) {
+                case "Segments": value.Segments = getSegmentResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogItemsRequestAdapter extends PlayFabModelAdapter<GetCatalogItemsRequest> {
+        GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        protected GetCatalogItemsRequest newInstance() {
+            return new GetCatalogItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogItemsRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogItemsResultAdapter extends PlayFabModelAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetCatalogItemsResult newInstance() {
+            return new GetCatalogItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            writeField(out, "Catalog", value.Catalog, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogItemsResult value) throws IOException {
+            switch (name) {
+                case "Catalog": value.Catalog = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterDataRequestAdapter extends PlayFabModelAdapter<GetCharacterDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetCharacterDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetCharacterDataRequest newInstance() {
+            return new GetCharacterDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterDataRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "IfChangedFromDataVersion", value.IfChangedFromDataVersion);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterDataRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = readLong(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterDataResultAdapter extends PlayFabModelAdapter<GetCharacterDataResult> {
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+
+        GetCharacterDataResultAdapter(Gson gson) {
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+        }
+
+        protected GetCharacterDataResult newInstance() {
+            return new GetCharacterDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterDataResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Data", value.Data, userDataRecordMapAdapter);
+            writeField(out, "DataVersion", value.DataVersion);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterDataResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Data": value.Data = userDataRecordMapAdapter.read(in); return true;
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterInventoryRequestAdapter extends PlayFabModelAdapter<GetCharacterInventoryRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetCharacterInventoryRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetCharacterInventoryRequest newInstance() {
+            return new GetCharacterInventoryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterInventoryRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterInventoryRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterInventoryResultAdapter extends PlayFabModelAdapter<GetCharacterInventoryResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetCharacterInventoryResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetCharacterInventoryResult newInstance() {
+            return new GetCharacterInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterInventoryResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, integerMapAdapter);
+            writeField(out, "VirtualCurrencyRechargeTimes", value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterInventoryResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = integerMapAdapter.read(in); return true;
+                case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterLeaderboardRequestAdapter extends PlayFabModelAdapter<GetCharacterLeaderboardRequest> {
+        GetCharacterLeaderboardRequestAdapter(Gson gson) {
+        }
+
+        protected GetCharacterLeaderboardRequest newInstance() {
+            return new GetCharacterLeaderboardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterLeaderboardRequest value) throws IOException {
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "StartPosition", value.StartPosition);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterLeaderboardRequest value) throws IOException {
+            switch (name) {
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "StartPosition": value.StartPosition = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterLeaderboardResultAdapter extends PlayFabModelAdapter<GetCharacterLeaderboardResult> {
+        private final TypeAdapter<ArrayList<CharacterLeaderboardEntry>> characterLeaderboardEntryListAdapter;
+
+        GetCharacterLeaderboardResultAdapter(Gson gson) {
+            characterLeaderboardEntryListAdapter = listAdapter(gson, CharacterLeaderboardEntry.class);
+        }
+
+        protected GetCharacterLeaderboardResult newInstance() {
+            return new GetCharacterLeaderboardResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterLeaderboardResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, characterLeaderboardEntryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterLeaderboardResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = characterLeaderboardEntryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterStatisticsRequestAdapter extends PlayFabModelAdapter<GetCharacterStatisticsRequest> {
+        GetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        protected GetCharacterStatisticsRequest newInstance() {
+            return new GetCharacterStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterStatisticsRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCharacterStatisticsResultAdapter extends PlayFabModelAdapter<GetCharacterStatisticsResult> {
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+
+        GetCharacterStatisticsResultAdapter(Gson gson) {
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+        }
+
+        protected GetCharacterStatisticsResult newInstance() {
+            return new GetCharacterStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetCharacterStatisticsResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterStatistics", value.CharacterStatistics, integerMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCharacterStatisticsResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterStatistics": value.CharacterStatistics = integerMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentDownloadUrlRequestAdapter extends PlayFabModelAdapter<GetContentDownloadUrlRequest> {
+        GetContentDownloadUrlRequestAdapter(Gson gson) {
+        }
+
+        protected GetContentDownloadUrlRequest newInstance() {
+            return new GetContentDownloadUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentDownloadUrlRequest value) throws IOException {
+            writeField(out, "HttpMethod", value.HttpMethod);
+            writeField(out, "Key", value.Key);
+            writeField(out, "ThruCDN", value.ThruCDN);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentDownloadUrlRequest value) throws IOException {
+            switch (name) {
+                case "HttpMethod": value.HttpMethod = readString(in); return true;
+                case "Key": value.Key = readString(in); return true;
+                case "ThruCDN": value.ThruCDN = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetContentDownloadUrlResultAdapter extends PlayFabModelAdapter<GetContentDownloadUrlResult> {
+        GetContentDownloadUrlResultAdapter(Gson gson) {
+        }
+
+        protected GetContentDownloadUrlResult newInstance() {
+            return new GetContentDownloadUrlResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetContentDownloadUrlResult value) throws IOException {
+            writeField(out, "URL", value.URL);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetContentDownloadUrlResult value) throws IOException {
+            switch (name) {
+                case "URL": value.URL = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendLeaderboardRequestAdapter extends PlayFabModelAdapter<GetFriendLeaderboardRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExternalFriendSources> externalFriendSourcesAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendLeaderboardRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            externalFriendSourcesAdapter = gson.getAdapter(ExternalFriendSources.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetFriendLeaderboardRequest newInstance() {
+            return new GetFriendLeaderboardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendLeaderboardRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExternalPlatformFriends", value.ExternalPlatformFriends, externalFriendSourcesAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StartPosition", value.StartPosition);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendLeaderboardRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExternalPlatformFriends": value.ExternalPlatformFriends = externalFriendSourcesAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StartPosition": value.StartPosition = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendsListRequestAdapter extends PlayFabModelAdapter<GetFriendsListRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ExternalFriendSources> externalFriendSourcesAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetFriendsListRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            externalFriendSourcesAdapter = gson.getAdapter(ExternalFriendSources.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetFriendsListRequest newInstance() {
+            return new GetFriendsListRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendsListRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ExternalPlatformFriends", value.ExternalPlatformFriends, externalFriendSourcesAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendsListRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ExternalPlatformFriends": value.ExternalPlatformFriends = externalFriendSourcesAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFriendsListResultAdapter extends PlayFabModelAdapter<GetFriendsListResult> {
+        private final TypeAdapter<ArrayList<FriendInfo>> friendInfoListAdapter;
+
+        GetFriendsListResultAdapter(Gson gson) {
+            friendInfoListAdapter = listAdapter(gson, FriendInfo.class);
+        }
+
+        protected GetFriendsListResult newInstance() {
+            return new GetFriendsListResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetFriendsListResult value) throws IOException {
+            writeField(out, "Friends", value.Friends, friendInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFriendsListResult value) throws IOException {
+            switch (name) {
+                case "Friends": value.Friends = friendInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterRequestAdapter extends PlayFabModelAdapter<GetLeaderboardAroundCharacterRequest> {
+        GetLeaderboardAroundCharacterRequestAdapter(Gson gson) {
+        }
+
+        protected GetLeaderboardAroundCharacterRequest newInstance() {
+            return new GetLeaderboardAroundCharacterRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundCharacterResultAdapter extends PlayFabModelAdapter<GetLeaderboardAroundCharacterResult> {
+        private final TypeAdapter<ArrayList<CharacterLeaderboardEntry>> characterLeaderboardEntryListAdapter;
+
+        GetLeaderboardAroundCharacterResultAdapter(Gson gson) {
+            characterLeaderboardEntryListAdapter = listAdapter(gson, CharacterLeaderboardEntry.class);
+        }
+
+        protected GetLeaderboardAroundCharacterResult newInstance() {
+            return new GetLeaderboardAroundCharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundCharacterResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, characterLeaderboardEntryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundCharacterResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = characterLeaderboardEntryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundUserRequestAdapter extends PlayFabModelAdapter<GetLeaderboardAroundUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardAroundUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetLeaderboardAroundUserRequest newInstance() {
+            return new GetLeaderboardAroundUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundUserRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundUserRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardAroundUserResultAdapter extends PlayFabModelAdapter<GetLeaderboardAroundUserResult> {
+        private final TypeAdapter<ArrayList<PlayerLeaderboardEntry>> playerLeaderboardEntryListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardAroundUserResultAdapter(Gson gson) {
+            playerLeaderboardEntryListAdapter = listAdapter(gson, PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetLeaderboardAroundUserResult newInstance() {
+            return new GetLeaderboardAroundUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardAroundUserResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, playerLeaderboardEntryListAdapter);
+            writeField(out, "NextReset", value.NextReset, dateAdapter);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardAroundUserResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = playerLeaderboardEntryListAdapter.read(in); return true;
+                case "NextReset": value.NextReset = dateAdapter.read(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersRequestAdapter extends PlayFabModelAdapter<GetLeaderboardForUsersCharactersRequest> {
+        GetLeaderboardForUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        protected GetLeaderboardForUsersCharactersRequest newInstance() {
+            return new GetLeaderboardForUsersCharactersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardForUsersCharactersResultAdapter extends PlayFabModelAdapter<GetLeaderboardForUsersCharactersResult> {
+        private final TypeAdapter<ArrayList<CharacterLeaderboardEntry>> characterLeaderboardEntryListAdapter;
+
+        GetLeaderboardForUsersCharactersResultAdapter(Gson gson) {
+            characterLeaderboardEntryListAdapter = listAdapter(gson, CharacterLeaderboardEntry.class);
+        }
+
+        protected GetLeaderboardForUsersCharactersResult newInstance() {
+            return new GetLeaderboardForUsersCharactersResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, characterLeaderboardEntryListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = characterLeaderboardEntryListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardRequestAdapter extends PlayFabModelAdapter<GetLeaderboardRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetLeaderboardRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetLeaderboardRequest newInstance() {
+            return new GetLeaderboardRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MaxResultsCount", value.MaxResultsCount);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "StartPosition", value.StartPosition);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MaxResultsCount": value.MaxResultsCount = readInteger(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "StartPosition": value.StartPosition = readInteger(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLeaderboardResultAdapter extends PlayFabModelAdapter<GetLeaderboardResult> {
+        private final TypeAdapter<ArrayList<PlayerLeaderboardEntry>> playerLeaderboardEntryListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetLeaderboardResultAdapter(Gson gson) {
+            playerLeaderboardEntryListAdapter = listAdapter(gson, PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetLeaderboardResult newInstance() {
+            return new GetLeaderboardResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetLeaderboardResult value) throws IOException {
+            writeField(out, "Leaderboard", value.Leaderboard, playerLeaderboardEntryListAdapter);
+            writeField(out, "NextReset", value.NextReset, dateAdapter);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLeaderboardResult value) throws IOException {
+            switch (name) {
+                case "Leaderboard": value.Leaderboard = playerLeaderboardEntryListAdapter.read(in); return true;
+                case "NextReset": value.NextReset = dateAdapter.read(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        GetPlayerCombinedInfoRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected GetPlayerCombinedInfoRequest newInstance() {
+            return new GetPlayerCombinedInfoRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoRequestParamsAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoRequestParams> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerCombinedInfoRequestParamsAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetPlayerCombinedInfoRequestParams newInstance() {
+            return new GetPlayerCombinedInfoRequestParams();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            writeField(out, "GetCharacterInventories", value.GetCharacterInventories);
+            writeField(out, "GetCharacterList", value.GetCharacterList);
+            writeField(out, "GetPlayerProfile", value.GetPlayerProfile);
+            writeField(out, "GetPlayerStatistics", value.GetPlayerStatistics);
+            writeField(out, "GetTitleData", value.GetTitleData);
+            writeField(out, "GetUserAccountInfo", value.GetUserAccountInfo);
+            writeField(out, "GetUserData", value.GetUserData);
+            writeField(out, "GetUserInventory", value.GetUserInventory);
+            writeField(out, "GetUserReadOnlyData", value.GetUserReadOnlyData);
+            writeField(out, "GetUserVirtualCurrency", value.GetUserVirtualCurrency);
+            writeField(out, "PlayerStatisticNames", value.PlayerStatisticNames, stringListAdapter);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+            writeField(out, "TitleDataKeys", value.TitleDataKeys, stringListAdapter);
+            writeField(out, "UserDataKeys", value.UserDataKeys, stringListAdapter);
+            writeField(out, "UserReadOnlyDataKeys", value.UserReadOnlyDataKeys, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            switch (name) {
+                case "GetCharacterInventories": value.GetCharacterInventories = readBoolean(in); return true;
+                case "GetCharacterList": value.GetCharacterList = readBoolean(in); return true;
+                case "GetPlayerProfile": value.GetPlayerProfile = readBoolean(in); return true;
+                case "GetPlayerStatistics": value.GetPlayerStatistics = readBoolean(in); return true;
+                case "GetTitleData": value.GetTitleData = readBoolean(in); return true;
+                case "GetUserAccountInfo": value.GetUserAccountInfo = readBoolean(in); return true;
+                case "GetUserData": value.GetUserData = readBoolean(in); return true;
+                case "GetUserInventory": value.GetUserInventory = readBoolean(in); return true;
+                case "GetUserReadOnlyData": value.GetUserReadOnlyData = readBoolean(in); return true;
+                case "GetUserVirtualCurrency": value.GetUserVirtualCurrency = readBoolean(in); return true;
+                case "PlayerStatisticNames": value.PlayerStatisticNames = stringListAdapter.read(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                case "TitleDataKeys": value.TitleDataKeys = stringListAdapter.read(in); return true;
+                case "UserDataKeys": value.UserDataKeys = stringListAdapter.read(in); return true;
+                case "UserReadOnlyDataKeys": value.UserReadOnlyDataKeys = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoResult> {
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+
+        GetPlayerCombinedInfoResultAdapter(Gson gson) {
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+        }
+
+        protected GetPlayerCombinedInfoResult newInstance() {
+            return new GetPlayerCombinedInfoResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoResult value) throws IOException {
+            writeField(out, "InfoResultPayload", value.InfoResultPayload, getPlayerCombinedInfoResultPayloadAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoResult value) throws IOException {
+            switch (name) {
+                case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerCombinedInfoResultPayloadAdapter extends PlayFabModelAdapter<GetPlayerCombinedInfoResultPayload> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+        private final TypeAdapter<ArrayList<CharacterInventory>> characterInventoryListAdapter;
+        private final TypeAdapter<ArrayList<CharacterResult>> characterResultListAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<ArrayList<StatisticValue>> statisticValueListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetPlayerCombinedInfoResultPayloadAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+            characterInventoryListAdapter = listAdapter(gson, CharacterInventory.class);
+            characterResultListAdapter = listAdapter(gson, CharacterResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            statisticValueListAdapter = listAdapter(gson, StatisticValue.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetPlayerCombinedInfoResultPayload newInstance() {
+            return new GetPlayerCombinedInfoResultPayload();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            writeField(out, "AccountInfo", value.AccountInfo, userAccountInfoAdapter);
+            writeField(out, "CharacterInventories", value.CharacterInventories, characterInventoryListAdapter);
+            writeField(out, "CharacterList", value.CharacterList, characterResultListAdapter);
+            writeField(out, "PlayerProfile", value.PlayerProfile, playerProfileModelAdapter);
+            writeField(out, "PlayerStatistics", value.PlayerStatistics, statisticValueListAdapter);
+            writeField(out, "TitleData", value.TitleData, stringMapAdapter);
+            writeField(out, "UserData", value.UserData, userDataRecordMapAdapter);
+            writeField(out, "UserDataVersion", value.UserDataVersion);
+            writeField(out, "UserInventory", value.UserInventory, itemInstanceListAdapter);
+            writeField(out, "UserReadOnlyData", value.UserReadOnlyData, userDataRecordMapAdapter);
+            writeField(out, "UserReadOnlyDataVersion", value.UserReadOnlyDataVersion);
+            writeField(out, "UserVirtualCurrency", value.UserVirtualCurrency, integerMapAdapter);
+            writeField(out, "UserVirtualCurrencyRechargeTimes", value.UserVirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            switch (name) {
+                case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); return true;
+                case "CharacterInventories": value.CharacterInventories = characterInventoryListAdapter.read(in); return true;
+                case "CharacterList": value.CharacterList = characterResultListAdapter.read(in); return true;
+                case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); return true;
+                case "PlayerStatistics": value.PlayerStatistics = statisticValueListAdapter.read(in); return true;
+                case "TitleData": value.TitleData = stringMapAdapter.read(in); return true;
+                case "UserData": value.UserData = userDataRecordMapAdapter.read(in); return true;
+                case "UserDataVersion": value.UserDataVersion = readLong(in); return true;
+                case "UserInventory": value.UserInventory = itemInstanceListAdapter.read(in); return true;
+                case "UserReadOnlyData": value.UserReadOnlyData = userDataRecordMapAdapter.read(in); return true;
+                case "UserReadOnlyDataVersion": value.UserReadOnlyDataVersion = readLong(in); return true;
+                case "UserVirtualCurrency": value.UserVirtualCurrency = integerMapAdapter.read(in); return true;
+                case "UserVirtualCurrencyRechargeTimes": value.UserVirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerProfileRequestAdapter extends PlayFabModelAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        GetPlayerProfileRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        protected GetPlayerProfileRequest newInstance() {
+            return new GetPlayerProfileRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ProfileConstraints", value.ProfileConstraints, playerProfileViewConstraintsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerProfileRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerProfileResultAdapter extends PlayFabModelAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        protected GetPlayerProfileResult newInstance() {
+            return new GetPlayerProfileResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            writeField(out, "PlayerProfile", value.PlayerProfile, playerProfileModelAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerProfileResult value) throws IOException {
+            switch (name) {
+                case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerSegmentsResultAdapter extends PlayFabModelAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<ArrayList<GetSegmentResult>> getSegmentResultListAdapter;
+
+        GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultListAdapter = listAdapter(gson, GetSegmentResult.class);
+        }
+
+        protected GetPlayerSegmentsResult newInstance() {
+            return new GetPlayerSegmentsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            writeField(out, "Segments", value.Segments, getSegmentResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerSegmentsResult value) throws IOException {
+            switch (name) {
+                case "Segments": value.Segments = getSegmentResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersInSegmentRequestAdapter extends PlayFabModelAdapter<GetPlayersInSegmentRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayersInSegmentRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayersInSegmentRequest newInstance() {
+            return new GetPlayersInSegmentRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersInSegmentRequest value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "GetProfilesAsync", value.GetProfilesAsync);
+            writeField(out, "MaxBatchSize", value.MaxBatchSize);
+            writeField(out, "SecondsToLive", value.SecondsToLive);
+            writeField(out, "SegmentId", value.SegmentId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersInSegmentRequest value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "GetProfilesAsync": value.GetProfilesAsync = readBoolean(in); return true;
+                case "MaxBatchSize": value.MaxBatchSize = readLong(in); return true;
+                case "SecondsToLive": value.SecondsToLive = readLong(in); return true;
+                case "SegmentId": value.SegmentId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersInSegmentResultAdapter extends PlayFabModelAdapter<GetPlayersInSegmentResult> {
+        private final TypeAdapter<ArrayList<PlayerProfile>> playerProfileListAdapter;
+
+        GetPlayersInSegmentResultAdapter(Gson gson) {
+            playerProfileListAdapter = listAdapter(gson, PlayerProfile.class);
+        }
+
+        protected GetPlayersInSegmentResult newInstance() {
+            return new GetPlayersInSegmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersInSegmentResult value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "PlayerProfiles", value.PlayerProfiles, playerProfileListAdapter);
+            writeField(out, "ProfilesInSegment", value.ProfilesInSegment);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersInSegmentResult value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "PlayerProfiles": value.PlayerProfiles = playerProfileListAdapter.read(in); return true;
+                case "ProfilesInSegment": value.ProfilesInSegment = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayersSegmentsRequestAdapter extends PlayFabModelAdapter<GetPlayersSegmentsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayersSegmentsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayersSegmentsRequest newInstance() {
+            return new GetPlayersSegmentsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayersSegmentsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayersSegmentsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticsRequestAdapter extends PlayFabModelAdapter<GetPlayerStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<StatisticNameVersion>> statisticNameVersionListAdapter;
+
+        GetPlayerStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            statisticNameVersionListAdapter = listAdapter(gson, StatisticNameVersion.class);
+        }
+
+        protected GetPlayerStatisticsRequest newInstance() {
+            return new GetPlayerStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "StatisticNames", value.StatisticNames, stringListAdapter);
+            writeField(out, "StatisticNameVersions", value.StatisticNameVersions, statisticNameVersionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "StatisticNames": value.StatisticNames = stringListAdapter.read(in); return true;
+                case "StatisticNameVersions": value.StatisticNameVersions = statisticNameVersionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticsResultAdapter extends PlayFabModelAdapter<GetPlayerStatisticsResult> {
+        private final TypeAdapter<ArrayList<StatisticValue>> statisticValueListAdapter;
+
+        GetPlayerStatisticsResultAdapter(Gson gson) {
+            statisticValueListAdapter = listAdapter(gson, StatisticValue.class);
+        }
+
+        protected GetPlayerStatisticsResult newInstance() {
+            return new GetPlayerStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticsResult value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Statistics", value.Statistics, statisticValueListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticsResult value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Statistics": value.Statistics = statisticValueListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsRequestAdapter extends PlayFabModelAdapter<GetPlayerStatisticVersionsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayerStatisticVersionsRequest newInstance() {
+            return new GetPlayerStatisticVersionsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticVersionsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerStatisticVersionsResultAdapter extends PlayFabModelAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<ArrayList<PlayerStatisticVersion>> playerStatisticVersionListAdapter;
+
+        GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionListAdapter = listAdapter(gson, PlayerStatisticVersion.class);
+        }
+
+        protected GetPlayerStatisticVersionsResult newInstance() {
+            return new GetPlayerStatisticVersionsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            writeField(out, "StatisticVersions", value.StatisticVersions, playerStatisticVersionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerStatisticVersionsResult value) throws IOException {
+            switch (name) {
+                case "StatisticVersions": value.StatisticVersions = playerStatisticVersionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTagsRequestAdapter extends PlayFabModelAdapter<GetPlayerTagsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPlayerTagsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPlayerTagsRequest newInstance() {
+            return new GetPlayerTagsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Namespace", value.Namespace);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTagsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Namespace": value.Namespace = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayerTagsResultAdapter extends PlayFabModelAdapter<GetPlayerTagsResult> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayerTagsResultAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayerTagsResult newInstance() {
+            return new GetPlayerTagsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayerTagsResult value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromFacebookIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookIDsRequest newInstance() {
+            return new GetPlayFabIDsFromFacebookIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            writeField(out, "FacebookIDs", value.FacebookIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            switch (name) {
+                case "FacebookIDs": value.FacebookIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookIDsResult> {
+        private final TypeAdapter<ArrayList<FacebookPlayFabIdPair>> facebookPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromFacebookIDsResultAdapter(Gson gson) {
+            facebookPlayFabIdPairListAdapter = listAdapter(gson, FacebookPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookIDsResult newInstance() {
+            return new GetPlayFabIDsFromFacebookIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, facebookPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = facebookPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookInstantGamesIdsRequest newInstance() {
+            return new GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            writeField(out, "FacebookInstantGamesIds", value.FacebookInstantGamesIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesIds": value.FacebookInstantGamesIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsResult> {
+        private final TypeAdapter<ArrayList<FacebookInstantGamesPlayFabIdPair>> facebookInstantGamesPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(Gson gson) {
+            facebookInstantGamesPlayFabIdPairListAdapter = listAdapter(gson, FacebookInstantGamesPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromFacebookInstantGamesIdsResult newInstance() {
+            return new GetPlayFabIDsFromFacebookInstantGamesIdsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            writeField(out, "Data", value.Data, facebookInstantGamesPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = facebookInstantGamesPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGenericIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGenericIDsRequest> {
+        private final TypeAdapter<ArrayList<GenericServiceId>> genericServiceIdListAdapter;
+
+        GetPlayFabIDsFromGenericIDsRequestAdapter(Gson gson) {
+            genericServiceIdListAdapter = listAdapter(gson, GenericServiceId.class);
+        }
+
+        protected GetPlayFabIDsFromGenericIDsRequest newInstance() {
+            return new GetPlayFabIDsFromGenericIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            writeField(out, "GenericIDs", value.GenericIDs, genericServiceIdListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            switch (name) {
+                case "GenericIDs": value.GenericIDs = genericServiceIdListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromGenericIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromGenericIDsResult> {
+        private final TypeAdapter<ArrayList<GenericPlayFabIdPair>> genericPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromGenericIDsResultAdapter(Gson gson) {
+            genericPlayFabIdPairListAdapter = listAdapter(gson, GenericPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromGenericIDsResult newInstance() {
+            return new GetPlayFabIDsFromGenericIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, genericPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = genericPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoServiceAccountIdsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoServiceAccountIdsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromNintendoServiceAccountIdsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoServiceAccountIdsRequest newInstance() {
+            return new GetPlayFabIDsFromNintendoServiceAccountIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoServiceAccountIdsRequest value) throws IOException {
+            writeField(out, "NintendoAccountIds", value.NintendoAccountIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoServiceAccountIdsRequest value) throws IOException {
+            switch (name) {
+                case "NintendoAccountIds": value.NintendoAccountIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoServiceAccountIdsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoServiceAccountIdsResult> {
+        private final TypeAdapter<ArrayList<NintendoServiceAccountPlayFabIdPair>> nintendoServiceAccountPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromNintendoServiceAccountIdsResultAdapter(Gson gson) {
+            nintendoServiceAccountPlayFabIdPairListAdapter = listAdapter(gson, NintendoServiceAccountPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoServiceAccountIdsResult newInstance() {
+            return new GetPlayFabIDsFromNintendoServiceAccountIdsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoServiceAccountIdsResult value) throws IOException {
+            writeField(out, "Data", value.Data, nintendoServiceAccountPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoServiceAccountIdsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = nintendoServiceAccountPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest newInstance() {
+            return new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceIds", value.NintendoSwitchDeviceIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceIds": value.NintendoSwitchDeviceIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> {
+        private final TypeAdapter<ArrayList<NintendoSwitchPlayFabIdPair>> nintendoSwitchPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(Gson gson) {
+            nintendoSwitchPlayFabIdPairListAdapter = listAdapter(gson, NintendoSwitchPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromNintendoSwitchDeviceIdsResult newInstance() {
+            return new GetPlayFabIDsFromNintendoSwitchDeviceIdsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            writeField(out, "Data", value.Data, nintendoSwitchPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = nintendoSwitchPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromPSNAccountIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromPSNAccountIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromPSNAccountIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromPSNAccountIDsRequest newInstance() {
+            return new GetPlayFabIDsFromPSNAccountIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsRequest value) throws IOException {
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "PSNAccountIDs", value.PSNAccountIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromPSNAccountIDsRequest value) throws IOException {
+            switch (name) {
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "PSNAccountIDs": value.PSNAccountIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromPSNAccountIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromPSNAccountIDsResult> {
+        private final TypeAdapter<ArrayList<PSNAccountPlayFabIdPair>> pSNAccountPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromPSNAccountIDsResultAdapter(Gson gson) {
+            pSNAccountPlayFabIdPairListAdapter = listAdapter(gson, PSNAccountPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromPSNAccountIDsResult newInstance() {
+            return new GetPlayFabIDsFromPSNAccountIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, pSNAccountPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromPSNAccountIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = pSNAccountPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromSteamIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromSteamIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromSteamIDsRequest newInstance() {
+            return new GetPlayFabIDsFromSteamIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            writeField(out, "SteamStringIDs", value.SteamStringIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            switch (name) {
+                case "SteamStringIDs": value.SteamStringIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromSteamIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromSteamIDsResult> {
+        private final TypeAdapter<ArrayList<SteamPlayFabIdPair>> steamPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromSteamIDsResultAdapter(Gson gson) {
+            steamPlayFabIdPairListAdapter = listAdapter(gson, SteamPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromSteamIDsResult newInstance() {
+            return new GetPlayFabIDsFromSteamIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, steamPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = steamPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromTwitchIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromTwitchIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromTwitchIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromTwitchIDsRequest newInstance() {
+            return new GetPlayFabIDsFromTwitchIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromTwitchIDsRequest value) throws IOException {
+            writeField(out, "TwitchIds", value.TwitchIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromTwitchIDsRequest value) throws IOException {
+            switch (name) {
+                case "TwitchIds": value.TwitchIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromTwitchIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromTwitchIDsResult> {
+        private final TypeAdapter<ArrayList<TwitchPlayFabIdPair>> twitchPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromTwitchIDsResultAdapter(Gson gson) {
+            twitchPlayFabIdPairListAdapter = listAdapter(gson, TwitchPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromTwitchIDsResult newInstance() {
+            return new GetPlayFabIDsFromTwitchIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromTwitchIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, twitchPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromTwitchIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = twitchPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromXboxLiveIDsRequestAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromXboxLiveIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPlayFabIDsFromXboxLiveIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPlayFabIDsFromXboxLiveIDsRequest newInstance() {
+            return new GetPlayFabIDsFromXboxLiveIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsRequest value) throws IOException {
+            writeField(out, "Sandbox", value.Sandbox);
+            writeField(out, "XboxLiveAccountIDs", value.XboxLiveAccountIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromXboxLiveIDsRequest value) throws IOException {
+            switch (name) {
+                case "Sandbox": value.Sandbox = readString(in); return true;
+                case "XboxLiveAccountIDs": value.XboxLiveAccountIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPlayFabIDsFromXboxLiveIDsResultAdapter extends PlayFabModelAdapter<GetPlayFabIDsFromXboxLiveIDsResult> {
+        private final TypeAdapter<ArrayList<XboxLiveAccountPlayFabIdPair>> xboxLiveAccountPlayFabIdPairListAdapter;
+
+        GetPlayFabIDsFromXboxLiveIDsResultAdapter(Gson gson) {
+            xboxLiveAccountPlayFabIdPairListAdapter = listAdapter(gson, XboxLiveAccountPlayFabIdPair.class);
+        }
+
+        protected GetPlayFabIDsFromXboxLiveIDsResult newInstance() {
+            return new GetPlayFabIDsFromXboxLiveIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, xboxLiveAccountPlayFabIdPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPlayFabIDsFromXboxLiveIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = xboxLiveAccountPlayFabIdPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPublisherDataRequestAdapter extends PlayFabModelAdapter<GetPublisherDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetPublisherDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetPublisherDataRequest newInstance() {
+            return new GetPublisherDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPublisherDataRequest value) throws IOException {
+            switch (name) {
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetPublisherDataResultAdapter extends PlayFabModelAdapter<GetPublisherDataResult> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetPublisherDataResultAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetPublisherDataResult newInstance() {
+            return new GetPublisherDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetPublisherDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetRandomResultTablesRequestAdapter extends PlayFabModelAdapter<GetRandomResultTablesRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetRandomResultTablesRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetRandomResultTablesRequest newInstance() {
+            return new GetRandomResultTablesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetRandomResultTablesRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "TableIDs", value.TableIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetRandomResultTablesRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "TableIDs": value.TableIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetRandomResultTablesResultAdapter extends PlayFabModelAdapter<GetRandomResultTablesResult> {
+        private final TypeAdapter<Map<String, RandomResultTableListing>> randomResultTableListingMapAdapter;
+
+        GetRandomResultTablesResultAdapter(Gson gson) {
+            randomResultTableListingMapAdapter = mapAdapter(gson, RandomResultTableListing.class);
+        }
+
+        protected GetRandomResultTablesResult newInstance() {
+            return new GetRandomResultTablesResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetRandomResultTablesResult value) throws IOException {
+            writeField(out, "Tables", value.Tables, randomResultTableListingMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetRandomResultTablesResult value) throws IOException {
+            switch (name) {
+                case "Tables": value.Tables = randomResultTableListingMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSegmentResultAdapter extends PlayFabModelAdapter<GetSegmentResult> {
+        GetSegmentResultAdapter(Gson gson) {
+        }
+
+        protected GetSegmentResult newInstance() {
+            return new GetSegmentResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetSegmentResult value) throws IOException {
+            writeField(out, "ABTestParent", value.ABTestParent);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSegmentResult value) throws IOException {
+            switch (name) {
+                case "ABTestParent": value.ABTestParent = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetServerCustomIDsFromPlayFabIDsRequestAdapter extends PlayFabModelAdapter<GetServerCustomIDsFromPlayFabIDsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetServerCustomIDsFromPlayFabIDsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetServerCustomIDsFromPlayFabIDsRequest newInstance() {
+            return new GetServerCustomIDsFromPlayFabIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetServerCustomIDsFromPlayFabIDsRequest value) throws IOException {
+            writeField(out, "PlayFabIDs", value.PlayFabIDs, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetServerCustomIDsFromPlayFabIDsRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabIDs": value.PlayFabIDs = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetServerCustomIDsFromPlayFabIDsResultAdapter extends PlayFabModelAdapter<GetServerCustomIDsFromPlayFabIDsResult> {
+        private final TypeAdapter<ArrayList<ServerCustomIDPlayFabIDPair>> serverCustomIDPlayFabIDPairListAdapter;
+
+        GetServerCustomIDsFromPlayFabIDsResultAdapter(Gson gson) {
+            serverCustomIDPlayFabIDPairListAdapter = listAdapter(gson, ServerCustomIDPlayFabIDPair.class);
+        }
+
+        protected GetServerCustomIDsFromPlayFabIDsResult newInstance() {
+            return new GetServerCustomIDsFromPlayFabIDsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetServerCustomIDsFromPlayFabIDsResult value) throws IOException {
+            writeField(out, "Data", value.Data, serverCustomIDPlayFabIDPairListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetServerCustomIDsFromPlayFabIDsResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = serverCustomIDPlayFabIDPairListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSharedGroupDataRequestAdapter extends PlayFabModelAdapter<GetSharedGroupDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetSharedGroupDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetSharedGroupDataRequest newInstance() {
+            return new GetSharedGroupDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetSharedGroupDataRequest value) throws IOException {
+            writeField(out, "GetMembers", value.GetMembers);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSharedGroupDataRequest value) throws IOException {
+            switch (name) {
+                case "GetMembers": value.GetMembers = readBoolean(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetSharedGroupDataResultAdapter extends PlayFabModelAdapter<GetSharedGroupDataResult> {
+        private final TypeAdapter<Map<String, SharedGroupDataRecord>> sharedGroupDataRecordMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetSharedGroupDataResultAdapter(Gson gson) {
+            sharedGroupDataRecordMapAdapter = mapAdapter(gson, SharedGroupDataRecord.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetSharedGroupDataResult newInstance() {
+            return new GetSharedGroupDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetSharedGroupDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, sharedGroupDataRecordMapAdapter);
+            writeField(out, "Members", value.Members, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetSharedGroupDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = sharedGroupDataRecordMapAdapter.read(in); return true;
+                case "Members": value.Members = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetStoreItemsResultAdapter extends PlayFabModelAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<ArrayList<StoreItem>> storeItemListAdapter;
+
+        GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemListAdapter = listAdapter(gson, StoreItem.class);
+        }
+
+        protected GetStoreItemsResult newInstance() {
+            return new GetStoreItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "MarketingData", value.MarketingData, storeMarketingModelAdapter);
+            writeField(out, "Source", value.Source, sourceTypeAdapter);
+            writeField(out, "Store", value.Store, storeItemListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetStoreItemsResult value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); return true;
+                case "Source": value.Source = sourceTypeAdapter.read(in); return true;
+                case "Store": value.Store = storeItemListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetStoreItemsServerRequestAdapter extends PlayFabModelAdapter<GetStoreItemsServerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetStoreItemsServerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetStoreItemsServerRequest newInstance() {
+            return new GetStoreItemsServerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetStoreItemsServerRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetStoreItemsServerRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTimeRequestAdapter extends PlayFabModelAdapter<GetTimeRequest> {
+        GetTimeRequestAdapter(Gson gson) {
+        }
+
+        protected GetTimeRequest newInstance() {
+            return new GetTimeRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTimeRequest value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTimeRequest value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTimeResultAdapter extends PlayFabModelAdapter<GetTimeResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetTimeResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetTimeResult newInstance() {
+            return new GetTimeResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTimeResult value) throws IOException {
+            writeField(out, "Time", value.Time, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTimeResult value) throws IOException {
+            switch (name) {
+                case "Time": value.Time = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleDataRequestAdapter extends PlayFabModelAdapter<GetTitleDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetTitleDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetTitleDataRequest newInstance() {
+            return new GetTitleDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "OverrideLabel", value.OverrideLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleDataRequest value) throws IOException {
+            switch (name) {
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "OverrideLabel": value.OverrideLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleDataResultAdapter extends PlayFabModelAdapter<GetTitleDataResult> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetTitleDataResultAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetTitleDataResult newInstance() {
+            return new GetTitleDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleNewsRequestAdapter extends PlayFabModelAdapter<GetTitleNewsRequest> {
+        GetTitleNewsRequestAdapter(Gson gson) {
+        }
+
+        protected GetTitleNewsRequest newInstance() {
+            return new GetTitleNewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleNewsRequest value) throws IOException {
+            writeField(out, "Count", value.Count);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleNewsRequest value) throws IOException {
+            switch (name) {
+                case "Count": value.Count = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitleNewsResultAdapter extends PlayFabModelAdapter<GetTitleNewsResult> {
+        private final TypeAdapter<ArrayList<TitleNewsItem>> titleNewsItemListAdapter;
+
+        GetTitleNewsResultAdapter(Gson gson) {
+            titleNewsItemListAdapter = listAdapter(gson, TitleNewsItem.class);
+        }
+
+        protected GetTitleNewsResult newInstance() {
+            return new GetTitleNewsResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitleNewsResult value) throws IOException {
+            writeField(out, "News", value.News, titleNewsItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitleNewsResult value) throws IOException {
+            switch (name) {
+                case "News": value.News = titleNewsItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserAccountInfoRequestAdapter extends PlayFabModelAdapter<GetUserAccountInfoRequest> {
+        GetUserAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        protected GetUserAccountInfoRequest newInstance() {
+            return new GetUserAccountInfoRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserAccountInfoRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserAccountInfoRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserAccountInfoResultAdapter extends PlayFabModelAdapter<GetUserAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        GetUserAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        protected GetUserAccountInfoResult newInstance() {
+            return new GetUserAccountInfoResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserAccountInfoResult value) throws IOException {
+            writeField(out, "UserInfo", value.UserInfo, userAccountInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserAccountInfoResult value) throws IOException {
+            switch (name) {
+                case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserBansRequestAdapter extends PlayFabModelAdapter<GetUserBansRequest> {
+        GetUserBansRequestAdapter(Gson gson) {
+        }
+
+        protected GetUserBansRequest newInstance() {
+            return new GetUserBansRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserBansRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserBansRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserBansResultAdapter extends PlayFabModelAdapter<GetUserBansResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        GetUserBansResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected GetUserBansResult newInstance() {
+            return new GetUserBansResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserBansResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserBansResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserDataRequestAdapter extends PlayFabModelAdapter<GetUserDataRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetUserDataRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetUserDataRequest newInstance() {
+            return new GetUserDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserDataRequest value) throws IOException {
+            writeField(out, "IfChangedFromDataVersion", value.IfChangedFromDataVersion);
+            writeField(out, "Keys", value.Keys, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserDataRequest value) throws IOException {
+            switch (name) {
+                case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = readLong(in); return true;
+                case "Keys": value.Keys = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserDataResultAdapter extends PlayFabModelAdapter<GetUserDataResult> {
+        private final TypeAdapter<Map<String, UserDataRecord>> userDataRecordMapAdapter;
+
+        GetUserDataResultAdapter(Gson gson) {
+            userDataRecordMapAdapter = mapAdapter(gson, UserDataRecord.class);
+        }
+
+        protected GetUserDataResult newInstance() {
+            return new GetUserDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserDataResult value) throws IOException {
+            writeField(out, "Data", value.Data, userDataRecordMapAdapter);
+            writeField(out, "DataVersion", value.DataVersion);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserDataResult value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = userDataRecordMapAdapter.read(in); return true;
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserInventoryRequestAdapter extends PlayFabModelAdapter<GetUserInventoryRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetUserInventoryRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetUserInventoryRequest newInstance() {
+            return new GetUserInventoryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserInventoryRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetUserInventoryResultAdapter extends PlayFabModelAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, VirtualCurrencyRechargeTime>> virtualCurrencyRechargeTimeMapAdapter;
+
+        GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            virtualCurrencyRechargeTimeMapAdapter = mapAdapter(gson, VirtualCurrencyRechargeTime.class);
+        }
+
+        protected GetUserInventoryResult newInstance() {
+            return new GetUserInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            writeField(out, "Inventory", value.Inventory, itemInstanceListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, integerMapAdapter);
+            writeField(out, "VirtualCurrencyRechargeTimes", value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetUserInventoryResult value) throws IOException {
+            switch (name) {
+                case "Inventory": value.Inventory = itemInstanceListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = integerMapAdapter.read(in); return true;
+                case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = virtualCurrencyRechargeTimeMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantCharacterToUserRequestAdapter extends PlayFabModelAdapter<GrantCharacterToUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GrantCharacterToUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GrantCharacterToUserRequest newInstance() {
+            return new GrantCharacterToUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GrantCharacterToUserRequest value) throws IOException {
+            writeField(out, "CharacterName", value.CharacterName);
+            writeField(out, "CharacterType", value.CharacterType);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantCharacterToUserRequest value) throws IOException {
+            switch (name) {
+                case "CharacterName": value.CharacterName = readString(in); return true;
+                case "CharacterType": value.CharacterType = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantCharacterToUserResultAdapter extends PlayFabModelAdapter<GrantCharacterToUserResult> {
+        GrantCharacterToUserResultAdapter(Gson gson) {
+        }
+
+        protected GrantCharacterToUserResult newInstance() {
+            return new GrantCharacterToUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, GrantCharacterToUserResult value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantCharacterToUserResult value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantedItemInstanceAdapter extends PlayFabModelAdapter<GrantedItemInstance> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        GrantedItemInstanceAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GrantedItemInstance newInstance() {
+            return new GrantedItemInstance();
+        }
+
+        protected void writeFields(JsonWriter out, GrantedItemInstance value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "BundleContents", value.BundleContents, stringListAdapter);
+            writeField(out, "BundleParent", value.BundleParent);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomData", value.CustomData, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+            writeField(out, "RemainingUses", value.RemainingUses);
+            writeField(out, "Result", value.Result);
+            writeField(out, "UnitCurrency", value.UnitCurrency);
+            writeField(out, "UnitPrice", value.UnitPrice);
+            writeField(out, "UsesIncrementedBy", value.UsesIncrementedBy);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantedItemInstance value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "BundleContents": value.BundleContents = stringListAdapter.read(in); return true;
+                case "BundleParent": value.BundleParent = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomData": value.CustomData = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                case "Result": value.Result = readBoolean(in); return true;
+                case "UnitCurrency": value.UnitCurrency = readString(in); return true;
+                case "UnitPrice": value.UnitPrice = readLong(in); return true;
+                case "UsesIncrementedBy": value.UsesIncrementedBy = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToCharacterRequestAdapter extends PlayFabModelAdapter<GrantItemsToCharacterRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GrantItemsToCharacterRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GrantItemsToCharacterRequest newInstance() {
+            return new GrantItemsToCharacterRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToCharacterRequest value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemIds", value.ItemIds, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToCharacterRequest value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemIds": value.ItemIds = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToCharacterResultAdapter extends PlayFabModelAdapter<GrantItemsToCharacterResult> {
+        private final TypeAdapter<ArrayList<GrantedItemInstance>> grantedItemInstanceListAdapter;
+
+        GrantItemsToCharacterResultAdapter(Gson gson) {
+            grantedItemInstanceListAdapter = listAdapter(gson, GrantedItemInstance.class);
+        }
+
+        protected GrantItemsToCharacterResult newInstance() {
+            return new GrantItemsToCharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToCharacterResult value) throws IOException {
+            writeField(out, "ItemGrantResults", value.ItemGrantResults, grantedItemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToCharacterResult value) throws IOException {
+            switch (name) {
+                case "ItemGrantResults": value.ItemGrantResults = grantedItemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToUserRequestAdapter extends PlayFabModelAdapter<GrantItemsToUserRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GrantItemsToUserRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GrantItemsToUserRequest newInstance() {
+            return new GrantItemsToUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToUserRequest value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemIds", value.ItemIds, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToUserRequest value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemIds": value.ItemIds = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToUserResultAdapter extends PlayFabModelAdapter<GrantItemsToUserResult> {
+        private final TypeAdapter<ArrayList<GrantedItemInstance>> grantedItemInstanceListAdapter;
+
+        GrantItemsToUserResultAdapter(Gson gson) {
+            grantedItemInstanceListAdapter = listAdapter(gson, GrantedItemInstance.class);
+        }
+
+        protected GrantItemsToUserResult newInstance() {
+            return new GrantItemsToUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToUserResult value) throws IOException {
+            writeField(out, "ItemGrantResults", value.ItemGrantResults, grantedItemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToUserResult value) throws IOException {
+            switch (name) {
+                case "ItemGrantResults": value.ItemGrantResults = grantedItemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToUsersRequestAdapter extends PlayFabModelAdapter<GrantItemsToUsersRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<ItemGrant>> itemGrantListAdapter;
+
+        GrantItemsToUsersRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            itemGrantListAdapter = listAdapter(gson, ItemGrant.class);
+        }
+
+        protected GrantItemsToUsersRequest newInstance() {
+            return new GrantItemsToUsersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToUsersRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemGrants", value.ItemGrants, itemGrantListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToUsersRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemGrants": value.ItemGrants = itemGrantListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GrantItemsToUsersResultAdapter extends PlayFabModelAdapter<GrantItemsToUsersResult> {
+        private final TypeAdapter<ArrayList<GrantedItemInstance>> grantedItemInstanceListAdapter;
+
+        GrantItemsToUsersResultAdapter(Gson gson) {
+            grantedItemInstanceListAdapter = listAdapter(gson, GrantedItemInstance.class);
+        }
+
+        protected GrantItemsToUsersResult newInstance() {
+            return new GrantItemsToUsersResult();
+        }
+
+        protected void writeFields(JsonWriter out, GrantItemsToUsersResult value) throws IOException {
+            writeField(out, "ItemGrantResults", value.ItemGrantResults, grantedItemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GrantItemsToUsersResult value) throws IOException {
+            switch (name) {
+                case "ItemGrantResults": value.ItemGrantResults = grantedItemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ItemGrantAdapter extends PlayFabModelAdapter<ItemGrant> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ItemGrantAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ItemGrant newInstance() {
+            return new ItemGrant();
+        }
+
+        protected void writeFields(JsonWriter out, ItemGrant value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ItemGrant value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ItemInstanceAdapter extends PlayFabModelAdapter<ItemInstance> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ItemInstanceAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected ItemInstance newInstance() {
+            return new ItemInstance();
+        }
+
+        protected void writeFields(JsonWriter out, ItemInstance value) throws IOException {
+            writeField(out, "Annotation", value.Annotation);
+            writeField(out, "BundleContents", value.BundleContents, stringListAdapter);
+            writeField(out, "BundleParent", value.BundleParent);
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CustomData", value.CustomData, stringMapAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "ItemClass", value.ItemClass);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PurchaseDate", value.PurchaseDate, dateAdapter);
+            writeField(out, "RemainingUses", value.RemainingUses);
+            writeField(out, "UnitCurrency", value.UnitCurrency);
+            writeField(out, "UnitPrice", value.UnitPrice);
+            writeField(out, "UsesIncrementedBy", value.UsesIncrementedBy);
+        }
+
+        protected boolean readField(JsonReader in, String name, ItemInstance value) throws IOException {
+            switch (name) {
+                case "Annotation": value.Annotation = readString(in); return true;
+                case "BundleContents": value.BundleContents = stringListAdapter.read(in); return true;
+                case "BundleParent": value.BundleParent = readString(in); return true;
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CustomData": value.CustomData = stringMapAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "ItemClass": value.ItemClass = readString(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                case "UnitCurrency": value.UnitCurrency = readString(in); return true;
+                case "UnitPrice": value.UnitPrice = readLong(in); return true;
+                case "UsesIncrementedBy": value.UsesIncrementedBy = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkedPlatformAccountModelAdapter extends PlayFabModelAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        protected LinkedPlatformAccountModel newInstance() {
+            return new LinkedPlatformAccountModel();
+        }
+
+        protected void writeFields(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "Platform", value.Platform, loginIdentityProviderAdapter);
+            writeField(out, "PlatformUserId", value.PlatformUserId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkedPlatformAccountModel value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); return true;
+                case "PlatformUserId": value.PlatformUserId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoServiceAccountRequestAdapter extends PlayFabModelAdapter<LinkNintendoServiceAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkNintendoServiceAccountRequest newInstance() {
+            return new LinkNintendoServiceAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoServiceAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IdentityToken", value.IdentityToken);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoServiceAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IdentityToken": value.IdentityToken = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoServiceAccountSubjectRequestAdapter extends PlayFabModelAdapter<LinkNintendoServiceAccountSubjectRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkNintendoServiceAccountSubjectRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkNintendoServiceAccountSubjectRequest newInstance() {
+            return new LinkNintendoServiceAccountSubjectRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoServiceAccountSubjectRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Subject", value.Subject);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoServiceAccountSubjectRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoSwitchDeviceIdRequestAdapter extends PlayFabModelAdapter<LinkNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkNintendoSwitchDeviceIdRequest newInstance() {
+            return new LinkNintendoSwitchDeviceIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkNintendoSwitchDeviceIdResultAdapter extends PlayFabModelAdapter<LinkNintendoSwitchDeviceIdResult> {
+        LinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        protected LinkNintendoSwitchDeviceIdResult newInstance() {
+            return new LinkNintendoSwitchDeviceIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkNintendoSwitchDeviceIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkNintendoSwitchDeviceIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkPSNAccountRequestAdapter extends PlayFabModelAdapter<LinkPSNAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkPSNAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkPSNAccountRequest newInstance() {
+            return new LinkPSNAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkPSNAccountRequest value) throws IOException {
+            writeField(out, "AuthCode", value.AuthCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "RedirectUri", value.RedirectUri);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkPSNAccountRequest value) throws IOException {
+            switch (name) {
+                case "AuthCode": value.AuthCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "RedirectUri": value.RedirectUri = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkPSNAccountResultAdapter extends PlayFabModelAdapter<LinkPSNAccountResult> {
+        LinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkPSNAccountResult newInstance() {
+            return new LinkPSNAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkPSNAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkPSNAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkPSNIdRequestAdapter extends PlayFabModelAdapter<LinkPSNIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkPSNIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkPSNIdRequest newInstance() {
+            return new LinkPSNIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkPSNIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "IssuerId", value.IssuerId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PSNUserId", value.PSNUserId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkPSNIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "IssuerId": value.IssuerId = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PSNUserId": value.PSNUserId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkPSNIdResponseAdapter extends PlayFabModelAdapter<LinkPSNIdResponse> {
+        LinkPSNIdResponseAdapter(Gson gson) {
+        }
+
+        protected LinkPSNIdResponse newInstance() {
+            return new LinkPSNIdResponse();
+        }
+
+        protected void writeFields(JsonWriter out, LinkPSNIdResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkPSNIdResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkServerCustomIdRequestAdapter extends PlayFabModelAdapter<LinkServerCustomIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkServerCustomIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkServerCustomIdRequest newInstance() {
+            return new LinkServerCustomIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkServerCustomIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ServerCustomId", value.ServerCustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkServerCustomIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ServerCustomId": value.ServerCustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkServerCustomIdResultAdapter extends PlayFabModelAdapter<LinkServerCustomIdResult> {
+        LinkServerCustomIdResultAdapter(Gson gson) {
+        }
+
+        protected LinkServerCustomIdResult newInstance() {
+            return new LinkServerCustomIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkServerCustomIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkServerCustomIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkSteamIdRequestAdapter extends PlayFabModelAdapter<LinkSteamIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkSteamIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkSteamIdRequest newInstance() {
+            return new LinkSteamIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkSteamIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SteamId", value.SteamId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkSteamIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SteamId": value.SteamId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkSteamIdResultAdapter extends PlayFabModelAdapter<LinkSteamIdResult> {
+        LinkSteamIdResultAdapter(Gson gson) {
+        }
+
+        protected LinkSteamIdResult newInstance() {
+            return new LinkSteamIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkSteamIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkSteamIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkXboxAccountRequestAdapter extends PlayFabModelAdapter<LinkXboxAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        LinkXboxAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected LinkXboxAccountRequest newInstance() {
+            return new LinkXboxAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LinkXboxAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceLink", value.ForceLink);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkXboxAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceLink": value.ForceLink = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LinkXboxAccountResultAdapter extends PlayFabModelAdapter<LinkXboxAccountResult> {
+        LinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        protected LinkXboxAccountResult newInstance() {
+            return new LinkXboxAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, LinkXboxAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, LinkXboxAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListUsersCharactersRequestAdapter extends PlayFabModelAdapter<ListUsersCharactersRequest> {
+        ListUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        protected ListUsersCharactersRequest newInstance() {
+            return new ListUsersCharactersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListUsersCharactersRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListUsersCharactersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListUsersCharactersResultAdapter extends PlayFabModelAdapter<ListUsersCharactersResult> {
+        private final TypeAdapter<ArrayList<CharacterResult>> characterResultListAdapter;
+
+        ListUsersCharactersResultAdapter(Gson gson) {
+            characterResultListAdapter = listAdapter(gson, CharacterResult.class);
+        }
+
+        protected ListUsersCharactersResult newInstance() {
+            return new ListUsersCharactersResult();
+        }
+
+        protected void writeFields(JsonWriter out, ListUsersCharactersResult value) throws IOException {
+            writeField(out, "Characters", value.Characters, characterResultListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListUsersCharactersResult value) throws IOException {
+            switch (name) {
+                case "Characters": value.Characters = characterResultListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LocalizedPushNotificationPropertiesAdapter extends PlayFabModelAdapter<LocalizedPushNotificationProperties> {
+        LocalizedPushNotificationPropertiesAdapter(Gson gson) {
+        }
+
+        protected LocalizedPushNotificationProperties newInstance() {
+            return new LocalizedPushNotificationProperties();
+        }
+
+        protected void writeFields(JsonWriter out, LocalizedPushNotificationProperties value) throws IOException {
+            writeField(out, "Message", value.Message);
+            writeField(out, "Subject", value.Subject);
+        }
+
+        protected boolean readField(JsonReader in, String name, LocalizedPushNotificationProperties value) throws IOException {
+            switch (name) {
+                case "Message": value.Message = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LocationModelAdapter extends PlayFabModelAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        protected LocationModel newInstance() {
+            return new LocationModel();
+        }
+
+        protected void writeFields(JsonWriter out, LocationModel value) throws IOException {
+            writeField(out, "City", value.City);
+            writeField(out, "ContinentCode", value.ContinentCode, continentCodeAdapter);
+            writeField(out, "CountryCode", value.CountryCode, countryCodeAdapter);
+            writeField(out, "Latitude", value.Latitude);
+            writeField(out, "Longitude", value.Longitude);
+        }
+
+        protected boolean readField(JsonReader in, String name, LocationModel value) throws IOException {
+            switch (name) {
+                case "City": value.City = readString(in); return true;
+                case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); return true;
+                case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); return true;
+                case "Latitude": value.Latitude = readDouble(in); return true;
+                case "Longitude": value.Longitude = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithServerCustomIdRequestAdapter extends PlayFabModelAdapter<LoginWithServerCustomIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithServerCustomIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithServerCustomIdRequest newInstance() {
+            return new LoginWithServerCustomIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithServerCustomIdRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "ServerCustomId", value.ServerCustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithServerCustomIdRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "ServerCustomId": value.ServerCustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithSteamIdRequestAdapter extends PlayFabModelAdapter<LoginWithSteamIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithSteamIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithSteamIdRequest newInstance() {
+            return new LoginWithSteamIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithSteamIdRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "SteamId", value.SteamId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithSteamIdRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "SteamId": value.SteamId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithXboxIdRequestAdapter extends PlayFabModelAdapter<LoginWithXboxIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithXboxIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithXboxIdRequest newInstance() {
+            return new LoginWithXboxIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithXboxIdRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "Sandbox", value.Sandbox);
+            writeField(out, "XboxId", value.XboxId);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithXboxIdRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "Sandbox": value.Sandbox = readString(in); return true;
+                case "XboxId": value.XboxId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LoginWithXboxRequestAdapter extends PlayFabModelAdapter<LoginWithXboxRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        LoginWithXboxRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        protected LoginWithXboxRequest newInstance() {
+            return new LoginWithXboxRequest();
+        }
+
+        protected void writeFields(JsonWriter out, LoginWithXboxRequest value) throws IOException {
+            writeField(out, "CreateAccount", value.CreateAccount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "InfoRequestParameters", value.InfoRequestParameters, getPlayerCombinedInfoRequestParamsAdapter);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, LoginWithXboxRequest value) throws IOException {
+            switch (name) {
+                case "CreateAccount": value.CreateAccount = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class LogStatementAdapter extends PlayFabModelAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected LogStatement newInstance() {
+            return new LogStatement();
+        }
+
+        protected void writeFields(JsonWriter out, LogStatement value) throws IOException {
+            writeField(out, "Data", value.Data, objectAdapter);
+            writeField(out, "Level", value.Level);
+            writeField(out, "Message", value.Message);
+        }
+
+        protected boolean readField(JsonReader in, String name, LogStatement value) throws IOException {
+            switch (name) {
+                case "Data": value.Data = objectAdapter.read(in); return true;
+                case "Level": value.Level = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MembershipModelAdapter extends PlayFabModelAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<SubscriptionModel>> subscriptionModelListAdapter;
+
+        MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelListAdapter = listAdapter(gson, SubscriptionModel.class);
+        }
+
+        protected MembershipModel newInstance() {
+            return new MembershipModel();
+        }
+
+        protected void writeFields(JsonWriter out, MembershipModel value) throws IOException {
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "MembershipExpiration", value.MembershipExpiration, dateAdapter);
+            writeField(out, "MembershipId", value.MembershipId);
+            writeField(out, "OverrideExpiration", value.OverrideExpiration, dateAdapter);
+            writeField(out, "Subscriptions", value.Subscriptions, subscriptionModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, MembershipModel value) throws IOException {
+            switch (name) {
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); return true;
+                case "MembershipId": value.MembershipId = readString(in); return true;
+                case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); return true;
+                case "Subscriptions": value.Subscriptions = subscriptionModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModifyCharacterVirtualCurrencyResultAdapter extends PlayFabModelAdapter<ModifyCharacterVirtualCurrencyResult> {
+        ModifyCharacterVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        protected ModifyCharacterVirtualCurrencyResult newInstance() {
+            return new ModifyCharacterVirtualCurrencyResult();
+        }
+
+        protected void writeFields(JsonWriter out, ModifyCharacterVirtualCurrencyResult value) throws IOException {
+            writeField(out, "Balance", value.Balance);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModifyCharacterVirtualCurrencyResult value) throws IOException {
+            switch (name) {
+                case "Balance": value.Balance = readInteger(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModifyItemUsesRequestAdapter extends PlayFabModelAdapter<ModifyItemUsesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ModifyItemUsesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ModifyItemUsesRequest newInstance() {
+            return new ModifyItemUsesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ModifyItemUsesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "UsesToAdd", value.UsesToAdd);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModifyItemUsesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "UsesToAdd": value.UsesToAdd = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModifyItemUsesResultAdapter extends PlayFabModelAdapter<ModifyItemUsesResult> {
+        ModifyItemUsesResultAdapter(Gson gson) {
+        }
+
+        protected ModifyItemUsesResult newInstance() {
+            return new ModifyItemUsesResult();
+        }
+
+        protected void writeFields(JsonWriter out, ModifyItemUsesResult value) throws IOException {
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "RemainingUses", value.RemainingUses);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModifyItemUsesResult value) throws IOException {
+            switch (name) {
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "RemainingUses": value.RemainingUses = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModifyUserVirtualCurrencyResultAdapter extends PlayFabModelAdapter<ModifyUserVirtualCurrencyResult> {
+        ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        protected ModifyUserVirtualCurrencyResult newInstance() {
+            return new ModifyUserVirtualCurrencyResult();
+        }
+
+        protected void writeFields(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            writeField(out, "Balance", value.Balance);
+            writeField(out, "BalanceChange", value.BalanceChange);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModifyUserVirtualCurrencyResult value) throws IOException {
+            switch (name) {
+                case "Balance": value.Balance = readInteger(in); return true;
+                case "BalanceChange": value.BalanceChange = readInteger(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MoveItemToCharacterFromCharacterRequestAdapter extends PlayFabModelAdapter<MoveItemToCharacterFromCharacterRequest> {
+        MoveItemToCharacterFromCharacterRequestAdapter(Gson gson) {
+        }
+
+        protected MoveItemToCharacterFromCharacterRequest newInstance() {
+            return new MoveItemToCharacterFromCharacterRequest();
+        }
+
+        protected void writeFields(JsonWriter out, MoveItemToCharacterFromCharacterRequest value) throws IOException {
+            writeField(out, "GivingCharacterId", value.GivingCharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ReceivingCharacterId", value.ReceivingCharacterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, MoveItemToCharacterFromCharacterRequest value) throws IOException {
+            switch (name) {
+                case "GivingCharacterId": value.GivingCharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ReceivingCharacterId": value.ReceivingCharacterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MoveItemToCharacterFromCharacterResultAdapter extends PlayFabModelAdapter<MoveItemToCharacterFromCharacterResult> {
+        MoveItemToCharacterFromCharacterResultAdapter(Gson gson) {
+        }
+
+        protected MoveItemToCharacterFromCharacterResult newInstance() {
+            return new MoveItemToCharacterFromCharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, MoveItemToCharacterFromCharacterResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, MoveItemToCharacterFromCharacterResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class MoveItemToCharacterFromUserRequestAdapter extends PlayFabModelAdapter<MoveItemToCharacterFromUserRequest> {
+        MoveItemToCharacterFromUserRequestAdapter(Gson gson) {
+        }
+
+        protected MoveItemToCharacterFromUserRequest newInstance() {
+            return new MoveItemToCharacterFromUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, MoveItemToCharacterFromUserRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, MoveItemToCharacterFromUserRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MoveItemToCharacterFromUserResultAdapter extends PlayFabModelAdapter<MoveItemToCharacterFromUserResult> {
+        MoveItemToCharacterFromUserResultAdapter(Gson gson) {
+        }
+
+        protected MoveItemToCharacterFromUserResult newInstance() {
+            return new MoveItemToCharacterFromUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, MoveItemToCharacterFromUserResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, MoveItemToCharacterFromUserResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class MoveItemToUserFromCharacterRequestAdapter extends PlayFabModelAdapter<MoveItemToUserFromCharacterRequest> {
+        MoveItemToUserFromCharacterRequestAdapter(Gson gson) {
+        }
+
+        protected MoveItemToUserFromCharacterRequest newInstance() {
+            return new MoveItemToUserFromCharacterRequest();
+        }
+
+        protected void writeFields(JsonWriter out, MoveItemToUserFromCharacterRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, MoveItemToUserFromCharacterRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class MoveItemToUserFromCharacterResultAdapter extends PlayFabModelAdapter<MoveItemToUserFromCharacterResult> {
+        MoveItemToUserFromCharacterResultAdapter(Gson gson) {
+        }
+
+        protected MoveItemToUserFromCharacterResult newInstance() {
+            return new MoveItemToUserFromCharacterResult();
+        }
+
+        protected void writeFields(JsonWriter out, MoveItemToUserFromCharacterResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, MoveItemToUserFromCharacterResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class NintendoServiceAccountPlayFabIdPairAdapter extends PlayFabModelAdapter<NintendoServiceAccountPlayFabIdPair> {
+        NintendoServiceAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected NintendoServiceAccountPlayFabIdPair newInstance() {
+            return new NintendoServiceAccountPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, NintendoServiceAccountPlayFabIdPair value) throws IOException {
+            writeField(out, "NintendoServiceAccountId", value.NintendoServiceAccountId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, NintendoServiceAccountPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "NintendoServiceAccountId": value.NintendoServiceAccountId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class NintendoSwitchPlayFabIdPairAdapter extends PlayFabModelAdapter<NintendoSwitchPlayFabIdPair> {
+        NintendoSwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected NintendoSwitchPlayFabIdPair newInstance() {
+            return new NintendoSwitchPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, NintendoSwitchPlayFabIdPair value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, NintendoSwitchPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerLeaderboardEntryAdapter extends PlayFabModelAdapter<PlayerLeaderboardEntry> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        PlayerLeaderboardEntryAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        protected PlayerLeaderboardEntry newInstance() {
+            return new PlayerLeaderboardEntry();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerLeaderboardEntry value) throws IOException {
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Position", value.Position);
+            writeField(out, "Profile", value.Profile, playerProfileModelAdapter);
+            writeField(out, "StatValue", value.StatValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerLeaderboardEntry value) throws IOException {
+            switch (name) {
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Position": value.Position = readInteger(in); return true;
+                case "Profile": value.Profile = playerProfileModelAdapter.read(in); return true;
+                case "StatValue": value.StatValue = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerLinkedAccountAdapter extends PlayFabModelAdapter<PlayerLinkedAccount> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        PlayerLinkedAccountAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        protected PlayerLinkedAccount newInstance() {
+            return new PlayerLinkedAccount();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerLinkedAccount value) throws IOException {
+            writeField(out, "Email", value.Email);
+            writeField(out, "Platform", value.Platform, loginIdentityProviderAdapter);
+            writeField(out, "PlatformUserId", value.PlatformUserId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerLinkedAccount value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); return true;
+                case "PlatformUserId": value.PlatformUserId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerLocationAdapter extends PlayFabModelAdapter<PlayerLocation> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+
+        PlayerLocationAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+        }
+
+        protected PlayerLocation newInstance() {
+            return new PlayerLocation();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerLocation value) throws IOException {
+            writeField(out, "City", value.City);
+            writeField(out, "ContinentCode", value.ContinentCode, continentCodeAdapter);
+            writeField(out, "CountryCode", value.CountryCode, countryCodeAdapter);
+            writeField(out, "Latitude", value.Latitude);
+            writeField(out, "Longitude", value.Longitude);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerLocation value) throws IOException {
+            switch (name) {
+                case "City": value.City = readString(in); return true;
+                case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); return true;
+                case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); return true;
+                case "Latitude": value.Latitude = readDouble(in); return true;
+                case "Longitude": value.Longitude = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileAdapter extends PlayFabModelAdapter<PlayerProfile> {
+        private final TypeAdapter<ArrayList<AdCampaignAttribution>> adCampaignAttributionListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ChurnRiskLevel> churnRiskLevelAdapter;
+        private final TypeAdapter<ArrayList<ContactEmailInfo>> contactEmailInfoListAdapter;
+        private final TypeAdapter<ArrayList<PlayerLinkedAccount>> playerLinkedAccountListAdapter;
+        private final TypeAdapter<Map<String, PlayerLocation>> playerLocationMapAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<PlayerStatistic>> playerStatisticListAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationRegistration>> pushNotificationRegistrationListAdapter;
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        PlayerProfileAdapter(Gson gson) {
+            adCampaignAttributionListAdapter = listAdapter(gson, AdCampaignAttribution.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            churnRiskLevelAdapter = gson.getAdapter(ChurnRiskLevel.class);
+            contactEmailInfoListAdapter = listAdapter(gson, ContactEmailInfo.class);
+            playerLinkedAccountListAdapter = listAdapter(gson, PlayerLinkedAccount.class);
+            playerLocationMapAdapter = mapAdapter(gson, PlayerLocation.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            playerStatisticListAdapter = listAdapter(gson, PlayerStatistic.class);
+            pushNotificationRegistrationListAdapter = listAdapter(gson, PushNotificationRegistration.class);
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected PlayerProfile newInstance() {
+            return new PlayerProfile();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfile value) throws IOException {
+            writeField(out, "AdCampaignAttributions", value.AdCampaignAttributions, adCampaignAttributionListAdapter);
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "BannedUntil", value.BannedUntil, dateAdapter);
+            writeField(out, "ChurnPrediction", value.ChurnPrediction, churnRiskLevelAdapter);
+            writeField(out, "ContactEmailAddresses", value.ContactEmailAddresses, contactEmailInfoListAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "LinkedAccounts", value.LinkedAccounts, playerLinkedAccountListAdapter);
+            writeField(out, "Locations", value.Locations, playerLocationMapAdapter);
+            writeField(out, "Origination", value.Origination, loginIdentityProviderAdapter);
+            writeField(out, "PlayerExperimentVariants", value.PlayerExperimentVariants, stringListAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PlayerStatistics", value.PlayerStatistics, playerStatisticListAdapter);
+            writeField(out, "PublisherId", value.PublisherId);
+            writeField(out, "PushNotificationRegistrations", value.PushNotificationRegistrations, pushNotificationRegistrationListAdapter);
+            writeField(out, "Statistics", value.Statistics, integerMapAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TotalValueToDateInUSD", value.TotalValueToDateInUSD);
+            writeField(out, "ValuesToDate", value.ValuesToDate, longMapAdapter);
+            writeField(out, "VirtualCurrencyBalances", value.VirtualCurrencyBalances, integerMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfile value) throws IOException {
+            switch (name) {
+                case "AdCampaignAttributions": value.AdCampaignAttributions = adCampaignAttributionListAdapter.read(in); return true;
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "BannedUntil": value.BannedUntil = dateAdapter.read(in); return true;
+                case "ChurnPrediction": value.ChurnPrediction = churnRiskLevelAdapter.read(in); return true;
+                case "ContactEmailAddresses": value.ContactEmailAddresses = contactEmailInfoListAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "LinkedAccounts": value.LinkedAccounts = playerLinkedAccountListAdapter.read(in); return true;
+                case "Locations": value.Locations = playerLocationMapAdapter.read(in); return true;
+                case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); return true;
+                case "PlayerExperimentVariants": value.PlayerExperimentVariants = stringListAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PlayerStatistics": value.PlayerStatistics = playerStatisticListAdapter.read(in); return true;
+                case "PublisherId": value.PublisherId = readString(in); return true;
+                case "PushNotificationRegistrations": value.PushNotificationRegistrations = pushNotificationRegistrationListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = integerMapAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = readLong(in); return true;
+                case "ValuesToDate": value.ValuesToDate = longMapAdapter.read(in); return true;
+                case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = integerMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileModelAdapter extends PlayFabModelAdapter<PlayerProfileModel> {
+        private final TypeAdapter<ArrayList<AdCampaignAttributionModel>> adCampaignAttributionModelListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ArrayList<ContactEmailInfoModel>> contactEmailInfoModelListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<ArrayList<LinkedPlatformAccountModel>> linkedPlatformAccountModelListAdapter;
+        private final TypeAdapter<ArrayList<LocationModel>> locationModelListAdapter;
+        private final TypeAdapter<ArrayList<MembershipModel>> membershipModelListAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationRegistrationModel>> pushNotificationRegistrationModelListAdapter;
+        private final TypeAdapter<ArrayList<StatisticModel>> statisticModelListAdapter;
+        private final TypeAdapter<ArrayList<TagModel>> tagModelListAdapter;
+        private final TypeAdapter<ArrayList<ValueToDateModel>> valueToDateModelListAdapter;
+
+        PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelListAdapter = listAdapter(gson, AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelListAdapter = listAdapter(gson, ContactEmailInfoModel.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            linkedPlatformAccountModelListAdapter = listAdapter(gson, LinkedPlatformAccountModel.class);
+            locationModelListAdapter = listAdapter(gson, LocationModel.class);
+            membershipModelListAdapter = listAdapter(gson, MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelListAdapter = listAdapter(gson, PushNotificationRegistrationModel.class);
+            statisticModelListAdapter = listAdapter(gson, StatisticModel.class);
+            tagModelListAdapter = listAdapter(gson, TagModel.class);
+            valueToDateModelListAdapter = listAdapter(gson, ValueToDateModel.class);
+        }
+
+        protected PlayerProfileModel newInstance() {
+            return new PlayerProfileModel();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileModel value) throws IOException {
+            writeField(out, "AdCampaignAttributions", value.AdCampaignAttributions, adCampaignAttributionModelListAdapter);
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "BannedUntil", value.BannedUntil, dateAdapter);
+            writeField(out, "ContactEmailAddresses", value.ContactEmailAddresses, contactEmailInfoModelListAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "ExperimentVariants", value.ExperimentVariants, stringListAdapter);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "LinkedAccounts", value.LinkedAccounts, linkedPlatformAccountModelListAdapter);
+            writeField(out, "Locations", value.Locations, locationModelListAdapter);
+            writeField(out, "Memberships", value.Memberships, membershipModelListAdapter);
+            writeField(out, "Origination", value.Origination, loginIdentityProviderAdapter);
+            writeField(out, "PlayerId", value.PlayerId);
+            writeField(out, "PublisherId", value.PublisherId);
+            writeField(out, "PushNotificationRegistrations", value.PushNotificationRegistrations, pushNotificationRegistrationModelListAdapter);
+            writeField(out, "Statistics", value.Statistics, statisticModelListAdapter);
+            writeField(out, "Tags", value.Tags, tagModelListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TotalValueToDateInUSD", value.TotalValueToDateInUSD);
+            writeField(out, "ValuesToDate", value.ValuesToDate, valueToDateModelListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileModel value) throws IOException {
+            switch (name) {
+                case "AdCampaignAttributions": value.AdCampaignAttributions = adCampaignAttributionModelListAdapter.read(in); return true;
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "BannedUntil": value.BannedUntil = dateAdapter.read(in); return true;
+                case "ContactEmailAddresses": value.ContactEmailAddresses = contactEmailInfoModelListAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "ExperimentVariants": value.ExperimentVariants = stringListAdapter.read(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "LinkedAccounts": value.LinkedAccounts = linkedPlatformAccountModelListAdapter.read(in); return true;
+                case "Locations": value.Locations = locationModelListAdapter.read(in); return true;
+                case "Memberships": value.Memberships = membershipModelListAdapter.read(in); return true;
+                case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); return true;
+                case "PlayerId": value.PlayerId = readString(in); return true;
+                case "PublisherId": value.PublisherId = readString(in); return true;
+                case "PushNotificationRegistrations": value.PushNotificationRegistrations = pushNotificationRegistrationModelListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = statisticModelListAdapter.read(in); return true;
+                case "Tags": value.Tags = tagModelListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = readLong(in); return true;
+                case "ValuesToDate": value.ValuesToDate = valueToDateModelListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerProfileViewConstraintsAdapter extends PlayFabModelAdapter<PlayerProfileViewConstraints> {
+        PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        protected PlayerProfileViewConstraints newInstance() {
+            return new PlayerProfileViewConstraints();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            writeField(out, "ShowAvatarUrl", value.ShowAvatarUrl);
+            writeField(out, "ShowBannedUntil", value.ShowBannedUntil);
+            writeField(out, "ShowCampaignAttributions", value.ShowCampaignAttributions);
+            writeField(out, "ShowContactEmailAddresses", value.ShowContactEmailAddresses);
+            writeField(out, "ShowCreated", value.ShowCreated);
+            writeField(out, "ShowDisplayName", value.ShowDisplayName);
+            writeField(out, "ShowExperimentVariants", value.ShowExperimentVariants);
+            writeField(out, "ShowLastLogin", value.ShowLastLogin);
+            writeField(out, "ShowLinkedAccounts", value.ShowLinkedAccounts);
+            writeField(out, "ShowLocations", value.ShowLocations);
+            writeField(out, "ShowMemberships", value.ShowMemberships);
+            writeField(out, "ShowOrigination", value.ShowOrigination);
+            writeField(out, "ShowPushNotificationRegistrations", value.ShowPushNotificationRegistrations);
+            writeField(out, "ShowStatistics", value.ShowStatistics);
+            writeField(out, "ShowTags", value.ShowTags);
+            writeField(out, "ShowTotalValueToDateInUsd", value.ShowTotalValueToDateInUsd);
+            writeField(out, "ShowValuesToDate", value.ShowValuesToDate);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerProfileViewConstraints value) throws IOException {
+            switch (name) {
+                case "ShowAvatarUrl": value.ShowAvatarUrl = readBoolean(in); return true;
+                case "ShowBannedUntil": value.ShowBannedUntil = readBoolean(in); return true;
+                case "ShowCampaignAttributions": value.ShowCampaignAttributions = readBoolean(in); return true;
+                case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = readBoolean(in); return true;
+                case "ShowCreated": value.ShowCreated = readBoolean(in); return true;
+                case "ShowDisplayName": value.ShowDisplayName = readBoolean(in); return true;
+                case "ShowExperimentVariants": value.ShowExperimentVariants = readBoolean(in); return true;
+                case "ShowLastLogin": value.ShowLastLogin = readBoolean(in); return true;
+                case "ShowLinkedAccounts": value.ShowLinkedAccounts = readBoolean(in); return true;
+                case "ShowLocations": value.ShowLocations = readBoolean(in); return true;
+                case "ShowMemberships": value.ShowMemberships = readBoolean(in); return true;
+                case "ShowOrigination": value.ShowOrigination = readBoolean(in); return true;
+                case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = readBoolean(in); return true;
+                case "ShowStatistics": value.ShowStatistics = readBoolean(in); return true;
+                case "ShowTags": value.ShowTags = readBoolean(in); return true;
+                case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = readBoolean(in); return true;
+                case "ShowValuesToDate": value.ShowValuesToDate = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerStatisticAdapter extends PlayFabModelAdapter<PlayerStatistic> {
+        PlayerStatisticAdapter(Gson gson) {
+        }
+
+        protected PlayerStatistic newInstance() {
+            return new PlayerStatistic();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerStatistic value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Name", value.Name);
+            writeField(out, "StatisticValue", value.StatisticValue);
+            writeField(out, "StatisticVersion", value.StatisticVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerStatistic value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "StatisticValue": value.StatisticValue = readInteger(in); return true;
+                case "StatisticVersion": value.StatisticVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PlayerStatisticVersionAdapter extends PlayFabModelAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected PlayerStatisticVersion newInstance() {
+            return new PlayerStatisticVersion();
+        }
+
+        protected void writeFields(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            writeField(out, "ActivationTime", value.ActivationTime, dateAdapter);
+            writeField(out, "DeactivationTime", value.DeactivationTime, dateAdapter);
+            writeField(out, "ScheduledActivationTime", value.ScheduledActivationTime, dateAdapter);
+            writeField(out, "ScheduledDeactivationTime", value.ScheduledDeactivationTime, dateAdapter);
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, PlayerStatisticVersion value) throws IOException {
+            switch (name) {
+                case "ActivationTime": value.ActivationTime = dateAdapter.read(in); return true;
+                case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); return true;
+                case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); return true;
+                case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); return true;
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PSNAccountPlayFabIdPairAdapter extends PlayFabModelAdapter<PSNAccountPlayFabIdPair> {
+        PSNAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected PSNAccountPlayFabIdPair newInstance() {
+            return new PSNAccountPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, PSNAccountPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PSNAccountId", value.PSNAccountId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PSNAccountPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PSNAccountId": value.PSNAccountId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationPackageAdapter extends PlayFabModelAdapter<PushNotificationPackage> {
+        PushNotificationPackageAdapter(Gson gson) {
+        }
+
+        protected PushNotificationPackage newInstance() {
+            return new PushNotificationPackage();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationPackage value) throws IOException {
+            writeField(out, "Badge", value.Badge);
+            writeField(out, "CustomData", value.CustomData);
+            writeField(out, "Icon", value.Icon);
+            writeField(out, "Message", value.Message);
+            writeField(out, "Sound", value.Sound);
+            writeField(out, "Title", value.Title);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationPackage value) throws IOException {
+            switch (name) {
+                case "Badge": value.Badge = readInteger(in); return true;
+                case "CustomData": value.CustomData = readString(in); return true;
+                case "Icon": value.Icon = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "Sound": value.Sound = readString(in); return true;
+                case "Title": value.Title = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationRegistrationAdapter extends PlayFabModelAdapter<PushNotificationRegistration> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected PushNotificationRegistration newInstance() {
+            return new PushNotificationRegistration();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationRegistration value) throws IOException {
+            writeField(out, "NotificationEndpointARN", value.NotificationEndpointARN);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationRegistration value) throws IOException {
+            switch (name) {
+                case "NotificationEndpointARN": value.NotificationEndpointARN = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PushNotificationRegistrationModelAdapter extends PlayFabModelAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        protected PushNotificationRegistrationModel newInstance() {
+            return new PushNotificationRegistrationModel();
+        }
+
+        protected void writeFields(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            writeField(out, "NotificationEndpointARN", value.NotificationEndpointARN);
+            writeField(out, "Platform", value.Platform, pushNotificationPlatformAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PushNotificationRegistrationModel value) throws IOException {
+            switch (name) {
+                case "NotificationEndpointARN": value.NotificationEndpointARN = readString(in); return true;
+                case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RandomResultTableListingAdapter extends PlayFabModelAdapter<RandomResultTableListing> {
+        private final TypeAdapter<ArrayList<ResultTableNode>> resultTableNodeListAdapter;
+
+        RandomResultTableListingAdapter(Gson gson) {
+            resultTableNodeListAdapter = listAdapter(gson, ResultTableNode.class);
+        }
+
+        protected RandomResultTableListing newInstance() {
+            return new RandomResultTableListing();
+        }
+
+        protected void writeFields(JsonWriter out, RandomResultTableListing value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "Nodes", value.Nodes, resultTableNodeListAdapter);
+            writeField(out, "TableId", value.TableId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RandomResultTableListing value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "Nodes": value.Nodes = resultTableNodeListAdapter.read(in); return true;
+                case "TableId": value.TableId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemCouponRequestAdapter extends PlayFabModelAdapter<RedeemCouponRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RedeemCouponRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RedeemCouponRequest newInstance() {
+            return new RedeemCouponRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemCouponRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CouponCode", value.CouponCode);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemCouponRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CouponCode": value.CouponCode = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemCouponResultAdapter extends PlayFabModelAdapter<RedeemCouponResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+
+        RedeemCouponResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+        }
+
+        protected RedeemCouponResult newInstance() {
+            return new RedeemCouponResult();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemCouponResult value) throws IOException {
+            writeField(out, "GrantedItems", value.GrantedItems, itemInstanceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemCouponResult value) throws IOException {
+            switch (name) {
+                case "GrantedItems": value.GrantedItems = itemInstanceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveFriendRequestAdapter extends PlayFabModelAdapter<RemoveFriendRequest> {
+        RemoveFriendRequestAdapter(Gson gson) {
+        }
+
+        protected RemoveFriendRequest newInstance() {
+            return new RemoveFriendRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveFriendRequest value) throws IOException {
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveFriendRequest value) throws IOException {
+            switch (name) {
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveGenericIDRequestAdapter extends PlayFabModelAdapter<RemoveGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        RemoveGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        protected RemoveGenericIDRequest newInstance() {
+            return new RemoveGenericIDRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveGenericIDRequest value) throws IOException {
+            writeField(out, "GenericId", value.GenericId, genericServiceIdAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveGenericIDRequest value) throws IOException {
+            switch (name) {
+                case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemovePlayerTagRequestAdapter extends PlayFabModelAdapter<RemovePlayerTagRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        RemovePlayerTagRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected RemovePlayerTagRequest newInstance() {
+            return new RemovePlayerTagRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemovePlayerTagRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TagName", value.TagName);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemovePlayerTagRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TagName": value.TagName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemovePlayerTagResultAdapter extends PlayFabModelAdapter<RemovePlayerTagResult> {
+        RemovePlayerTagResultAdapter(Gson gson) {
+        }
+
+        protected RemovePlayerTagResult newInstance() {
+            return new RemovePlayerTagResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemovePlayerTagResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemovePlayerTagResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveSharedGroupMembersRequestAdapter extends PlayFabModelAdapter<RemoveSharedGroupMembersRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RemoveSharedGroupMembersRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RemoveSharedGroupMembersRequest newInstance() {
+            return new RemoveSharedGroupMembersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveSharedGroupMembersRequest value) throws IOException {
+            writeField(out, "PlayFabIds", value.PlayFabIds, stringListAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveSharedGroupMembersRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabIds": value.PlayFabIds = stringListAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RemoveSharedGroupMembersResultAdapter extends PlayFabModelAdapter<RemoveSharedGroupMembersResult> {
+        RemoveSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        protected RemoveSharedGroupMembersResult newInstance() {
+            return new RemoveSharedGroupMembersResult();
+        }
+
+        protected void writeFields(JsonWriter out, RemoveSharedGroupMembersResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RemoveSharedGroupMembersResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportPlayerServerRequestAdapter extends PlayFabModelAdapter<ReportPlayerServerRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        ReportPlayerServerRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected ReportPlayerServerRequest newInstance() {
+            return new ReportPlayerServerRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ReportPlayerServerRequest value) throws IOException {
+            writeField(out, "Comment", value.Comment);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ReporteeId", value.ReporteeId);
+            writeField(out, "ReporterId", value.ReporterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportPlayerServerRequest value) throws IOException {
+            switch (name) {
+                case "Comment": value.Comment = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ReporteeId": value.ReporteeId = readString(in); return true;
+                case "ReporterId": value.ReporterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportPlayerServerResultAdapter extends PlayFabModelAdapter<ReportPlayerServerResult> {
+        ReportPlayerServerResultAdapter(Gson gson) {
+        }
+
+        protected ReportPlayerServerResult newInstance() {
+            return new ReportPlayerServerResult();
+        }
+
+        protected void writeFields(JsonWriter out, ReportPlayerServerResult value) throws IOException {
+            writeField(out, "SubmissionsRemaining", value.SubmissionsRemaining);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportPlayerServerResult value) throws IOException {
+            switch (name) {
+                case "SubmissionsRemaining": value.SubmissionsRemaining = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ResultTableNodeAdapter extends PlayFabModelAdapter<ResultTableNode> {
+        private final TypeAdapter<ResultTableNodeType> resultTableNodeTypeAdapter;
+
+        ResultTableNodeAdapter(Gson gson) {
+            resultTableNodeTypeAdapter = gson.getAdapter(ResultTableNodeType.class);
+        }
+
+        protected ResultTableNode newInstance() {
+            return new ResultTableNode();
+        }
+
+        protected void writeFields(JsonWriter out, ResultTableNode value) throws IOException {
+            writeField(out, "ResultItem", value.ResultItem);
+            writeField(out, "ResultItemType", value.ResultItemType, resultTableNodeTypeAdapter);
+            writeField(out, "Weight", value.Weight);
+        }
+
+        protected boolean readField(JsonReader in, String name, ResultTableNode value) throws IOException {
+            switch (name) {
+                case "ResultItem": value.ResultItem = readString(in); return true;
+                case "ResultItemType": value.ResultItemType = resultTableNodeTypeAdapter.read(in); return true;
+                case "Weight": value.Weight = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeAllBansForUserRequestAdapter extends PlayFabModelAdapter<RevokeAllBansForUserRequest> {
+        RevokeAllBansForUserRequestAdapter(Gson gson) {
+        }
+
+        protected RevokeAllBansForUserRequest newInstance() {
+            return new RevokeAllBansForUserRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeAllBansForUserRequest value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeAllBansForUserRequest value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeAllBansForUserResultAdapter extends PlayFabModelAdapter<RevokeAllBansForUserResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        RevokeAllBansForUserResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected RevokeAllBansForUserResult newInstance() {
+            return new RevokeAllBansForUserResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeAllBansForUserResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeAllBansForUserResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeBansRequestAdapter extends PlayFabModelAdapter<RevokeBansRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RevokeBansRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RevokeBansRequest newInstance() {
+            return new RevokeBansRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeBansRequest value) throws IOException {
+            writeField(out, "BanIds", value.BanIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeBansRequest value) throws IOException {
+            switch (name) {
+                case "BanIds": value.BanIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeBansResultAdapter extends PlayFabModelAdapter<RevokeBansResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        RevokeBansResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected RevokeBansResult newInstance() {
+            return new RevokeBansResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeBansResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeBansResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemAdapter extends PlayFabModelAdapter<RevokeInventoryItem> {
+        RevokeInventoryItemAdapter(Gson gson) {
+        }
+
+        protected RevokeInventoryItem newInstance() {
+            return new RevokeInventoryItem();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItem value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItem value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemRequestAdapter extends PlayFabModelAdapter<RevokeInventoryItemRequest> {
+        RevokeInventoryItemRequestAdapter(Gson gson) {
+        }
+
+        protected RevokeInventoryItemRequest newInstance() {
+            return new RevokeInventoryItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItemRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItemRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemsRequestAdapter extends PlayFabModelAdapter<RevokeInventoryItemsRequest> {
+        private final TypeAdapter<ArrayList<RevokeInventoryItem>> revokeInventoryItemListAdapter;
+
+        RevokeInventoryItemsRequestAdapter(Gson gson) {
+            revokeInventoryItemListAdapter = listAdapter(gson, RevokeInventoryItem.class);
+        }
+
+        protected RevokeInventoryItemsRequest newInstance() {
+            return new RevokeInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItemsRequest value) throws IOException {
+            writeField(out, "Items", value.Items, revokeInventoryItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = revokeInventoryItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryItemsResultAdapter extends PlayFabModelAdapter<RevokeInventoryItemsResult> {
+        private final TypeAdapter<ArrayList<RevokeItemError>> revokeItemErrorListAdapter;
+
+        RevokeInventoryItemsResultAdapter(Gson gson) {
+            revokeItemErrorListAdapter = listAdapter(gson, RevokeItemError.class);
+        }
+
+        protected RevokeInventoryItemsResult newInstance() {
+            return new RevokeInventoryItemsResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryItemsResult value) throws IOException {
+            writeField(out, "Errors", value.Errors, revokeItemErrorListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryItemsResult value) throws IOException {
+            switch (name) {
+                case "Errors": value.Errors = revokeItemErrorListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeInventoryResultAdapter extends PlayFabModelAdapter<RevokeInventoryResult> {
+        RevokeInventoryResultAdapter(Gson gson) {
+        }
+
+        protected RevokeInventoryResult newInstance() {
+            return new RevokeInventoryResult();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeInventoryResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeInventoryResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class RevokeItemErrorAdapter extends PlayFabModelAdapter<RevokeItemError> {
+        private final TypeAdapter<GenericErrorCodes> genericErrorCodesAdapter;
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        RevokeItemErrorAdapter(Gson gson) {
+            genericErrorCodesAdapter = gson.getAdapter(GenericErrorCodes.class);
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        protected RevokeItemError newInstance() {
+            return new RevokeItemError();
+        }
+
+        protected void writeFields(JsonWriter out, RevokeItemError value) throws IOException {
+            writeField(out, "Error", value.Error, genericErrorCodesAdapter);
+            writeField(out, "Item", value.Item, revokeInventoryItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RevokeItemError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = genericErrorCodesAdapter.read(in); return true;
+                case "Item": value.Item = revokeInventoryItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SavePushNotificationTemplateRequestAdapter extends PlayFabModelAdapter<SavePushNotificationTemplateRequest> {
+        private final TypeAdapter<Map<String, LocalizedPushNotificationProperties>> localizedPushNotificationPropertiesMapAdapter;
+
+        SavePushNotificationTemplateRequestAdapter(Gson gson) {
+            localizedPushNotificationPropertiesMapAdapter = mapAdapter(gson, LocalizedPushNotificationProperties.class);
+        }
+
+        protected SavePushNotificationTemplateRequest newInstance() {
+            return new SavePushNotificationTemplateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SavePushNotificationTemplateRequest value) throws IOException {
+            writeField(out, "AndroidPayload", value.AndroidPayload);
+            writeField(out, "Id", value.Id);
+            writeField(out, "IOSPayload", value.IOSPayload);
+            writeField(out, "LocalizedPushNotificationTemplates", value.LocalizedPushNotificationTemplates, localizedPushNotificationPropertiesMapAdapter);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, SavePushNotificationTemplateRequest value) throws IOException {
+            switch (name) {
+                case "AndroidPayload": value.AndroidPayload = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "IOSPayload": value.IOSPayload = readString(in); return true;
+                case "LocalizedPushNotificationTemplates": value.LocalizedPushNotificationTemplates = localizedPushNotificationPropertiesMapAdapter.read(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SavePushNotificationTemplateResultAdapter extends PlayFabModelAdapter<SavePushNotificationTemplateResult> {
+        SavePushNotificationTemplateResultAdapter(Gson gson) {
+        }
+
+        protected SavePushNotificationTemplateResult newInstance() {
+            return new SavePushNotificationTemplateResult();
+        }
+
+        protected void writeFields(JsonWriter out, SavePushNotificationTemplateResult value) throws IOException {
+            writeField(out, "PushNotificationTemplateId", value.PushNotificationTemplateId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SavePushNotificationTemplateResult value) throws IOException {
+            switch (name) {
+                case "PushNotificationTemplateId": value.PushNotificationTemplateId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScriptExecutionErrorAdapter extends PlayFabModelAdapter<ScriptExecutionError> {
+        ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        protected ScriptExecutionError newInstance() {
+            return new ScriptExecutionError();
+        }
+
+        protected void writeFields(JsonWriter out, ScriptExecutionError value) throws IOException {
+            writeField(out, "Error", value.Error);
+            writeField(out, "Message", value.Message);
+            writeField(out, "StackTrace", value.StackTrace);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScriptExecutionError value) throws IOException {
+            switch (name) {
+                case "Error": value.Error = readString(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "StackTrace": value.StackTrace = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendCustomAccountRecoveryEmailRequestAdapter extends PlayFabModelAdapter<SendCustomAccountRecoveryEmailRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SendCustomAccountRecoveryEmailRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SendCustomAccountRecoveryEmailRequest newInstance() {
+            return new SendCustomAccountRecoveryEmailRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SendCustomAccountRecoveryEmailRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Email", value.Email);
+            writeField(out, "EmailTemplateId", value.EmailTemplateId);
+            writeField(out, "Username", value.Username);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendCustomAccountRecoveryEmailRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Email": value.Email = readString(in); return true;
+                case "EmailTemplateId": value.EmailTemplateId = readString(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendCustomAccountRecoveryEmailResultAdapter extends PlayFabModelAdapter<SendCustomAccountRecoveryEmailResult> {
+        SendCustomAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        protected SendCustomAccountRecoveryEmailResult newInstance() {
+            return new SendCustomAccountRecoveryEmailResult();
+        }
+
+        protected void writeFields(JsonWriter out, SendCustomAccountRecoveryEmailResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SendCustomAccountRecoveryEmailResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendEmailFromTemplateRequestAdapter extends PlayFabModelAdapter<SendEmailFromTemplateRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SendEmailFromTemplateRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SendEmailFromTemplateRequest newInstance() {
+            return new SendEmailFromTemplateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SendEmailFromTemplateRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EmailTemplateId", value.EmailTemplateId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendEmailFromTemplateRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EmailTemplateId": value.EmailTemplateId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendEmailFromTemplateResultAdapter extends PlayFabModelAdapter<SendEmailFromTemplateResult> {
+        SendEmailFromTemplateResultAdapter(Gson gson) {
+        }
+
+        protected SendEmailFromTemplateResult newInstance() {
+            return new SendEmailFromTemplateResult();
+        }
+
+        protected void writeFields(JsonWriter out, SendEmailFromTemplateResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SendEmailFromTemplateResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendPushNotificationFromTemplateRequestAdapter extends PlayFabModelAdapter<SendPushNotificationFromTemplateRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SendPushNotificationFromTemplateRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SendPushNotificationFromTemplateRequest newInstance() {
+            return new SendPushNotificationFromTemplateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SendPushNotificationFromTemplateRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PushNotificationTemplateId", value.PushNotificationTemplateId);
+            writeField(out, "Recipient", value.Recipient);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendPushNotificationFromTemplateRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PushNotificationTemplateId": value.PushNotificationTemplateId = readString(in); return true;
+                case "Recipient": value.Recipient = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendPushNotificationRequestAdapter extends PlayFabModelAdapter<SendPushNotificationRequest> {
+        private final TypeAdapter<ArrayList<AdvancedPushPlatformMsg>> advancedPushPlatformMsgListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<PushNotificationPackage> pushNotificationPackageAdapter;
+        private final TypeAdapter<ArrayList<PushNotificationPlatform>> pushNotificationPlatformListAdapter;
+
+        SendPushNotificationRequestAdapter(Gson gson) {
+            advancedPushPlatformMsgListAdapter = listAdapter(gson, AdvancedPushPlatformMsg.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            pushNotificationPackageAdapter = gson.getAdapter(PushNotificationPackage.class);
+            pushNotificationPlatformListAdapter = listAdapter(gson, PushNotificationPlatform.class);
+        }
+
+        protected SendPushNotificationRequest newInstance() {
+            return new SendPushNotificationRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SendPushNotificationRequest value) throws IOException {
+            writeField(out, "AdvancedPlatformDelivery", value.AdvancedPlatformDelivery, advancedPushPlatformMsgListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Message", value.Message);
+            writeField(out, "Package", value.Package, pushNotificationPackageAdapter);
+            writeField(out, "Recipient", value.Recipient);
+            writeField(out, "Subject", value.Subject);
+            writeField(out, "TargetPlatforms", value.TargetPlatforms, pushNotificationPlatformListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SendPushNotificationRequest value) throws IOException {
+            switch (name) {
+                case "AdvancedPlatformDelivery": value.AdvancedPlatformDelivery = advancedPushPlatformMsgListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Message": value.Message = readString(in); return true;
+                case "Package": value.Package = pushNotificationPackageAdapter.read(in); return true;
+                case "Recipient": value.Recipient = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                case "TargetPlatforms": value.TargetPlatforms = pushNotificationPlatformListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SendPushNotificationResultAdapter extends PlayFabModelAdapter<SendPushNotificationResult> {
+        SendPushNotificationResultAdapter(Gson gson) {
+        }
+
+        protected SendPushNotificationResult newInstance() {
+            return new SendPushNotificationResult();
+        }
+
+        protected void writeFields(JsonWriter out, SendPushNotificationResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SendPushNotificationResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ServerCustomIDPlayFabIDPairAdapter extends PlayFabModelAdapter<ServerCustomIDPlayFabIDPair> {
+        ServerCustomIDPlayFabIDPairAdapter(Gson gson) {
+        }
+
+        protected ServerCustomIDPlayFabIDPair newInstance() {
+            return new ServerCustomIDPlayFabIDPair();
+        }
+
+        protected void writeFields(JsonWriter out, ServerCustomIDPlayFabIDPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ServerCustomId", value.ServerCustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ServerCustomIDPlayFabIDPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ServerCustomId": value.ServerCustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ServerLoginResultAdapter extends PlayFabModelAdapter<ServerLoginResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+        private final TypeAdapter<TreatmentAssignment> treatmentAssignmentAdapter;
+
+        ServerLoginResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+            treatmentAssignmentAdapter = gson.getAdapter(TreatmentAssignment.class);
+        }
+
+        protected ServerLoginResult newInstance() {
+            return new ServerLoginResult();
+        }
+
+        protected void writeFields(JsonWriter out, ServerLoginResult value) throws IOException {
+            writeField(out, "EntityToken", value.EntityToken, entityTokenResponseAdapter);
+            writeField(out, "InfoResultPayload", value.InfoResultPayload, getPlayerCombinedInfoResultPayloadAdapter);
+            writeField(out, "LastLoginTime", value.LastLoginTime, dateAdapter);
+            writeField(out, "NewlyCreated", value.NewlyCreated);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SessionTicket", value.SessionTicket);
+            writeField(out, "SettingsForUser", value.SettingsForUser, userSettingsAdapter);
+            writeField(out, "TreatmentAssignment", value.TreatmentAssignment, treatmentAssignmentAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ServerLoginResult value) throws IOException {
+            switch (name) {
+                case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); return true;
+                case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); return true;
+                case "LastLoginTime": value.LastLoginTime = dateAdapter.read(in); return true;
+                case "NewlyCreated": value.NewlyCreated = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SessionTicket": value.SessionTicket = readString(in); return true;
+                case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); return true;
+                case "TreatmentAssignment": value.TreatmentAssignment = treatmentAssignmentAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetFriendTagsRequestAdapter extends PlayFabModelAdapter<SetFriendTagsRequest> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        SetFriendTagsRequestAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected SetFriendTagsRequest newInstance() {
+            return new SetFriendTagsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetFriendTagsRequest value) throws IOException {
+            writeField(out, "FriendPlayFabId", value.FriendPlayFabId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetFriendTagsRequest value) throws IOException {
+            switch (name) {
+                case "FriendPlayFabId": value.FriendPlayFabId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPlayerSecretRequestAdapter extends PlayFabModelAdapter<SetPlayerSecretRequest> {
+        SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        protected SetPlayerSecretRequest newInstance() {
+            return new SetPlayerSecretRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            writeField(out, "PlayerSecret", value.PlayerSecret);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPlayerSecretRequest value) throws IOException {
+            switch (name) {
+                case "PlayerSecret": value.PlayerSecret = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPlayerSecretResultAdapter extends PlayFabModelAdapter<SetPlayerSecretResult> {
+        SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        protected SetPlayerSecretResult newInstance() {
+            return new SetPlayerSecretResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPlayerSecretResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPublisherDataRequestAdapter extends PlayFabModelAdapter<SetPublisherDataRequest> {
+        SetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        protected SetPublisherDataRequest newInstance() {
+            return new SetPublisherDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetPublisherDataRequest value) throws IOException {
+            writeField(out, "Key", value.Key);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPublisherDataRequest value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetPublisherDataResultAdapter extends PlayFabModelAdapter<SetPublisherDataResult> {
+        SetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        protected SetPublisherDataResult newInstance() {
+            return new SetPublisherDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetPublisherDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetPublisherDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTitleDataRequestAdapter extends PlayFabModelAdapter<SetTitleDataRequest> {
+        SetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        protected SetTitleDataRequest newInstance() {
+            return new SetTitleDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetTitleDataRequest value) throws IOException {
+            writeField(out, "Key", value.Key);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTitleDataRequest value) throws IOException {
+            switch (name) {
+                case "Key": value.Key = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTitleDataResultAdapter extends PlayFabModelAdapter<SetTitleDataResult> {
+        SetTitleDataResultAdapter(Gson gson) {
+        }
+
+        protected SetTitleDataResult newInstance() {
+            return new SetTitleDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, SetTitleDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTitleDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SharedGroupDataRecordAdapter extends PlayFabModelAdapter<SharedGroupDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        SharedGroupDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected SharedGroupDataRecord newInstance() {
+            return new SharedGroupDataRecord();
+        }
+
+        protected void writeFields(JsonWriter out, SharedGroupDataRecord value) throws IOException {
+            writeField(out, "LastUpdated", value.LastUpdated, dateAdapter);
+            writeField(out, "LastUpdatedBy", value.LastUpdatedBy);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, SharedGroupDataRecord value) throws IOException {
+            switch (name) {
+                case "LastUpdated": value.LastUpdated = dateAdapter.read(in); return true;
+                case "LastUpdatedBy": value.LastUpdatedBy = readString(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticModelAdapter extends PlayFabModelAdapter<StatisticModel> {
+        StatisticModelAdapter(Gson gson) {
+        }
+
+        protected StatisticModel newInstance() {
+            return new StatisticModel();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticModel value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticModel value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticNameVersionAdapter extends PlayFabModelAdapter<StatisticNameVersion> {
+        StatisticNameVersionAdapter(Gson gson) {
+        }
+
+        protected StatisticNameVersion newInstance() {
+            return new StatisticNameVersion();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticNameVersion value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticNameVersion value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticUpdateAdapter extends PlayFabModelAdapter<StatisticUpdate> {
+        StatisticUpdateAdapter(Gson gson) {
+        }
+
+        protected StatisticUpdate newInstance() {
+            return new StatisticUpdate();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticUpdate value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticUpdate value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StatisticValueAdapter extends PlayFabModelAdapter<StatisticValue> {
+        StatisticValueAdapter(Gson gson) {
+        }
+
+        protected StatisticValue newInstance() {
+            return new StatisticValue();
+        }
+
+        protected void writeFields(JsonWriter out, StatisticValue value) throws IOException {
+            writeField(out, "StatisticName", value.StatisticName);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, StatisticValue value) throws IOException {
+            switch (name) {
+                case "StatisticName": value.StatisticName = readString(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SteamPlayFabIdPairAdapter extends PlayFabModelAdapter<SteamPlayFabIdPair> {
+        SteamPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected SteamPlayFabIdPair newInstance() {
+            return new SteamPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, SteamPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "SteamStringId", value.SteamStringId);
+        }
+
+        protected boolean readField(JsonReader in, String name, SteamPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "SteamStringId": value.SteamStringId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreItemAdapter extends PlayFabModelAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected StoreItem newInstance() {
+            return new StoreItem();
+        }
+
+        protected void writeFields(JsonWriter out, StoreItem value) throws IOException {
+            writeField(out, "CustomData", value.CustomData, objectAdapter);
+            writeField(out, "DisplayPosition", value.DisplayPosition);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "RealCurrencyPrices", value.RealCurrencyPrices, longMapAdapter);
+            writeField(out, "VirtualCurrencyPrices", value.VirtualCurrencyPrices, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreItem value) throws IOException {
+            switch (name) {
+                case "CustomData": value.CustomData = objectAdapter.read(in); return true;
+                case "DisplayPosition": value.DisplayPosition = readLong(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "RealCurrencyPrices": value.RealCurrencyPrices = longMapAdapter.read(in); return true;
+                case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreMarketingModelAdapter extends PlayFabModelAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected StoreMarketingModel newInstance() {
+            return new StoreMarketingModel();
+        }
+
+        protected void writeFields(JsonWriter out, StoreMarketingModel value) throws IOException {
+            writeField(out, "Description", value.Description);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Metadata", value.Metadata, objectAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreMarketingModel value) throws IOException {
+            switch (name) {
+                case "Description": value.Description = readString(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Metadata": value.Metadata = objectAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscriptionModelAdapter extends PlayFabModelAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        protected SubscriptionModel newInstance() {
+            return new SubscriptionModel();
+        }
+
+        protected void writeFields(JsonWriter out, SubscriptionModel value) throws IOException {
+            writeField(out, "Expiration", value.Expiration, dateAdapter);
+            writeField(out, "InitialSubscriptionTime", value.InitialSubscriptionTime, dateAdapter);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "Status", value.Status, subscriptionProviderStatusAdapter);
+            writeField(out, "SubscriptionId", value.SubscriptionId);
+            writeField(out, "SubscriptionItemId", value.SubscriptionItemId);
+            writeField(out, "SubscriptionProvider", value.SubscriptionProvider);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscriptionModel value) throws IOException {
+            switch (name) {
+                case "Expiration": value.Expiration = dateAdapter.read(in); return true;
+                case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); return true;
+                case "SubscriptionId": value.SubscriptionId = readString(in); return true;
+                case "SubscriptionItemId": value.SubscriptionItemId = readString(in); return true;
+                case "SubscriptionProvider": value.SubscriptionProvider = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractCharacterVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<SubtractCharacterVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SubtractCharacterVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SubtractCharacterVirtualCurrencyRequest newInstance() {
+            return new SubtractCharacterVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractCharacterVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractCharacterVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractUserVirtualCurrencyRequestAdapter extends PlayFabModelAdapter<SubtractUserVirtualCurrencyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected SubtractUserVirtualCurrencyRequest newInstance() {
+            return new SubtractUserVirtualCurrencyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TagModelAdapter extends PlayFabModelAdapter<TagModel> {
+        TagModelAdapter(Gson gson) {
+        }
+
+        protected TagModel newInstance() {
+            return new TagModel();
+        }
+
+        protected void writeFields(JsonWriter out, TagModel value) throws IOException {
+            writeField(out, "TagValue", value.TagValue);
+        }
+
+        protected boolean readField(JsonReader in, String name, TagModel value) throws IOException {
+            switch (name) {
+                case "TagValue": value.TagValue = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TitleNewsItemAdapter extends PlayFabModelAdapter<TitleNewsItem> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        TitleNewsItemAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected TitleNewsItem newInstance() {
+            return new TitleNewsItem();
+        }
+
+        protected void writeFields(JsonWriter out, TitleNewsItem value) throws IOException {
+            writeField(out, "Body", value.Body);
+            writeField(out, "NewsId", value.NewsId);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+            writeField(out, "Title", value.Title);
+        }
+
+        protected boolean readField(JsonReader in, String name, TitleNewsItem value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = readString(in); return true;
+                case "NewsId": value.NewsId = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                case "Title": value.Title = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TreatmentAssignmentAdapter extends PlayFabModelAdapter<TreatmentAssignment> {
+        private final TypeAdapter<ArrayList<Variable>> variableListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        TreatmentAssignmentAdapter(Gson gson) {
+            variableListAdapter = listAdapter(gson, Variable.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected TreatmentAssignment newInstance() {
+            return new TreatmentAssignment();
+        }
+
+        protected void writeFields(JsonWriter out, TreatmentAssignment value) throws IOException {
+            writeField(out, "Variables", value.Variables, variableListAdapter);
+            writeField(out, "Variants", value.Variants, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TreatmentAssignment value) throws IOException {
+            switch (name) {
+                case "Variables": value.Variables = variableListAdapter.read(in); return true;
+                case "Variants": value.Variants = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TwitchPlayFabIdPairAdapter extends PlayFabModelAdapter<TwitchPlayFabIdPair> {
+        TwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected TwitchPlayFabIdPair newInstance() {
+            return new TwitchPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, TwitchPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "TwitchId", value.TwitchId);
+        }
+
+        protected boolean readField(JsonReader in, String name, TwitchPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "TwitchId": value.TwitchId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkNintendoServiceAccountRequestAdapter extends PlayFabModelAdapter<UnlinkNintendoServiceAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkNintendoServiceAccountRequest newInstance() {
+            return new UnlinkNintendoServiceAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkNintendoServiceAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkNintendoServiceAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkNintendoSwitchDeviceIdRequestAdapter extends PlayFabModelAdapter<UnlinkNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkNintendoSwitchDeviceIdRequest newInstance() {
+            return new UnlinkNintendoSwitchDeviceIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkNintendoSwitchDeviceIdResultAdapter extends PlayFabModelAdapter<UnlinkNintendoSwitchDeviceIdResult> {
+        UnlinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkNintendoSwitchDeviceIdResult newInstance() {
+            return new UnlinkNintendoSwitchDeviceIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkNintendoSwitchDeviceIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkNintendoSwitchDeviceIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkPSNAccountRequestAdapter extends PlayFabModelAdapter<UnlinkPSNAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkPSNAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkPSNAccountRequest newInstance() {
+            return new UnlinkPSNAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkPSNAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkPSNAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkPSNAccountResultAdapter extends PlayFabModelAdapter<UnlinkPSNAccountResult> {
+        UnlinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkPSNAccountResult newInstance() {
+            return new UnlinkPSNAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkPSNAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkPSNAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkServerCustomIdRequestAdapter extends PlayFabModelAdapter<UnlinkServerCustomIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkServerCustomIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkServerCustomIdRequest newInstance() {
+            return new UnlinkServerCustomIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkServerCustomIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "ServerCustomId", value.ServerCustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkServerCustomIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "ServerCustomId": value.ServerCustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkServerCustomIdResultAdapter extends PlayFabModelAdapter<UnlinkServerCustomIdResult> {
+        UnlinkServerCustomIdResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkServerCustomIdResult newInstance() {
+            return new UnlinkServerCustomIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkServerCustomIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkServerCustomIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkSteamIdRequestAdapter extends PlayFabModelAdapter<UnlinkSteamIdRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkSteamIdRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkSteamIdRequest newInstance() {
+            return new UnlinkSteamIdRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkSteamIdRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkSteamIdRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkSteamIdResultAdapter extends PlayFabModelAdapter<UnlinkSteamIdResult> {
+        UnlinkSteamIdResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkSteamIdResult newInstance() {
+            return new UnlinkSteamIdResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkSteamIdResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkSteamIdResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkXboxAccountRequestAdapter extends PlayFabModelAdapter<UnlinkXboxAccountRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlinkXboxAccountRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlinkXboxAccountRequest newInstance() {
+            return new UnlinkXboxAccountRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkXboxAccountRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkXboxAccountRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlinkXboxAccountResultAdapter extends PlayFabModelAdapter<UnlinkXboxAccountResult> {
+        UnlinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        protected UnlinkXboxAccountResult newInstance() {
+            return new UnlinkXboxAccountResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlinkXboxAccountResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlinkXboxAccountResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlockContainerInstanceRequestAdapter extends PlayFabModelAdapter<UnlockContainerInstanceRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlockContainerInstanceRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlockContainerInstanceRequest newInstance() {
+            return new UnlockContainerInstanceRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlockContainerInstanceRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ContainerItemInstanceId", value.ContainerItemInstanceId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "KeyItemInstanceId", value.KeyItemInstanceId);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlockContainerInstanceRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ContainerItemInstanceId": value.ContainerItemInstanceId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "KeyItemInstanceId": value.KeyItemInstanceId = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlockContainerItemRequestAdapter extends PlayFabModelAdapter<UnlockContainerItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UnlockContainerItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UnlockContainerItemRequest newInstance() {
+            return new UnlockContainerItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UnlockContainerItemRequest value) throws IOException {
+            writeField(out, "CatalogVersion", value.CatalogVersion);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "ContainerItemId", value.ContainerItemId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlockContainerItemRequest value) throws IOException {
+            switch (name) {
+                case "CatalogVersion": value.CatalogVersion = readString(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "ContainerItemId": value.ContainerItemId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UnlockContainerItemResultAdapter extends PlayFabModelAdapter<UnlockContainerItemResult> {
+        private final TypeAdapter<ArrayList<ItemInstance>> itemInstanceListAdapter;
+        private final TypeAdapter<Map<String, Long>> longMapAdapter;
+
+        UnlockContainerItemResultAdapter(Gson gson) {
+            itemInstanceListAdapter = listAdapter(gson, ItemInstance.class);
+            longMapAdapter = mapAdapter(gson, Long.class);
+        }
+
+        protected UnlockContainerItemResult newInstance() {
+            return new UnlockContainerItemResult();
+        }
+
+        protected void writeFields(JsonWriter out, UnlockContainerItemResult value) throws IOException {
+            writeField(out, "GrantedItems", value.GrantedItems, itemInstanceListAdapter);
+            writeField(out, "UnlockedItemInstanceId", value.UnlockedItemInstanceId);
+            writeField(out, "UnlockedWithItemInstanceId", value.UnlockedWithItemInstanceId);
+            writeField(out, "VirtualCurrency", value.VirtualCurrency, longMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UnlockContainerItemResult value) throws IOException {
+            switch (name) {
+                case "GrantedItems": value.GrantedItems = itemInstanceListAdapter.read(in); return true;
+                case "UnlockedItemInstanceId": value.UnlockedItemInstanceId = readString(in); return true;
+                case "UnlockedWithItemInstanceId": value.UnlockedWithItemInstanceId = readString(in); return true;
+                case "VirtualCurrency": value.VirtualCurrency = longMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateAvatarUrlRequestAdapter extends PlayFabModelAdapter<UpdateAvatarUrlRequest> {
+        UpdateAvatarUrlRequestAdapter(Gson gson) {
+        }
+
+        protected UpdateAvatarUrlRequest newInstance() {
+            return new UpdateAvatarUrlRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateAvatarUrlRequest value) throws IOException {
+            writeField(out, "ImageUrl", value.ImageUrl);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateAvatarUrlRequest value) throws IOException {
+            switch (name) {
+                case "ImageUrl": value.ImageUrl = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBanRequestAdapter extends PlayFabModelAdapter<UpdateBanRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        UpdateBanRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected UpdateBanRequest newInstance() {
+            return new UpdateBanRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBanRequest value) throws IOException {
+            writeField(out, "Active", value.Active);
+            writeField(out, "BanId", value.BanId);
+            writeField(out, "Expires", value.Expires, dateAdapter);
+            writeField(out, "IPAddress", value.IPAddress);
+            writeField(out, "Permanent", value.Permanent);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBanRequest value) throws IOException {
+            switch (name) {
+                case "Active": value.Active = readBoolean(in); return true;
+                case "BanId": value.BanId = readString(in); return true;
+                case "Expires": value.Expires = dateAdapter.read(in); return true;
+                case "IPAddress": value.IPAddress = readString(in); return true;
+                case "Permanent": value.Permanent = readBoolean(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBansRequestAdapter extends PlayFabModelAdapter<UpdateBansRequest> {
+        private final TypeAdapter<ArrayList<UpdateBanRequest>> updateBanRequestListAdapter;
+
+        UpdateBansRequestAdapter(Gson gson) {
+            updateBanRequestListAdapter = listAdapter(gson, UpdateBanRequest.class);
+        }
+
+        protected UpdateBansRequest newInstance() {
+            return new UpdateBansRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBansRequest value) throws IOException {
+            writeField(out, "Bans", value.Bans, updateBanRequestListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBansRequest value) throws IOException {
+            switch (name) {
+                case "Bans": value.Bans = updateBanRequestListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateBansResultAdapter extends PlayFabModelAdapter<UpdateBansResult> {
+        private final TypeAdapter<ArrayList<BanInfo>> banInfoListAdapter;
+
+        UpdateBansResultAdapter(Gson gson) {
+            banInfoListAdapter = listAdapter(gson, BanInfo.class);
+        }
+
+        protected UpdateBansResult newInstance() {
+            return new UpdateBansResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateBansResult value) throws IOException {
+            writeField(out, "BanData", value.BanData, banInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateBansResult value) throws IOException {
+            switch (name) {
+                case "BanData": value.BanData = banInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterDataRequestAdapter extends PlayFabModelAdapter<UpdateCharacterDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateCharacterDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateCharacterDataRequest newInstance() {
+            return new UpdateCharacterDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterDataRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterDataRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterDataResultAdapter extends PlayFabModelAdapter<UpdateCharacterDataResult> {
+        UpdateCharacterDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateCharacterDataResult newInstance() {
+            return new UpdateCharacterDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterDataResult value) throws IOException {
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterDataResult value) throws IOException {
+            switch (name) {
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterStatisticsRequestAdapter extends PlayFabModelAdapter<UpdateCharacterStatisticsRequest> {
+        private final TypeAdapter<Map<String, Integer>> integerMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateCharacterStatisticsRequestAdapter(Gson gson) {
+            integerMapAdapter = mapAdapter(gson, Integer.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateCharacterStatisticsRequest newInstance() {
+            return new UpdateCharacterStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterStatisticsRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CharacterStatistics", value.CharacterStatistics, integerMapAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CharacterStatistics": value.CharacterStatistics = integerMapAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCharacterStatisticsResultAdapter extends PlayFabModelAdapter<UpdateCharacterStatisticsResult> {
+        UpdateCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        protected UpdateCharacterStatisticsResult newInstance() {
+            return new UpdateCharacterStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCharacterStatisticsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCharacterStatisticsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerStatisticsRequestAdapter extends PlayFabModelAdapter<UpdatePlayerStatisticsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<StatisticUpdate>> statisticUpdateListAdapter;
+
+        UpdatePlayerStatisticsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            statisticUpdateListAdapter = listAdapter(gson, StatisticUpdate.class);
+        }
+
+        protected UpdatePlayerStatisticsRequest newInstance() {
+            return new UpdatePlayerStatisticsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerStatisticsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "ForceUpdate", value.ForceUpdate);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Statistics", value.Statistics, statisticUpdateListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerStatisticsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "ForceUpdate": value.ForceUpdate = readBoolean(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Statistics": value.Statistics = statisticUpdateListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdatePlayerStatisticsResultAdapter extends PlayFabModelAdapter<UpdatePlayerStatisticsResult> {
+        UpdatePlayerStatisticsResultAdapter(Gson gson) {
+        }
+
+        protected UpdatePlayerStatisticsResult newInstance() {
+            return new UpdatePlayerStatisticsResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdatePlayerStatisticsResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdatePlayerStatisticsResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateSharedGroupDataRequestAdapter extends PlayFabModelAdapter<UpdateSharedGroupDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateSharedGroupDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateSharedGroupDataRequest newInstance() {
+            return new UpdateSharedGroupDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateSharedGroupDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "SharedGroupId", value.SharedGroupId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateSharedGroupDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "SharedGroupId": value.SharedGroupId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateSharedGroupDataResultAdapter extends PlayFabModelAdapter<UpdateSharedGroupDataResult> {
+        UpdateSharedGroupDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateSharedGroupDataResult newInstance() {
+            return new UpdateSharedGroupDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateSharedGroupDataResult value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateSharedGroupDataResult value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserDataRequestAdapter extends PlayFabModelAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UpdateUserDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UpdateUserDataRequest newInstance() {
+            return new UpdateUserDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserDataResultAdapter extends PlayFabModelAdapter<UpdateUserDataResult> {
+        UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        protected UpdateUserDataResult newInstance() {
+            return new UpdateUserDataResult();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            writeField(out, "DataVersion", value.DataVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserDataResult value) throws IOException {
+            switch (name) {
+                case "DataVersion": value.DataVersion = readLong(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserInternalDataRequestAdapter extends PlayFabModelAdapter<UpdateUserInternalDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        UpdateUserInternalDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected UpdateUserInternalDataRequest newInstance() {
+            return new UpdateUserInternalDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserInternalDataRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserInternalDataRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateUserInventoryItemDataRequestAdapter extends PlayFabModelAdapter<UpdateUserInventoryItemDataRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        UpdateUserInventoryItemDataRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected UpdateUserInventoryItemDataRequest newInstance() {
+            return new UpdateUserInventoryItemDataRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateUserInventoryItemDataRequest value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Data", value.Data, stringMapAdapter);
+            writeField(out, "ItemInstanceId", value.ItemInstanceId);
+            writeField(out, "KeysToRemove", value.KeysToRemove, stringListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateUserInventoryItemDataRequest value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Data": value.Data = stringMapAdapter.read(in); return true;
+                case "ItemInstanceId": value.ItemInstanceId = readString(in); return true;
+                case "KeysToRemove": value.KeysToRemove = stringListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAccountInfoAdapter extends PlayFabModelAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<UserAppleIdInfo> userAppleIdInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserGooglePlayGamesInfo> userGooglePlayGamesInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchAccountIdInfo> userNintendoSwitchAccountIdInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<ArrayList<UserOpenIdInfo>> userOpenIdInfoListAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserServerCustomIdInfo> userServerCustomIdInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            userAppleIdInfoAdapter = gson.getAdapter(UserAppleIdInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userGooglePlayGamesInfoAdapter = gson.getAdapter(UserGooglePlayGamesInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchAccountIdInfoAdapter = gson.getAdapter(UserNintendoSwitchAccountIdInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoListAdapter = listAdapter(gson, UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userServerCustomIdInfoAdapter = gson.getAdapter(UserServerCustomIdInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        protected UserAccountInfo newInstance() {
+            return new UserAccountInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAccountInfo value) throws IOException {
+            writeField(out, "AndroidDeviceInfo", value.AndroidDeviceInfo, userAndroidDeviceInfoAdapter);
+            writeField(out, "AppleAccountInfo", value.AppleAccountInfo, userAppleIdInfoAdapter);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "CustomIdInfo", value.CustomIdInfo, userCustomIdInfoAdapter);
+            writeField(out, "FacebookInfo", value.FacebookInfo, userFacebookInfoAdapter);
+            writeField(out, "FacebookInstantGamesIdInfo", value.FacebookInstantGamesIdInfo, userFacebookInstantGamesIdInfoAdapter);
+            writeField(out, "GameCenterInfo", value.GameCenterInfo, userGameCenterInfoAdapter);
+            writeField(out, "GoogleInfo", value.GoogleInfo, userGoogleInfoAdapter);
+            writeField(out, "GooglePlayGamesInfo", value.GooglePlayGamesInfo, userGooglePlayGamesInfoAdapter);
+            writeField(out, "IosDeviceInfo", value.IosDeviceInfo, userIosDeviceInfoAdapter);
+            writeField(out, "KongregateInfo", value.KongregateInfo, userKongregateInfoAdapter);
+            writeField(out, "NintendoSwitchAccountInfo", value.NintendoSwitchAccountInfo, userNintendoSwitchAccountIdInfoAdapter);
+            writeField(out, "NintendoSwitchDeviceIdInfo", value.NintendoSwitchDeviceIdInfo, userNintendoSwitchDeviceIdInfoAdapter);
+            writeField(out, "OpenIdInfo", value.OpenIdInfo, userOpenIdInfoListAdapter);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "PrivateInfo", value.PrivateInfo, userPrivateAccountInfoAdapter);
+            writeField(out, "PsnInfo", value.PsnInfo, userPsnInfoAdapter);
+            writeField(out, "ServerCustomIdInfo", value.ServerCustomIdInfo, userServerCustomIdInfoAdapter);
+            writeField(out, "SteamInfo", value.SteamInfo, userSteamInfoAdapter);
+            writeField(out, "TitleInfo", value.TitleInfo, userTitleInfoAdapter);
+            writeField(out, "TwitchInfo", value.TwitchInfo, userTwitchInfoAdapter);
+            writeField(out, "Username", value.Username);
+            writeField(out, "XboxInfo", value.XboxInfo, userXboxInfoAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAccountInfo value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); return true;
+                case "AppleAccountInfo": value.AppleAccountInfo = userAppleIdInfoAdapter.read(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); return true;
+                case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); return true;
+                case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); return true;
+                case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); return true;
+                case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); return true;
+                case "GooglePlayGamesInfo": value.GooglePlayGamesInfo = userGooglePlayGamesInfoAdapter.read(in); return true;
+                case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); return true;
+                case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); return true;
+                case "NintendoSwitchAccountInfo": value.NintendoSwitchAccountInfo = userNintendoSwitchAccountIdInfoAdapter.read(in); return true;
+                case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); return true;
+                case "OpenIdInfo": value.OpenIdInfo = userOpenIdInfoListAdapter.read(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); return true;
+                case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); return true;
+                case "ServerCustomIdInfo": value.ServerCustomIdInfo = userServerCustomIdInfoAdapter.read(in); return true;
+                case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); return true;
+                case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); return true;
+                case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); return true;
+                case "Username": value.Username = readString(in); return true;
+                case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAndroidDeviceInfoAdapter extends PlayFabModelAdapter<UserAndroidDeviceInfo> {
+        UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        protected UserAndroidDeviceInfo newInstance() {
+            return new UserAndroidDeviceInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            writeField(out, "AndroidDeviceId", value.AndroidDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAndroidDeviceInfo value) throws IOException {
+            switch (name) {
+                case "AndroidDeviceId": value.AndroidDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserAppleIdInfoAdapter extends PlayFabModelAdapter<UserAppleIdInfo> {
+        UserAppleIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserAppleIdInfo newInstance() {
+            return new UserAppleIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserAppleIdInfo value) throws IOException {
+            writeField(out, "AppleSubjectId", value.AppleSubjectId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserAppleIdInfo value) throws IOException {
+            switch (name) {
+                case "AppleSubjectId": value.AppleSubjectId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserCustomIdInfoAdapter extends PlayFabModelAdapter<UserCustomIdInfo> {
+        UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserCustomIdInfo newInstance() {
+            return new UserCustomIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserCustomIdInfo value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserDataRecordAdapter extends PlayFabModelAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        protected UserDataRecord newInstance() {
+            return new UserDataRecord();
+        }
+
+        protected void writeFields(JsonWriter out, UserDataRecord value) throws IOException {
+            writeField(out, "LastUpdated", value.LastUpdated, dateAdapter);
+            writeField(out, "Permission", value.Permission, userDataPermissionAdapter);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserDataRecord value) throws IOException {
+            switch (name) {
+                case "LastUpdated": value.LastUpdated = dateAdapter.read(in); return true;
+                case "Permission": value.Permission = userDataPermissionAdapter.read(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserFacebookInfoAdapter extends PlayFabModelAdapter<UserFacebookInfo> {
+        UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        protected UserFacebookInfo newInstance() {
+            return new UserFacebookInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserFacebookInfo value) throws IOException {
+            writeField(out, "FacebookId", value.FacebookId);
+            writeField(out, "FullName", value.FullName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserFacebookInfo value) throws IOException {
+            switch (name) {
+                case "FacebookId": value.FacebookId = readString(in); return true;
+                case "FullName": value.FullName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserFacebookInstantGamesIdInfoAdapter extends PlayFabModelAdapter<UserFacebookInstantGamesIdInfo> {
+        UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserFacebookInstantGamesIdInfo newInstance() {
+            return new UserFacebookInstantGamesIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            writeField(out, "FacebookInstantGamesId", value.FacebookInstantGamesId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserFacebookInstantGamesIdInfo value) throws IOException {
+            switch (name) {
+                case "FacebookInstantGamesId": value.FacebookInstantGamesId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGameCenterInfoAdapter extends PlayFabModelAdapter<UserGameCenterInfo> {
+        UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        protected UserGameCenterInfo newInstance() {
+            return new UserGameCenterInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            writeField(out, "GameCenterId", value.GameCenterId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGameCenterInfo value) throws IOException {
+            switch (name) {
+                case "GameCenterId": value.GameCenterId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGoogleInfoAdapter extends PlayFabModelAdapter<UserGoogleInfo> {
+        UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        protected UserGoogleInfo newInstance() {
+            return new UserGoogleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGoogleInfo value) throws IOException {
+            writeField(out, "GoogleEmail", value.GoogleEmail);
+            writeField(out, "GoogleGender", value.GoogleGender);
+            writeField(out, "GoogleId", value.GoogleId);
+            writeField(out, "GoogleLocale", value.GoogleLocale);
+            writeField(out, "GoogleName", value.GoogleName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGoogleInfo value) throws IOException {
+            switch (name) {
+                case "GoogleEmail": value.GoogleEmail = readString(in); return true;
+                case "GoogleGender": value.GoogleGender = readString(in); return true;
+                case "GoogleId": value.GoogleId = readString(in); return true;
+                case "GoogleLocale": value.GoogleLocale = readString(in); return true;
+                case "GoogleName": value.GoogleName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGooglePlayGamesInfoAdapter extends PlayFabModelAdapter<UserGooglePlayGamesInfo> {
+        UserGooglePlayGamesInfoAdapter(Gson gson) {
+        }
+
+        protected UserGooglePlayGamesInfo newInstance() {
+            return new UserGooglePlayGamesInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserGooglePlayGamesInfo value) throws IOException {
+            writeField(out, "GooglePlayGamesPlayerAvatarImageUrl", value.GooglePlayGamesPlayerAvatarImageUrl);
+            writeField(out, "GooglePlayGamesPlayerDisplayName", value.GooglePlayGamesPlayerDisplayName);
+            writeField(out, "GooglePlayGamesPlayerId", value.GooglePlayGamesPlayerId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGooglePlayGamesInfo value) throws IOException {
+            switch (name) {
+                case "GooglePlayGamesPlayerAvatarImageUrl": value.GooglePlayGamesPlayerAvatarImageUrl = readString(in); return true;
+                case "GooglePlayGamesPlayerDisplayName": value.GooglePlayGamesPlayerDisplayName = readString(in); return true;
+                case "GooglePlayGamesPlayerId": value.GooglePlayGamesPlayerId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserIosDeviceInfoAdapter extends PlayFabModelAdapter<UserIosDeviceInfo> {
+        UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        protected UserIosDeviceInfo newInstance() {
+            return new UserIosDeviceInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            writeField(out, "IosDeviceId", value.IosDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserIosDeviceInfo value) throws IOException {
+            switch (name) {
+                case "IosDeviceId": value.IosDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserKongregateInfoAdapter extends PlayFabModelAdapter<UserKongregateInfo> {
+        UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        protected UserKongregateInfo newInstance() {
+            return new UserKongregateInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserKongregateInfo value) throws IOException {
+            writeField(out, "KongregateId", value.KongregateId);
+            writeField(out, "KongregateName", value.KongregateName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserKongregateInfo value) throws IOException {
+            switch (name) {
+                case "KongregateId": value.KongregateId = readString(in); return true;
+                case "KongregateName": value.KongregateName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserNintendoSwitchAccountIdInfoAdapter extends PlayFabModelAdapter<UserNintendoSwitchAccountIdInfo> {
+        UserNintendoSwitchAccountIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserNintendoSwitchAccountIdInfo newInstance() {
+            return new UserNintendoSwitchAccountIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            writeField(out, "NintendoSwitchAccountSubjectId", value.NintendoSwitchAccountSubjectId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchAccountSubjectId": value.NintendoSwitchAccountSubjectId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserNintendoSwitchDeviceIdInfoAdapter extends PlayFabModelAdapter<UserNintendoSwitchDeviceIdInfo> {
+        UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserNintendoSwitchDeviceIdInfo newInstance() {
+            return new UserNintendoSwitchDeviceIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            writeField(out, "NintendoSwitchDeviceId", value.NintendoSwitchDeviceId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            switch (name) {
+                case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserOpenIdInfoAdapter extends PlayFabModelAdapter<UserOpenIdInfo> {
+        UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserOpenIdInfo newInstance() {
+            return new UserOpenIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            writeField(out, "ConnectionId", value.ConnectionId);
+            writeField(out, "Issuer", value.Issuer);
+            writeField(out, "Subject", value.Subject);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserOpenIdInfo value) throws IOException {
+            switch (name) {
+                case "ConnectionId": value.ConnectionId = readString(in); return true;
+                case "Issuer": value.Issuer = readString(in); return true;
+                case "Subject": value.Subject = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserPrivateAccountInfoAdapter extends PlayFabModelAdapter<UserPrivateAccountInfo> {
+        UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        protected UserPrivateAccountInfo newInstance() {
+            return new UserPrivateAccountInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            writeField(out, "Email", value.Email);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserPrivateAccountInfo value) throws IOException {
+            switch (name) {
+                case "Email": value.Email = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserPsnInfoAdapter extends PlayFabModelAdapter<UserPsnInfo> {
+        UserPsnInfoAdapter(Gson gson) {
+        }
+
+        protected UserPsnInfo newInstance() {
+            return new UserPsnInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserPsnInfo value) throws IOException {
+            writeField(out, "PsnAccountId", value.PsnAccountId);
+            writeField(out, "PsnOnlineId", value.PsnOnlineId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserPsnInfo value) throws IOException {
+            switch (name) {
+                case "PsnAccountId": value.PsnAccountId = readString(in); return true;
+                case "PsnOnlineId": value.PsnOnlineId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserServerCustomIdInfoAdapter extends PlayFabModelAdapter<UserServerCustomIdInfo> {
+        UserServerCustomIdInfoAdapter(Gson gson) {
+        }
+
+        protected UserServerCustomIdInfo newInstance() {
+            return new UserServerCustomIdInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserServerCustomIdInfo value) throws IOException {
+            writeField(out, "CustomId", value.CustomId);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserServerCustomIdInfo value) throws IOException {
+            switch (name) {
+                case "CustomId": value.CustomId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserSettingsAdapter extends PlayFabModelAdapter<UserSettings> {
+        UserSettingsAdapter(Gson gson) {
+        }
+
+        protected UserSettings newInstance() {
+            return new UserSettings();
+        }
+
+        protected void writeFields(JsonWriter out, UserSettings value) throws IOException {
+            writeField(out, "GatherDeviceInfo", value.GatherDeviceInfo);
+            writeField(out, "GatherFocusInfo", value.GatherFocusInfo);
+            writeField(out, "NeedsAttribution", value.NeedsAttribution);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserSettings value) throws IOException {
+            switch (name) {
+                case "GatherDeviceInfo": value.GatherDeviceInfo = readBoolean(in); return true;
+                case "GatherFocusInfo": value.GatherFocusInfo = readBoolean(in); return true;
+                case "NeedsAttribution": value.NeedsAttribution = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserSteamInfoAdapter extends PlayFabModelAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        protected UserSteamInfo newInstance() {
+            return new UserSteamInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserSteamInfo value) throws IOException {
+            writeField(out, "SteamActivationStatus", value.SteamActivationStatus, titleActivationStatusAdapter);
+            writeField(out, "SteamCountry", value.SteamCountry);
+            writeField(out, "SteamCurrency", value.SteamCurrency, currencyAdapter);
+            writeField(out, "SteamId", value.SteamId);
+            writeField(out, "SteamName", value.SteamName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserSteamInfo value) throws IOException {
+            switch (name) {
+                case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); return true;
+                case "SteamCountry": value.SteamCountry = readString(in); return true;
+                case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); return true;
+                case "SteamId": value.SteamId = readString(in); return true;
+                case "SteamName": value.SteamName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserTitleInfoAdapter extends PlayFabModelAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected UserTitleInfo newInstance() {
+            return new UserTitleInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserTitleInfo value) throws IOException {
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "FirstLogin", value.FirstLogin, dateAdapter);
+            writeField(out, "isBanned", value.isBanned);
+            writeField(out, "LastLogin", value.LastLogin, dateAdapter);
+            writeField(out, "Origination", value.Origination, userOriginationAdapter);
+            writeField(out, "TitlePlayerAccount", value.TitlePlayerAccount, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserTitleInfo value) throws IOException {
+            switch (name) {
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "FirstLogin": value.FirstLogin = dateAdapter.read(in); return true;
+                case "isBanned": value.isBanned = readBoolean(in); return true;
+                case "LastLogin": value.LastLogin = dateAdapter.read(in); return true;
+                case "Origination": value.Origination = userOriginationAdapter.read(in); return true;
+                case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserTwitchInfoAdapter extends PlayFabModelAdapter<UserTwitchInfo> {
+        UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        protected UserTwitchInfo newInstance() {
+            return new UserTwitchInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserTwitchInfo value) throws IOException {
+            writeField(out, "TwitchId", value.TwitchId);
+            writeField(out, "TwitchUserName", value.TwitchUserName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserTwitchInfo value) throws IOException {
+            switch (name) {
+                case "TwitchId": value.TwitchId = readString(in); return true;
+                case "TwitchUserName": value.TwitchUserName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserXboxInfoAdapter extends PlayFabModelAdapter<UserXboxInfo> {
+        UserXboxInfoAdapter(Gson gson) {
+        }
+
+        protected UserXboxInfo newInstance() {
+            return new UserXboxInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UserXboxInfo value) throws IOException {
+            writeField(out, "XboxUserId", value.XboxUserId);
+            writeField(out, "XboxUserSandbox", value.XboxUserSandbox);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserXboxInfo value) throws IOException {
+            switch (name) {
+                case "XboxUserId": value.XboxUserId = readString(in); return true;
+                case "XboxUserSandbox": value.XboxUserSandbox = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ValueToDateModelAdapter extends PlayFabModelAdapter<ValueToDateModel> {
+        ValueToDateModelAdapter(Gson gson) {
+        }
+
+        protected ValueToDateModel newInstance() {
+            return new ValueToDateModel();
+        }
+
+        protected void writeFields(JsonWriter out, ValueToDateModel value) throws IOException {
+            writeField(out, "Currency", value.Currency);
+            writeField(out, "TotalValue", value.TotalValue);
+            writeField(out, "TotalValueAsDecimal", value.TotalValueAsDecimal);
+        }
+
+        protected boolean readField(JsonReader in, String name, ValueToDateModel value) throws IOException {
+            switch (name) {
+                case "Currency": value.Currency = readString(in); return true;
+                case "TotalValue": value.TotalValue = readLong(in); return true;
+                case "TotalValueAsDecimal": value.TotalValueAsDecimal = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VariableAdapter extends PlayFabModelAdapter<Variable> {
+        VariableAdapter(Gson gson) {
+        }
+
+        protected Variable newInstance() {
+            return new Variable();
+        }
+
+        protected void writeFields(JsonWriter out, Variable value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, Variable value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class VirtualCurrencyRechargeTimeAdapter extends PlayFabModelAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected VirtualCurrencyRechargeTime newInstance() {
+            return new VirtualCurrencyRechargeTime();
+        }
+
+        protected void writeFields(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            writeField(out, "RechargeMax", value.RechargeMax);
+            writeField(out, "RechargeTime", value.RechargeTime, dateAdapter);
+            writeField(out, "SecondsToRecharge", value.SecondsToRecharge);
+        }
+
+        protected boolean readField(JsonReader in, String name, VirtualCurrencyRechargeTime value) throws IOException {
+            switch (name) {
+                case "RechargeMax": value.RechargeMax = readInteger(in); return true;
+                case "RechargeTime": value.RechargeTime = dateAdapter.read(in); return true;
+                case "SecondsToRecharge": value.SecondsToRecharge = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteEventResponseAdapter extends PlayFabModelAdapter<WriteEventResponse> {
+        WriteEventResponseAdapter(Gson gson) {
+        }
+
+        protected WriteEventResponse newInstance() {
+            return new WriteEventResponse();
+        }
+
+        protected void writeFields(JsonWriter out, WriteEventResponse value) throws IOException {
+            writeField(out, "EventId", value.EventId);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteEventResponse value) throws IOException {
+            switch (name) {
+                case "EventId": value.EventId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteServerCharacterEventRequestAdapter extends PlayFabModelAdapter<WriteServerCharacterEventRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteServerCharacterEventRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected WriteServerCharacterEventRequest newInstance() {
+            return new WriteServerCharacterEventRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteServerCharacterEventRequest value) throws IOException {
+            writeField(out, "Body", value.Body, objectMapAdapter);
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteServerCharacterEventRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = objectMapAdapter.read(in); return true;
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteServerPlayerEventRequestAdapter extends PlayFabModelAdapter<WriteServerPlayerEventRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteServerPlayerEventRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected WriteServerPlayerEventRequest newInstance() {
+            return new WriteServerPlayerEventRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteServerPlayerEventRequest value) throws IOException {
+            writeField(out, "Body", value.Body, objectMapAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteServerPlayerEventRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = objectMapAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteTitleEventRequestAdapter extends PlayFabModelAdapter<WriteTitleEventRequest> {
+        private final TypeAdapter<Map<String, Object>> objectMapAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        WriteTitleEventRequestAdapter(Gson gson) {
+            objectMapAdapter = mapAdapter(gson, Object.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected WriteTitleEventRequest newInstance() {
+            return new WriteTitleEventRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteTitleEventRequest value) throws IOException {
+            writeField(out, "Body", value.Body, objectMapAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "EventName", value.EventName);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteTitleEventRequest value) throws IOException {
+            switch (name) {
+                case "Body": value.Body = objectMapAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "EventName": value.EventName = readString(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class XboxLiveAccountPlayFabIdPairAdapter extends PlayFabModelAdapter<XboxLiveAccountPlayFabIdPair> {
+        XboxLiveAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        protected XboxLiveAccountPlayFabIdPair newInstance() {
+            return new XboxLiveAccountPlayFabIdPair();
+        }
+
+        protected void writeFields(JsonWriter out, XboxLiveAccountPlayFabIdPair value) throws IOException {
+            writeField(out, "PlayFabId", value.PlayFabId);
+            writeField(out, "XboxLiveAccountId", value.XboxLiveAccountId);
+        }
+
+        protected boolean readField(JsonReader in, String name, XboxLiveAccountPlayFabIdPair value) throws IOException {
+            switch (name) {
+                case "PlayFabId": value.PlayFabId = readString(in); return true;
+                case "XboxLiveAccountId": value.XboxLiveAccountId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.util.concurrent.*;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+
+/**
+ * A codec that drives the generated model adapters directly with JsonReader/JsonWriter, skipping Gson's per-call
+ * setup. Requests are written into a per-thread buffer instead of a synchronized StringWriter, without HTML escaping
+ * of &lt;, &gt;, &amp;, = and ', which the PlayFab service does not need. Select it with -Dcom.playfab.jsonCodec=streaming.
+ */
+public class PlayFabStreamingJsonCodec implements PlayFabJsonCodec {
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024; // Larger buffers are released after use rather than kept per thread
+
+    private final ConcurrentMap<Class<?>, TypeAdapter<?>> adapters = new ConcurrentHashMap<Class<?>, TypeAdapter<?>>();
+    private final ThreadLocal<BufferWriter> buffers = new ThreadLocal<BufferWriter>() {
+        @Override
+        protected BufferWriter initialValue() {
+            return new BufferWriter();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public String toJson(Object value) {
+        if (value == null)
+            return "null";
+
+        BufferWriter buffer = buffers.get();
+        buffer.builder.setLength(0);
+        try {
+            JsonWriter out = new JsonWriter(buffer);
+            out.setSerializeNulls(false);
+            out.setLenient(true);
+            ((TypeAdapter<Object>) adapter(value.getClass())).write(out, value);
+            out.flush();
+            return buffer.builder.toString();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        } finally {
+            if (buffer.builder.capacity() > MAX_RETAINED_BUFFER)
+                buffers.remove();
+        }
+    }
+
+    public <T> T fromJson(String json, Class<T> type) {
+        try {
+            return adapter(type).read(reader(json));
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public <T> PlayFabJsonSuccess<T> fromSuccessJson(String json, Class<T> resultType) throws IOException {
+        return PlayFabJson.successAdapter(resultType).read(reader(json));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypeAdapter<T> adapter(Class<T> type) {
+        TypeAdapter<?> adapter = adapters.get(type);
+        if (adapter == null) {
+            adapter = PlayFabJson.gson.getAdapter(type);
+            TypeAdapter<?> existing = adapters.putIfAbsent(type, adapter);
+            if (existing != null)
+                adapter = existing;
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    private static JsonReader reader(String json) {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /** An unsynchronized Writer over a reusable StringBuilder. */
+    private static final class BufferWriter extends Writer {
+        final StringBuilder builder = new StringBuilder(1024);
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            builder.append(str, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            builder.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
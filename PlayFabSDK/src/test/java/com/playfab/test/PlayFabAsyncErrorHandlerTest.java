@@ -0,0 +1,180 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabAsyncErrorHandler;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabHTTP;
+
+public class PlayFabAsyncErrorHandlerTest
+{
+    private static PlayFabError error(String message)
+    {
+        return PlayFabHTTP.GeneratePfError(400, PlayFabErrorCode.InvalidParams, message, null, null);
+    }
+
+    private static void awaitDispatched(PlayFabAsyncErrorHandler handler, long count) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (handler.getDispatchedCount() < count && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertEquals(count, handler.getDispatchedCount());
+    }
+
+    @Test
+    public void FullQueueDropsWithoutBlocking() throws Exception
+    {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        PlayFabAsyncErrorHandler handler = new PlayFabAsyncErrorHandler(new ErrorCallback()
+        {
+            public void callback(PlayFabError error)
+            {
+                entered.countDown();
+                try
+                {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, 2);
+        handler.callback(error("held"));
+        assertTrue(entered.await(5, TimeUnit.SECONDS)); // The dispatch thread is busy with the first error
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++)
+            handler.callback(error("e" + i));
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertEquals(3, handler.getQueuedCount());
+        assertEquals(8, handler.getDroppedCount());
+        assertEquals(2, handler.getBacklog());
+
+        release.countDown();
+        awaitDispatched(handler, 3);
+        handler.shutdown(5000);
+    }
+
+    @Test
+    public void BatchesKeepOrderAndSize() throws Exception
+    {
+        final List<List<PlayFabError>> batches = Collections.synchronizedList(new ArrayList<List<PlayFabError>>());
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        PlayFabAsyncErrorHandler handler = new PlayFabAsyncErrorHandler(new PlayFabAsyncErrorHandler.BatchErrorCallback()
+        {
+            public void callback(List<PlayFabError> errors)
+            {
+                batches.add(new ArrayList<PlayFabError>(errors));
+                entered.countDown();
+                try
+                {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, 100, 3);
+        handler.callback(error("first"));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++)
+            handler.callback(error("e" + i));
+        release.countDown();
+        awaitDispatched(handler, 8);
+        handler.shutdown(5000);
+
+        List<String> order = new ArrayList<String>();
+        for (List<PlayFabError> batch : batches)
+        {
+            assertTrue(batch.size() <= 3);
+            for (PlayFabError error : batch)
+                order.add(error.errorMessage);
+        }
+        assertEquals(Arrays.asList("first", "e0", "e1", "e2", "e3", "e4", "e5", "e6"), order);
+        assertEquals(4, batches.size()); // 1 + 3 + 3 + 1
+    }
+
+    @Test
+    public void FailingCallbackOnlyAffectsItsOwnError() throws Exception
+    {
+        final List<String> delivered = Collections.synchronizedList(new ArrayList<String>());
+        PlayFabAsyncErrorHandler handler = new PlayFabAsyncErrorHandler(new ErrorCallback()
+        {
+            public void callback(PlayFabError error)
+            {
+                if (error.errorMessage.equals("bad"))
+                    throw new IllegalStateException("handler bug");
+                delivered.add(error.errorMessage);
+            }
+        }, 10);
+        handler.callback(error("a"));
+        handler.callback(error("bad"));
+        handler.callback(error("b"));
+        awaitDispatched(handler, 3);
+        handler.shutdown(5000);
+        assertEquals(Arrays.asList("a", "b"), delivered);
+        assertEquals(1, handler.getHandlerFailureCount());
+    }
+
+    @Test
+    public void ShutdownDeliversQueuedErrorsAndDropsLaterOnes() throws Exception
+    {
+        final List<String> delivered = Collections.synchronizedList(new ArrayList<String>());
+        PlayFabAsyncErrorHandler handler = new PlayFabAsyncErrorHandler(new ErrorCallback()
+        {
+            public void callback(PlayFabError error)
+            {
+                delivered.add(error.errorMessage);
+            }
+        }, 100);
+        for (int i = 0; i < 50; i++)
+            handler.callback(error("e" + i));
+        handler.shutdown(5000);
+        assertEquals(50, delivered.size());
+        assertEquals(0, handler.getBacklog());
+
+        handler.callback(error("late"));
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(50, delivered.size());
+
+        boolean dispatchThreadAlive = false;
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+            if (thread.getName().equals("PlayFabAsyncErrorHandler") && thread.isAlive())
+                dispatchThreadAlive = true;
+        assertFalse(dispatchThreadAlive);
+    }
+
+    @Test
+    public void RejectsInvalidArguments()
+    {
+        try
+        {
+            new PlayFabAsyncErrorHandler((ErrorCallback) null, 10);
+            fail("Expected a missing handler to be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            new PlayFabAsyncErrorHandler(new PlayFabAsyncErrorHandler.BatchErrorCallback()
+            {
+                public void callback(List<PlayFabError> errors)
+                {
+                }
+            }, 10, 0);
+            fail("Expected a zero batch size to be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+}
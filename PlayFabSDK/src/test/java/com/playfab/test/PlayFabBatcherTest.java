@@ -0,0 +1,155 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabBatcher;
+import com.playfab.internal.PlayFabCache;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.internal.PlayFabScheduler;
+
+public class PlayFabBatcherTest
+{
+    /** Records each batch and answers every key but "missing" with its upper-case form. */
+    private static class RecordingLoader implements PlayFabBatcher.Loader<String, String>
+    {
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<List<String>>());
+        volatile PlayFabError error;
+        volatile RuntimeException exception;
+
+        public PlayFabResult<Map<String, String>> load(List<String> keys)
+        {
+            batches.add(keys);
+            if (exception != null)
+                throw exception;
+            PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+            result.Error = error;
+            if (error == null)
+            {
+                result.Result = new HashMap<String, String>();
+                for (String key : keys)
+                    if (!key.equals("missing"))
+                        result.Result.put(key, key.toUpperCase());
+            }
+            return result;
+        }
+    }
+
+    @Test
+    public void KeysSubmittedInOneWindowShareOneCall() throws Exception
+    {
+        RecordingLoader loader = new RecordingLoader();
+        PlayFabBatcher<String, String> batcher = new PlayFabBatcher<String, String>(loader, 100, 50);
+        Future<PlayFabResult<String>> a = batcher.submit("a");
+        Future<PlayFabResult<String>> b = batcher.submit("b");
+        Future<PlayFabResult<String>> again = batcher.submit("a");
+        Future<PlayFabResult<String>> missing = batcher.submit("missing");
+        assertSame(a, again);
+        assertEquals("A", a.get(5, TimeUnit.SECONDS).Result);
+        assertEquals("B", b.get(5, TimeUnit.SECONDS).Result);
+        assertNull(missing.get(5, TimeUnit.SECONDS).Result);
+        assertNull(missing.get().Error);
+        assertEquals(1, loader.batches.size());
+        assertEquals(Arrays.asList("a", "b", "missing"), loader.batches.get(0));
+    }
+
+    @Test
+    public void FullBatchIsSentWithoutWaitingForTheWindow() throws Exception
+    {
+        RecordingLoader loader = new RecordingLoader();
+        PlayFabBatcher<String, String> batcher = new PlayFabBatcher<String, String>(loader, 2, 60000);
+        Future<PlayFabResult<String>> a = batcher.submit("a");
+        Future<PlayFabResult<String>> b = batcher.submit("b");
+        assertEquals("A", a.get(5, TimeUnit.SECONDS).Result);
+        assertEquals("B", b.get(5, TimeUnit.SECONDS).Result);
+        assertEquals(1, loader.batches.size());
+    }
+
+    @Test
+    public void FailuresReachEveryKeyOfTheBatch() throws Exception
+    {
+        RecordingLoader loader = new RecordingLoader();
+        loader.error = PlayFabHTTP.GeneratePfError(400, PlayFabErrorCode.InvalidParams, "bad", null, null);
+        PlayFabBatcher<String, String> batcher = new PlayFabBatcher<String, String>(loader, 2, 10);
+        Future<PlayFabResult<String>> a = batcher.submit("a");
+        Future<PlayFabResult<String>> b = batcher.submit("b");
+        assertEquals(PlayFabErrorCode.InvalidParams, a.get(5, TimeUnit.SECONDS).Error.pfErrorCode);
+        assertEquals(PlayFabErrorCode.InvalidParams, b.get(5, TimeUnit.SECONDS).Error.pfErrorCode);
+
+        loader.error = null;
+        loader.exception = new IllegalStateException("boom");
+        PlayFabResult<String> thrown = batcher.get("c");
+        assertEquals(PlayFabErrorCode.Unknown, thrown.Error.pfErrorCode);
+        assertEquals("boom", thrown.Error.errorMessage);
+    }
+
+    @Test
+    public void ConcurrentCallersAreBatchedUpToTheLimit() throws Exception
+    {
+        final RecordingLoader loader = new RecordingLoader();
+        final PlayFabBatcher<String, String> batcher = new PlayFabBatcher<String, String>(loader, 10, 20);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<PlayFabResult<String>>> results = new ArrayList<Future<PlayFabResult<String>>>();
+            for (int i = 0; i < 200; i++)
+            {
+                final String key = "k" + (i % 50);
+                results.add(pool.submit(new Callable<PlayFabResult<String>>()
+                {
+                    public PlayFabResult<String> call()
+                    {
+                        return batcher.get(key);
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); i++)
+                assertEquals("K" + (i % 50), results.get(i).get(5, TimeUnit.SECONDS).Result);
+            synchronized (loader.batches)
+            {
+                for (List<String> batch : loader.batches)
+                {
+                    assertTrue(batch.size() <= 10);
+                    assertEquals(batch.size(), new HashSet<String>(batch).size());
+                }
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void RefreshesWaitingOnBatchesFromEveryIoThreadComplete() throws Exception
+    {
+        // Each background refresh runs on an io() thread and waits for a batch that is itself queued on io()
+        RecordingLoader loader = new RecordingLoader();
+        final PlayFabBatcher<String, String> batcher = new PlayFabBatcher<String, String>(loader, 1000, 50);
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(new PlayFabCache.Loader<String, String>()
+        {
+            public PlayFabResult<String> load(String key, String previous)
+            {
+                return batcher.get(key);
+            }
+        }, 20, 60000, 1000);
+        int keys = Integer.getInteger(PlayFabScheduler.IO_THREADS_PROPERTY, 64) + 36;
+        for (int i = 0; i < keys; i++)
+            cache.put("k" + i, "old");
+        Thread.sleep(50);
+        for (int i = 0; i < keys; i++)
+            assertEquals("old", cache.get("k" + i).Result); // Stale: served, and refreshed in the background
+
+        long deadline = System.currentTimeMillis() + 10000;
+        for (int i = 0; i < keys; i++)
+        {
+            while (!("K" + i).equals(cache.peek("k" + i)) && System.currentTimeMillis() < deadline)
+                Thread.sleep(5);
+            assertEquals("K" + i, cache.peek("k" + i));
+        }
+    }
+}
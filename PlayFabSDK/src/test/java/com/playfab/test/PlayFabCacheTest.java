@@ -0,0 +1,266 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.playfab.PlayFabCacheStore;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabCache;
+import com.playfab.internal.PlayFabHTTP;
+
+public class PlayFabCacheTest
+{
+    /** Answers key + "#" + call number, optionally waiting for a gate first. */
+    private static class CountingLoader implements PlayFabCache.Loader<String, String>
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+        volatile boolean failing;
+
+        public PlayFabResult<String> load(String key, String previous)
+        {
+            int call = calls.incrementAndGet();
+            entered.countDown();
+            try
+            {
+                if (gate != null)
+                    gate.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            PlayFabResult<String> result = new PlayFabResult<String>();
+            if (failing)
+                result.Error = PlayFabHTTP.GeneratePfError(503, PlayFabErrorCode.ServiceUnavailable, "down", null, null);
+            else
+                result.Result = key + "#" + call;
+            return result;
+        }
+    }
+
+    static class MemoryStore implements PlayFabCacheStore
+    {
+        final ConcurrentMap<String, byte[]> values = new ConcurrentHashMap<String, byte[]>();
+
+        public ByteBuffer read(String namespace, String key)
+        {
+            byte[] value = values.get(namespace + "/" + key);
+            return value == null ? null : ByteBuffer.wrap(value).asReadOnlyBuffer();
+        }
+
+        public void write(String namespace, String key, byte[] value)
+        {
+            values.put(namespace + "/" + key, value);
+        }
+
+        public void remove(String namespace, String key)
+        {
+            values.remove(namespace + "/" + key);
+        }
+    }
+
+    private static void awaitValue(PlayFabCache<String, String> cache, String key, String expected) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!expected.equals(cache.peek(key)) && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertEquals(expected, cache.peek(key));
+    }
+
+    @Test
+    public void CoalescesConcurrentLoads() throws Exception
+    {
+        final CountingLoader loader = new CountingLoader();
+        loader.gate = new CountDownLatch(1);
+        final PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 60000, 0, 10);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<PlayFabResult<String>>> results = new ArrayList<Future<PlayFabResult<String>>>();
+            for (int i = 0; i < 8; i++)
+            {
+                results.add(pool.submit(new Callable<PlayFabResult<String>>()
+                {
+                    public PlayFabResult<String> call()
+                    {
+                        return cache.get("A");
+                    }
+                }));
+            }
+            assertTrue(loader.entered.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50); // Let the other callers join the load in flight
+            loader.gate.countDown();
+            for (Future<PlayFabResult<String>> result : results)
+                assertEquals("A#1", result.get().Result);
+            assertEquals(1, loader.calls.get());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void ServesStaleWhileRefreshingInBackground() throws Exception
+    {
+        CountingLoader loader = new CountingLoader();
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 30, 60000, 10);
+        assertEquals("A#1", cache.get("A").Result);
+        Thread.sleep(60);
+        assertEquals("A#1", cache.get("A").Result); // Stale, served at once
+        awaitValue(cache, "A", "A#2");
+        assertEquals(2, loader.calls.get());
+    }
+
+    @Test
+    public void LoadsAgainPastTheStaleWindow() throws Exception
+    {
+        CountingLoader loader = new CountingLoader();
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 20, 20, 10);
+        assertEquals("A#1", cache.get("A").Result);
+        Thread.sleep(60);
+        assertNull(cache.peek("A"));
+        assertEquals("A#2", cache.get("A").Result);
+    }
+
+    @Test
+    public void FailedLoadsAreNotCached()
+    {
+        CountingLoader loader = new CountingLoader();
+        loader.failing = true;
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 60000, 0, 10);
+        assertNotNull(cache.get("A").Error);
+        assertNull(cache.peek("A"));
+        loader.failing = false;
+        assertEquals("A#2", cache.get("A").Result);
+    }
+
+    @Test
+    public void EvictsTheOldestCachedKey()
+    {
+        CountingLoader loader = new CountingLoader();
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 60000, 0, 2);
+        cache.get("A");
+        cache.invalidate("A");
+        cache.get("B");
+        cache.get("A");
+        cache.get("C");
+        assertEquals(2, cache.size());
+        assertNull(cache.peek("B"));
+        assertEquals("A#3", cache.peek("A"));
+        assertEquals("C#4", cache.peek("C"));
+
+        for (int i = 0; i < 1000; i++)
+        {
+            cache.get("K" + i);
+            cache.invalidate("K" + i);
+        }
+        assertEquals(1, cache.size()); // Invalidated keys leave nothing behind to evict in place of live ones
+        assertEquals("C#4", cache.peek("C"));
+    }
+
+    @Test
+    public void WrittenAndRefreshedKeysAreEvictedLast()
+    {
+        CountingLoader loader = new CountingLoader();
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 60000, 0, 3);
+        cache.get("A");
+        cache.get("B");
+        cache.get("C");
+        cache.put("A", "written");
+        cache.refresh("B");
+        cache.get("D");
+        assertNull(cache.peek("C"));
+        assertEquals("written", cache.peek("A"));
+        assertEquals("B#4", cache.peek("B"));
+        cache.get("E");
+        assertNull(cache.peek("A"));
+        assertEquals("B#4", cache.peek("B"));
+    }
+
+    @Test
+    public void InvalidatingAnotherKeyKeepsALoadCached() throws Exception
+    {
+        final CountingLoader loader = new CountingLoader();
+        loader.gate = new CountDownLatch(1);
+        final PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 60000, 0, 10);
+        FutureTask<PlayFabResult<String>> pending = new FutureTask<PlayFabResult<String>>(new Callable<PlayFabResult<String>>()
+        {
+            public PlayFabResult<String> call()
+            {
+                return cache.get("A");
+            }
+        });
+        new Thread(pending).start();
+        assertTrue(loader.entered.await(5, TimeUnit.SECONDS));
+        cache.invalidate("B");
+        loader.gate.countDown();
+        assertEquals("A#1", pending.get().Result);
+        assertEquals("A#1", cache.peek("A"));
+    }
+
+    @Test
+    public void LoadRacingAnInvalidationIsNotCached() throws Exception
+    {
+        final CountingLoader loader = new CountingLoader();
+        loader.gate = new CountDownLatch(1);
+        final PlayFabCache<String, String> cache = new PlayFabCache<String, String>(loader, 60000, 0, 10);
+        FutureTask<PlayFabResult<String>> pending = new FutureTask<PlayFabResult<String>>(new Callable<PlayFabResult<String>>()
+        {
+            public PlayFabResult<String> call()
+            {
+                return cache.get("A");
+            }
+        });
+        new Thread(pending).start();
+        assertTrue(loader.entered.await(5, TimeUnit.SECONDS));
+        cache.invalidate("A");
+        loader.gate.countDown();
+        assertEquals("A#1", pending.get().Result);
+        assertNull(cache.peek("A"));
+        loader.gate = null;
+        assertEquals("A#2", cache.get("A").Result);
+    }
+
+    @Test
+    public void PersistedEntriesSurviveRestartUntilInvalidated()
+    {
+        MemoryStore store = new MemoryStore();
+        CountingLoader first = new CountingLoader();
+        PlayFabCache<String, String> cache = new PlayFabCache<String, String>(first, 60000, 0, 10);
+        cache.persistTo(store, "/Test", String.class);
+        assertEquals("A#1", cache.get("A").Result);
+        assertEquals("B#2", cache.get("B").Result);
+
+        CountingLoader second = new CountingLoader();
+        PlayFabCache<String, String> restarted = new PlayFabCache<String, String>(second, 60000, 0, 10);
+        restarted.persistTo(store, "/Test", String.class);
+        assertEquals("A#1", restarted.get("A").Result);
+        assertEquals(0, second.calls.get());
+
+        restarted.invalidateAll();
+        CountingLoader third = new CountingLoader();
+        PlayFabCache<String, String> again = new PlayFabCache<String, String>(third, 60000, 0, 10);
+        again.persistTo(store, "/Test", String.class);
+        again.get("A");
+        again.get("B");
+        assertEquals(2, third.calls.get()); // Entries written before invalidateAll are not restored
+
+        // What was written after invalidateAll is, and invalidate removes single entries
+        again.invalidate("B");
+        CountingLoader fourth = new CountingLoader();
+        PlayFabCache<String, String> last = new PlayFabCache<String, String>(fourth, 60000, 0, 10);
+        last.persistTo(store, "/Test", String.class);
+        assertEquals("A#1", last.get("A").Result);
+        assertEquals(0, fourth.calls.get());
+        assertEquals("B#1", last.get("B").Result);
+        assertEquals(1, fourth.calls.get());
+    }
+}
@@ -0,0 +1,196 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.net.URLEncoder;
+import java.util.concurrent.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabContentUrlCache;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabDateCodec;
+
+public class PlayFabContentUrlCacheTest
+{
+    private static final String DOWNLOAD_URL = "/Server/GetContentDownloadUrl";
+
+    /**
+     * Signs each URL to expire the key's lifetime after it is issued: keys starting "azure" get an Azure SAS se
+     * parameter, "cloudfront" a CloudFront Expires parameter in whole seconds, and others no expiry at all. Each URL
+     * carries the number of the call that issued it, so a renewed URL can be told from the one it replaces.
+     */
+    private static class Signer implements PlayFabTestServer.Handler
+    {
+        final ConcurrentMap<String, Long> lifetimes = new ConcurrentHashMap<String, Long>();
+        final ConcurrentMap<String, Long> expirations = new ConcurrentHashMap<String, Long>();
+        private int issued;
+
+        public synchronized String handle(String api, String body) throws Exception
+        {
+            String key = JsonParser.parseString(body).getAsJsonObject().get("Key").getAsString();
+            int version = ++issued;
+            String url;
+            if (key.startsWith("azure"))
+            {
+                long expires = System.currentTimeMillis() + lifetimes.get(key);
+                expirations.put(key, expires);
+                url = "https://title.blob.core.windows.net/content/" + key + "?sv=2019-12-12&se="
+                    + URLEncoder.encode(PlayFabDateCodec.format(expires), "UTF-8") + "&sr=b&sp=r&sig=v" + version;
+            }
+            else if (key.startsWith("cloudfront"))
+            {
+                long expires = (System.currentTimeMillis() + lifetimes.get(key)) / 1000 * 1000;
+                expirations.put(key, expires);
+                url = "https://d1.cloudfront.net/" + key + "?Expires=" + expires / 1000 + "&Signature=v" + version + "&Key-Pair-Id=K";
+            }
+            else
+            {
+                url = "https://cdn.example.com/" + key + "?v=" + version;
+            }
+            return PlayFabTestServer.ok("{\"URL\":\"" + url + "\"}");
+        }
+    }
+
+    private static void sleepUntil(long millis) throws InterruptedException
+    {
+        long wait = millis - System.currentTimeMillis();
+        if (wait > 0)
+            Thread.sleep(wait);
+    }
+
+    private static void awaitCalls(PlayFabTestServer server, int count) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.calls(DOWNLOAD_URL) < count && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertEquals(count, server.calls(DOWNLOAD_URL));
+    }
+
+    private String previousKey;
+
+    @Before
+    public void SetUp()
+    {
+        previousKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.DeveloperSecretKey = "secret";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.DeveloperSecretKey = previousKey;
+    }
+
+    @Test
+    public void AzureSasIsRenewedInTheBackgroundAheadOfItsExpiry() throws Exception
+    {
+        Signer signer = new Signer();
+        signer.lifetimes.put("azure", 2000L);
+        PlayFabTestServer server = new PlayFabTestServer(signer);
+        try
+        {
+            PlayFabContentUrlCache cache = new PlayFabContentUrlCache.Server(60000, 800, 10, 4, null);
+            String first = cache.getUrl("azure").Result;
+            assertTrue(first, first.endsWith("sig=v1"));
+            long expires = signer.expirations.get("azure");
+
+            sleepUntil(expires - 800 - 300);
+            assertEquals(first, cache.getUrl("azure").Result); // Fresh
+            assertEquals(1, server.calls(DOWNLOAD_URL));
+
+            sleepUntil(expires - 800 + 100);
+            assertEquals(first, cache.getUrl("azure").Result); // Within renewAheadMillis: still handed out, but renewed
+            awaitCalls(server, 2);
+            assertTrue(cache.getUrl("azure").Result.endsWith("sig=v2"));
+            assertEquals(2, server.calls(DOWNLOAD_URL));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void CloudFrontUrlIsNotHandedOutPastHalfTheRenewal() throws Exception
+    {
+        Signer signer = new Signer();
+        signer.lifetimes.put("cloudfront", 2500L);
+        PlayFabTestServer server = new PlayFabTestServer(signer);
+        try
+        {
+            PlayFabContentUrlCache cache = new PlayFabContentUrlCache.Server(60000, 800, 10, 4, null);
+            String first = cache.getUrl("cloudfront").Result;
+            long expires = signer.expirations.get("cloudfront");
+
+            sleepUntil(expires - 800 - 200);
+            assertEquals(first, cache.getUrl("cloudfront").Result);
+            assertEquals(1, server.calls(DOWNLOAD_URL));
+
+            sleepUntil(expires - 400 + 100); // Less than renewAheadMillis / 2 left: renewed before it is handed out
+            assertTrue(cache.getUrl("cloudfront").Result.contains("Signature=v2"));
+            assertEquals(2, server.calls(DOWNLOAD_URL));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void LifetimeIsCappedAtTheDefault() throws Exception
+    {
+        Signer signer = new Signer();
+        signer.lifetimes.put("azure-long", 86400000L);
+        PlayFabTestServer server = new PlayFabTestServer(signer);
+        try
+        {
+            PlayFabContentUrlCache cache = new PlayFabContentUrlCache.Server(1000, 400, 10, 4, null);
+            long start = System.currentTimeMillis();
+            String signed = cache.getUrl("azure-long").Result;
+            String unsigned = cache.getUrl("plain").Result;
+            assertEquals(2, server.calls(DOWNLOAD_URL));
+
+            sleepUntil(start + 400);
+            assertEquals(signed, cache.getUrl("azure-long").Result);
+            assertEquals(unsigned, cache.getUrl("plain").Result);
+            assertEquals(2, server.calls(DOWNLOAD_URL));
+
+            sleepUntil(start + 1000 - 200 + 150); // Past the renewal of a default lifetime, a day before the se expiry
+            assertFalse(signed.equals(cache.getUrl("azure-long").Result));
+            assertFalse(unsigned.equals(cache.getUrl("plain").Result));
+            assertEquals(4, server.calls(DOWNLOAD_URL));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void UrlsShorterThanTheRenewalAreCachedOnlyWhileHalfOfItIsLeft() throws Exception
+    {
+        Signer signer = new Signer();
+        signer.lifetimes.put("azure-brief", 300L);
+        signer.lifetimes.put("azure-short", 700L);
+        PlayFabTestServer server = new PlayFabTestServer(signer);
+        try
+        {
+            PlayFabContentUrlCache cache = new PlayFabContentUrlCache.Server(60000, 800, 10, 4, null);
+            String brief = cache.getUrl("azure-brief").Result;
+            assertFalse(brief.equals(cache.getUrl("azure-brief").Result)); // Under renewAheadMillis / 2 as issued: never cached
+            assertEquals(2, server.calls(DOWNLOAD_URL));
+
+            String shortLived = cache.getUrl("azure-short").Result;
+            long expires = signer.expirations.get("azure-short");
+            sleepUntil(expires - 400 + 100);
+            assertFalse(shortLived.equals(cache.getUrl("azure-short").Result));
+            assertEquals(4, server.calls(DOWNLOAD_URL));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import com.playfab.internal.PlayFabDateCodec;
+import com.playfab.internal.PlayFabJson;
+
+public class PlayFabDateCodecTest
+{
+    private static SimpleDateFormat utcFormat()
+    {
+        SimpleDateFormat format = new SimpleDateFormat(PlayFabJson.DATE_FORMAT);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format;
+    }
+
+    @Test
+    public void FormatMatchesSimpleDateFormatInUtc()
+    {
+        SimpleDateFormat reference = utcFormat();
+        Random rand = new Random(42);
+        for (int i = 0; i < 10000; i++)
+        {
+            long millis = (long) (rand.nextDouble() * 4102444800000L); // 1970 .. 2100
+            assertEquals(reference.format(new Date(millis)), PlayFabDateCodec.format(millis));
+            assertEquals(millis, PlayFabDateCodec.parseMillis(PlayFabDateCodec.format(millis)));
+        }
+    }
+
+    @Test
+    public void ParsesServerVariants() throws Exception
+    {
+        long expected = utcFormat().parse("2023-11-10T19:32:11.123Z").getTime();
+        assertEquals(expected, PlayFabDateCodec.parseMillis("2023-11-10T19:32:11.123Z"));
+        assertEquals(expected, PlayFabDateCodec.parseMillis("2023-11-10T19:32:11.1234567Z"));
+        assertEquals(expected, PlayFabDateCodec.parseMillis("2023-11-10T19:32:11.123"));
+        assertEquals(expected, PlayFabDateCodec.parseMillis("2023-11-10T20:32:11.123+01:00"));
+        assertEquals(expected - 123, PlayFabDateCodec.parseMillis("2023-11-10T19:32:11Z"));
+        assertEquals(expected - 11123, PlayFabDateCodec.parseMillis("2023-11-10T19:32Z"));
+        assertEquals(expected - 70331123, PlayFabDateCodec.parseMillis("2023-11-10"));
+    }
+
+    @Test
+    public void RejectsMalformedInput()
+    {
+        String[] inputs = { "", "2023-11", "2023/11/10", "2023-13-10T00:00:00Z", "2023-11-10T19:32:11.Z", "2023-11-10T19:32:11Zjunk" };
+        for (String input : inputs)
+        {
+            try
+            {
+                PlayFabDateCodec.parseMillis(input);
+                fail("Expected rejection of: " + input);
+            }
+            catch (IllegalArgumentException e)
+            {
+            }
+        }
+    }
+
+    @Test
+    public void RegisteredOnSharedGson()
+    {
+        Date date = new Date(1700000000123L);
+        String json = PlayFabJson.gson.toJson(date);
+        assertEquals("\"2023-11-14T22:13:20.123Z\"", json);
+        assertEquals(date, PlayFabJson.gson.fromJson(json, Date.class));
+    }
+}
@@ -0,0 +1,144 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabEntityObjectCache;
+import com.playfab.PlayFabEntityObjectCache.EntityObjects;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabDataModels.*;
+import com.playfab.PlayFabErrors.*;
+
+public class PlayFabEntityObjectCacheTest
+{
+    private static final String GET = "/Object/GetObjects";
+    private static final String SET = "/Object/SetObjects";
+
+    /** One entity's "counter" object, refusing writes whose ExpectedProfileVersion is not the current one. */
+    private static class ObjectService implements PlayFabTestServer.Handler
+    {
+        volatile int profileVersion = 1;
+        volatile String counter = "0";
+        volatile boolean alwaysConflict;
+
+        public synchronized String handle(String api, String body)
+        {
+            JsonObject request = JsonParser.parseString(body).getAsJsonObject();
+            if (api.equals(SET))
+            {
+                if (alwaysConflict || request.get("ExpectedProfileVersion").getAsInt() != profileVersion)
+                    return PlayFabTestServer.error(PlayFabErrorCode.ConcurrentEditError, "stale");
+                counter = request.getAsJsonArray("Objects").get(0).getAsJsonObject().get("DataObject").getAsString();
+                profileVersion++;
+                return PlayFabTestServer.ok("{\"ProfileVersion\":" + profileVersion + ",\"SetResults\":[]}");
+            }
+            return PlayFabTestServer.ok("{\"ProfileVersion\":" + profileVersion + ",\"Objects\":{\"counter\":{\"ObjectName\":\"counter\",\"DataObject\":\"" + counter + "\"}}}");
+        }
+
+        /** A write by another process, which the cache has not seen. */
+        synchronized void writeElsewhere(String value)
+        {
+            counter = value;
+            profileVersion++;
+        }
+    }
+
+    /** Increments the counter, recording the value it started from on each run. */
+    private static class Increment implements PlayFabEntityObjectCache.Mutation
+    {
+        final List<String> seen = new ArrayList<String>();
+
+        public List<SetObject> apply(EntityObjects current)
+        {
+            String value = (String) current.getObject("counter").DataObject;
+            seen.add(value);
+            SetObject object = new SetObject();
+            object.ObjectName = "counter";
+            object.DataObject = String.valueOf(Integer.parseInt(value) + 1);
+            return Collections.singletonList(object);
+        }
+    }
+
+    private String previousToken;
+
+    @Before
+    public void SetUp()
+    {
+        previousToken = PlayFabSettings.EntityToken;
+        PlayFabSettings.EntityToken = "token";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.EntityToken = previousToken;
+    }
+
+    private static EntityKey entity()
+    {
+        EntityKey entity = new EntityKey();
+        entity.Type = "title_player_account";
+        entity.Id = "A";
+        return entity;
+    }
+
+    @Test
+    public void ConcurrentEditIsRetriedOnFreshObjects() throws Exception
+    {
+        ObjectService service = new ObjectService();
+        PlayFabTestServer server = new PlayFabTestServer(service);
+        try
+        {
+            PlayFabEntityObjectCache cache = new PlayFabEntityObjectCache(60000, 10, 3);
+            assertEquals("0", cache.get(entity()).Result.getObject("counter").DataObject);
+            service.writeElsewhere("5");
+
+            Increment increment = new Increment();
+            PlayFabResult<SetObjectsResponse> result = cache.update(entity(), increment);
+            assertNull(result.Error);
+            assertEquals(Arrays.asList("0", "5"), increment.seen); // Refused once, then run again on what was written
+            assertEquals("6", service.counter);
+            assertEquals(2, server.calls(GET));
+            assertEquals(2, server.calls(SET));
+
+            EntityObjects cached = cache.get(entity()).Result;
+            assertEquals("6", cached.getObject("counter").DataObject);
+            assertEquals(Integer.valueOf(3), cached.getProfileVersion());
+            assertEquals(2, server.calls(GET)); // The successful write was applied to the cache
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void GivesUpAfterMaxRetriesAndDropsTheEntry() throws Exception
+    {
+        ObjectService service = new ObjectService();
+        service.alwaysConflict = true;
+        PlayFabTestServer server = new PlayFabTestServer(service);
+        try
+        {
+            PlayFabEntityObjectCache cache = new PlayFabEntityObjectCache(60000, 10, 2);
+            Increment increment = new Increment();
+            PlayFabResult<SetObjectsResponse> result = cache.update(entity(), increment);
+            assertEquals(PlayFabErrorCode.ConcurrentEditError, result.Error.pfErrorCode);
+            assertEquals(3, increment.seen.size());
+            assertEquals(3, server.calls(SET));
+            assertEquals(3, server.calls(GET));
+
+            cache.get(entity());
+            assertEquals(4, server.calls(GET)); // Not served from the entry the refused writes were based on
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+}
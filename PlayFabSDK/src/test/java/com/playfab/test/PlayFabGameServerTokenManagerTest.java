@@ -0,0 +1,110 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.File;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.playfab.PlayFabErrors.PlayFabResult;
+import com.playfab.PlayFabAuthenticationModels.EntityTokenResponse;
+import com.playfab.PlayFabGameServerTokenManager;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabDateCodec;
+
+public class PlayFabGameServerTokenManagerTest
+{
+    private static final String CUSTOM_ID = "0123456789abcdef0123456789abcdef";
+    private static final String TITLE_TOKEN = "/Authentication/GetEntityToken";
+    private static final String AUTHENTICATE = "/GameServerIdentity/AuthenticateGameServerWithCustomId";
+
+    private final AtomicInteger issued = new AtomicInteger();
+    private volatile long lifetimeMillis = 3600000;
+    private PlayFabTestServer server;
+    private String previousSecretKey;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        previousSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.DeveloperSecretKey = "secret";
+        PlayFabSettings.EntityToken = null;
+        server = new PlayFabTestServer(new PlayFabTestServer.Handler()
+        {
+            public String handle(String api, String body)
+            {
+                String token = "{\"EntityToken\":\"token" + issued.incrementAndGet() + "\",\"TokenExpiration\":\""
+                    + PlayFabDateCodec.format(System.currentTimeMillis() + lifetimeMillis) + "\","
+                    + "\"Entity\":{\"Id\":\"server\",\"Type\":\"game_server\"}}";
+                if (api.equals(AUTHENTICATE))
+                    return PlayFabTestServer.ok("{\"EntityToken\":" + token + "}");
+                return PlayFabTestServer.ok(token);
+            }
+        });
+    }
+
+    @After
+    public void tearDown()
+    {
+        server.close();
+        PlayFabSettings.DeveloperSecretKey = previousSecretKey;
+        PlayFabSettings.EntityToken = null;
+    }
+
+    @Test
+    public void SharedFileIsOwnerOnlyAndAdoptedByOtherProcesses() throws Exception
+    {
+        File file = File.createTempFile("playfab", ".token");
+        file.delete();
+        try
+        {
+            PlayFabGameServerTokenManager first = new PlayFabGameServerTokenManager(CUSTOM_ID, file);
+            PlayFabResult<EntityTokenResponse> started = first.start();
+            assertNull(started.Error);
+            assertEquals(1, server.calls(AUTHENTICATE));
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+                assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file.toPath())));
+
+            PlayFabGameServerTokenManager second = new PlayFabGameServerTokenManager(CUSTOM_ID, file);
+            assertNull(second.start().Error);
+            assertEquals(1, server.calls(AUTHENTICATE));
+            assertEquals(first.getEntityToken(), second.getEntityToken());
+            first.shutdown();
+            second.shutdown();
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void FailedFileWriteKeepsTheNewToken()
+    {
+        // Truncating a character device fails after the lock and read succeed
+        File device = new File("/dev/full");
+        Assume.assumeTrue(device.exists() && device.canWrite());
+        PlayFabGameServerTokenManager manager = new PlayFabGameServerTokenManager(CUSTOM_ID, device);
+        PlayFabResult<EntityTokenResponse> started = manager.start();
+        assertNull(started.Error);
+        assertEquals(1, server.calls(AUTHENTICATE));
+        assertEquals(started.Result.EntityToken, manager.getEntityToken());
+        manager.shutdown();
+    }
+
+    @Test
+    public void StartingTwiceKeepsOneRenewal() throws Exception
+    {
+        lifetimeMillis = 60 * 1000 + 600;
+        PlayFabGameServerTokenManager manager = new PlayFabGameServerTokenManager(CUSTOM_ID, null);
+        manager.setRenewBeforeExpiryMillis(60 * 1000);
+        assertNull(manager.start().Error);
+        assertNull(manager.start().Error);
+        int before = server.calls(TITLE_TOKEN);
+        Thread.sleep(900); // One renewal is due after 600 ms, the next not before 1200 ms
+        manager.shutdown();
+        assertEquals(1, server.calls(TITLE_TOKEN) - before);
+    }
+}
@@ -0,0 +1,124 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabLazyResult;
+import com.playfab.PlayFabClientModels.*;
+import com.playfab.internal.PlayFabJson;
+
+public class PlayFabLazyResultTest
+{
+    // Strings that look like structure to a scanner that does not track string boundaries
+    private static final String[] TRICKY = { "}", "{\"x\":[", "]]", "a\\\"b", "\\", "tab\there", "é中😀", "\"", "", "null" };
+
+    private static GetUserInventoryResult inventory(Random rand)
+    {
+        GetUserInventoryResult result = new GetUserInventoryResult();
+        result.Inventory = new ArrayList<ItemInstance>();
+        for (int i = 0; i < 1 + rand.nextInt(4); i++)
+        {
+            ItemInstance item = new ItemInstance();
+            item.ItemId = TRICKY[rand.nextInt(TRICKY.length)];
+            item.ItemInstanceId = "instance" + i;
+            item.CustomData = new LinkedHashMap<String, String>();
+            item.CustomData.put(TRICKY[rand.nextInt(TRICKY.length)], TRICKY[rand.nextInt(TRICKY.length)]);
+            item.PurchaseDate = new Date(1700000000000L + rand.nextInt(1000000));
+            item.RemainingUses = rand.nextBoolean() ? null : rand.nextInt(100);
+            item.UnitPrice = rand.nextLong();
+            result.Inventory.add(item);
+        }
+        result.VirtualCurrency = new LinkedHashMap<String, Integer>();
+        result.VirtualCurrency.put("GO", rand.nextInt());
+        return result;
+    }
+
+    private static JsonElement tree(Object value)
+    {
+        return JsonParser.parseString(PlayFabJson.gson.toJson(value));
+    }
+
+    @Test
+    public void MembersDecodeLikeTheWholeResult()
+    {
+        Random rand = new Random(7);
+        Gson pretty = new GsonBuilder().setPrettyPrinting().create();
+        for (int i = 0; i < 200; i++)
+        {
+            GetUserInventoryResult expected = inventory(rand);
+            String json = PlayFabJson.gson.toJson(expected);
+            if (i % 2 == 1)
+                json = pretty.toJson(JsonParser.parseString(json)); // Same members, with whitespace between tokens
+            PlayFabLazyResult<GetUserInventoryResult> lazy = PlayFabLazyResult.of(json, GetUserInventoryResult.class);
+
+            assertEquals(Arrays.asList("Inventory", "VirtualCurrency"), new ArrayList<String>(lazy.names()));
+            assertEquals(tree(expected.Inventory), tree(lazy.get("Inventory")));
+            assertEquals(expected.VirtualCurrency, lazy.get("VirtualCurrency"));
+            assertEquals(tree(expected), tree(lazy.materialize()));
+            assertEquals(JsonParser.parseString(json).getAsJsonObject().get("Inventory"), JsonParser.parseString(lazy.getRawJson("Inventory")));
+        }
+    }
+
+    @Test
+    public void LocatesDataInTheEnvelope()
+    {
+        String json = " { \"code\" : 200 , \"status\":\"OK\",\n\"data\" : {\"VirtualCurrency\":{\"GO\":5},\"Inventory\":null,\"Extra\":[1,{\"a\":\"}\"}]} , \"after\":\"{\" } ";
+        PlayFabLazyResult<GetUserInventoryResult> lazy = PlayFabLazyResult.ofSuccessJson(json, GetUserInventoryResult.class);
+        assertEquals(Arrays.asList("VirtualCurrency", "Inventory", "Extra"), new ArrayList<String>(lazy.names()));
+        assertTrue(lazy.has("VirtualCurrency"));
+        assertFalse(lazy.has("Inventory"));
+        assertFalse(lazy.has("Missing"));
+        assertNull(lazy.get("Inventory"));
+        assertNull(lazy.get("Extra")); // Not a field of the type
+        assertEquals("[1,{\"a\":\"}\"}]", lazy.getRawJson("Extra"));
+        assertEquals(Integer.valueOf(5), lazy.get("VirtualCurrency", Map.class).get("GO"));
+        assertSame(lazy.get("VirtualCurrency"), lazy.get("VirtualCurrency"));
+    }
+
+    @Test
+    public void OpensNestedObjectsLazily()
+    {
+        String json = "{\"PlayFabId\":\"P\",\"InfoResultPayload\":{\"UserInventory\":[{\"ItemId\":\"sword\"}],\"UserVirtualCurrency\":{\"GO\":1}}}";
+        PlayFabLazyResult<GetPlayerCombinedInfoResult> lazy = PlayFabLazyResult.of(json, GetPlayerCombinedInfoResult.class);
+        PlayFabLazyResult<GetPlayerCombinedInfoResultPayload> payload = lazy.getLazy("InfoResultPayload", GetPlayerCombinedInfoResultPayload.class);
+        assertEquals("sword", ((List<ItemInstance>) payload.get("UserInventory")).get(0).ItemId);
+        assertNull(lazy.getLazy("PlayFabId", GetPlayerCombinedInfoResultPayload.class));
+        assertEquals("P", lazy.get("PlayFabId"));
+    }
+
+    @Test
+    public void EscapedNamesAreUnescaped()
+    {
+        PlayFabLazyResult<GetUserInventoryResult> lazy = PlayFabLazyResult.of("{\"Virtual\\u0043urrency\":{\"GO\":2}}", GetUserInventoryResult.class);
+        assertTrue(lazy.has("VirtualCurrency"));
+    }
+
+    @Test
+    public void RejectsMalformedObjects()
+    {
+        String[] inputs = { "", "[]", "{\"a\":1", "{\"a\" 1}", "{\"a\":\"x}", "{\"a\":1 \"b\":2}", "{a:1}", "{\"a\":[1,2}" };
+        for (String input : inputs)
+        {
+            try
+            {
+                PlayFabLazyResult.of(input, GetUserInventoryResult.class);
+                fail("Expected rejection of: " + input);
+            }
+            catch (JsonSyntaxException e)
+            {
+            }
+        }
+        try
+        {
+            PlayFabLazyResult.ofSuccessJson("{\"code\":200,\"data\":[]}", GetUserInventoryResult.class);
+            fail("Expected rejection of a non-object data member");
+        }
+        catch (JsonSyntaxException e)
+        {
+        }
+    }
+}
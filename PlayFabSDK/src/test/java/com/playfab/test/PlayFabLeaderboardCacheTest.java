@@ -0,0 +1,102 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabLeaderboardCache;
+import com.playfab.PlayFabSettings;
+
+public class PlayFabLeaderboardCacheTest
+{
+    private static final String TOP = "/Server/GetLeaderboard";
+    private static final String FRIENDS = "/Server/GetFriendLeaderboard";
+
+    /** A board of 100 players, "p<position>" at each position. */
+    private static class Board implements PlayFabTestServer.Handler
+    {
+        public String handle(String api, String body)
+        {
+            JsonObject request = JsonParser.parseString(body).getAsJsonObject();
+            int start = request.has("StartPosition") ? request.get("StartPosition").getAsInt() : 0;
+            int count = request.get("MaxResultsCount").getAsInt();
+            StringBuilder entries = new StringBuilder();
+            for (int position = start; position < Math.min(100, start + count); position++)
+            {
+                if (entries.length() > 0)
+                    entries.append(',');
+                entries.append("{\"PlayFabId\":\"p").append(position).append("\",\"Position\":").append(position).append(",\"StatValue\":").append(1000 - position).append('}');
+            }
+            return PlayFabTestServer.ok("{\"Leaderboard\":[" + entries + "]}");
+        }
+    }
+
+    private String previousKey;
+
+    @Before
+    public void SetUp()
+    {
+        previousKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.DeveloperSecretKey = "secret";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.DeveloperSecretKey = previousKey;
+    }
+
+    @Test
+    public void FullBoardEvictsOnlyItsOldestEntries() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Board());
+        try
+        {
+            PlayFabLeaderboardCache.Server cache = new PlayFabLeaderboardCache.Server(60000, 10);
+            assertEquals("p0", cache.getLeaderboard("score", null, 0, 4).Result.get(0).PlayFabId);
+            Thread.sleep(5);
+            cache.getLeaderboard("score", null, 4, 4);
+            Thread.sleep(5);
+            cache.getLeaderboard("score", null, 8, 4); // Over the bound of 10: positions 0 and 1 make room
+            assertEquals(3, server.calls(TOP));
+
+            assertEquals("p4", cache.getLeaderboard("score", null, 4, 4).Result.get(0).PlayFabId);
+            assertEquals("p2", cache.getLeaderboard("score", null, 2, 2).Result.get(0).PlayFabId);
+            assertEquals(3, server.calls(TOP)); // Still fresh, still served
+            cache.getLeaderboard("score", null, 0, 2);
+            assertEquals(4, server.calls(TOP));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void InvalidatingAStatisticDropsItsFriendLeaderboards() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Board());
+        try
+        {
+            PlayFabLeaderboardCache.Server cache = new PlayFabLeaderboardCache.Server(60000, 100);
+            cache.getFriendLeaderboard("player", "score", null, 0, 5);
+            cache.getFriendLeaderboard("player", "score", null, 0, 5);
+            cache.getFriendLeaderboard("player", "other", null, 0, 5);
+            assertEquals(2, server.calls(FRIENDS));
+
+            cache.invalidate("score");
+            cache.getFriendLeaderboard("player", "score", null, 0, 5);
+            cache.getFriendLeaderboard("player", "other", null, 0, 5);
+            assertEquals(3, server.calls(FRIENDS));
+
+            cache.invalidateAll();
+            cache.getFriendLeaderboard("player", "other", null, 0, 5);
+            assertEquals(4, server.calls(FRIENDS));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabLocalizationCache;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabProfilesModels.*;
+
+public class PlayFabLocalizationCacheTest
+{
+    private static final String SET_LANGUAGE = "/Profile/SetProfileLanguage";
+
+    /** Accepts every language but "xx", moving the profile to version 10. */
+    private static class Profiles implements PlayFabTestServer.Handler
+    {
+        public String handle(String api, String body)
+        {
+            if (JsonParser.parseString(body).getAsJsonObject().get("Language").getAsString().equals("xx"))
+                return PlayFabTestServer.error(PlayFabErrorCode.InvalidParams, "unknown language");
+            return PlayFabTestServer.ok("{\"OperationResult\":\"Updated\",\"VersionNumber\":10}");
+        }
+    }
+
+    private static EntityKey entity(String id)
+    {
+        EntityKey entity = new EntityKey();
+        entity.Type = "title_player_account";
+        entity.Id = id;
+        return entity;
+    }
+
+    private static EntityProfileBody profile(String id, String language, int version)
+    {
+        EntityProfileBody profile = new EntityProfileBody();
+        profile.Entity = entity(id);
+        profile.Language = language;
+        profile.VersionNumber = version;
+        return profile;
+    }
+
+    private String previousToken;
+
+    @Before
+    public void SetUp()
+    {
+        previousToken = PlayFabSettings.EntityToken;
+        PlayFabSettings.EntityToken = "token";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.EntityToken = previousToken;
+    }
+
+    @Test
+    public void SettingTheLanguageOnRecordMakesNoCall() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Profiles());
+        try
+        {
+            PlayFabLocalizationCache cache = new PlayFabLocalizationCache(60000, 0, 10);
+            cache.track(profile("A", "en", 3));
+            PlayFabResult<SetProfileLanguageResponse> same = cache.setLanguage(entity("A"), "en");
+            assertEquals(OperationTypes.None, same.Result.OperationResult);
+            assertEquals(Integer.valueOf(3), same.Result.VersionNumber);
+            assertEquals(0, server.calls(SET_LANGUAGE));
+
+            assertEquals(OperationTypes.Updated, cache.setLanguage(entity("A"), "fr").Result.OperationResult);
+            assertEquals(Integer.valueOf(10), cache.setLanguage(entity("A"), "fr").Result.VersionNumber);
+            assertEquals("fr", cache.getLanguage(entity("A")));
+            assertEquals(1, server.calls(SET_LANGUAGE));
+
+            assertNotNull(cache.setLanguage(entity("A"), "xx").Error);
+            assertNull(cache.getLanguage(entity("A"))); // Forgotten after a refused call
+            cache.setLanguage(entity("A"), "fr");
+            assertEquals(3, server.calls(SET_LANGUAGE));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void FullCacheForgetsOnlyTheOldestEntity()
+    {
+        PlayFabLocalizationCache cache = new PlayFabLocalizationCache(60000, 0, 2);
+        cache.track(profile("A", "en", 1));
+        cache.track(profile("B", "de", 1));
+        cache.track(profile("C", "fr", 1));
+        assertNull(cache.getLanguage(entity("A")));
+        assertEquals("de", cache.getLanguage(entity("B")));
+        assertEquals("fr", cache.getLanguage(entity("C")));
+    }
+}
@@ -0,0 +1,107 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.playfab.PlayFabMappedCacheStore;
+
+public class PlayFabMappedCacheStoreTest
+{
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static byte[] value(String key, int round)
+    {
+        StringBuilder value = new StringBuilder(key).append('@').append(round).append(':');
+        while (value.length() < 100)
+            value.append('x');
+        return value.toString().getBytes(UTF8);
+    }
+
+    private static String text(ByteBuffer buffer)
+    {
+        if (buffer == null)
+            return null;
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, UTF8);
+    }
+
+    @Test
+    public void GrowsInPlaceCompactsAndReopens() throws Exception
+    {
+        File file = new File(folder.getRoot(), "cache.bin");
+        PlayFabMappedCacheStore store = new PlayFabMappedCacheStore(file, 4096);
+        long initialSize = file.length();
+        ByteBuffer early = null;
+        for (int round = 0; round < 3; round++)
+        {
+            for (int i = 0; i < 200; i++)
+            {
+                store.write("/Test", "K" + i, value("K" + i, round));
+                if (round == 0 && i == 0)
+                    early = store.read("/Test", "K0");
+            }
+        }
+        for (int i = 0; i < 200; i += 2)
+            store.remove("/Test", "K" + i);
+        assertTrue(file.length() > initialSize); // Filled and grown several times over
+        assertFalse(new File(folder.getRoot(), "cache.bin.compact").exists());
+        assertEquals(new String(value("K0", 0), UTF8), text(early)); // Slices read before growing stay valid
+
+        long grownSize = file.length();
+        store.compact();
+        assertTrue(file.length() <= grownSize);
+        store.write("/Test", "after", value("after", 0));
+        store.remove("/Test", "K1");
+        store.close();
+
+        PlayFabMappedCacheStore reopened = new PlayFabMappedCacheStore(file, 4096);
+        assertEquals(100, reopened.size());
+        for (int i = 0; i < 200; i++)
+        {
+            String expected = i % 2 == 0 || i == 1 ? null : new String(value("K" + i, 2), UTF8);
+            assertEquals("K" + i, expected, text(reopened.read("/Test", "K" + i)));
+        }
+        assertEquals(new String(value("after", 0), UTF8), text(reopened.read("/Test", "after")));
+        assertTrue(reopened.version("/Test", "after") > reopened.version("/Test", "K199"));
+        reopened.close();
+    }
+
+    @Test
+    public void TornRecordEndsTheScan() throws Exception
+    {
+        File file = new File(folder.getRoot(), "torn.bin");
+        PlayFabMappedCacheStore store = new PlayFabMappedCacheStore(file, 4096);
+        for (int i = 0; i < 3; i++)
+            store.write("/Test", "K" + i, value("K" + i, 0));
+        store.close();
+
+        RandomAccessFile raw = new RandomAccessFile(file, "rw");
+        try
+        {
+            byte[] contents = new byte[(int) raw.length()];
+            raw.readFully(contents);
+            int offset = new String(contents, "ISO-8859-1").indexOf("K1@0");
+            raw.seek(offset);
+            raw.write('#'); // Corrupt the second record's value
+        }
+        finally
+        {
+            raw.close();
+        }
+
+        PlayFabMappedCacheStore reopened = new PlayFabMappedCacheStore(file, 4096);
+        assertEquals(new String(value("K0", 0), UTF8), text(reopened.read("/Test", "K0")));
+        assertNull(reopened.read("/Test", "K1"));
+        assertNull(reopened.read("/Test", "K2")); // Intact, but after the torn record
+        reopened.close();
+    }
+}
@@ -0,0 +1,146 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabRawJson;
+import com.playfab.PlayFabProfilesModels.GetEntityProfilesRequest;
+import com.playfab.internal.PlayFabDateCodec;
+import com.playfab.internal.PlayFabJson;
+import com.playfab.internal.PlayFabModelAdapter;
+import com.playfab.internal.PlayFabRawJsonAdapter;
+
+/**
+ * Checks the generated model adapters against the models they were generated from: every model class must have one,
+ * and it must write and read the same JSON as Gson's reflective adapter does for a fully populated instance.
+ */
+public class PlayFabModelAdaptersTest
+{
+    private static final String[] APIS = { "Admin", "Authentication", "Client", "CloudScript", "Data", "Economy", "Events",
+        "Experimentation", "Groups", "Insights", "Localization", "Multiplayer", "Profiles", "Server" };
+    private static final int MAX_DEPTH = 3;
+
+    private static final Gson reflective = new GsonBuilder()
+        .registerTypeAdapter(Date.class, new PlayFabDateCodec())
+        .registerTypeAdapter(PlayFabRawJson.class, new PlayFabRawJsonAdapter())
+        .create();
+
+    @Test
+    public void EveryModelRoundTripsLikeReflectiveGson() throws Exception
+    {
+        int checked = 0;
+        for (String api : APIS)
+        {
+            Class<?> models;
+            try
+            {
+                models = Class.forName("com.playfab.PlayFab" + api + "Models");
+            }
+            catch (ClassNotFoundException e)
+            {
+                continue; // Not part of this SDK flavor
+            }
+            for (Class<?> model : models.getDeclaredClasses())
+            {
+                if (model.isEnum() || model.isInterface() || !Modifier.isPublic(model.getModifiers()))
+                    continue;
+                assertTrue("No generated adapter for " + model.getName(), PlayFabJson.gson.getAdapter(model) instanceof PlayFabModelAdapter);
+
+                Object value = populate(model, 0);
+                JsonElement expected = JsonParser.parseString(reflective.toJson(value));
+                String json = PlayFabJson.gson.toJson(value);
+                assertEquals("Written by the adapter for " + model.getName(), expected, JsonParser.parseString(json));
+                Object decoded = PlayFabJson.gson.fromJson(json, model);
+                assertEquals("Read by the adapter for " + model.getName(), expected, JsonParser.parseString(reflective.toJson(decoded)));
+                checked++;
+            }
+        }
+        assertTrue(checked > 100);
+    }
+
+    @Test
+    public void NullFieldsAreOmittedAndUnknownFieldsSkipped()
+    {
+        GetEntityProfilesRequest request = PlayFabJson.gson.fromJson(
+            "{\"DataAsObject\":true,\"Unknown\":{\"nested\":[1,2,{\"x\":null}]},\"Entities\":[{\"Id\":\"A\"}]}", GetEntityProfilesRequest.class);
+        assertTrue(request.DataAsObject);
+        assertEquals("A", request.Entities.get(0).Id);
+        assertNull(request.Entities.get(0).Type);
+        assertEquals("{\"DataAsObject\":true,\"Entities\":[{\"Id\":\"A\"}]}", PlayFabJson.gson.toJson(request));
+    }
+
+    /** @return An instance of type with every field set to a sample value, nested models down to MAX_DEPTH */
+    private static Object populate(Class<?> type, int depth) throws Exception
+    {
+        Object value = type.getDeclaredConstructor().newInstance();
+        for (Field field : type.getFields())
+        {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+                continue;
+            Object sample = sample(field.getGenericType(), field.getName(), depth);
+            if (sample != null)
+                field.set(value, sample);
+        }
+        return value;
+    }
+
+    private static Object sample(Type type, String name, int depth) throws Exception
+    {
+        if (type instanceof ParameterizedType)
+        {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (List.class.isAssignableFrom(raw))
+            {
+                Object element = sample(arguments[0], name, depth);
+                if (element == null)
+                    return null;
+                ArrayList<Object> list = new ArrayList<Object>();
+                list.add(element);
+                return list;
+            }
+            if (Map.class.isAssignableFrom(raw))
+            {
+                Object element = sample(arguments[1], name, depth);
+                if (element == null)
+                    return null;
+                Map<String, Object> map = raw.isInterface() ? new LinkedHashMap<String, Object>() : (Map<String, Object>) raw.getDeclaredConstructor().newInstance();
+                map.put("key", element);
+                return map;
+            }
+            return null;
+        }
+
+        Class<?> raw = (Class<?>) type;
+        if (raw == String.class || raw == Object.class)
+            return name + depth;
+        if (raw == Integer.class || raw == int.class)
+            return 7 + depth;
+        if (raw == Long.class || raw == long.class)
+            return 1234567890123L + depth;
+        if (raw == Double.class || raw == double.class)
+            return 2.5 + depth;
+        if (raw == Float.class || raw == float.class)
+            return 1.5f + depth;
+        if (raw == Boolean.class || raw == boolean.class)
+            return true;
+        if (raw == Short.class || raw == short.class)
+            return (short) 3;
+        if (raw == Date.class)
+            return new Date(1700000000123L + depth);
+        if (raw == PlayFabRawJson.class)
+            return new PlayFabRawJson("{\"raw\":[1,true]}");
+        if (raw.isEnum())
+            return raw.getEnumConstants()[depth % raw.getEnumConstants().length];
+        if (raw.getDeclaringClass() != null && raw.getDeclaringClass().getSimpleName().endsWith("Models"))
+            return depth < MAX_DEPTH ? populate(raw, depth + 1) : null;
+        fail("No sample value for " + raw.getName() + " " + name);
+        return null;
+    }
+}
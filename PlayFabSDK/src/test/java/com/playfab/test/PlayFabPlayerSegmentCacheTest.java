@@ -0,0 +1,159 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabPlayerSegmentCache;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabScheduler;
+
+public class PlayFabPlayerSegmentCacheTest
+{
+    private static final String SEGMENTS = "/Server/GetPlayerSegments";
+    private static final String TAGS = "/Server/GetPlayerTags";
+
+    /** Every player is in segment s1 and tagged VIP; adding the tag "Bad" is refused. */
+    private static class Players implements PlayFabTestServer.Handler
+    {
+        volatile long segmentDelayMillis;
+
+        public String handle(String api, String body) throws Exception
+        {
+            if (api.equals(SEGMENTS))
+            {
+                Thread.sleep(segmentDelayMillis);
+                return PlayFabTestServer.ok("{\"Segments\":[{\"Id\":\"s1\",\"Name\":\"Whales\"}]}");
+            }
+            if (api.equals(TAGS))
+                return PlayFabTestServer.ok("{\"Tags\":[\"title.ABCD.VIP\"]}");
+            if (JsonParser.parseString(body).getAsJsonObject().get("TagName").getAsString().equals("Bad"))
+                return PlayFabTestServer.error(PlayFabErrorCode.InvalidParams, "refused");
+            return PlayFabTestServer.ok("{}");
+        }
+    }
+
+    private static PlayFabServerModels.AddPlayerTagRequest add(String playFabId, String tagName)
+    {
+        PlayFabServerModels.AddPlayerTagRequest request = new PlayFabServerModels.AddPlayerTagRequest();
+        request.PlayFabId = playFabId;
+        request.TagName = tagName;
+        return request;
+    }
+
+    private static PlayFabServerModels.RemovePlayerTagRequest remove(String playFabId, String tagName)
+    {
+        PlayFabServerModels.RemovePlayerTagRequest request = new PlayFabServerModels.RemovePlayerTagRequest();
+        request.PlayFabId = playFabId;
+        request.TagName = tagName;
+        return request;
+    }
+
+    private String previousKey;
+    private String previousTitleId;
+
+    @Before
+    public void SetUp()
+    {
+        previousKey = PlayFabSettings.DeveloperSecretKey;
+        previousTitleId = PlayFabSettings.TitleId;
+        PlayFabSettings.DeveloperSecretKey = "secret";
+        PlayFabSettings.TitleId = "ABCD";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.DeveloperSecretKey = previousKey;
+        PlayFabSettings.TitleId = previousTitleId;
+    }
+
+    @Test
+    public void TagsMatchByNameOrCanonicalForm() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Players());
+        try
+        {
+            PlayFabPlayerSegmentCache cache = new PlayFabPlayerSegmentCache.Server(60000, 10);
+            assertTrue(cache.hasTag("p", "VIP").Result);
+            assertTrue(cache.hasTag("p", "title.ABCD.VIP").Result);
+            assertFalse(cache.hasTag("p", "Beta").Result);
+            assertTrue(cache.isInSegment("p", "s1").Result);
+            assertEquals("Whales", cache.get("p").Result.getSegments().get("s1"));
+            assertEquals(1, server.calls(SEGMENTS));
+            assertEquals(1, server.calls(TAGS));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void AcceptedTagWritesUpdateTheCachedEntry() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Players());
+        try
+        {
+            PlayFabPlayerSegmentCache.Server cache = new PlayFabPlayerSegmentCache.Server(60000, 10);
+            cache.get("p");
+            assertNull(cache.addTag(add("p", "Beta")).Error);
+            assertNull(cache.removeTag(remove("p", "VIP")).Error);
+            assertNotNull(cache.addTag(add("p", "Bad")).Error);
+            assertEquals(new HashSet<String>(Arrays.asList("title.ABCD.Beta")), cache.get("p").Result.getTags());
+            assertTrue(cache.hasTag("p", "Beta").Result);
+            assertFalse(cache.hasTag("p", "VIP").Result);
+            assertEquals(1, server.calls(TAGS));
+
+            cache.addTag(add("q", "Beta")); // Not cached, so nothing to update
+            assertFalse(cache.hasTag("q", "Beta").Result);
+            assertEquals(2, server.calls(TAGS));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void LookupsFromEveryIoThreadComplete() throws Exception
+    {
+        // Each load queues its tags call on io() behind the other loads, which hold every io() thread
+        Players players = new Players();
+        players.segmentDelayMillis = 100;
+        PlayFabTestServer server = new PlayFabTestServer(players);
+        try
+        {
+            final PlayFabPlayerSegmentCache cache = new PlayFabPlayerSegmentCache.Server(60000, 1000);
+            final CountDownLatch go = new CountDownLatch(1);
+            int lookups = Integer.getInteger(PlayFabScheduler.IO_THREADS_PROPERTY, 64) + 10;
+            List<Future<PlayFabResult<PlayFabPlayerSegmentCache.Membership>>> running = new ArrayList<Future<PlayFabResult<PlayFabPlayerSegmentCache.Membership>>>();
+            for (int i = 0; i < lookups; i++)
+            {
+                final String playFabId = "p" + i;
+                running.add(PlayFabScheduler.io().submit(new Callable<PlayFabResult<PlayFabPlayerSegmentCache.Membership>>()
+                {
+                    public PlayFabResult<PlayFabPlayerSegmentCache.Membership> call() throws Exception
+                    {
+                        go.await(); // Only once every io() thread is taken by a lookup
+                        return cache.get(playFabId);
+                    }
+                }));
+            }
+            go.countDown();
+            for (Future<PlayFabResult<PlayFabPlayerSegmentCache.Membership>> lookup : running)
+                assertTrue(lookup.get(10, TimeUnit.SECONDS).Result.hasTag("VIP"));
+            assertEquals(lookups, server.calls(TAGS));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.playfab.PlayFabServerClock;
+import com.playfab.PlayFabSettings;
+
+public class PlayFabServerClockTest
+{
+    private static final String GET_TIME = "/Server/GetTime";
+    private static final long AHEAD_MILLIS = 3600000;
+
+    /**
+     * Server time is AHEAD_MILLIS ahead of local time, stamped halfway through a response delayed by the next entry of
+     * delays. Samples slower than the fastest one report a further 10 s, so using any of them shows in the offset.
+     */
+    private static class TimeService implements PlayFabTestServer.Handler
+    {
+        private final long[] delays;
+        private final long fastest;
+        private final AtomicInteger call = new AtomicInteger();
+
+        TimeService(long... delays)
+        {
+            this.delays = delays;
+            long min = Long.MAX_VALUE;
+            for (long delay : delays)
+                min = Math.min(min, delay);
+            this.fastest = min;
+        }
+
+        public String handle(String api, String body) throws Exception
+        {
+            long delay = delays[call.getAndIncrement() % delays.length];
+            Thread.sleep(delay / 2);
+            long stamp = System.currentTimeMillis() + AHEAD_MILLIS + (delay == fastest ? 0 : 10000);
+            Thread.sleep(delay / 2);
+            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+            format.setTimeZone(TimeZone.getTimeZone("UTC"));
+            return PlayFabTestServer.ok("{\"Time\":\"" + format.format(new Date(stamp)) + "\"}");
+        }
+    }
+
+    private String previousKey;
+
+    @Before
+    public void SetUp()
+    {
+        previousKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.DeveloperSecretKey = "secret";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.DeveloperSecretKey = previousKey;
+    }
+
+    @Test
+    public void KeepsTheShortestRoundTripAndExtrapolates() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new TimeService(300, 10, 200));
+        try
+        {
+            PlayFabServerClock clock = new PlayFabServerClock.Server(3, 60000);
+            assertFalse(clock.isSynced());
+            long offset = clock.sync().Result;
+            assertEquals(3, server.calls(GET_TIME));
+            assertTrue(clock.isSynced());
+            assertTrue("Round trip " + clock.getRoundTripMillis(), clock.getRoundTripMillis() < 200);
+            long tolerance = clock.getRoundTripMillis() / 2 + 20;
+            assertEquals(AHEAD_MILLIS, offset, tolerance); // Stamped at the midpoint of the fastest sample
+            assertEquals(offset, clock.getOffsetMillis());
+
+            assertEquals(System.currentTimeMillis() + AHEAD_MILLIS, clock.now(), tolerance);
+            Thread.sleep(250);
+            assertEquals(System.currentTimeMillis() + AHEAD_MILLIS, clock.now(), tolerance); // No call, still in step
+            assertEquals(3, server.calls(GET_TIME));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void ConcurrentStartsScheduleOneRefreshLoop() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new TimeService(0));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            final PlayFabServerClock clock = new PlayFabServerClock.Server(1, 50);
+            final CountDownLatch go = new CountDownLatch(1);
+            List<Future<?>> starts = new ArrayList<Future<?>>();
+            for (int i = 0; i < 8; i++)
+            {
+                starts.add(pool.submit(new Callable<Object>()
+                {
+                    public Object call() throws Exception
+                    {
+                        go.await();
+                        return clock.start();
+                    }
+                }));
+            }
+            go.countDown();
+            for (Future<?> start : starts)
+                start.get(5, TimeUnit.SECONDS);
+            clock.stop();
+
+            // Refreshes already handed to the io pool still run; a loop that was not cancelled never lets this settle
+            int calls = server.calls(GET_TIME);
+            long deadline = System.currentTimeMillis() + 3000;
+            do
+            {
+                int before = calls;
+                Thread.sleep(300);
+                calls = server.calls(GET_TIME);
+                if (calls == before)
+                    break;
+            }
+            while (System.currentTimeMillis() < deadline);
+            Thread.sleep(300);
+            assertEquals(calls, server.calls(GET_TIME)); // stop() cancelled the only loop
+        }
+        finally
+        {
+            pool.shutdown();
+            server.close();
+        }
+    }
+}
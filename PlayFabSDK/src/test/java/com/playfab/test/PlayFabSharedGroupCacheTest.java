@@ -0,0 +1,190 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabSharedGroupCache;
+import com.playfab.PlayFabErrors.*;
+
+public class PlayFabSharedGroupCacheTest
+{
+    private static final String UPDATE = "/Server/UpdateSharedGroupData";
+    private static final String GET = "/Server/GetSharedGroupData";
+
+    private String previousKey;
+
+    @Before
+    public void SetUp()
+    {
+        previousKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.DeveloperSecretKey = "secret";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.DeveloperSecretKey = previousKey;
+    }
+
+    @Test
+    public void RateLimitedWritesAreRetriedUnderNewerOnes() throws Exception
+    {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<JsonObject> updates = Collections.synchronizedList(new ArrayList<JsonObject>());
+        PlayFabTestServer server = new PlayFabTestServer(new PlayFabTestServer.Handler()
+        {
+            public String handle(String api, String body) throws Exception
+            {
+                updates.add(JsonParser.parseString(body).getAsJsonObject());
+                if (updates.size() > 1)
+                    return PlayFabTestServer.ok("{}");
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return PlayFabTestServer.error(PlayFabErrorCode.DataUpdateRateExceeded, "slow down");
+            }
+        });
+        try
+        {
+            PlayFabSharedGroupCache cache = new PlayFabSharedGroupCache.Server(60000, 10, 300, 3);
+            Future<PlayFabResult<Boolean>> first = cache.set("guild", "a", "1");
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<PlayFabResult<Boolean>> newer = cache.set("guild", "a", "2"); // Written while the first call is refused
+            Future<PlayFabResult<Boolean>> other = cache.remove("guild", "b");
+            release.countDown();
+
+            assertNull(first.get(5, TimeUnit.SECONDS).Error);
+            assertNull(newer.get(5, TimeUnit.SECONDS).Error);
+            assertNull(other.get(5, TimeUnit.SECONDS).Error);
+            assertEquals(2, server.calls(UPDATE)); // The newer writes joined the retry rather than going on their own
+            JsonObject retry = updates.get(1);
+            assertEquals("2", retry.getAsJsonObject("Data").get("a").getAsString());
+            assertEquals("b", retry.getAsJsonArray("KeysToRemove").get(0).getAsString());
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void WritesTakenBeforeARefusalSucceed() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new PlayFabTestServer.Handler()
+        {
+            public String handle(String api, String body)
+            {
+                if (api.equals(GET))
+                    return PlayFabTestServer.ok("{\"Data\":{},\"Members\":[]}");
+                JsonObject request = JsonParser.parseString(body).getAsJsonObject();
+                if (request.getAsJsonObject("Data").has("late"))
+                    return PlayFabTestServer.error(PlayFabErrorCode.InvalidParams, "refused");
+                return PlayFabTestServer.ok("{}");
+            }
+        });
+        try
+        {
+            PlayFabSharedGroupCache cache = new PlayFabSharedGroupCache.Server(60000, 10, 100, 3);
+            assertNotNull(cache.get("guild").Result);
+            Map<String, String> early = new LinkedHashMap<String, String>();
+            for (int i = 0; i < 10; i++)
+                early.put("k" + i, "v" + i);
+            Future<PlayFabResult<Boolean>> taken = cache.write("guild", early); // Fills the first call
+            Future<PlayFabResult<Boolean>> refused = cache.set("guild", "late", "x");
+            assertEquals("x", cache.get("guild").Result.getValue("late")); // Shown before it is sent
+
+            assertNull(taken.get(5, TimeUnit.SECONDS).Error);
+            assertEquals(PlayFabErrorCode.InvalidParams, refused.get(5, TimeUnit.SECONDS).Error.pfErrorCode);
+            assertEquals(2, server.calls(UPDATE));
+            assertNull(cache.get("guild").Result.getValue("late")); // Fetched again, without the refused write
+            assertEquals(2, server.calls(GET));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void SendsSlowerThanTheWindowLandInOrder() throws Exception
+    {
+        final Map<String, String> stored = new ConcurrentHashMap<String, String>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        PlayFabTestServer server = new PlayFabTestServer(new PlayFabTestServer.Handler()
+        {
+            public String handle(String api, String body) throws Exception
+            {
+                if (inFlight.incrementAndGet() > 1)
+                    overlaps.incrementAndGet();
+                JsonObject data = JsonParser.parseString(body).getAsJsonObject().getAsJsonObject("Data");
+                if (data.get("a").getAsString().equals("1"))
+                    Thread.sleep(300); // The first call outlasts the second write's window
+                stored.put("a", data.get("a").getAsString());
+                inFlight.decrementAndGet();
+                return PlayFabTestServer.ok("{}");
+            }
+        });
+        try
+        {
+            PlayFabSharedGroupCache cache = new PlayFabSharedGroupCache.Server(60000, 10, 50, 3);
+            Future<PlayFabResult<Boolean>> first = cache.set("guild", "a", "1");
+            Thread.sleep(100);
+            Future<PlayFabResult<Boolean>> second = cache.set("guild", "a", "2");
+            assertNull(first.get(5, TimeUnit.SECONDS).Error);
+            assertNull(second.get(5, TimeUnit.SECONDS).Error);
+            assertEquals(2, server.calls(UPDATE));
+            assertEquals(0, overlaps.get());
+            assertEquals("2", stored.get("a"));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void ConcurrentWritesAllShowInTheCachedGroup() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new PlayFabTestServer.Handler()
+        {
+            public String handle(String api, String body)
+            {
+                return PlayFabTestServer.ok(api.equals(GET) ? "{\"Data\":{},\"Members\":[]}" : "{}");
+            }
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            final PlayFabSharedGroupCache cache = new PlayFabSharedGroupCache.Server(60000, 10, 60000, 3);
+            assertNotNull(cache.get("guild").Result);
+            List<Future<?>> writes = new ArrayList<Future<?>>();
+            for (int i = 0; i < 200; i++)
+            {
+                final String key = "k" + i;
+                writes.add(pool.submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        cache.set("guild", key, "v");
+                    }
+                }));
+            }
+            for (Future<?> write : writes)
+                write.get(5, TimeUnit.SECONDS);
+            assertEquals(200, cache.get("guild").Result.getData().size());
+        }
+        finally
+        {
+            pool.shutdown();
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.gson.JsonParser;
+
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+import com.playfab.PlayFabProfilesModels.*;
+import com.playfab.internal.PlayFabGsonCodec;
+import com.playfab.internal.PlayFabStreamingJsonCodec;
+
+public class PlayFabStreamingJsonCodecTest
+{
+    private final PlayFabStreamingJsonCodec streaming = new PlayFabStreamingJsonCodec();
+    private final PlayFabGsonCodec gson = new PlayFabGsonCodec();
+
+    private static GetEntityProfilesRequest request(String id)
+    {
+        GetEntityProfilesRequest request = new GetEntityProfilesRequest();
+        request.DataAsObject = true;
+        request.CustomTags = new LinkedHashMap<String, String>();
+        request.CustomTags.put("html", "<a href='x'>&=</a>");
+        request.Entities = new ArrayList<EntityKey>();
+        EntityKey entity = new EntityKey();
+        entity.Id = id;
+        entity.Type = "title_player_account";
+        request.Entities.add(entity);
+        return request;
+    }
+
+    @Test
+    public void WritesTheSameMembersAsGsonWithoutHtmlEscaping()
+    {
+        GetEntityProfilesRequest request = request("A");
+        String json = streaming.toJson(request);
+        assertEquals(JsonParser.parseString(gson.toJson(request)), JsonParser.parseString(json));
+        assertTrue(json, json.contains("<a href='x'>&=</a>"));
+        assertEquals("null", streaming.toJson(null));
+    }
+
+    @Test
+    public void ReadsWhatItWrites()
+    {
+        GetEntityProfilesRequest decoded = streaming.fromJson(streaming.toJson(request("A")), GetEntityProfilesRequest.class);
+        assertEquals("A", decoded.Entities.get(0).Id);
+        assertEquals("<a href='x'>&=</a>", decoded.CustomTags.get("html"));
+        assertTrue(decoded.DataAsObject);
+    }
+
+    @Test
+    public void DecodesSuccessEnvelopes() throws Exception
+    {
+        String json = "{\"code\":200,\"status\":\"OK\",\"data\":{\"Profiles\":[{\"Entity\":{\"Id\":\"A\",\"Type\":\"title_player_account\"},\"VersionNumber\":3}]}}";
+        PlayFabJsonSuccess<GetEntityProfilesResponse> envelope = streaming.fromSuccessJson(json, GetEntityProfilesResponse.class);
+        assertEquals(200, envelope.code);
+        assertEquals("A", envelope.data.Profiles.get(0).Entity.Id);
+        assertEquals(Integer.valueOf(3), envelope.data.Profiles.get(0).VersionNumber);
+    }
+
+    @Test
+    public void BufferIsReusableAfterLargeAndConcurrentWrites() throws Exception
+    {
+        char[] large = new char[100 * 1024];
+        Arrays.fill(large, 'x');
+        assertTrue(streaming.toJson(request(new String(large))).length() > large.length);
+        assertEquals(JsonParser.parseString(gson.toJson(request("B"))), JsonParser.parseString(streaming.toJson(request("B"))));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 200; i++)
+            {
+                final String id = "id" + i;
+                results.add(pool.submit(new Callable<Boolean>()
+                {
+                    public Boolean call()
+                    {
+                        return streaming.fromJson(streaming.toJson(request(id)), GetEntityProfilesRequest.class).Entities.get(0).Id.equals(id);
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results)
+                assertTrue(result.get());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+}
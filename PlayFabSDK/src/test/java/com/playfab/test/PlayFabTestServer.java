@@ -0,0 +1,92 @@
+package com.playfab.test;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * A local stand-in for the PlayFab service. While it runs, PlayFabSettings.ProductionEnvironmentUrl points at it, so
+ * the generated API classes post to it unchanged; each test answers the calls it expects with a Handler.
+ */
+public class PlayFabTestServer implements Closeable
+{
+    public interface Handler
+    {
+        /** @return The response envelope, from ok or error */
+        String handle(String api, String body) throws Exception;
+    }
+
+    private final HttpServer server;
+    private final String previousUrl;
+    private final ConcurrentMap<String, AtomicInteger> calls = new ConcurrentHashMap<String, AtomicInteger>();
+
+    public PlayFabTestServer(final Handler handler) throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler()
+        {
+            public void handle(HttpExchange exchange) throws IOException
+            {
+                String api = exchange.getRequestURI().getPath();
+                calls.putIfAbsent(api, new AtomicInteger());
+                calls.get(api).incrementAndGet();
+                String response;
+                try
+                {
+                    response = handler.handle(api, read(exchange.getRequestBody()));
+                }
+                catch (Exception e)
+                {
+                    response = error(PlayFabErrorCode.InternalServerError, e.toString());
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(response.contains("\"code\":200,") ? 200 : 400, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        previousUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** @return How many times the api, e.g. "/Data/GetObjects", was called */
+    public int calls(String api)
+    {
+        AtomicInteger count = calls.get(api);
+        return count == null ? 0 : count.get();
+    }
+
+    public void close()
+    {
+        PlayFabSettings.ProductionEnvironmentUrl = previousUrl;
+        server.stop(0);
+    }
+
+    public static String ok(String dataJson)
+    {
+        return "{\"code\":200,\"status\":\"OK\",\"data\":" + dataJson + "}";
+    }
+
+    public static String error(PlayFabErrorCode code, String message)
+    {
+        return "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"" + code.name() + "\",\"errorCode\":" + code.id + ",\"errorMessage\":\"" + message.replace("\"", "'") + "\"}";
+    }
+
+    private static String read(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        for (int n; (n = in.read(buffer)) > 0; )
+            out.write(buffer, 0, n);
+        return out.toString("UTF-8");
+    }
+}
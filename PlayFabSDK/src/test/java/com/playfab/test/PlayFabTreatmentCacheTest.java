@@ -0,0 +1,141 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.util.*;
+
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabTreatmentCache;
+import com.playfab.PlayFabExperimentationModels.*;
+
+public class PlayFabTreatmentCacheTest
+{
+    private static final String EXPERIMENTS = "/Experimentation/GetExperiments";
+    private static final String ASSIGNMENT = "/Experimentation/GetTreatmentAssignment";
+
+    /** Two experiments, "a" with variants a1 and a2 and "b" with b1 and b2; every entity is in a2 and b1. */
+    private static class Experiments implements PlayFabTestServer.Handler
+    {
+        volatile int a1Traffic = 50;
+        volatile boolean reversed;
+
+        public String handle(String api, String body)
+        {
+            if (api.equals(ASSIGNMENT))
+                return PlayFabTestServer.ok("{\"TreatmentAssignment\":{\"Variants\":[\"a2\",\"b1\"],\"Variables\":[{\"Name\":\"color\",\"Value\":\"red\"}]}}");
+            String a = "{\"Id\":\"a\",\"Variants\":[{\"Id\":\"a1\",\"TrafficPercentage\":" + a1Traffic + "},{\"Id\":\"a2\",\"TrafficPercentage\":" + (100 - a1Traffic) + "}]}";
+            String b = "{\"Id\":\"b\",\"Variants\":[{\"Id\":\"b1\",\"TrafficPercentage\":50},{\"Id\":\"b2\",\"TrafficPercentage\":50}]}";
+            return PlayFabTestServer.ok("{\"Experiments\":[" + (reversed ? b + "," + a : a + "," + b) + "]}");
+        }
+    }
+
+    private static EntityKey entity(String id)
+    {
+        EntityKey entity = new EntityKey();
+        entity.Type = "title_player_account";
+        entity.Id = id;
+        return entity;
+    }
+
+    private String previousToken;
+
+    @Before
+    public void SetUp()
+    {
+        previousToken = PlayFabSettings.EntityToken;
+        PlayFabSettings.EntityToken = "token";
+    }
+
+    @After
+    public void TearDown()
+    {
+        PlayFabSettings.EntityToken = previousToken;
+    }
+
+    @Test
+    public void ChangedExperimentsDropEveryAssignment() throws Exception
+    {
+        Experiments service = new Experiments();
+        PlayFabTestServer server = new PlayFabTestServer(service);
+        try
+        {
+            PlayFabTreatmentCache cache = new PlayFabTreatmentCache(60000, 10);
+            assertFalse(cache.checkExperiments().Result); // The first check only records the experiments
+            assertEquals("red", cache.getVariable(entity("A"), "color", null));
+            assertEquals("none", cache.getVariable(entity("A"), "size", "none"));
+            assertEquals(1, server.calls(ASSIGNMENT));
+
+            service.reversed = true;
+            assertFalse(cache.checkExperiments().Result); // The same experiments in another order
+            cache.getAssignment(entity("A"));
+            assertEquals(1, server.calls(ASSIGNMENT));
+
+            service.a1Traffic = 10;
+            assertTrue(cache.checkExperiments().Result);
+            assertNull(cache.peekAssignment(entity("A")));
+            cache.getAssignment(entity("A"));
+            assertEquals(2, server.calls(ASSIGNMENT));
+            assertEquals(3, server.calls(EXPERIMENTS));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void VariantsAreResolvedAgainstTheCheckedExperiments() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Experiments());
+        try
+        {
+            PlayFabTreatmentCache cache = new PlayFabTreatmentCache(60000, 10);
+            assertNull(cache.getVariant(entity("A"), "a").Result); // No check has run, so no variant is known to be in "a"
+            assertTrue(cache.isInVariant(entity("A"), "a2").Result);
+
+            cache.checkExperiments();
+            assertEquals("a2", cache.getVariant(entity("A"), "a").Result);
+            assertEquals("b1", cache.getVariant(entity("A"), "b").Result);
+            assertNull(cache.getVariant(entity("A"), "c").Result);
+            assertEquals(1, server.calls(ASSIGNMENT));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void LoginAssignmentIsCachedForTheTokenItReturned() throws Exception
+    {
+        PlayFabTestServer server = new PlayFabTestServer(new Experiments());
+        try
+        {
+            PlayFabClientModels.LoginResult login = new PlayFabClientModels.LoginResult();
+            login.EntityToken = new PlayFabClientModels.EntityTokenResponse();
+            login.EntityToken.EntityToken = "login-token";
+            login.EntityToken.Entity = new PlayFabClientModels.EntityKey();
+            login.EntityToken.Entity.Type = "title_player_account";
+            login.EntityToken.Entity.Id = "A";
+            login.TreatmentAssignment = new PlayFabClientModels.TreatmentAssignment();
+            login.TreatmentAssignment.Variants = new ArrayList<String>(Arrays.asList("a1"));
+
+            PlayFabTreatmentCache cache = new PlayFabTreatmentCache(60000, 10);
+            cache.warm(login); // Before the login's token is in use
+            assertEquals(Arrays.asList("a1"), cache.getAssignment(entity("A")).Result.Variants);
+            PlayFabSettings.EntityToken = "login-token";
+            assertEquals(Arrays.asList("a1"), cache.getAssignment(null).Result.Variants);
+            assertEquals(0, server.calls(ASSIGNMENT));
+
+            PlayFabSettings.EntityToken = "token";
+            assertEquals(Arrays.asList("a2", "b1"), cache.getAssignment(null).Result.Variants); // Not the login's entity
+            assertEquals(1, server.calls(ASSIGNMENT));
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+}
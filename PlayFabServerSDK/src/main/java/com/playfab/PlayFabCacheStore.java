@@ -0,0 +1,18 @@
+package com.playfab;
+
+import java.nio.ByteBuffer;
+
+    /**
+     * Persistent storage for the SDK's read caches, so a restarted process can start from the responses it already had.
+     * Entries are addressed by a namespace, normally the API endpoint such as "/Client/GetTitleData", and a key within
+     * it. Values are opaque bytes written by the cache; implementations must be safe for concurrent use.
+     */
+public interface PlayFabCacheStore {
+    /** @return The stored value as a read-only buffer, or null if there is none */
+    public ByteBuffer read(String namespace, String key);
+
+    /** Replace the stored value. Failures are the store's to absorb: a cache that cannot persist still works. */
+    public void write(String namespace, String key, byte[] value);
+
+    public void remove(String namespace, String key);
+}
@@ -0,0 +1,196 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.*;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+    /**
+     * A cache of the legacy GetCatalogItems result per CatalogVersion, indexed by ItemId, ItemClass and tag. A catalog
+     * is kept for the TTL and then fetched again in the background while the old one is still served; the new response
+     * is only decoded and indexed if its text differs from the one already held, so an unchanged catalog costs a
+     * download but no parsing or allocation. Repeated strings across items (classes, tags, currency codes, bundle
+     * contents) are decoded to shared instances.
+     */
+public abstract class PlayFabCatalogCache<T> {
+    private final Class<T> itemType;
+    private final PlayFabCache<String, Catalog<T>> cache;
+
+    private PlayFabCatalogCache(Class<T> itemType, long ttlMillis, long staleMillis) {
+        this.itemType = itemType;
+        this.cache = new PlayFabCache<String, Catalog<T>>(new PlayFabCache.Loader<String, Catalog<T>>() {
+            public PlayFabResult<Catalog<T>> load(String catalogVersion, Catalog<T> previous) {
+                return fetchCatalog(catalogVersion.length() == 0 ? null : catalogVersion, previous);
+            }
+        }, ttlMillis, staleMillis, 64);
+    }
+
+    abstract PlayFabResult<? extends PlayFabLazyResult<?>> fetch(String catalogVersion);
+
+    abstract String itemId(T item);
+
+    abstract String itemClass(T item);
+
+    abstract List<String> tags(T item);
+
+    /**
+     * @param catalogVersion The catalog to read; null for the title's primary catalog
+     * @return The indexed catalog, from the cache when it can be served
+     */
+    public PlayFabResult<Catalog<T>> get(String catalogVersion) {
+        return cache.get(catalogVersion == null ? "" : catalogVersion);
+    }
+
+    /** @return One item of a catalog, loading the catalog if needed; null if it is not in the catalog or the load failed */
+    public T getItem(String catalogVersion, String itemId) {
+        Catalog<T> catalog = get(catalogVersion).Result;
+        return catalog == null ? null : catalog.getItem(itemId);
+    }
+
+    /** Fetch the catalog on next access, e.g. after it was edited through the Admin API. */
+    public void invalidate(String catalogVersion) {
+        cache.invalidate(catalogVersion == null ? "" : catalogVersion);
+    }
+
+    private PlayFabResult<Catalog<T>> fetchCatalog(String catalogVersion, Catalog<T> previous) {
+        PlayFabResult<Catalog<T>> result = new PlayFabResult<Catalog<T>>();
+        PlayFabResult<? extends PlayFabLazyResult<?>> response = fetch(catalogVersion);
+        if (response.Error != null) {
+            result.Error = response.Error;
+            return result;
+        }
+
+        String json = response.Result.getRawJson("Catalog");
+        if (json == null)
+            json = "[]";
+        long fingerprint = fingerprint(json);
+        if (previous != null && previous.fingerprint == fingerprint && previous.length == json.length()) {
+            result.Result = previous; // Unchanged, keep the existing index
+            return result;
+        }
+
+        try {
+            Type listType = TypeToken.getParameterized(ArrayList.class, itemType).getType();
+            PlayFabDedupingJsonReader reader = new PlayFabDedupingJsonReader(new StringReader(json));
+            @SuppressWarnings("unchecked")
+            List<T> items = (List<T>) PlayFabJson.gson.getAdapter(TypeToken.get(listType)).read(reader);
+            result.Result = new Catalog<T>(catalogVersion, items, this, fingerprint, json.length());
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return result;
+    }
+
+    /** 64-bit FNV-1a over the response text. */
+    private static long fingerprint(String json) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < json.length(); i++) {
+            hash ^= json.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** One catalog version with its indexes. Immutable; the lists returned must not be modified. */
+    public static final class Catalog<T> {
+        private final String catalogVersion;
+        private final List<T> items;
+        private final Map<String, T> byId;
+        private final Map<String, List<T>> byClass = new HashMap<String, List<T>>();
+        private final Map<String, List<T>> byTag = new HashMap<String, List<T>>();
+        final long fingerprint;
+        final int length;
+
+        Catalog(String catalogVersion, List<T> items, PlayFabCatalogCache<T> accessors, long fingerprint, int length) {
+            this.catalogVersion = catalogVersion;
+            this.items = Collections.unmodifiableList(items);
+            this.byId = new HashMap<String, T>(items.size() * 4 / 3 + 1);
+            this.fingerprint = fingerprint;
+            this.length = length;
+            for (T item : items) {
+                byId.put(accessors.itemId(item), item);
+                add(byClass, accessors.itemClass(item), item);
+                List<String> tags = accessors.tags(item);
+                if (tags != null) {
+                    for (String tag : tags)
+                        add(byTag, tag, item);
+                }
+            }
+        }
+
+        private static <T> void add(Map<String, List<T>> index, String key, T item) {
+            if (key == null)
+                return;
+            List<T> list = index.get(key);
+            if (list == null) {
+                list = new ArrayList<T>();
+                index.put(key, list);
+            }
+            list.add(item);
+        }
+
+        /** @return The version requested, or null for the primary catalog */
+        public String getCatalogVersion() {
+            return catalogVersion;
+        }
+
+        /** @return Every item, in catalog order */
+        public List<T> getItems() {
+            return items;
+        }
+
+        public T getItem(String itemId) {
+            return byId.get(itemId);
+        }
+
+        public List<T> getItemsByClass(String itemClass) {
+            List<T> list = byClass.get(itemClass);
+            return list == null ? Collections.<T>emptyList() : Collections.unmodifiableList(list);
+        }
+
+        public List<T> getItemsByTag(String tag) {
+            List<T> list = byTag.get(tag);
+            return list == null ? Collections.<T>emptyList() : Collections.unmodifiableList(list);
+        }
+
+        public Set<String> getItemClasses() {
+            return Collections.unmodifiableSet(byClass.keySet());
+        }
+
+        public Set<String> getTags() {
+            return Collections.unmodifiableSet(byTag.keySet());
+        }
+    }
+
+    /** Over PlayFabServerAPI.GetCatalogItems. */
+    public static class Server extends PlayFabCatalogCache<PlayFabServerModels.CatalogItem> {
+        /**
+         * @param ttlMillis How long a catalog is served before it is fetched again
+         * @param staleMillis How long after that the old catalog is still served while the new one is fetched
+         */
+        public Server(long ttlMillis, long staleMillis) {
+            super(PlayFabServerModels.CatalogItem.class, ttlMillis, staleMillis);
+        }
+
+        PlayFabResult<PlayFabLazyResult<PlayFabServerModels.GetCatalogItemsResult>> fetch(String catalogVersion) {
+            PlayFabServerModels.GetCatalogItemsRequest request = new PlayFabServerModels.GetCatalogItemsRequest();
+            request.CatalogVersion = catalogVersion;
+            return PlayFabLazyAPI.ServerGetCatalogItems(request);
+        }
+
+        String itemId(PlayFabServerModels.CatalogItem item) {
+            return item.ItemId;
+        }
+
+        String itemClass(PlayFabServerModels.CatalogItem item) {
+            return item.ItemClass;
+        }
+
+        List<String> tags(PlayFabServerModels.CatalogItem item) {
+            return item.Tags;
+        }
+    }
+}
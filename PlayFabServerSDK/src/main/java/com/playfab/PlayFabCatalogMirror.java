@@ -0,0 +1,450 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEconomyModels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * An in-memory copy of the published Economy catalog, for store views and filters that would otherwise each run a
+     * SearchItems query. The mirror pages through SearchItems once, optionally hydrating the results with GetItems, and
+     * then keeps itself current: every refresh interval it asks only for items modified since the last sync, and every
+     * full sync interval it pulls the whole catalog again so that deleted items drop out. Queries run against an
+     * immutable snapshot indexed by type, tag, content type and top-level display property, and are sorted locally.
+     * QueryRateLimitExceeded is waited out as PlayFab asks, on the background thread.
+     */
+public class PlayFabCatalogMirror {
+    private static final int PAGE_SIZE = 50; // SearchItems and GetItems maximum
+    private static final int MAX_RATE_LIMIT_RETRIES = 5;
+
+    public static final Comparator<CatalogItem> ByCreationDate = new Comparator<CatalogItem>() {
+        public int compare(CatalogItem a, CatalogItem b) {
+            return compareNullsLast(a.CreationDate, b.CreationDate);
+        }
+    };
+
+    public static final Comparator<CatalogItem> ByLastModifiedDate = new Comparator<CatalogItem>() {
+        public int compare(CatalogItem a, CatalogItem b) {
+            return compareNullsLast(a.LastModifiedDate, b.LastModifiedDate);
+        }
+    };
+
+    public static final Comparator<CatalogItem> ByRating = new Comparator<CatalogItem>() {
+        public int compare(CatalogItem a, CatalogItem b) {
+            return compareNullsLast(a.Rating == null ? null : a.Rating.Average, b.Rating == null ? null : b.Rating.Average);
+        }
+    };
+
+    private final boolean hydrate;
+    private final long refreshIntervalMillis;
+    private final long fullSyncIntervalMillis;
+    private final Object syncLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(Collections.<String, CatalogItem>emptyMap(), 0);
+    private volatile ScheduledFuture<?> schedule;
+    private volatile PlayFabError lastError;
+    private long lastFullSync;
+
+    /**
+     * @param hydrate Fetch each item with GetItems after finding it with SearchItems, for when the search result
+     *     metadata does not include every field the title reads
+     * @param refreshIntervalMillis How often to look for modified items
+     * @param fullSyncIntervalMillis How often to pull the whole catalog again
+     */
+    public PlayFabCatalogMirror(boolean hydrate, long refreshIntervalMillis, long fullSyncIntervalMillis) {
+        this.hydrate = hydrate;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.fullSyncIntervalMillis = fullSyncIntervalMillis;
+    }
+
+    /** Load the catalog now, then keep it current in the background until stop() is called. */
+    public PlayFabResult<Integer> start() {
+        PlayFabResult<Integer> result = sync(true);
+        if (schedule == null) {
+            schedule = PlayFabScheduler.get().scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        PlayFabScheduler.io().execute(new Runnable() {
+                            public void run() {
+                                sync(false);
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        // The io pool is saturated; the next run tries again
+                    }
+                }
+            }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    public void stop() {
+        ScheduledFuture<?> current = schedule;
+        schedule = null;
+        if (current != null)
+            current.cancel(false);
+    }
+
+    /**
+     * Bring the mirror up to date now: a full pull if requested or due, otherwise only items modified since the last sync.
+     * @return The number of items in the mirror afterwards
+     */
+    public PlayFabResult<Integer> sync(boolean full) {
+        PlayFabResult<Integer> result = new PlayFabResult<Integer>();
+        synchronized (syncLock) { // One sync at a time; a scheduled one that queued behind start() finds little to do
+            long startedAt = System.currentTimeMillis();
+            Snapshot current = snapshot;
+            full = full || current.syncedAt == 0 || startedAt - lastFullSync >= fullSyncIntervalMillis;
+            String filter = full ? null : "lastModifiedDate gt " + PlayFabDateCodec.format(current.syncedAt - refreshIntervalMillis);
+            PlayFabResult<List<CatalogItem>> pulled = pull(filter);
+            if (pulled.Error != null && !full && isFilterRejected(pulled.Error)) {
+                full = true; // The delta query was refused; fall back to a full pull
+                pulled = pull(null);
+            }
+            if (pulled.Error != null) {
+                lastError = pulled.Error;
+                result.Error = pulled.Error;
+                return result;
+            }
+
+            Map<String, CatalogItem> items = full ? new LinkedHashMap<String, CatalogItem>() : new LinkedHashMap<String, CatalogItem>(current.byId);
+            for (CatalogItem item : pulled.Result)
+                items.put(item.Id, item);
+            if (full || !pulled.Result.isEmpty())
+                snapshot = new Snapshot(items, startedAt);
+            else
+                snapshot = current.syncedAt(startedAt);
+            if (full)
+                lastFullSync = startedAt;
+            lastError = null;
+            result.Result = items.size();
+        }
+        return result;
+    }
+
+    /** @return The error from the latest sync, or null if it succeeded */
+    public PlayFabError getLastError() {
+        return lastError;
+    }
+
+    /** @return When the mirror was last brought up to date, as epoch milliseconds; 0 before the first sync */
+    public long getSyncedAt() {
+        return snapshot.syncedAt;
+    }
+
+    public int size() {
+        return snapshot.items.size();
+    }
+
+    public CatalogItem getItem(String id) {
+        return snapshot.byId.get(id);
+    }
+
+    /** @return Every item, in the order the catalog returned them */
+    public List<CatalogItem> getItems() {
+        return snapshot.items;
+    }
+
+    /** Start a query against the current contents of the mirror. */
+    public Query query() {
+        return new Query(snapshot);
+    }
+
+    /** Orders items by a display property: numbers, then text, then booleans; items without it sort last. */
+    public static Comparator<CatalogItem> byDisplayProperty(final String name) {
+        return new Comparator<CatalogItem>() {
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            public int compare(CatalogItem a, CatalogItem b) {
+                Object x = displayPropertyOf(a, name), y = displayPropertyOf(b, name);
+                int xRank = typeRank(x), yRank = typeRank(y);
+                if (xRank != yRank)
+                    return xRank < yRank ? -1 : 1;
+                return x == null ? 0 : ((Comparable) x).compareTo(y);
+            }
+        };
+    }
+
+    private PlayFabResult<List<CatalogItem>> pull(String filter) {
+        PlayFabResult<List<CatalogItem>> result = new PlayFabResult<List<CatalogItem>>();
+        List<CatalogItem> items = new ArrayList<CatalogItem>();
+        String continuationToken = null;
+        do {
+            SearchItemsRequest request = new SearchItemsRequest();
+            request.Count = PAGE_SIZE;
+            request.Filter = filter;
+            request.ContinuationToken = continuationToken;
+            PlayFabResult<SearchItemsResponse> page = withRetry(request);
+            if (page.Error != null) {
+                result.Error = page.Error;
+                return result;
+            }
+            if (page.Result.Items != null)
+                items.addAll(page.Result.Items);
+            continuationToken = page.Result.ContinuationToken;
+        } while (continuationToken != null && continuationToken.length() > 0);
+
+        if (hydrate) {
+            List<CatalogItem> hydrated = new ArrayList<CatalogItem>(items.size());
+            for (int start = 0; start < items.size(); start += PAGE_SIZE) {
+                GetItemsRequest request = new GetItemsRequest();
+                request.Ids = new ArrayList<String>();
+                for (CatalogItem item : items.subList(start, Math.min(start + PAGE_SIZE, items.size())))
+                    request.Ids.add(item.Id);
+                PlayFabResult<GetItemsResponse> batch = PlayFabEconomyAPI.GetItems(request);
+                if (batch.Error != null) {
+                    result.Error = batch.Error;
+                    return result;
+                }
+                if (batch.Result.Items != null)
+                    hydrated.addAll(batch.Result.Items);
+            }
+            items = hydrated;
+        }
+        result.Result = items;
+        return result;
+    }
+
+    private static PlayFabResult<SearchItemsResponse> withRetry(SearchItemsRequest request) {
+        for (int attempt = 0; ; attempt++) {
+            PlayFabResult<SearchItemsResponse> page = PlayFabEconomyAPI.SearchItems(request);
+            if (page.Error == null || page.Error.pfErrorCode != PlayFabErrorCode.QueryRateLimitExceeded || attempt == MAX_RATE_LIMIT_RETRIES)
+                return page;
+            long waitMillis = page.Error.retryAfterSeconds != null ? page.Error.retryAfterSeconds * 1000L : 1000L << attempt;
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return page;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object displayPropertyOf(CatalogItem item, String name) {
+        if (!(item.DisplayProperties instanceof Map))
+            return null;
+        return indexValue(((Map<String, Object>) item.DisplayProperties).get(name));
+    }
+
+    /** Display properties decode to Double, String or Boolean; queries are normalized the same way. */
+    private static Object indexValue(Object value) {
+        if (value instanceof Number)
+            return ((Number) value).doubleValue();
+        if (value instanceof String || value instanceof Boolean)
+            return value;
+        return null;
+    }
+
+    private static <C extends Comparable<C>> int compareNullsLast(C a, C b) {
+        if (a == null)
+            return b == null ? 0 : 1;
+        return b == null ? -1 : a.compareTo(b);
+    }
+
+    /** @return The position of an index value's type in the display property order, absent values last */
+    private static int typeRank(Object value) {
+        if (value instanceof Double)
+            return 0;
+        if (value instanceof String)
+            return 1;
+        if (value instanceof Boolean)
+            return 2;
+        return 3;
+    }
+
+    /** @return True if the error refuses the delta query itself, rather than being transient like a rate limit */
+    private static boolean isFilterRejected(PlayFabError error) {
+        switch (error.pfErrorCode) {
+            case CatalogSearchParameterInvalid:
+            case InvalidParams:
+            case InvalidRequest:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** The mirror's contents at one sync, with its indexes. Never modified once built. */
+    private static final class Snapshot {
+        final long syncedAt;
+        final Map<String, CatalogItem> byId;
+        final List<CatalogItem> items;
+        final Map<String, List<CatalogItem>> byType;
+        final Map<String, List<CatalogItem>> byTag;
+        final Map<String, List<CatalogItem>> byContentType;
+        final Map<String, Map<Object, List<CatalogItem>>> byDisplayProperty;
+
+        Snapshot(Map<String, CatalogItem> byId, long syncedAt) {
+            this.syncedAt = syncedAt;
+            this.byId = byId;
+            this.items = Collections.unmodifiableList(new ArrayList<CatalogItem>(byId.values()));
+            this.byType = new HashMap<String, List<CatalogItem>>();
+            this.byTag = new HashMap<String, List<CatalogItem>>();
+            this.byContentType = new HashMap<String, List<CatalogItem>>();
+            this.byDisplayProperty = new HashMap<String, Map<Object, List<CatalogItem>>>();
+            for (CatalogItem item : items) {
+                add(byType, item.Type, item);
+                add(byContentType, item.ContentType, item);
+                if (item.Tags != null) {
+                    for (String tag : item.Tags)
+                        add(byTag, tag, item);
+                }
+                if (item.DisplayProperties instanceof Map) {
+                    for (Map.Entry<?, ?> property : ((Map<?, ?>) item.DisplayProperties).entrySet()) {
+                        Object value = indexValue(property.getValue());
+                        if (value == null)
+                            continue;
+                        String name = String.valueOf(property.getKey());
+                        Map<Object, List<CatalogItem>> values = byDisplayProperty.get(name);
+                        if (values == null) {
+                            values = new HashMap<Object, List<CatalogItem>>();
+                            byDisplayProperty.put(name, values);
+                        }
+                        add(values, value, item);
+                    }
+                }
+            }
+        }
+
+        private Snapshot(Snapshot contents, long syncedAt) {
+            this.syncedAt = syncedAt;
+            this.byId = contents.byId;
+            this.items = contents.items;
+            this.byType = contents.byType;
+            this.byTag = contents.byTag;
+            this.byContentType = contents.byContentType;
+            this.byDisplayProperty = contents.byDisplayProperty;
+        }
+
+        /** The same contents, confirmed current at a later time. */
+        Snapshot syncedAt(long time) {
+            return new Snapshot(this, time);
+        }
+
+        private static <K> void add(Map<K, List<CatalogItem>> index, K key, CatalogItem item) {
+            if (key == null)
+                return;
+            List<CatalogItem> list = index.get(key);
+            if (list == null) {
+                list = new ArrayList<CatalogItem>();
+                index.put(key, list);
+            }
+            list.add(item);
+        }
+    }
+
+    /**
+     * Conditions on one snapshot, all of which must hold. The most selective indexed condition picks the candidates and
+     * the rest are checked item by item, so a query costs about the size of its smallest matching index.
+     */
+    public static final class Query {
+        private final Snapshot snapshot;
+        private String type;
+        private String contentType;
+        private final List<String> tags = new ArrayList<String>();
+        private final Map<String, Object> displayProperties = new HashMap<String, Object>();
+        private Comparator<CatalogItem> order;
+        private int skip;
+        private int limit = Integer.MAX_VALUE;
+
+        private Query(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public Query type(String type) {
+            this.type = type;
+            return this;
+        }
+
+        /** Require a tag; each call adds one more. */
+        public Query tag(String tag) {
+            tags.add(tag);
+            return this;
+        }
+
+        public Query contentType(String contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        /** Match a top-level display property exactly; numbers match regardless of their Java type. */
+        public Query displayProperty(String name, Object value) {
+            displayProperties.put(name, indexValue(value));
+            return this;
+        }
+
+        public Query orderBy(Comparator<CatalogItem> order) {
+            this.order = order;
+            return this;
+        }
+
+        public Query skip(int skip) {
+            this.skip = skip;
+            return this;
+        }
+
+        public Query limit(int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /** @return The matching items, ordered, after skip and limit */
+        public List<CatalogItem> list() {
+            List<CatalogItem> matches = matches();
+            if (order != null)
+                Collections.sort(matches, order);
+            int from = Math.min(skip, matches.size());
+            int to = (int) Math.min((long) from + limit, matches.size());
+            return matches.subList(from, to);
+        }
+
+        /** @return The number of matching items, ignoring skip and limit */
+        public int count() {
+            return matches().size();
+        }
+
+        private List<CatalogItem> matches() {
+            List<List<CatalogItem>> candidates = new ArrayList<List<CatalogItem>>();
+            if (type != null)
+                candidates.add(snapshot.byType.get(type));
+            if (contentType != null)
+                candidates.add(snapshot.byContentType.get(contentType));
+            for (String tag : tags)
+                candidates.add(snapshot.byTag.get(tag));
+            for (Map.Entry<String, Object> property : displayProperties.entrySet()) {
+                Map<Object, List<CatalogItem>> values = snapshot.byDisplayProperty.get(property.getKey());
+                candidates.add(values == null || property.getValue() == null ? null : values.get(property.getValue()));
+            }
+
+            List<CatalogItem> source = snapshot.items;
+            for (List<CatalogItem> candidate : candidates) {
+                if (candidate == null)
+                    return new ArrayList<CatalogItem>(); // Some condition matches nothing
+                if (candidate.size() < source.size())
+                    source = candidate;
+            }
+            List<CatalogItem> matches = new ArrayList<CatalogItem>();
+            for (CatalogItem item : source) {
+                if (accepts(item))
+                    matches.add(item);
+            }
+            return matches;
+        }
+
+        private boolean accepts(CatalogItem item) {
+            if (type != null && !type.equals(item.Type))
+                return false;
+            if (contentType != null && !contentType.equals(item.ContentType))
+                return false;
+            for (String tag : tags) {
+                if (item.Tags == null || !item.Tags.contains(tag))
+                    return false;
+            }
+            for (Map.Entry<String, Object> property : displayProperties.entrySet()) {
+                if (!property.getValue().equals(displayPropertyOf(item, property.getKey())))
+                    return false;
+            }
+            return true;
+        }
+    }
+}
@@ -6,13 +6,9 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** API methods for executing CloudScript using an Entity Profile */
 public class PlayFabCloudScriptAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
      * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
@@ -72,7 +68,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExecuteCloudScriptResult.class);
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -139,7 +135,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ExecuteFunctionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteFunctionResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteFunctionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ExecuteFunctionResult.class);
         ExecuteFunctionResult result = resultData.data;
 
         PlayFabResult<ExecuteFunctionResult> pfResult = new PlayFabResult<ExecuteFunctionResult>();
@@ -201,7 +197,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetFunctionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFunctionResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFunctionResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetFunctionResult.class);
         GetFunctionResult result = resultData.data;
 
         PlayFabResult<GetFunctionResult> pfResult = new PlayFabResult<GetFunctionResult>();
@@ -263,7 +259,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListFunctionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListFunctionsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListFunctionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListFunctionsResult.class);
         ListFunctionsResult result = resultData.data;
 
         PlayFabResult<ListFunctionsResult> pfResult = new PlayFabResult<ListFunctionsResult>();
@@ -325,7 +321,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListHttpFunctionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListHttpFunctionsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListHttpFunctionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListHttpFunctionsResult.class);
         ListHttpFunctionsResult result = resultData.data;
 
         PlayFabResult<ListHttpFunctionsResult> pfResult = new PlayFabResult<ListHttpFunctionsResult>();
@@ -387,7 +383,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListQueuedFunctionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListQueuedFunctionsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListQueuedFunctionsResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListQueuedFunctionsResult.class);
         ListQueuedFunctionsResult result = resultData.data;
 
         PlayFabResult<ListQueuedFunctionsResult> pfResult = new PlayFabResult<ListQueuedFunctionsResult>();
@@ -449,7 +445,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -511,7 +507,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -573,7 +569,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -635,7 +631,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -697,7 +693,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -759,7 +755,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -821,7 +817,7 @@ public class PlayFabCloudScriptAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = PlayFabJson.fromSuccessJson(resultRawJson, EmptyResult.class);
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
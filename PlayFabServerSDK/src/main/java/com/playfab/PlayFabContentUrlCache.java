@@ -0,0 +1,203 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import java.net.URLDecoder;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+    /**
+     * A cache of GetContentDownloadUrl results keyed by content key and HTTP method. Each URL is kept until shortly
+     * before it expires, as read from its signature (the se parameter of an Azure SAS or the Expires parameter of a
+     * CloudFront URL), or for defaultLifetimeMillis when it carries neither. In the last renewAheadMillis of a URL's life
+     * it is still handed out while a background call replaces it, so callers in a steady stream never wait on a renewal,
+     * and no URL is handed out with less than half of renewAheadMillis left. prefetch resolves a whole asset manifest
+     * with several calls in flight at once instead of one after another.
+     */
+public abstract class PlayFabContentUrlCache {
+    /** A URL, when its call returned, and when it stops working. */
+    private static final class ContentUrl {
+        final String url;
+        final long receivedAt;
+        final long expiresAt;
+
+        ContentUrl(String url, long receivedAt, long expiresAt) {
+            this.url = url;
+            this.receivedAt = receivedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final long defaultLifetimeMillis;
+    private final long renewAheadMillis;
+    private final int maxConcurrentFetches;
+    private final PlayFabCache<String, ContentUrl> urls;
+
+    private PlayFabContentUrlCache(long defaultLifetimeMillis, final long renewAheadMillis, int maxEntries, int maxConcurrentFetches) {
+        this.defaultLifetimeMillis = defaultLifetimeMillis;
+        this.renewAheadMillis = renewAheadMillis;
+        this.maxConcurrentFetches = Math.max(1, maxConcurrentFetches);
+        this.urls = new PlayFabCache<String, ContentUrl>(new PlayFabCache.Loader<String, ContentUrl>() {
+            public PlayFabResult<ContentUrl> load(String cacheKey, ContentUrl previous) {
+                int split = cacheKey.indexOf('\n');
+                long requestedAt = System.currentTimeMillis();
+                PlayFabResult<String> url = fetch(cacheKey.substring(split + 1), cacheKey.substring(0, split));
+                PlayFabResult<ContentUrl> result = new PlayFabResult<ContentUrl>();
+                result.Error = url.Error;
+                if (url.Error == null && url.Result != null)
+                    result.Result = new ContentUrl(url.Result, System.currentTimeMillis(), expiresAt(url.Result, requestedAt));
+                return result;
+            }
+        }, defaultLifetimeMillis, renewAheadMillis / 2, maxEntries) {
+            @Override
+            protected long ttlFor(String cacheKey, ContentUrl url) {
+                // Counted from when the call returned, as the cache counts it, so a slow call does not stretch the URL's
+                // life; negative when less than renewAheadMillis is left, so the stale window still ends halfway through it
+                return url.expiresAt - url.receivedAt - renewAheadMillis;
+            }
+        };
+    }
+
+    abstract PlayFabResult<String> fetch(String key, String httpMethod);
+
+    /** @return A GET URL for the content key, from the cache while it has time left */
+    public PlayFabResult<String> getUrl(String key) {
+        return getUrl(key, "GET");
+    }
+
+    /** @param httpMethod GET, or HEAD to fetch only the content's metadata */
+    public PlayFabResult<String> getUrl(String key, String httpMethod) {
+        PlayFabResult<ContentUrl> cached = urls.get(cacheKey(key, httpMethod));
+        PlayFabResult<String> result = new PlayFabResult<String>();
+        result.Error = cached.Error;
+        if (cached.Result != null)
+            result.Result = cached.Result.url;
+        return result;
+    }
+
+    /**
+     * Resolve GET URLs for every key of a manifest, with up to maxConcurrentFetches calls in flight; keys already
+     * cached cost nothing.
+     * @return The URLs keyed by content key; the first error fails the whole prefetch, though URLs fetched are kept
+     */
+    public PlayFabResult<Map<String, String>> prefetch(Collection<String> keys) {
+        return prefetch(keys, "GET");
+    }
+
+    public PlayFabResult<Map<String, String>> prefetch(Collection<String> keys, final String httpMethod) {
+        final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<String>(new LinkedHashSet<String>(keys));
+        final ConcurrentMap<String, String> fetched = new ConcurrentHashMap<String, String>();
+        final AtomicReference<PlayFabError> failure = new AtomicReference<PlayFabError>();
+        int workers = Math.min(maxConcurrentFetches, queue.size());
+        List<Future<?>> running = new ArrayList<Future<?>>(workers);
+        Runnable worker = new Runnable() {
+            public void run() {
+                String key;
+                while (failure.get() == null && (key = queue.poll()) != null) {
+                    PlayFabResult<String> url = getUrl(key, httpMethod);
+                    if (url.Error != null)
+                        failure.compareAndSet(null, url.Error);
+                    else if (url.Result != null)
+                        fetched.put(key, url.Result);
+                }
+            }
+        };
+        for (int i = 1; i < workers; i++) {
+            try {
+                running.add(PlayFabScheduler.io().submit(worker));
+            } catch (RejectedExecutionException e) {
+                break; // The io pool is saturated; fewer workers drain the same queue
+            }
+        }
+        if (workers > 0)
+            worker.run(); // The calling thread is one of the workers, so the prefetch progresses even when io() is saturated
+
+        PlayFabResult<Map<String, String>> result = new PlayFabResult<Map<String, String>>();
+        for (Future<?> task : running) {
+            try {
+                task.get();
+            } catch (Exception e) {
+                failure.compareAndSet(null, PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null));
+            }
+        }
+        if (failure.get() != null) {
+            result.Error = failure.get();
+            return result;
+        }
+        Map<String, String> ordered = new LinkedHashMap<String, String>();
+        for (String key : keys)
+            if (fetched.containsKey(key))
+                ordered.put(key, fetched.get(key));
+        result.Result = ordered;
+        return result;
+    }
+
+    /** Drop the key's URLs, e.g. after the content was replaced. */
+    public void invalidate(String key) {
+        urls.invalidate(cacheKey(key, "GET"));
+        urls.invalidate(cacheKey(key, "HEAD"));
+    }
+
+    public void invalidateAll() {
+        urls.invalidateAll();
+    }
+
+    private static String cacheKey(String key, String httpMethod) {
+        return (httpMethod == null ? "GET" : httpMethod.toUpperCase(Locale.ROOT)) + "\n" + key;
+    }
+
+    /** @return When the signed URL stops working, or requestedAt plus the default lifetime if it does not say */
+    private long expiresAt(String url, long requestedAt) {
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            for (String parameter : url.substring(query + 1).split("&")) {
+                int split = parameter.indexOf('=');
+                if (split < 0)
+                    continue;
+                String name = parameter.substring(0, split);
+                try {
+                    String value = URLDecoder.decode(parameter.substring(split + 1), "UTF-8");
+                    if (name.equals("se"))
+                        return Math.min(PlayFabDateCodec.parseMillis(value), requestedAt + defaultLifetimeMillis);
+                    if (name.equals("Expires"))
+                        return Math.min(Long.parseLong(value) * 1000, requestedAt + defaultLifetimeMillis);
+                } catch (Exception e) {
+                    // Not a signature we understand; fall back to the default lifetime
+                }
+            }
+        }
+        return requestedAt + defaultLifetimeMillis;
+    }
+
+    /** Over PlayFabServerAPI.GetContentDownloadUrl. */
+    public static class Server extends PlayFabContentUrlCache {
+        private final Boolean thruCDN;
+
+        /**
+         * @param defaultLifetimeMillis How long a URL is assumed to work when its signature does not say; PlayFab
+         *     documents about an hour
+         * @param renewAheadMillis How long before a URL expires it starts being renewed in the background
+         * @param maxEntries Upper bound on the number of cached URLs
+         * @param maxConcurrentFetches How many GetContentDownloadUrl calls a prefetch keeps in flight
+         * @param thruCDN False to bypass the CDN, e.g. during development; null for the default
+         */
+        public Server(long defaultLifetimeMillis, long renewAheadMillis, int maxEntries, int maxConcurrentFetches, Boolean thruCDN) {
+            super(defaultLifetimeMillis, renewAheadMillis, maxEntries, maxConcurrentFetches);
+            this.thruCDN = thruCDN;
+        }
+
+        PlayFabResult<String> fetch(String key, String httpMethod) {
+            PlayFabServerModels.GetContentDownloadUrlRequest request = new PlayFabServerModels.GetContentDownloadUrlRequest();
+            request.Key = key;
+            request.HttpMethod = httpMethod;
+            request.ThruCDN = thruCDN;
+            PlayFabResult<PlayFabServerModels.GetContentDownloadUrlResult> response = PlayFabServerAPI.GetContentDownloadUrl(request);
+            PlayFabResult<String> result = new PlayFabResult<String>();
+            result.Error = response.Error;
+            if (response.Result != null)
+                result.Result = response.Result.URL;
+            return result;
+        }
+    }
+}
@@ -6,16 +6,12 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * Write custom PlayStream and Telemetry events for any PlayFab entity. Telemetry events can be used for analytic,
      * reporting, or debugging. PlayStream events can do all of that and also trigger custom actions in near real-time.
      */
 public class PlayFabEventsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Creates a new telemetry key for the title.
      * @param request CreateTelemetryKeyRequest
@@ -70,7 +66,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<CreateTelemetryKeyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTelemetryKeyResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateTelemetryKeyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, CreateTelemetryKeyResponse.class);
         CreateTelemetryKeyResponse result = resultData.data;
 
         PlayFabResult<CreateTelemetryKeyResponse> pfResult = new PlayFabResult<CreateTelemetryKeyResponse>();
@@ -132,7 +128,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<DeleteTelemetryKeyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteTelemetryKeyResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteTelemetryKeyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, DeleteTelemetryKeyResponse.class);
         DeleteTelemetryKeyResponse result = resultData.data;
 
         PlayFabResult<DeleteTelemetryKeyResponse> pfResult = new PlayFabResult<DeleteTelemetryKeyResponse>();
@@ -194,7 +190,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTelemetryKeyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTelemetryKeyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTelemetryKeyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTelemetryKeyResponse.class);
         GetTelemetryKeyResponse result = resultData.data;
 
         PlayFabResult<GetTelemetryKeyResponse> pfResult = new PlayFabResult<GetTelemetryKeyResponse>();
@@ -256,7 +252,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<ListTelemetryKeysResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListTelemetryKeysResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListTelemetryKeysResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, ListTelemetryKeysResponse.class);
         ListTelemetryKeysResponse result = resultData.data;
 
         PlayFabResult<ListTelemetryKeysResponse> pfResult = new PlayFabResult<ListTelemetryKeysResponse>();
@@ -318,7 +314,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetTelemetryKeyActiveResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTelemetryKeyActiveResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetTelemetryKeyActiveResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetTelemetryKeyActiveResponse.class);
         SetTelemetryKeyActiveResponse result = resultData.data;
 
         PlayFabResult<SetTelemetryKeyActiveResponse> pfResult = new PlayFabResult<SetTelemetryKeyActiveResponse>();
@@ -380,7 +376,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventsResponse.class);
         WriteEventsResponse result = resultData.data;
 
         PlayFabResult<WriteEventsResponse> pfResult = new PlayFabResult<WriteEventsResponse>();
@@ -447,7 +443,7 @@ public class PlayFabEventsAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<WriteEventsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, WriteEventsResponse.class);
         WriteEventsResponse result = resultData.data;
 
         PlayFabResult<WriteEventsResponse> pfResult = new PlayFabResult<WriteEventsResponse>();
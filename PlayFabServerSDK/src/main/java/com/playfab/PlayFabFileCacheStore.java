@@ -0,0 +1,74 @@
+package com.playfab;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+    /**
+     * A PlayFabCacheStore that keeps each entry in its own file under a directory, named by a hash of namespace and key.
+     * Writes go to a temporary file that is then moved into place, so a reader never sees a partial entry.
+     */
+public class PlayFabFileCacheStore implements PlayFabCacheStore {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final File directory;
+
+    public PlayFabFileCacheStore(File directory) {
+        if (directory == null)
+            throw new IllegalArgumentException("directory");
+        this.directory = directory;
+    }
+
+    public ByteBuffer read(String namespace, String key) {
+        File file = fileFor(namespace, key);
+        if (!file.isFile())
+            return null;
+        try {
+            return ByteBuffer.wrap(Files.readAllBytes(file.toPath())).asReadOnlyBuffer();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void write(String namespace, String key, byte[] value) {
+        File file = fileFor(namespace, key);
+        try {
+            if (!directory.isDirectory())
+                Files.createDirectories(directory.toPath());
+            File temp = File.createTempFile(file.getName(), ".tmp", directory);
+            try {
+                Files.write(temp.toPath(), value);
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            // Persistence is best-effort; the in-memory cache is unaffected
+        }
+    }
+
+    public void remove(String namespace, String key) {
+        fileFor(namespace, key).delete();
+    }
+
+    private File fileFor(String namespace, String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(namespace.getBytes(UTF8));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(key.getBytes(UTF8));
+            char[] name = new char[hash.length * 2];
+            for (int i = 0; i < hash.length; i++) {
+                name[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+                name[i * 2 + 1] = HEX[hash[i] & 0xf];
+            }
+            return new File(directory, new String(name) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
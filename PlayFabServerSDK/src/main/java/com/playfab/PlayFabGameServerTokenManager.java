@@ -0,0 +1,284 @@
+package com.playfab;
+
+import com.playfab.PlayFabAuthenticationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabHTTP;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * Owns the game_server entity token for a process. The token is obtained with AuthenticateGameServerWithCustomId at start,
+     * optionally shared with other processes on the same host through a locked token file, and renewed before it expires.
+     * Only one co-located process performs the network round trip; the others adopt the token it wrote.
+     */
+public class PlayFabGameServerTokenManager {
+    private static final String KEY_TOKEN = "entityToken";
+    private static final String KEY_ENTITY_ID = "entityId";
+    private static final String KEY_ENTITY_TYPE = "entityType";
+    private static final String KEY_EXPIRATION = "tokenExpiration";
+
+    private final String customId;
+    private final File sharedTokenFile;
+    private long renewBeforeExpiryMillis = 10 * 60 * 1000; // Renew this long before the token expires
+    private long retryDelayMillis = 30 * 1000; // Delay before retrying a failed renewal
+
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> pendingRenewal;
+    private volatile EntityTokenResponse current;
+
+    /**
+     * @param customId The game_server customId, between 32 and 100 characters
+     * @param sharedTokenFile File shared by every process on the host, or null to keep the token in memory only
+     */
+    public PlayFabGameServerTokenManager(String customId, File sharedTokenFile) {
+        this.customId = customId;
+        this.sharedTokenFile = sharedTokenFile;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "PlayFabGameServerTokenManager");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    public void setRenewBeforeExpiryMillis(long renewBeforeExpiryMillis) {
+        this.renewBeforeExpiryMillis = renewBeforeExpiryMillis;
+    }
+
+    public void setRetryDelayMillis(long retryDelayMillis) {
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    /**
+     * Acquire a token, either from the shared file or by authenticating, install it in PlayFabSettings.EntityToken and
+     * schedule its renewal.
+     * @return The token in use, or the error that prevented acquiring one
+     */
+    public synchronized PlayFabResult<EntityTokenResponse> start() {
+        PlayFabResult<EntityTokenResponse> result = acquire(false);
+        scheduleRenewal(result.Error == null ? delayUntilRenewal(result.Result) : retryDelayMillis);
+        return result;
+    }
+
+    /** Cancel any pending renewal and stop the renewal thread. The shared token file is left for other processes. */
+    public synchronized void shutdown() {
+        if (pendingRenewal != null)
+            pendingRenewal.cancel(false);
+        scheduler.shutdownNow();
+    }
+
+    /** @return The current game_server entity token, or null before a successful start */
+    public String getEntityToken() {
+        EntityTokenResponse token = current;
+        return token == null ? null : token.EntityToken;
+    }
+
+    /** @return The current game_server entity, or null before a successful start */
+    public EntityKey getEntity() {
+        EntityTokenResponse token = current;
+        return token == null ? null : token.Entity;
+    }
+
+    private synchronized void renew() {
+        PlayFabResult<EntityTokenResponse> result = acquire(true);
+        scheduleRenewal(result.Error == null ? delayUntilRenewal(result.Result) : retryDelayMillis);
+    }
+
+    private void scheduleRenewal(long delayMillis) {
+        if (pendingRenewal != null)
+            pendingRenewal.cancel(false); // A second start replaces the renewal the first one scheduled
+        if (delayMillis < 0 || scheduler.isShutdown())
+            return;
+        pendingRenewal = scheduler.schedule(new Runnable() {
+            public void run() {
+                renew();
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private long delayUntilRenewal(EntityTokenResponse token) {
+        if (token.TokenExpiration == null)
+            return -1; // Non-expiring token
+        return Math.max(0, token.TokenExpiration.getTime() - renewBeforeExpiryMillis - System.currentTimeMillis());
+    }
+
+    private boolean isFresh(EntityTokenResponse token) {
+        return token != null && token.EntityToken != null
+            && (token.TokenExpiration == null || token.TokenExpiration.getTime() - renewBeforeExpiryMillis > System.currentTimeMillis());
+    }
+
+    private PlayFabResult<EntityTokenResponse> acquire(boolean renewing) {
+        if (sharedTokenFile == null)
+            return install(renewing ? refresh() : authenticate());
+
+        FileChannel channel = null;
+        FileLock lock = null;
+        EntityTokenResponse shared;
+        try {
+            channel = open(sharedTokenFile);
+            lock = channel.lock();
+            shared = read(channel);
+        } catch (IOException e) {
+            release(channel, lock);
+            // The shared file is an optimization; fall back to authenticating this process on its own
+            return install(renewing ? refresh() : authenticate());
+        }
+
+        try {
+            // Another process may already have written a token that is good for a while yet
+            if (isFresh(shared) && (current == null || !shared.EntityToken.equals(current.EntityToken)))
+                return install(success(shared));
+
+            PlayFabResult<EntityTokenResponse> result = install(renewing || isFresh(shared) ? refresh() : authenticate());
+            if (result.Error == null) {
+                try {
+                    write(channel, result.Result);
+                } catch (IOException e) {
+                    // The token is still good for this process; the others authenticate on their own
+                }
+            }
+            return result;
+        } finally {
+            release(channel, lock);
+        }
+    }
+
+    private PlayFabResult<EntityTokenResponse> install(PlayFabResult<EntityTokenResponse> result) {
+        if (result.Error == null) {
+            current = result.Result;
+            PlayFabSettings.EntityToken = result.Result.EntityToken;
+        }
+        return result;
+    }
+
+    /** Exchange the current, still valid game_server token for a fresh one, authenticating from scratch if that fails. */
+    private PlayFabResult<EntityTokenResponse> refresh() {
+        EntityTokenResponse token = current;
+        if (token == null || token.EntityToken == null)
+            return authenticate();
+
+        PlayFabSettings.EntityToken = token.EntityToken;
+        PlayFabResult<GetEntityTokenResponse> refreshed = PlayFabAuthenticationAPI.GetEntityToken(new GetEntityTokenRequest());
+        if (refreshed.Error != null || refreshed.Result == null || refreshed.Result.EntityToken == null)
+            return authenticate();
+
+        EntityTokenResponse output = new EntityTokenResponse();
+        output.Entity = refreshed.Result.Entity != null ? refreshed.Result.Entity : token.Entity;
+        output.EntityToken = refreshed.Result.EntityToken;
+        output.TokenExpiration = refreshed.Result.TokenExpiration;
+        return success(output);
+    }
+
+    /** Obtain a title entity token from the developer secret key, then authenticate the game_server with it. */
+    private PlayFabResult<EntityTokenResponse> authenticate() {
+        if (PlayFabSettings.DeveloperSecretKey != null) {
+            PlayFabSettings.EntityToken = null;
+            PlayFabResult<GetEntityTokenResponse> titleToken = PlayFabAuthenticationAPI.GetEntityToken(new GetEntityTokenRequest());
+            if (titleToken.Error != null)
+                return failure(titleToken.Error);
+        }
+
+        AuthenticateCustomIdRequest request = new AuthenticateCustomIdRequest();
+        request.CustomId = customId;
+        PlayFabResult<AuthenticateCustomIdResult> authResult = PlayFabAuthenticationAPI.AuthenticateGameServerWithCustomId(request);
+        if (authResult.Error != null)
+            return failure(authResult.Error);
+        if (authResult.Result == null || authResult.Result.EntityToken == null || authResult.Result.EntityToken.EntityToken == null)
+            return failure(PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, "AuthenticateGameServerWithCustomId returned no entity token", null, null));
+        return success(authResult.Result.EntityToken);
+    }
+
+    /** Open the token file, creating it readable and writable by its owner only where the file system supports it. */
+    private static FileChannel open(File file) throws IOException {
+        Path path = file.toPath();
+        Set<OpenOption> options = new HashSet<OpenOption>(Arrays.asList(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix"))
+            return FileChannel.open(path, options, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+
+        boolean created = !file.exists();
+        FileChannel channel = FileChannel.open(path, options);
+        if (created) {
+            file.setReadable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(false, false);
+            file.setWritable(true, true);
+        }
+        return channel;
+    }
+
+    private static void release(FileChannel channel, FileLock lock) {
+        try {
+            if (lock != null) lock.release();
+            if (channel != null) channel.close();
+        } catch (IOException e) {
+        }
+    }
+
+    private static EntityTokenResponse read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0 || size > 64 * 1024)
+            return null;
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        channel.position(0);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        }
+
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(buffer.array(), 0, buffer.position()));
+        String entityToken = properties.getProperty(KEY_TOKEN);
+        if (entityToken == null)
+            return null;
+
+        EntityTokenResponse token = new EntityTokenResponse();
+        token.EntityToken = entityToken;
+        token.Entity = new EntityKey();
+        token.Entity.Id = properties.getProperty(KEY_ENTITY_ID);
+        token.Entity.Type = properties.getProperty(KEY_ENTITY_TYPE);
+        String expiration = properties.getProperty(KEY_EXPIRATION);
+        try {
+            token.TokenExpiration = expiration == null ? null : new Date(Long.parseLong(expiration));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return token;
+    }
+
+    private static void write(FileChannel channel, EntityTokenResponse token) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_TOKEN, token.EntityToken);
+        if (token.Entity != null && token.Entity.Id != null)
+            properties.setProperty(KEY_ENTITY_ID, token.Entity.Id);
+        if (token.Entity != null && token.Entity.Type != null)
+            properties.setProperty(KEY_ENTITY_TYPE, token.Entity.Type);
+        if (token.TokenExpiration != null)
+            properties.setProperty(KEY_EXPIRATION, Long.toString(token.TokenExpiration.getTime()));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        properties.store(bytes, null);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        channel.truncate(0);
+        channel.position(0);
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        channel.force(false);
+    }
+
+    private static PlayFabResult<EntityTokenResponse> success(EntityTokenResponse token) {
+        PlayFabResult<EntityTokenResponse> result = new PlayFabResult<EntityTokenResponse>();
+        result.Result = token;
+        return result;
+    }
+
+    private static PlayFabResult<EntityTokenResponse> failure(PlayFabError error) {
+        PlayFabResult<EntityTokenResponse> result = new PlayFabResult<EntityTokenResponse>();
+        result.Error = error;
+        return result;
+    }
+}
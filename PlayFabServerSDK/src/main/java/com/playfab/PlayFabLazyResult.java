@@ -0,0 +1,253 @@
+package com.playfab;
+
+import com.playfab.internal.PlayFabJson;
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+import com.google.gson.*;
+import com.google.gson.reflect.*;
+import com.google.gson.stream.*;
+
+    /**
+     * A result object that has been located in the response text but not decoded. Only the object's own top-level
+     * members are indexed (name to character range); each member is decoded on first access and kept, so reading one
+     * subtree of a large result, such as the UserInventory of GetPlayerCombinedInfo, never builds the others.
+     * Nested objects can be opened lazily in turn with getLazy. Instances are thread-safe.
+     */
+public class PlayFabLazyResult<T> {
+    private static final Object NOT_DECODED = new Object();
+    private static final ConcurrentMap<Class<?>, Map<String, Type>> fieldTypes = new ConcurrentHashMap<Class<?>, Map<String, Type>>();
+
+    private final String json;
+    private final int start, end;
+    private final Class<T> type;
+    private final Map<String, int[]> members;
+    private final ConcurrentMap<String, Object> decoded = new ConcurrentHashMap<String, Object>();
+
+    private PlayFabLazyResult(String json, int start, int end, Class<T> type) {
+        this.json = json;
+        this.start = start;
+        this.end = end;
+        this.type = type;
+        this.members = index(json, start);
+    }
+
+    /** Locate the data member of a PlayFab response envelope and index it as a lazy T. */
+    public static <T> PlayFabLazyResult<T> ofSuccessJson(String json, Class<T> type) {
+        Map<String, int[]> envelope = index(json, skipWhitespace(json, 0));
+        int[] data = envelope.get("data");
+        if (data == null || json.charAt(data[0]) != '{')
+            throw new JsonSyntaxException("Response has no data object");
+        return new PlayFabLazyResult<T>(json, data[0], data[1], type);
+    }
+
+    /** Index a JSON object text as a lazy T. */
+    public static <T> PlayFabLazyResult<T> of(String json, Class<T> type) {
+        int start = skipWhitespace(json, 0);
+        if (start >= json.length() || json.charAt(start) != '{')
+            throw new JsonSyntaxException("Not a JSON object");
+        return new PlayFabLazyResult<T>(json, start, skipValue(json, start), type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /** @return The names of the members present in the response, in response order */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(members.keySet());
+    }
+
+    /** @return True if the member is present and not null */
+    public boolean has(String name) {
+        int[] range = members.get(name);
+        return range != null && !json.startsWith("null", range[0]);
+    }
+
+    /** @return The undecoded JSON text of a member, or null if it is absent */
+    public String getRawJson(String name) {
+        int[] range = members.get(name);
+        return range == null ? null : json.substring(range[0], range[1]);
+    }
+
+    /** Decode a member as the type declared for it on T, once. */
+    public Object get(String name) {
+        Object value = decoded.get(name);
+        if (value == null) {
+            value = decode(name);
+            Object existing = decoded.putIfAbsent(name, value);
+            if (existing != null)
+                value = existing;
+        }
+        return value == NOT_DECODED ? null : value;
+    }
+
+    public <V> V get(String name, Class<V> valueType) {
+        return valueType.cast(get(name));
+    }
+
+    /** Open an object member as another lazy view instead of decoding it. */
+    public <V> PlayFabLazyResult<V> getLazy(String name, Class<V> valueType) {
+        int[] range = members.get(name);
+        if (range == null || json.charAt(range[0]) != '{')
+            return null;
+        return new PlayFabLazyResult<V>(json, range[0], range[1], valueType);
+    }
+
+    /** Decode the whole object, as the regular API method would have. */
+    public T materialize() {
+        try {
+            return PlayFabJson.gson.getAdapter(type).read(reader(start, end));
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private Object decode(String name) {
+        int[] range = members.get(name);
+        Type memberType = declaredTypes(type).get(name);
+        if (range == null || memberType == null)
+            return NOT_DECODED;
+        try {
+            Object value = PlayFabJson.gson.getAdapter(TypeToken.get(memberType)).read(reader(range[0], range[1]));
+            return value == null ? NOT_DECODED : value;
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private JsonReader reader(int from, int to) {
+        JsonReader reader = new JsonReader(new RegionReader(json, from, to));
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private static Map<String, Type> declaredTypes(Class<?> modelType) {
+        Map<String, Type> types = fieldTypes.get(modelType);
+        if (types == null) {
+            types = new HashMap<String, Type>();
+            for (Field field : modelType.getFields())
+                types.put(field.getName(), field.getGenericType());
+            fieldTypes.putIfAbsent(modelType, types);
+        }
+        return types;
+    }
+
+    /** Record the value range of each member of the object starting at pos, skipping over the values themselves. */
+    private static Map<String, int[]> index(String json, int pos) {
+        if (pos >= json.length() || json.charAt(pos) != '{')
+            throw new JsonSyntaxException("Not a JSON object at " + pos);
+        Map<String, int[]> members = new LinkedHashMap<String, int[]>();
+        pos = skipWhitespace(json, pos + 1);
+        if (pos < json.length() && json.charAt(pos) == '}')
+            return members;
+        while (pos < json.length()) {
+            if (json.charAt(pos) != '"')
+                throw new JsonSyntaxException("Expected member name at " + pos);
+            int nameEnd = skipValue(json, pos);
+            String name = unescape(json, pos + 1, nameEnd - 1);
+            pos = skipWhitespace(json, nameEnd);
+            if (pos >= json.length() || json.charAt(pos) != ':')
+                throw new JsonSyntaxException("Expected ':' at " + pos);
+            int valueStart = skipWhitespace(json, pos + 1);
+            int valueEnd = skipValue(json, valueStart);
+            members.put(name, new int[] { valueStart, valueEnd });
+            pos = skipWhitespace(json, valueEnd);
+            if (pos < json.length() && json.charAt(pos) == ',') {
+                pos = skipWhitespace(json, pos + 1);
+            } else if (pos < json.length() && json.charAt(pos) == '}') {
+                return members;
+            } else {
+                throw new JsonSyntaxException("Expected ',' or '}' at " + pos);
+            }
+        }
+        throw new JsonSyntaxException("Unterminated object");
+    }
+
+    /** @return The index just past the JSON value starting at pos */
+    private static int skipValue(String json, int pos) {
+        int len = json.length();
+        if (pos >= len)
+            throw new JsonSyntaxException("Unexpected end of input");
+        char c = json.charAt(pos);
+        if (c == '"') {
+            for (int i = pos + 1; i < len; i++) {
+                char s = json.charAt(i);
+                if (s == '\\')
+                    i++;
+                else if (s == '"')
+                    return i + 1;
+            }
+            throw new JsonSyntaxException("Unterminated string");
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            for (int i = pos; i < len; i++) {
+                char s = json.charAt(i);
+                if (s == '"') {
+                    i = skipValue(json, i) - 1;
+                } else if (s == '{' || s == '[') {
+                    depth++;
+                } else if (s == '}' || s == ']') {
+                    if (--depth == 0)
+                        return i + 1;
+                }
+            }
+            throw new JsonSyntaxException("Unterminated " + (c == '{' ? "object" : "array"));
+        }
+        int i = pos;
+        while (i < len && ",}] \t\r\n".indexOf(json.charAt(i)) < 0)
+            i++;
+        return i;
+    }
+
+    private static int skipWhitespace(String json, int pos) {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos)))
+            pos++;
+        return pos;
+    }
+
+    private static String unescape(String json, int from, int to) {
+        int escape = from;
+        while (escape < to && json.charAt(escape) != '\\')
+            escape++;
+        if (escape == to)
+            return json.substring(from, to);
+        try {
+            JsonReader reader = new JsonReader(new StringReader(json.substring(from - 1, to + 1)));
+            reader.setLenient(true);
+            return reader.nextString();
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /** Reads a range of a String without copying it. */
+    private static final class RegionReader extends Reader {
+        private final String text;
+        private int pos;
+        private final int end;
+
+        RegionReader(String text, int start, int end) {
+            this.text = text;
+            this.pos = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (pos >= end)
+                return -1;
+            int count = Math.min(length, end - pos);
+            text.getChars(pos, pos + count, buffer, offset);
+            pos += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
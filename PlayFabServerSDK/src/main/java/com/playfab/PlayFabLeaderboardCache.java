@@ -0,0 +1,406 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+    /**
+     * A shared cache of leaderboard rank windows. Every window fetched for a statistic and version, whether top-N or
+     * around a player, is merged into one position-ordered board, so overlapping requests from many players are served
+     * from memory: a top-N request is answered when every position in it is known, and an around-player request when
+     * the player's position and its neighbours are. Entries older than the staleness bound are never served; a request
+     * that needs them fetches its window again, with concurrent identical fetches coalesced into one call.
+     * Windows are fetched without ProfileConstraints.
+     */
+public abstract class PlayFabLeaderboardCache<E> {
+    private final long maxStalenessMillis;
+    private final int maxEntriesPerBoard;
+    private final ConcurrentMap<String, Board<E>> boards = new ConcurrentHashMap<String, Board<E>>();
+    private final ConcurrentMap<String, FutureTask<PlayFabResult<List<E>>>> fetching = new ConcurrentHashMap<String, FutureTask<PlayFabResult<List<E>>>>();
+    // Friend leaderboard keys carry these counters, so invalidating a statistic orphans its entries without a key scan
+    private final ConcurrentMap<String, Long> friendEpochs = new ConcurrentHashMap<String, Long>();
+    private final AtomicLong friendEpochCounter = new AtomicLong();
+    private volatile long friendEpochBase;
+
+    private PlayFabLeaderboardCache(long maxStalenessMillis, int maxEntriesPerBoard) {
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.maxEntriesPerBoard = maxEntriesPerBoard;
+    }
+
+    abstract int position(E entry);
+
+    abstract String id(E entry);
+
+    abstract PlayFabResult<List<E>> fetchWindow(String statistic, Integer version, int startPosition, int maxResultsCount);
+
+    abstract PlayFabResult<List<E>> fetchAround(String statistic, Integer version, String playFabId, String characterId, int maxResultsCount);
+
+    /** Drop every cached window of a statistic, including friend leaderboards, e.g. after a reset or a manual correction. */
+    public void invalidate(String statistic) {
+        String prefix = statistic + "\n";
+        for (String key : boards.keySet()) {
+            if (key.startsWith(prefix))
+                boards.remove(key);
+        }
+        friendEpochs.put(statistic, friendEpochCounter.incrementAndGet());
+    }
+
+    public void invalidateAll() {
+        boards.clear();
+        friendEpochBase = friendEpochCounter.incrementAndGet();
+        friendEpochs.clear();
+    }
+
+    /** @return The friend leaderboard cache key, which changes whenever the statistic is invalidated */
+    String friendsKey(String owner, String statistic, Integer version, int startPosition, int maxResultsCount) {
+        Long epoch = friendEpochs.get(statistic);
+        return owner + "\n" + statistic + "\n" + version + "\n" + startPosition + "\n" + maxResultsCount + "\n" + friendEpochBase + "." + (epoch == null ? 0 : epoch);
+    }
+
+    PlayFabResult<List<E>> window(final String statistic, final Integer version, final int startPosition, final int maxResultsCount) {
+        final Board<E> board = board(statistic, version);
+        List<E> cached = board.read(startPosition, maxResultsCount, System.currentTimeMillis() - maxStalenessMillis);
+        if (cached != null)
+            return success(cached);
+        return fetch("w\n" + statistic + "\n" + version + "\n" + startPosition + "\n" + maxResultsCount, new Callable<PlayFabResult<List<E>>>() {
+            public PlayFabResult<List<E>> call() {
+                PlayFabResult<List<E>> result = fetchWindow(statistic, version, startPosition, maxResultsCount);
+                if (result.Error == null)
+                    board.merge(result.Result, startPosition, maxResultsCount);
+                return result;
+            }
+        });
+    }
+
+    PlayFabResult<List<E>> around(final String statistic, final Integer version, final String playFabId, final String characterId, final int maxResultsCount) {
+        final Board<E> board = board(statistic, version);
+        final String id = characterId != null ? characterId : playFabId;
+        List<E> cached = id == null ? null : board.readAround(id, maxResultsCount, System.currentTimeMillis() - maxStalenessMillis);
+        if (cached != null)
+            return success(cached);
+        return fetch("a\n" + statistic + "\n" + version + "\n" + playFabId + "\n" + characterId + "\n" + maxResultsCount, new Callable<PlayFabResult<List<E>>>() {
+            public PlayFabResult<List<E>> call() {
+                PlayFabResult<List<E>> result = fetchAround(statistic, version, playFabId, characterId, maxResultsCount);
+                if (result.Error == null)
+                    board.merge(result.Result, -1, maxResultsCount);
+                return result;
+            }
+        });
+    }
+
+    private Board<E> board(String statistic, Integer version) {
+        String key = statistic + "\n" + version;
+        Board<E> board = boards.get(key);
+        if (board == null) {
+            board = new Board<E>(this);
+            Board<E> existing = boards.putIfAbsent(key, board);
+            if (existing != null)
+                board = existing;
+        }
+        return board;
+    }
+
+    private PlayFabResult<List<E>> fetch(String key, Callable<PlayFabResult<List<E>>> call) {
+        FutureTask<PlayFabResult<List<E>>> task = fetching.get(key);
+        if (task == null) {
+            FutureTask<PlayFabResult<List<E>>> created = new FutureTask<PlayFabResult<List<E>>>(call);
+            task = fetching.putIfAbsent(key, created);
+            if (task == null) {
+                task = created;
+                try {
+                    created.run();
+                } finally {
+                    fetching.remove(key, created);
+                }
+            }
+        }
+        try {
+            return task.get();
+        } catch (Exception e) {
+            PlayFabResult<List<E>> result = new PlayFabResult<List<E>>();
+            result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return result;
+        }
+    }
+
+    private static <E> PlayFabResult<List<E>> success(List<E> entries) {
+        PlayFabResult<List<E>> result = new PlayFabResult<List<E>>();
+        result.Result = entries;
+        return result;
+    }
+
+    private static <T> List<T> entries(List<T> leaderboard) {
+        return leaderboard == null ? Collections.<T>emptyList() : Collections.unmodifiableList(leaderboard);
+    }
+
+    /** One position-ordered board for a statistic and version, merged from every window fetched for it. */
+    private static final class Board<E> {
+        private static final class Slot<E> {
+            final E entry;
+            final int position;
+            final long fetchedAt;
+
+            Slot(E entry, int position, long fetchedAt) {
+                this.entry = entry;
+                this.position = position;
+                this.fetchedAt = fetchedAt;
+            }
+        }
+
+        private final PlayFabLeaderboardCache<E> cache;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<Integer, Slot<E>> byPosition = new TreeMap<Integer, Slot<E>>();
+        private final Map<String, Slot<E>> byId = new HashMap<String, Slot<E>>();
+        private int end = -1; // One past the last position, once a window has come back short
+        private long endSeenAt;
+
+        Board(PlayFabLeaderboardCache<E> cache) {
+            this.cache = cache;
+        }
+
+        /** @return The window if every position in it is known and fetched after freshSince, else null */
+        List<E> read(int start, int count, long freshSince) {
+            lock.readLock().lock();
+            try {
+                return readLocked(start, count, freshSince);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /** @return The window centred on id, shifted as PlayFab does at the ends of the board, else null */
+        List<E> readAround(String id, int count, long freshSince) {
+            lock.readLock().lock();
+            try {
+                Slot<E> slot = byId.get(id);
+                if (slot == null || slot.fetchedAt < freshSince)
+                    return null;
+                int start = Math.max(0, slot.position - count / 2);
+                if (end >= 0 && endSeenAt >= freshSince && start + count > end)
+                    start = Math.max(0, end - count);
+                return readLocked(start, count, freshSince);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private List<E> readLocked(int start, int count, long freshSince) {
+            List<E> window = new ArrayList<E>(count);
+            for (int position = start; position < start + count; position++) {
+                Slot<E> slot = byPosition.get(position);
+                if (slot == null) {
+                    if (end >= 0 && position >= end && endSeenAt >= freshSince)
+                        break; // The board is shorter than the window
+                    return null;
+                }
+                if (slot.fetchedAt < freshSince)
+                    return null;
+                window.add(slot.entry);
+            }
+            return Collections.unmodifiableList(window);
+        }
+
+        /** @param start The position a top-N window was requested from, or -1 for an around window */
+        void merge(List<E> entries, int start, int count) {
+            long now = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                if (byPosition.size() + entries.size() > cache.maxEntriesPerBoard)
+                    evict(now - cache.maxStalenessMillis, cache.maxEntriesPerBoard - entries.size());
+                int last = start - 1;
+                for (E entry : entries) {
+                    int position = cache.position(entry);
+                    String id = cache.id(entry);
+                    Slot<E> slot = new Slot<E>(entry, position, now);
+                    // An entry that moved leaves its old position, and whoever held its new position leaves it
+                    Slot<E> previous = byId.put(id, slot);
+                    if (previous != null && previous.position != position && byPosition.get(previous.position) == previous)
+                        byPosition.remove(previous.position);
+                    Slot<E> displaced = byPosition.put(position, slot);
+                    if (displaced != null && displaced != previous && byId.get(cache.id(displaced.entry)) == displaced)
+                        byId.remove(cache.id(displaced.entry));
+                    last = Math.max(last, position);
+                }
+                if (start >= 0 && entries.size() < count) {
+                    end = last + 1;
+                    endSeenAt = now;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /** Drop the entries too old to serve, then the oldest fresh ones until at most keep remain. */
+        private void evict(long freshSince, int keep) {
+            Iterator<Slot<E>> slots = byPosition.values().iterator();
+            while (slots.hasNext()) {
+                Slot<E> slot = slots.next();
+                if (slot.fetchedAt < freshSince) {
+                    slots.remove();
+                    removeId(slot);
+                }
+            }
+            if (byPosition.size() <= keep)
+                return;
+            List<Slot<E>> oldest = new ArrayList<Slot<E>>(byPosition.values());
+            Collections.sort(oldest, new Comparator<Slot<E>>() {
+                public int compare(Slot<E> a, Slot<E> b) {
+                    return a.fetchedAt < b.fetchedAt ? -1 : a.fetchedAt == b.fetchedAt ? 0 : 1;
+                }
+            });
+            for (int i = 0; byPosition.size() > Math.max(0, keep); i++) {
+                Slot<E> slot = oldest.get(i);
+                byPosition.remove(slot.position);
+                removeId(slot);
+            }
+        }
+
+        private void removeId(Slot<E> slot) {
+            String id = cache.id(slot.entry);
+            if (byId.get(id) == slot)
+                byId.remove(id);
+        }
+    }
+
+    /** Player leaderboards over the Server API. */
+    public static class Server extends PlayFabLeaderboardCache<PlayFabServerModels.PlayerLeaderboardEntry> {
+        private final PlayFabCache<String, List<PlayFabServerModels.PlayerLeaderboardEntry>> friends;
+
+        /**
+         * @param maxStalenessMillis The oldest an entry may be and still be served
+         * @param maxEntriesPerBoard How many positions to keep per statistic and version
+         */
+        public Server(long maxStalenessMillis, int maxEntriesPerBoard) {
+            super(maxStalenessMillis, maxEntriesPerBoard);
+            this.friends = new PlayFabCache<String, List<PlayFabServerModels.PlayerLeaderboardEntry>>(new PlayFabCache.Loader<String, List<PlayFabServerModels.PlayerLeaderboardEntry>>() {
+                public PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> load(String key, List<PlayFabServerModels.PlayerLeaderboardEntry> previous) {
+                    String[] parts = key.split("\n", -1);
+                    PlayFabServerModels.GetFriendLeaderboardRequest request = new PlayFabServerModels.GetFriendLeaderboardRequest();
+                    request.PlayFabId = parts[0];
+                    request.StatisticName = parts[1];
+                    request.Version = parts[2].equals("null") ? null : Integer.valueOf(parts[2]);
+                    request.StartPosition = Integer.valueOf(parts[3]);
+                    request.MaxResultsCount = Integer.valueOf(parts[4]);
+                    PlayFabResult<PlayFabServerModels.GetLeaderboardResult> response = PlayFabServerAPI.GetFriendLeaderboard(request);
+                    PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> result = new PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>>();
+                    result.Error = response.Error;
+                    if (response.Error == null)
+                        result.Result = entries(response.Result.Leaderboard);
+                    return result;
+                }
+            }, maxStalenessMillis, 0, 4096);
+        }
+
+        /** PlayFabServerAPI.GetLeaderboard, served from the board when the window is known. */
+        public PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> getLeaderboard(String statisticName, Integer version, int startPosition, int maxResultsCount) {
+            return window(statisticName, version, startPosition, maxResultsCount);
+        }
+
+        /** PlayFabServerAPI.GetLeaderboardAroundUser, served from the board when the player's neighbourhood is known. */
+        public PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> getLeaderboardAroundUser(String statisticName, Integer version, String playFabId, int maxResultsCount) {
+            return around(statisticName, version, playFabId, null, maxResultsCount);
+        }
+
+        /** PlayFabServerAPI.GetFriendLeaderboard, cached per player for the staleness bound. */
+        public PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> getFriendLeaderboard(String playFabId, String statisticName, Integer version, int startPosition, int maxResultsCount) {
+            return friends.get(friendsKey(playFabId, statisticName, version, startPosition, maxResultsCount));
+        }
+
+        int position(PlayFabServerModels.PlayerLeaderboardEntry entry) {
+            return entry.Position;
+        }
+
+        String id(PlayFabServerModels.PlayerLeaderboardEntry entry) {
+            return entry.PlayFabId;
+        }
+
+        PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> fetchWindow(String statistic, Integer version, int startPosition, int maxResultsCount) {
+            PlayFabServerModels.GetLeaderboardRequest request = new PlayFabServerModels.GetLeaderboardRequest();
+            request.StatisticName = statistic;
+            request.Version = version;
+            request.StartPosition = startPosition;
+            request.MaxResultsCount = maxResultsCount;
+            PlayFabResult<PlayFabServerModels.GetLeaderboardResult> response = PlayFabServerAPI.GetLeaderboard(request);
+            PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> result = new PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = entries(response.Result.Leaderboard);
+            return result;
+        }
+
+        PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> fetchAround(String statistic, Integer version, String playFabId, String characterId, int maxResultsCount) {
+            PlayFabServerModels.GetLeaderboardAroundUserRequest request = new PlayFabServerModels.GetLeaderboardAroundUserRequest();
+            request.StatisticName = statistic;
+            request.Version = version;
+            request.PlayFabId = playFabId;
+            request.MaxResultsCount = maxResultsCount;
+            PlayFabResult<PlayFabServerModels.GetLeaderboardAroundUserResult> response = PlayFabServerAPI.GetLeaderboardAroundUser(request);
+            PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>> result = new PlayFabResult<List<PlayFabServerModels.PlayerLeaderboardEntry>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = entries(response.Result.Leaderboard);
+            return result;
+        }
+    }
+
+    /** Character leaderboards over the Server API. */
+    public static class ServerCharacters extends PlayFabLeaderboardCache<PlayFabServerModels.CharacterLeaderboardEntry> {
+        /**
+         * @param maxStalenessMillis The oldest an entry may be and still be served
+         * @param maxEntriesPerBoard How many positions to keep per statistic
+         */
+        public ServerCharacters(long maxStalenessMillis, int maxEntriesPerBoard) {
+            super(maxStalenessMillis, maxEntriesPerBoard);
+        }
+
+        /** PlayFabServerAPI.GetCharacterLeaderboard, served from the board when the window is known. */
+        public PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>> getCharacterLeaderboard(String statisticName, int startPosition, int maxResultsCount) {
+            return window(statisticName, null, startPosition, maxResultsCount);
+        }
+
+        /** PlayFabServerAPI.GetLeaderboardAroundCharacter, served from the board when the character's neighbourhood is known. */
+        public PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>> getLeaderboardAroundCharacter(String statisticName, String playFabId, String characterId, int maxResultsCount) {
+            return around(statisticName, null, playFabId, characterId, maxResultsCount);
+        }
+
+        int position(PlayFabServerModels.CharacterLeaderboardEntry entry) {
+            return entry.Position;
+        }
+
+        String id(PlayFabServerModels.CharacterLeaderboardEntry entry) {
+            return entry.CharacterId;
+        }
+
+        PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>> fetchWindow(String statistic, Integer version, int startPosition, int maxResultsCount) {
+            PlayFabServerModels.GetCharacterLeaderboardRequest request = new PlayFabServerModels.GetCharacterLeaderboardRequest();
+            request.StatisticName = statistic;
+            request.StartPosition = startPosition;
+            request.MaxResultsCount = maxResultsCount;
+            PlayFabResult<PlayFabServerModels.GetCharacterLeaderboardResult> response = PlayFabServerAPI.GetCharacterLeaderboard(request);
+            PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>> result = new PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = entries(response.Result.Leaderboard);
+            return result;
+        }
+
+        PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>> fetchAround(String statistic, Integer version, String playFabId, String characterId, int maxResultsCount) {
+            PlayFabServerModels.GetLeaderboardAroundCharacterRequest request = new PlayFabServerModels.GetLeaderboardAroundCharacterRequest();
+            request.StatisticName = statistic;
+            request.PlayFabId = playFabId;
+            request.CharacterId = characterId;
+            request.MaxResultsCount = maxResultsCount;
+            PlayFabResult<PlayFabServerModels.GetLeaderboardAroundCharacterResult> response = PlayFabServerAPI.GetLeaderboardAroundCharacter(request);
+            PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>> result = new PlayFabResult<List<PlayFabServerModels.CharacterLeaderboardEntry>>();
+            result.Error = response.Error;
+            if (response.Error == null)
+                result.Result = entries(response.Result.Leaderboard);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.playfab;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+
+    /**
+     * A PlayFabCacheStore that keeps every entry in one memory-mapped, append-only log file, so a restarted process
+     * reopens its caches with a single scan of the file instead of a read per entry. A write appends a record carrying
+     * the namespace, key, a version number and a checksum; the newest record for a namespace and key wins and a remove
+     * appends a tombstone. Reads return a read-only slice of the mapping itself, so the cache decodes entries straight
+     * from the page cache without copying them to the heap. When the mapping fills up with live records, the file is
+     * extended in place and mapped again at twice the size. When superseded records make up most of it, the live
+     * records are instead copied to a new file that atomically replaces the old one; Windows refuses to replace a file
+     * that is still mapped, so there the store keeps growing in place instead. Slices handed out before stay valid
+     * either way. A record torn by a crash fails its checksum and ends the scan, so it and every record after it are
+     * dropped.
+     *
+     * One process should own a file at a time. Appends are not forced to disk; call flush for that.
+     */
+public class PlayFabMappedCacheStore implements PlayFabCacheStore, Closeable {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final int MAGIC = 0x50464353; // "PFCS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    // length, op, version, name length, value length, checksum
+    private static final int RECORD_OVERHEAD = 4 + 1 + 8 + 4 + 4 + 4;
+    private static final int MIN_COMPACTION_GARBAGE = 1 << 20;
+
+    /** Where an entry's latest value lives, in the mapping it was written to. */
+    private static final class Slot {
+        final MappedByteBuffer mapping;
+        final int recordOffset;
+        final int valueOffset;
+        final int valueLength;
+        final long version;
+
+        Slot(MappedByteBuffer mapping, int recordOffset, int valueOffset, int valueLength, long version) {
+            this.mapping = mapping;
+            this.recordOffset = recordOffset;
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+            this.version = version;
+        }
+
+        int recordLength() {
+            return valueOffset + valueLength + 4 - recordOffset;
+        }
+    }
+
+    private final Path path;
+    private final ConcurrentMap<String, Slot> index = new ConcurrentHashMap<String, Slot>();
+    private final CRC32 crc = new CRC32(); // Guarded by this
+    private MappedByteBuffer mapping; // Guarded by this
+    private int end;
+    private long liveBytes;
+    private long garbageBytes;
+    private long lastVersion;
+    private boolean closed;
+    private boolean replaceable = true; // False once replacing the mapped file has failed
+
+    /**
+     * Open the store in file, creating it if needed, and index the entries it already holds.
+     * @param initialCapacityBytes Size of the mapping for a new file; it doubles whenever it fills with live entries
+     */
+    public PlayFabMappedCacheStore(File file, int initialCapacityBytes) throws IOException {
+        if (file == null)
+            throw new IllegalArgumentException("file");
+        this.path = file.toPath();
+        if (path.getParent() != null)
+            Files.createDirectories(path.getParent());
+        long existing = Files.exists(path) ? Files.size(path) : 0;
+        mapping = map(path, (int) Math.min(Integer.MAX_VALUE, Math.max(existing, Math.max(initialCapacityBytes, HEADER_SIZE + 4096))));
+        if (existing < HEADER_SIZE || mapping.getInt(0) != MAGIC || mapping.getInt(4) != FORMAT_VERSION)
+            reset(); // New, or written by an incompatible version: start empty
+        else
+            scan();
+    }
+
+    public ByteBuffer read(String namespace, String key) {
+        Slot slot = index.get(name(namespace, key));
+        if (slot == null)
+            return null;
+        ByteBuffer view = slot.mapping.duplicate();
+        view.limit(slot.valueOffset + slot.valueLength);
+        view.position(slot.valueOffset);
+        return view.slice().asReadOnlyBuffer();
+    }
+
+    /** @return The version of the entry's latest write, increasing with every write to the store; 0 if there is none */
+    public long version(String namespace, String key) {
+        Slot slot = index.get(name(namespace, key));
+        return slot == null ? 0 : slot.version;
+    }
+
+    public synchronized void write(String namespace, String key, byte[] value) {
+        append(PUT, name(namespace, key), value);
+    }
+
+    public synchronized void remove(String namespace, String key) {
+        String name = name(namespace, key);
+        if (index.containsKey(name))
+            append(REMOVE, name, new byte[0]);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /** Force the records written so far to disk. */
+    public synchronized void flush() {
+        if (!closed)
+            mapping.force();
+    }
+
+    /**
+     * Rewrite the file with only the live entries.
+     * @throws IOException When the file cannot be replaced, as on Windows while it is mapped; the store stays usable
+     */
+    public synchronized void compact() throws IOException {
+        if (closed)
+            return;
+        int capacity = mapping.capacity();
+        while (capacity < Integer.MAX_VALUE / 2 && HEADER_SIZE + liveBytes + 4 > capacity / 2)
+            capacity *= 2;
+        rewrite(capacity);
+    }
+
+    /** Force the file to disk and stop accepting writes; slices already read stay valid. */
+    public synchronized void close() {
+        if (closed)
+            return;
+        mapping.force();
+        closed = true;
+    }
+
+    private void append(byte op, String name, byte[] value) {
+        if (closed)
+            return;
+        byte[] nameBytes = name.getBytes(UTF8);
+        long recordLength = (long) RECORD_OVERHEAD + nameBytes.length + value.length;
+        try {
+            if (end + recordLength + 4 > mapping.capacity()) {
+                if (garbageBytes >= liveBytes && garbageBytes >= MIN_COMPACTION_GARBAGE && replaceable) {
+                    try {
+                        rewrite(mapping.capacity());
+                    } catch (IOException e) {
+                        replaceable = false; // The platform will not replace a mapped file; grow it from now on
+                    }
+                }
+                if (end + recordLength + 4 > mapping.capacity()) {
+                    long needed = (long) end + recordLength + 4;
+                    long capacity = mapping.capacity();
+                    while (capacity < needed * 2 && capacity < Integer.MAX_VALUE)
+                        capacity = Math.min(Integer.MAX_VALUE, capacity * 2);
+                    if (needed > capacity)
+                        return; // Too large to persist; the in-memory cache still holds it
+                    grow((int) capacity);
+                }
+            }
+        } catch (IOException e) {
+            return; // Persistence is best-effort; the in-memory cache is unaffected
+        }
+
+        long version = ++lastVersion;
+        int offset = end;
+        ByteBuffer out = mapping.duplicate();
+        out.position(offset);
+        out.putInt((int) recordLength - 4);
+        out.put(op);
+        out.putLong(version);
+        out.putInt(nameBytes.length);
+        out.put(nameBytes);
+        out.putInt(value.length);
+        int valueOffset = out.position();
+        out.put(value);
+        crc.reset();
+        crc.update(op);
+        crc.update(longBytes(version), 0, 8);
+        crc.update(intBytes(nameBytes.length), 0, 4);
+        crc.update(nameBytes, 0, nameBytes.length);
+        crc.update(intBytes(value.length), 0, 4);
+        crc.update(value, 0, value.length);
+        out.putInt((int) crc.getValue());
+        end = out.position();
+        out.putInt(0); // End marker, so a stale tail from before a crash is never read as a record
+
+        Slot previous;
+        if (op == PUT)
+            previous = index.put(name, new Slot(mapping, offset, valueOffset, value.length, version));
+        else
+            previous = index.remove(name);
+        if (previous != null) {
+            liveBytes -= previous.recordLength();
+            garbageBytes += previous.recordLength();
+        }
+        if (op == PUT)
+            liveBytes += end - offset;
+        else
+            garbageBytes += end - offset;
+    }
+
+    /** Extend the file to the given capacity and map it again, leaving every record where it is. */
+    private void grow(int capacity) throws IOException {
+        MappedByteBuffer target = map(path, capacity);
+        for (Map.Entry<String, Slot> entry : index.entrySet()) {
+            Slot slot = entry.getValue();
+            entry.setValue(new Slot(target, slot.recordOffset, slot.valueOffset, slot.valueLength, slot.version));
+        }
+        mapping = target;
+    }
+
+    /** Copy the live records to a new file of the given capacity and switch to it. */
+    private void rewrite(int capacity) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        Files.deleteIfExists(temp);
+        MappedByteBuffer target = map(temp, capacity);
+        target.putInt(0, MAGIC);
+        target.putInt(4, FORMAT_VERSION);
+        ByteBuffer out = target.duplicate();
+        out.position(HEADER_SIZE);
+
+        List<Map.Entry<String, Slot>> live = new ArrayList<Map.Entry<String, Slot>>(index.entrySet());
+        Collections.sort(live, new Comparator<Map.Entry<String, Slot>>() {
+            public int compare(Map.Entry<String, Slot> a, Map.Entry<String, Slot> b) {
+                return a.getValue().version < b.getValue().version ? -1 : a.getValue().version == b.getValue().version ? 0 : 1;
+            }
+        });
+        Map<String, Slot> moved = new HashMap<String, Slot>();
+        long movedBytes = 0;
+        for (Map.Entry<String, Slot> entry : live) {
+            Slot slot = entry.getValue();
+            int length = slot.recordLength();
+            if (out.remaining() < length + 4)
+                break; // Only when shrinking below the live size; the oldest entries were kept
+            ByteBuffer record = slot.mapping.duplicate();
+            record.limit(slot.recordOffset + length);
+            record.position(slot.recordOffset);
+            int offset = out.position();
+            out.put(record);
+            moved.put(entry.getKey(), new Slot(target, offset, offset + (slot.valueOffset - slot.recordOffset), slot.valueLength, slot.version));
+            movedBytes += length;
+        }
+        out.putInt(out.position(), 0);
+        target.force();
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Still mapped; a later rewrite deletes it before mapping it again
+            }
+            throw e;
+        }
+
+        mapping = target;
+        end = out.position();
+        index.keySet().retainAll(moved.keySet());
+        index.putAll(moved);
+        liveBytes = movedBytes;
+        garbageBytes = 0;
+    }
+
+    private void reset() {
+        mapping.putInt(0, MAGIC);
+        mapping.putInt(4, FORMAT_VERSION);
+        mapping.putInt(HEADER_SIZE, 0);
+        end = HEADER_SIZE;
+    }
+
+    /** Index every intact record, stopping at the end marker or at the first record that is cut short or corrupt. */
+    private void scan() {
+        int position = HEADER_SIZE;
+        int limit = mapping.capacity();
+        byte[] scratch = new byte[256];
+        while (position + 4 <= limit) {
+            int length = mapping.getInt(position);
+            if (length < RECORD_OVERHEAD - 4 || (long) position + 4 + length > limit)
+                break;
+            int body = position + 4;
+            int checked = length - 4; // Everything but the checksum
+            if (scratch.length < checked)
+                scratch = new byte[Math.max(checked, scratch.length * 2)];
+            ByteBuffer record = mapping.duplicate();
+            record.position(body);
+            record.get(scratch, 0, checked);
+            crc.reset();
+            crc.update(scratch, 0, checked);
+            if ((int) crc.getValue() != mapping.getInt(body + checked))
+                break;
+
+            byte op = scratch[0];
+            long version = mapping.getLong(body + 1);
+            int nameLength = mapping.getInt(body + 9);
+            if (nameLength < 0 || 13 + nameLength + 4 > checked)
+                break;
+            String name = new String(scratch, 13, nameLength, UTF8);
+            int valueLength = mapping.getInt(body + 13 + nameLength);
+            int valueOffset = body + 17 + nameLength;
+            if (valueLength < 0 || valueOffset + valueLength + 4 != position + 4 + length)
+                break;
+
+            int recordLength = 4 + length;
+            Slot previous = op == PUT
+                ? index.put(name, new Slot(mapping, position, valueOffset, valueLength, version))
+                : index.remove(name);
+            if (previous != null) {
+                liveBytes -= previous.recordLength();
+                garbageBytes += previous.recordLength();
+            }
+            if (op == PUT)
+                liveBytes += recordLength;
+            else
+                garbageBytes += recordLength;
+            lastVersion = Math.max(lastVersion, version);
+            position += recordLength;
+        }
+        end = position;
+        if (end + 4 <= limit)
+            mapping.putInt(end, 0);
+    }
+
+    private static MappedByteBuffer map(Path file, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity); // The mapping outlives the channel
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static String name(String namespace, String key) {
+        return namespace + "\u0000" + key;
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value };
+    }
+
+    private static byte[] longBytes(long value) {
+        byte[] bytes = new byte[8];
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return bytes;
+    }
+}
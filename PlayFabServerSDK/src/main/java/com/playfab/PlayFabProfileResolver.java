@@ -0,0 +1,131 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabProfilesModels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * Resolves entity profiles for lobbies, friends lists and rosters without a GetProfile call per entity. Lookups from
+     * any number of threads are gathered for a short window and sent as GetProfiles calls of up to 25 entities, the
+     * most the API accepts, and the profiles are kept for a TTL keyed by entity type and id. Profiles are requested
+     * with DataAsObject unset, as GetProfile does by default.
+     */
+public class PlayFabProfileResolver {
+    private static final int MAX_ENTITIES_PER_CALL = 25;
+
+    private final PlayFabCache<String, EntityProfileBody> profiles;
+    private final PlayFabBatcher<String, EntityProfileBody> batcher;
+
+    /**
+     * @param ttlMillis How long a profile is served before it is fetched again
+     * @param maxEntries Upper bound on the number of cached profiles
+     * @param batchWindowMillis How long a lookup waits for others to share its GetProfiles call
+     */
+    public PlayFabProfileResolver(long ttlMillis, int maxEntries, long batchWindowMillis) {
+        this.batcher = new PlayFabBatcher<String, EntityProfileBody>(new PlayFabBatcher.Loader<String, EntityProfileBody>() {
+            public PlayFabResult<Map<String, EntityProfileBody>> load(List<String> keys) {
+                return fetch(keys);
+            }
+        }, MAX_ENTITIES_PER_CALL, batchWindowMillis);
+        this.profiles = new PlayFabCache<String, EntityProfileBody>(new PlayFabCache.Loader<String, EntityProfileBody>() {
+            public PlayFabResult<EntityProfileBody> load(String key, EntityProfileBody previous) {
+                return batcher.get(key);
+            }
+        }, ttlMillis, 0, maxEntries);
+    }
+
+    /** @return The profile, from the cache or a shared GetProfiles call; a null Result if the entity has none */
+    public PlayFabResult<EntityProfileBody> getProfile(EntityKey entity) {
+        return profiles.get(key(entity));
+    }
+
+    /** @return The eventual profile; a cached one is returned already completed */
+    public Future<PlayFabResult<EntityProfileBody>> getProfileAsync(EntityKey entity) {
+        String key = key(entity);
+        EntityProfileBody cached = profiles.peek(key);
+        if (cached == null)
+            return batcher.submit(key);
+        final PlayFabResult<EntityProfileBody> result = new PlayFabResult<EntityProfileBody>();
+        result.Result = cached;
+        FutureTask<PlayFabResult<EntityProfileBody>> done = new FutureTask<PlayFabResult<EntityProfileBody>>(new Callable<PlayFabResult<EntityProfileBody>>() {
+            public PlayFabResult<EntityProfileBody> call() {
+                return result;
+            }
+        });
+        done.run();
+        return done;
+    }
+
+    /**
+     * Resolve a roster at once: every miss is submitted before any is awaited, so they share as few calls as possible.
+     * @return The profiles in the order of entities, with null for entities that have none
+     */
+    public PlayFabResult<List<EntityProfileBody>> getProfiles(List<EntityKey> entities) {
+        List<Future<PlayFabResult<EntityProfileBody>>> lookups = new ArrayList<Future<PlayFabResult<EntityProfileBody>>>(entities.size());
+        for (EntityKey entity : entities)
+            lookups.add(getProfileAsync(entity));
+
+        PlayFabResult<List<EntityProfileBody>> result = new PlayFabResult<List<EntityProfileBody>>();
+        List<EntityProfileBody> found = new ArrayList<EntityProfileBody>(entities.size());
+        for (Future<PlayFabResult<EntityProfileBody>> lookup : lookups) {
+            try {
+                PlayFabResult<EntityProfileBody> single = lookup.get();
+                if (single.Error != null) {
+                    result.Error = single.Error;
+                    return result;
+                }
+                found.add(single.Result);
+            } catch (Exception e) {
+                result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+                return result;
+            }
+        }
+        result.Result = found;
+        return result;
+    }
+
+    /** Fetch the profile again on next access, e.g. after changing its language or display name. */
+    public void invalidate(EntityKey entity) {
+        profiles.invalidate(key(entity));
+    }
+
+    public void invalidateAll() {
+        profiles.invalidateAll();
+    }
+
+    private PlayFabResult<Map<String, EntityProfileBody>> fetch(List<String> keys) {
+        GetEntityProfilesRequest request = new GetEntityProfilesRequest();
+        request.Entities = new ArrayList<EntityKey>(keys.size());
+        for (String key : keys) {
+            int split = key.indexOf('\n');
+            EntityKey entity = new EntityKey();
+            entity.Type = key.substring(0, split);
+            entity.Id = key.substring(split + 1);
+            request.Entities.add(entity);
+        }
+
+        PlayFabResult<Map<String, EntityProfileBody>> result = new PlayFabResult<Map<String, EntityProfileBody>>();
+        PlayFabResult<GetEntityProfilesResponse> response = PlayFabProfilesAPI.GetProfiles(request);
+        if (response.Error != null) {
+            result.Error = response.Error;
+            return result;
+        }
+        result.Result = new HashMap<String, EntityProfileBody>();
+        if (response.Result.Profiles != null) {
+            for (EntityProfileBody profile : response.Result.Profiles) {
+                if (profile.Entity == null)
+                    continue;
+                String key = key(profile.Entity);
+                result.Result.put(key, profile);
+                profiles.put(key, profile); // getProfileAsync misses bypass the cache loader, so cache them here
+            }
+        }
+        return result;
+    }
+
+    private static String key(EntityKey entity) {
+        return entity.Type + "\n" + entity.Id;
+    }
+}
@@ -6,16 +6,12 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * All PlayFab entities have profiles, which hold top-level properties about the entity. These APIs give you the tools
      * needed to manage entity profiles.
      */
 public class PlayFabProfilesAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
-
     /**
      * Gets the global title access policy
      * @param request GetGlobalPolicyRequest
@@ -70,7 +66,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetGlobalPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetGlobalPolicyResponse.class);
         GetGlobalPolicyResponse result = resultData.data;
 
         PlayFabResult<GetGlobalPolicyResponse> pfResult = new PlayFabResult<GetGlobalPolicyResponse>();
@@ -132,7 +128,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityProfileResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetEntityProfileResponse.class);
         GetEntityProfileResponse result = resultData.data;
 
         PlayFabResult<GetEntityProfileResponse> pfResult = new PlayFabResult<GetEntityProfileResponse>();
@@ -194,7 +190,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityProfilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetEntityProfilesResponse.class);
         GetEntityProfilesResponse result = resultData.data;
 
         PlayFabResult<GetEntityProfilesResponse> pfResult = new PlayFabResult<GetEntityProfilesResponse>();
@@ -256,7 +252,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitlePlayersFromMasterPlayerAccountIdsResponse.class);
         GetTitlePlayersFromMasterPlayerAccountIdsResponse result = resultData.data;
 
         PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> pfResult = new PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>();
@@ -318,7 +314,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<GetTitlePlayersFromProviderIDsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitlePlayersFromProviderIDsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitlePlayersFromProviderIDsResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, GetTitlePlayersFromProviderIDsResponse.class);
         GetTitlePlayersFromProviderIDsResponse result = resultData.data;
 
         PlayFabResult<GetTitlePlayersFromProviderIDsResponse> pfResult = new PlayFabResult<GetTitlePlayersFromProviderIDsResponse>();
@@ -380,7 +376,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGlobalPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetGlobalPolicyResponse.class);
         SetGlobalPolicyResponse result = resultData.data;
 
         PlayFabResult<SetGlobalPolicyResponse> pfResult = new PlayFabResult<SetGlobalPolicyResponse>();
@@ -447,7 +443,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetProfileLanguageResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetProfileLanguageResponse.class);
         SetProfileLanguageResponse result = resultData.data;
 
         PlayFabResult<SetProfileLanguageResponse> pfResult = new PlayFabResult<SetProfileLanguageResponse>();
@@ -509,7 +505,7 @@ public class PlayFabProfilesAPI {
         }
         String resultRawJson = (String) httpResult;
 
-        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetEntityProfilePolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = PlayFabJson.fromSuccessJson(resultRawJson, SetEntityProfilePolicyResponse.class);
         SetEntityProfilePolicyResponse result = resultData.data;
 
         PlayFabResult<SetEntityProfilePolicyResponse> pfResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
@@ -0,0 +1,327 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabErrors.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+    /**
+     * Shared group data for guild-like state that every member reads and writes. Reads of a group are served from
+     * memory for a short TTL, with concurrent misses sharing one GetSharedGroupData call. Writes are coalesced: every
+     * set or remove for a group within windowMillis of the first goes into one UpdateSharedGroupData call, the newest
+     * value of each key winning, split into calls of at most 10 keys as PlayFab allows. Written values show in cached
+     * reads at once. When PlayFab answers DataUpdateRateExceeded, the writes are kept, merged under any newer ones, and
+     * sent again after the delay PlayFab asks for, or a doubling backoff, up to maxRetries times. A write succeeds once
+     * every key it wrote was taken, even when a later call of the same flush is refused. Flushes of one group never
+     * overlap: writes whose window ends while the group's previous flush is in flight are sent when it completes, so an
+     * older value can never land after a newer one.
+     */
+public abstract class PlayFabSharedGroupCache {
+    private static final int MAX_KEYS_PER_CALL = 10;
+
+    /** A group's data and members at the time they were fetched, with our later writes applied. */
+    public static final class SharedGroup {
+        private final Map<String, String> data;
+        private final List<String> members;
+
+        SharedGroup(Map<String, String> data, List<String> members) {
+            this.data = Collections.unmodifiableMap(data);
+            this.members = Collections.unmodifiableList(members);
+        }
+
+        /** @return The group's values keyed by data key */
+        public Map<String, String> getData() {
+            return data;
+        }
+
+        /** @return The value of key, or null if the group has none */
+        public String getValue(String key) {
+            return data.get(key);
+        }
+
+        /** @return The PlayFabIds of the group's members */
+        public List<String> getMembers() {
+            return members;
+        }
+
+        SharedGroup with(Map<String, String> written) {
+            Map<String, String> changed = new LinkedHashMap<String, String>(data);
+            for (Map.Entry<String, String> entry : written.entrySet()) {
+                if (entry.getValue() == null)
+                    changed.remove(entry.getKey());
+                else
+                    changed.put(entry.getKey(), entry.getValue());
+            }
+            return new SharedGroup(changed, members);
+        }
+    }
+
+    private static final Callable<Object> NOTHING = new Callable<Object>() {
+        public Object call() {
+            return null;
+        }
+    };
+
+    /** A write completed by the call that carries it rather than by running it. */
+    private static final class Pending extends FutureTask<PlayFabResult<Boolean>> {
+        @SuppressWarnings("unchecked")
+        Pending() {
+            super((Callable<PlayFabResult<Boolean>>) (Callable<?>) NOTHING);
+        }
+
+        void complete(PlayFabError error) {
+            PlayFabResult<Boolean> result = new PlayFabResult<Boolean>();
+            result.Error = error;
+            result.Result = error == null ? Boolean.TRUE : null;
+            set(result);
+        }
+
+        @Override
+        public void run() {
+            // Only the write's call may complete this
+        }
+    }
+
+    /** One write's outcome and the keys it wrote. */
+    private static final class Waiter {
+        final Pending pending;
+        final Set<String> keys;
+
+        Waiter(Pending pending, Set<String> keys) {
+            this.pending = pending;
+            this.keys = keys;
+        }
+    }
+
+    /** The writes waiting to be sent for one group; a null value removes the key. */
+    private static final class Batch {
+        final Map<String, String> values = new LinkedHashMap<String, String>();
+        final List<Waiter> waiters = new ArrayList<Waiter>();
+        int attempts;
+        boolean due; // Its window ended while the group's previous flush was in flight
+    }
+
+    private final long windowMillis;
+    private final int maxRetries;
+    private final PlayFabCache<String, SharedGroup> cache;
+    private final Object lock = new Object();
+    private final Map<String, Batch> pending = new HashMap<String, Batch>(); // Guarded by lock
+    private final Set<String> flushing = new HashSet<String>(); // Groups with a flush in flight; guarded by lock
+
+    private PlayFabSharedGroupCache(long ttlMillis, int maxGroups, long windowMillis, int maxRetries) {
+        this.windowMillis = windowMillis;
+        this.maxRetries = maxRetries;
+        this.cache = new PlayFabCache<String, SharedGroup>(new PlayFabCache.Loader<String, SharedGroup>() {
+            public PlayFabResult<SharedGroup> load(String sharedGroupId, SharedGroup previous) {
+                PlayFabResult<SharedGroup> result = fetch(sharedGroupId);
+                if (result.Error == null && result.Result != null) {
+                    synchronized (lock) {
+                        Batch batch = pending.get(sharedGroupId);
+                        if (batch != null)
+                            result.Result = result.Result.with(batch.values); // Not sent yet, but already ours to read
+                    }
+                }
+                return result;
+            }
+        }, ttlMillis, 0, maxGroups);
+    }
+
+    abstract PlayFabResult<SharedGroup> fetch(String sharedGroupId);
+
+    abstract PlayFabResult<Boolean> send(String sharedGroupId, Map<String, String> data, List<String> keysToRemove);
+
+    /** @return The group's data and members, from the cache when it can be served */
+    public PlayFabResult<SharedGroup> get(String sharedGroupId) {
+        return cache.get(sharedGroupId);
+    }
+
+    /** @return The eventual outcome of the UpdateSharedGroupData call that carries the write; it never blocks */
+    public Future<PlayFabResult<Boolean>> set(String sharedGroupId, String key, String value) {
+        Map<String, String> write = new HashMap<String, String>();
+        write.put(key, value);
+        return write(sharedGroupId, write);
+    }
+
+    public Future<PlayFabResult<Boolean>> remove(String sharedGroupId, String key) {
+        Map<String, String> write = new HashMap<String, String>();
+        write.put(key, null);
+        return write(sharedGroupId, write);
+    }
+
+    /**
+     * Queue several keys at once, all carried by the same call when they fit in one.
+     * @param values The values to write; a null value removes its key
+     */
+    public Future<PlayFabResult<Boolean>> write(final String sharedGroupId, Map<String, String> values) {
+        Pending waiter = new Pending();
+        Batch batch;
+        boolean schedule;
+        synchronized (lock) {
+            batch = pending.get(sharedGroupId);
+            schedule = batch == null;
+            if (schedule) {
+                batch = new Batch();
+                pending.put(sharedGroupId, batch);
+            }
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                batch.values.remove(entry.getKey()); // Re-insert so the newest write goes last
+                batch.values.put(entry.getKey(), entry.getValue());
+            }
+            batch.waiters.add(new Waiter(waiter, new HashSet<String>(values.keySet())));
+
+            // Under lock, so concurrent writes to the group each apply to the cached entry the other one left
+            SharedGroup cached = cache.peek(sharedGroupId);
+            if (cached != null)
+                cache.put(sharedGroupId, cached.with(values));
+        }
+        if (schedule)
+            flushLater(sharedGroupId, batch, windowMillis);
+        return waiter;
+    }
+
+    /** Drop the group's entry, e.g. after it was changed by a call that did not go through this cache. */
+    public void invalidate(String sharedGroupId) {
+        cache.invalidate(sharedGroupId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void flushLater(final String sharedGroupId, final Batch batch, long delayMillis) {
+        PlayFabScheduler.get().schedule(new Runnable() {
+            public void run() {
+                try {
+                    PlayFabScheduler.io().execute(new Runnable() {
+                        public void run() {
+                            flush(sharedGroupId, batch);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    flushLater(sharedGroupId, batch, windowMillis); // The io pool is saturated; the writes wait for it
+                }
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush(String sharedGroupId, Batch batch) {
+        synchronized (lock) {
+            if (pending.get(sharedGroupId) != batch)
+                return; // Merged into a retry, which has its own flush
+            if (!flushing.add(sharedGroupId)) {
+                batch.due = true; // The flush in flight sends it once it completes
+                return;
+            }
+            pending.remove(sharedGroupId);
+        }
+
+        List<String> keys = new ArrayList<String>(batch.values.keySet());
+        PlayFabError error = null;
+        int sent = 0;
+        while (sent < keys.size() && error == null) {
+            Map<String, String> data = new LinkedHashMap<String, String>();
+            List<String> keysToRemove = new ArrayList<String>();
+            for (String key : keys.subList(sent, Math.min(sent + MAX_KEYS_PER_CALL, keys.size()))) {
+                String value = batch.values.get(key);
+                if (value == null)
+                    keysToRemove.add(key);
+                else
+                    data.put(key, value);
+            }
+            error = send(sharedGroupId, data, keysToRemove).Error;
+            if (error == null)
+                sent += data.size() + keysToRemove.size();
+        }
+        Set<String> taken = new HashSet<String>(keys.subList(0, sent));
+
+        if (error != null && error.pfErrorCode == PlayFabErrorCode.DataUpdateRateExceeded && batch.attempts < maxRetries) {
+            // Keep what was not sent, under anything written since, and try again once PlayFab allows
+            long delayMillis = error.retryAfterSeconds != null ? error.retryAfterSeconds * 1000L : windowMillis << Math.min(batch.attempts + 1, 10);
+            Batch retry = new Batch();
+            List<Pending> done = new ArrayList<Pending>();
+            synchronized (lock) {
+                Batch newer = pending.get(sharedGroupId);
+                retry.attempts = batch.attempts + 1;
+                for (String key : keys.subList(sent, keys.size()))
+                    retry.values.put(key, batch.values.get(key));
+                for (Waiter waiter : batch.waiters) {
+                    Set<String> untaken = new HashSet<String>(waiter.keys);
+                    untaken.removeAll(taken);
+                    if (untaken.isEmpty())
+                        done.add(waiter.pending);
+                    else
+                        retry.waiters.add(new Waiter(waiter.pending, untaken)); // Only what the retry carries decides it now
+                }
+                if (newer != null) {
+                    for (Map.Entry<String, String> entry : newer.values.entrySet()) {
+                        retry.values.remove(entry.getKey());
+                        retry.values.put(entry.getKey(), entry.getValue());
+                    }
+                    retry.waiters.addAll(newer.waiters);
+                }
+                pending.put(sharedGroupId, retry); // Writes made until it is sent join it
+                flushing.remove(sharedGroupId);
+            }
+            flushLater(sharedGroupId, retry, delayMillis);
+            for (Pending waiter : done)
+                waiter.complete(null);
+            return;
+        }
+
+        if (error != null)
+            cache.invalidate(sharedGroupId); // The cached entry shows writes PlayFab did not take
+        Batch next;
+        synchronized (lock) {
+            flushing.remove(sharedGroupId);
+            next = pending.get(sharedGroupId);
+            if (next != null && !next.due)
+                next = null; // Its own window has not ended; its flush is still to come
+        }
+        if (next != null)
+            flushLater(sharedGroupId, next, 0);
+        for (Waiter waiter : batch.waiters)
+            waiter.pending.complete(taken.containsAll(waiter.keys) ? null : error);
+    }
+
+    /** Over the Server API. */
+    public static class Server extends PlayFabSharedGroupCache {
+        /**
+         * @param ttlMillis How long a group's data is served before it is fetched again
+         * @param maxGroups Upper bound on the number of groups cached
+         * @param windowMillis How long a write waits for others to the same group to share its call
+         * @param maxRetries How many times writes refused with DataUpdateRateExceeded are sent again
+         */
+        public Server(long ttlMillis, int maxGroups, long windowMillis, int maxRetries) {
+            super(ttlMillis, maxGroups, windowMillis, maxRetries);
+        }
+
+        PlayFabResult<SharedGroup> fetch(String sharedGroupId) {
+            PlayFabServerModels.GetSharedGroupDataRequest request = new PlayFabServerModels.GetSharedGroupDataRequest();
+            request.SharedGroupId = sharedGroupId;
+            request.GetMembers = true;
+            PlayFabResult<PlayFabServerModels.GetSharedGroupDataResult> response = PlayFabServerAPI.GetSharedGroupData(request);
+            PlayFabResult<SharedGroup> result = new PlayFabResult<SharedGroup>();
+            result.Error = response.Error;
+            if (response.Error == null) {
+                Map<String, String> data = new LinkedHashMap<String, String>();
+                if (response.Result.Data != null)
+                    for (Map.Entry<String, PlayFabServerModels.SharedGroupDataRecord> entry : response.Result.Data.entrySet())
+                        data.put(entry.getKey(), entry.getValue() == null ? null : entry.getValue().Value);
+                result.Result = new SharedGroup(data, response.Result.Members != null ? response.Result.Members : Collections.<String>emptyList());
+            }
+            return result;
+        }
+
+        PlayFabResult<Boolean> send(String sharedGroupId, Map<String, String> data, List<String> keysToRemove) {
+            PlayFabServerModels.UpdateSharedGroupDataRequest request = new PlayFabServerModels.UpdateSharedGroupDataRequest();
+            request.SharedGroupId = sharedGroupId;
+            request.Data = data.isEmpty() ? null : data;
+            request.KeysToRemove = keysToRemove.isEmpty() ? null : new ArrayList<String>(keysToRemove);
+            PlayFabResult<PlayFabServerModels.UpdateSharedGroupDataResult> response = PlayFabServerAPI.UpdateSharedGroupData(request);
+            PlayFabResult<Boolean> result = new PlayFabResult<Boolean>();
+            result.Error = response.Error;
+            result.Result = response.Error == null;
+            return result;
+        }
+    }
+}
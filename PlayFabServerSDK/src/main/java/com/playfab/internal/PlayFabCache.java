@@ -0,0 +1,367 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import com.google.gson.stream.*;
+
+import com.playfab.PlayFabCacheStore;
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * The read-through cache behind the SDK's API caches. An entry is fresh for its TTL and is then served stale for a
+ * further window while a single background load replaces it; past that window the caller loads it again. Concurrent
+ * loads of one key are coalesced into a single call, failed loads are never cached, and the number of entries is
+ * bounded, least recently loaded or written first. Invalidating a key keeps a load of it that is already in flight
+ * out of the cache, without affecting loads of other keys. Entries can also be persisted to a PlayFabCacheStore and restored after a restart; the store
+ * also records how many times invalidateAll was called, so entries persisted before the last call are not restored.
+ */
+public class PlayFabCache<K, V> {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final String GENERATION_KEY = "\u0000generation"; // Store key of the invalidateAll count; no cache key contains NUL
+
+    public static interface Loader<K, V> {
+        /** @param previous The value currently cached for key, possibly stale, or null; useful for conditional requests */
+        public PlayFabResult<V> load(K key, V previous);
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long freshUntil;
+        final long staleUntil;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, long freshUntil, long staleUntil) {
+            this.value = value;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+    private final Loader<K, V> loader;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final int maxEntries;
+    private final Object lock = new Object();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<K, Entry<V>>(); // Guarded by lock; in install order
+    // A load caches its value only while it is still the key's task here; invalidate removes it under lock
+    private final ConcurrentMap<K, FutureTask<PlayFabResult<V>>> loading = new ConcurrentHashMap<K, FutureTask<PlayFabResult<V>>>();
+    private final AtomicLong invalidations = new AtomicLong(); // invalidateAll calls; changed only under lock
+
+    private final Object persistLock = new Object(); // Orders store writes against removals, so an invalidated value is never written back
+    private volatile PlayFabCacheStore store;
+    private volatile String namespace;
+    private volatile Type valueType;
+    private volatile long storeGeneration; // The store's invalidateAll count; written under persistLock
+
+    /**
+     * @param ttlMillis How long a loaded value is served without reloading
+     * @param staleMillis How long after that it is still served while a background load replaces it; 0 to always block
+     * @param maxEntries Upper bound on the number of cached keys
+     */
+    public PlayFabCache(Loader<K, V> loader, long ttlMillis, long staleMillis, int maxEntries) {
+        if (loader == null)
+            throw new IllegalArgumentException("loader");
+        this.loader = loader;
+        this.ttlMillis = ttlMillis;
+        this.staleMillis = staleMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /** Write every loaded value to store under namespace, keyed by key.toString(), and restore from it on a miss. */
+    public void persistTo(PlayFabCacheStore store, String namespace, Type valueType) {
+        synchronized (persistLock) {
+            this.namespace = namespace;
+            this.valueType = valueType;
+            this.storeGeneration = readGeneration(store, namespace);
+            this.store = store;
+        }
+    }
+
+    /** @return The cached value, loading it first if it is missing or too old to serve */
+    public PlayFabResult<V> get(K key) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entry(key);
+        if (entry != null && now < entry.staleUntil) {
+            if (now >= entry.freshUntil)
+                refreshInBackground(key, entry);
+            PlayFabResult<V> result = new PlayFabResult<V>();
+            result.Result = entry.value;
+            return result;
+        }
+        return load(key, entry == null ? null : entry.value, entry == null);
+    }
+
+    /** @return The cached value if it can still be served, without ever loading it; null otherwise */
+    public V peek(K key) {
+        Entry<V> entry = entry(key);
+        return entry != null && System.currentTimeMillis() < entry.staleUntil ? entry.value : null;
+    }
+
+    /** Load the key now, regardless of the age of the cached value, sharing any load already in flight. */
+    public PlayFabResult<V> refresh(K key) {
+        Entry<V> entry = entry(key);
+        return load(key, entry == null ? null : entry.value, false);
+    }
+
+    /** Cache a value obtained elsewhere, such as from the response to a write. */
+    public void put(K key, V value) {
+        store(key, value, System.currentTimeMillis(), invalidations.get(), null);
+    }
+
+    public void invalidate(K key) {
+        synchronized (lock) {
+            entries.remove(key);
+            loading.remove(key); // A load in flight is still returned to its callers, but not cached
+        }
+        PlayFabCacheStore currentStore = store;
+        if (currentStore != null) {
+            synchronized (persistLock) {
+                currentStore.remove(namespace, key.toString());
+            }
+        }
+    }
+
+    /** Drop every cached entry, including persisted ones: those written before this call are no longer restored. */
+    public void invalidateAll() {
+        synchronized (lock) {
+            invalidations.incrementAndGet();
+            entries.clear();
+            loading.clear();
+        }
+        PlayFabCacheStore currentStore = store;
+        if (currentStore != null) {
+            synchronized (persistLock) {
+                storeGeneration++;
+                currentStore.write(namespace, GENERATION_KEY, Long.toString(storeGeneration).getBytes(UTF8));
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return How long a value stays fresh; override to derive it from the value, e.g. from an expiry it carries. A
+     *     negative TTL also cuts into the stale window; at -staleMillis or less the value is never served from the cache.
+     */
+    protected long ttlFor(K key, V value) {
+        return ttlMillis;
+    }
+
+    /** One load of a key, first from the store when restoring is allowed and then from the loader. */
+    private final class Load implements Callable<PlayFabResult<V>> {
+        private final K key;
+        private final V previous;
+        private final boolean restore;
+        private final long generation = invalidations.get();
+        FutureTask<PlayFabResult<V>> task; // Set before the task runs
+
+        Load(K key, V previous, boolean restore) {
+            this.key = key;
+            this.previous = previous;
+            this.restore = restore;
+        }
+
+        public PlayFabResult<V> call() {
+            if (restore && store != null) {
+                Entry<V> restored = restore(key, System.currentTimeMillis(), generation, task);
+                if (restored != null) {
+                    PlayFabResult<V> result = new PlayFabResult<V>();
+                    result.Result = restored.value;
+                    return result;
+                }
+            }
+            PlayFabResult<V> result = loader.load(key, previous);
+            if (result.Error == null && result.Result != null)
+                store(key, result.Result, System.currentTimeMillis(), generation, task);
+            return result;
+        }
+    }
+
+    private PlayFabResult<V> load(K key, V previous, boolean restore) {
+        FutureTask<PlayFabResult<V>> task = loading.get(key);
+        if (task == null) {
+            Load load = new Load(key, previous, restore);
+            FutureTask<PlayFabResult<V>> created = new FutureTask<PlayFabResult<V>>(load);
+            load.task = created;
+            task = loading.putIfAbsent(key, created);
+            if (task == null) {
+                task = created;
+                try {
+                    created.run();
+                } finally {
+                    loading.remove(key, created);
+                }
+            }
+        }
+
+        try {
+            return task.get();
+        } catch (Exception e) {
+            PlayFabResult<V> result = new PlayFabResult<V>();
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, cause.getMessage(), null, null);
+            return result;
+        }
+    }
+
+    private void refreshInBackground(final K key, final Entry<V> entry) {
+        if (!entry.refreshing.compareAndSet(false, true))
+            return;
+        try {
+            PlayFabScheduler.io().execute(new Runnable() {
+                public void run() {
+                    try {
+                        load(key, entry.value, false);
+                    } finally {
+                        entry.refreshing.set(false);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private Entry<V> entry(K key) {
+        synchronized (lock) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Cache and persist a value, unless it may predate an invalidation: invalidateAll was called since generation was
+     * read, or the key was invalidated while task, the load that produced it, was running.
+     */
+    private void store(K key, V value, long loadedAt, long generation, FutureTask<PlayFabResult<V>> task) {
+        Entry<V> installed;
+        synchronized (lock) {
+            if (!current(key, generation, task))
+                return; // A load that raced with an invalidation is returned but not cached
+            installed = install(key, value, loadedAt);
+        }
+        PlayFabCacheStore currentStore = store;
+        if (currentStore == null)
+            return;
+        try {
+            synchronized (persistLock) {
+                synchronized (lock) {
+                    if (entries.get(key) != installed)
+                        return; // Invalidated, or replaced by a newer value that persists itself
+                }
+                StringWriter text = new StringWriter();
+                JsonWriter writer = new JsonWriter(text);
+                writer.beginObject();
+                writer.name("generation").value(storeGeneration);
+                writer.name("loadedAt").value(loadedAt);
+                writer.name("value");
+                PlayFabJson.gson.toJson(value, valueType, writer);
+                writer.endObject();
+                writer.flush();
+                currentStore.write(namespace, key.toString(), text.toString().getBytes(UTF8));
+            }
+        } catch (Exception e) {
+            // Persistence is best-effort
+        }
+    }
+
+    /** @return Whether a value loaded by task since generation was read may still be cached; the caller holds lock */
+    private boolean current(K key, long generation, FutureTask<PlayFabResult<V>> task) {
+        return invalidations.get() == generation && (task == null || loading.get(key) == task);
+    }
+
+    /** Add or replace the key's entry as the newest and evict the oldest keys beyond maxEntries; the caller holds lock. */
+    private Entry<V> install(K key, V value, long loadedAt) {
+        long freshUntil = loadedAt + ttlFor(key, value);
+        Entry<V> entry = new Entry<V>(value, freshUntil, freshUntil + staleMillis);
+        entries.remove(key); // Re-insert, so a refreshed or written key is evicted last
+        entries.put(key, entry);
+        Iterator<K> oldest = entries.keySet().iterator();
+        while (entries.size() > maxEntries && oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+        }
+        return entry;
+    }
+
+    private Entry<V> restore(K key, long now, long generation, FutureTask<PlayFabResult<V>> task) {
+        ByteBuffer bytes = store.read(namespace, key.toString());
+        if (bytes == null)
+            return null;
+        try {
+            JsonReader reader = new JsonReader(new InputStreamReader(new ByteBufferInputStream(bytes), UTF8));
+            long persistedGeneration = 0;
+            long loadedAt = 0;
+            V value = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("generation"))
+                    persistedGeneration = reader.nextLong();
+                else if (name.equals("loadedAt"))
+                    loadedAt = reader.nextLong();
+                else if (name.equals("value"))
+                    value = PlayFabJson.gson.<V>fromJson(reader, valueType);
+                else
+                    reader.skipValue();
+            }
+            reader.endObject();
+            if (value == null || persistedGeneration != storeGeneration || now >= loadedAt + ttlFor(key, value) + staleMillis)
+                return null;
+            synchronized (lock) {
+                if (!current(key, generation, task))
+                    return null; // Invalidated while the store was being read
+                Entry<V> existing = entries.get(key);
+                return existing != null ? existing : install(key, value, loadedAt);
+            }
+        } catch (Exception e) {
+            return null; // An unreadable entry is treated as absent and overwritten by the next load
+        }
+    }
+
+    private static long readGeneration(PlayFabCacheStore store, String namespace) {
+        ByteBuffer bytes = store.read(namespace, GENERATION_KEY);
+        if (bytes == null)
+            return 0;
+        byte[] text = new byte[bytes.remaining()];
+        bytes.duplicate().get(text);
+        try {
+            return Long.parseLong(new String(text, UTF8));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** Reads a buffer in place, so a memory-mapped entry is decoded without first being copied to the heap. */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (!buffer.hasRemaining())
+                return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,616 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabDataModels;
+import com.playfab.PlayFabDataModels.*;
+
+/**
+ * Streaming adapters for the PlayFabDataModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabDataModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabDataModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AbortFileUploadsRequest": return new AbortFileUploadsRequestAdapter(gson);
+            case "AbortFileUploadsResponse": return new AbortFileUploadsResponseAdapter(gson);
+            case "DeleteFilesRequest": return new DeleteFilesRequestAdapter(gson);
+            case "DeleteFilesResponse": return new DeleteFilesResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "FinalizeFileUploadsRequest": return new FinalizeFileUploadsRequestAdapter(gson);
+            case "FinalizeFileUploadsResponse": return new FinalizeFileUploadsResponseAdapter(gson);
+            case "GetFileMetadata": return new GetFileMetadataAdapter(gson);
+            case "GetFilesRequest": return new GetFilesRequestAdapter(gson);
+            case "GetFilesResponse": return new GetFilesResponseAdapter(gson);
+            case "GetObjectsRequest": return new GetObjectsRequestAdapter(gson);
+            case "GetObjectsResponse": return new GetObjectsResponseAdapter(gson);
+            case "InitiateFileUploadMetadata": return new InitiateFileUploadMetadataAdapter(gson);
+            case "InitiateFileUploadsRequest": return new InitiateFileUploadsRequestAdapter(gson);
+            case "InitiateFileUploadsResponse": return new InitiateFileUploadsResponseAdapter(gson);
+            case "ObjectResult": return new ObjectResultAdapter(gson);
+            case "SetObject": return new SetObjectAdapter(gson);
+            case "SetObjectInfo": return new SetObjectInfoAdapter(gson);
+            case "SetObjectsRequest": return new SetObjectsRequestAdapter(gson);
+            case "SetObjectsResponse": return new SetObjectsResponseAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AbortFileUploadsRequestAdapter extends PlayFabModelAdapter<AbortFileUploadsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        AbortFileUploadsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected AbortFileUploadsRequest newInstance() {
+            return new AbortFileUploadsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AbortFileUploadsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FileNames", value.FileNames, stringListAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, AbortFileUploadsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FileNames": value.FileNames = stringListAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AbortFileUploadsResponseAdapter extends PlayFabModelAdapter<AbortFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        AbortFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected AbortFileUploadsResponse newInstance() {
+            return new AbortFileUploadsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, AbortFileUploadsResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, AbortFileUploadsResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteFilesRequestAdapter extends PlayFabModelAdapter<DeleteFilesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        DeleteFilesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected DeleteFilesRequest newInstance() {
+            return new DeleteFilesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteFilesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FileNames", value.FileNames, stringListAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteFilesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FileNames": value.FileNames = stringListAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteFilesResponseAdapter extends PlayFabModelAdapter<DeleteFilesResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteFilesResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteFilesResponse newInstance() {
+            return new DeleteFilesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteFilesResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteFilesResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FinalizeFileUploadsRequestAdapter extends PlayFabModelAdapter<FinalizeFileUploadsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        FinalizeFileUploadsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected FinalizeFileUploadsRequest newInstance() {
+            return new FinalizeFileUploadsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, FinalizeFileUploadsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FileNames", value.FileNames, stringListAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, FinalizeFileUploadsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FileNames": value.FileNames = stringListAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FinalizeFileUploadsResponseAdapter extends PlayFabModelAdapter<FinalizeFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, GetFileMetadata>> getFileMetadataMapAdapter;
+
+        FinalizeFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            getFileMetadataMapAdapter = mapAdapter(gson, GetFileMetadata.class);
+        }
+
+        protected FinalizeFileUploadsResponse newInstance() {
+            return new FinalizeFileUploadsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, FinalizeFileUploadsResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Metadata", value.Metadata, getFileMetadataMapAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, FinalizeFileUploadsResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Metadata": value.Metadata = getFileMetadataMapAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFileMetadataAdapter extends PlayFabModelAdapter<GetFileMetadata> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetFileMetadataAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetFileMetadata newInstance() {
+            return new GetFileMetadata();
+        }
+
+        protected void writeFields(JsonWriter out, GetFileMetadata value) throws IOException {
+            writeField(out, "Checksum", value.Checksum);
+            writeField(out, "DownloadUrl", value.DownloadUrl);
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "LastModified", value.LastModified, dateAdapter);
+            writeField(out, "Size", value.Size);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFileMetadata value) throws IOException {
+            switch (name) {
+                case "Checksum": value.Checksum = readString(in); return true;
+                case "DownloadUrl": value.DownloadUrl = readString(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                case "LastModified": value.LastModified = dateAdapter.read(in); return true;
+                case "Size": value.Size = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFilesRequestAdapter extends PlayFabModelAdapter<GetFilesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetFilesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetFilesRequest newInstance() {
+            return new GetFilesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetFilesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFilesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetFilesResponseAdapter extends PlayFabModelAdapter<GetFilesResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, GetFileMetadata>> getFileMetadataMapAdapter;
+
+        GetFilesResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            getFileMetadataMapAdapter = mapAdapter(gson, GetFileMetadata.class);
+        }
+
+        protected GetFilesResponse newInstance() {
+            return new GetFilesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetFilesResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Metadata", value.Metadata, getFileMetadataMapAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetFilesResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Metadata": value.Metadata = getFileMetadataMapAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetObjectsRequestAdapter extends PlayFabModelAdapter<GetObjectsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetObjectsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetObjectsRequest newInstance() {
+            return new GetObjectsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetObjectsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EscapeObject", value.EscapeObject);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetObjectsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EscapeObject": value.EscapeObject = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetObjectsResponseAdapter extends PlayFabModelAdapter<GetObjectsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Map<String, ObjectResult>> objectResultMapAdapter;
+
+        GetObjectsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectResultMapAdapter = mapAdapter(gson, ObjectResult.class);
+        }
+
+        protected GetObjectsResponse newInstance() {
+            return new GetObjectsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetObjectsResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Objects", value.Objects, objectResultMapAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetObjectsResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Objects": value.Objects = objectResultMapAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InitiateFileUploadMetadataAdapter extends PlayFabModelAdapter<InitiateFileUploadMetadata> {
+        InitiateFileUploadMetadataAdapter(Gson gson) {
+        }
+
+        protected InitiateFileUploadMetadata newInstance() {
+            return new InitiateFileUploadMetadata();
+        }
+
+        protected void writeFields(JsonWriter out, InitiateFileUploadMetadata value) throws IOException {
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "UploadUrl", value.UploadUrl);
+        }
+
+        protected boolean readField(JsonReader in, String name, InitiateFileUploadMetadata value) throws IOException {
+            switch (name) {
+                case "FileName": value.FileName = readString(in); return true;
+                case "UploadUrl": value.UploadUrl = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InitiateFileUploadsRequestAdapter extends PlayFabModelAdapter<InitiateFileUploadsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        InitiateFileUploadsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected InitiateFileUploadsRequest newInstance() {
+            return new InitiateFileUploadsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, InitiateFileUploadsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "FileNames", value.FileNames, stringListAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+        }
+
+        protected boolean readField(JsonReader in, String name, InitiateFileUploadsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "FileNames": value.FileNames = stringListAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InitiateFileUploadsResponseAdapter extends PlayFabModelAdapter<InitiateFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<InitiateFileUploadMetadata>> initiateFileUploadMetadataListAdapter;
+
+        InitiateFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            initiateFileUploadMetadataListAdapter = listAdapter(gson, InitiateFileUploadMetadata.class);
+        }
+
+        protected InitiateFileUploadsResponse newInstance() {
+            return new InitiateFileUploadsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, InitiateFileUploadsResponse value) throws IOException {
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "UploadDetails", value.UploadDetails, initiateFileUploadMetadataListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InitiateFileUploadsResponse value) throws IOException {
+            switch (name) {
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "UploadDetails": value.UploadDetails = initiateFileUploadMetadataListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ObjectResultAdapter extends PlayFabModelAdapter<ObjectResult> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        ObjectResultAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected ObjectResult newInstance() {
+            return new ObjectResult();
+        }
+
+        protected void writeFields(JsonWriter out, ObjectResult value) throws IOException {
+            writeField(out, "DataObject", value.DataObject, objectAdapter);
+            writeField(out, "EscapedDataObject", value.EscapedDataObject);
+            writeField(out, "ObjectName", value.ObjectName);
+        }
+
+        protected boolean readField(JsonReader in, String name, ObjectResult value) throws IOException {
+            switch (name) {
+                case "DataObject": value.DataObject = objectAdapter.read(in); return true;
+                case "EscapedDataObject": value.EscapedDataObject = readString(in); return true;
+                case "ObjectName": value.ObjectName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetObjectAdapter extends PlayFabModelAdapter<SetObject> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        SetObjectAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected SetObject newInstance() {
+            return new SetObject();
+        }
+
+        protected void writeFields(JsonWriter out, SetObject value) throws IOException {
+            writeField(out, "DataObject", value.DataObject, objectAdapter);
+            writeField(out, "DeleteObject", value.DeleteObject);
+            writeField(out, "EscapedDataObject", value.EscapedDataObject);
+            writeField(out, "ObjectName", value.ObjectName);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetObject value) throws IOException {
+            switch (name) {
+                case "DataObject": value.DataObject = objectAdapter.read(in); return true;
+                case "DeleteObject": value.DeleteObject = readBoolean(in); return true;
+                case "EscapedDataObject": value.EscapedDataObject = readString(in); return true;
+                case "ObjectName": value.ObjectName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetObjectInfoAdapter extends PlayFabModelAdapter<SetObjectInfo> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        SetObjectInfoAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        protected SetObjectInfo newInstance() {
+            return new SetObjectInfo();
+        }
+
+        protected void writeFields(JsonWriter out, SetObjectInfo value) throws IOException {
+            writeField(out, "ObjectName", value.ObjectName);
+            writeField(out, "OperationReason", value.OperationReason);
+            writeField(out, "SetResult", value.SetResult, operationTypesAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetObjectInfo value) throws IOException {
+            switch (name) {
+                case "ObjectName": value.ObjectName = readString(in); return true;
+                case "OperationReason": value.OperationReason = readString(in); return true;
+                case "SetResult": value.SetResult = operationTypesAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetObjectsRequestAdapter extends PlayFabModelAdapter<SetObjectsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<SetObject>> setObjectListAdapter;
+
+        SetObjectsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            setObjectListAdapter = listAdapter(gson, SetObject.class);
+        }
+
+        protected SetObjectsRequest newInstance() {
+            return new SetObjectsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetObjectsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ExpectedProfileVersion", value.ExpectedProfileVersion);
+            writeField(out, "Objects", value.Objects, setObjectListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetObjectsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ExpectedProfileVersion": value.ExpectedProfileVersion = readInteger(in); return true;
+                case "Objects": value.Objects = setObjectListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetObjectsResponseAdapter extends PlayFabModelAdapter<SetObjectsResponse> {
+        private final TypeAdapter<ArrayList<SetObjectInfo>> setObjectInfoListAdapter;
+
+        SetObjectsResponseAdapter(Gson gson) {
+            setObjectInfoListAdapter = listAdapter(gson, SetObjectInfo.class);
+        }
+
+        protected SetObjectsResponse newInstance() {
+            return new SetObjectsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SetObjectsResponse value) throws IOException {
+            writeField(out, "ProfileVersion", value.ProfileVersion);
+            writeField(out, "SetResults", value.SetResults, setObjectInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetObjectsResponse value) throws IOException {
+            switch (name) {
+                case "ProfileVersion": value.ProfileVersion = readInteger(in); return true;
+                case "SetResults": value.SetResults = setObjectInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * ISO-8601 codec for the Date fields of the PlayFab models, registered on PlayFabJson.gson in place of a shared
+ * SimpleDateFormat. It holds no state, so it needs no locks, and it converts straight between text and UTC epoch
+ * milliseconds without a Calendar.
+ *
+ * Output is always yyyy-MM-dd'T'HH:mm:ss.SSS'Z' in UTC. Input may omit seconds or the fraction, may carry any number
+ * of fraction digits (only milliseconds are kept), and may end in Z, an offset such as +01:00, or nothing, which is
+ * read as UTC. The epoch-millisecond methods are the hand-off point to java.time, via Instant.ofEpochMilli and
+ * Instant.toEpochMilli, for callers on Java 8 or later.
+ */
+public class PlayFabDateCodec extends TypeAdapter<Date> {
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    @Override
+    public void write(JsonWriter out, Date value) throws IOException {
+        if (value == null)
+            out.nullValue();
+        else
+            out.value(format(value.getTime()));
+    }
+
+    @Override
+    public Date read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String text = in.nextString();
+        try {
+            return new Date(parseMillis(text));
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException(text, e);
+        }
+    }
+
+    public static String format(Date value) {
+        return value == null ? null : format(value.getTime());
+    }
+
+    public static String format(long epochMillis) {
+        long days = epochMillis / MILLIS_PER_DAY;
+        long remainder = epochMillis % MILLIS_PER_DAY;
+        if (remainder < 0) {
+            days--;
+            remainder += MILLIS_PER_DAY;
+        }
+        int millisOfDay = (int) remainder;
+
+        // Civil-from-days, proleptic Gregorian (H. Hinnant, "chrono-Compatible Low-Level Date Algorithms")
+        long z = days + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+        char[] buf = new char[24];
+        put(buf, 0, year, 4);
+        buf[4] = '-';
+        put(buf, 5, month, 2);
+        buf[7] = '-';
+        put(buf, 8, day, 2);
+        buf[10] = 'T';
+        put(buf, 11, millisOfDay / 3600000, 2);
+        buf[13] = ':';
+        put(buf, 14, millisOfDay / 60000 % 60, 2);
+        buf[16] = ':';
+        put(buf, 17, millisOfDay / 1000 % 60, 2);
+        buf[19] = '.';
+        put(buf, 20, millisOfDay % 1000, 3);
+        buf[23] = 'Z';
+        return new String(buf);
+    }
+
+    public static Date parse(String text) {
+        return text == null ? null : new Date(parseMillis(text));
+    }
+
+    /** @throws IllegalArgumentException if text is not an ISO-8601 date or date-time */
+    public static long parseMillis(String text) {
+        int len = text.length();
+        if (len < 10 || text.charAt(4) != '-' || text.charAt(7) != '-')
+            throw invalid(text);
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (month < 1 || month > 12 || day < 1 || day > 31)
+            throw invalid(text);
+
+        long millisOfDay = 0;
+        int pos = 10;
+        if (pos < len && (text.charAt(pos) == 'T' || text.charAt(pos) == 't' || text.charAt(pos) == ' ')) {
+            if (len < pos + 6 || text.charAt(pos + 3) != ':')
+                throw invalid(text);
+            int hour = digits(text, pos + 1, 2);
+            int minute = digits(text, pos + 4, 2);
+            int second = 0;
+            int millis = 0;
+            pos += 6;
+            if (pos < len && text.charAt(pos) == ':') {
+                second = digits(text, pos + 1, 2);
+                pos += 3;
+                if (pos < len && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                    pos++;
+                    int start = pos;
+                    while (pos < len && isDigit(text.charAt(pos))) {
+                        if (pos - start < 3)
+                            millis = millis * 10 + (text.charAt(pos) - '0');
+                        pos++;
+                    }
+                    if (pos == start)
+                        throw invalid(text);
+                    for (int i = pos - start; i < 3; i++)
+                        millis *= 10;
+                }
+            }
+            if (hour > 23 || minute > 59 || second > 60)
+                throw invalid(text);
+            millisOfDay = hour * 3600000L + minute * 60000L + second * 1000L + millis;
+        }
+
+        long offsetMillis = 0;
+        if (pos < len) {
+            char zone = text.charAt(pos);
+            if ((zone == 'Z' || zone == 'z') && pos + 1 == len) {
+                pos++;
+            } else if (zone == '+' || zone == '-') {
+                int offsetHours = digits(text, pos + 1, 2);
+                int minutesAt = pos + 3 < len && text.charAt(pos + 3) == ':' ? pos + 4 : pos + 3;
+                int offsetMinutes = minutesAt < len ? digits(text, minutesAt, 2) : 0;
+                pos = minutesAt < len ? minutesAt + 2 : minutesAt;
+                offsetMillis = (offsetHours * 60L + offsetMinutes) * 60000L * (zone == '-' ? -1 : 1);
+            }
+            if (pos != len)
+                throw invalid(text);
+        }
+
+        return daysFromCivil(year, month, day) * MILLIS_PER_DAY + millisOfDay - offsetMillis;
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yoe = y - era * 400;
+        long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int digits(String text, int start, int count) {
+        if (start + count > text.length())
+            throw invalid(text);
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c))
+                throw invalid(text);
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static void put(char[] buf, int start, int value, int width) {
+        for (int i = start + width - 1; i >= start; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static IllegalArgumentException invalid(String text) {
+        return new IllegalArgumentException("Not an ISO-8601 date: " + text);
+    }
+}
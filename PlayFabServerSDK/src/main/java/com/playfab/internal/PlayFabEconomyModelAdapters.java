@@ -0,0 +1,4311 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabEconomyModels;
+import com.playfab.PlayFabEconomyModels.*;
+
+/**
+ * Streaming adapters for the PlayFabEconomyModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabEconomyModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabEconomyModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "AddInventoryItemsOperation": return new AddInventoryItemsOperationAdapter(gson);
+            case "AddInventoryItemsRequest": return new AddInventoryItemsRequestAdapter(gson);
+            case "AddInventoryItemsResponse": return new AddInventoryItemsResponseAdapter(gson);
+            case "AlternateId": return new AlternateIdAdapter(gson);
+            case "CatalogAlternateId": return new CatalogAlternateIdAdapter(gson);
+            case "CatalogConfig": return new CatalogConfigAdapter(gson);
+            case "CatalogItem": return new CatalogItemAdapter(gson);
+            case "CatalogItemReference": return new CatalogItemReferenceAdapter(gson);
+            case "CatalogPrice": return new CatalogPriceAdapter(gson);
+            case "CatalogPriceAmount": return new CatalogPriceAmountAdapter(gson);
+            case "CatalogPriceAmountOverride": return new CatalogPriceAmountOverrideAdapter(gson);
+            case "CatalogPriceOptions": return new CatalogPriceOptionsAdapter(gson);
+            case "CatalogPriceOptionsOverride": return new CatalogPriceOptionsOverrideAdapter(gson);
+            case "CatalogPriceOverride": return new CatalogPriceOverrideAdapter(gson);
+            case "CatalogSpecificConfig": return new CatalogSpecificConfigAdapter(gson);
+            case "Content": return new ContentAdapter(gson);
+            case "ContentFeed": return new ContentFeedAdapter(gson);
+            case "CreateDraftItemRequest": return new CreateDraftItemRequestAdapter(gson);
+            case "CreateDraftItemResponse": return new CreateDraftItemResponseAdapter(gson);
+            case "CreateUploadUrlsRequest": return new CreateUploadUrlsRequestAdapter(gson);
+            case "CreateUploadUrlsResponse": return new CreateUploadUrlsResponseAdapter(gson);
+            case "DeepLink": return new DeepLinkAdapter(gson);
+            case "DeepLinkFormat": return new DeepLinkFormatAdapter(gson);
+            case "DeleteEntityItemReviewsRequest": return new DeleteEntityItemReviewsRequestAdapter(gson);
+            case "DeleteEntityItemReviewsResponse": return new DeleteEntityItemReviewsResponseAdapter(gson);
+            case "DeleteInventoryCollectionRequest": return new DeleteInventoryCollectionRequestAdapter(gson);
+            case "DeleteInventoryCollectionResponse": return new DeleteInventoryCollectionResponseAdapter(gson);
+            case "DeleteInventoryItemsOperation": return new DeleteInventoryItemsOperationAdapter(gson);
+            case "DeleteInventoryItemsRequest": return new DeleteInventoryItemsRequestAdapter(gson);
+            case "DeleteInventoryItemsResponse": return new DeleteInventoryItemsResponseAdapter(gson);
+            case "DeleteItemRequest": return new DeleteItemRequestAdapter(gson);
+            case "DeleteItemResponse": return new DeleteItemResponseAdapter(gson);
+            case "DisplayPropertyIndexInfo": return new DisplayPropertyIndexInfoAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "ExecuteInventoryOperationsRequest": return new ExecuteInventoryOperationsRequestAdapter(gson);
+            case "ExecuteInventoryOperationsResponse": return new ExecuteInventoryOperationsResponseAdapter(gson);
+            case "FileConfig": return new FileConfigAdapter(gson);
+            case "FilterOptions": return new FilterOptionsAdapter(gson);
+            case "GetCatalogConfigRequest": return new GetCatalogConfigRequestAdapter(gson);
+            case "GetCatalogConfigResponse": return new GetCatalogConfigResponseAdapter(gson);
+            case "GetDraftItemRequest": return new GetDraftItemRequestAdapter(gson);
+            case "GetDraftItemResponse": return new GetDraftItemResponseAdapter(gson);
+            case "GetDraftItemsRequest": return new GetDraftItemsRequestAdapter(gson);
+            case "GetDraftItemsResponse": return new GetDraftItemsResponseAdapter(gson);
+            case "GetEntityDraftItemsRequest": return new GetEntityDraftItemsRequestAdapter(gson);
+            case "GetEntityDraftItemsResponse": return new GetEntityDraftItemsResponseAdapter(gson);
+            case "GetEntityItemReviewRequest": return new GetEntityItemReviewRequestAdapter(gson);
+            case "GetEntityItemReviewResponse": return new GetEntityItemReviewResponseAdapter(gson);
+            case "GetInventoryCollectionIdsRequest": return new GetInventoryCollectionIdsRequestAdapter(gson);
+            case "GetInventoryCollectionIdsResponse": return new GetInventoryCollectionIdsResponseAdapter(gson);
+            case "GetInventoryItemsRequest": return new GetInventoryItemsRequestAdapter(gson);
+            case "GetInventoryItemsResponse": return new GetInventoryItemsResponseAdapter(gson);
+            case "GetItemContainersRequest": return new GetItemContainersRequestAdapter(gson);
+            case "GetItemContainersResponse": return new GetItemContainersResponseAdapter(gson);
+            case "GetItemModerationStateRequest": return new GetItemModerationStateRequestAdapter(gson);
+            case "GetItemModerationStateResponse": return new GetItemModerationStateResponseAdapter(gson);
+            case "GetItemPublishStatusRequest": return new GetItemPublishStatusRequestAdapter(gson);
+            case "GetItemPublishStatusResponse": return new GetItemPublishStatusResponseAdapter(gson);
+            case "GetItemRequest": return new GetItemRequestAdapter(gson);
+            case "GetItemResponse": return new GetItemResponseAdapter(gson);
+            case "GetItemReviewsRequest": return new GetItemReviewsRequestAdapter(gson);
+            case "GetItemReviewsResponse": return new GetItemReviewsResponseAdapter(gson);
+            case "GetItemReviewSummaryRequest": return new GetItemReviewSummaryRequestAdapter(gson);
+            case "GetItemReviewSummaryResponse": return new GetItemReviewSummaryResponseAdapter(gson);
+            case "GetItemsRequest": return new GetItemsRequestAdapter(gson);
+            case "GetItemsResponse": return new GetItemsResponseAdapter(gson);
+            case "GetMicrosoftStoreAccessTokensRequest": return new GetMicrosoftStoreAccessTokensRequestAdapter(gson);
+            case "GetMicrosoftStoreAccessTokensResponse": return new GetMicrosoftStoreAccessTokensResponseAdapter(gson);
+            case "GetTransactionHistoryRequest": return new GetTransactionHistoryRequestAdapter(gson);
+            case "GetTransactionHistoryResponse": return new GetTransactionHistoryResponseAdapter(gson);
+            case "GooglePlayProductPurchase": return new GooglePlayProductPurchaseAdapter(gson);
+            case "Image": return new ImageAdapter(gson);
+            case "ImageConfig": return new ImageConfigAdapter(gson);
+            case "InitialValues": return new InitialValuesAdapter(gson);
+            case "InventoryItem": return new InventoryItemAdapter(gson);
+            case "InventoryItemReference": return new InventoryItemReferenceAdapter(gson);
+            case "InventoryOperation": return new InventoryOperationAdapter(gson);
+            case "KeywordSet": return new KeywordSetAdapter(gson);
+            case "ModerationState": return new ModerationStateAdapter(gson);
+            case "PayoutDetails": return new PayoutDetailsAdapter(gson);
+            case "PublishDraftItemRequest": return new PublishDraftItemRequestAdapter(gson);
+            case "PublishDraftItemResponse": return new PublishDraftItemResponseAdapter(gson);
+            case "PurchaseInventoryItemsOperation": return new PurchaseInventoryItemsOperationAdapter(gson);
+            case "PurchaseInventoryItemsRequest": return new PurchaseInventoryItemsRequestAdapter(gson);
+            case "PurchaseInventoryItemsResponse": return new PurchaseInventoryItemsResponseAdapter(gson);
+            case "PurchaseOverride": return new PurchaseOverrideAdapter(gson);
+            case "PurchaseOverridesInfo": return new PurchaseOverridesInfoAdapter(gson);
+            case "PurchasePriceAmount": return new PurchasePriceAmountAdapter(gson);
+            case "Rating": return new RatingAdapter(gson);
+            case "RedeemAppleAppStoreInventoryItemsRequest": return new RedeemAppleAppStoreInventoryItemsRequestAdapter(gson);
+            case "RedeemAppleAppStoreInventoryItemsResponse": return new RedeemAppleAppStoreInventoryItemsResponseAdapter(gson);
+            case "RedeemGooglePlayInventoryItemsRequest": return new RedeemGooglePlayInventoryItemsRequestAdapter(gson);
+            case "RedeemGooglePlayInventoryItemsResponse": return new RedeemGooglePlayInventoryItemsResponseAdapter(gson);
+            case "RedeemMicrosoftStoreInventoryItemsRequest": return new RedeemMicrosoftStoreInventoryItemsRequestAdapter(gson);
+            case "RedeemMicrosoftStoreInventoryItemsResponse": return new RedeemMicrosoftStoreInventoryItemsResponseAdapter(gson);
+            case "RedeemNintendoEShopInventoryItemsRequest": return new RedeemNintendoEShopInventoryItemsRequestAdapter(gson);
+            case "RedeemNintendoEShopInventoryItemsResponse": return new RedeemNintendoEShopInventoryItemsResponseAdapter(gson);
+            case "RedeemPlayStationStoreInventoryItemsRequest": return new RedeemPlayStationStoreInventoryItemsRequestAdapter(gson);
+            case "RedeemPlayStationStoreInventoryItemsResponse": return new RedeemPlayStationStoreInventoryItemsResponseAdapter(gson);
+            case "RedeemSteamInventoryItemsRequest": return new RedeemSteamInventoryItemsRequestAdapter(gson);
+            case "RedeemSteamInventoryItemsResponse": return new RedeemSteamInventoryItemsResponseAdapter(gson);
+            case "RedemptionFailure": return new RedemptionFailureAdapter(gson);
+            case "RedemptionSuccess": return new RedemptionSuccessAdapter(gson);
+            case "ReportItemRequest": return new ReportItemRequestAdapter(gson);
+            case "ReportItemResponse": return new ReportItemResponseAdapter(gson);
+            case "ReportItemReviewRequest": return new ReportItemReviewRequestAdapter(gson);
+            case "ReportItemReviewResponse": return new ReportItemReviewResponseAdapter(gson);
+            case "Review": return new ReviewAdapter(gson);
+            case "ReviewItemRequest": return new ReviewItemRequestAdapter(gson);
+            case "ReviewItemResponse": return new ReviewItemResponseAdapter(gson);
+            case "ReviewTakedown": return new ReviewTakedownAdapter(gson);
+            case "ScanResult": return new ScanResultAdapter(gson);
+            case "SearchItemsRequest": return new SearchItemsRequestAdapter(gson);
+            case "SearchItemsResponse": return new SearchItemsResponseAdapter(gson);
+            case "SetItemModerationStateRequest": return new SetItemModerationStateRequestAdapter(gson);
+            case "SetItemModerationStateResponse": return new SetItemModerationStateResponseAdapter(gson);
+            case "StoreDetails": return new StoreDetailsAdapter(gson);
+            case "StoreReference": return new StoreReferenceAdapter(gson);
+            case "SubmitItemReviewVoteRequest": return new SubmitItemReviewVoteRequestAdapter(gson);
+            case "SubmitItemReviewVoteResponse": return new SubmitItemReviewVoteResponseAdapter(gson);
+            case "SubscriptionDetails": return new SubscriptionDetailsAdapter(gson);
+            case "SubtractInventoryItemsOperation": return new SubtractInventoryItemsOperationAdapter(gson);
+            case "SubtractInventoryItemsRequest": return new SubtractInventoryItemsRequestAdapter(gson);
+            case "SubtractInventoryItemsResponse": return new SubtractInventoryItemsResponseAdapter(gson);
+            case "TakedownItemReviewsRequest": return new TakedownItemReviewsRequestAdapter(gson);
+            case "TakedownItemReviewsResponse": return new TakedownItemReviewsResponseAdapter(gson);
+            case "Transaction": return new TransactionAdapter(gson);
+            case "TransactionOperation": return new TransactionOperationAdapter(gson);
+            case "TransactionPurchaseDetails": return new TransactionPurchaseDetailsAdapter(gson);
+            case "TransactionRedeemDetails": return new TransactionRedeemDetailsAdapter(gson);
+            case "TransactionTransferDetails": return new TransactionTransferDetailsAdapter(gson);
+            case "TransferInventoryItemsOperation": return new TransferInventoryItemsOperationAdapter(gson);
+            case "TransferInventoryItemsRequest": return new TransferInventoryItemsRequestAdapter(gson);
+            case "TransferInventoryItemsResponse": return new TransferInventoryItemsResponseAdapter(gson);
+            case "UpdateCatalogConfigRequest": return new UpdateCatalogConfigRequestAdapter(gson);
+            case "UpdateCatalogConfigResponse": return new UpdateCatalogConfigResponseAdapter(gson);
+            case "UpdateDraftItemRequest": return new UpdateDraftItemRequestAdapter(gson);
+            case "UpdateDraftItemResponse": return new UpdateDraftItemResponseAdapter(gson);
+            case "UpdateInventoryItemsOperation": return new UpdateInventoryItemsOperationAdapter(gson);
+            case "UpdateInventoryItemsRequest": return new UpdateInventoryItemsRequestAdapter(gson);
+            case "UpdateInventoryItemsResponse": return new UpdateInventoryItemsResponseAdapter(gson);
+            case "UploadInfo": return new UploadInfoAdapter(gson);
+            case "UploadUrlMetadata": return new UploadUrlMetadataAdapter(gson);
+            case "UserGeneratedContentSpecificConfig": return new UserGeneratedContentSpecificConfigAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class AddInventoryItemsOperationAdapter extends PlayFabModelAdapter<AddInventoryItemsOperation> {
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+        private final TypeAdapter<InitialValues> initialValuesAdapter;
+
+        AddInventoryItemsOperationAdapter(Gson gson) {
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+            initialValuesAdapter = gson.getAdapter(InitialValues.class);
+        }
+
+        protected AddInventoryItemsOperation newInstance() {
+            return new AddInventoryItemsOperation();
+        }
+
+        protected void writeFields(JsonWriter out, AddInventoryItemsOperation value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+            writeField(out, "NewStackValues", value.NewStackValues, initialValuesAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddInventoryItemsOperation value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                case "NewStackValues": value.NewStackValues = initialValuesAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddInventoryItemsRequestAdapter extends PlayFabModelAdapter<AddInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+        private final TypeAdapter<InitialValues> initialValuesAdapter;
+
+        AddInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+            initialValuesAdapter = gson.getAdapter(InitialValues.class);
+        }
+
+        protected AddInventoryItemsRequest newInstance() {
+            return new AddInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, AddInventoryItemsRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+            writeField(out, "NewStackValues", value.NewStackValues, initialValuesAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                case "NewStackValues": value.NewStackValues = initialValuesAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AddInventoryItemsResponseAdapter extends PlayFabModelAdapter<AddInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        AddInventoryItemsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected AddInventoryItemsResponse newInstance() {
+            return new AddInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, AddInventoryItemsResponse value) throws IOException {
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, AddInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class AlternateIdAdapter extends PlayFabModelAdapter<AlternateId> {
+        AlternateIdAdapter(Gson gson) {
+        }
+
+        protected AlternateId newInstance() {
+            return new AlternateId();
+        }
+
+        protected void writeFields(JsonWriter out, AlternateId value) throws IOException {
+            writeField(out, "Type", value.Type);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, AlternateId value) throws IOException {
+            switch (name) {
+                case "Type": value.Type = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogAlternateIdAdapter extends PlayFabModelAdapter<CatalogAlternateId> {
+        CatalogAlternateIdAdapter(Gson gson) {
+        }
+
+        protected CatalogAlternateId newInstance() {
+            return new CatalogAlternateId();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogAlternateId value) throws IOException {
+            writeField(out, "Type", value.Type);
+            writeField(out, "Value", value.Value);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogAlternateId value) throws IOException {
+            switch (name) {
+                case "Type": value.Type = readString(in); return true;
+                case "Value": value.Value = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogConfigAdapter extends PlayFabModelAdapter<CatalogConfig> {
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+        private final TypeAdapter<CatalogSpecificConfig> catalogSpecificConfigAdapter;
+        private final TypeAdapter<ArrayList<DeepLinkFormat>> deepLinkFormatListAdapter;
+        private final TypeAdapter<ArrayList<DisplayPropertyIndexInfo>> displayPropertyIndexInfoListAdapter;
+        private final TypeAdapter<FileConfig> fileConfigAdapter;
+        private final TypeAdapter<ImageConfig> imageConfigAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<UserGeneratedContentSpecificConfig> userGeneratedContentSpecificConfigAdapter;
+
+        CatalogConfigAdapter(Gson gson) {
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+            catalogSpecificConfigAdapter = gson.getAdapter(CatalogSpecificConfig.class);
+            deepLinkFormatListAdapter = listAdapter(gson, DeepLinkFormat.class);
+            displayPropertyIndexInfoListAdapter = listAdapter(gson, DisplayPropertyIndexInfo.class);
+            fileConfigAdapter = gson.getAdapter(FileConfig.class);
+            imageConfigAdapter = gson.getAdapter(ImageConfig.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            userGeneratedContentSpecificConfigAdapter = gson.getAdapter(UserGeneratedContentSpecificConfig.class);
+        }
+
+        protected CatalogConfig newInstance() {
+            return new CatalogConfig();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogConfig value) throws IOException {
+            writeField(out, "AdminEntities", value.AdminEntities, entityKeyListAdapter);
+            writeField(out, "Catalog", value.Catalog, catalogSpecificConfigAdapter);
+            writeField(out, "DeepLinkFormats", value.DeepLinkFormats, deepLinkFormatListAdapter);
+            writeField(out, "DisplayPropertyIndexInfos", value.DisplayPropertyIndexInfos, displayPropertyIndexInfoListAdapter);
+            writeField(out, "File", value.File, fileConfigAdapter);
+            writeField(out, "Image", value.Image, imageConfigAdapter);
+            writeField(out, "IsCatalogEnabled", value.IsCatalogEnabled);
+            writeField(out, "Platforms", value.Platforms, stringListAdapter);
+            writeField(out, "ReviewerEntities", value.ReviewerEntities, entityKeyListAdapter);
+            writeField(out, "UserGeneratedContent", value.UserGeneratedContent, userGeneratedContentSpecificConfigAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogConfig value) throws IOException {
+            switch (name) {
+                case "AdminEntities": value.AdminEntities = entityKeyListAdapter.read(in); return true;
+                case "Catalog": value.Catalog = catalogSpecificConfigAdapter.read(in); return true;
+                case "DeepLinkFormats": value.DeepLinkFormats = deepLinkFormatListAdapter.read(in); return true;
+                case "DisplayPropertyIndexInfos": value.DisplayPropertyIndexInfos = displayPropertyIndexInfoListAdapter.read(in); return true;
+                case "File": value.File = fileConfigAdapter.read(in); return true;
+                case "Image": value.Image = imageConfigAdapter.read(in); return true;
+                case "IsCatalogEnabled": value.IsCatalogEnabled = readBoolean(in); return true;
+                case "Platforms": value.Platforms = stringListAdapter.read(in); return true;
+                case "ReviewerEntities": value.ReviewerEntities = entityKeyListAdapter.read(in); return true;
+                case "UserGeneratedContent": value.UserGeneratedContent = userGeneratedContentSpecificConfigAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemAdapter extends PlayFabModelAdapter<CatalogItem> {
+        private final TypeAdapter<ArrayList<CatalogAlternateId>> catalogAlternateIdListAdapter;
+        private final TypeAdapter<ArrayList<Content>> contentListAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<DeepLink>> deepLinkListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ArrayList<Image>> imageListAdapter;
+        private final TypeAdapter<ArrayList<CatalogItemReference>> catalogItemReferenceListAdapter;
+        private final TypeAdapter<Map<String, KeywordSet>> keywordSetMapAdapter;
+        private final TypeAdapter<ModerationState> moderationStateAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<CatalogPriceOptions> catalogPriceOptionsAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+        private final TypeAdapter<StoreDetails> storeDetailsAdapter;
+
+        CatalogItemAdapter(Gson gson) {
+            catalogAlternateIdListAdapter = listAdapter(gson, CatalogAlternateId.class);
+            contentListAdapter = listAdapter(gson, Content.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            deepLinkListAdapter = listAdapter(gson, DeepLink.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            imageListAdapter = listAdapter(gson, Image.class);
+            catalogItemReferenceListAdapter = listAdapter(gson, CatalogItemReference.class);
+            keywordSetMapAdapter = mapAdapter(gson, KeywordSet.class);
+            moderationStateAdapter = gson.getAdapter(ModerationState.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            catalogPriceOptionsAdapter = gson.getAdapter(CatalogPriceOptions.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+            storeDetailsAdapter = gson.getAdapter(StoreDetails.class);
+        }
+
+        protected CatalogItem newInstance() {
+            return new CatalogItem();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItem value) throws IOException {
+            writeField(out, "AlternateIds", value.AlternateIds, catalogAlternateIdListAdapter);
+            writeField(out, "Contents", value.Contents, contentListAdapter);
+            writeField(out, "ContentType", value.ContentType);
+            writeField(out, "CreationDate", value.CreationDate, dateAdapter);
+            writeField(out, "CreatorEntity", value.CreatorEntity, entityKeyAdapter);
+            writeField(out, "DeepLinks", value.DeepLinks, deepLinkListAdapter);
+            writeField(out, "DefaultStackId", value.DefaultStackId);
+            writeField(out, "Description", value.Description, stringMapAdapter);
+            writeField(out, "DisplayProperties", value.DisplayProperties, objectAdapter);
+            writeField(out, "DisplayVersion", value.DisplayVersion);
+            writeField(out, "EndDate", value.EndDate, dateAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Images", value.Images, imageListAdapter);
+            writeField(out, "IsHidden", value.IsHidden);
+            writeField(out, "ItemReferences", value.ItemReferences, catalogItemReferenceListAdapter);
+            writeField(out, "Keywords", value.Keywords, keywordSetMapAdapter);
+            writeField(out, "LastModifiedDate", value.LastModifiedDate, dateAdapter);
+            writeField(out, "Moderation", value.Moderation, moderationStateAdapter);
+            writeField(out, "Platforms", value.Platforms, stringListAdapter);
+            writeField(out, "PriceOptions", value.PriceOptions, catalogPriceOptionsAdapter);
+            writeField(out, "Rating", value.Rating, ratingAdapter);
+            writeField(out, "StartDate", value.StartDate, dateAdapter);
+            writeField(out, "StoreDetails", value.StoreDetails, storeDetailsAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "Title", value.Title, stringMapAdapter);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItem value) throws IOException {
+            switch (name) {
+                case "AlternateIds": value.AlternateIds = catalogAlternateIdListAdapter.read(in); return true;
+                case "Contents": value.Contents = contentListAdapter.read(in); return true;
+                case "ContentType": value.ContentType = readString(in); return true;
+                case "CreationDate": value.CreationDate = dateAdapter.read(in); return true;
+                case "CreatorEntity": value.CreatorEntity = entityKeyAdapter.read(in); return true;
+                case "DeepLinks": value.DeepLinks = deepLinkListAdapter.read(in); return true;
+                case "DefaultStackId": value.DefaultStackId = readString(in); return true;
+                case "Description": value.Description = stringMapAdapter.read(in); return true;
+                case "DisplayProperties": value.DisplayProperties = objectAdapter.read(in); return true;
+                case "DisplayVersion": value.DisplayVersion = readString(in); return true;
+                case "EndDate": value.EndDate = dateAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Images": value.Images = imageListAdapter.read(in); return true;
+                case "IsHidden": value.IsHidden = readBoolean(in); return true;
+                case "ItemReferences": value.ItemReferences = catalogItemReferenceListAdapter.read(in); return true;
+                case "Keywords": value.Keywords = keywordSetMapAdapter.read(in); return true;
+                case "LastModifiedDate": value.LastModifiedDate = dateAdapter.read(in); return true;
+                case "Moderation": value.Moderation = moderationStateAdapter.read(in); return true;
+                case "Platforms": value.Platforms = stringListAdapter.read(in); return true;
+                case "PriceOptions": value.PriceOptions = catalogPriceOptionsAdapter.read(in); return true;
+                case "Rating": value.Rating = ratingAdapter.read(in); return true;
+                case "StartDate": value.StartDate = dateAdapter.read(in); return true;
+                case "StoreDetails": value.StoreDetails = storeDetailsAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "Title": value.Title = stringMapAdapter.read(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogItemReferenceAdapter extends PlayFabModelAdapter<CatalogItemReference> {
+        private final TypeAdapter<CatalogPriceOptions> catalogPriceOptionsAdapter;
+
+        CatalogItemReferenceAdapter(Gson gson) {
+            catalogPriceOptionsAdapter = gson.getAdapter(CatalogPriceOptions.class);
+        }
+
+        protected CatalogItemReference newInstance() {
+            return new CatalogItemReference();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogItemReference value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "Id", value.Id);
+            writeField(out, "PriceOptions", value.PriceOptions, catalogPriceOptionsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogItemReference value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "PriceOptions": value.PriceOptions = catalogPriceOptionsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogPriceAdapter extends PlayFabModelAdapter<CatalogPrice> {
+        private final TypeAdapter<ArrayList<CatalogPriceAmount>> catalogPriceAmountListAdapter;
+
+        CatalogPriceAdapter(Gson gson) {
+            catalogPriceAmountListAdapter = listAdapter(gson, CatalogPriceAmount.class);
+        }
+
+        protected CatalogPrice newInstance() {
+            return new CatalogPrice();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogPrice value) throws IOException {
+            writeField(out, "Amounts", value.Amounts, catalogPriceAmountListAdapter);
+            writeField(out, "UnitAmount", value.UnitAmount);
+            writeField(out, "UnitDurationInSeconds", value.UnitDurationInSeconds);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogPrice value) throws IOException {
+            switch (name) {
+                case "Amounts": value.Amounts = catalogPriceAmountListAdapter.read(in); return true;
+                case "UnitAmount": value.UnitAmount = readInteger(in); return true;
+                case "UnitDurationInSeconds": value.UnitDurationInSeconds = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogPriceAmountAdapter extends PlayFabModelAdapter<CatalogPriceAmount> {
+        CatalogPriceAmountAdapter(Gson gson) {
+        }
+
+        protected CatalogPriceAmount newInstance() {
+            return new CatalogPriceAmount();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogPriceAmount value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "ItemId", value.ItemId);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogPriceAmount value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogPriceAmountOverrideAdapter extends PlayFabModelAdapter<CatalogPriceAmountOverride> {
+        CatalogPriceAmountOverrideAdapter(Gson gson) {
+        }
+
+        protected CatalogPriceAmountOverride newInstance() {
+            return new CatalogPriceAmountOverride();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogPriceAmountOverride value) throws IOException {
+            writeField(out, "FixedValue", value.FixedValue);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "Multiplier", value.Multiplier);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogPriceAmountOverride value) throws IOException {
+            switch (name) {
+                case "FixedValue": value.FixedValue = readInteger(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "Multiplier": value.Multiplier = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogPriceOptionsAdapter extends PlayFabModelAdapter<CatalogPriceOptions> {
+        private final TypeAdapter<ArrayList<CatalogPrice>> catalogPriceListAdapter;
+
+        CatalogPriceOptionsAdapter(Gson gson) {
+            catalogPriceListAdapter = listAdapter(gson, CatalogPrice.class);
+        }
+
+        protected CatalogPriceOptions newInstance() {
+            return new CatalogPriceOptions();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogPriceOptions value) throws IOException {
+            writeField(out, "Prices", value.Prices, catalogPriceListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogPriceOptions value) throws IOException {
+            switch (name) {
+                case "Prices": value.Prices = catalogPriceListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogPriceOptionsOverrideAdapter extends PlayFabModelAdapter<CatalogPriceOptionsOverride> {
+        private final TypeAdapter<ArrayList<CatalogPriceOverride>> catalogPriceOverrideListAdapter;
+
+        CatalogPriceOptionsOverrideAdapter(Gson gson) {
+            catalogPriceOverrideListAdapter = listAdapter(gson, CatalogPriceOverride.class);
+        }
+
+        protected CatalogPriceOptionsOverride newInstance() {
+            return new CatalogPriceOptionsOverride();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogPriceOptionsOverride value) throws IOException {
+            writeField(out, "Prices", value.Prices, catalogPriceOverrideListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogPriceOptionsOverride value) throws IOException {
+            switch (name) {
+                case "Prices": value.Prices = catalogPriceOverrideListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogPriceOverrideAdapter extends PlayFabModelAdapter<CatalogPriceOverride> {
+        private final TypeAdapter<ArrayList<CatalogPriceAmountOverride>> catalogPriceAmountOverrideListAdapter;
+
+        CatalogPriceOverrideAdapter(Gson gson) {
+            catalogPriceAmountOverrideListAdapter = listAdapter(gson, CatalogPriceAmountOverride.class);
+        }
+
+        protected CatalogPriceOverride newInstance() {
+            return new CatalogPriceOverride();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogPriceOverride value) throws IOException {
+            writeField(out, "Amounts", value.Amounts, catalogPriceAmountOverrideListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogPriceOverride value) throws IOException {
+            switch (name) {
+                case "Amounts": value.Amounts = catalogPriceAmountOverrideListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CatalogSpecificConfigAdapter extends PlayFabModelAdapter<CatalogSpecificConfig> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        CatalogSpecificConfigAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected CatalogSpecificConfig newInstance() {
+            return new CatalogSpecificConfig();
+        }
+
+        protected void writeFields(JsonWriter out, CatalogSpecificConfig value) throws IOException {
+            writeField(out, "ContentTypes", value.ContentTypes, stringListAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CatalogSpecificConfig value) throws IOException {
+            switch (name) {
+                case "ContentTypes": value.ContentTypes = stringListAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContentAdapter extends PlayFabModelAdapter<Content> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ContentAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected Content newInstance() {
+            return new Content();
+        }
+
+        protected void writeFields(JsonWriter out, Content value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "MaxClientVersion", value.MaxClientVersion);
+            writeField(out, "MinClientVersion", value.MinClientVersion);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+            writeField(out, "Type", value.Type);
+            writeField(out, "Url", value.Url);
+        }
+
+        protected boolean readField(JsonReader in, String name, Content value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "MaxClientVersion": value.MaxClientVersion = readString(in); return true;
+                case "MinClientVersion": value.MinClientVersion = readString(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                case "Url": value.Url = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ContentFeedAdapter extends PlayFabModelAdapter<ContentFeed> {
+        ContentFeedAdapter(Gson gson) {
+        }
+
+        protected ContentFeed newInstance() {
+            return new ContentFeed();
+        }
+
+        protected void writeFields(JsonWriter out, ContentFeed value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ContentFeed value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateDraftItemRequestAdapter extends PlayFabModelAdapter<CreateDraftItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        CreateDraftItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        protected CreateDraftItemRequest newInstance() {
+            return new CreateDraftItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateDraftItemRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Item", value.Item, catalogItemAdapter);
+            writeField(out, "Publish", value.Publish);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateDraftItemRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Item": value.Item = catalogItemAdapter.read(in); return true;
+                case "Publish": value.Publish = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateDraftItemResponseAdapter extends PlayFabModelAdapter<CreateDraftItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        CreateDraftItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        protected CreateDraftItemResponse newInstance() {
+            return new CreateDraftItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateDraftItemResponse value) throws IOException {
+            writeField(out, "Item", value.Item, catalogItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateDraftItemResponse value) throws IOException {
+            switch (name) {
+                case "Item": value.Item = catalogItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateUploadUrlsRequestAdapter extends PlayFabModelAdapter<CreateUploadUrlsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<UploadInfo>> uploadInfoListAdapter;
+
+        CreateUploadUrlsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            uploadInfoListAdapter = listAdapter(gson, UploadInfo.class);
+        }
+
+        protected CreateUploadUrlsRequest newInstance() {
+            return new CreateUploadUrlsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateUploadUrlsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Files", value.Files, uploadInfoListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateUploadUrlsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Files": value.Files = uploadInfoListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateUploadUrlsResponseAdapter extends PlayFabModelAdapter<CreateUploadUrlsResponse> {
+        private final TypeAdapter<ArrayList<UploadUrlMetadata>> uploadUrlMetadataListAdapter;
+
+        CreateUploadUrlsResponseAdapter(Gson gson) {
+            uploadUrlMetadataListAdapter = listAdapter(gson, UploadUrlMetadata.class);
+        }
+
+        protected CreateUploadUrlsResponse newInstance() {
+            return new CreateUploadUrlsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateUploadUrlsResponse value) throws IOException {
+            writeField(out, "UploadUrls", value.UploadUrls, uploadUrlMetadataListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateUploadUrlsResponse value) throws IOException {
+            switch (name) {
+                case "UploadUrls": value.UploadUrls = uploadUrlMetadataListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeepLinkAdapter extends PlayFabModelAdapter<DeepLink> {
+        DeepLinkAdapter(Gson gson) {
+        }
+
+        protected DeepLink newInstance() {
+            return new DeepLink();
+        }
+
+        protected void writeFields(JsonWriter out, DeepLink value) throws IOException {
+            writeField(out, "Platform", value.Platform);
+            writeField(out, "Url", value.Url);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeepLink value) throws IOException {
+            switch (name) {
+                case "Platform": value.Platform = readString(in); return true;
+                case "Url": value.Url = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeepLinkFormatAdapter extends PlayFabModelAdapter<DeepLinkFormat> {
+        DeepLinkFormatAdapter(Gson gson) {
+        }
+
+        protected DeepLinkFormat newInstance() {
+            return new DeepLinkFormat();
+        }
+
+        protected void writeFields(JsonWriter out, DeepLinkFormat value) throws IOException {
+            writeField(out, "Format", value.Format);
+            writeField(out, "Platform", value.Platform);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeepLinkFormat value) throws IOException {
+            switch (name) {
+                case "Format": value.Format = readString(in); return true;
+                case "Platform": value.Platform = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteEntityItemReviewsRequestAdapter extends PlayFabModelAdapter<DeleteEntityItemReviewsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteEntityItemReviewsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteEntityItemReviewsRequest newInstance() {
+            return new DeleteEntityItemReviewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteEntityItemReviewsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteEntityItemReviewsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteEntityItemReviewsResponseAdapter extends PlayFabModelAdapter<DeleteEntityItemReviewsResponse> {
+        DeleteEntityItemReviewsResponseAdapter(Gson gson) {
+        }
+
+        protected DeleteEntityItemReviewsResponse newInstance() {
+            return new DeleteEntityItemReviewsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteEntityItemReviewsResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteEntityItemReviewsResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteInventoryCollectionRequestAdapter extends PlayFabModelAdapter<DeleteInventoryCollectionRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteInventoryCollectionRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteInventoryCollectionRequest newInstance() {
+            return new DeleteInventoryCollectionRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteInventoryCollectionRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteInventoryCollectionRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteInventoryCollectionResponseAdapter extends PlayFabModelAdapter<DeleteInventoryCollectionResponse> {
+        DeleteInventoryCollectionResponseAdapter(Gson gson) {
+        }
+
+        protected DeleteInventoryCollectionResponse newInstance() {
+            return new DeleteInventoryCollectionResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteInventoryCollectionResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteInventoryCollectionResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteInventoryItemsOperationAdapter extends PlayFabModelAdapter<DeleteInventoryItemsOperation> {
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+
+        DeleteInventoryItemsOperationAdapter(Gson gson) {
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+        }
+
+        protected DeleteInventoryItemsOperation newInstance() {
+            return new DeleteInventoryItemsOperation();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteInventoryItemsOperation value) throws IOException {
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteInventoryItemsOperation value) throws IOException {
+            switch (name) {
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteInventoryItemsRequestAdapter extends PlayFabModelAdapter<DeleteInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+
+        DeleteInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+        }
+
+        protected DeleteInventoryItemsRequest newInstance() {
+            return new DeleteInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteInventoryItemsResponseAdapter extends PlayFabModelAdapter<DeleteInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        DeleteInventoryItemsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected DeleteInventoryItemsResponse newInstance() {
+            return new DeleteInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteInventoryItemsResponse value) throws IOException {
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteItemRequestAdapter extends PlayFabModelAdapter<DeleteItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteItemRequest newInstance() {
+            return new DeleteItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteItemRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteItemRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteItemResponseAdapter extends PlayFabModelAdapter<DeleteItemResponse> {
+        DeleteItemResponseAdapter(Gson gson) {
+        }
+
+        protected DeleteItemResponse newInstance() {
+            return new DeleteItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteItemResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteItemResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class DisplayPropertyIndexInfoAdapter extends PlayFabModelAdapter<DisplayPropertyIndexInfo> {
+        private final TypeAdapter<DisplayPropertyType> displayPropertyTypeAdapter;
+
+        DisplayPropertyIndexInfoAdapter(Gson gson) {
+            displayPropertyTypeAdapter = gson.getAdapter(DisplayPropertyType.class);
+        }
+
+        protected DisplayPropertyIndexInfo newInstance() {
+            return new DisplayPropertyIndexInfo();
+        }
+
+        protected void writeFields(JsonWriter out, DisplayPropertyIndexInfo value) throws IOException {
+            writeField(out, "Name", value.Name);
+            writeField(out, "Type", value.Type, displayPropertyTypeAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, DisplayPropertyIndexInfo value) throws IOException {
+            switch (name) {
+                case "Name": value.Name = readString(in); return true;
+                case "Type": value.Type = displayPropertyTypeAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteInventoryOperationsRequestAdapter extends PlayFabModelAdapter<ExecuteInventoryOperationsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<InventoryOperation>> inventoryOperationListAdapter;
+
+        ExecuteInventoryOperationsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryOperationListAdapter = listAdapter(gson, InventoryOperation.class);
+        }
+
+        protected ExecuteInventoryOperationsRequest newInstance() {
+            return new ExecuteInventoryOperationsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteInventoryOperationsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "Operations", value.Operations, inventoryOperationListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteInventoryOperationsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "Operations": value.Operations = inventoryOperationListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ExecuteInventoryOperationsResponseAdapter extends PlayFabModelAdapter<ExecuteInventoryOperationsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ExecuteInventoryOperationsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ExecuteInventoryOperationsResponse newInstance() {
+            return new ExecuteInventoryOperationsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ExecuteInventoryOperationsResponse value) throws IOException {
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ExecuteInventoryOperationsResponse value) throws IOException {
+            switch (name) {
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FileConfigAdapter extends PlayFabModelAdapter<FileConfig> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        FileConfigAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected FileConfig newInstance() {
+            return new FileConfig();
+        }
+
+        protected void writeFields(JsonWriter out, FileConfig value) throws IOException {
+            writeField(out, "ContentTypes", value.ContentTypes, stringListAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, FileConfig value) throws IOException {
+            switch (name) {
+                case "ContentTypes": value.ContentTypes = stringListAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class FilterOptionsAdapter extends PlayFabModelAdapter<FilterOptions> {
+        FilterOptionsAdapter(Gson gson) {
+        }
+
+        protected FilterOptions newInstance() {
+            return new FilterOptions();
+        }
+
+        protected void writeFields(JsonWriter out, FilterOptions value) throws IOException {
+            writeField(out, "Filter", value.Filter);
+            writeField(out, "IncludeAllItems", value.IncludeAllItems);
+        }
+
+        protected boolean readField(JsonReader in, String name, FilterOptions value) throws IOException {
+            switch (name) {
+                case "Filter": value.Filter = readString(in); return true;
+                case "IncludeAllItems": value.IncludeAllItems = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogConfigRequestAdapter extends PlayFabModelAdapter<GetCatalogConfigRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetCatalogConfigRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetCatalogConfigRequest newInstance() {
+            return new GetCatalogConfigRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogConfigRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogConfigRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetCatalogConfigResponseAdapter extends PlayFabModelAdapter<GetCatalogConfigResponse> {
+        private final TypeAdapter<CatalogConfig> catalogConfigAdapter;
+
+        GetCatalogConfigResponseAdapter(Gson gson) {
+            catalogConfigAdapter = gson.getAdapter(CatalogConfig.class);
+        }
+
+        protected GetCatalogConfigResponse newInstance() {
+            return new GetCatalogConfigResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetCatalogConfigResponse value) throws IOException {
+            writeField(out, "Config", value.Config, catalogConfigAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetCatalogConfigResponse value) throws IOException {
+            switch (name) {
+                case "Config": value.Config = catalogConfigAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetDraftItemRequestAdapter extends PlayFabModelAdapter<GetDraftItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetDraftItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetDraftItemRequest newInstance() {
+            return new GetDraftItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetDraftItemRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetDraftItemRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetDraftItemResponseAdapter extends PlayFabModelAdapter<GetDraftItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        GetDraftItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        protected GetDraftItemResponse newInstance() {
+            return new GetDraftItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetDraftItemResponse value) throws IOException {
+            writeField(out, "Item", value.Item, catalogItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetDraftItemResponse value) throws IOException {
+            switch (name) {
+                case "Item": value.Item = catalogItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetDraftItemsRequestAdapter extends PlayFabModelAdapter<GetDraftItemsRequest> {
+        private final TypeAdapter<ArrayList<CatalogAlternateId>> catalogAlternateIdListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetDraftItemsRequestAdapter(Gson gson) {
+            catalogAlternateIdListAdapter = listAdapter(gson, CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetDraftItemsRequest newInstance() {
+            return new GetDraftItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetDraftItemsRequest value) throws IOException {
+            writeField(out, "AlternateIds", value.AlternateIds, catalogAlternateIdListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Ids", value.Ids, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetDraftItemsRequest value) throws IOException {
+            switch (name) {
+                case "AlternateIds": value.AlternateIds = catalogAlternateIdListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Ids": value.Ids = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetDraftItemsResponseAdapter extends PlayFabModelAdapter<GetDraftItemsResponse> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetDraftItemsResponseAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetDraftItemsResponse newInstance() {
+            return new GetDraftItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetDraftItemsResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Items", value.Items, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetDraftItemsResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Items": value.Items = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityDraftItemsRequestAdapter extends PlayFabModelAdapter<GetEntityDraftItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityDraftItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetEntityDraftItemsRequest newInstance() {
+            return new GetEntityDraftItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityDraftItemsRequest value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Filter", value.Filter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityDraftItemsRequest value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Filter": value.Filter = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityDraftItemsResponseAdapter extends PlayFabModelAdapter<GetEntityDraftItemsResponse> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetEntityDraftItemsResponseAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetEntityDraftItemsResponse newInstance() {
+            return new GetEntityDraftItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityDraftItemsResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Items", value.Items, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityDraftItemsResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Items": value.Items = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityItemReviewRequestAdapter extends PlayFabModelAdapter<GetEntityItemReviewRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityItemReviewRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetEntityItemReviewRequest newInstance() {
+            return new GetEntityItemReviewRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityItemReviewRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityItemReviewRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityItemReviewResponseAdapter extends PlayFabModelAdapter<GetEntityItemReviewResponse> {
+        private final TypeAdapter<Review> reviewAdapter;
+
+        GetEntityItemReviewResponseAdapter(Gson gson) {
+            reviewAdapter = gson.getAdapter(Review.class);
+        }
+
+        protected GetEntityItemReviewResponse newInstance() {
+            return new GetEntityItemReviewResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityItemReviewResponse value) throws IOException {
+            writeField(out, "Review", value.Review, reviewAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityItemReviewResponse value) throws IOException {
+            switch (name) {
+                case "Review": value.Review = reviewAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetInventoryCollectionIdsRequestAdapter extends PlayFabModelAdapter<GetInventoryCollectionIdsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetInventoryCollectionIdsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetInventoryCollectionIdsRequest newInstance() {
+            return new GetInventoryCollectionIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetInventoryCollectionIdsRequest value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetInventoryCollectionIdsRequest value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetInventoryCollectionIdsResponseAdapter extends PlayFabModelAdapter<GetInventoryCollectionIdsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetInventoryCollectionIdsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetInventoryCollectionIdsResponse newInstance() {
+            return new GetInventoryCollectionIdsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetInventoryCollectionIdsResponse value) throws IOException {
+            writeField(out, "CollectionIds", value.CollectionIds, stringListAdapter);
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetInventoryCollectionIdsResponse value) throws IOException {
+            switch (name) {
+                case "CollectionIds": value.CollectionIds = stringListAdapter.read(in); return true;
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetInventoryItemsRequestAdapter extends PlayFabModelAdapter<GetInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetInventoryItemsRequest newInstance() {
+            return new GetInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Filter", value.Filter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Filter": value.Filter = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetInventoryItemsResponseAdapter extends PlayFabModelAdapter<GetInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<InventoryItem>> inventoryItemListAdapter;
+
+        GetInventoryItemsResponseAdapter(Gson gson) {
+            inventoryItemListAdapter = listAdapter(gson, InventoryItem.class);
+        }
+
+        protected GetInventoryItemsResponse newInstance() {
+            return new GetInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetInventoryItemsResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "Items", value.Items, inventoryItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "Items": value.Items = inventoryItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemContainersRequestAdapter extends PlayFabModelAdapter<GetItemContainersRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetItemContainersRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetItemContainersRequest newInstance() {
+            return new GetItemContainersRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemContainersRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemContainersRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemContainersResponseAdapter extends PlayFabModelAdapter<GetItemContainersResponse> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetItemContainersResponseAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetItemContainersResponse newInstance() {
+            return new GetItemContainersResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemContainersResponse value) throws IOException {
+            writeField(out, "Containers", value.Containers, catalogItemListAdapter);
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemContainersResponse value) throws IOException {
+            switch (name) {
+                case "Containers": value.Containers = catalogItemListAdapter.read(in); return true;
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemModerationStateRequestAdapter extends PlayFabModelAdapter<GetItemModerationStateRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetItemModerationStateRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetItemModerationStateRequest newInstance() {
+            return new GetItemModerationStateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemModerationStateRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemModerationStateRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemModerationStateResponseAdapter extends PlayFabModelAdapter<GetItemModerationStateResponse> {
+        private final TypeAdapter<ModerationState> moderationStateAdapter;
+
+        GetItemModerationStateResponseAdapter(Gson gson) {
+            moderationStateAdapter = gson.getAdapter(ModerationState.class);
+        }
+
+        protected GetItemModerationStateResponse newInstance() {
+            return new GetItemModerationStateResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemModerationStateResponse value) throws IOException {
+            writeField(out, "State", value.State, moderationStateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemModerationStateResponse value) throws IOException {
+            switch (name) {
+                case "State": value.State = moderationStateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemPublishStatusRequestAdapter extends PlayFabModelAdapter<GetItemPublishStatusRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetItemPublishStatusRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetItemPublishStatusRequest newInstance() {
+            return new GetItemPublishStatusRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemPublishStatusRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemPublishStatusRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemPublishStatusResponseAdapter extends PlayFabModelAdapter<GetItemPublishStatusResponse> {
+        private final TypeAdapter<PublishResult> publishResultAdapter;
+
+        GetItemPublishStatusResponseAdapter(Gson gson) {
+            publishResultAdapter = gson.getAdapter(PublishResult.class);
+        }
+
+        protected GetItemPublishStatusResponse newInstance() {
+            return new GetItemPublishStatusResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemPublishStatusResponse value) throws IOException {
+            writeField(out, "Result", value.Result, publishResultAdapter);
+            writeField(out, "StatusMessage", value.StatusMessage);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemPublishStatusResponse value) throws IOException {
+            switch (name) {
+                case "Result": value.Result = publishResultAdapter.read(in); return true;
+                case "StatusMessage": value.StatusMessage = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemRequestAdapter extends PlayFabModelAdapter<GetItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetItemRequest newInstance() {
+            return new GetItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemResponseAdapter extends PlayFabModelAdapter<GetItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        GetItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        protected GetItemResponse newInstance() {
+            return new GetItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemResponse value) throws IOException {
+            writeField(out, "Item", value.Item, catalogItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemResponse value) throws IOException {
+            switch (name) {
+                case "Item": value.Item = catalogItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemReviewsRequestAdapter extends PlayFabModelAdapter<GetItemReviewsRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetItemReviewsRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetItemReviewsRequest newInstance() {
+            return new GetItemReviewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemReviewsRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "OrderBy", value.OrderBy);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemReviewsRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "OrderBy": value.OrderBy = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemReviewsResponseAdapter extends PlayFabModelAdapter<GetItemReviewsResponse> {
+        private final TypeAdapter<ArrayList<Review>> reviewListAdapter;
+
+        GetItemReviewsResponseAdapter(Gson gson) {
+            reviewListAdapter = listAdapter(gson, Review.class);
+        }
+
+        protected GetItemReviewsResponse newInstance() {
+            return new GetItemReviewsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemReviewsResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Reviews", value.Reviews, reviewListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemReviewsResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Reviews": value.Reviews = reviewListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemReviewSummaryRequestAdapter extends PlayFabModelAdapter<GetItemReviewSummaryRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetItemReviewSummaryRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetItemReviewSummaryRequest newInstance() {
+            return new GetItemReviewSummaryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemReviewSummaryRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemReviewSummaryRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemReviewSummaryResponseAdapter extends PlayFabModelAdapter<GetItemReviewSummaryResponse> {
+        private final TypeAdapter<Review> reviewAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        GetItemReviewSummaryResponseAdapter(Gson gson) {
+            reviewAdapter = gson.getAdapter(Review.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        protected GetItemReviewSummaryResponse newInstance() {
+            return new GetItemReviewSummaryResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemReviewSummaryResponse value) throws IOException {
+            writeField(out, "LeastFavorableReview", value.LeastFavorableReview, reviewAdapter);
+            writeField(out, "MostFavorableReview", value.MostFavorableReview, reviewAdapter);
+            writeField(out, "Rating", value.Rating, ratingAdapter);
+            writeField(out, "ReviewsCount", value.ReviewsCount);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemReviewSummaryResponse value) throws IOException {
+            switch (name) {
+                case "LeastFavorableReview": value.LeastFavorableReview = reviewAdapter.read(in); return true;
+                case "MostFavorableReview": value.MostFavorableReview = reviewAdapter.read(in); return true;
+                case "Rating": value.Rating = ratingAdapter.read(in); return true;
+                case "ReviewsCount": value.ReviewsCount = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemsRequestAdapter extends PlayFabModelAdapter<GetItemsRequest> {
+        private final TypeAdapter<ArrayList<CatalogAlternateId>> catalogAlternateIdListAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetItemsRequestAdapter(Gson gson) {
+            catalogAlternateIdListAdapter = listAdapter(gson, CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetItemsRequest newInstance() {
+            return new GetItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemsRequest value) throws IOException {
+            writeField(out, "AlternateIds", value.AlternateIds, catalogAlternateIdListAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Ids", value.Ids, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemsRequest value) throws IOException {
+            switch (name) {
+                case "AlternateIds": value.AlternateIds = catalogAlternateIdListAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Ids": value.Ids = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetItemsResponseAdapter extends PlayFabModelAdapter<GetItemsResponse> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        GetItemsResponseAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected GetItemsResponse newInstance() {
+            return new GetItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetItemsResponse value) throws IOException {
+            writeField(out, "Items", value.Items, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetItemsResponse value) throws IOException {
+            switch (name) {
+                case "Items": value.Items = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMicrosoftStoreAccessTokensRequestAdapter extends PlayFabModelAdapter<GetMicrosoftStoreAccessTokensRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetMicrosoftStoreAccessTokensRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetMicrosoftStoreAccessTokensRequest newInstance() {
+            return new GetMicrosoftStoreAccessTokensRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetMicrosoftStoreAccessTokensRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMicrosoftStoreAccessTokensRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetMicrosoftStoreAccessTokensResponseAdapter extends PlayFabModelAdapter<GetMicrosoftStoreAccessTokensResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        GetMicrosoftStoreAccessTokensResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected GetMicrosoftStoreAccessTokensResponse newInstance() {
+            return new GetMicrosoftStoreAccessTokensResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetMicrosoftStoreAccessTokensResponse value) throws IOException {
+            writeField(out, "CollectionsAccessToken", value.CollectionsAccessToken);
+            writeField(out, "CollectionsAccessTokenExpirationDate", value.CollectionsAccessTokenExpirationDate, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetMicrosoftStoreAccessTokensResponse value) throws IOException {
+            switch (name) {
+                case "CollectionsAccessToken": value.CollectionsAccessToken = readString(in); return true;
+                case "CollectionsAccessTokenExpirationDate": value.CollectionsAccessTokenExpirationDate = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTransactionHistoryRequestAdapter extends PlayFabModelAdapter<GetTransactionHistoryRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetTransactionHistoryRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetTransactionHistoryRequest newInstance() {
+            return new GetTransactionHistoryRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTransactionHistoryRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Filter", value.Filter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTransactionHistoryRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Filter": value.Filter = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTransactionHistoryResponseAdapter extends PlayFabModelAdapter<GetTransactionHistoryResponse> {
+        private final TypeAdapter<ArrayList<Transaction>> transactionListAdapter;
+
+        GetTransactionHistoryResponseAdapter(Gson gson) {
+            transactionListAdapter = listAdapter(gson, Transaction.class);
+        }
+
+        protected GetTransactionHistoryResponse newInstance() {
+            return new GetTransactionHistoryResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTransactionHistoryResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Transactions", value.Transactions, transactionListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTransactionHistoryResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Transactions": value.Transactions = transactionListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GooglePlayProductPurchaseAdapter extends PlayFabModelAdapter<GooglePlayProductPurchase> {
+        GooglePlayProductPurchaseAdapter(Gson gson) {
+        }
+
+        protected GooglePlayProductPurchase newInstance() {
+            return new GooglePlayProductPurchase();
+        }
+
+        protected void writeFields(JsonWriter out, GooglePlayProductPurchase value) throws IOException {
+            writeField(out, "ProductId", value.ProductId);
+            writeField(out, "Token", value.Token);
+        }
+
+        protected boolean readField(JsonReader in, String name, GooglePlayProductPurchase value) throws IOException {
+            switch (name) {
+                case "ProductId": value.ProductId = readString(in); return true;
+                case "Token": value.Token = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ImageAdapter extends PlayFabModelAdapter<Image> {
+        ImageAdapter(Gson gson) {
+        }
+
+        protected Image newInstance() {
+            return new Image();
+        }
+
+        protected void writeFields(JsonWriter out, Image value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Tag", value.Tag);
+            writeField(out, "Type", value.Type);
+            writeField(out, "Url", value.Url);
+        }
+
+        protected boolean readField(JsonReader in, String name, Image value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Tag": value.Tag = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                case "Url": value.Url = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ImageConfigAdapter extends PlayFabModelAdapter<ImageConfig> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        ImageConfigAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected ImageConfig newInstance() {
+            return new ImageConfig();
+        }
+
+        protected void writeFields(JsonWriter out, ImageConfig value) throws IOException {
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ImageConfig value) throws IOException {
+            switch (name) {
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InitialValuesAdapter extends PlayFabModelAdapter<InitialValues> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        InitialValuesAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected InitialValues newInstance() {
+            return new InitialValues();
+        }
+
+        protected void writeFields(JsonWriter out, InitialValues value) throws IOException {
+            writeField(out, "DisplayProperties", value.DisplayProperties, objectAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InitialValues value) throws IOException {
+            switch (name) {
+                case "DisplayProperties": value.DisplayProperties = objectAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InventoryItemAdapter extends PlayFabModelAdapter<InventoryItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        InventoryItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected InventoryItem newInstance() {
+            return new InventoryItem();
+        }
+
+        protected void writeFields(JsonWriter out, InventoryItem value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "DisplayProperties", value.DisplayProperties, objectAdapter);
+            writeField(out, "ExpirationDate", value.ExpirationDate, dateAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "StackId", value.StackId);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, InventoryItem value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "DisplayProperties": value.DisplayProperties = objectAdapter.read(in); return true;
+                case "ExpirationDate": value.ExpirationDate = dateAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InventoryItemReferenceAdapter extends PlayFabModelAdapter<InventoryItemReference> {
+        private final TypeAdapter<AlternateId> alternateIdAdapter;
+
+        InventoryItemReferenceAdapter(Gson gson) {
+            alternateIdAdapter = gson.getAdapter(AlternateId.class);
+        }
+
+        protected InventoryItemReference newInstance() {
+            return new InventoryItemReference();
+        }
+
+        protected void writeFields(JsonWriter out, InventoryItemReference value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, alternateIdAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "StackId", value.StackId);
+        }
+
+        protected boolean readField(JsonReader in, String name, InventoryItemReference value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = alternateIdAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class InventoryOperationAdapter extends PlayFabModelAdapter<InventoryOperation> {
+        private final TypeAdapter<AddInventoryItemsOperation> addInventoryItemsOperationAdapter;
+        private final TypeAdapter<DeleteInventoryItemsOperation> deleteInventoryItemsOperationAdapter;
+        private final TypeAdapter<PurchaseInventoryItemsOperation> purchaseInventoryItemsOperationAdapter;
+        private final TypeAdapter<SubtractInventoryItemsOperation> subtractInventoryItemsOperationAdapter;
+        private final TypeAdapter<TransferInventoryItemsOperation> transferInventoryItemsOperationAdapter;
+        private final TypeAdapter<UpdateInventoryItemsOperation> updateInventoryItemsOperationAdapter;
+
+        InventoryOperationAdapter(Gson gson) {
+            addInventoryItemsOperationAdapter = gson.getAdapter(AddInventoryItemsOperation.class);
+            deleteInventoryItemsOperationAdapter = gson.getAdapter(DeleteInventoryItemsOperation.class);
+            purchaseInventoryItemsOperationAdapter = gson.getAdapter(PurchaseInventoryItemsOperation.class);
+            subtractInventoryItemsOperationAdapter = gson.getAdapter(SubtractInventoryItemsOperation.class);
+            transferInventoryItemsOperationAdapter = gson.getAdapter(TransferInventoryItemsOperation.class);
+            updateInventoryItemsOperationAdapter = gson.getAdapter(UpdateInventoryItemsOperation.class);
+        }
+
+        protected InventoryOperation newInstance() {
+            return new InventoryOperation();
+        }
+
+        protected void writeFields(JsonWriter out, InventoryOperation value) throws IOException {
+            writeField(out, "Add", value.Add, addInventoryItemsOperationAdapter);
+            writeField(out, "Delete", value.Delete, deleteInventoryItemsOperationAdapter);
+            writeField(out, "Purchase", value.Purchase, purchaseInventoryItemsOperationAdapter);
+            writeField(out, "Subtract", value.Subtract, subtractInventoryItemsOperationAdapter);
+            writeField(out, "Transfer", value.Transfer, transferInventoryItemsOperationAdapter);
+            writeField(out, "Update", value.Update, updateInventoryItemsOperationAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, InventoryOperation value) throws IOException {
+            switch (name) {
+                case "Add": value.Add = addInventoryItemsOperationAdapter.read(in); return true;
+                case "Delete": value.Delete = deleteInventoryItemsOperationAdapter.read(in); return true;
+                case "Purchase": value.Purchase = purchaseInventoryItemsOperationAdapter.read(in); return true;
+                case "Subtract": value.Subtract = subtractInventoryItemsOperationAdapter.read(in); return true;
+                case "Transfer": value.Transfer = transferInventoryItemsOperationAdapter.read(in); return true;
+                case "Update": value.Update = updateInventoryItemsOperationAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class KeywordSetAdapter extends PlayFabModelAdapter<KeywordSet> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        KeywordSetAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected KeywordSet newInstance() {
+            return new KeywordSet();
+        }
+
+        protected void writeFields(JsonWriter out, KeywordSet value) throws IOException {
+            writeField(out, "Values", value.Values, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, KeywordSet value) throws IOException {
+            switch (name) {
+                case "Values": value.Values = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ModerationStateAdapter extends PlayFabModelAdapter<ModerationState> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ModerationStatus> moderationStatusAdapter;
+
+        ModerationStateAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            moderationStatusAdapter = gson.getAdapter(ModerationStatus.class);
+        }
+
+        protected ModerationState newInstance() {
+            return new ModerationState();
+        }
+
+        protected void writeFields(JsonWriter out, ModerationState value) throws IOException {
+            writeField(out, "LastModifiedDate", value.LastModifiedDate, dateAdapter);
+            writeField(out, "Reason", value.Reason);
+            writeField(out, "Status", value.Status, moderationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ModerationState value) throws IOException {
+            switch (name) {
+                case "LastModifiedDate": value.LastModifiedDate = dateAdapter.read(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                case "Status": value.Status = moderationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PayoutDetailsAdapter extends PlayFabModelAdapter<PayoutDetails> {
+        PayoutDetailsAdapter(Gson gson) {
+        }
+
+        protected PayoutDetails newInstance() {
+            return new PayoutDetails();
+        }
+
+        protected void writeFields(JsonWriter out, PayoutDetails value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, PayoutDetails value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class PublishDraftItemRequestAdapter extends PlayFabModelAdapter<PublishDraftItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        PublishDraftItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected PublishDraftItemRequest newInstance() {
+            return new PublishDraftItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PublishDraftItemRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, PublishDraftItemRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PublishDraftItemResponseAdapter extends PlayFabModelAdapter<PublishDraftItemResponse> {
+        PublishDraftItemResponseAdapter(Gson gson) {
+        }
+
+        protected PublishDraftItemResponse newInstance() {
+            return new PublishDraftItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, PublishDraftItemResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, PublishDraftItemResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseInventoryItemsOperationAdapter extends PlayFabModelAdapter<PurchaseInventoryItemsOperation> {
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+        private final TypeAdapter<InitialValues> initialValuesAdapter;
+        private final TypeAdapter<ArrayList<PurchasePriceAmount>> purchasePriceAmountListAdapter;
+
+        PurchaseInventoryItemsOperationAdapter(Gson gson) {
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+            initialValuesAdapter = gson.getAdapter(InitialValues.class);
+            purchasePriceAmountListAdapter = listAdapter(gson, PurchasePriceAmount.class);
+        }
+
+        protected PurchaseInventoryItemsOperation newInstance() {
+            return new PurchaseInventoryItemsOperation();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseInventoryItemsOperation value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "DeleteEmptyStacks", value.DeleteEmptyStacks);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+            writeField(out, "NewStackValues", value.NewStackValues, initialValuesAdapter);
+            writeField(out, "PriceAmounts", value.PriceAmounts, purchasePriceAmountListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseInventoryItemsOperation value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "DeleteEmptyStacks": value.DeleteEmptyStacks = readBoolean(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                case "NewStackValues": value.NewStackValues = initialValuesAdapter.read(in); return true;
+                case "PriceAmounts": value.PriceAmounts = purchasePriceAmountListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseInventoryItemsRequestAdapter extends PlayFabModelAdapter<PurchaseInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+        private final TypeAdapter<InitialValues> initialValuesAdapter;
+        private final TypeAdapter<ArrayList<PurchasePriceAmount>> purchasePriceAmountListAdapter;
+
+        PurchaseInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+            initialValuesAdapter = gson.getAdapter(InitialValues.class);
+            purchasePriceAmountListAdapter = listAdapter(gson, PurchasePriceAmount.class);
+        }
+
+        protected PurchaseInventoryItemsRequest newInstance() {
+            return new PurchaseInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseInventoryItemsRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeleteEmptyStacks", value.DeleteEmptyStacks);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+            writeField(out, "NewStackValues", value.NewStackValues, initialValuesAdapter);
+            writeField(out, "PriceAmounts", value.PriceAmounts, purchasePriceAmountListAdapter);
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeleteEmptyStacks": value.DeleteEmptyStacks = readBoolean(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                case "NewStackValues": value.NewStackValues = initialValuesAdapter.read(in); return true;
+                case "PriceAmounts": value.PriceAmounts = purchasePriceAmountListAdapter.read(in); return true;
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseInventoryItemsResponseAdapter extends PlayFabModelAdapter<PurchaseInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        PurchaseInventoryItemsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected PurchaseInventoryItemsResponse newInstance() {
+            return new PurchaseInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseInventoryItemsResponse value) throws IOException {
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseOverrideAdapter extends PlayFabModelAdapter<PurchaseOverride> {
+        PurchaseOverrideAdapter(Gson gson) {
+        }
+
+        protected PurchaseOverride newInstance() {
+            return new PurchaseOverride();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseOverride value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseOverride value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchaseOverridesInfoAdapter extends PlayFabModelAdapter<PurchaseOverridesInfo> {
+        PurchaseOverridesInfoAdapter(Gson gson) {
+        }
+
+        protected PurchaseOverridesInfo newInstance() {
+            return new PurchaseOverridesInfo();
+        }
+
+        protected void writeFields(JsonWriter out, PurchaseOverridesInfo value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchaseOverridesInfo value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class PurchasePriceAmountAdapter extends PlayFabModelAdapter<PurchasePriceAmount> {
+        PurchasePriceAmountAdapter(Gson gson) {
+        }
+
+        protected PurchasePriceAmount newInstance() {
+            return new PurchasePriceAmount();
+        }
+
+        protected void writeFields(JsonWriter out, PurchasePriceAmount value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "StackId", value.StackId);
+        }
+
+        protected boolean readField(JsonReader in, String name, PurchasePriceAmount value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RatingAdapter extends PlayFabModelAdapter<Rating> {
+        RatingAdapter(Gson gson) {
+        }
+
+        protected Rating newInstance() {
+            return new Rating();
+        }
+
+        protected void writeFields(JsonWriter out, Rating value) throws IOException {
+            writeField(out, "Average", value.Average);
+            writeField(out, "Count1Star", value.Count1Star);
+            writeField(out, "Count2Star", value.Count2Star);
+            writeField(out, "Count3Star", value.Count3Star);
+            writeField(out, "Count4Star", value.Count4Star);
+            writeField(out, "Count5Star", value.Count5Star);
+            writeField(out, "TotalCount", value.TotalCount);
+        }
+
+        protected boolean readField(JsonReader in, String name, Rating value) throws IOException {
+            switch (name) {
+                case "Average": value.Average = readFloat(in); return true;
+                case "Count1Star": value.Count1Star = readInteger(in); return true;
+                case "Count2Star": value.Count2Star = readInteger(in); return true;
+                case "Count3Star": value.Count3Star = readInteger(in); return true;
+                case "Count4Star": value.Count4Star = readInteger(in); return true;
+                case "Count5Star": value.Count5Star = readInteger(in); return true;
+                case "TotalCount": value.TotalCount = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemAppleAppStoreInventoryItemsRequestAdapter extends PlayFabModelAdapter<RedeemAppleAppStoreInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RedeemAppleAppStoreInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RedeemAppleAppStoreInventoryItemsRequest newInstance() {
+            return new RedeemAppleAppStoreInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemAppleAppStoreInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Receipt", value.Receipt);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemAppleAppStoreInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Receipt": value.Receipt = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemAppleAppStoreInventoryItemsResponseAdapter extends PlayFabModelAdapter<RedeemAppleAppStoreInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<RedemptionFailure>> redemptionFailureListAdapter;
+        private final TypeAdapter<ArrayList<RedemptionSuccess>> redemptionSuccessListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RedeemAppleAppStoreInventoryItemsResponseAdapter(Gson gson) {
+            redemptionFailureListAdapter = listAdapter(gson, RedemptionFailure.class);
+            redemptionSuccessListAdapter = listAdapter(gson, RedemptionSuccess.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RedeemAppleAppStoreInventoryItemsResponse newInstance() {
+            return new RedeemAppleAppStoreInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemAppleAppStoreInventoryItemsResponse value) throws IOException {
+            writeField(out, "Failed", value.Failed, redemptionFailureListAdapter);
+            writeField(out, "Succeeded", value.Succeeded, redemptionSuccessListAdapter);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemAppleAppStoreInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "Failed": value.Failed = redemptionFailureListAdapter.read(in); return true;
+                case "Succeeded": value.Succeeded = redemptionSuccessListAdapter.read(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemGooglePlayInventoryItemsRequestAdapter extends PlayFabModelAdapter<RedeemGooglePlayInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<GooglePlayProductPurchase>> googlePlayProductPurchaseListAdapter;
+
+        RedeemGooglePlayInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            googlePlayProductPurchaseListAdapter = listAdapter(gson, GooglePlayProductPurchase.class);
+        }
+
+        protected RedeemGooglePlayInventoryItemsRequest newInstance() {
+            return new RedeemGooglePlayInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemGooglePlayInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Purchases", value.Purchases, googlePlayProductPurchaseListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemGooglePlayInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Purchases": value.Purchases = googlePlayProductPurchaseListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemGooglePlayInventoryItemsResponseAdapter extends PlayFabModelAdapter<RedeemGooglePlayInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<RedemptionFailure>> redemptionFailureListAdapter;
+        private final TypeAdapter<ArrayList<RedemptionSuccess>> redemptionSuccessListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RedeemGooglePlayInventoryItemsResponseAdapter(Gson gson) {
+            redemptionFailureListAdapter = listAdapter(gson, RedemptionFailure.class);
+            redemptionSuccessListAdapter = listAdapter(gson, RedemptionSuccess.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RedeemGooglePlayInventoryItemsResponse newInstance() {
+            return new RedeemGooglePlayInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemGooglePlayInventoryItemsResponse value) throws IOException {
+            writeField(out, "Failed", value.Failed, redemptionFailureListAdapter);
+            writeField(out, "Succeeded", value.Succeeded, redemptionSuccessListAdapter);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemGooglePlayInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "Failed": value.Failed = redemptionFailureListAdapter.read(in); return true;
+                case "Succeeded": value.Succeeded = redemptionSuccessListAdapter.read(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemMicrosoftStoreInventoryItemsRequestAdapter extends PlayFabModelAdapter<RedeemMicrosoftStoreInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RedeemMicrosoftStoreInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RedeemMicrosoftStoreInventoryItemsRequest newInstance() {
+            return new RedeemMicrosoftStoreInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemMicrosoftStoreInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CollectionsIdKey", value.CollectionsIdKey);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "XboxToken", value.XboxToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemMicrosoftStoreInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CollectionsIdKey": value.CollectionsIdKey = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "XboxToken": value.XboxToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemMicrosoftStoreInventoryItemsResponseAdapter extends PlayFabModelAdapter<RedeemMicrosoftStoreInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<RedemptionFailure>> redemptionFailureListAdapter;
+        private final TypeAdapter<ArrayList<RedemptionSuccess>> redemptionSuccessListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RedeemMicrosoftStoreInventoryItemsResponseAdapter(Gson gson) {
+            redemptionFailureListAdapter = listAdapter(gson, RedemptionFailure.class);
+            redemptionSuccessListAdapter = listAdapter(gson, RedemptionSuccess.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RedeemMicrosoftStoreInventoryItemsResponse newInstance() {
+            return new RedeemMicrosoftStoreInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemMicrosoftStoreInventoryItemsResponse value) throws IOException {
+            writeField(out, "Failed", value.Failed, redemptionFailureListAdapter);
+            writeField(out, "Succeeded", value.Succeeded, redemptionSuccessListAdapter);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemMicrosoftStoreInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "Failed": value.Failed = redemptionFailureListAdapter.read(in); return true;
+                case "Succeeded": value.Succeeded = redemptionSuccessListAdapter.read(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemNintendoEShopInventoryItemsRequestAdapter extends PlayFabModelAdapter<RedeemNintendoEShopInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RedeemNintendoEShopInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RedeemNintendoEShopInventoryItemsRequest newInstance() {
+            return new RedeemNintendoEShopInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemNintendoEShopInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "NintendoServiceAccountIdToken", value.NintendoServiceAccountIdToken);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemNintendoEShopInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "NintendoServiceAccountIdToken": value.NintendoServiceAccountIdToken = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemNintendoEShopInventoryItemsResponseAdapter extends PlayFabModelAdapter<RedeemNintendoEShopInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<RedemptionFailure>> redemptionFailureListAdapter;
+        private final TypeAdapter<ArrayList<RedemptionSuccess>> redemptionSuccessListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RedeemNintendoEShopInventoryItemsResponseAdapter(Gson gson) {
+            redemptionFailureListAdapter = listAdapter(gson, RedemptionFailure.class);
+            redemptionSuccessListAdapter = listAdapter(gson, RedemptionSuccess.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RedeemNintendoEShopInventoryItemsResponse newInstance() {
+            return new RedeemNintendoEShopInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemNintendoEShopInventoryItemsResponse value) throws IOException {
+            writeField(out, "Failed", value.Failed, redemptionFailureListAdapter);
+            writeField(out, "Succeeded", value.Succeeded, redemptionSuccessListAdapter);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemNintendoEShopInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "Failed": value.Failed = redemptionFailureListAdapter.read(in); return true;
+                case "Succeeded": value.Succeeded = redemptionSuccessListAdapter.read(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemPlayStationStoreInventoryItemsRequestAdapter extends PlayFabModelAdapter<RedeemPlayStationStoreInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RedeemPlayStationStoreInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RedeemPlayStationStoreInventoryItemsRequest newInstance() {
+            return new RedeemPlayStationStoreInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemPlayStationStoreInventoryItemsRequest value) throws IOException {
+            writeField(out, "AuthorizationCode", value.AuthorizationCode);
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "RedirectUri", value.RedirectUri);
+            writeField(out, "ServiceLabel", value.ServiceLabel);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemPlayStationStoreInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "AuthorizationCode": value.AuthorizationCode = readString(in); return true;
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "RedirectUri": value.RedirectUri = readString(in); return true;
+                case "ServiceLabel": value.ServiceLabel = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemPlayStationStoreInventoryItemsResponseAdapter extends PlayFabModelAdapter<RedeemPlayStationStoreInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<RedemptionFailure>> redemptionFailureListAdapter;
+        private final TypeAdapter<ArrayList<RedemptionSuccess>> redemptionSuccessListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RedeemPlayStationStoreInventoryItemsResponseAdapter(Gson gson) {
+            redemptionFailureListAdapter = listAdapter(gson, RedemptionFailure.class);
+            redemptionSuccessListAdapter = listAdapter(gson, RedemptionSuccess.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RedeemPlayStationStoreInventoryItemsResponse newInstance() {
+            return new RedeemPlayStationStoreInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemPlayStationStoreInventoryItemsResponse value) throws IOException {
+            writeField(out, "Failed", value.Failed, redemptionFailureListAdapter);
+            writeField(out, "Succeeded", value.Succeeded, redemptionSuccessListAdapter);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemPlayStationStoreInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "Failed": value.Failed = redemptionFailureListAdapter.read(in); return true;
+                case "Succeeded": value.Succeeded = redemptionSuccessListAdapter.read(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemSteamInventoryItemsRequestAdapter extends PlayFabModelAdapter<RedeemSteamInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        RedeemSteamInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected RedeemSteamInventoryItemsRequest newInstance() {
+            return new RedeemSteamInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemSteamInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemSteamInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedeemSteamInventoryItemsResponseAdapter extends PlayFabModelAdapter<RedeemSteamInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<RedemptionFailure>> redemptionFailureListAdapter;
+        private final TypeAdapter<ArrayList<RedemptionSuccess>> redemptionSuccessListAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        RedeemSteamInventoryItemsResponseAdapter(Gson gson) {
+            redemptionFailureListAdapter = listAdapter(gson, RedemptionFailure.class);
+            redemptionSuccessListAdapter = listAdapter(gson, RedemptionSuccess.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected RedeemSteamInventoryItemsResponse newInstance() {
+            return new RedeemSteamInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, RedeemSteamInventoryItemsResponse value) throws IOException {
+            writeField(out, "Failed", value.Failed, redemptionFailureListAdapter);
+            writeField(out, "Succeeded", value.Succeeded, redemptionSuccessListAdapter);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedeemSteamInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "Failed": value.Failed = redemptionFailureListAdapter.read(in); return true;
+                case "Succeeded": value.Succeeded = redemptionSuccessListAdapter.read(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedemptionFailureAdapter extends PlayFabModelAdapter<RedemptionFailure> {
+        RedemptionFailureAdapter(Gson gson) {
+        }
+
+        protected RedemptionFailure newInstance() {
+            return new RedemptionFailure();
+        }
+
+        protected void writeFields(JsonWriter out, RedemptionFailure value) throws IOException {
+            writeField(out, "FailureCode", value.FailureCode);
+            writeField(out, "FailureDetails", value.FailureDetails);
+            writeField(out, "MarketplaceTransactionId", value.MarketplaceTransactionId);
+            writeField(out, "OfferId", value.OfferId);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedemptionFailure value) throws IOException {
+            switch (name) {
+                case "FailureCode": value.FailureCode = readString(in); return true;
+                case "FailureDetails": value.FailureDetails = readString(in); return true;
+                case "MarketplaceTransactionId": value.MarketplaceTransactionId = readString(in); return true;
+                case "OfferId": value.OfferId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class RedemptionSuccessAdapter extends PlayFabModelAdapter<RedemptionSuccess> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        RedemptionSuccessAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected RedemptionSuccess newInstance() {
+            return new RedemptionSuccess();
+        }
+
+        protected void writeFields(JsonWriter out, RedemptionSuccess value) throws IOException {
+            writeField(out, "MarketplaceTransactionId", value.MarketplaceTransactionId);
+            writeField(out, "OfferId", value.OfferId);
+            writeField(out, "SuccessTimestamp", value.SuccessTimestamp, dateAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, RedemptionSuccess value) throws IOException {
+            switch (name) {
+                case "MarketplaceTransactionId": value.MarketplaceTransactionId = readString(in); return true;
+                case "OfferId": value.OfferId = readString(in); return true;
+                case "SuccessTimestamp": value.SuccessTimestamp = dateAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportItemRequestAdapter extends PlayFabModelAdapter<ReportItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<ConcernCategory> concernCategoryAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ReportItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            concernCategoryAdapter = gson.getAdapter(ConcernCategory.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ReportItemRequest newInstance() {
+            return new ReportItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ReportItemRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "ConcernCategory", value.ConcernCategory, concernCategoryAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Reason", value.Reason);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportItemRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "ConcernCategory": value.ConcernCategory = concernCategoryAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportItemResponseAdapter extends PlayFabModelAdapter<ReportItemResponse> {
+        ReportItemResponseAdapter(Gson gson) {
+        }
+
+        protected ReportItemResponse newInstance() {
+            return new ReportItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ReportItemResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportItemResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportItemReviewRequestAdapter extends PlayFabModelAdapter<ReportItemReviewRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<ConcernCategory> concernCategoryAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ReportItemReviewRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            concernCategoryAdapter = gson.getAdapter(ConcernCategory.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ReportItemReviewRequest newInstance() {
+            return new ReportItemReviewRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ReportItemReviewRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "ConcernCategory", value.ConcernCategory, concernCategoryAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "Reason", value.Reason);
+            writeField(out, "ReviewId", value.ReviewId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportItemReviewRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "ConcernCategory": value.ConcernCategory = concernCategoryAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                case "ReviewId": value.ReviewId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReportItemReviewResponseAdapter extends PlayFabModelAdapter<ReportItemReviewResponse> {
+        ReportItemReviewResponseAdapter(Gson gson) {
+        }
+
+        protected ReportItemReviewResponse newInstance() {
+            return new ReportItemReviewResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ReportItemReviewResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ReportItemReviewResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReviewAdapter extends PlayFabModelAdapter<Review> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        ReviewAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected Review newInstance() {
+            return new Review();
+        }
+
+        protected void writeFields(JsonWriter out, Review value) throws IOException {
+            writeField(out, "HelpfulNegative", value.HelpfulNegative);
+            writeField(out, "HelpfulPositive", value.HelpfulPositive);
+            writeField(out, "IsInstalled", value.IsInstalled);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemVersion", value.ItemVersion);
+            writeField(out, "Locale", value.Locale);
+            writeField(out, "Rating", value.Rating);
+            writeField(out, "ReviewerEntity", value.ReviewerEntity, entityKeyAdapter);
+            writeField(out, "ReviewerId", value.ReviewerId);
+            writeField(out, "ReviewId", value.ReviewId);
+            writeField(out, "ReviewText", value.ReviewText);
+            writeField(out, "Submitted", value.Submitted, dateAdapter);
+            writeField(out, "Title", value.Title);
+        }
+
+        protected boolean readField(JsonReader in, String name, Review value) throws IOException {
+            switch (name) {
+                case "HelpfulNegative": value.HelpfulNegative = readInteger(in); return true;
+                case "HelpfulPositive": value.HelpfulPositive = readInteger(in); return true;
+                case "IsInstalled": value.IsInstalled = readBoolean(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemVersion": value.ItemVersion = readString(in); return true;
+                case "Locale": value.Locale = readString(in); return true;
+                case "Rating": value.Rating = readInteger(in); return true;
+                case "ReviewerEntity": value.ReviewerEntity = entityKeyAdapter.read(in); return true;
+                case "ReviewerId": value.ReviewerId = readString(in); return true;
+                case "ReviewId": value.ReviewId = readString(in); return true;
+                case "ReviewText": value.ReviewText = readString(in); return true;
+                case "Submitted": value.Submitted = dateAdapter.read(in); return true;
+                case "Title": value.Title = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReviewItemRequestAdapter extends PlayFabModelAdapter<ReviewItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Review> reviewAdapter;
+
+        ReviewItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            reviewAdapter = gson.getAdapter(Review.class);
+        }
+
+        protected ReviewItemRequest newInstance() {
+            return new ReviewItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ReviewItemRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Review", value.Review, reviewAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReviewItemRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Review": value.Review = reviewAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReviewItemResponseAdapter extends PlayFabModelAdapter<ReviewItemResponse> {
+        ReviewItemResponseAdapter(Gson gson) {
+        }
+
+        protected ReviewItemResponse newInstance() {
+            return new ReviewItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ReviewItemResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, ReviewItemResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class ReviewTakedownAdapter extends PlayFabModelAdapter<ReviewTakedown> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+
+        ReviewTakedownAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+        }
+
+        protected ReviewTakedown newInstance() {
+            return new ReviewTakedown();
+        }
+
+        protected void writeFields(JsonWriter out, ReviewTakedown value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ReviewId", value.ReviewId);
+        }
+
+        protected boolean readField(JsonReader in, String name, ReviewTakedown value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ReviewId": value.ReviewId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ScanResultAdapter extends PlayFabModelAdapter<ScanResult> {
+        ScanResultAdapter(Gson gson) {
+        }
+
+        protected ScanResult newInstance() {
+            return new ScanResult();
+        }
+
+        protected void writeFields(JsonWriter out, ScanResult value) throws IOException {
+            writeField(out, "Url", value.Url);
+        }
+
+        protected boolean readField(JsonReader in, String name, ScanResult value) throws IOException {
+            switch (name) {
+                case "Url": value.Url = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SearchItemsRequestAdapter extends PlayFabModelAdapter<SearchItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<StoreReference> storeReferenceAdapter;
+
+        SearchItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            storeReferenceAdapter = gson.getAdapter(StoreReference.class);
+        }
+
+        protected SearchItemsRequest newInstance() {
+            return new SearchItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SearchItemsRequest value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Count", value.Count);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Filter", value.Filter);
+            writeField(out, "Language", value.Language);
+            writeField(out, "OrderBy", value.OrderBy);
+            writeField(out, "Search", value.Search);
+            writeField(out, "Select", value.Select);
+            writeField(out, "Store", value.Store, storeReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SearchItemsRequest value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Count": value.Count = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Filter": value.Filter = readString(in); return true;
+                case "Language": value.Language = readString(in); return true;
+                case "OrderBy": value.OrderBy = readString(in); return true;
+                case "Search": value.Search = readString(in); return true;
+                case "Select": value.Select = readString(in); return true;
+                case "Store": value.Store = storeReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SearchItemsResponseAdapter extends PlayFabModelAdapter<SearchItemsResponse> {
+        private final TypeAdapter<ArrayList<CatalogItem>> catalogItemListAdapter;
+
+        SearchItemsResponseAdapter(Gson gson) {
+            catalogItemListAdapter = listAdapter(gson, CatalogItem.class);
+        }
+
+        protected SearchItemsResponse newInstance() {
+            return new SearchItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SearchItemsResponse value) throws IOException {
+            writeField(out, "ContinuationToken", value.ContinuationToken);
+            writeField(out, "Items", value.Items, catalogItemListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SearchItemsResponse value) throws IOException {
+            switch (name) {
+                case "ContinuationToken": value.ContinuationToken = readString(in); return true;
+                case "Items": value.Items = catalogItemListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetItemModerationStateRequestAdapter extends PlayFabModelAdapter<SetItemModerationStateRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ModerationStatus> moderationStatusAdapter;
+
+        SetItemModerationStateRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            moderationStatusAdapter = gson.getAdapter(ModerationStatus.class);
+        }
+
+        protected SetItemModerationStateRequest newInstance() {
+            return new SetItemModerationStateRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetItemModerationStateRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Reason", value.Reason);
+            writeField(out, "Status", value.Status, moderationStatusAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetItemModerationStateRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Reason": value.Reason = readString(in); return true;
+                case "Status": value.Status = moderationStatusAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetItemModerationStateResponseAdapter extends PlayFabModelAdapter<SetItemModerationStateResponse> {
+        SetItemModerationStateResponseAdapter(Gson gson) {
+        }
+
+        protected SetItemModerationStateResponse newInstance() {
+            return new SetItemModerationStateResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SetItemModerationStateResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetItemModerationStateResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreDetailsAdapter extends PlayFabModelAdapter<StoreDetails> {
+        private final TypeAdapter<FilterOptions> filterOptionsAdapter;
+        private final TypeAdapter<CatalogPriceOptionsOverride> catalogPriceOptionsOverrideAdapter;
+
+        StoreDetailsAdapter(Gson gson) {
+            filterOptionsAdapter = gson.getAdapter(FilterOptions.class);
+            catalogPriceOptionsOverrideAdapter = gson.getAdapter(CatalogPriceOptionsOverride.class);
+        }
+
+        protected StoreDetails newInstance() {
+            return new StoreDetails();
+        }
+
+        protected void writeFields(JsonWriter out, StoreDetails value) throws IOException {
+            writeField(out, "FilterOptions", value.FilterOptions, filterOptionsAdapter);
+            writeField(out, "PriceOptionsOverride", value.PriceOptionsOverride, catalogPriceOptionsOverrideAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreDetails value) throws IOException {
+            switch (name) {
+                case "FilterOptions": value.FilterOptions = filterOptionsAdapter.read(in); return true;
+                case "PriceOptionsOverride": value.PriceOptionsOverride = catalogPriceOptionsOverrideAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class StoreReferenceAdapter extends PlayFabModelAdapter<StoreReference> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+
+        StoreReferenceAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+        }
+
+        protected StoreReference newInstance() {
+            return new StoreReference();
+        }
+
+        protected void writeFields(JsonWriter out, StoreReference value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "Id", value.Id);
+        }
+
+        protected boolean readField(JsonReader in, String name, StoreReference value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubmitItemReviewVoteRequestAdapter extends PlayFabModelAdapter<SubmitItemReviewVoteRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<HelpfulnessVote> helpfulnessVoteAdapter;
+
+        SubmitItemReviewVoteRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            helpfulnessVoteAdapter = gson.getAdapter(HelpfulnessVote.class);
+        }
+
+        protected SubmitItemReviewVoteRequest newInstance() {
+            return new SubmitItemReviewVoteRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubmitItemReviewVoteRequest value) throws IOException {
+            writeField(out, "AlternateId", value.AlternateId, catalogAlternateIdAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ReviewId", value.ReviewId);
+            writeField(out, "Vote", value.Vote, helpfulnessVoteAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubmitItemReviewVoteRequest value) throws IOException {
+            switch (name) {
+                case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ReviewId": value.ReviewId = readString(in); return true;
+                case "Vote": value.Vote = helpfulnessVoteAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubmitItemReviewVoteResponseAdapter extends PlayFabModelAdapter<SubmitItemReviewVoteResponse> {
+        SubmitItemReviewVoteResponseAdapter(Gson gson) {
+        }
+
+        protected SubmitItemReviewVoteResponse newInstance() {
+            return new SubmitItemReviewVoteResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SubmitItemReviewVoteResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SubmitItemReviewVoteResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubscriptionDetailsAdapter extends PlayFabModelAdapter<SubscriptionDetails> {
+        SubscriptionDetailsAdapter(Gson gson) {
+        }
+
+        protected SubscriptionDetails newInstance() {
+            return new SubscriptionDetails();
+        }
+
+        protected void writeFields(JsonWriter out, SubscriptionDetails value) throws IOException {
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubscriptionDetails value) throws IOException {
+            switch (name) {
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractInventoryItemsOperationAdapter extends PlayFabModelAdapter<SubtractInventoryItemsOperation> {
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+
+        SubtractInventoryItemsOperationAdapter(Gson gson) {
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+        }
+
+        protected SubtractInventoryItemsOperation newInstance() {
+            return new SubtractInventoryItemsOperation();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractInventoryItemsOperation value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "DeleteEmptyStacks", value.DeleteEmptyStacks);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractInventoryItemsOperation value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "DeleteEmptyStacks": value.DeleteEmptyStacks = readBoolean(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractInventoryItemsRequestAdapter extends PlayFabModelAdapter<SubtractInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+
+        SubtractInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+        }
+
+        protected SubtractInventoryItemsRequest newInstance() {
+            return new SubtractInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractInventoryItemsRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeleteEmptyStacks", value.DeleteEmptyStacks);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "Item", value.Item, inventoryItemReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeleteEmptyStacks": value.DeleteEmptyStacks = readBoolean(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "Item": value.Item = inventoryItemReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SubtractInventoryItemsResponseAdapter extends PlayFabModelAdapter<SubtractInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        SubtractInventoryItemsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected SubtractInventoryItemsResponse newInstance() {
+            return new SubtractInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SubtractInventoryItemsResponse value) throws IOException {
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SubtractInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TakedownItemReviewsRequestAdapter extends PlayFabModelAdapter<TakedownItemReviewsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<ReviewTakedown>> reviewTakedownListAdapter;
+
+        TakedownItemReviewsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            reviewTakedownListAdapter = listAdapter(gson, ReviewTakedown.class);
+        }
+
+        protected TakedownItemReviewsRequest newInstance() {
+            return new TakedownItemReviewsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, TakedownItemReviewsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Reviews", value.Reviews, reviewTakedownListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TakedownItemReviewsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Reviews": value.Reviews = reviewTakedownListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TakedownItemReviewsResponseAdapter extends PlayFabModelAdapter<TakedownItemReviewsResponse> {
+        TakedownItemReviewsResponseAdapter(Gson gson) {
+        }
+
+        protected TakedownItemReviewsResponse newInstance() {
+            return new TakedownItemReviewsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, TakedownItemReviewsResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, TakedownItemReviewsResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransactionAdapter extends PlayFabModelAdapter<Transaction> {
+        private final TypeAdapter<ArrayList<TransactionOperation>> transactionOperationListAdapter;
+        private final TypeAdapter<TransactionPurchaseDetails> transactionPurchaseDetailsAdapter;
+        private final TypeAdapter<TransactionRedeemDetails> transactionRedeemDetailsAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TransactionTransferDetails> transactionTransferDetailsAdapter;
+
+        TransactionAdapter(Gson gson) {
+            transactionOperationListAdapter = listAdapter(gson, TransactionOperation.class);
+            transactionPurchaseDetailsAdapter = gson.getAdapter(TransactionPurchaseDetails.class);
+            transactionRedeemDetailsAdapter = gson.getAdapter(TransactionRedeemDetails.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            transactionTransferDetailsAdapter = gson.getAdapter(TransactionTransferDetails.class);
+        }
+
+        protected Transaction newInstance() {
+            return new Transaction();
+        }
+
+        protected void writeFields(JsonWriter out, Transaction value) throws IOException {
+            writeField(out, "ApiName", value.ApiName);
+            writeField(out, "ItemType", value.ItemType);
+            writeField(out, "Operations", value.Operations, transactionOperationListAdapter);
+            writeField(out, "OperationType", value.OperationType);
+            writeField(out, "PurchaseDetails", value.PurchaseDetails, transactionPurchaseDetailsAdapter);
+            writeField(out, "RedeemDetails", value.RedeemDetails, transactionRedeemDetailsAdapter);
+            writeField(out, "Timestamp", value.Timestamp, dateAdapter);
+            writeField(out, "TransactionId", value.TransactionId);
+            writeField(out, "TransferDetails", value.TransferDetails, transactionTransferDetailsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, Transaction value) throws IOException {
+            switch (name) {
+                case "ApiName": value.ApiName = readString(in); return true;
+                case "ItemType": value.ItemType = readString(in); return true;
+                case "Operations": value.Operations = transactionOperationListAdapter.read(in); return true;
+                case "OperationType": value.OperationType = readString(in); return true;
+                case "PurchaseDetails": value.PurchaseDetails = transactionPurchaseDetailsAdapter.read(in); return true;
+                case "RedeemDetails": value.RedeemDetails = transactionRedeemDetailsAdapter.read(in); return true;
+                case "Timestamp": value.Timestamp = dateAdapter.read(in); return true;
+                case "TransactionId": value.TransactionId = readString(in); return true;
+                case "TransferDetails": value.TransferDetails = transactionTransferDetailsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransactionOperationAdapter extends PlayFabModelAdapter<TransactionOperation> {
+        TransactionOperationAdapter(Gson gson) {
+        }
+
+        protected TransactionOperation newInstance() {
+            return new TransactionOperation();
+        }
+
+        protected void writeFields(JsonWriter out, TransactionOperation value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "DurationInSeconds", value.DurationInSeconds);
+            writeField(out, "ItemId", value.ItemId);
+            writeField(out, "ItemType", value.ItemType);
+            writeField(out, "StackId", value.StackId);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransactionOperation value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "DurationInSeconds": value.DurationInSeconds = readDouble(in); return true;
+                case "ItemId": value.ItemId = readString(in); return true;
+                case "ItemType": value.ItemType = readString(in); return true;
+                case "StackId": value.StackId = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransactionPurchaseDetailsAdapter extends PlayFabModelAdapter<TransactionPurchaseDetails> {
+        TransactionPurchaseDetailsAdapter(Gson gson) {
+        }
+
+        protected TransactionPurchaseDetails newInstance() {
+            return new TransactionPurchaseDetails();
+        }
+
+        protected void writeFields(JsonWriter out, TransactionPurchaseDetails value) throws IOException {
+            writeField(out, "StoreId", value.StoreId);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransactionPurchaseDetails value) throws IOException {
+            switch (name) {
+                case "StoreId": value.StoreId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransactionRedeemDetailsAdapter extends PlayFabModelAdapter<TransactionRedeemDetails> {
+        TransactionRedeemDetailsAdapter(Gson gson) {
+        }
+
+        protected TransactionRedeemDetails newInstance() {
+            return new TransactionRedeemDetails();
+        }
+
+        protected void writeFields(JsonWriter out, TransactionRedeemDetails value) throws IOException {
+            writeField(out, "Marketplace", value.Marketplace);
+            writeField(out, "MarketplaceTransactionId", value.MarketplaceTransactionId);
+            writeField(out, "OfferId", value.OfferId);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransactionRedeemDetails value) throws IOException {
+            switch (name) {
+                case "Marketplace": value.Marketplace = readString(in); return true;
+                case "MarketplaceTransactionId": value.MarketplaceTransactionId = readString(in); return true;
+                case "OfferId": value.OfferId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransactionTransferDetailsAdapter extends PlayFabModelAdapter<TransactionTransferDetails> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        TransactionTransferDetailsAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected TransactionTransferDetails newInstance() {
+            return new TransactionTransferDetails();
+        }
+
+        protected void writeFields(JsonWriter out, TransactionTransferDetails value) throws IOException {
+            writeField(out, "GivingCollectionId", value.GivingCollectionId);
+            writeField(out, "GivingEntity", value.GivingEntity, entityKeyAdapter);
+            writeField(out, "ReceivingCollectionId", value.ReceivingCollectionId);
+            writeField(out, "ReceivingEntity", value.ReceivingEntity, entityKeyAdapter);
+            writeField(out, "TransferId", value.TransferId);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransactionTransferDetails value) throws IOException {
+            switch (name) {
+                case "GivingCollectionId": value.GivingCollectionId = readString(in); return true;
+                case "GivingEntity": value.GivingEntity = entityKeyAdapter.read(in); return true;
+                case "ReceivingCollectionId": value.ReceivingCollectionId = readString(in); return true;
+                case "ReceivingEntity": value.ReceivingEntity = entityKeyAdapter.read(in); return true;
+                case "TransferId": value.TransferId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransferInventoryItemsOperationAdapter extends PlayFabModelAdapter<TransferInventoryItemsOperation> {
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+        private final TypeAdapter<InitialValues> initialValuesAdapter;
+
+        TransferInventoryItemsOperationAdapter(Gson gson) {
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+            initialValuesAdapter = gson.getAdapter(InitialValues.class);
+        }
+
+        protected TransferInventoryItemsOperation newInstance() {
+            return new TransferInventoryItemsOperation();
+        }
+
+        protected void writeFields(JsonWriter out, TransferInventoryItemsOperation value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "DeleteEmptyStacks", value.DeleteEmptyStacks);
+            writeField(out, "GivingItem", value.GivingItem, inventoryItemReferenceAdapter);
+            writeField(out, "NewStackValues", value.NewStackValues, initialValuesAdapter);
+            writeField(out, "ReceivingItem", value.ReceivingItem, inventoryItemReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransferInventoryItemsOperation value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "DeleteEmptyStacks": value.DeleteEmptyStacks = readBoolean(in); return true;
+                case "GivingItem": value.GivingItem = inventoryItemReferenceAdapter.read(in); return true;
+                case "NewStackValues": value.NewStackValues = initialValuesAdapter.read(in); return true;
+                case "ReceivingItem": value.ReceivingItem = inventoryItemReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransferInventoryItemsRequestAdapter extends PlayFabModelAdapter<TransferInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InventoryItemReference> inventoryItemReferenceAdapter;
+        private final TypeAdapter<InitialValues> initialValuesAdapter;
+
+        TransferInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryItemReferenceAdapter = gson.getAdapter(InventoryItemReference.class);
+            initialValuesAdapter = gson.getAdapter(InitialValues.class);
+        }
+
+        protected TransferInventoryItemsRequest newInstance() {
+            return new TransferInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, TransferInventoryItemsRequest value) throws IOException {
+            writeField(out, "Amount", value.Amount);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DeleteEmptyStacks", value.DeleteEmptyStacks);
+            writeField(out, "GivingCollectionId", value.GivingCollectionId);
+            writeField(out, "GivingEntity", value.GivingEntity, entityKeyAdapter);
+            writeField(out, "GivingETag", value.GivingETag);
+            writeField(out, "GivingItem", value.GivingItem, inventoryItemReferenceAdapter);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "NewStackValues", value.NewStackValues, initialValuesAdapter);
+            writeField(out, "ReceivingCollectionId", value.ReceivingCollectionId);
+            writeField(out, "ReceivingEntity", value.ReceivingEntity, entityKeyAdapter);
+            writeField(out, "ReceivingItem", value.ReceivingItem, inventoryItemReferenceAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransferInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "Amount": value.Amount = readInteger(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DeleteEmptyStacks": value.DeleteEmptyStacks = readBoolean(in); return true;
+                case "GivingCollectionId": value.GivingCollectionId = readString(in); return true;
+                case "GivingEntity": value.GivingEntity = entityKeyAdapter.read(in); return true;
+                case "GivingETag": value.GivingETag = readString(in); return true;
+                case "GivingItem": value.GivingItem = inventoryItemReferenceAdapter.read(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "NewStackValues": value.NewStackValues = initialValuesAdapter.read(in); return true;
+                case "ReceivingCollectionId": value.ReceivingCollectionId = readString(in); return true;
+                case "ReceivingEntity": value.ReceivingEntity = entityKeyAdapter.read(in); return true;
+                case "ReceivingItem": value.ReceivingItem = inventoryItemReferenceAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TransferInventoryItemsResponseAdapter extends PlayFabModelAdapter<TransferInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        TransferInventoryItemsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected TransferInventoryItemsResponse newInstance() {
+            return new TransferInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, TransferInventoryItemsResponse value) throws IOException {
+            writeField(out, "GivingETag", value.GivingETag);
+            writeField(out, "GivingTransactionIds", value.GivingTransactionIds, stringListAdapter);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "OperationStatus", value.OperationStatus);
+            writeField(out, "ReceivingTransactionIds", value.ReceivingTransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, TransferInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "GivingETag": value.GivingETag = readString(in); return true;
+                case "GivingTransactionIds": value.GivingTransactionIds = stringListAdapter.read(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "OperationStatus": value.OperationStatus = readString(in); return true;
+                case "ReceivingTransactionIds": value.ReceivingTransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCatalogConfigRequestAdapter extends PlayFabModelAdapter<UpdateCatalogConfigRequest> {
+        private final TypeAdapter<CatalogConfig> catalogConfigAdapter;
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        UpdateCatalogConfigRequestAdapter(Gson gson) {
+            catalogConfigAdapter = gson.getAdapter(CatalogConfig.class);
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected UpdateCatalogConfigRequest newInstance() {
+            return new UpdateCatalogConfigRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCatalogConfigRequest value) throws IOException {
+            writeField(out, "Config", value.Config, catalogConfigAdapter);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCatalogConfigRequest value) throws IOException {
+            switch (name) {
+                case "Config": value.Config = catalogConfigAdapter.read(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateCatalogConfigResponseAdapter extends PlayFabModelAdapter<UpdateCatalogConfigResponse> {
+        UpdateCatalogConfigResponseAdapter(Gson gson) {
+        }
+
+        protected UpdateCatalogConfigResponse newInstance() {
+            return new UpdateCatalogConfigResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateCatalogConfigResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateCatalogConfigResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateDraftItemRequestAdapter extends PlayFabModelAdapter<UpdateDraftItemRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        UpdateDraftItemRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        protected UpdateDraftItemRequest newInstance() {
+            return new UpdateDraftItemRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateDraftItemRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Item", value.Item, catalogItemAdapter);
+            writeField(out, "Publish", value.Publish);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateDraftItemRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Item": value.Item = catalogItemAdapter.read(in); return true;
+                case "Publish": value.Publish = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateDraftItemResponseAdapter extends PlayFabModelAdapter<UpdateDraftItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        UpdateDraftItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        protected UpdateDraftItemResponse newInstance() {
+            return new UpdateDraftItemResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateDraftItemResponse value) throws IOException {
+            writeField(out, "Item", value.Item, catalogItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateDraftItemResponse value) throws IOException {
+            switch (name) {
+                case "Item": value.Item = catalogItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateInventoryItemsOperationAdapter extends PlayFabModelAdapter<UpdateInventoryItemsOperation> {
+        private final TypeAdapter<InventoryItem> inventoryItemAdapter;
+
+        UpdateInventoryItemsOperationAdapter(Gson gson) {
+            inventoryItemAdapter = gson.getAdapter(InventoryItem.class);
+        }
+
+        protected UpdateInventoryItemsOperation newInstance() {
+            return new UpdateInventoryItemsOperation();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateInventoryItemsOperation value) throws IOException {
+            writeField(out, "Item", value.Item, inventoryItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateInventoryItemsOperation value) throws IOException {
+            switch (name) {
+                case "Item": value.Item = inventoryItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateInventoryItemsRequestAdapter extends PlayFabModelAdapter<UpdateInventoryItemsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InventoryItem> inventoryItemAdapter;
+
+        UpdateInventoryItemsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            inventoryItemAdapter = gson.getAdapter(InventoryItem.class);
+        }
+
+        protected UpdateInventoryItemsRequest newInstance() {
+            return new UpdateInventoryItemsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateInventoryItemsRequest value) throws IOException {
+            writeField(out, "CollectionId", value.CollectionId);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "Item", value.Item, inventoryItemAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateInventoryItemsRequest value) throws IOException {
+            switch (name) {
+                case "CollectionId": value.CollectionId = readString(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "Item": value.Item = inventoryItemAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UpdateInventoryItemsResponseAdapter extends PlayFabModelAdapter<UpdateInventoryItemsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        UpdateInventoryItemsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected UpdateInventoryItemsResponse newInstance() {
+            return new UpdateInventoryItemsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, UpdateInventoryItemsResponse value) throws IOException {
+            writeField(out, "ETag", value.ETag);
+            writeField(out, "IdempotencyId", value.IdempotencyId);
+            writeField(out, "TransactionIds", value.TransactionIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UpdateInventoryItemsResponse value) throws IOException {
+            switch (name) {
+                case "ETag": value.ETag = readString(in); return true;
+                case "IdempotencyId": value.IdempotencyId = readString(in); return true;
+                case "TransactionIds": value.TransactionIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UploadInfoAdapter extends PlayFabModelAdapter<UploadInfo> {
+        UploadInfoAdapter(Gson gson) {
+        }
+
+        protected UploadInfo newInstance() {
+            return new UploadInfo();
+        }
+
+        protected void writeFields(JsonWriter out, UploadInfo value) throws IOException {
+            writeField(out, "FileName", value.FileName);
+        }
+
+        protected boolean readField(JsonReader in, String name, UploadInfo value) throws IOException {
+            switch (name) {
+                case "FileName": value.FileName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UploadUrlMetadataAdapter extends PlayFabModelAdapter<UploadUrlMetadata> {
+        UploadUrlMetadataAdapter(Gson gson) {
+        }
+
+        protected UploadUrlMetadata newInstance() {
+            return new UploadUrlMetadata();
+        }
+
+        protected void writeFields(JsonWriter out, UploadUrlMetadata value) throws IOException {
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "Id", value.Id);
+            writeField(out, "Url", value.Url);
+        }
+
+        protected boolean readField(JsonReader in, String name, UploadUrlMetadata value) throws IOException {
+            switch (name) {
+                case "FileName": value.FileName = readString(in); return true;
+                case "Id": value.Id = readString(in); return true;
+                case "Url": value.Url = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class UserGeneratedContentSpecificConfigAdapter extends PlayFabModelAdapter<UserGeneratedContentSpecificConfig> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        UserGeneratedContentSpecificConfigAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected UserGeneratedContentSpecificConfig newInstance() {
+            return new UserGeneratedContentSpecificConfig();
+        }
+
+        protected void writeFields(JsonWriter out, UserGeneratedContentSpecificConfig value) throws IOException {
+            writeField(out, "ContentTypes", value.ContentTypes, stringListAdapter);
+            writeField(out, "Tags", value.Tags, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, UserGeneratedContentSpecificConfig value) throws IOException {
+            switch (name) {
+                case "ContentTypes": value.ContentTypes = stringListAdapter.read(in); return true;
+                case "Tags": value.Tags = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
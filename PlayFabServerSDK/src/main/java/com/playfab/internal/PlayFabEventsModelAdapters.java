@@ -0,0 +1,446 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabEventsModels;
+import com.playfab.PlayFabEventsModels.*;
+
+/**
+ * Streaming adapters for the PlayFabEventsModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabEventsModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabEventsModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "CreateTelemetryKeyRequest": return new CreateTelemetryKeyRequestAdapter(gson);
+            case "CreateTelemetryKeyResponse": return new CreateTelemetryKeyResponseAdapter(gson);
+            case "DeleteTelemetryKeyRequest": return new DeleteTelemetryKeyRequestAdapter(gson);
+            case "DeleteTelemetryKeyResponse": return new DeleteTelemetryKeyResponseAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "EventContents": return new EventContentsAdapter(gson);
+            case "GetTelemetryKeyRequest": return new GetTelemetryKeyRequestAdapter(gson);
+            case "GetTelemetryKeyResponse": return new GetTelemetryKeyResponseAdapter(gson);
+            case "ListTelemetryKeysRequest": return new ListTelemetryKeysRequestAdapter(gson);
+            case "ListTelemetryKeysResponse": return new ListTelemetryKeysResponseAdapter(gson);
+            case "SetTelemetryKeyActiveRequest": return new SetTelemetryKeyActiveRequestAdapter(gson);
+            case "SetTelemetryKeyActiveResponse": return new SetTelemetryKeyActiveResponseAdapter(gson);
+            case "TelemetryKeyDetails": return new TelemetryKeyDetailsAdapter(gson);
+            case "WriteEventsRequest": return new WriteEventsRequestAdapter(gson);
+            case "WriteEventsResponse": return new WriteEventsResponseAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class CreateTelemetryKeyRequestAdapter extends PlayFabModelAdapter<CreateTelemetryKeyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        CreateTelemetryKeyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected CreateTelemetryKeyRequest newInstance() {
+            return new CreateTelemetryKeyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, CreateTelemetryKeyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "KeyName", value.KeyName);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateTelemetryKeyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "KeyName": value.KeyName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class CreateTelemetryKeyResponseAdapter extends PlayFabModelAdapter<CreateTelemetryKeyResponse> {
+        private final TypeAdapter<TelemetryKeyDetails> telemetryKeyDetailsAdapter;
+
+        CreateTelemetryKeyResponseAdapter(Gson gson) {
+            telemetryKeyDetailsAdapter = gson.getAdapter(TelemetryKeyDetails.class);
+        }
+
+        protected CreateTelemetryKeyResponse newInstance() {
+            return new CreateTelemetryKeyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, CreateTelemetryKeyResponse value) throws IOException {
+            writeField(out, "NewKeyDetails", value.NewKeyDetails, telemetryKeyDetailsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, CreateTelemetryKeyResponse value) throws IOException {
+            switch (name) {
+                case "NewKeyDetails": value.NewKeyDetails = telemetryKeyDetailsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTelemetryKeyRequestAdapter extends PlayFabModelAdapter<DeleteTelemetryKeyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        DeleteTelemetryKeyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected DeleteTelemetryKeyRequest newInstance() {
+            return new DeleteTelemetryKeyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTelemetryKeyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "KeyName", value.KeyName);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTelemetryKeyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "KeyName": value.KeyName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class DeleteTelemetryKeyResponseAdapter extends PlayFabModelAdapter<DeleteTelemetryKeyResponse> {
+        DeleteTelemetryKeyResponseAdapter(Gson gson) {
+        }
+
+        protected DeleteTelemetryKeyResponse newInstance() {
+            return new DeleteTelemetryKeyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, DeleteTelemetryKeyResponse value) throws IOException {
+            writeField(out, "WasKeyDeleted", value.WasKeyDeleted);
+        }
+
+        protected boolean readField(JsonReader in, String name, DeleteTelemetryKeyResponse value) throws IOException {
+            switch (name) {
+                case "WasKeyDeleted": value.WasKeyDeleted = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EventContentsAdapter extends PlayFabModelAdapter<EventContents> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        EventContentsAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected EventContents newInstance() {
+            return new EventContents();
+        }
+
+        protected void writeFields(JsonWriter out, EventContents value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EventNamespace", value.EventNamespace);
+            writeField(out, "Name", value.Name);
+            writeField(out, "OriginalId", value.OriginalId);
+            writeField(out, "OriginalTimestamp", value.OriginalTimestamp, dateAdapter);
+            writeField(out, "Payload", value.Payload, objectAdapter);
+            writeField(out, "PayloadJSON", value.PayloadJSON);
+        }
+
+        protected boolean readField(JsonReader in, String name, EventContents value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EventNamespace": value.EventNamespace = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "OriginalId": value.OriginalId = readString(in); return true;
+                case "OriginalTimestamp": value.OriginalTimestamp = dateAdapter.read(in); return true;
+                case "Payload": value.Payload = objectAdapter.read(in); return true;
+                case "PayloadJSON": value.PayloadJSON = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTelemetryKeyRequestAdapter extends PlayFabModelAdapter<GetTelemetryKeyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetTelemetryKeyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetTelemetryKeyRequest newInstance() {
+            return new GetTelemetryKeyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTelemetryKeyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "KeyName", value.KeyName);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTelemetryKeyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "KeyName": value.KeyName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTelemetryKeyResponseAdapter extends PlayFabModelAdapter<GetTelemetryKeyResponse> {
+        private final TypeAdapter<TelemetryKeyDetails> telemetryKeyDetailsAdapter;
+
+        GetTelemetryKeyResponseAdapter(Gson gson) {
+            telemetryKeyDetailsAdapter = gson.getAdapter(TelemetryKeyDetails.class);
+        }
+
+        protected GetTelemetryKeyResponse newInstance() {
+            return new GetTelemetryKeyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTelemetryKeyResponse value) throws IOException {
+            writeField(out, "KeyDetails", value.KeyDetails, telemetryKeyDetailsAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTelemetryKeyResponse value) throws IOException {
+            switch (name) {
+                case "KeyDetails": value.KeyDetails = telemetryKeyDetailsAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListTelemetryKeysRequestAdapter extends PlayFabModelAdapter<ListTelemetryKeysRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        ListTelemetryKeysRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected ListTelemetryKeysRequest newInstance() {
+            return new ListTelemetryKeysRequest();
+        }
+
+        protected void writeFields(JsonWriter out, ListTelemetryKeysRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListTelemetryKeysRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class ListTelemetryKeysResponseAdapter extends PlayFabModelAdapter<ListTelemetryKeysResponse> {
+        private final TypeAdapter<ArrayList<TelemetryKeyDetails>> telemetryKeyDetailsListAdapter;
+
+        ListTelemetryKeysResponseAdapter(Gson gson) {
+            telemetryKeyDetailsListAdapter = listAdapter(gson, TelemetryKeyDetails.class);
+        }
+
+        protected ListTelemetryKeysResponse newInstance() {
+            return new ListTelemetryKeysResponse();
+        }
+
+        protected void writeFields(JsonWriter out, ListTelemetryKeysResponse value) throws IOException {
+            writeField(out, "KeyDetails", value.KeyDetails, telemetryKeyDetailsListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, ListTelemetryKeysResponse value) throws IOException {
+            switch (name) {
+                case "KeyDetails": value.KeyDetails = telemetryKeyDetailsListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTelemetryKeyActiveRequestAdapter extends PlayFabModelAdapter<SetTelemetryKeyActiveRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        SetTelemetryKeyActiveRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected SetTelemetryKeyActiveRequest newInstance() {
+            return new SetTelemetryKeyActiveRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetTelemetryKeyActiveRequest value) throws IOException {
+            writeField(out, "Active", value.Active);
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "KeyName", value.KeyName);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTelemetryKeyActiveRequest value) throws IOException {
+            switch (name) {
+                case "Active": value.Active = readBoolean(in); return true;
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "KeyName": value.KeyName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetTelemetryKeyActiveResponseAdapter extends PlayFabModelAdapter<SetTelemetryKeyActiveResponse> {
+        private final TypeAdapter<TelemetryKeyDetails> telemetryKeyDetailsAdapter;
+
+        SetTelemetryKeyActiveResponseAdapter(Gson gson) {
+            telemetryKeyDetailsAdapter = gson.getAdapter(TelemetryKeyDetails.class);
+        }
+
+        protected SetTelemetryKeyActiveResponse newInstance() {
+            return new SetTelemetryKeyActiveResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SetTelemetryKeyActiveResponse value) throws IOException {
+            writeField(out, "KeyDetails", value.KeyDetails, telemetryKeyDetailsAdapter);
+            writeField(out, "WasKeyUpdated", value.WasKeyUpdated);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetTelemetryKeyActiveResponse value) throws IOException {
+            switch (name) {
+                case "KeyDetails": value.KeyDetails = telemetryKeyDetailsAdapter.read(in); return true;
+                case "WasKeyUpdated": value.WasKeyUpdated = readBoolean(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class TelemetryKeyDetailsAdapter extends PlayFabModelAdapter<TelemetryKeyDetails> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        TelemetryKeyDetailsAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected TelemetryKeyDetails newInstance() {
+            return new TelemetryKeyDetails();
+        }
+
+        protected void writeFields(JsonWriter out, TelemetryKeyDetails value) throws IOException {
+            writeField(out, "CreateTime", value.CreateTime, dateAdapter);
+            writeField(out, "IsActive", value.IsActive);
+            writeField(out, "KeyValue", value.KeyValue);
+            writeField(out, "LastUpdateTime", value.LastUpdateTime, dateAdapter);
+            writeField(out, "Name", value.Name);
+        }
+
+        protected boolean readField(JsonReader in, String name, TelemetryKeyDetails value) throws IOException {
+            switch (name) {
+                case "CreateTime": value.CreateTime = dateAdapter.read(in); return true;
+                case "IsActive": value.IsActive = readBoolean(in); return true;
+                case "KeyValue": value.KeyValue = readString(in); return true;
+                case "LastUpdateTime": value.LastUpdateTime = dateAdapter.read(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteEventsRequestAdapter extends PlayFabModelAdapter<WriteEventsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<EventContents>> eventContentsListAdapter;
+
+        WriteEventsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            eventContentsListAdapter = listAdapter(gson, EventContents.class);
+        }
+
+        protected WriteEventsRequest newInstance() {
+            return new WriteEventsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, WriteEventsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Events", value.Events, eventContentsListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteEventsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Events": value.Events = eventContentsListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class WriteEventsResponseAdapter extends PlayFabModelAdapter<WriteEventsResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        WriteEventsResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected WriteEventsResponse newInstance() {
+            return new WriteEventsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, WriteEventsResponse value) throws IOException {
+            writeField(out, "AssignedEventIds", value.AssignedEventIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, WriteEventsResponse value) throws IOException {
+            switch (name) {
+                case "AssignedEventIds": value.AssignedEventIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
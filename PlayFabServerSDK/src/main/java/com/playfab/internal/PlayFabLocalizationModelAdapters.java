@@ -0,0 +1,74 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabLocalizationModels;
+import com.playfab.PlayFabLocalizationModels.*;
+
+/**
+ * Streaming adapters for the PlayFabLocalizationModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabLocalizationModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabLocalizationModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "GetLanguageListRequest": return new GetLanguageListRequestAdapter(gson);
+            case "GetLanguageListResponse": return new GetLanguageListResponseAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class GetLanguageListRequestAdapter extends PlayFabModelAdapter<GetLanguageListRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+
+        GetLanguageListRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+        }
+
+        protected GetLanguageListRequest newInstance() {
+            return new GetLanguageListRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetLanguageListRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLanguageListRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetLanguageListResponseAdapter extends PlayFabModelAdapter<GetLanguageListResponse> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetLanguageListResponseAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetLanguageListResponse newInstance() {
+            return new GetLanguageListResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetLanguageListResponse value) throws IOException {
+            writeField(out, "LanguageList", value.LanguageList, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetLanguageListResponse value) throws IOException {
+            switch (name) {
+                case "LanguageList": value.LanguageList = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,733 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Map;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabProfilesModels;
+import com.playfab.PlayFabProfilesModels.*;
+
+/**
+ * Streaming adapters for the PlayFabProfilesModels classes. Each reads and writes the same members, in the same order,
+ * as Gson's reflective adapter. They are maintained by hand alongside PlayFabProfilesModels.java;
+ * PlayFabModelAdaptersTest fails for any model class without an adapter or whose adapter disagrees with Gson.
+ */
+class PlayFabProfilesModelAdapters {
+    static TypeAdapter<?> create(Gson gson, Class<?> type) {
+        switch (type.getSimpleName()) {
+            case "EntityDataObject": return new EntityDataObjectAdapter(gson);
+            case "EntityKey": return new EntityKeyAdapter(gson);
+            case "EntityLineage": return new EntityLineageAdapter(gson);
+            case "EntityPermissionStatement": return new EntityPermissionStatementAdapter(gson);
+            case "EntityProfileBody": return new EntityProfileBodyAdapter(gson);
+            case "EntityProfileFileMetadata": return new EntityProfileFileMetadataAdapter(gson);
+            case "EntityStatisticAttributeValue": return new EntityStatisticAttributeValueAdapter(gson);
+            case "EntityStatisticValue": return new EntityStatisticValueAdapter(gson);
+            case "GetEntityProfileRequest": return new GetEntityProfileRequestAdapter(gson);
+            case "GetEntityProfileResponse": return new GetEntityProfileResponseAdapter(gson);
+            case "GetEntityProfilesRequest": return new GetEntityProfilesRequestAdapter(gson);
+            case "GetEntityProfilesResponse": return new GetEntityProfilesResponseAdapter(gson);
+            case "GetGlobalPolicyRequest": return new GetGlobalPolicyRequestAdapter(gson);
+            case "GetGlobalPolicyResponse": return new GetGlobalPolicyResponseAdapter(gson);
+            case "GetTitlePlayersFromMasterPlayerAccountIdsRequest": return new GetTitlePlayersFromMasterPlayerAccountIdsRequestAdapter(gson);
+            case "GetTitlePlayersFromMasterPlayerAccountIdsResponse": return new GetTitlePlayersFromMasterPlayerAccountIdsResponseAdapter(gson);
+            case "GetTitlePlayersFromProviderIDsResponse": return new GetTitlePlayersFromProviderIDsResponseAdapter(gson);
+            case "GetTitlePlayersFromXboxLiveIDsRequest": return new GetTitlePlayersFromXboxLiveIDsRequestAdapter(gson);
+            case "SetEntityProfilePolicyRequest": return new SetEntityProfilePolicyRequestAdapter(gson);
+            case "SetEntityProfilePolicyResponse": return new SetEntityProfilePolicyResponseAdapter(gson);
+            case "SetGlobalPolicyRequest": return new SetGlobalPolicyRequestAdapter(gson);
+            case "SetGlobalPolicyResponse": return new SetGlobalPolicyResponseAdapter(gson);
+            case "SetProfileLanguageRequest": return new SetProfileLanguageRequestAdapter(gson);
+            case "SetProfileLanguageResponse": return new SetProfileLanguageResponseAdapter(gson);
+            default: return null;
+        }
+    }
+
+    static final class EntityDataObjectAdapter extends PlayFabModelAdapter<EntityDataObject> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        EntityDataObjectAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        protected EntityDataObject newInstance() {
+            return new EntityDataObject();
+        }
+
+        protected void writeFields(JsonWriter out, EntityDataObject value) throws IOException {
+            writeField(out, "DataObject", value.DataObject, objectAdapter);
+            writeField(out, "EscapedDataObject", value.EscapedDataObject);
+            writeField(out, "ObjectName", value.ObjectName);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityDataObject value) throws IOException {
+            switch (name) {
+                case "DataObject": value.DataObject = objectAdapter.read(in); return true;
+                case "EscapedDataObject": value.EscapedDataObject = readString(in); return true;
+                case "ObjectName": value.ObjectName = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityKeyAdapter extends PlayFabModelAdapter<EntityKey> {
+        EntityKeyAdapter(Gson gson) {
+        }
+
+        protected EntityKey newInstance() {
+            return new EntityKey();
+        }
+
+        protected void writeFields(JsonWriter out, EntityKey value) throws IOException {
+            writeField(out, "Id", value.Id);
+            writeField(out, "Type", value.Type);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityKey value) throws IOException {
+            switch (name) {
+                case "Id": value.Id = readString(in); return true;
+                case "Type": value.Type = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityLineageAdapter extends PlayFabModelAdapter<EntityLineage> {
+        EntityLineageAdapter(Gson gson) {
+        }
+
+        protected EntityLineage newInstance() {
+            return new EntityLineage();
+        }
+
+        protected void writeFields(JsonWriter out, EntityLineage value) throws IOException {
+            writeField(out, "CharacterId", value.CharacterId);
+            writeField(out, "GroupId", value.GroupId);
+            writeField(out, "MasterPlayerAccountId", value.MasterPlayerAccountId);
+            writeField(out, "NamespaceId", value.NamespaceId);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TitlePlayerAccountId", value.TitlePlayerAccountId);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityLineage value) throws IOException {
+            switch (name) {
+                case "CharacterId": value.CharacterId = readString(in); return true;
+                case "GroupId": value.GroupId = readString(in); return true;
+                case "MasterPlayerAccountId": value.MasterPlayerAccountId = readString(in); return true;
+                case "NamespaceId": value.NamespaceId = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TitlePlayerAccountId": value.TitlePlayerAccountId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityPermissionStatementAdapter extends PlayFabModelAdapter<EntityPermissionStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<EffectType> effectTypeAdapter;
+
+        EntityPermissionStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            effectTypeAdapter = gson.getAdapter(EffectType.class);
+        }
+
+        protected EntityPermissionStatement newInstance() {
+            return new EntityPermissionStatement();
+        }
+
+        protected void writeFields(JsonWriter out, EntityPermissionStatement value) throws IOException {
+            writeField(out, "Action", value.Action);
+            writeField(out, "Comment", value.Comment);
+            writeField(out, "Condition", value.Condition, objectAdapter);
+            writeField(out, "Effect", value.Effect, effectTypeAdapter);
+            writeField(out, "Principal", value.Principal, objectAdapter);
+            writeField(out, "Resource", value.Resource);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityPermissionStatement value) throws IOException {
+            switch (name) {
+                case "Action": value.Action = readString(in); return true;
+                case "Comment": value.Comment = readString(in); return true;
+                case "Condition": value.Condition = objectAdapter.read(in); return true;
+                case "Effect": value.Effect = effectTypeAdapter.read(in); return true;
+                case "Principal": value.Principal = objectAdapter.read(in); return true;
+                case "Resource": value.Resource = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityProfileBodyAdapter extends PlayFabModelAdapter<EntityProfileBody> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+        private final TypeAdapter<Map<String, EntityProfileFileMetadata>> entityProfileFileMetadataMapAdapter;
+        private final TypeAdapter<EntityLineage> entityLineageAdapter;
+        private final TypeAdapter<Map<String, EntityDataObject>> entityDataObjectMapAdapter;
+        private final TypeAdapter<ArrayList<EntityPermissionStatement>> entityPermissionStatementListAdapter;
+        private final TypeAdapter<Map<String, EntityStatisticValue>> entityStatisticValueMapAdapter;
+
+        EntityProfileBodyAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringListAdapter = listAdapter(gson, String.class);
+            entityProfileFileMetadataMapAdapter = mapAdapter(gson, EntityProfileFileMetadata.class);
+            entityLineageAdapter = gson.getAdapter(EntityLineage.class);
+            entityDataObjectMapAdapter = mapAdapter(gson, EntityDataObject.class);
+            entityPermissionStatementListAdapter = listAdapter(gson, EntityPermissionStatement.class);
+            entityStatisticValueMapAdapter = mapAdapter(gson, EntityStatisticValue.class);
+        }
+
+        protected EntityProfileBody newInstance() {
+            return new EntityProfileBody();
+        }
+
+        protected void writeFields(JsonWriter out, EntityProfileBody value) throws IOException {
+            writeField(out, "AvatarUrl", value.AvatarUrl);
+            writeField(out, "Created", value.Created, dateAdapter);
+            writeField(out, "DisplayName", value.DisplayName);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "EntityChain", value.EntityChain);
+            writeField(out, "ExperimentVariants", value.ExperimentVariants, stringListAdapter);
+            writeField(out, "Files", value.Files, entityProfileFileMetadataMapAdapter);
+            writeField(out, "Language", value.Language);
+            writeField(out, "Lineage", value.Lineage, entityLineageAdapter);
+            writeField(out, "Objects", value.Objects, entityDataObjectMapAdapter);
+            writeField(out, "Permissions", value.Permissions, entityPermissionStatementListAdapter);
+            writeField(out, "Statistics", value.Statistics, entityStatisticValueMapAdapter);
+            writeField(out, "VersionNumber", value.VersionNumber);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityProfileBody value) throws IOException {
+            switch (name) {
+                case "AvatarUrl": value.AvatarUrl = readString(in); return true;
+                case "Created": value.Created = dateAdapter.read(in); return true;
+                case "DisplayName": value.DisplayName = readString(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "EntityChain": value.EntityChain = readString(in); return true;
+                case "ExperimentVariants": value.ExperimentVariants = stringListAdapter.read(in); return true;
+                case "Files": value.Files = entityProfileFileMetadataMapAdapter.read(in); return true;
+                case "Language": value.Language = readString(in); return true;
+                case "Lineage": value.Lineage = entityLineageAdapter.read(in); return true;
+                case "Objects": value.Objects = entityDataObjectMapAdapter.read(in); return true;
+                case "Permissions": value.Permissions = entityPermissionStatementListAdapter.read(in); return true;
+                case "Statistics": value.Statistics = entityStatisticValueMapAdapter.read(in); return true;
+                case "VersionNumber": value.VersionNumber = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityProfileFileMetadataAdapter extends PlayFabModelAdapter<EntityProfileFileMetadata> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        EntityProfileFileMetadataAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        protected EntityProfileFileMetadata newInstance() {
+            return new EntityProfileFileMetadata();
+        }
+
+        protected void writeFields(JsonWriter out, EntityProfileFileMetadata value) throws IOException {
+            writeField(out, "Checksum", value.Checksum);
+            writeField(out, "FileName", value.FileName);
+            writeField(out, "LastModified", value.LastModified, dateAdapter);
+            writeField(out, "Size", value.Size);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityProfileFileMetadata value) throws IOException {
+            switch (name) {
+                case "Checksum": value.Checksum = readString(in); return true;
+                case "FileName": value.FileName = readString(in); return true;
+                case "LastModified": value.LastModified = dateAdapter.read(in); return true;
+                case "Size": value.Size = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityStatisticAttributeValueAdapter extends PlayFabModelAdapter<EntityStatisticAttributeValue> {
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        EntityStatisticAttributeValueAdapter(Gson gson) {
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected EntityStatisticAttributeValue newInstance() {
+            return new EntityStatisticAttributeValue();
+        }
+
+        protected void writeFields(JsonWriter out, EntityStatisticAttributeValue value) throws IOException {
+            writeField(out, "Metadata", value.Metadata);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Scores", value.Scores, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityStatisticAttributeValue value) throws IOException {
+            switch (name) {
+                case "Metadata": value.Metadata = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Scores": value.Scores = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class EntityStatisticValueAdapter extends PlayFabModelAdapter<EntityStatisticValue> {
+        private final TypeAdapter<Map<String, EntityStatisticAttributeValue>> entityStatisticAttributeValueMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        EntityStatisticValueAdapter(Gson gson) {
+            entityStatisticAttributeValueMapAdapter = mapAdapter(gson, EntityStatisticAttributeValue.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected EntityStatisticValue newInstance() {
+            return new EntityStatisticValue();
+        }
+
+        protected void writeFields(JsonWriter out, EntityStatisticValue value) throws IOException {
+            writeField(out, "AttributeStatistics", value.AttributeStatistics, entityStatisticAttributeValueMapAdapter);
+            writeField(out, "Metadata", value.Metadata);
+            writeField(out, "Name", value.Name);
+            writeField(out, "Scores", value.Scores, stringListAdapter);
+            writeField(out, "Value", value.Value);
+            writeField(out, "Version", value.Version);
+        }
+
+        protected boolean readField(JsonReader in, String name, EntityStatisticValue value) throws IOException {
+            switch (name) {
+                case "AttributeStatistics": value.AttributeStatistics = entityStatisticAttributeValueMapAdapter.read(in); return true;
+                case "Metadata": value.Metadata = readString(in); return true;
+                case "Name": value.Name = readString(in); return true;
+                case "Scores": value.Scores = stringListAdapter.read(in); return true;
+                case "Value": value.Value = readInteger(in); return true;
+                case "Version": value.Version = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityProfileRequestAdapter extends PlayFabModelAdapter<GetEntityProfileRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetEntityProfileRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetEntityProfileRequest newInstance() {
+            return new GetEntityProfileRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityProfileRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DataAsObject", value.DataAsObject);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityProfileRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DataAsObject": value.DataAsObject = readBoolean(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityProfileResponseAdapter extends PlayFabModelAdapter<GetEntityProfileResponse> {
+        private final TypeAdapter<EntityProfileBody> entityProfileBodyAdapter;
+
+        GetEntityProfileResponseAdapter(Gson gson) {
+            entityProfileBodyAdapter = gson.getAdapter(EntityProfileBody.class);
+        }
+
+        protected GetEntityProfileResponse newInstance() {
+            return new GetEntityProfileResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityProfileResponse value) throws IOException {
+            writeField(out, "Profile", value.Profile, entityProfileBodyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityProfileResponse value) throws IOException {
+            switch (name) {
+                case "Profile": value.Profile = entityProfileBodyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityProfilesRequestAdapter extends PlayFabModelAdapter<GetEntityProfilesRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<EntityKey>> entityKeyListAdapter;
+
+        GetEntityProfilesRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyListAdapter = listAdapter(gson, EntityKey.class);
+        }
+
+        protected GetEntityProfilesRequest newInstance() {
+            return new GetEntityProfilesRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityProfilesRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "DataAsObject", value.DataAsObject);
+            writeField(out, "Entities", value.Entities, entityKeyListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityProfilesRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "DataAsObject": value.DataAsObject = readBoolean(in); return true;
+                case "Entities": value.Entities = entityKeyListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetEntityProfilesResponseAdapter extends PlayFabModelAdapter<GetEntityProfilesResponse> {
+        private final TypeAdapter<ArrayList<EntityProfileBody>> entityProfileBodyListAdapter;
+
+        GetEntityProfilesResponseAdapter(Gson gson) {
+            entityProfileBodyListAdapter = listAdapter(gson, EntityProfileBody.class);
+        }
+
+        protected GetEntityProfilesResponse newInstance() {
+            return new GetEntityProfilesResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetEntityProfilesResponse value) throws IOException {
+            writeField(out, "Profiles", value.Profiles, entityProfileBodyListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetEntityProfilesResponse value) throws IOException {
+            switch (name) {
+                case "Profiles": value.Profiles = entityProfileBodyListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetGlobalPolicyRequestAdapter extends PlayFabModelAdapter<GetGlobalPolicyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        GetGlobalPolicyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected GetGlobalPolicyRequest newInstance() {
+            return new GetGlobalPolicyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetGlobalPolicyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetGlobalPolicyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetGlobalPolicyResponseAdapter extends PlayFabModelAdapter<GetGlobalPolicyResponse> {
+        private final TypeAdapter<ArrayList<EntityPermissionStatement>> entityPermissionStatementListAdapter;
+
+        GetGlobalPolicyResponseAdapter(Gson gson) {
+            entityPermissionStatementListAdapter = listAdapter(gson, EntityPermissionStatement.class);
+        }
+
+        protected GetGlobalPolicyResponse newInstance() {
+            return new GetGlobalPolicyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetGlobalPolicyResponse value) throws IOException {
+            writeField(out, "Permissions", value.Permissions, entityPermissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetGlobalPolicyResponse value) throws IOException {
+            switch (name) {
+                case "Permissions": value.Permissions = entityPermissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitlePlayersFromMasterPlayerAccountIdsRequestAdapter extends PlayFabModelAdapter<GetTitlePlayersFromMasterPlayerAccountIdsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetTitlePlayersFromMasterPlayerAccountIdsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetTitlePlayersFromMasterPlayerAccountIdsRequest newInstance() {
+            return new GetTitlePlayersFromMasterPlayerAccountIdsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitlePlayersFromMasterPlayerAccountIdsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "MasterPlayerAccountIds", value.MasterPlayerAccountIds, stringListAdapter);
+            writeField(out, "TitleId", value.TitleId);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitlePlayersFromMasterPlayerAccountIdsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "MasterPlayerAccountIds": value.MasterPlayerAccountIds = stringListAdapter.read(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitlePlayersFromMasterPlayerAccountIdsResponseAdapter extends PlayFabModelAdapter<GetTitlePlayersFromMasterPlayerAccountIdsResponse> {
+        private final TypeAdapter<Map<String, EntityKey>> entityKeyMapAdapter;
+
+        GetTitlePlayersFromMasterPlayerAccountIdsResponseAdapter(Gson gson) {
+            entityKeyMapAdapter = mapAdapter(gson, EntityKey.class);
+        }
+
+        protected GetTitlePlayersFromMasterPlayerAccountIdsResponse newInstance() {
+            return new GetTitlePlayersFromMasterPlayerAccountIdsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitlePlayersFromMasterPlayerAccountIdsResponse value) throws IOException {
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "TitlePlayerAccounts", value.TitlePlayerAccounts, entityKeyMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitlePlayersFromMasterPlayerAccountIdsResponse value) throws IOException {
+            switch (name) {
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "TitlePlayerAccounts": value.TitlePlayerAccounts = entityKeyMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitlePlayersFromProviderIDsResponseAdapter extends PlayFabModelAdapter<GetTitlePlayersFromProviderIDsResponse> {
+        private final TypeAdapter<Map<String, EntityLineage>> entityLineageMapAdapter;
+
+        GetTitlePlayersFromProviderIDsResponseAdapter(Gson gson) {
+            entityLineageMapAdapter = mapAdapter(gson, EntityLineage.class);
+        }
+
+        protected GetTitlePlayersFromProviderIDsResponse newInstance() {
+            return new GetTitlePlayersFromProviderIDsResponse();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitlePlayersFromProviderIDsResponse value) throws IOException {
+            writeField(out, "TitlePlayerAccounts", value.TitlePlayerAccounts, entityLineageMapAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitlePlayersFromProviderIDsResponse value) throws IOException {
+            switch (name) {
+                case "TitlePlayerAccounts": value.TitlePlayerAccounts = entityLineageMapAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class GetTitlePlayersFromXboxLiveIDsRequestAdapter extends PlayFabModelAdapter<GetTitlePlayersFromXboxLiveIDsRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+        GetTitlePlayersFromXboxLiveIDsRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            stringListAdapter = listAdapter(gson, String.class);
+        }
+
+        protected GetTitlePlayersFromXboxLiveIDsRequest newInstance() {
+            return new GetTitlePlayersFromXboxLiveIDsRequest();
+        }
+
+        protected void writeFields(JsonWriter out, GetTitlePlayersFromXboxLiveIDsRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Sandbox", value.Sandbox);
+            writeField(out, "TitleId", value.TitleId);
+            writeField(out, "XboxLiveIds", value.XboxLiveIds, stringListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, GetTitlePlayersFromXboxLiveIDsRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Sandbox": value.Sandbox = readString(in); return true;
+                case "TitleId": value.TitleId = readString(in); return true;
+                case "XboxLiveIds": value.XboxLiveIds = stringListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetEntityProfilePolicyRequestAdapter extends PlayFabModelAdapter<SetEntityProfilePolicyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ArrayList<EntityPermissionStatement>> entityPermissionStatementListAdapter;
+
+        SetEntityProfilePolicyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityPermissionStatementListAdapter = listAdapter(gson, EntityPermissionStatement.class);
+        }
+
+        protected SetEntityProfilePolicyRequest newInstance() {
+            return new SetEntityProfilePolicyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetEntityProfilePolicyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "Statements", value.Statements, entityPermissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetEntityProfilePolicyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "Statements": value.Statements = entityPermissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetEntityProfilePolicyResponseAdapter extends PlayFabModelAdapter<SetEntityProfilePolicyResponse> {
+        private final TypeAdapter<ArrayList<EntityPermissionStatement>> entityPermissionStatementListAdapter;
+
+        SetEntityProfilePolicyResponseAdapter(Gson gson) {
+            entityPermissionStatementListAdapter = listAdapter(gson, EntityPermissionStatement.class);
+        }
+
+        protected SetEntityProfilePolicyResponse newInstance() {
+            return new SetEntityProfilePolicyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SetEntityProfilePolicyResponse value) throws IOException {
+            writeField(out, "Permissions", value.Permissions, entityPermissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetEntityProfilePolicyResponse value) throws IOException {
+            switch (name) {
+                case "Permissions": value.Permissions = entityPermissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetGlobalPolicyRequestAdapter extends PlayFabModelAdapter<SetGlobalPolicyRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<ArrayList<EntityPermissionStatement>> entityPermissionStatementListAdapter;
+
+        SetGlobalPolicyRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityPermissionStatementListAdapter = listAdapter(gson, EntityPermissionStatement.class);
+        }
+
+        protected SetGlobalPolicyRequest newInstance() {
+            return new SetGlobalPolicyRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetGlobalPolicyRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Permissions", value.Permissions, entityPermissionStatementListAdapter);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetGlobalPolicyRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Permissions": value.Permissions = entityPermissionStatementListAdapter.read(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetGlobalPolicyResponseAdapter extends PlayFabModelAdapter<SetGlobalPolicyResponse> {
+        SetGlobalPolicyResponseAdapter(Gson gson) {
+        }
+
+        protected SetGlobalPolicyResponse newInstance() {
+            return new SetGlobalPolicyResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SetGlobalPolicyResponse value) throws IOException {
+        }
+
+        protected boolean readField(JsonReader in, String name, SetGlobalPolicyResponse value) throws IOException {
+            switch (name) {
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetProfileLanguageRequestAdapter extends PlayFabModelAdapter<SetProfileLanguageRequest> {
+        private final TypeAdapter<Map<String, String>> stringMapAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        SetProfileLanguageRequestAdapter(Gson gson) {
+            stringMapAdapter = mapAdapter(gson, String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        protected SetProfileLanguageRequest newInstance() {
+            return new SetProfileLanguageRequest();
+        }
+
+        protected void writeFields(JsonWriter out, SetProfileLanguageRequest value) throws IOException {
+            writeField(out, "CustomTags", value.CustomTags, stringMapAdapter);
+            writeField(out, "Entity", value.Entity, entityKeyAdapter);
+            writeField(out, "ExpectedVersion", value.ExpectedVersion);
+            writeField(out, "Language", value.Language);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetProfileLanguageRequest value) throws IOException {
+            switch (name) {
+                case "CustomTags": value.CustomTags = stringMapAdapter.read(in); return true;
+                case "Entity": value.Entity = entityKeyAdapter.read(in); return true;
+                case "ExpectedVersion": value.ExpectedVersion = readInteger(in); return true;
+                case "Language": value.Language = readString(in); return true;
+                default: return false;
+            }
+        }
+    }
+
+    static final class SetProfileLanguageResponseAdapter extends PlayFabModelAdapter<SetProfileLanguageResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        SetProfileLanguageResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        protected SetProfileLanguageResponse newInstance() {
+            return new SetProfileLanguageResponse();
+        }
+
+        protected void writeFields(JsonWriter out, SetProfileLanguageResponse value) throws IOException {
+            writeField(out, "OperationResult", value.OperationResult, operationTypesAdapter);
+            writeField(out, "VersionNumber", value.VersionNumber);
+        }
+
+        protected boolean readField(JsonReader in, String name, SetProfileLanguageResponse value) throws IOException {
+            switch (name) {
+                case "OperationResult": value.OperationResult = operationTypesAdapter.read(in); return true;
+                case "VersionNumber": value.VersionNumber = readInteger(in); return true;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.playfab.internal;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The daemon threads that the SDK's caches use for background work. get() is a small pool for timers, whose tasks must
+ * not block; io() runs the API calls those timers and background refreshes start, with a thread per call in flight up
+ * to the com.playfab.ioThreads system property (64 by default). Calls beyond that wait in a bounded queue, and once it
+ * is full io() rejects new work with RejectedExecutionException, which every caller handles by retrying later, running
+ * the work itself or skipping a periodic run. Idle threads time out, so an application that uses no cache pays
+ * nothing, and being daemons they never keep the JVM alive.
+ */
+public class PlayFabScheduler {
+    public static final String IO_THREADS_PROPERTY = "com.playfab.ioThreads"; // System property bounding the io() pool
+    private static final int TIMER_THREADS = 2;
+    private static final int DEFAULT_IO_THREADS = 64;
+    private static final int IO_QUEUE_CAPACITY = 1024;
+
+    private static final ScheduledThreadPoolExecutor timers;
+    private static final ThreadPoolExecutor io;
+
+    static {
+        timers = new ScheduledThreadPoolExecutor(TIMER_THREADS, daemonThreads("PlayFabScheduler-"));
+        timers.setKeepAliveTime(30, TimeUnit.SECONDS);
+        timers.allowCoreThreadTimeOut(true);
+        timers.setRemoveOnCancelPolicy(true);
+        int ioThreads = Math.max(1, Integer.getInteger(IO_THREADS_PROPERTY, DEFAULT_IO_THREADS));
+        io = new ThreadPoolExecutor(ioThreads, ioThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(IO_QUEUE_CAPACITY),
+            daemonThreads("PlayFabIO-"), new ThreadPoolExecutor.AbortPolicy());
+        io.allowCoreThreadTimeOut(true);
+    }
+
+    /** @return The timer pool; tasks scheduled on it should hand any blocking work to io() */
+    public static ScheduledExecutorService get() {
+        return timers;
+    }
+
+    /** @return The pool for blocking work such as API calls; it throws RejectedExecutionException when saturated */
+    public static ExecutorService io() {
+        return io;
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}